@@ -0,0 +1,419 @@
+/*
+ * Benchmark driver for the native library.
+ *
+ * Times representative call sequences through the C interface, thus including
+ * the cost of entering the isolate, looking up handles and converting strings,
+ * which benchmarks on the Java side cannot see. For each benchmark it reports
+ * the time per operation and the bytes allocated in the isolate heap per
+ * operation. Allocations are only reported when no garbage collection happened
+ * during the measurement.
+ *
+ * Usage: bench_capi [-n size] [-r repetitions] [-b budget_file] [name ...]
+ *
+ * The budget file contains lines of the form "name max_ns_per_op
+ * [max_bytes_per_op]". Lines starting with '#' are ignored. The driver exits
+ * with a nonzero status if any benchmark exceeds its budget.
+ */
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+#include <math.h>
+
+#ifdef _WIN32
+#include <windows.h>
+#else
+#include <time.h>
+#endif
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+#define MAX_BUDGETS 128
+
+typedef struct {
+    long long ops;
+    long long nanos;
+    long long bytes;
+    long long heap_before;
+    long long gc_before;
+} measurement_t;
+
+typedef void (*bench_fn)(graal_isolatethread_t *thread, int n, measurement_t *m);
+
+typedef struct {
+    const char *name;
+    bench_fn fn;
+} bench_t;
+
+typedef struct {
+    char name[64];
+    double max_ns;
+    double max_bytes;
+} budget_t;
+
+static long long now_ns() {
+#ifdef _WIN32
+    LARGE_INTEGER freq, counter;
+    QueryPerformanceFrequency(&freq);
+    QueryPerformanceCounter(&counter);
+    return (long long) ((double) counter.QuadPart * 1e9 / (double) freq.QuadPart);
+#else
+    struct timespec ts;
+    clock_gettime(CLOCK_MONOTONIC, &ts);
+    return (long long) ts.tv_sec * 1000000000LL + ts.tv_nsec;
+#endif
+}
+
+static void check(graal_isolatethread_t *thread, const char *what) {
+    if (jgrapht_capi_error_get_errno(thread) != 0) {
+        fprintf(stderr, "%s failed: %s\n", what, jgrapht_capi_error_get_errno_msg(thread));
+        exit(EXIT_FAILURE);
+    }
+}
+
+static void measure_begin(graal_isolatethread_t *thread, measurement_t *m) {
+    jgrapht_capi_vm_gc(thread);
+    jgrapht_capi_vm_gc_count(thread, &m->gc_before);
+    jgrapht_capi_vm_heap_used(thread, &m->heap_before);
+    m->nanos = now_ns();
+}
+
+static void measure_end(graal_isolatethread_t *thread, measurement_t *m, long long ops) {
+    long long end = now_ns();
+    long long heap_after, gc_after;
+    jgrapht_capi_vm_heap_used(thread, &heap_after);
+    jgrapht_capi_vm_gc_count(thread, &gc_after);
+    m->nanos = end - m->nanos;
+    m->ops = ops;
+    m->bytes = gc_after == m->gc_before ? heap_after - m->heap_before : -1;
+}
+
+/*
+ * Fixed seed pseudo-random numbers, thus every run uses the same inputs.
+ */
+static unsigned long long rng_state;
+
+static void rng_seed(unsigned long long seed) {
+    rng_state = seed;
+}
+
+static int rng_next(int bound) {
+    rng_state = rng_state * 6364136223846793005ULL + 1442695040888963407ULL;
+    return (int) ((rng_state >> 33) % (unsigned long long) bound);
+}
+
+static void *create_graph(graal_isolatethread_t *thread, int n) {
+    void *g;
+    jgrapht_capi_ii_graph_create(thread, 1, 1, 1, 0, NULL, NULL, &g);
+    for (int i = 0; i < n; i++) {
+        jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+    }
+    check(thread, "graph create");
+    return g;
+}
+
+static void *create_random_graph(graal_isolatethread_t *thread, int n) {
+    void *g = create_graph(thread, n);
+    rng_seed(17);
+    for (int i = 0; i < 4 * n; i++) {
+        jgrapht_capi_ii_graph_add_edge(thread, g, rng_next(n), rng_next(n), NULL);
+    }
+    check(thread, "graph add edge");
+    return g;
+}
+
+/*
+ * Baseline: a trivial call, which only enters the isolate and looks up a handle.
+ */
+static void bench_call_overhead(graal_isolatethread_t *thread, int n, measurement_t *m) {
+    void *g = create_graph(thread, 10);
+    int count;
+    measure_begin(thread, m);
+    for (int i = 0; i < n; i++) {
+        jgrapht_capi_ix_graph_vertices_count(thread, g, &count);
+    }
+    measure_end(thread, m, n);
+    check(thread, "vertices count");
+    jgrapht_capi_handles_destroy(thread, g);
+}
+
+static void bench_add_edge(graal_isolatethread_t *thread, int n, measurement_t *m) {
+    void *g = create_graph(thread, n);
+    int edges = 4 * n;
+    rng_seed(17);
+    measure_begin(thread, m);
+    for (int i = 0; i < edges; i++) {
+        jgrapht_capi_ii_graph_add_edge(thread, g, rng_next(n), rng_next(n), NULL);
+    }
+    measure_end(thread, m, edges);
+    check(thread, "add edge");
+    jgrapht_capi_handles_destroy(thread, g);
+}
+
+static void bench_sparse_from_edge_list(graal_isolatethread_t *thread, int n, measurement_t *m) {
+    int edges = 4 * n;
+    void *list, *g;
+    rng_seed(17);
+    measure_begin(thread, m);
+    jgrapht_capi_list_create(thread, &list);
+    for (int i = 0; i < edges; i++) {
+        jgrapht_capi_ii_list_edge_pair_add(thread, list, rng_next(n), rng_next(n), NULL);
+    }
+    jgrapht_capi_ii_graph_sparse_create(thread, 1, 0, n, list, INCOMING_EDGES_SUPPORT_LAZY_INCOMING_EDGES, &g);
+    measure_end(thread, m, edges);
+    check(thread, "sparse create");
+    jgrapht_capi_handles_destroy(thread, g);
+    jgrapht_capi_handles_destroy(thread, list);
+}
+
+static void bench_iterator_drain(graal_isolatethread_t *thread, int n, measurement_t *m) {
+    void *g = create_random_graph(thread, n);
+    void *it;
+    int has_next, e;
+    long long count = 0;
+    measure_begin(thread, m);
+    jgrapht_capi_xx_graph_create_all_eit(thread, g, &it);
+    while (1) {
+        jgrapht_capi_it_hasnext(thread, it, &has_next);
+        if (!has_next) {
+            break;
+        }
+        jgrapht_capi_it_next_int(thread, it, &e);
+        count++;
+    }
+    measure_end(thread, m, count);
+    check(thread, "iterator");
+    jgrapht_capi_handles_destroy(thread, it);
+    jgrapht_capi_handles_destroy(thread, g);
+}
+
+static void bench_attr_put(graal_isolatethread_t *thread, int n, measurement_t *m) {
+    void *g = create_graph(thread, n);
+    measure_begin(thread, m);
+    for (int v = 0; v < n; v++) {
+        jgrapht_capi_ix_graph_attrs_vertex_put_double(thread, g, v, "x", (double) v);
+    }
+    measure_end(thread, m, n);
+    check(thread, "attribute put");
+    jgrapht_capi_handles_destroy(thread, g);
+}
+
+static void bench_attr_put_bulk(graal_isolatethread_t *thread, int n, measurement_t *m) {
+    void *g = create_graph(thread, n);
+    int *vertices = malloc(n * sizeof(int));
+    double *values = malloc(n * sizeof(double));
+    for (int v = 0; v < n; v++) {
+        vertices[v] = v;
+        values[v] = (double) v;
+    }
+    measure_begin(thread, m);
+    jgrapht_capi_ix_graph_attrs_vertex_put_double_bulk(thread, g, vertices, n, "x", values);
+    measure_end(thread, m, n);
+    check(thread, "attribute put bulk");
+    free(values);
+    free(vertices);
+    jgrapht_capi_handles_destroy(thread, g);
+}
+
+static void bench_attr_get(graal_isolatethread_t *thread, int n, measurement_t *m) {
+    void *g = create_graph(thread, n);
+    for (int v = 0; v < n; v++) {
+        jgrapht_capi_ix_graph_attrs_vertex_put_double(thread, g, v, "x", (double) v);
+    }
+    double value, sum = 0.0;
+    measure_begin(thread, m);
+    for (int v = 0; v < n; v++) {
+        jgrapht_capi_ix_graph_attrs_vertex_get_double(thread, g, v, "x", &value);
+        sum += value;
+    }
+    measure_end(thread, m, n);
+    check(thread, "attribute get");
+    if (sum < 0) {
+        printf("unexpected sum\n");
+    }
+    jgrapht_capi_handles_destroy(thread, g);
+}
+
+static void bench_attr_get_bulk(graal_isolatethread_t *thread, int n, measurement_t *m) {
+    void *g = create_graph(thread, n);
+    int *vertices = malloc(n * sizeof(int));
+    double *values = malloc(n * sizeof(double));
+    for (int v = 0; v < n; v++) {
+        vertices[v] = v;
+        values[v] = (double) v;
+    }
+    jgrapht_capi_ix_graph_attrs_vertex_put_double_bulk(thread, g, vertices, n, "x", values);
+    measure_begin(thread, m);
+    jgrapht_capi_ix_graph_attrs_vertex_get_double_bulk(thread, g, vertices, n, "x", NAN, values);
+    measure_end(thread, m, n);
+    check(thread, "attribute get bulk");
+    free(values);
+    free(vertices);
+    jgrapht_capi_handles_destroy(thread, g);
+}
+
+static void bench_gml_round_trip(graal_isolatethread_t *thread, int n, measurement_t *m) {
+    void *g = create_random_graph(thread, n);
+    void *out, *copy;
+    char *str;
+    measure_begin(thread, m);
+    jgrapht_capi_xx_export_string_gml(thread, g, 0, 0, 0, NULL, NULL, NULL, &out);
+    jgrapht_capi_handles_get_ccharpointer(thread, out, &str);
+    copy = create_graph(thread, 0);
+    jgrapht_capi_ii_import_string_gml(thread, copy, str, NULL, NULL, NULL, NULL, NULL);
+    measure_end(thread, m, 4LL * n);
+    check(thread, "gml round trip");
+    jgrapht_capi_handles_destroy(thread, copy);
+    jgrapht_capi_handles_destroy(thread, out);
+    jgrapht_capi_handles_destroy(thread, g);
+}
+
+static void bench_dimacs_round_trip(graal_isolatethread_t *thread, int n, measurement_t *m) {
+    void *g = create_random_graph(thread, n);
+    void *out, *copy;
+    char *str;
+    measure_begin(thread, m);
+    jgrapht_capi_ix_export_string_dimacs(thread, g, DIMACS_FORMAT_SHORTEST_PATH, 0, NULL, &out);
+    jgrapht_capi_handles_get_ccharpointer(thread, out, &str);
+    copy = create_graph(thread, 0);
+    jgrapht_capi_ii_import_string_dimacs(thread, copy, str, NULL, NULL, NULL);
+    measure_end(thread, m, 4LL * n);
+    check(thread, "dimacs round trip");
+    jgrapht_capi_handles_destroy(thread, copy);
+    jgrapht_capi_handles_destroy(thread, out);
+    jgrapht_capi_handles_destroy(thread, g);
+}
+
+static const bench_t benchmarks[] = {
+    { "call_overhead", bench_call_overhead },
+    { "add_edge", bench_add_edge },
+    { "sparse_from_edge_list", bench_sparse_from_edge_list },
+    { "iterator_drain", bench_iterator_drain },
+    { "attr_put", bench_attr_put },
+    { "attr_put_bulk", bench_attr_put_bulk },
+    { "attr_get", bench_attr_get },
+    { "attr_get_bulk", bench_attr_get_bulk },
+    { "gml_round_trip", bench_gml_round_trip },
+    { "dimacs_round_trip", bench_dimacs_round_trip },
+};
+
+static int read_budgets(const char *filename, budget_t *budgets) {
+    FILE *f = fopen(filename, "r");
+    if (f == NULL) {
+        fprintf(stderr, "Cannot open budget file %s\n", filename);
+        exit(EXIT_FAILURE);
+    }
+    char line[256];
+    int count = 0;
+    while (fgets(line, sizeof(line), f) != NULL && count < MAX_BUDGETS) {
+        if (line[0] == '#') {
+            continue;
+        }
+        budget_t *b = &budgets[count];
+        b->max_bytes = -1;
+        int fields = sscanf(line, "%63s %lf %lf", b->name, &b->max_ns, &b->max_bytes);
+        if (fields >= 2) {
+            count++;
+        }
+    }
+    fclose(f);
+    return count;
+}
+
+static int selected(const char *name, int argc, char **argv, int first) {
+    if (first >= argc) {
+        return 1;
+    }
+    for (int i = first; i < argc; i++) {
+        if (strcmp(argv[i], name) == 0) {
+            return 1;
+        }
+    }
+    return 0;
+}
+
+int main(int argc, char **argv) {
+    int n = 100000;
+    int repetitions = 5;
+    const char *budget_file = NULL;
+    int first = 1;
+    while (first < argc && argv[first][0] == '-') {
+        if (first + 1 >= argc) {
+            fprintf(stderr, "Usage: %s [-n size] [-r repetitions] [-b budget_file] [name ...]\n", argv[0]);
+            return EXIT_FAILURE;
+        }
+        if (strcmp(argv[first], "-n") == 0) {
+            n = atoi(argv[first + 1]);
+        } else if (strcmp(argv[first], "-r") == 0) {
+            repetitions = atoi(argv[first + 1]);
+        } else if (strcmp(argv[first], "-b") == 0) {
+            budget_file = argv[first + 1];
+        }
+        first += 2;
+    }
+
+    budget_t budgets[MAX_BUDGETS];
+    int budget_count = budget_file != NULL ? read_budgets(budget_file, budgets) : 0;
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    int failed = 0;
+    printf("%-24s %14s %14s\n", "benchmark", "ns/op", "bytes/op");
+    for (size_t i = 0; i < sizeof(benchmarks) / sizeof(benchmarks[0]); i++) {
+        const bench_t *b = &benchmarks[i];
+        if (!selected(b->name, argc, argv, first)) {
+            continue;
+        }
+
+        // warmup, then keep the best repetition
+        measurement_t m;
+        b->fn(thread, n, &m);
+        double best_ns = -1, best_bytes = -1;
+        for (int r = 0; r < repetitions; r++) {
+            b->fn(thread, n, &m);
+            double ns = (double) m.nanos / m.ops;
+            if (best_ns < 0 || ns < best_ns) {
+                best_ns = ns;
+            }
+            if (m.bytes >= 0) {
+                double bytes = (double) m.bytes / m.ops;
+                if (best_bytes < 0 || bytes < best_bytes) {
+                    best_bytes = bytes;
+                }
+            }
+        }
+
+        if (best_bytes >= 0) {
+            printf("%-24s %14.1f %14.1f", b->name, best_ns, best_bytes);
+        } else {
+            printf("%-24s %14.1f %14s", b->name, best_ns, "-");
+        }
+        for (int j = 0; j < budget_count; j++) {
+            if (strcmp(budgets[j].name, b->name) != 0) {
+                continue;
+            }
+            if (best_ns > budgets[j].max_ns) {
+                printf("  over time budget %.1f", budgets[j].max_ns);
+                failed = 1;
+            }
+            if (budgets[j].max_bytes >= 0 && best_bytes > budgets[j].max_bytes) {
+                printf("  over allocation budget %.1f", budgets[j].max_bytes);
+                failed = 1;
+            }
+        }
+        printf("\n");
+    }
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return failed ? EXIT_FAILURE : EXIT_SUCCESS;
+}
@@ -0,0 +1,111 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jgrapht.capi.attributes.AttributesStore;
+import org.jgrapht.capi.attributes.ColumnarAttributes;
+import org.jgrapht.nio.DefaultAttribute;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Attribute stores: the map based {@link AttributesStore} used by the
+ * attributes store entry points and the {@link ColumnarAttributes} used by
+ * graphs with attributes. Each invocation writes or reads one double and one
+ * string attribute of every element.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AttributesBenchmark {
+
+	@Param({ "100000" })
+	public int n;
+
+	private String[] labels;
+
+	private AttributesStore<Integer> store;
+
+	private ColumnarAttributes<Integer> columns;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		labels = new String[n];
+		for (int i = 0; i < n; i++) {
+			labels[i] = "v" + i;
+		}
+		store = storePut();
+		columns = columnarPut();
+	}
+
+	@Benchmark
+	public AttributesStore<Integer> storePut() {
+		AttributesStore<Integer> s = new AttributesStore<>();
+		for (int i = 0; i < n; i++) {
+			s.putAttribute(i, "weight", DefaultAttribute.createAttribute((double) i));
+			s.putAttribute(i, "label", DefaultAttribute.createAttribute(labels[i]));
+		}
+		return s;
+	}
+
+	@Benchmark
+	public double storeGet() {
+		double sum = 0d;
+		for (int i = 0; i < n; i++) {
+			sum += Double.parseDouble(store.getAttribute(i, "weight").getValue());
+			sum += store.getAttribute(i, "label").getValue().length();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public ColumnarAttributes<Integer> columnarPut() {
+		ColumnarAttributes<Integer> c = new ColumnarAttributes<>();
+		for (int i = 0; i < n; i++) {
+			c.putDouble(i, "weight", i);
+			c.putString(i, "label", labels[i]);
+		}
+		return c;
+	}
+
+	@Benchmark
+	public double columnarGet() {
+		double sum = 0d;
+		for (int i = 0; i < n; i++) {
+			sum += columns.getDouble(i, "weight");
+			sum += columns.getString(i, "label").length();
+		}
+		return sum;
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.benchmarks;
+
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.jgrapht.Graph;
+import org.jgrapht.nio.GraphExporter;
+import org.jgrapht.nio.csv.CSVExporter;
+import org.jgrapht.nio.csv.CSVFormat;
+import org.jgrapht.nio.dimacs.DIMACSExporter;
+import org.jgrapht.nio.dot.DOTExporter;
+import org.jgrapht.nio.gexf.GEXFExporter;
+import org.jgrapht.nio.gml.GmlExporter;
+import org.jgrapht.nio.graph6.Graph6Sparse6Exporter;
+import org.jgrapht.nio.graphml.GraphMLExporter;
+import org.jgrapht.nio.json.JSONExporter;
+import org.jgrapht.nio.lemon.LemonExporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Exporting to a string, as performed by the export entry points, for every
+ * supported format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ExportBenchmark {
+
+	@Param({ "dimacs", "gml", "json", "csv", "gexf", "graphml", "dot", "graph6", "sparse6", "lemon" })
+	public String format;
+
+	@Param({ "10000" })
+	public int n;
+
+	@Param({ "8" })
+	public int averageDegree;
+
+	private Graph<Integer, Integer> graph;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		graph = Inputs.defaultGraph(false, n, Inputs.randomEdges(n, n * averageDegree / 2, Inputs.SEED));
+	}
+
+	@Benchmark
+	public String export() {
+		return export(format, graph);
+	}
+
+	/**
+	 * Export a graph using the same exporter setup as the C-API with default
+	 * arguments.
+	 */
+	static String export(String format, Graph<Integer, Integer> graph) {
+		Function<Integer, String> ids = x -> String.valueOf(x);
+		GraphExporter<Integer, Integer> exporter;
+		switch (format) {
+		case "dimacs":
+			exporter = new DIMACSExporter<>(x -> String.valueOf(x + 1));
+			break;
+		case "gml":
+			exporter = new GmlExporter<>(ids);
+			break;
+		case "json":
+			exporter = new JSONExporter<>(ids);
+			break;
+		case "csv":
+			exporter = new CSVExporter<>(ids, CSVFormat.EDGE_LIST, ',');
+			break;
+		case "gexf":
+			exporter = new GEXFExporter<>(ids, ids);
+			break;
+		case "graphml":
+			exporter = new GraphMLExporter<>(ids);
+			break;
+		case "dot":
+			exporter = new DOTExporter<>(ids);
+			break;
+		case "graph6":
+			exporter = new Graph6Sparse6Exporter<>(Graph6Sparse6Exporter.Format.GRAPH6);
+			break;
+		case "sparse6":
+			exporter = new Graph6Sparse6Exporter<>(Graph6Sparse6Exporter.Format.SPARSE6);
+			break;
+		case "lemon":
+			exporter = new LemonExporter<>(ids);
+			break;
+		default:
+			throw new IllegalArgumentException("Unknown format " + format);
+		}
+		StringWriter writer = new StringWriter();
+		exporter.exportGraph(graph, writer);
+		return writer.toString();
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jgrapht.Graph;
+import org.jgrapht.alg.util.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Graph construction and iteration, as performed by the graph and iterator
+ * entry points, for the default, sparse and succinct graph representations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class GraphBenchmark {
+
+	@Param({ "default", "sparse", "succinct" })
+	public String type;
+
+	@Param({ "100000" })
+	public int n;
+
+	@Param({ "8" })
+	public int averageDegree;
+
+	private List<Pair<Integer, Integer>> edges;
+
+	private Graph<Integer, Integer> graph;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		edges = Inputs.randomEdges(n, n * averageDegree / 2, Inputs.SEED);
+		graph = construct();
+	}
+
+	private Graph<Integer, Integer> construct() {
+		switch (type) {
+		case "sparse":
+			return Inputs.sparseGraph(n, edges);
+		case "succinct":
+			return Inputs.succinctGraph(n, edges);
+		default:
+			return Inputs.defaultGraph(true, n, edges);
+		}
+	}
+
+	@Benchmark
+	public Graph<Integer, Integer> construction() {
+		return construct();
+	}
+
+	@Benchmark
+	public long vertexIteration() {
+		long sum = 0;
+		for (Integer v : graph.vertexSet()) {
+			sum += v;
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long edgeIteration() {
+		long sum = 0;
+		for (Integer e : graph.edgeSet()) {
+			sum += graph.getEdgeSource(e) + graph.getEdgeTarget(e);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long outgoingEdgesIteration() {
+		long sum = 0;
+		for (Integer v : graph.vertexSet()) {
+			for (Integer e : graph.outgoingEdgesOf(v)) {
+				sum += graph.getEdgeTarget(e);
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long incomingEdgesIteration() {
+		long sum = 0;
+		for (Integer v : graph.vertexSet()) {
+			for (Integer e : graph.incomingEdgesOf(v)) {
+				sum += graph.getEdgeSource(e);
+			}
+		}
+		return sum;
+	}
+
+}
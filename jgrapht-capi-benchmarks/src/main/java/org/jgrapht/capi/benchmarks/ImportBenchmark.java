@@ -0,0 +1,123 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.jgrapht.Graph;
+import org.jgrapht.capi.custom.io.CustomDIMACSImporter;
+import org.jgrapht.nio.GraphImporter;
+import org.jgrapht.nio.csv.CSVFormat;
+import org.jgrapht.nio.csv.CSVImporter;
+import org.jgrapht.nio.dot.DOTImporter;
+import org.jgrapht.nio.gexf.SimpleGEXFImporter;
+import org.jgrapht.nio.gml.GmlImporter;
+import org.jgrapht.nio.graph6.Graph6Sparse6Importer;
+import org.jgrapht.nio.graphml.GraphMLImporter;
+import org.jgrapht.nio.graphml.SimpleGraphMLImporter;
+import org.jgrapht.nio.json.JSONImporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Importing from a string into a new default graph, as performed by the import
+ * entry points, for every supported format. The input is produced by the
+ * corresponding exporter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ImportBenchmark {
+
+	@Param({ "dimacs", "gml", "json", "csv", "gexf", "graphml", "graphml_simple", "dot", "graph6", "sparse6" })
+	public String format;
+
+	@Param({ "10000" })
+	public int n;
+
+	@Param({ "8" })
+	public int averageDegree;
+
+	private String input;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Graph<Integer, Integer> graph = Inputs.defaultGraph(false, n,
+				Inputs.randomEdges(n, n * averageDegree / 2, Inputs.SEED));
+		input = ExportBenchmark.export("graphml_simple".equals(format) ? "graphml" : format, graph);
+	}
+
+	@Benchmark
+	public Graph<Integer, Integer> importGraph() {
+		GraphImporter<Integer, Integer> importer;
+		switch (format) {
+		case "dimacs":
+			importer = new CustomDIMACSImporter<>();
+			break;
+		case "gml":
+			importer = new GmlImporter<>();
+			break;
+		case "json":
+			importer = new JSONImporter<>();
+			break;
+		case "csv":
+			importer = new CSVImporter<>(CSVFormat.EDGE_LIST);
+			break;
+		case "gexf":
+			importer = new SimpleGEXFImporter<>();
+			break;
+		case "graphml":
+			GraphMLImporter<Integer, Integer> graphMLImporter = new GraphMLImporter<>();
+			graphMLImporter.setSchemaValidation(false);
+			importer = graphMLImporter;
+			break;
+		case "graphml_simple":
+			SimpleGraphMLImporter<Integer, Integer> simpleGraphMLImporter = new SimpleGraphMLImporter<>();
+			simpleGraphMLImporter.setSchemaValidation(false);
+			importer = simpleGraphMLImporter;
+			break;
+		case "dot":
+			importer = new DOTImporter<>();
+			break;
+		case "graph6":
+		case "sparse6":
+			importer = new Graph6Sparse6Importer<>();
+			break;
+		default:
+			throw new IllegalArgumentException("Unknown format " + format);
+		}
+		Graph<Integer, Integer> graph = Inputs.createDefaultGraph(false, false);
+		importer.importGraph(graph, new StringReader(input));
+		return graph;
+	}
+
+}
@@ -0,0 +1,151 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.jgrapht.Graph;
+import org.jgrapht.alg.util.Pair;
+import org.jgrapht.alg.util.Triple;
+import org.jgrapht.capi.graph.DefaultCapiGraph;
+import org.jgrapht.capi.graph.SafeEdgeSupplier;
+import org.jgrapht.capi.graph.SafeVertexSupplier;
+import org.jgrapht.graph.builder.GraphTypeBuilder;
+import org.jgrapht.opt.graph.sparse.IncomingEdgesSupport;
+import org.jgrapht.opt.graph.sparse.SparseIntDirectedGraph;
+import org.jgrapht.opt.graph.sparse.SparseIntDirectedWeightedGraph;
+import org.jgrapht.sux4j.SuccinctIntDirectedGraph;
+
+/**
+ * Benchmark inputs. All inputs are generated from fixed seeds, thus every run
+ * and every version sees exactly the same graphs. Graphs are built the same
+ * way the C-API builds them.
+ */
+class Inputs {
+
+	static final long SEED = 17;
+
+	private Inputs() {
+	}
+
+	/**
+	 * Random simple edge list with vertices $0, \dots, n-1$.
+	 */
+	static List<Pair<Integer, Integer>> randomEdges(int n, int m, long seed) {
+		Random rng = new Random(seed);
+		Set<Long> seen = new HashSet<>();
+		List<Pair<Integer, Integer>> edges = new ArrayList<>(m);
+		while (edges.size() < m) {
+			int s = rng.nextInt(n);
+			int t = rng.nextInt(n);
+			if (s == t) {
+				continue;
+			}
+			long key = Math.min(s, t) * (long) n + Math.max(s, t);
+			if (seen.add(key)) {
+				edges.add(Pair.of(s, t));
+			}
+		}
+		return edges;
+	}
+
+	/**
+	 * Edge list of a rows x cols grid, in both directions, with random weights in
+	 * $[1, 10)$. Resembles a road network.
+	 */
+	static List<Triple<Integer, Integer, Double>> gridEdges(int rows, int cols, long seed) {
+		Random rng = new Random(seed);
+		List<Triple<Integer, Integer, Double>> edges = new ArrayList<>();
+		for (int r = 0; r < rows; r++) {
+			for (int c = 0; c < cols; c++) {
+				int v = r * cols + c;
+				if (c + 1 < cols) {
+					double w = 1d + 9d * rng.nextDouble();
+					edges.add(Triple.of(v, v + 1, w));
+					edges.add(Triple.of(v + 1, v, w));
+				}
+				if (r + 1 < rows) {
+					double w = 1d + 9d * rng.nextDouble();
+					edges.add(Triple.of(v, v + cols, w));
+					edges.add(Triple.of(v + cols, v, w));
+				}
+			}
+		}
+		return edges;
+	}
+
+	/**
+	 * Create an empty graph, the same way as the C-API when no vertex or edge
+	 * supplier is given.
+	 */
+	static Graph<Integer, Integer> createDefaultGraph(boolean directed, boolean weighted) {
+		SafeVertexSupplier vSupplier = new SafeVertexSupplier();
+		SafeEdgeSupplier eSupplier = new SafeEdgeSupplier();
+		GraphTypeBuilder<Integer, Integer> builder = directed ? GraphTypeBuilder.<Integer, Integer>directed()
+				: GraphTypeBuilder.<Integer, Integer>undirected();
+		Graph<Integer, Integer> graph = builder.weighted(weighted).allowingMultipleEdges(false)
+				.allowingSelfLoops(false).vertexSupplier(vSupplier).edgeSupplier(eSupplier).buildGraph();
+		vSupplier.setGraph(graph);
+		eSupplier.setGraph(graph);
+		return new DefaultCapiGraph<Integer, Integer>(graph);
+	}
+
+	static Graph<Integer, Integer> defaultGraph(boolean directed, int n, List<Pair<Integer, Integer>> edges) {
+		Graph<Integer, Integer> graph = createDefaultGraph(directed, false);
+		for (int i = 0; i < n; i++) {
+			graph.addVertex();
+		}
+		for (Pair<Integer, Integer> e : edges) {
+			graph.addEdge(e.getFirst(), e.getSecond());
+		}
+		return graph;
+	}
+
+	static Graph<Integer, Integer> weightedDefaultGraph(int n, List<Triple<Integer, Integer, Double>> edges) {
+		Graph<Integer, Integer> graph = createDefaultGraph(true, true);
+		for (int i = 0; i < n; i++) {
+			graph.addVertex();
+		}
+		for (Triple<Integer, Integer, Double> e : edges) {
+			Integer edge = graph.addEdge(e.getFirst(), e.getSecond());
+			graph.setEdgeWeight(edge, e.getThird());
+		}
+		return graph;
+	}
+
+	static Graph<Integer, Integer> sparseGraph(int n, List<Pair<Integer, Integer>> edges) {
+		return new DefaultCapiGraph<Integer, Integer>(
+				new SparseIntDirectedGraph(n, edges, IncomingEdgesSupport.LAZY_INCOMING_EDGES));
+	}
+
+	static Graph<Integer, Integer> weightedSparseGraph(int n, List<Triple<Integer, Integer, Double>> edges) {
+		return new DefaultCapiGraph<Integer, Integer>(
+				new SparseIntDirectedWeightedGraph(n, edges, IncomingEdgesSupport.LAZY_INCOMING_EDGES));
+	}
+
+	static Graph<Integer, Integer> succinctGraph(int n, List<Pair<Integer, Integer>> edges) {
+		Graph<Integer, Integer> sparse = new SparseIntDirectedGraph(n, edges,
+				IncomingEdgesSupport.LAZY_INCOMING_EDGES);
+		return new DefaultCapiGraph<Integer, Integer>(new SuccinctIntDirectedGraph(sparse, true));
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jgrapht.Graph;
+import org.jgrapht.alg.scoring.PageRank;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PageRank, as performed by the scoring entry points.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ScoringBenchmark {
+
+	@Param({ "default", "sparse" })
+	public String type;
+
+	@Param({ "50000" })
+	public int n;
+
+	@Param({ "8" })
+	public int averageDegree;
+
+	private Graph<Integer, Integer> graph;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		if ("sparse".equals(type)) {
+			graph = Inputs.sparseGraph(n, Inputs.randomEdges(n, n * averageDegree / 2, Inputs.SEED));
+		} else {
+			graph = Inputs.defaultGraph(true, n, Inputs.randomEdges(n, n * averageDegree / 2, Inputs.SEED));
+		}
+	}
+
+	@Benchmark
+	public Map<Integer, Double> pageRank() {
+		return new PageRank<>(graph).getScores();
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.benchmarks;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.jgrapht.Graph;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.SingleSourcePaths;
+import org.jgrapht.alg.shortestpath.BidirectionalDijkstraShortestPath;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyBidirectionalDijkstra;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionHierarchy;
+import org.jgrapht.alg.shortestpath.IntVertexDijkstraShortestPath;
+import org.jgrapht.alg.util.Triple;
+import org.jgrapht.util.ConcurrencyUtil;
+import org.jheaps.tree.PairingHeap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Shortest path queries on a weighted grid, as performed by the shortest path
+ * and contraction hierarchy entry points. Each query invocation answers a fixed
+ * sequence of random source-target pairs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ShortestPathBenchmark {
+
+	private static final int QUERIES = 16;
+
+	@Param({ "default", "sparse" })
+	public String type;
+
+	@Param({ "100" })
+	public int side;
+
+	private Graph<Integer, Integer> graph;
+
+	private ContractionHierarchy<Integer, Integer> ch;
+
+	private int[] sources;
+
+	private int[] targets;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		int n = side * side;
+		List<Triple<Integer, Integer, Double>> edges = Inputs.gridEdges(side, side, Inputs.SEED);
+		if ("sparse".equals(type)) {
+			graph = Inputs.weightedSparseGraph(n, edges);
+		} else {
+			graph = Inputs.weightedDefaultGraph(n, edges);
+		}
+
+		Random rng = new Random(Inputs.SEED);
+		sources = new int[QUERIES];
+		targets = new int[QUERIES];
+		for (int i = 0; i < QUERIES; i++) {
+			sources[i] = rng.nextInt(n);
+			targets[i] = rng.nextInt(n);
+		}
+
+		ch = contractionHierarchy();
+	}
+
+	private ContractionHierarchy<Integer, Integer> contractionHierarchy() {
+		ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(1);
+		try {
+			return new ContractionHierarchyPrecomputation<>(graph, () -> new Random(Inputs.SEED), executor)
+					.computeContractionHierarchy();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Benchmark
+	public double dijkstraBetween() {
+		IntVertexDijkstraShortestPath<Integer> alg = new IntVertexDijkstraShortestPath<>(graph);
+		double sum = 0d;
+		for (int i = 0; i < QUERIES; i++) {
+			sum += alg.getPathWeight(sources[i], targets[i]);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double bidirectionalDijkstraBetween() {
+		BidirectionalDijkstraShortestPath<Integer, Integer> alg = new BidirectionalDijkstraShortestPath<>(graph);
+		double sum = 0d;
+		for (int i = 0; i < QUERIES; i++) {
+			sum += alg.getPathWeight(sources[i], targets[i]);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public SingleSourcePaths<Integer, Integer> dijkstraFrom() {
+		return new IntVertexDijkstraShortestPath<>(graph).getPaths(sources[0]);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public ContractionHierarchy<Integer, Integer> contractionHierarchyPrecomputation() {
+		return contractionHierarchy();
+	}
+
+	@Benchmark
+	public double contractionHierarchyBetween() {
+		ContractionHierarchyBidirectionalDijkstra<Integer, Integer> alg = new ContractionHierarchyBidirectionalDijkstra<>(
+				ch, Double.POSITIVE_INFINITY, PairingHeap::new);
+		double sum = 0d;
+		for (int i = 0; i < QUERIES; i++) {
+			GraphPath<Integer, Integer> path = alg.getPath(sources[i], targets[i]);
+			sum += path.getWeight();
+		}
+		return sum;
+	}
+
+}
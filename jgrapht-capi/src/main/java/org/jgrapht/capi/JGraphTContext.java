@@ -19,7 +19,7 @@ public class JGraphTContext {
 		// @formatter:off
 		STATUS_SUCCESS, STATUS_ERROR, STATUS_ILLEGAL_ARGUMENT, STATUS_UNSUPPORTED_OPERATION, STATUS_INDEX_OUT_OF_BOUNDS,
 		STATUS_NO_SUCH_ELEMENT, STATUS_NULL_POINTER, STATUS_CLASS_CAST, STATUS_IO_ERROR, STATUS_EXPORT_ERROR,
-		STATUS_IMPORT_ERROR, STATUS_NEGATIVE_CYCLE_DETECTED, STATUS_NUMBER_FORMAT_EXCEPTION;
+		STATUS_IMPORT_ERROR, STATUS_NEGATIVE_CYCLE_DETECTED, STATUS_NUMBER_FORMAT_EXCEPTION, STATUS_NOT_FOUND;
 		// @formatter:on
 
 		@CEnumValue
@@ -110,6 +110,71 @@ public class JGraphTContext {
 
 	}
 
+	@CEnum("link_prediction_index_t")
+	public enum LinkPredictionIndex {
+
+		// @formatter:off
+		LINK_PREDICTION_INDEX_ADAMIC_ADAR, LINK_PREDICTION_INDEX_COMMON_NEIGHBORS, LINK_PREDICTION_INDEX_HUB_DEPRESSED,
+		LINK_PREDICTION_INDEX_HUB_PROMOTED, LINK_PREDICTION_INDEX_JACCARD_COEFFICIENT,
+		LINK_PREDICTION_INDEX_LEICHT_HOLME_NEWMAN, LINK_PREDICTION_INDEX_PREFERENTIAL_ATTACHMENT,
+		LINK_PREDICTION_INDEX_RESOURCE_ALLOCATION, LINK_PREDICTION_INDEX_SALTON, LINK_PREDICTION_INDEX_SORENSEN;
+		// @formatter:on
+
+		@CEnumValue
+		public native int toCEnum();
+
+		@CEnumLookup
+		public static native LinkPredictionIndex toJavaEnum(int value);
+
+	}
+
+	@CEnum("diameter_mode_t")
+	public enum DiameterMode {
+
+		// @formatter:off
+		DIAMETER_MODE_EXACT, DIAMETER_MODE_DOUBLE_SWEEP, DIAMETER_MODE_K_BFS;
+		// @formatter:on
+
+		@CEnumValue
+		public native int toCEnum();
+
+		@CEnumLookup
+		public static native DiameterMode toJavaEnum(int value);
+
+	}
+
+	@CEnum("weight_precision_t")
+	public enum WeightPrecision {
+
+		// @formatter:off
+		WEIGHT_PRECISION_DOUBLE, WEIGHT_PRECISION_FLOAT, WEIGHT_PRECISION_QUANTIZED_16,
+		WEIGHT_PRECISION_QUANTIZED_8;
+		// @formatter:on
+
+		@CEnumValue
+		public native int toCEnum();
+
+		@CEnumLookup
+		public static native WeightPrecision toJavaEnum(int value);
+
+	}
+
+	@CEnum("vertex_ordering_t")
+	public enum VertexOrdering {
+
+		// @formatter:off
+		VERTEX_ORDERING_REVERSE_CUTHILL_MCKEE, VERTEX_ORDERING_BFS, VERTEX_ORDERING_DEGREE,
+		VERTEX_ORDERING_RABBIT;
+		// @formatter:on
+
+		@CEnumValue
+		public native int toCEnum();
+
+		@CEnumLookup
+		public static native VertexOrdering toJavaEnum(int value);
+
+	}
+
 	public interface VoidToIntegerFunctionPointer extends CFunctionPointer {
 
 		@InvokeCFunctionPointer
@@ -232,6 +297,17 @@ public class JGraphTContext {
 
 	}
 
+	/*
+	 * Function pointer which fills a caller provided array of doubles with a given
+	 * size.
+	 */
+	public interface ICDoublePointerFunctionPointer extends CFunctionPointer {
+
+		@InvokeCFunctionPointer
+		void invoke(int size, CDoublePointer values);
+
+	}
+
 	public interface LongToCDoublePointerFunctionPointer extends CFunctionPointer {
 
 		@InvokeCFunctionPointer
@@ -337,4 +413,11 @@ public class JGraphTContext {
 
 	}
 
+	public interface ProgressFunctionPointer extends CFunctionPointer {
+
+		@InvokeCFunctionPointer
+		void invoke(CCharPointer phase, long completed, long total);
+
+	}
+
 }
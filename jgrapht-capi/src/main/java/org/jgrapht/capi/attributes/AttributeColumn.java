@@ -0,0 +1,497 @@
+package org.jgrapht.capi.attributes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jgrapht.nio.Attribute;
+import org.jgrapht.nio.AttributeType;
+import org.jgrapht.nio.DefaultAttribute;
+
+/**
+ * A single named attribute stored for many elements, indexed by the dense
+ * element positions of an {@link ElementIndex}. Values are kept in a primitive
+ * array matching the attribute type. Integer columns are widened to long when
+ * they receive a long value. Double and boolean values whose string does not
+ * round-trip through the primitive representation, such as "3" for a double,
+ * keep their original string. A column whose values do not share a single type
+ * is stored as plain {@link Attribute} objects.
+ */
+public abstract class AttributeColumn {
+
+	protected AttributeType type;
+	protected final BitSet present;
+	private Map<Integer, String> originals;
+
+	protected AttributeColumn(AttributeType type) {
+		this.type = type;
+		this.present = new BitSet();
+	}
+
+	/**
+	 * Create a column for values of a given type.
+	 *
+	 * @param type the attribute type
+	 * @return the column
+	 */
+	public static AttributeColumn create(AttributeType type) {
+		switch (type) {
+		case INT:
+		case LONG:
+			return new LongColumn(type);
+		case FLOAT:
+		case DOUBLE:
+			return new DoubleColumn(type);
+		case BOOLEAN:
+			return new BooleanColumn();
+		case STRING:
+		case HTML:
+		case UNKNOWN:
+		case IDENTIFIER:
+			return new StringColumn(type);
+		default:
+			return new ObjectColumn();
+		}
+	}
+
+	/**
+	 * Create a column holding the values of another column, able to store values
+	 * of any type.
+	 *
+	 * @param other the column to copy
+	 * @return the column
+	 */
+	public static AttributeColumn mixed(AttributeColumn other) {
+		ObjectColumn column = new ObjectColumn();
+		for (int pos = other.present.nextSetBit(0); pos >= 0; pos = other.present.nextSetBit(pos + 1)) {
+			column.put(pos, other.get(pos));
+		}
+		return column;
+	}
+
+	/**
+	 * Get the type of the values of this column or null if the column may contain
+	 * values of any type.
+	 *
+	 * @return the type of the values or null
+	 */
+	public AttributeType getType() {
+		return type;
+	}
+
+	/**
+	 * Whether values of a type can be stored in this column.
+	 *
+	 * @param valueType the value type
+	 * @return true if values of the type can be stored
+	 */
+	public boolean accepts(AttributeType valueType) {
+		return type == valueType;
+	}
+
+	public boolean contains(int pos) {
+		return present.get(pos);
+	}
+
+	public int size() {
+		return present.cardinality();
+	}
+
+	public void remove(int pos) {
+		present.clear(pos);
+		if (originals != null) {
+			originals.remove(pos);
+		}
+	}
+
+	public abstract Attribute get(int pos);
+
+	/**
+	 * Store a value.
+	 *
+	 * @param pos the element position
+	 * @param value the value
+	 * @return false if the value could not be stored in this column
+	 */
+	public abstract boolean put(int pos, Attribute value);
+
+	public long getLong(int pos) {
+		return Long.parseLong(get(pos).getValue());
+	}
+
+	public double getDouble(int pos) {
+		return Double.parseDouble(get(pos).getValue());
+	}
+
+	public boolean getBoolean(int pos) {
+		return Boolean.parseBoolean(get(pos).getValue());
+	}
+
+	public String getString(int pos) {
+		return get(pos).getValue();
+	}
+
+	public void putInt(int pos, int value) {
+		put(pos, DefaultAttribute.createAttribute(value));
+	}
+
+	public void putLong(int pos, long value) {
+		put(pos, DefaultAttribute.createAttribute(value));
+	}
+
+	public void putDouble(int pos, double value) {
+		put(pos, DefaultAttribute.createAttribute(value));
+	}
+
+	public void putBoolean(int pos, boolean value) {
+		put(pos, DefaultAttribute.createAttribute(value));
+	}
+
+	public void putString(int pos, String value) {
+		put(pos, DefaultAttribute.createAttribute(value));
+	}
+
+	/**
+	 * Remember the original string of a value if it differs from the string
+	 * rendered from the stored primitive, or forget it otherwise.
+	 *
+	 * @param pos the element position
+	 * @param original the original string or null
+	 * @param rendered the rendered string
+	 */
+	protected void setOriginal(int pos, String original, String rendered) {
+		if (original != null && !original.equals(rendered)) {
+			if (originals == null) {
+				originals = new HashMap<>();
+			}
+			originals.put(pos, original);
+		} else if (originals != null) {
+			originals.remove(pos);
+		}
+	}
+
+	/**
+	 * Get the original string of a value.
+	 *
+	 * @param pos the element position
+	 * @return the original string or null if it equals the rendered one
+	 */
+	protected String getOriginal(int pos) {
+		return originals == null ? null : originals.get(pos);
+	}
+
+	protected static int grow(int length, int pos) {
+		return Math.max(Math.max(16, pos + 1), length + (length >> 1));
+	}
+
+	private static class LongColumn extends AttributeColumn {
+
+		private long[] values = new long[0];
+
+		LongColumn(AttributeType type) {
+			super(type);
+		}
+
+		@Override
+		public boolean accepts(AttributeType valueType) {
+			return valueType == AttributeType.INT || valueType == AttributeType.LONG;
+		}
+
+		@Override
+		public Attribute get(int pos) {
+			if (!present.get(pos)) {
+				return null;
+			}
+			String original = getOriginal(pos);
+			if (original != null) {
+				return new DefaultAttribute<>(original, type);
+			}
+			if (type == AttributeType.INT) {
+				return DefaultAttribute.createAttribute((int) values[pos]);
+			}
+			return DefaultAttribute.createAttribute(values[pos]);
+		}
+
+		@Override
+		public boolean put(int pos, Attribute value) {
+			long parsed;
+			try {
+				parsed = Long.parseLong(value.getValue());
+			} catch (NumberFormatException e) {
+				return false;
+			}
+			if (value.getType() == AttributeType.LONG) {
+				type = AttributeType.LONG;
+			}
+			set(pos, parsed);
+			setOriginal(pos, value.getValue(), render(parsed));
+			return true;
+		}
+
+		@Override
+		public long getLong(int pos) {
+			return values[pos];
+		}
+
+		@Override
+		public double getDouble(int pos) {
+			return values[pos];
+		}
+
+		@Override
+		public String getString(int pos) {
+			String original = getOriginal(pos);
+			return original != null ? original : render(values[pos]);
+		}
+
+		@Override
+		public void putInt(int pos, int value) {
+			set(pos, value);
+			setOriginal(pos, null, null);
+		}
+
+		@Override
+		public void putLong(int pos, long value) {
+			type = AttributeType.LONG;
+			set(pos, value);
+			setOriginal(pos, null, null);
+		}
+
+		private String render(long value) {
+			return type == AttributeType.INT ? Integer.toString((int) value) : Long.toString(value);
+		}
+
+		private void set(int pos, long value) {
+			if (type == AttributeType.INT && value != (int) value) {
+				type = AttributeType.LONG;
+			}
+			if (pos >= values.length) {
+				values = Arrays.copyOf(values, grow(values.length, pos));
+			}
+			values[pos] = value;
+			present.set(pos);
+		}
+
+	}
+
+	private static class DoubleColumn extends AttributeColumn {
+
+		private double[] values = new double[0];
+
+		DoubleColumn(AttributeType type) {
+			super(type);
+		}
+
+		@Override
+		public Attribute get(int pos) {
+			if (!present.get(pos)) {
+				return null;
+			}
+			String original = getOriginal(pos);
+			if (original != null) {
+				return new DefaultAttribute<>(original, type);
+			}
+			if (type == AttributeType.FLOAT) {
+				return DefaultAttribute.createAttribute((float) values[pos]);
+			}
+			return DefaultAttribute.createAttribute(values[pos]);
+		}
+
+		@Override
+		public boolean put(int pos, Attribute value) {
+			double parsed;
+			try {
+				parsed = Double.parseDouble(value.getValue());
+			} catch (NumberFormatException e) {
+				return false;
+			}
+			set(pos, parsed);
+			setOriginal(pos, value.getValue(), render(parsed));
+			return true;
+		}
+
+		@Override
+		public double getDouble(int pos) {
+			return values[pos];
+		}
+
+		@Override
+		public String getString(int pos) {
+			String original = getOriginal(pos);
+			return original != null ? original : render(values[pos]);
+		}
+
+		@Override
+		public void putDouble(int pos, double value) {
+			set(pos, value);
+			setOriginal(pos, null, null);
+		}
+
+		private String render(double value) {
+			return type == AttributeType.FLOAT ? Float.toString((float) value) : Double.toString(value);
+		}
+
+		private void set(int pos, double value) {
+			if (pos >= values.length) {
+				values = Arrays.copyOf(values, grow(values.length, pos));
+			}
+			values[pos] = value;
+			present.set(pos);
+		}
+
+	}
+
+	private static class BooleanColumn extends AttributeColumn {
+
+		private final BitSet values = new BitSet();
+
+		BooleanColumn() {
+			super(AttributeType.BOOLEAN);
+		}
+
+		@Override
+		public Attribute get(int pos) {
+			if (!present.get(pos)) {
+				return null;
+			}
+			String original = getOriginal(pos);
+			if (original != null) {
+				return new DefaultAttribute<>(original, type);
+			}
+			return DefaultAttribute.createAttribute(values.get(pos));
+		}
+
+		@Override
+		public boolean put(int pos, Attribute value) {
+			String s = value.getValue();
+			if (!"true".equalsIgnoreCase(s) && !"false".equalsIgnoreCase(s)) {
+				return false;
+			}
+			boolean parsed = Boolean.parseBoolean(s);
+			set(pos, parsed);
+			setOriginal(pos, s, Boolean.toString(parsed));
+			return true;
+		}
+
+		@Override
+		public boolean getBoolean(int pos) {
+			return values.get(pos);
+		}
+
+		@Override
+		public String getString(int pos) {
+			String original = getOriginal(pos);
+			return original != null ? original : Boolean.toString(values.get(pos));
+		}
+
+		@Override
+		public void putBoolean(int pos, boolean value) {
+			set(pos, value);
+			setOriginal(pos, null, null);
+		}
+
+		private void set(int pos, boolean value) {
+			values.set(pos, value);
+			present.set(pos);
+		}
+
+	}
+
+	/**
+	 * Strings are dictionary encoded, each distinct value is stored once.
+	 */
+	private static class StringColumn extends AttributeColumn {
+
+		private int[] codes = new int[0];
+		private final List<String> dictionary = new ArrayList<>();
+		private final Map<String, Integer> dictionaryCodes = new HashMap<>();
+
+		StringColumn(AttributeType type) {
+			super(type);
+		}
+
+		@Override
+		public Attribute get(int pos) {
+			if (!present.get(pos)) {
+				return null;
+			}
+			return new DefaultAttribute<>(dictionary.get(codes[pos]), type);
+		}
+
+		@Override
+		public boolean put(int pos, Attribute value) {
+			if (value.getValue() == null) {
+				return false;
+			}
+			set(pos, value.getValue());
+			return true;
+		}
+
+		@Override
+		public String getString(int pos) {
+			return dictionary.get(codes[pos]);
+		}
+
+		@Override
+		public void putString(int pos, String value) {
+			set(pos, value);
+		}
+
+		private void set(int pos, String value) {
+			Integer code = dictionaryCodes.get(value);
+			if (code == null) {
+				code = dictionary.size();
+				dictionary.add(value);
+				dictionaryCodes.put(value, code);
+			}
+			if (pos >= codes.length) {
+				codes = Arrays.copyOf(codes, grow(codes.length, pos));
+			}
+			codes[pos] = code;
+			present.set(pos);
+		}
+
+	}
+
+	private static class ObjectColumn extends AttributeColumn {
+
+		private Attribute[] values = new Attribute[0];
+
+		ObjectColumn() {
+			super(null);
+		}
+
+		@Override
+		public boolean accepts(AttributeType valueType) {
+			return true;
+		}
+
+		@Override
+		public void remove(int pos) {
+			super.remove(pos);
+			if (pos < values.length) {
+				values[pos] = null;
+			}
+		}
+
+		@Override
+		public Attribute get(int pos) {
+			return present.get(pos) ? values[pos] : null;
+		}
+
+		@Override
+		public boolean put(int pos, Attribute value) {
+			if (pos >= values.length) {
+				values = Arrays.copyOf(values, grow(values.length, pos));
+			}
+			values[pos] = value;
+			present.set(pos);
+			return true;
+		}
+
+	}
+
+}
@@ -0,0 +1,150 @@
+package org.jgrapht.capi.attributes;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.graalvm.nativeimage.c.type.CTypeConversion.CCharPointerHolder;
+import org.jgrapht.capi.StringUtils;
+
+/**
+ * Registry of attribute names. Each distinct name receives a stable integer id
+ * and, the first time it is handed to C, a single pinned C string which stays
+ * valid for the lifetime of the isolate. Callers may therefore keep pointers to
+ * names returned by the attribute keys iterators without copying them.
+ *
+ * <p>
+ * Looking up a registered name or id does not lock. Since names are never
+ * released, the registry holds at most {@link #MAX_NAMES} names, which guards
+ * against inputs with an unbounded number of distinct keys.
+ */
+public final class AttributeNames {
+
+	/**
+	 * The maximum number of distinct names.
+	 */
+	public static final int MAX_NAMES = 1 << 20;
+
+	private static final ConcurrentHashMap<String, Entry> byName = new ConcurrentHashMap<>();
+
+	/**
+	 * Entries by id, replaced by a larger copy when full. Only written while
+	 * holding the class lock.
+	 */
+	private static volatile Entry[] byId = new Entry[64];
+
+	private static int size;
+
+	private AttributeNames() {
+	}
+
+	/**
+	 * Get the id of a name, registering the name if needed.
+	 *
+	 * @param name the name
+	 * @return the id
+	 * @throws IllegalStateException if the name is new and the registry is full
+	 */
+	public static int intern(String name) {
+		Entry entry = byName.get(name);
+		if (entry == null) {
+			entry = byName.computeIfAbsent(name, AttributeNames::register);
+		}
+		return entry.id;
+	}
+
+	/**
+	 * Get the id of a name without registering it.
+	 *
+	 * @param name the name
+	 * @return the id or -1 if the name has never been registered
+	 */
+	public static int lookup(String name) {
+		Entry entry = byName.get(name);
+		return entry == null ? -1 : entry.id;
+	}
+
+	/**
+	 * Get a registered name.
+	 *
+	 * @param id the id
+	 * @return the name
+	 * @throws IllegalArgumentException if the id is not registered
+	 */
+	public static String getName(int id) {
+		return entry(id).name;
+	}
+
+	/**
+	 * Get the pinned C string of a registered name.
+	 *
+	 * @param id the id
+	 * @return the pinned C string
+	 * @throws IllegalArgumentException if the id is not registered
+	 */
+	public static CCharPointerHolder getCName(int id) {
+		Entry entry = entry(id);
+		CCharPointerHolder cName = entry.cName;
+		if (cName == null) {
+			synchronized (entry) {
+				cName = entry.cName;
+				if (cName == null) {
+					cName = StringUtils.toCStringInUtf8(entry.name);
+					entry.cName = cName;
+				}
+			}
+		}
+		return cName;
+	}
+
+	/**
+	 * Get the pinned C string of a name, registering the name if needed.
+	 *
+	 * @param name the name
+	 * @return the pinned C string
+	 * @throws IllegalStateException if the name is new and the registry is full
+	 */
+	public static CCharPointerHolder getCName(String name) {
+		return getCName(intern(name));
+	}
+
+	/**
+	 * Assign the next id to a name. Called by the map at most once per name.
+	 */
+	private static synchronized Entry register(String name) {
+		if (size == MAX_NAMES) {
+			throw new IllegalStateException("Too many attribute names, at most " + MAX_NAMES + " are supported");
+		}
+		Entry entry = new Entry(size, name);
+		Entry[] entries = byId;
+		if (size == entries.length) {
+			entries = Arrays.copyOf(entries, Math.min(MAX_NAMES, 2 * size));
+		}
+		entries[size++] = entry;
+		// publish the entry before its id can be obtained from the map
+		byId = entries;
+		return entry;
+	}
+
+	private static Entry entry(int id) {
+		Entry[] entries = byId;
+		Entry entry = id >= 0 && id < entries.length ? entries[id] : null;
+		if (entry == null) {
+			throw new IllegalArgumentException("Attribute name id " + id + " not registered");
+		}
+		return entry;
+	}
+
+	private static final class Entry {
+
+		final int id;
+		final String name;
+		volatile CCharPointerHolder cName;
+
+		Entry(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+	}
+
+}
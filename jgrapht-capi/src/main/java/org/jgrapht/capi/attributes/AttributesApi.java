@@ -10,9 +10,10 @@ import org.graalvm.nativeimage.c.function.CEntryPoint;
 import org.graalvm.nativeimage.c.type.CCharPointer;
 import org.graalvm.nativeimage.c.type.WordPointer;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.StringUtils;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 import org.jgrapht.nio.DefaultAttribute;
 
 /**
@@ -20,7 +21,7 @@ import org.jgrapht.nio.DefaultAttribute;
  */
 public class AttributesApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	/**
 	 * Create a new attributes store.
@@ -32,133 +33,146 @@ public class AttributesApi {
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "attributes_store_create", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createIntStore(IsolateThread thread, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_attributes_store_create");
 		AttributesStore<?> store = new AttributesStore<>();
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(store));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "attributes_store_put_boolean_attribute", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int putBooleanAttribute(IsolateThread thread, ObjectHandle storeHandle, int element,
 			CCharPointer namePtr, boolean value) {
+		Metrics.enter("jgrapht_capi_ii_attributes_store_put_boolean_attribute");
 		AttributesStore<Integer> store = globalHandles.get(storeHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
 		store.putAttribute(element, name, DefaultAttribute.createAttribute(value));
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
 			+ "attributes_store_put_boolean_attribute", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int putBooleanAttribute(IsolateThread thread, ObjectHandle storeHandle, long element,
 			CCharPointer namePtr, boolean value) {
+		Metrics.enter("jgrapht_capi_ll_attributes_store_put_boolean_attribute");
 		AttributesStore<Long> store = globalHandles.get(storeHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
 		store.putAttribute(element, name, DefaultAttribute.createAttribute(value));
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "attributes_store_put_int_attribute", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int putIntAttribute(IsolateThread thread, ObjectHandle storeHandle, int element, CCharPointer namePtr,
 			int value) {
+		Metrics.enter("jgrapht_capi_ii_attributes_store_put_int_attribute");
 		AttributesStore<Integer> store = globalHandles.get(storeHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
 		store.putAttribute(element, name, DefaultAttribute.createAttribute(value));
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
 			+ "attributes_store_put_int_attribute", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int putIntAttribute(IsolateThread thread, ObjectHandle storeHandle, long element,
 			CCharPointer namePtr, int value) {
+		Metrics.enter("jgrapht_capi_ll_attributes_store_put_int_attribute");
 		AttributesStore<Long> store = globalHandles.get(storeHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
 		store.putAttribute(element, name, DefaultAttribute.createAttribute(value));
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "attributes_store_put_long_attribute", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int putLongAttribute(IsolateThread thread, ObjectHandle storeHandle, int element,
 			CCharPointer namePtr, long value) {
+		Metrics.enter("jgrapht_capi_ii_attributes_store_put_long_attribute");
 		AttributesStore<Integer> store = globalHandles.get(storeHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
 		store.putAttribute(element, name, DefaultAttribute.createAttribute(value));
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
 			+ "attributes_store_put_long_attribute", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int putLongAttribute(IsolateThread thread, ObjectHandle storeHandle, long element,
 			CCharPointer namePtr, long value) {
+		Metrics.enter("jgrapht_capi_ll_attributes_store_put_long_attribute");
 		AttributesStore<Long> store = globalHandles.get(storeHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
 		store.putAttribute(element, name, DefaultAttribute.createAttribute(value));
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "attributes_store_put_double_attribute", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int putDoubleAttribute(IsolateThread thread, ObjectHandle storeHandle, int element,
 			CCharPointer namePtr, double value) {
+		Metrics.enter("jgrapht_capi_ii_attributes_store_put_double_attribute");
 		AttributesStore<Integer> store = globalHandles.get(storeHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
 		store.putAttribute(element, name, DefaultAttribute.createAttribute(value));
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
 			+ "attributes_store_put_double_attribute", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int putDoubleAttribute(IsolateThread thread, ObjectHandle storeHandle, long element,
 			CCharPointer namePtr, double value) {
+		Metrics.enter("jgrapht_capi_ll_attributes_store_put_double_attribute");
 		AttributesStore<Long> store = globalHandles.get(storeHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
 		store.putAttribute(element, name, DefaultAttribute.createAttribute(value));
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "attributes_store_put_string_attribute", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int putStringAttribute(IsolateThread thread, ObjectHandle storeHandle, int element,
 			CCharPointer namePtr, CCharPointer valuePtr) {
+		Metrics.enter("jgrapht_capi_ii_attributes_store_put_string_attribute");
 		AttributesStore<Integer> store = globalHandles.get(storeHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
 		String value = StringUtils.toJavaStringFromUtf8(valuePtr);
 		store.putAttribute(element, name, DefaultAttribute.createAttribute(value));
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
 			+ "attributes_store_put_string_attribute", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int putStringAttribute(IsolateThread thread, ObjectHandle storeHandle, long element,
 			CCharPointer namePtr, CCharPointer valuePtr) {
+		Metrics.enter("jgrapht_capi_ll_attributes_store_put_string_attribute");
 		AttributesStore<Long> store = globalHandles.get(storeHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
 		String value = StringUtils.toJavaStringFromUtf8(valuePtr);
 		store.putAttribute(element, name, DefaultAttribute.createAttribute(value));
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "attributes_store_remove_attribute", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int removeAttribute(IsolateThread thread, ObjectHandle storeHandle, int element,
 			CCharPointer namePtr) {
+		Metrics.enter("jgrapht_capi_ii_attributes_store_remove_attribute");
 		AttributesStore<Integer> store = globalHandles.get(storeHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
 		store.removeAttribute(element, name);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
 			+ "attributes_store_remove_attribute", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int removeAttribute(IsolateThread thread, ObjectHandle storeHandle, long element,
 			CCharPointer namePtr) {
+		Metrics.enter("jgrapht_capi_ll_attributes_store_remove_attribute");
 		AttributesStore<Long> store = globalHandles.get(storeHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
 		store.removeAttribute(element, name);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -171,33 +185,36 @@ public class AttributesApi {
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "attributes_registry_create", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createRegistry(IsolateThread thread, WordPointer res) {
+		Metrics.enter("jgrapht_capi_attributes_registry_create");
 		List<RegisteredAttribute> registry = new ArrayList<>();
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(registry));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "attributes_registry_register_attribute", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int registerAttribute(IsolateThread thread, ObjectHandle registryHandle, CCharPointer name,
 			CCharPointer category, CCharPointer type, CCharPointer defaultValue) {
+		Metrics.enter("jgrapht_capi_attributes_registry_register_attribute");
 		List<RegisteredAttribute> store = globalHandles.get(registryHandle);
 		store.add(new RegisteredAttribute(StringUtils.toJavaStringFromUtf8(name),
 				StringUtils.toJavaStringFromUtf8(category), StringUtils.toJavaStringFromUtf8(type),
 				StringUtils.toJavaStringFromUtf8(defaultValue)));
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "attributes_registry_unregister_attribute", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int unregisterAttribute(IsolateThread thread, ObjectHandle registryHandle, CCharPointer name,
 			CCharPointer category, CCharPointer type, CCharPointer defaultValue) {
+		Metrics.enter("jgrapht_capi_attributes_registry_unregister_attribute");
 		List<RegisteredAttribute> store = globalHandles.get(registryHandle);
 		store.remove(new RegisteredAttribute(StringUtils.toJavaStringFromUtf8(name),
 				StringUtils.toJavaStringFromUtf8(category), StringUtils.toJavaStringFromUtf8(type),
 				StringUtils.toJavaStringFromUtf8(defaultValue)));
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
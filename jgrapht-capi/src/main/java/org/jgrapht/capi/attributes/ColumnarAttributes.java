@@ -0,0 +1,241 @@
+package org.jgrapht.capi.attributes;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.jgrapht.nio.Attribute;
+import org.jgrapht.nio.AttributeType;
+
+/**
+ * Attributes of a set of elements stored column by column. Each attribute name
+ * maps to one {@link AttributeColumn} and each element to a dense position in
+ * all columns. Attribute names are registered in {@link AttributeNames}.
+ */
+public class ColumnarAttributes<T> {
+
+	private final ElementIndex<T> index;
+	private final Map<String, AttributeColumn> columns;
+
+	public ColumnarAttributes() {
+		this.index = new ElementIndex<>();
+		this.columns = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Get the position of an element in all columns.
+	 *
+	 * @param element the element
+	 * @return the position or -1 if the element has no attributes
+	 */
+	public int indexOf(T element) {
+		return index.indexOf(element);
+	}
+
+	/**
+	 * Get the position of an element in all columns, assigning one if needed.
+	 *
+	 * @param element the element
+	 * @return the position
+	 */
+	public int getOrCreateIndex(T element) {
+		return index.getOrCreate(element);
+	}
+
+	public Set<String> getColumnNames() {
+		return columns.keySet();
+	}
+
+	/**
+	 * Get a column.
+	 *
+	 * @param name the attribute name
+	 * @return the column or null if no element has the attribute
+	 */
+	public AttributeColumn getColumn(String name) {
+		return columns.get(name);
+	}
+
+	/**
+	 * Get a column which can store values of a given type, creating one if needed.
+	 * An integer column is widened to long for long values. If the existing column
+	 * stores values of a different type, it is converted to a column which can
+	 * store values of any type.
+	 *
+	 * @param name the attribute name
+	 * @param type the value type
+	 * @return the column
+	 */
+	public AttributeColumn getOrCreateColumn(String name, AttributeType type) {
+		AttributeColumn column = columns.get(name);
+		if (column == null) {
+			column = AttributeColumn.create(type);
+			columns.put(AttributeNames.getName(AttributeNames.intern(name)), column);
+		} else if (!column.accepts(type)) {
+			column = AttributeColumn.mixed(column);
+			columns.put(name, column);
+		}
+		return column;
+	}
+
+	public int size(T element) {
+		int pos = index.indexOf(element);
+		if (pos == -1) {
+			return 0;
+		}
+		int count = 0;
+		for (AttributeColumn column : columns.values()) {
+			if (column.contains(pos)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Get the names of the attributes of an element. The names are computed
+	 * lazily while iterating.
+	 *
+	 * @param element the element
+	 * @return an iterator over the attribute names
+	 */
+	public Iterator<String> keys(T element) {
+		int pos = index.indexOf(element);
+		if (pos == -1) {
+			return Collections.emptyIterator();
+		}
+		Iterator<Map.Entry<String, AttributeColumn>> it = columns.entrySet().iterator();
+		return new Iterator<String>() {
+			private String next = advance();
+
+			private String advance() {
+				while (it.hasNext()) {
+					Map.Entry<String, AttributeColumn> e = it.next();
+					if (e.getValue().contains(pos)) {
+						return e.getKey();
+					}
+				}
+				return null;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+
+			@Override
+			public String next() {
+				if (next == null) {
+					throw new NoSuchElementException();
+				}
+				String result = next;
+				next = advance();
+				return result;
+			}
+		};
+	}
+
+	public boolean contains(T element, String name) {
+		return position(element, name) != -1;
+	}
+
+	public Attribute get(T element, String name) {
+		int pos = position(element, name);
+		return pos == -1 ? null : columns.get(name).get(pos);
+	}
+
+	public void put(T element, String name, Attribute value) {
+		int pos = index.getOrCreate(element);
+		AttributeColumn column = getOrCreateColumn(name, value.getType());
+		if (!column.put(pos, value)) {
+			column = AttributeColumn.mixed(column);
+			columns.put(name, column);
+			column.put(pos, value);
+		}
+	}
+
+	public long getLong(T element, String name) {
+		return columns.get(name).getLong(requirePosition(element, name));
+	}
+
+	public int getInt(T element, String name) {
+		return Math.toIntExact(getLong(element, name));
+	}
+
+	public double getDouble(T element, String name) {
+		return columns.get(name).getDouble(requirePosition(element, name));
+	}
+
+	public boolean getBoolean(T element, String name) {
+		return columns.get(name).getBoolean(requirePosition(element, name));
+	}
+
+	public String getString(T element, String name) {
+		return columns.get(name).getString(requirePosition(element, name));
+	}
+
+	public void putInt(T element, String name, int value) {
+		getOrCreateColumn(name, AttributeType.INT).putInt(index.getOrCreate(element), value);
+	}
+
+	public void putLong(T element, String name, long value) {
+		getOrCreateColumn(name, AttributeType.LONG).putLong(index.getOrCreate(element), value);
+	}
+
+	public void putDouble(T element, String name, double value) {
+		getOrCreateColumn(name, AttributeType.DOUBLE).putDouble(index.getOrCreate(element), value);
+	}
+
+	public void putBoolean(T element, String name, boolean value) {
+		getOrCreateColumn(name, AttributeType.BOOLEAN).putBoolean(index.getOrCreate(element), value);
+	}
+
+	public void putString(T element, String name, String value) {
+		getOrCreateColumn(name, AttributeType.STRING).putString(index.getOrCreate(element), value);
+	}
+
+	public void remove(T element, String name) {
+		int pos = position(element, name);
+		if (pos != -1) {
+			columns.get(name).remove(pos);
+		}
+	}
+
+	public void clear(T element) {
+		int pos = index.remove(element);
+		if (pos != -1) {
+			for (AttributeColumn column : columns.values()) {
+				column.remove(pos);
+			}
+		}
+	}
+
+	public void clear() {
+		index.clear();
+		columns.clear();
+	}
+
+	private int position(T element, String name) {
+		AttributeColumn column = columns.get(name);
+		if (column == null) {
+			return -1;
+		}
+		int pos = index.indexOf(element);
+		if (pos == -1 || !column.contains(pos)) {
+			return -1;
+		}
+		return pos;
+	}
+
+	private int requirePosition(T element, String name) {
+		int pos = position(element, name);
+		if (pos == -1) {
+			throw new IllegalArgumentException("Key " + name + " not found");
+		}
+		return pos;
+	}
+
+}
@@ -0,0 +1,194 @@
+package org.jgrapht.capi.attributes;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Assigns dense positions to vertices or edges. Integer and long elements are
+ * kept in a primitive open addressing table, any other element type in a hash
+ * map. Positions of removed elements are recycled.
+ */
+public class ElementIndex<T> {
+
+	private static final long FREE = Long.MIN_VALUE;
+	private static final int INITIAL_CAPACITY = 16;
+
+	private long[] keys;
+	private int[] values;
+	private int mask;
+	private int numericSize;
+	private Map<T, Integer> objects;
+
+	private int[] freePositions;
+	private int freeCount;
+	private int nextPosition;
+
+	public ElementIndex() {
+		clear();
+	}
+
+	/**
+	 * Get the position of an element.
+	 *
+	 * @param element the element
+	 * @return the position or -1 if the element has no position
+	 */
+	public int indexOf(T element) {
+		if (isNumeric(element)) {
+			long key = ((Number) element).longValue();
+			if (key == FREE) {
+				return objectIndexOf(element);
+			}
+			int slot = find(key);
+			return keys[slot] == FREE ? -1 : values[slot];
+		}
+		return objectIndexOf(element);
+	}
+
+	/**
+	 * Get the position of an element, assigning a new one if needed.
+	 *
+	 * @param element the element
+	 * @return the position
+	 */
+	public int getOrCreate(T element) {
+		if (isNumeric(element)) {
+			long key = ((Number) element).longValue();
+			if (key != FREE) {
+				int slot = find(key);
+				if (keys[slot] != FREE) {
+					return values[slot];
+				}
+				int pos = allocate();
+				keys[slot] = key;
+				values[slot] = pos;
+				if (++numericSize * 2 > keys.length) {
+					rehash(keys.length * 2);
+				}
+				return pos;
+			}
+		}
+		Integer pos = objects.get(element);
+		if (pos == null) {
+			pos = allocate();
+			objects.put(element, pos);
+		}
+		return pos;
+	}
+
+	/**
+	 * Remove an element and release its position.
+	 *
+	 * @param element the element
+	 * @return the released position or -1 if the element had no position
+	 */
+	public int remove(T element) {
+		int pos;
+		if (isNumeric(element) && ((Number) element).longValue() != FREE) {
+			int slot = find(((Number) element).longValue());
+			if (keys[slot] == FREE) {
+				return -1;
+			}
+			pos = values[slot];
+			deleteSlot(slot);
+		} else {
+			Integer p = objects.remove(element);
+			if (p == null) {
+				return -1;
+			}
+			pos = p;
+		}
+		if (freeCount == freePositions.length) {
+			freePositions = Arrays.copyOf(freePositions, Math.max(INITIAL_CAPACITY, 2 * freeCount));
+		}
+		freePositions[freeCount++] = pos;
+		return pos;
+	}
+
+	/**
+	 * Get an upper bound on all assigned positions.
+	 *
+	 * @return an upper bound (exclusive) on all assigned positions
+	 */
+	public int capacity() {
+		return nextPosition;
+	}
+
+	public void clear() {
+		keys = new long[INITIAL_CAPACITY];
+		Arrays.fill(keys, FREE);
+		values = new int[INITIAL_CAPACITY];
+		mask = INITIAL_CAPACITY - 1;
+		numericSize = 0;
+		objects = new HashMap<>();
+		freePositions = new int[0];
+		freeCount = 0;
+		nextPosition = 0;
+	}
+
+	private int objectIndexOf(T element) {
+		Integer pos = objects.get(element);
+		return pos == null ? -1 : pos;
+	}
+
+	private int allocate() {
+		if (freeCount > 0) {
+			return freePositions[--freeCount];
+		}
+		return nextPosition++;
+	}
+
+	private static boolean isNumeric(Object element) {
+		return element instanceof Integer || element instanceof Long;
+	}
+
+	private static int hash(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	private int find(long key) {
+		int slot = hash(key) & mask;
+		while (keys[slot] != FREE && keys[slot] != key) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Backward shift deletion, keeps probe sequences intact without tombstones.
+	 */
+	private void deleteSlot(int slot) {
+		int gap = slot;
+		int next = (gap + 1) & mask;
+		while (keys[next] != FREE) {
+			int home = hash(keys[next]) & mask;
+			if (((next - home) & mask) >= ((next - gap) & mask)) {
+				keys[gap] = keys[next];
+				values[gap] = values[next];
+				gap = next;
+			}
+			next = (next + 1) & mask;
+		}
+		keys[gap] = FREE;
+		numericSize--;
+	}
+
+	private void rehash(int newCapacity) {
+		long[] oldKeys = keys;
+		int[] oldValues = values;
+		keys = new long[newCapacity];
+		Arrays.fill(keys, FREE);
+		values = new int[newCapacity];
+		mask = newCapacity - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != FREE) {
+				int slot = find(oldKeys[i]);
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+			}
+		}
+	}
+
+}
@@ -1,59 +1,73 @@
 package org.jgrapht.capi.attributes;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.graalvm.nativeimage.c.type.CTypeConversion.CCharPointerHolder;
-import org.jgrapht.capi.StringUtils;
 import org.jgrapht.nio.Attribute;
 
 /**
- * Class for storing vertex, edge and graph attributes.
+ * Class for storing vertex, edge and graph attributes. Vertex and edge
+ * attributes are stored in typed columns, see {@link ColumnarAttributes}.
  */
 public class GraphAttributesStore<V, E> {
 
-	private Map<V, Map<String, Attribute>> vertexAttributes;
-	private Map<E, Map<String, Attribute>> edgeAttributes;
+	private ColumnarAttributes<V> vertexAttributes;
+	private ColumnarAttributes<E> edgeAttributes;
 	private Map<String, Attribute> graphAttributes;
 
 	public GraphAttributesStore() {
-		this.vertexAttributes = new HashMap<>();
-		this.edgeAttributes = new HashMap<>();
+		this.vertexAttributes = new ColumnarAttributes<>();
+		this.edgeAttributes = new ColumnarAttributes<>();
 		this.graphAttributes = new HashMap<>();
 	}
 
+	public Set<String> getGraphAttributeNames() {
+		return Collections.unmodifiableSet(graphAttributes.keySet());
+	}
+
+	public ColumnarAttributes<V> getVertexAttributes() {
+		return vertexAttributes;
+	}
+
+	public ColumnarAttributes<E> getEdgeAttributes() {
+		return edgeAttributes;
+	}
+
 	public int getGraphAttributesSize() {
 		return graphAttributes.size();
 	}
 
 	public int getVertexAttributesSize(V element) {
-		return getSafeVertexMap(element).size();
+		return vertexAttributes.size(element);
 	}
 
 	public int getEdgeAttributesSize(E element) {
-		return getSafeEdgeMap(element).size();
+		return edgeAttributes.size(element);
 	}
 
 	public Iterator<CCharPointerHolder> graphAttributesKeysIterator() {
-		return graphAttributes.keySet().stream().map(StringUtils::toCStringInUtf8).iterator();
+		Iterator<String> it = graphAttributes.keySet().iterator();
+		return new NameIterator(it);
 	}
 
 	public Iterator<CCharPointerHolder> vertexAttributesKeysIterator(V element) {
-		return getSafeVertexMap(element).keySet().stream().map(StringUtils::toCStringInUtf8).iterator();
+		return new NameIterator(vertexAttributes.keys(element));
 	}
 
 	public Iterator<CCharPointerHolder> edgeAttributesKeysIterator(E element) {
-		return getSafeEdgeMap(element).keySet().stream().map(StringUtils::toCStringInUtf8).iterator();
+		return new NameIterator(edgeAttributes.keys(element));
 	}
 
 	public Attribute getVertexAttribute(V element, String name) {
-		return getSafeVertexMap(element).get(name);
+		return vertexAttributes.get(element, name);
 	}
 
 	public Attribute getEdgeAttribute(E element, String name) {
-		return getSafeEdgeMap(element).get(name);
+		return edgeAttributes.get(element, name);
 	}
 
 	public Attribute getGraphAttribute(String name) {
@@ -61,11 +75,11 @@ public class GraphAttributesStore<V, E> {
 	}
 
 	public void putVertexAttribute(V element, String name, Attribute value) {
-		getSafeVertexMap(element).put(name, value);
+		vertexAttributes.put(element, name, value);
 	}
 
 	public void putEdgeAttribute(E element, String name, Attribute value) {
-		getSafeEdgeMap(element).put(name, value);
+		edgeAttributes.put(element, name, value);
 	}
 
 	public void putGraphAttribute(String name, Attribute value) {
@@ -73,11 +87,11 @@ public class GraphAttributesStore<V, E> {
 	}
 
 	public void removeVertexAttribute(V element, String name) {
-		getSafeVertexMap(element).remove(name);
+		vertexAttributes.remove(element, name);
 	}
 
 	public void removeEdgeAttribute(E element, String name) {
-		getSafeEdgeMap(element).remove(name);
+		edgeAttributes.remove(element, name);
 	}
 
 	public void removeGraphAttribute(String name) {
@@ -85,11 +99,11 @@ public class GraphAttributesStore<V, E> {
 	}
 
 	public void clearVertexAttributes(V element) {
-		vertexAttributes.remove(element);
+		vertexAttributes.clear(element);
 	}
 
 	public void clearEdgeAttributes(E element) {
-		edgeAttributes.remove(element);
+		edgeAttributes.clear(element);
 	}
 
 	public void clearAllVerticesAttributes() {
@@ -104,22 +118,27 @@ public class GraphAttributesStore<V, E> {
 		graphAttributes.clear();
 	}
 
-	private Map<String, Attribute> getSafeVertexMap(V element) {
-		Map<String, Attribute> attrs = vertexAttributes.get(element);
-		if (attrs == null) {
-			attrs = new LinkedHashMap<>();
-			vertexAttributes.put(element, attrs);
+	/**
+	 * Maps attribute names to their pinned C strings from {@link AttributeNames}.
+	 */
+	private static class NameIterator implements Iterator<CCharPointerHolder> {
+
+		private final Iterator<String> names;
+
+		NameIterator(Iterator<String> names) {
+			this.names = names;
 		}
-		return attrs;
-	}
 
-	private Map<String, Attribute> getSafeEdgeMap(E element) {
-		Map<String, Attribute> attrs = edgeAttributes.get(element);
-		if (attrs == null) {
-			attrs = new LinkedHashMap<>();
-			edgeAttributes.put(element, attrs);
+		@Override
+		public boolean hasNext() {
+			return names.hasNext();
 		}
-		return attrs;
+
+		@Override
+		public CCharPointerHolder next() {
+			return AttributeNames.getCName(names.next());
+		}
+
 	}
 
 }
@@ -0,0 +1,124 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.clustering;
+
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jgrapht.Graph;
+import org.jgrapht.alg.connectivity.ConnectivityInspector;
+import org.jgrapht.alg.interfaces.ClusteringAlgorithm;
+import org.jgrapht.alg.scoring.EdgeBetweennessCentrality;
+import org.jgrapht.alg.scoring.EdgeBetweennessCentrality.OverflowStrategy;
+import org.jgrapht.capi.custom.util.Progress;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.builder.GraphTypeBuilder;
+import org.jgrapht.util.SupplierUtil;
+
+/**
+ * The Girvan and Newman clustering algorithm which reports its progress.
+ *
+ * <p>
+ * This is the same algorithm as {@link org.jgrapht.alg.clustering.GirvanNewmanClustering}. Edges
+ * with maximum betweenness are removed one by one until the graph has $k$ connected components.
+ * The progress reports the number of edges removed out of the number of edges of the graph, which
+ * is an upper bound since the algorithm stops as soon as there are $k$ components.
+ *
+ * @author Dimitrios Michail
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class GirvanNewmanClustering<V, E>
+    implements
+    ClusteringAlgorithm<V>
+{
+    /**
+     * Name of the phase reported to the progress.
+     */
+    public static final String PHASE_EDGE_REMOVAL = "edge removal";
+
+    private final Graph<V, E> graph;
+    private final int k;
+    private final Progress progress;
+
+    /**
+     * Create a new clustering algorithm.
+     *
+     * @param graph the graph
+     * @param k the desired number of clusters
+     * @param progress the progress, may be null
+     */
+    public GirvanNewmanClustering(Graph<V, E> graph, int k, Progress progress)
+    {
+        this.graph = Objects.requireNonNull(graph);
+        if (k < 1 || k > graph.vertexSet().size()) {
+            throw new IllegalArgumentException("Illegal number of clusters");
+        }
+        this.k = k;
+        this.progress = progress;
+    }
+
+    @Override
+    public Clustering<V> getClustering()
+    {
+        // copy graph
+        Graph<V, DefaultEdge> graphCopy = GraphTypeBuilder
+            .forGraphType(graph.getType()).edgeSupplier(SupplierUtil.DEFAULT_EDGE_SUPPLIER)
+            .vertexSupplier(graph.getVertexSupplier()).buildGraph();
+        for (V v : graph.iterables().vertices()) {
+            graphCopy.addVertex(v);
+        }
+        for (E e : graph.iterables().edges()) {
+            graphCopy.addEdge(graph.getEdgeSource(e), graph.getEdgeTarget(e));
+        }
+
+        if (progress != null) {
+            progress.startPhase(PHASE_EDGE_REMOVAL, graphCopy.edgeSet().size());
+        }
+        while (true) {
+            List<Set<V>> ccs = new ConnectivityInspector<>(graphCopy).connectedSets();
+            if (ccs.size() == k) {
+                return new ClusteringImpl<>(ccs);
+            }
+
+            // compute edge centralities
+            EdgeBetweennessCentrality<V, DefaultEdge> bc = new EdgeBetweennessCentrality<>(
+                graphCopy, OverflowStrategy.THROW_EXCEPTION_ON_OVERFLOW, graph.vertexSet());
+
+            // find edge with max centrality
+            DefaultEdge maxEdge = null;
+            double maxCentrality = 0d;
+            for (Entry<DefaultEdge, Double> entry : bc.getScores().entrySet()) {
+                if (Double.compare(entry.getValue(), maxCentrality) > 0 || maxEdge == null) {
+                    maxEdge = entry.getKey();
+                    maxCentrality = entry.getValue();
+                }
+            }
+
+            // remove edge with max centrality
+            graphCopy.removeEdge(maxEdge);
+            if (progress != null) {
+                progress.advance(1);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,256 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.drawing;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.jgrapht.alg.drawing.model.Box2D;
+import org.jgrapht.alg.util.ToleranceDoubleComparator;
+import org.jgrapht.capi.custom.util.ParallelUtil;
+
+/**
+ * The iterations of the Fruchterman and Reingold algorithm on vertices numbered $0, \dots, n-1$
+ * whose coordinates are kept in primitive arrays.
+ *
+ * <p>
+ * Repulsive forces are approximated using the Barnes-Hut technique on a {@link FlatQuadTree}. A
+ * node of the tree is used as a single point, weighted by the number of points below it, when the
+ * ratio of its width to its distance is less than $\theta$. With $\theta = 0$ the forces are exact.
+ * Forces are computed in parallel on a pool which is reused across iterations. The result is
+ * independent of the number of threads.
+ *
+ * <p>
+ * Optionally, only a subset of active vertices is moved, while all vertices exert forces, and the
+ * displacement of each vertex is scaled by a mobility in $[0, 1]$.
+ *
+ * @author Dimitrios Michail
+ */
+class ArrayFRLayout
+{
+    private final int n;
+    private final int[] offsets;
+    private final int[] neighbors;
+    private final double[] x;
+    private final double[] y;
+    private final boolean[] fixed;
+    private final Box2D area;
+    private final double optimalDistance;
+    private final double theta;
+    private final ToleranceDoubleComparator comparator;
+    private final ForkJoinPool pool;
+
+    private int[] active;
+    private double[] mobility;
+
+    private final FlatQuadTree tree;
+    private final double[] dispX;
+    private final double[] dispY;
+
+    /**
+     * Create a new layout.
+     *
+     * @param n the number of vertices
+     * @param offsets the adjacency offsets of size $n+1$, neighbors of vertex $v$ are stored in
+     *        positions $[offsets[v], offsets[v+1])$ of the neighbors array
+     * @param neighbors the neighbors, each edge must appear in the lists of both endpoints
+     * @param x the x coordinates, updated in place
+     * @param y the y coordinates, updated in place
+     * @param fixed which vertices should not be moved, may be null
+     * @param area the drawable area
+     * @param optimalDistance the optimal distance between vertices
+     * @param theta parameter for approximation using the Barnes-Hut technique
+     * @param tolerance tolerance used when comparing floating point values
+     * @param pool the pool used for the force calculations, null to use the calling thread
+     */
+    public ArrayFRLayout(
+        int n, int[] offsets, int[] neighbors, double[] x, double[] y, boolean[] fixed, Box2D area,
+        double optimalDistance, double theta, double tolerance, ForkJoinPool pool)
+    {
+        this.n = n;
+        this.offsets = offsets;
+        this.neighbors = neighbors;
+        this.x = x;
+        this.y = y;
+        this.fixed = fixed;
+        this.area = area;
+        this.optimalDistance = optimalDistance;
+        this.theta = theta;
+        this.comparator = new ToleranceDoubleComparator(tolerance);
+        this.pool = pool;
+        this.tree = new FlatQuadTree();
+        this.dispX = new double[n];
+        this.dispY = new double[n];
+    }
+
+    /**
+     * Set the vertices which are moved. Forces are only computed for these vertices.
+     *
+     * @param active the active vertices, or null for all vertices
+     */
+    public void setActive(int[] active)
+    {
+        this.active = active;
+    }
+
+    /**
+     * Set a factor in $[0, 1]$ per vertex by which its displacement is scaled.
+     *
+     * @param mobility the mobility per vertex, or null for no scaling
+     */
+    public void setMobility(double[] mobility)
+    {
+        this.mobility = mobility;
+    }
+
+    /**
+     * Execute a number of iterations with a temperature which decreases linearly from an initial
+     * value down to zero in the last iteration.
+     *
+     * @param iterations the number of iterations
+     * @param initialTemperature the initial temperature
+     */
+    public void run(int iterations, double initialTemperature)
+    {
+        for (int i = 0; i < iterations; i++) {
+            double temperature = i >= iterations - 1 ? 0d
+                : initialTemperature - initialTemperature * i / iterations;
+            iterate(temperature);
+        }
+    }
+
+    /**
+     * Execute a single iteration.
+     *
+     * @param temperature the maximum displacement of any vertex
+     */
+    public void iterate(double temperature)
+    {
+        if (n == 0) {
+            return;
+        }
+        tree.build(x, y, n);
+
+        int size = active == null ? n : active.length;
+        ParallelUtil.forEachChunk(pool, size, (from, to) -> {
+            int[] stack = new int[64];
+            for (int i = from; i < to; i++) {
+                int v = active == null ? i : active[i];
+                stack = repulsiveForce(v, stack);
+                attractiveForce(v);
+            }
+        });
+
+        double minX = area.getMinX();
+        double minY = area.getMinY();
+        double maxX = minX + area.getWidth();
+        double maxY = minY + area.getHeight();
+        ParallelUtil.forEachChunk(pool, size, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                int v = active == null ? i : active[i];
+                if (fixed != null && fixed[v]) {
+                    continue;
+                }
+                double dx = dispX[v];
+                double dy = dispY[v];
+                if (comparator.compare(dx, 0d) != 0 && comparator.compare(dy, 0d) != 0) {
+                    double len = Math.sqrt(dx * dx + dy * dy);
+                    double scale = Math.min(len, temperature) / len;
+                    if (mobility != null) {
+                        scale *= mobility[v];
+                    }
+                    x[v] = Math.min(maxX, Math.max(minX, x[v] + dx * scale));
+                    y[v] = Math.min(maxY, Math.max(minY, y[v] + dy * scale));
+                }
+            }
+        });
+    }
+
+    private int[] repulsiveForce(int v, int[] stack)
+    {
+        double vx = x[v];
+        double vy = y[v];
+        double k2 = optimalDistance * optimalDistance;
+        double fx = 0d, fy = 0d;
+
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            int count = tree.count(node);
+            if (count == 0) {
+                continue;
+            }
+            double ux = tree.centroidX(node);
+            double uy = tree.centroidY(node);
+            boolean coincident =
+                comparator.compare(vx, ux) == 0 && comparator.compare(vy, uy) == 0;
+            int child = tree.firstChild(node);
+
+            if (child != -1) {
+                // a node containing the vertex itself is never aggregated
+                boolean expand = coincident || tree.contains(node, vx, vy);
+                if (!expand) {
+                    double dx = vx - ux, dy = vy - uy;
+                    expand = tree.width(node) / Math.sqrt(dx * dx + dy * dy) >= theta;
+                }
+                if (expand) {
+                    if (top + 4 > stack.length) {
+                        stack = Arrays.copyOf(stack, 2 * stack.length);
+                    }
+                    for (int c = 0; c < 4; c++) {
+                        stack[top++] = child + c;
+                    }
+                    continue;
+                }
+            } else if (coincident) {
+                continue;
+            }
+
+            double dx = vx - ux, dy = vy - uy;
+            double scale = count * k2 / (dx * dx + dy * dy);
+            fx += dx * scale;
+            fy += dy * scale;
+        }
+
+        dispX[v] = fx;
+        dispY[v] = fy;
+        return stack;
+    }
+
+    private void attractiveForce(int v)
+    {
+        double vx = x[v];
+        double vy = y[v];
+        double fx = 0d, fy = 0d;
+        for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+            int u = neighbors[i];
+            double ux = x[u];
+            double uy = y[u];
+            if (comparator.compare(vx, ux) != 0 || comparator.compare(vy, uy) != 0) {
+                double dx = vx - ux, dy = vy - uy;
+                double scale = Math.sqrt(dx * dx + dy * dy) / optimalDistance;
+                fx -= dx * scale;
+                fy -= dy * scale;
+            }
+        }
+        dispX[v] += fx;
+        dispY[v] += fy;
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.drawing;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import org.jgrapht.alg.drawing.model.Box2D;
+import org.jgrapht.alg.drawing.model.LayoutModel2D;
+import org.jgrapht.alg.drawing.model.Point2D;
+
+/**
+ * A layout model for graphs with non-negative integer vertices, which stores the coordinates in
+ * primitive arrays indexed by the vertex.
+ *
+ * <p>
+ * Besides the {@link LayoutModel2D} methods, the model offers methods which read and write
+ * coordinates without creating {@link Point2D} instances. The arrays grow up to the largest vertex
+ * which has been stored, thus the model is suitable for graphs whose vertices are (close to)
+ * $0, \dots, n-1$.
+ *
+ * @author Dimitrios Michail
+ */
+public class ArrayLayoutModel2D
+    implements
+    LayoutModel2D<Integer>
+{
+    private Box2D drawableArea;
+    private double[] x;
+    private double[] y;
+    private final BitSet present;
+    private final BitSet fixed;
+
+    /**
+     * Create a new model.
+     *
+     * @param drawableArea the drawable area
+     */
+    public ArrayLayoutModel2D(Box2D drawableArea)
+    {
+        this(drawableArea, 0);
+    }
+
+    /**
+     * Create a new model.
+     *
+     * @param drawableArea the drawable area
+     * @param capacity the expected number of vertices
+     */
+    public ArrayLayoutModel2D(Box2D drawableArea, int capacity)
+    {
+        this.drawableArea = drawableArea;
+        this.x = new double[Math.max(0, capacity)];
+        this.y = new double[Math.max(0, capacity)];
+        this.present = new BitSet();
+        this.fixed = new BitSet();
+    }
+
+    @Override
+    public Box2D getDrawableArea()
+    {
+        return drawableArea;
+    }
+
+    @Override
+    public void setDrawableArea(Box2D drawableArea)
+    {
+        this.drawableArea = drawableArea;
+    }
+
+    @Override
+    public Iterator<Map.Entry<Integer, Point2D>> iterator()
+    {
+        return new Iterator<Map.Entry<Integer, Point2D>>()
+        {
+            private int next = present.nextSetBit(0);
+
+            @Override
+            public boolean hasNext()
+            {
+                return next >= 0;
+            }
+
+            @Override
+            public Map.Entry<Integer, Point2D> next()
+            {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                int v = next;
+                next = present.nextSetBit(v + 1);
+                return new AbstractMap.SimpleImmutableEntry<>(v, Point2D.of(x[v], y[v]));
+            }
+        };
+    }
+
+    @Override
+    public Point2D get(Integer vertex)
+    {
+        int v = vertex;
+        return contains(v) ? Point2D.of(x[v], y[v]) : null;
+    }
+
+    @Override
+    public Point2D put(Integer vertex, Point2D point)
+    {
+        Objects.requireNonNull(point);
+        Point2D old = get(vertex);
+        put(vertex.intValue(), point.getX(), point.getY());
+        return old;
+    }
+
+    @Override
+    public void setFixed(Integer vertex, boolean fixed)
+    {
+        setFixed(vertex.intValue(), fixed);
+    }
+
+    @Override
+    public boolean isFixed(Integer vertex)
+    {
+        int v = vertex;
+        return v >= 0 && fixed.get(v);
+    }
+
+    /**
+     * Whether a vertex has a position.
+     *
+     * @param v the vertex
+     * @return true if the vertex has a position
+     */
+    public boolean contains(int v)
+    {
+        return v >= 0 && present.get(v);
+    }
+
+    /**
+     * Get the x coordinate of a vertex.
+     *
+     * @param v the vertex
+     * @return the x coordinate or NaN if the vertex has no position
+     */
+    public double getX(int v)
+    {
+        return contains(v) ? x[v] : Double.NaN;
+    }
+
+    /**
+     * Get the y coordinate of a vertex.
+     *
+     * @param v the vertex
+     * @return the y coordinate or NaN if the vertex has no position
+     */
+    public double getY(int v)
+    {
+        return contains(v) ? y[v] : Double.NaN;
+    }
+
+    /**
+     * Set the position of a vertex. Similarly to
+     * {@link org.jgrapht.alg.drawing.model.MapLayoutModel2D}, the position of a fixed vertex is
+     * only set if the vertex has no position.
+     *
+     * @param v the vertex
+     * @param px the x coordinate
+     * @param py the y coordinate
+     * @throws IllegalArgumentException if the vertex is negative
+     */
+    public void put(int v, double px, double py)
+    {
+        checkVertex(v);
+        if (fixed.get(v) && present.get(v)) {
+            return;
+        }
+        if (v >= x.length) {
+            int capacity = Math.max(Math.max(16, v + 1), x.length + (x.length >> 1));
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+        }
+        x[v] = px;
+        y[v] = py;
+        present.set(v);
+    }
+
+    /**
+     * Set whether a vertex is fixed.
+     *
+     * @param v the vertex
+     * @param value whether the vertex is fixed
+     * @throws IllegalArgumentException if the vertex is negative
+     */
+    public void setFixed(int v, boolean value)
+    {
+        checkVertex(v);
+        fixed.set(v, value);
+    }
+
+    private static void checkVertex(int v)
+    {
+        if (v < 0) {
+            throw new IllegalArgumentException("Vertex must be non-negative");
+        }
+    }
+
+}
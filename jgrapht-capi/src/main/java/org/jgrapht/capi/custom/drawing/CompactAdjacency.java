@@ -0,0 +1,66 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.drawing;
+
+import java.util.Arrays;
+
+/**
+ * The adjacency of a graph with vertices $0, \dots, n-1$ in compressed sparse row format. Each edge
+ * appears in the neighbors of both endpoints, as expected by {@link ArrayFRLayout}.
+ *
+ * @author Dimitrios Michail
+ */
+class CompactAdjacency
+{
+    final int n;
+    final int[] offsets;
+    final int[] neighbors;
+
+    /**
+     * Create the adjacency from a list of edges.
+     *
+     * @param n the number of vertices
+     * @param sources the edge sources
+     * @param targets the edge targets
+     */
+    CompactAdjacency(int n, int[] sources, int[] targets)
+    {
+        int m = sources.length;
+        this.n = n;
+        this.offsets = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            offsets[sources[e] + 1]++;
+            offsets[targets[e] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int[] next = Arrays.copyOf(offsets, n);
+        this.neighbors = new int[2 * m];
+        for (int e = 0; e < m; e++) {
+            neighbors[next[sources[e]]++] = targets[e];
+            neighbors[next[targets[e]]++] = sources[e];
+        }
+    }
+
+    int degree(int v)
+    {
+        return offsets[v + 1] - offsets[v];
+    }
+
+}
@@ -0,0 +1,260 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.drawing;
+
+import java.util.Arrays;
+
+/**
+ * A <a href="https://en.wikipedia.org/wiki/Quadtree">QuadTree</a> stored in flat primitive arrays,
+ * used by the Barnes-Hut approximation of {@link ArrayFRLayout}.
+ *
+ * <p>
+ * Nodes are identified by their index and the four children of an internal node are stored
+ * consecutively. Each node keeps the number of points below it and their centroid. A leaf holds
+ * either a single point or several points with identical coordinates. The tree is rebuilt from
+ * scratch for every iteration and reuses its arrays between rebuilds.
+ *
+ * @author Dimitrios Michail
+ */
+class FlatQuadTree
+{
+    /**
+     * Maximum depth of the tree. Points which still share a cell at this depth are merged into
+     * the same leaf, which protects against unbounded splitting of (nearly) coincident points.
+     */
+    private static final int MAX_DEPTH = 48;
+
+    private int size;
+    private double[] minX;
+    private double[] minY;
+    private double[] width;
+    private double[] height;
+    private double[] centroidX;
+    private double[] centroidY;
+    private int[] count;
+    private int[] firstChild;
+    private int[] depth;
+
+    /**
+     * Create a new empty tree.
+     */
+    public FlatQuadTree()
+    {
+        allocate(16);
+    }
+
+    /**
+     * Rebuild the tree for a set of points.
+     *
+     * @param x the x coordinates
+     * @param y the y coordinates
+     * @param n the number of points
+     */
+    public void build(double[] x, double[] y, int n)
+    {
+        double lx = Double.POSITIVE_INFINITY, ly = Double.POSITIVE_INFINITY;
+        double ux = Double.NEGATIVE_INFINITY, uy = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            lx = Math.min(lx, x[i]);
+            ly = Math.min(ly, y[i]);
+            ux = Math.max(ux, x[i]);
+            uy = Math.max(uy, y[i]);
+        }
+        if (4 * n + 1 > minX.length) {
+            allocate(4 * n + 1);
+        }
+
+        size = 1;
+        if (n == 0) {
+            count[0] = 0;
+            firstChild[0] = -1;
+            return;
+        }
+        initNode(0, lx, ly, ux - lx, uy - ly, 0);
+
+        // centroids hold coordinate sums during construction
+        for (int i = 0; i < n; i++) {
+            insert(x[i], y[i]);
+        }
+        for (int k = 0; k < size; k++) {
+            if (count[k] > 0) {
+                centroidX[k] /= count[k];
+                centroidY[k] /= count[k];
+            }
+        }
+    }
+
+    private void insert(double px, double py)
+    {
+        int cur = 0;
+        while (true) {
+            if (firstChild[cur] == -1) {
+                int c = count[cur];
+                if (c == 0) {
+                    count[cur] = 1;
+                    centroidX[cur] = px;
+                    centroidY[cur] = py;
+                    return;
+                }
+                // all points of a leaf share the same coordinates
+                double qx = centroidX[cur] / c;
+                double qy = centroidY[cur] / c;
+                if ((qx == px && qy == py) || depth[cur] >= MAX_DEPTH) {
+                    count[cur]++;
+                    centroidX[cur] += px;
+                    centroidY[cur] += py;
+                    return;
+                }
+                split(cur);
+                int child = childFor(cur, qx, qy);
+                count[child] = c;
+                centroidX[child] = centroidX[cur];
+                centroidY[child] = centroidY[cur];
+            }
+
+            count[cur]++;
+            centroidX[cur] += px;
+            centroidY[cur] += py;
+            cur = childFor(cur, px, py);
+        }
+    }
+
+    private void split(int k)
+    {
+        if (size + 4 > minX.length) {
+            grow(2 * minX.length);
+        }
+        int first = size;
+        size += 4;
+        firstChild[k] = first;
+        double hw = width[k] / 2d;
+        double hh = height[k] / 2d;
+        int d = depth[k] + 1;
+        initNode(first, minX[k], minY[k], hw, hh, d);
+        initNode(first + 1, minX[k] + hw, minY[k], hw, hh, d);
+        initNode(first + 2, minX[k], minY[k] + hh, hw, hh, d);
+        initNode(first + 3, minX[k] + hw, minY[k] + hh, hw, hh, d);
+    }
+
+    private int childFor(int k, double px, double py)
+    {
+        int child = firstChild[k];
+        if (px >= minX[k] + width[k] / 2d) {
+            child += 1;
+        }
+        if (py >= minY[k] + height[k] / 2d) {
+            child += 2;
+        }
+        return child;
+    }
+
+    private void initNode(int k, double x, double y, double w, double h, int d)
+    {
+        minX[k] = x;
+        minY[k] = y;
+        width[k] = w;
+        height[k] = h;
+        centroidX[k] = 0d;
+        centroidY[k] = 0d;
+        count[k] = 0;
+        firstChild[k] = -1;
+        depth[k] = d;
+    }
+
+    private void allocate(int capacity)
+    {
+        minX = new double[capacity];
+        minY = new double[capacity];
+        width = new double[capacity];
+        height = new double[capacity];
+        centroidX = new double[capacity];
+        centroidY = new double[capacity];
+        count = new int[capacity];
+        firstChild = new int[capacity];
+        depth = new int[capacity];
+    }
+
+    private void grow(int capacity)
+    {
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        centroidX = Arrays.copyOf(centroidX, capacity);
+        centroidY = Arrays.copyOf(centroidY, capacity);
+        count = Arrays.copyOf(count, capacity);
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        depth = Arrays.copyOf(depth, capacity);
+    }
+
+    /**
+     * Get the number of nodes.
+     *
+     * @return the number of nodes
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Get the index of the first of the four children of a node.
+     *
+     * @param k the node
+     * @return the index of the first child or -1 if the node is a leaf
+     */
+    public int firstChild(int k)
+    {
+        return firstChild[k];
+    }
+
+    /**
+     * Whether a point lies inside the box of a node.
+     *
+     * @param k the node
+     * @param px the x coordinate
+     * @param py the y coordinate
+     * @return true if the point lies inside the box of the node
+     */
+    public boolean contains(int k, double px, double py)
+    {
+        return px >= minX[k] && px <= minX[k] + width[k] && py >= minY[k]
+            && py <= minY[k] + height[k];
+    }
+
+    public int count(int k)
+    {
+        return count[k];
+    }
+
+    public double width(int k)
+    {
+        return width[k];
+    }
+
+    public double centroidX(int k)
+    {
+        return centroidX[k];
+    }
+
+    public double centroidY(int k)
+    {
+        return centroidY[k];
+    }
+
+}
@@ -0,0 +1,301 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.drawing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.jgrapht.Graph;
+import org.jgrapht.alg.drawing.model.Box2D;
+import org.jgrapht.alg.drawing.model.LayoutModel2D;
+import org.jgrapht.alg.drawing.model.Point2D;
+import org.jgrapht.alg.util.ToleranceDoubleComparator;
+import org.jgrapht.capi.custom.util.ParallelUtil;
+
+/**
+ * Incremental Fruchterman and Reingold Force-Directed Placement Algorithm, which updates an
+ * existing layout after vertices have been added to the graph.
+ *
+ * <p>
+ * Vertices without a position in the layout model are considered new. Each new vertex is placed
+ * at the barycenter of its already placed neighbors, in breadth-first order starting from the
+ * existing layout. New vertices which are not connected to any placed vertex get random positions.
+ * Then a few iterations of the force model of {@link ParallelFRLayoutAlgorithm2D} are executed
+ * only on the new vertices and the vertices within a number of hops from them. All other vertices
+ * keep their position but still exert forces. The displacement of previously placed vertices is
+ * scaled down by $1 - s$ where $s \in [0, 1]$ is the stiffness, thus a stiffness of one keeps all
+ * of them in place.
+ *
+ * @author Dimitrios Michail
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class IncrementalFRLayoutAlgorithm2D<V, E>
+    extends
+    BaseLayoutAlgorithm2D<V, E>
+{
+    protected Random rng;
+    protected int iterations;
+    protected double stiffness;
+    protected int radius;
+    protected double theta;
+    protected double normalizationFactor;
+    protected double tolerance;
+    protected int parallelism;
+
+    /**
+     * Create a new layout algorithm
+     *
+     * @param iterations number of refinement iterations
+     * @param stiffness how strongly previously placed vertices keep their position, in $[0, 1]$
+     * @param radius number of hops around the new vertices whose vertices are refined
+     * @param theta theta parameter for the Barnes-Hut approximation
+     * @param normalizationFactor normalization factor for the optimal distance
+     * @param rng the random number generator
+     * @param tolerance tolerance used when comparing floating point values
+     * @param parallelism the number of threads
+     */
+    public IncrementalFRLayoutAlgorithm2D(
+        int iterations, double stiffness, int radius, double theta, double normalizationFactor,
+        Random rng, double tolerance, int parallelism)
+    {
+        this.rng = Objects.requireNonNull(rng);
+        this.iterations = iterations;
+        if (stiffness < 0d || stiffness > 1d) {
+            throw new IllegalArgumentException("Illegal stiffness value");
+        }
+        this.stiffness = stiffness;
+        if (radius < 0) {
+            throw new IllegalArgumentException("Radius must be non-negative");
+        }
+        this.radius = radius;
+        this.theta = theta;
+        if (theta < 0d || theta > 1d) {
+            throw new IllegalArgumentException("Illegal theta value");
+        }
+        this.normalizationFactor = normalizationFactor;
+        this.tolerance = tolerance;
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Create a new layout algorithm
+     *
+     * @param iterations number of refinement iterations
+     * @param stiffness how strongly previously placed vertices keep their position, in $[0, 1]$
+     * @param radius number of hops around the new vertices whose vertices are refined
+     * @param theta theta parameter for the Barnes-Hut approximation
+     * @param normalizationFactor normalization factor for the optimal distance
+     * @param rng the random number generator
+     * @param parallelism the number of threads
+     */
+    public IncrementalFRLayoutAlgorithm2D(
+        int iterations, double stiffness, int radius, double theta, double normalizationFactor,
+        Random rng, int parallelism)
+    {
+        this(
+            iterations, stiffness, radius, theta, normalizationFactor, rng,
+            ToleranceDoubleComparator.DEFAULT_EPSILON, parallelism);
+    }
+
+    @Override
+    public void layout(Graph<V, E> graph, LayoutModel2D<V> model)
+    {
+        int n = graph.vertexSet().size();
+        if (n == 0) {
+            return;
+        }
+        Box2D drawableArea = model.getDrawableArea();
+        double minX = drawableArea.getMinX();
+        double minY = drawableArea.getMinY();
+        double width = drawableArea.getWidth();
+        double height = drawableArea.getHeight();
+        double k = normalizationFactor * Math.sqrt(width * height / n);
+
+        // index vertices
+        List<V> vertices = new ArrayList<>(graph.vertexSet());
+        Map<V, Integer> index = new HashMap<>();
+        double[] x = new double[n];
+        double[] y = new double[n];
+        boolean[] placed = new boolean[n];
+        boolean[] fixed = new boolean[n];
+        int newCount = 0;
+        for (int i = 0; i < n; i++) {
+            V v = vertices.get(i);
+            index.put(v, i);
+            Point2D p = model.get(v);
+            if (p != null) {
+                x[i] = p.getX();
+                y[i] = p.getY();
+                placed[i] = true;
+                fixed[i] = model.isFixed(v);
+            } else {
+                newCount++;
+            }
+        }
+        if (newCount == 0) {
+            return;
+        }
+
+        int m = graph.edgeSet().size();
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        int e = 0;
+        for (E edge : graph.edgeSet()) {
+            sources[e] = index.get(graph.getEdgeSource(edge));
+            targets[e] = index.get(graph.getEdgeTarget(edge));
+            e++;
+        }
+        CompactAdjacency adjacency = new CompactAdjacency(n, sources, targets);
+
+        // place new vertices, round by round, at the barycenter of placed neighbors
+        int[] newVertices = new int[newCount];
+        boolean[] isNew = new boolean[n];
+        boolean[] queued = new boolean[n];
+        int[] round = new int[n];
+        int roundSize = 0;
+        for (int v = 0, j = 0; v < n; v++) {
+            if (!placed[v]) {
+                newVertices[j++] = v;
+                isNew[v] = true;
+                if (hasPlacedNeighbor(adjacency, placed, v)) {
+                    queued[v] = true;
+                    round[roundSize++] = v;
+                }
+            }
+        }
+        int[] nextRound = new int[n];
+        while (roundSize > 0) {
+            for (int j = 0; j < roundSize; j++) {
+                int v = round[j];
+                double sx = 0d, sy = 0d;
+                int count = 0;
+                for (int i = adjacency.offsets[v]; i < adjacency.offsets[v + 1]; i++) {
+                    int u = adjacency.neighbors[i];
+                    if (placed[u]) {
+                        sx += x[u];
+                        sy += y[u];
+                        count++;
+                    }
+                }
+                x[v] = clamp(sx / count + (rng.nextDouble() - 0.5d) * k, minX, width);
+                y[v] = clamp(sy / count + (rng.nextDouble() - 0.5d) * k, minY, height);
+            }
+            int nextSize = 0;
+            for (int j = 0; j < roundSize; j++) {
+                placed[round[j]] = true;
+            }
+            for (int j = 0; j < roundSize; j++) {
+                int v = round[j];
+                for (int i = adjacency.offsets[v]; i < adjacency.offsets[v + 1]; i++) {
+                    int u = adjacency.neighbors[i];
+                    if (!placed[u] && !queued[u]) {
+                        queued[u] = true;
+                        nextRound[nextSize++] = u;
+                    }
+                }
+            }
+            int[] tmp = round;
+            round = nextRound;
+            nextRound = tmp;
+            roundSize = nextSize;
+        }
+        for (int v : newVertices) {
+            if (!placed[v]) {
+                x[v] = minX + rng.nextDouble() * width;
+                y[v] = minY + rng.nextDouble() * height;
+                placed[v] = true;
+            }
+        }
+
+        // the changed region
+        int[] distance = new int[n];
+        Arrays.fill(distance, -1);
+        int[] active = new int[n];
+        int activeSize = 0;
+        for (int v : newVertices) {
+            distance[v] = 0;
+            active[activeSize++] = v;
+        }
+        for (int head = 0; head < activeSize; head++) {
+            int v = active[head];
+            if (distance[v] == radius) {
+                continue;
+            }
+            for (int i = adjacency.offsets[v]; i < adjacency.offsets[v + 1]; i++) {
+                int u = adjacency.neighbors[i];
+                if (distance[u] == -1) {
+                    distance[u] = distance[v] + 1;
+                    active[activeSize++] = u;
+                }
+            }
+        }
+        active = Arrays.copyOf(active, activeSize);
+        double[] mobility = new double[n];
+        for (int v : active) {
+            mobility[v] = isNew[v] ? 1d : 1d - stiffness;
+        }
+
+        // refine
+        ForkJoinPool pool = parallelism > 1 ? ParallelUtil.createPool(parallelism) : null;
+        try {
+            ArrayFRLayout layout = new ArrayFRLayout(
+                n, adjacency.offsets, adjacency.neighbors, x, y, fixed, drawableArea, k, theta,
+                tolerance, pool);
+            layout.setActive(active);
+            layout.setMobility(mobility);
+            layout.run(iterations, Math.min(Math.min(width, height) / 10d, k));
+        } finally {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+        }
+
+        for (int v : active) {
+            if (!fixed[v]) {
+                model.put(vertices.get(v), Point2D.of(x[v], y[v]));
+            }
+        }
+    }
+
+    private static boolean hasPlacedNeighbor(CompactAdjacency adjacency, boolean[] placed, int v)
+    {
+        for (int i = adjacency.offsets[v]; i < adjacency.offsets[v + 1]; i++) {
+            if (placed[adjacency.neighbors[i]]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static double clamp(double value, double min, double length)
+    {
+        return Math.min(min + length, Math.max(min, value));
+    }
+
+}
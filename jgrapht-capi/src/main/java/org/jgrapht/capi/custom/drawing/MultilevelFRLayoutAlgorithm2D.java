@@ -0,0 +1,388 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.drawing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.jgrapht.Graph;
+import org.jgrapht.alg.drawing.model.Box2D;
+import org.jgrapht.alg.drawing.model.LayoutModel2D;
+import org.jgrapht.alg.drawing.model.Point2D;
+import org.jgrapht.alg.util.ToleranceDoubleComparator;
+import org.jgrapht.capi.custom.util.ParallelUtil;
+
+/**
+ * Multilevel Fruchterman and Reingold Force-Directed Placement Algorithm.
+ *
+ * <p>
+ * The graph is repeatedly coarsened by contracting a maximal matching, until it becomes small. The
+ * coarsest graph is laid out from random positions. Then, level by level, each vertex is placed
+ * close to the position of the coarse vertex it was contracted into and the layout is refined with
+ * a few iterations of the force model of {@link ParallelFRLayoutAlgorithm2D}. Since the number of
+ * vertices decreases geometrically from level to level, the total running time is dominated by the
+ * Barnes-Hut iterations on the original graph. See the following paper for the general scheme.
+ *
+ * <ul>
+ * <li>C. Walshaw. A Multilevel Algorithm for Force-Directed Graph-Drawing. Journal of Graph
+ * Algorithms and Applications, 7(3):253--285, 2003.</li>
+ * </ul>
+ *
+ * <p>
+ * Vertices which are fixed in the layout model keep their position on the original graph.
+ *
+ * @author Dimitrios Michail
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class MultilevelFRLayoutAlgorithm2D<V, E>
+    extends
+    BaseLayoutAlgorithm2D<V, E>
+{
+    /**
+     * Coarsening stops when a level has at most this many vertices.
+     */
+    public static final int COARSEST_SIZE = 50;
+
+    /**
+     * Coarsening stops when a level is not smaller than this fraction of the previous one.
+     */
+    public static final double MAX_COARSENING_RATIO = 0.9;
+
+    protected Random rng;
+    protected int iterations;
+    protected int refinementIterations;
+    protected double theta;
+    protected double normalizationFactor;
+    protected double tolerance;
+    protected int parallelism;
+
+    /**
+     * Create a new layout algorithm
+     *
+     * @param iterations number of iterations on the coarsest level
+     * @param refinementIterations number of iterations on each other level
+     * @param theta theta parameter for the Barnes-Hut approximation
+     * @param normalizationFactor normalization factor for the optimal distance
+     * @param rng the random number generator
+     * @param tolerance tolerance used when comparing floating point values
+     * @param parallelism the number of threads
+     */
+    public MultilevelFRLayoutAlgorithm2D(
+        int iterations, int refinementIterations, double theta, double normalizationFactor,
+        Random rng, double tolerance, int parallelism)
+    {
+        this.rng = Objects.requireNonNull(rng);
+        this.iterations = iterations;
+        this.refinementIterations = refinementIterations;
+        this.theta = theta;
+        if (theta < 0d || theta > 1d) {
+            throw new IllegalArgumentException("Illegal theta value");
+        }
+        this.normalizationFactor = normalizationFactor;
+        this.tolerance = tolerance;
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Create a new layout algorithm
+     *
+     * @param iterations number of iterations on the coarsest level
+     * @param refinementIterations number of iterations on each other level
+     * @param theta theta parameter for the Barnes-Hut approximation
+     * @param normalizationFactor normalization factor for the optimal distance
+     * @param rng the random number generator
+     * @param parallelism the number of threads
+     */
+    public MultilevelFRLayoutAlgorithm2D(
+        int iterations, int refinementIterations, double theta, double normalizationFactor,
+        Random rng, int parallelism)
+    {
+        this(
+            iterations, refinementIterations, theta, normalizationFactor, rng,
+            ToleranceDoubleComparator.DEFAULT_EPSILON, parallelism);
+    }
+
+    @Override
+    public void layout(Graph<V, E> graph, LayoutModel2D<V> model)
+    {
+        int n = graph.vertexSet().size();
+        if (n == 0) {
+            return;
+        }
+        Box2D drawableArea = model.getDrawableArea();
+        double minX = drawableArea.getMinX();
+        double minY = drawableArea.getMinY();
+        double width = drawableArea.getWidth();
+        double height = drawableArea.getHeight();
+
+        // index vertices
+        List<V> vertices = new ArrayList<>(graph.vertexSet());
+        Map<V, Integer> index = new HashMap<>();
+        boolean[] fixed = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            V v = vertices.get(i);
+            index.put(v, i);
+            fixed[i] = model.isFixed(v) && model.get(v) != null;
+        }
+
+        // adjacency in both directions
+        int m = graph.edgeSet().size();
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        int e = 0;
+        for (E edge : graph.edgeSet()) {
+            sources[e] = index.get(graph.getEdgeSource(edge));
+            targets[e] = index.get(graph.getEdgeTarget(edge));
+            e++;
+        }
+        Level finest = new Level(n, sources, targets);
+
+        // coarsen
+        List<Level> levels = new ArrayList<>();
+        levels.add(finest);
+        Level cur = finest;
+        while (cur.n > COARSEST_SIZE) {
+            Level coarse = coarsen(cur);
+            if (coarse.n > MAX_COARSENING_RATIO * cur.n) {
+                cur.parent = null;
+                break;
+            }
+            levels.add(coarse);
+            cur = coarse;
+        }
+
+        ForkJoinPool pool = parallelism > 1 ? ParallelUtil.createPool(parallelism) : null;
+        try {
+            // layout coarsest level
+            Level coarsest = levels.get(levels.size() - 1);
+            double[] x = new double[coarsest.n];
+            double[] y = new double[coarsest.n];
+            for (int v = 0; v < coarsest.n; v++) {
+                x[v] = minX + rng.nextDouble() * width;
+                y[v] = minY + rng.nextDouble() * height;
+            }
+            boolean[] coarsestFixed = coarsest == finest ? fixed : null;
+            if (coarsest == finest) {
+                placeFixed(vertices, model, fixed, x, y);
+            }
+            new ArrayFRLayout(
+                coarsest.n, coarsest.offsets, coarsest.neighbors, x, y, coarsestFixed,
+                drawableArea, optimalDistance(drawableArea, coarsest.n), theta, tolerance, pool)
+                    .run(iterations, Math.min(width, height) / 10d);
+
+            // interpolate and refine
+            for (int l = levels.size() - 2; l >= 0; l--) {
+                Level level = levels.get(l);
+                double k = optimalDistance(drawableArea, level.n);
+                double[] fx = new double[level.n];
+                double[] fy = new double[level.n];
+                for (int v = 0; v < level.n; v++) {
+                    int p = level.parent[v];
+                    fx[v] = Math.min(
+                        minX + width, Math.max(minX, x[p] + (rng.nextDouble() - 0.5d) * k));
+                    fy[v] = Math.min(
+                        minY + height, Math.max(minY, y[p] + (rng.nextDouble() - 0.5d) * k));
+                }
+                x = fx;
+                y = fy;
+                if (level == finest) {
+                    placeFixed(vertices, model, fixed, x, y);
+                }
+                new ArrayFRLayout(
+                    level.n, level.offsets, level.neighbors, x, y, level == finest ? fixed : null,
+                    drawableArea, k, theta, tolerance, pool)
+                        .run(refinementIterations, Math.min(Math.min(width, height) / 10d, k));
+            }
+
+            for (int i = 0; i < n; i++) {
+                if (!fixed[i]) {
+                    model.put(vertices.get(i), Point2D.of(x[i], y[i]));
+                }
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    private double optimalDistance(Box2D drawableArea, int n)
+    {
+        return normalizationFactor
+            * Math.sqrt(drawableArea.getWidth() * drawableArea.getHeight() / n);
+    }
+
+    private void placeFixed(
+        List<V> vertices, LayoutModel2D<V> model, boolean[] fixed, double[] x, double[] y)
+    {
+        for (int i = 0; i < fixed.length; i++) {
+            if (fixed[i]) {
+                Point2D p = model.get(vertices.get(i));
+                x[i] = p.getX();
+                y[i] = p.getY();
+            }
+        }
+    }
+
+    /**
+     * Contract a maximal matching. Vertices are visited in random order and matched with the
+     * unmatched neighbor of smallest degree. A vertex whose neighbors are all matched joins the
+     * smallest neighboring group, which lets stars collapse quickly, and isolated vertices are
+     * paired with each other.
+     */
+    private Level coarsen(Level level)
+    {
+        int n = level.n;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            int t = order[i];
+            order[i] = order[j];
+            order[j] = t;
+        }
+
+        int[] parent = new int[n];
+        Arrays.fill(parent, -1);
+        int[] groupSize = new int[n];
+        int nc = 0;
+        int isolated = -1;
+        for (int v : order) {
+            if (parent[v] != -1) {
+                continue;
+            }
+            int best = -1;
+            boolean hasNeighbors = false;
+            for (int i = level.offsets[v]; i < level.offsets[v + 1]; i++) {
+                int u = level.neighbors[i];
+                if (u == v) {
+                    continue;
+                }
+                hasNeighbors = true;
+                if (parent[u] == -1 && (best == -1 || level.degree(u) < level.degree(best))) {
+                    best = u;
+                }
+            }
+            if (best != -1) {
+                parent[v] = nc;
+                parent[best] = nc;
+                groupSize[nc++] = 2;
+            } else if (!hasNeighbors) {
+                if (isolated == -1) {
+                    isolated = v;
+                } else {
+                    parent[isolated] = nc;
+                    parent[v] = nc;
+                    groupSize[nc++] = 2;
+                    isolated = -1;
+                }
+            }
+        }
+        if (isolated != -1) {
+            parent[isolated] = nc;
+            groupSize[nc++] = 1;
+        }
+        for (int v : order) {
+            if (parent[v] != -1) {
+                continue;
+            }
+            // all neighbors were matched when v was visited
+            int best = -1;
+            for (int i = level.offsets[v]; i < level.offsets[v + 1]; i++) {
+                int u = level.neighbors[i];
+                if (u != v && parent[u] != -1
+                    && (best == -1 || groupSize[parent[u]] < groupSize[best]))
+                {
+                    best = parent[u];
+                }
+            }
+            parent[v] = best;
+            groupSize[best]++;
+        }
+        level.parent = parent;
+
+        // coarse edges without parallel edges and self-loops
+        int[] members = new int[n];
+        int[] start = new int[nc + 1];
+        for (int v = 0; v < n; v++) {
+            start[parent[v] + 1]++;
+        }
+        for (int c = 0; c < nc; c++) {
+            start[c + 1] += start[c];
+        }
+        int[] next = Arrays.copyOf(start, nc);
+        for (int v = 0; v < n; v++) {
+            members[next[parent[v]]++] = v;
+        }
+
+        int[] mark = new int[nc];
+        Arrays.fill(mark, -1);
+        int[] sources = new int[16];
+        int[] targets = new int[16];
+        int m = 0;
+        for (int c = 0; c < nc; c++) {
+            for (int j = start[c]; j < start[c + 1]; j++) {
+                int v = members[j];
+                for (int i = level.offsets[v]; i < level.offsets[v + 1]; i++) {
+                    int pc = parent[level.neighbors[i]];
+                    if (pc > c && mark[pc] != c) {
+                        mark[pc] = c;
+                        if (m == sources.length) {
+                            sources = Arrays.copyOf(sources, 2 * m);
+                            targets = Arrays.copyOf(targets, 2 * m);
+                        }
+                        sources[m] = c;
+                        targets[m] = pc;
+                        m++;
+                    }
+                }
+            }
+        }
+        return new Level(nc, Arrays.copyOf(sources, m), Arrays.copyOf(targets, m));
+    }
+
+    /**
+     * A level of the hierarchy, with a map from each vertex to the vertex of the next coarser
+     * level it was contracted into.
+     */
+    private static class Level
+        extends
+        CompactAdjacency
+    {
+        int[] parent;
+
+        Level(int n, int[] sources, int[] targets)
+        {
+            super(n, sources, targets);
+        }
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.drawing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.jgrapht.Graph;
+import org.jgrapht.alg.drawing.RandomLayoutAlgorithm2D;
+import org.jgrapht.alg.drawing.model.Box2D;
+import org.jgrapht.alg.drawing.model.LayoutModel2D;
+import org.jgrapht.alg.drawing.model.MapLayoutModel2D;
+import org.jgrapht.alg.drawing.model.Point2D;
+import org.jgrapht.alg.util.ToleranceDoubleComparator;
+import org.jgrapht.capi.custom.util.ParallelUtil;
+
+/**
+ * Parallel Fruchterman and Reingold Force-Directed Placement Algorithm using the Barnes-Hut
+ * technique.
+ *
+ * <p>
+ * This is the same algorithm as {@link IndexedFRLayoutAlgorithm2D}, but vertex coordinates are
+ * kept in primitive arrays, the QuadTree is stored in flat arrays and rebuilt in place on every
+ * iteration, and the forces are computed by several threads. Tree nodes are weighted by the number
+ * of points below them when used as a single point. With $\theta = 0$ the result is the same as
+ * that of {@link FRLayoutAlgorithm2D}, up to floating point rounding.
+ *
+ * <p>
+ * Vertices which are fixed in the layout model are never moved, but still exert forces on the
+ * other vertices.
+ *
+ * @author Dimitrios Michail
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class ParallelFRLayoutAlgorithm2D<V, E>
+    extends
+    BaseLayoutAlgorithm2D<V, E>
+{
+    protected Random rng;
+    protected int iterations;
+    protected double theta;
+    protected double normalizationFactor;
+    protected double tolerance;
+    protected int parallelism;
+
+    /**
+     * Create a new layout algorithm
+     *
+     * @param iterations number of iterations
+     * @param theta theta parameter for the Barnes-Hut approximation
+     * @param normalizationFactor normalization factor for the optimal distance
+     * @param rng the random number generator
+     * @param tolerance tolerance used when comparing floating point values
+     * @param parallelism the number of threads
+     */
+    public ParallelFRLayoutAlgorithm2D(
+        int iterations, double theta, double normalizationFactor, Random rng, double tolerance,
+        int parallelism)
+    {
+        this.rng = Objects.requireNonNull(rng);
+        this.iterations = iterations;
+        this.theta = theta;
+        if (theta < 0d || theta > 1d) {
+            throw new IllegalArgumentException("Illegal theta value");
+        }
+        this.normalizationFactor = normalizationFactor;
+        this.tolerance = tolerance;
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Create a new layout algorithm
+     *
+     * @param iterations number of iterations
+     * @param theta theta parameter for the Barnes-Hut approximation
+     * @param normalizationFactor normalization factor for the optimal distance
+     * @param rng the random number generator
+     * @param parallelism the number of threads
+     */
+    public ParallelFRLayoutAlgorithm2D(
+        int iterations, double theta, double normalizationFactor, Random rng, int parallelism)
+    {
+        this(
+            iterations, theta, normalizationFactor, rng, ToleranceDoubleComparator.DEFAULT_EPSILON,
+            parallelism);
+    }
+
+    @Override
+    public void layout(Graph<V, E> graph, LayoutModel2D<V> model)
+    {
+        Box2D drawableArea = model.getDrawableArea();
+        double minX = drawableArea.getMinX();
+        double minY = drawableArea.getMinY();
+
+        if (getInitializer() != null) {
+            init(graph, model);
+            for (V v : graph.vertexSet()) {
+                if (model.get(v) == null) {
+                    model.put(v, Point2D.of(minX, minY));
+                }
+            }
+        } else {
+            MapLayoutModel2D<V> randomModel = new MapLayoutModel2D<>(drawableArea);
+            new RandomLayoutAlgorithm2D<V, E>(rng).layout(graph, randomModel);
+            for (V v : graph.vertexSet()) {
+                model.put(v, randomModel.get(v));
+            }
+        }
+
+        int n = graph.vertexSet().size();
+        if (n == 0) {
+            return;
+        }
+
+        // index vertices
+        List<V> vertices = new ArrayList<>(graph.vertexSet());
+        Map<V, Integer> index = new HashMap<>();
+        double[] x = new double[n];
+        double[] y = new double[n];
+        boolean[] fixed = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            V v = vertices.get(i);
+            index.put(v, i);
+            Point2D p = model.get(v);
+            x[i] = p.getX();
+            y[i] = p.getY();
+            fixed[i] = model.isFixed(v);
+        }
+
+        // adjacency in both directions
+        int m = graph.edgeSet().size();
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        int e = 0;
+        for (E edge : graph.edgeSet()) {
+            sources[e] = index.get(graph.getEdgeSource(edge));
+            targets[e] = index.get(graph.getEdgeTarget(edge));
+            e++;
+        }
+        CompactAdjacency adjacency = new CompactAdjacency(n, sources, targets);
+
+        double width = drawableArea.getWidth();
+        double height = drawableArea.getHeight();
+        double optimalDistance = normalizationFactor * Math.sqrt(width * height / n);
+        double initialTemperature = Math.min(width, height) / 10d;
+
+        ForkJoinPool pool = parallelism > 1 ? ParallelUtil.createPool(parallelism) : null;
+        try {
+            new ArrayFRLayout(
+                n, adjacency.offsets, adjacency.neighbors, x, y, fixed, drawableArea,
+                optimalDistance, theta, tolerance, pool).run(iterations, initialTemperature);
+        } finally {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            if (!fixed[i]) {
+                model.put(vertices.get(i), Point2D.of(x[i], y[i]));
+            }
+        }
+    }
+
+}
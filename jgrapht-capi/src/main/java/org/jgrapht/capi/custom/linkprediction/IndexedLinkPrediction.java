@@ -0,0 +1,266 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.linkprediction;
+
+import java.util.Objects;
+
+import org.jgrapht.Graph;
+import org.jgrapht.capi.custom.util.ParallelUtil;
+import org.jgrapht.capi.custom.util.SortedAdjacency;
+
+/**
+ * Link prediction indices computed on a {@link SortedAdjacency} snapshot of a graph. Each index
+ * computes exactly the same value as the corresponding class in package
+ * {@code org.jgrapht.alg.linkprediction}, but common neighbors are found by merging sorted
+ * adjacency arrays instead of building hash sets for every pair.
+ *
+ * <p>
+ * Pairs for which an index is not well defined, where the JGraphT implementations throw a
+ * {@link org.jgrapht.alg.linkprediction.LinkPredictionIndexNotWellDefinedException}, are scored
+ * as {@link Double#NaN}.
+ *
+ * @param <V> the graph vertex type
+ */
+public class IndexedLinkPrediction<V>
+{
+    /**
+     * The supported link prediction indices.
+     */
+    public enum Index
+    {
+        ADAMIC_ADAR,
+        COMMON_NEIGHBORS,
+        HUB_DEPRESSED,
+        HUB_PROMOTED,
+        JACCARD_COEFFICIENT,
+        LEICHT_HOLME_NEWMAN,
+        PREFERENTIAL_ATTACHMENT,
+        RESOURCE_ALLOCATION,
+        SALTON,
+        SORENSEN;
+
+        /**
+         * Whether the index can only be positive for pairs which share at least one neighbor.
+         *
+         * @return true if the index needs common neighbors to be positive
+         */
+        public boolean requiresCommonNeighbors()
+        {
+            return this != PREFERENTIAL_ATTACHMENT;
+        }
+    }
+
+    private final SortedAdjacency<V> adjacency;
+
+    /**
+     * Create a new instance by taking a snapshot of the successors of every vertex of a graph.
+     *
+     * @param graph the graph
+     * @param <E> the graph edge type
+     */
+    public <E> IndexedLinkPrediction(Graph<V, E> graph)
+    {
+        this(SortedAdjacency.successors(Objects.requireNonNull(graph)));
+    }
+
+    /**
+     * Create a new instance from an adjacency snapshot.
+     *
+     * @param adjacency the adjacency snapshot
+     */
+    public IndexedLinkPrediction(SortedAdjacency<V> adjacency)
+    {
+        this.adjacency = Objects.requireNonNull(adjacency);
+    }
+
+    /**
+     * Get the adjacency snapshot.
+     *
+     * @return the adjacency snapshot
+     */
+    public SortedAdjacency<V> getAdjacency()
+    {
+        return adjacency;
+    }
+
+    /**
+     * Create a buffer able to hold the common neighbors of any pair of vertices.
+     *
+     * @return a buffer
+     */
+    public int[] createBuffer()
+    {
+        return new int[Math.max(1, adjacency.maxNeighborsCount())];
+    }
+
+    /**
+     * Score a pair of vertices with multiple indices.
+     *
+     * @param u the first vertex index
+     * @param v the second vertex index
+     * @param indices the indices to compute
+     * @param buffer scratch buffer created by {@link #createBuffer()}
+     * @param out where to write the scores
+     * @param outOffset position in the output where the first score is written
+     */
+    public void score(int u, int v, Index[] indices, int[] buffer, double[] out, int outOffset)
+    {
+        int common = -1;
+        for (int k = 0; k < indices.length; k++) {
+            Index index = indices[k];
+            if (common < 0 && index != Index.PREFERENTIAL_ATTACHMENT) {
+                common = adjacency.intersection(u, v, buffer);
+            }
+            out[outOffset + k] = score(index, u, v, buffer, common);
+        }
+    }
+
+    /**
+     * Score a pair of vertices whose common neighbors have already been computed.
+     *
+     * @param index the index to compute
+     * @param u the first vertex index
+     * @param v the second vertex index
+     * @param common the common neighbors
+     * @param commonCount the number of common neighbors
+     * @return the score or {@link Double#NaN} if the index is not well defined
+     */
+    public double score(Index index, int u, int v, int[] common, int commonCount)
+    {
+        double commonSum = 0d;
+        if (index == Index.ADAMIC_ADAR || index == Index.RESOURCE_ALLOCATION) {
+            for (int i = 0; i < commonCount; i++) {
+                commonSum += commonWeight(index, common[i]);
+            }
+        }
+        return score(index, u, v, commonCount, commonSum);
+    }
+
+    /**
+     * Get the contribution of a single common neighbor to the sum of an index which sums over
+     * common neighbors. Only {@link Index#ADAMIC_ADAR} and {@link Index#RESOURCE_ALLOCATION} sum
+     * over common neighbors, all other indices have zero contribution.
+     *
+     * @param index the index
+     * @param z the common neighbor index
+     * @return the contribution or {@link Double#NaN} if the index is not well defined
+     */
+    public double commonWeight(Index index, int z)
+    {
+        int dz = adjacency.outDegree(z);
+        switch (index) {
+        case ADAMIC_ADAR:
+            return dz < 2 ? Double.NaN : 1.0 / Math.log(dz);
+        case RESOURCE_ALLOCATION:
+            return dz == 0 ? Double.NaN : 1.0 / dz;
+        default:
+            return 0d;
+        }
+    }
+
+    /**
+     * Score a pair of vertices given the number of common neighbors and the sum of the
+     * contributions of the common neighbors as computed by {@link #commonWeight(Index, int)}.
+     *
+     * @param index the index to compute
+     * @param u the first vertex index
+     * @param v the second vertex index
+     * @param commonCount the number of common neighbors
+     * @param commonSum the sum of the contributions of the common neighbors
+     * @return the score or {@link Double#NaN} if the index is not well defined
+     */
+    public double score(Index index, int u, int v, int commonCount, double commonSum)
+    {
+        int du = adjacency.outDegree(u);
+        int dv = adjacency.outDegree(v);
+
+        switch (index) {
+        case ADAMIC_ADAR:
+        case RESOURCE_ALLOCATION:
+            return commonSum;
+        case COMMON_NEIGHBORS:
+            return commonCount;
+        case HUB_DEPRESSED:
+            if (du == 0 && dv == 0) {
+                return Double.NaN;
+            }
+            return commonCount / (double) Math.max(du, dv);
+        case HUB_PROMOTED:
+            if (du == 0 || dv == 0) {
+                return Double.NaN;
+            }
+            return commonCount / (double) Math.min(du, dv);
+        case JACCARD_COEFFICIENT: {
+            if (u == v) {
+                return 1d;
+            }
+            int union = adjacency.neighborsCount(u) + adjacency.neighborsCount(v) - commonCount;
+            if (union == 0) {
+                return Double.NaN;
+            }
+            return commonCount / (double) union;
+        }
+        case LEICHT_HOLME_NEWMAN:
+            if (du == 0 || dv == 0) {
+                return Double.NaN;
+            }
+            // same evaluation order as LeichtHolmeNewmanIndexLinkPrediction
+            return commonCount / (double) du * dv;
+        case PREFERENTIAL_ATTACHMENT:
+            return (double) (du * dv);
+        case SALTON:
+            if (du == 0 || dv == 0) {
+                return Double.NaN;
+            }
+            return commonCount / Math.sqrt(du * dv);
+        case SORENSEN:
+            if (du + dv == 0) {
+                return Double.NaN;
+            }
+            return 2.0 * commonCount / (du + dv);
+        default:
+            throw new IllegalArgumentException("Unknown link prediction index " + index);
+        }
+    }
+
+    /**
+     * Score a list of vertex pairs with multiple indices in parallel. The result is a row-major
+     * matrix with one row per pair and one column per index.
+     *
+     * @param sources the first vertex index of each pair
+     * @param targets the second vertex index of each pair
+     * @param indices the indices to compute
+     * @param parallelism the parallelism
+     * @return the scores, of size {@code sources.length * indices.length}
+     */
+    public double[] score(int[] sources, int[] targets, Index[] indices, int parallelism)
+    {
+        if (sources.length != targets.length) {
+            throw new IllegalArgumentException("Sources and targets must have the same length");
+        }
+        double[] result = new double[Math.multiplyExact(sources.length, indices.length)];
+        ParallelUtil.forEachChunk(parallelism, sources.length, (from, to) -> {
+            int[] buffer = createBuffer();
+            for (int i = from; i < to; i++) {
+                score(sources[i], targets[i], indices, buffer, result, i * indices.length);
+            }
+        });
+        return result;
+    }
+
+}
@@ -0,0 +1,276 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.linkprediction;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.jgrapht.Graph;
+import org.jgrapht.capi.custom.linkprediction.IndexedLinkPrediction.Index;
+import org.jgrapht.capi.custom.util.ParallelUtil;
+import org.jgrapht.capi.custom.util.SortedAdjacency;
+
+/**
+ * Compute the best $k$ new links of a set of source vertices using any of the link prediction
+ * indices of {@link IndexedLinkPrediction}.
+ *
+ * <p>
+ * Candidates for a source vertex $u$ are all vertices $w \ne u$ which are not already successors of
+ * $u$ and which share at least one neighbor with $u$, that is $\Gamma(u) \cap \Gamma(w) \neq
+ * \emptyset$ where $\Gamma$ denotes the set of successors. They are enumerated by a two-hop
+ * expansion $u \rightarrow z \leftarrow w$ which also accumulates the number of common neighbors
+ * and the per-index sums over common neighbors, so candidates are scored without any
+ * intersection. Pairs at larger distance would have a zero score for all indices except
+ * {@link Index#PREFERENTIAL_ATTACHMENT} and are never generated.
+ *
+ * <p>
+ * Each source keeps a bounded heap of size $k$ and sources are processed in parallel. Ties are
+ * broken in favor of the vertex which comes first in the graph vertex set. Candidates whose
+ * index is not well defined are skipped.
+ *
+ * @param <V> the graph vertex type
+ */
+public class TopKLinkPrediction<V>
+{
+    private final IndexedLinkPrediction<V> scorer;
+    private final SortedAdjacency<V> successors;
+    private final SortedAdjacency<V> predecessors;
+
+    /**
+     * Create a new instance.
+     *
+     * @param graph the graph
+     * @param <E> the graph edge type
+     */
+    public <E> TopKLinkPrediction(Graph<V, E> graph)
+    {
+        Objects.requireNonNull(graph);
+        this.successors = SortedAdjacency.successors(graph);
+        if (graph.getType().isDirected()) {
+            this.predecessors = SortedAdjacency.predecessors(graph);
+        } else {
+            this.predecessors = successors;
+        }
+        this.scorer = new IndexedLinkPrediction<>(successors);
+    }
+
+    /**
+     * Get the adjacency snapshot which defines the vertex indices.
+     *
+     * @return the adjacency snapshot
+     */
+    public SortedAdjacency<V> getAdjacency()
+    {
+        return successors;
+    }
+
+    /**
+     * Compute the best $k$ candidates for each source. The results of source $i$ are written to
+     * positions $[ik, ik + counts[i])$ of the targets and scores arrays in decreasing order of
+     * score.
+     *
+     * @param sources the source vertex indices
+     * @param index the link prediction index
+     * @param k how many candidates to keep per source
+     * @param parallelism the parallelism
+     * @param targets output array of size at least {@code sources.length * k} with the target
+     *        vertex indices
+     * @param scores output array of size at least {@code sources.length * k} with the scores
+     * @param counts output array of size at least {@code sources.length} with the number of
+     *        candidates found per source
+     */
+    public void topK(
+        int[] sources, Index index, int k, int parallelism, int[] targets, double[] scores,
+        int[] counts)
+    {
+        Objects.requireNonNull(index);
+        if (k < 0) {
+            throw new IllegalArgumentException("k cannot be negative");
+        }
+        // one worker per thread, since there are several chunks per thread
+        ThreadLocal<Worker> workers = ThreadLocal.withInitial(() -> new Worker(index, k));
+        ParallelUtil.forEachChunk(parallelism, sources.length, (from, to) -> {
+            Worker w = workers.get();
+            for (int i = from; i < to; i++) {
+                counts[i] = w.run(sources[i], targets, scores, i * k);
+            }
+        });
+    }
+
+    /**
+     * Per thread state. All arrays are reused across sources and chunks, the dense accumulators
+     * are reset by walking the list of touched candidates.
+     */
+    private class Worker
+    {
+        private final Index index;
+        private final int k;
+        private final int[] commonCount;
+        private final double[] commonSum;
+        private final boolean[] excluded;
+        private int[] touched;
+        private final int[] heapIds;
+        private final double[] heapScores;
+
+        Worker(Index index, int k)
+        {
+            int n = successors.vertexCount();
+            this.index = index;
+            this.k = k;
+            this.commonCount = new int[n];
+            this.commonSum = new double[n];
+            this.excluded = new boolean[n];
+            this.touched = new int[Math.max(16, Math.min(n, 1024))];
+            this.heapIds = new int[k];
+            this.heapScores = new double[k];
+        }
+
+        int run(int u, int[] targetsOut, double[] scoresOut, int outOffset)
+        {
+            if (k == 0) {
+                return 0;
+            }
+            int[] succ = successors.getNeighbors();
+            int[] pred = predecessors.getNeighbors();
+
+            // mark existing links and the source itself
+            excluded[u] = true;
+            for (int i = successors.start(u); i < successors.end(u); i++) {
+                excluded[succ[i]] = true;
+            }
+
+            // two-hop expansion u -> z <- w
+            int touchedCount = 0;
+            for (int i = successors.start(u); i < successors.end(u); i++) {
+                int z = succ[i];
+                double weight = scorer.commonWeight(index, z);
+                for (int j = predecessors.start(z); j < predecessors.end(z); j++) {
+                    int w = pred[j];
+                    if (commonCount[w] == 0) {
+                        if (touchedCount == touched.length) {
+                            touched = Arrays.copyOf(touched, 2 * touchedCount);
+                        }
+                        touched[touchedCount++] = w;
+                    }
+                    commonCount[w]++;
+                    commonSum[w] += weight;
+                }
+            }
+
+            // score and select
+            int heapSize = 0;
+            for (int t = 0; t < touchedCount; t++) {
+                int w = touched[t];
+                if (!excluded[w]) {
+                    double score = scorer.score(index, u, w, commonCount[w], commonSum[w]);
+                    if (!Double.isNaN(score)) {
+                        heapSize = offer(heapSize, w, score);
+                    }
+                }
+                commonCount[w] = 0;
+                commonSum[w] = 0d;
+            }
+
+            excluded[u] = false;
+            for (int i = successors.start(u); i < successors.end(u); i++) {
+                excluded[succ[i]] = false;
+            }
+
+            // drain heap, worst first, into the output in decreasing order
+            int count = heapSize;
+            while (heapSize > 0) {
+                targetsOut[outOffset + heapSize - 1] = heapIds[0];
+                scoresOut[outOffset + heapSize - 1] = heapScores[0];
+                heapSize--;
+                heapIds[0] = heapIds[heapSize];
+                heapScores[0] = heapScores[heapSize];
+                siftDown(0, heapSize);
+            }
+            return count;
+        }
+
+        /**
+         * Offer a candidate to the bounded min-heap whose root is the worst kept candidate.
+         */
+        private int offer(int heapSize, int id, double score)
+        {
+            if (heapSize < k) {
+                int pos = heapSize;
+                heapIds[pos] = id;
+                heapScores[pos] = score;
+                while (pos > 0) {
+                    int parent = (pos - 1) >>> 1;
+                    if (!worse(pos, parent)) {
+                        break;
+                    }
+                    swap(pos, parent);
+                    pos = parent;
+                }
+                return heapSize + 1;
+            }
+            if (score > heapScores[0] || (score == heapScores[0] && id < heapIds[0])) {
+                heapIds[0] = id;
+                heapScores[0] = score;
+                siftDown(0, heapSize);
+            }
+            return heapSize;
+        }
+
+        private void siftDown(int pos, int heapSize)
+        {
+            while (true) {
+                int left = 2 * pos + 1;
+                if (left >= heapSize) {
+                    return;
+                }
+                int worst = left;
+                int right = left + 1;
+                if (right < heapSize && worse(right, left)) {
+                    worst = right;
+                }
+                if (!worse(worst, pos)) {
+                    return;
+                }
+                swap(pos, worst);
+                pos = worst;
+            }
+        }
+
+        /**
+         * Whether the candidate at position a ranks below the candidate at position b.
+         */
+        private boolean worse(int a, int b)
+        {
+            if (heapScores[a] != heapScores[b]) {
+                return heapScores[a] < heapScores[b];
+            }
+            return heapIds[a] > heapIds[b];
+        }
+
+        private void swap(int a, int b)
+        {
+            int id = heapIds[a];
+            heapIds[a] = heapIds[b];
+            heapIds[b] = id;
+            double score = heapScores[a];
+            heapScores[a] = heapScores[b];
+            heapScores[b] = score;
+        }
+    }
+
+}
@@ -0,0 +1,584 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.jgrapht.Graph;
+import org.jgrapht.GraphTests;
+import org.jgrapht.Graphs;
+import org.jgrapht.capi.custom.util.ParallelUtil;
+
+/**
+ * Diameter and radius of an undirected graph using eccentricity bounds.
+ *
+ * <p>
+ * Every single source shortest path computation from a vertex $v$ with eccentricity $e(v)$ bounds
+ * the eccentricity of every other vertex $w$ by $\max(e(v) - d(v, w), d(v, w)) \le e(w) \le e(v) +
+ * d(v, w)$. The diameter is the maximum and the radius the minimum eccentricity, thus bounds on
+ * them follow from the bounds of all vertices. Vertices whose bounds can no longer improve either
+ * bound are dropped, see F. W. Takes and W. A. Kosters. Determining the diameter of small world
+ * networks. Proceedings of the 20th ACM international conference on Information and knowledge
+ * management, 1191--1196, 2011.
+ *
+ * <p>
+ * The sources are chosen according to a {@link Mode}. In exact mode, after a first search from a
+ * vertex of maximum degree (as in iFUB), the algorithm alternates between the candidate with the
+ * largest upper bound and the one with the smallest lower bound. Up to parallelism many searches
+ * run concurrently in each round and bounds are updated in parallel. The computation stops when
+ * the bounds meet, or when the iteration or time budget is exhausted, in which case the reported
+ * bounds are still valid.
+ *
+ * <p>
+ * Distances are hop counts (breadth-first search) for unweighted graphs and weighted distances
+ * (Dijkstra) for weighted graphs, the same as {@link org.jgrapht.GraphMetrics#getDiameter(Graph)}.
+ * Disconnected graphs have infinite diameter and radius.
+ *
+ * @param <V> the graph vertex type
+ */
+public class BoundingDiameters<V>
+{
+    /**
+     * How to select the sources of the shortest path computations.
+     */
+    public enum Mode
+    {
+        /**
+         * Bounding diameters until the bounds meet.
+         */
+        EXACT,
+        /**
+         * A search from a vertex of maximum degree followed by a search from the farthest vertex.
+         */
+        DOUBLE_SWEEP,
+        /**
+         * A search from a vertex of maximum degree followed by searches from random vertices.
+         */
+        K_BFS,
+    }
+
+    private final int parallelism;
+    private final List<V> vertices;
+    private final Map<V, Integer> indices;
+    private final int[] offsets;
+    private final int[] neighbors;
+    private final double[] weights;
+
+    private double[] lower;
+    private double[] upper;
+    private double diameterLowerBound;
+    private double diameterUpperBound;
+    private double radiusLowerBound;
+    private double radiusUpperBound;
+    private int iterations;
+
+    /**
+     * Create a new instance.
+     *
+     * @param graph the input graph
+     * @param parallelism the parallelism
+     * @param <E> the graph edge type
+     * @throws IllegalArgumentException if the graph is directed or has negative edge weights
+     */
+    public <E> BoundingDiameters(Graph<V, E> graph, int parallelism)
+    {
+        GraphTests.requireUndirected(Objects.requireNonNull(graph));
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+
+        int n = graph.vertexSet().size();
+        this.vertices = new ArrayList<>(n);
+        this.indices = new HashMap<>();
+        for (V v : graph.vertexSet()) {
+            indices.put(v, vertices.size());
+            vertices.add(v);
+        }
+
+        /*
+         * Adjacency without self-loops. Parallel edges are merged keeping the minimum weight.
+         */
+        boolean weighted = graph.getType().isWeighted();
+        this.offsets = new int[n + 1];
+        int[] nbrs = new int[Math.max(16, 2 * graph.edgeSet().size())];
+        double[] w = weighted ? new double[nbrs.length] : null;
+        int[] bufferIds = new int[16];
+        double[] bufferWeights = new double[16];
+        long[] order = new long[16];
+        int total = 0;
+        for (int i = 0; i < n; i++) {
+            V v = vertices.get(i);
+            int count = 0;
+            for (E e : graph.edgesOf(v)) {
+                int u = indices.get(Graphs.getOppositeVertex(graph, e, v));
+                if (u == i) {
+                    continue;
+                }
+                double ew = weighted ? graph.getEdgeWeight(e) : 1d;
+                if (ew < 0d) {
+                    throw new IllegalArgumentException("Negative edge weights not allowed");
+                }
+                if (count == bufferIds.length) {
+                    bufferIds = Arrays.copyOf(bufferIds, 2 * count);
+                    bufferWeights = Arrays.copyOf(bufferWeights, 2 * count);
+                    order = Arrays.copyOf(order, 2 * count);
+                }
+                bufferIds[count] = u;
+                bufferWeights[count] = ew;
+                order[count] = ((long) u << 32) | count;
+                count++;
+            }
+            Arrays.sort(order, 0, count);
+
+            if (total + count > nbrs.length) {
+                int newLength = Math.max(2 * nbrs.length, total + count);
+                nbrs = Arrays.copyOf(nbrs, newLength);
+                if (weighted) {
+                    w = Arrays.copyOf(w, newLength);
+                }
+            }
+            int prev = -1;
+            for (int j = 0; j < count; j++) {
+                int pos = (int) order[j];
+                int u = bufferIds[pos];
+                if (u != prev) {
+                    nbrs[total] = u;
+                    if (weighted) {
+                        w[total] = bufferWeights[pos];
+                    }
+                    total++;
+                    prev = u;
+                } else if (weighted) {
+                    w[total - 1] = Math.min(w[total - 1], bufferWeights[pos]);
+                }
+            }
+            offsets[i + 1] = total;
+        }
+        this.neighbors = Arrays.copyOf(nbrs, total);
+        this.weights = weighted ? Arrays.copyOf(w, total) : null;
+    }
+
+    /**
+     * Compute bounds on the diameter and the radius.
+     *
+     * @param mode how to select sources
+     * @param maxIterations maximum number of shortest path computations, non-positive for no limit.
+     *        Required to be positive in {@link Mode#K_BFS} mode.
+     * @param timeLimitMillis time limit in milliseconds, non-positive for no limit. Checked between
+     *        rounds.
+     * @param seed seed for the random selection of sources in {@link Mode#K_BFS} mode
+     */
+    public void compute(Mode mode, int maxIterations, long timeLimitMillis, long seed)
+    {
+        Objects.requireNonNull(mode);
+        if (mode == Mode.K_BFS && maxIterations < 1) {
+            throw new IllegalArgumentException("Number of searches must be positive");
+        }
+        long deadline = timeLimitMillis > 0 ? System.nanoTime() + timeLimitMillis * 1000000L
+            : Long.MAX_VALUE;
+        int n = vertices.size();
+        this.iterations = 0;
+
+        if (n == 0) {
+            setBounds(0d, 0d, 0d, 0d);
+            return;
+        }
+
+        this.lower = new double[n];
+        this.upper = new double[n];
+        Arrays.fill(upper, Double.POSITIVE_INFINITY);
+
+        int[] candidates = new int[n];
+        for (int i = 0; i < n; i++) {
+            candidates[i] = i;
+        }
+        int candidatesCount = n;
+
+        Searcher[] searchers = new Searcher[parallelism];
+        Random rng = new Random(seed);
+        boolean[] selected = new boolean[n];
+        int[] batch = new int[parallelism];
+        double dLower = 0d, rUpper = Double.POSITIVE_INFINITY;
+
+        int maxDegreeVertex = 0;
+        for (int i = 1; i < n; i++) {
+            if (degree(i) > degree(maxDegreeVertex)) {
+                maxDegreeVertex = i;
+            }
+        }
+
+        // one pool for all rounds
+        ForkJoinPool pool = parallelism > 1 ? ParallelUtil.createPool(parallelism) : null;
+        try {
+            while (candidatesCount > 0) {
+                // budget
+                int budget = parallelism;
+                if (maxIterations > 0) {
+                    budget = Math.min(budget, maxIterations - iterations);
+                }
+                if (budget <= 0 || (iterations > 0 && System.nanoTime() >= deadline)) {
+                    break;
+                }
+
+                // select sources
+                int batchSize = 0;
+                if (iterations == 0) {
+                    batch[batchSize++] = maxDegreeVertex;
+                } else if (mode == Mode.DOUBLE_SWEEP) {
+                    if (iterations > 1) {
+                        break;
+                    }
+                    batch[batchSize++] = searchers[0].farthest;
+                } else if (mode == Mode.K_BFS) {
+                    while (batchSize < budget && batchSize < candidatesCount) {
+                        int v = candidates[rng.nextInt(candidatesCount)];
+                        if (!selected[v]) {
+                            selected[v] = true;
+                            batch[batchSize++] = v;
+                        }
+                    }
+                } else {
+                    while (batchSize < budget && batchSize < candidatesCount) {
+                        int best = -1;
+                        boolean byUpper = batchSize % 2 == 0;
+                        for (int k = 0; k < candidatesCount; k++) {
+                            int v = candidates[k];
+                            if (selected[v]) {
+                                continue;
+                            }
+                            if (best == -1) {
+                                best = v;
+                                continue;
+                            }
+                            double a = byUpper ? upper[v] : -lower[v];
+                            double b = byUpper ? upper[best] : -lower[best];
+                            if (a > b || (a == b && degree(v) > degree(best))) {
+                                best = v;
+                            }
+                        }
+                        selected[best] = true;
+                        batch[batchSize++] = best;
+                    }
+                }
+                for (int k = 0; k < batchSize; k++) {
+                    selected[batch[k]] = false;
+                }
+
+                // run searches in parallel
+                final int size = batchSize;
+                ParallelUtil.forEachChunk(pool, size, (from, to) -> {
+                    for (int k = from; k < to; k++) {
+                        if (searchers[k] == null) {
+                            searchers[k] = new Searcher(offsets, neighbors, weights);
+                        }
+                        searchers[k].run(batch[k]);
+                    }
+                });
+                iterations += size;
+
+                if (iterations == size && searchers[0].reached < n) {
+                    // disconnected
+                    setBounds(
+                        Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+                        Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY);
+                    return;
+                }
+
+                for (int k = 0; k < size; k++) {
+                    dLower = Math.max(dLower, searchers[k].eccentricity);
+                    rUpper = Math.min(rUpper, searchers[k].eccentricity);
+                }
+
+                // update bounds of candidates in parallel
+                final int count = candidatesCount;
+                ParallelUtil.forEachChunk(pool, count, (from, to) -> {
+                    for (int k = 0; k < size; k++) {
+                        double[] dist = searchers[k].dist;
+                        double ecc = searchers[k].eccentricity;
+                        for (int c = from; c < to; c++) {
+                            int v = candidates[c];
+                            double d = dist[v];
+                            lower[v] = Math.max(lower[v], Math.max(ecc - d, d));
+                            upper[v] = Math.min(upper[v], ecc + d);
+                        }
+                    }
+                });
+                for (int c = 0; c < count; c++) {
+                    int v = candidates[c];
+                    dLower = Math.max(dLower, lower[v]);
+                    rUpper = Math.min(rUpper, upper[v]);
+                }
+
+                // drop candidates which cannot improve any bound
+                int kept = 0;
+                for (int c = 0; c < count; c++) {
+                    int v = candidates[c];
+                    if (lower[v] < upper[v] && (upper[v] > dLower || lower[v] < rUpper)) {
+                        candidates[kept++] = v;
+                    }
+                }
+                candidatesCount = kept;
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+        }
+
+        double dUpper = dLower, rLower = rUpper;
+        for (int c = 0; c < candidatesCount; c++) {
+            int v = candidates[c];
+            dUpper = Math.max(dUpper, upper[v]);
+            rLower = Math.min(rLower, lower[v]);
+        }
+        setBounds(dLower, dUpper, rLower, rUpper);
+    }
+
+    private void setBounds(double dLower, double dUpper, double rLower, double rUpper)
+    {
+        this.diameterLowerBound = dLower;
+        this.diameterUpperBound = dUpper;
+        this.radiusLowerBound = rLower;
+        this.radiusUpperBound = rUpper;
+    }
+
+    private int degree(int v)
+    {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    /**
+     * Get the lower bound on the diameter.
+     *
+     * @return the lower bound on the diameter
+     */
+    public double getDiameterLowerBound()
+    {
+        return diameterLowerBound;
+    }
+
+    /**
+     * Get the upper bound on the diameter.
+     *
+     * @return the upper bound on the diameter
+     */
+    public double getDiameterUpperBound()
+    {
+        return diameterUpperBound;
+    }
+
+    /**
+     * Get the lower bound on the radius.
+     *
+     * @return the lower bound on the radius
+     */
+    public double getRadiusLowerBound()
+    {
+        return radiusLowerBound;
+    }
+
+    /**
+     * Get the upper bound on the radius.
+     *
+     * @return the upper bound on the radius
+     */
+    public double getRadiusUpperBound()
+    {
+        return radiusUpperBound;
+    }
+
+    /**
+     * Get the number of single source shortest path computations performed.
+     *
+     * @return the number of iterations
+     */
+    public int getIterations()
+    {
+        return iterations;
+    }
+
+    /**
+     * Whether both the diameter and the radius are known exactly.
+     *
+     * @return true if the bounds are tight
+     */
+    public boolean isExact()
+    {
+        return diameterLowerBound == diameterUpperBound && radiusLowerBound == radiusUpperBound;
+    }
+
+    /**
+     * Get the vertex at a given position of the graph vertex set.
+     *
+     * @param index the position
+     * @return the vertex
+     */
+    public V getVertex(int index)
+    {
+        return vertices.get(index);
+    }
+
+    /**
+     * Single source shortest paths with reusable buffers.
+     */
+    private static class Searcher
+    {
+        final int[] offsets;
+        final int[] neighbors;
+        final double[] weights;
+        final double[] dist;
+        final int[] queue;
+        double[] heapKeys;
+        int[] heapValues;
+        double eccentricity;
+        int farthest;
+        int reached;
+
+        Searcher(int[] offsets, int[] neighbors, double[] weights)
+        {
+            this.offsets = offsets;
+            this.neighbors = neighbors;
+            this.weights = weights;
+            int n = offsets.length - 1;
+            this.dist = new double[n];
+            this.queue = weights == null ? new int[n] : null;
+            this.heapKeys = weights == null ? null : new double[16];
+            this.heapValues = weights == null ? null : new int[16];
+        }
+
+        void run(int source)
+        {
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            dist[source] = 0d;
+            eccentricity = 0d;
+            farthest = source;
+            reached = 0;
+            if (weights == null) {
+                bfs(source);
+            } else {
+                dijkstra(source);
+            }
+        }
+
+        private void visit(int v)
+        {
+            reached++;
+            if (dist[v] > eccentricity) {
+                eccentricity = dist[v];
+                farthest = v;
+            }
+        }
+
+        private void bfs(int source)
+        {
+            int head = 0, tail = 0;
+            queue[tail++] = source;
+            while (head < tail) {
+                int v = queue[head++];
+                visit(v);
+                double next = dist[v] + 1d;
+                for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+                    int u = neighbors[j];
+                    if (dist[u] == Double.POSITIVE_INFINITY) {
+                        dist[u] = next;
+                        queue[tail++] = u;
+                    }
+                }
+            }
+        }
+
+        private void dijkstra(int source)
+        {
+            int size = 0;
+            size = push(size, 0d, source);
+            while (size > 0) {
+                double d = heapKeys[0];
+                int v = heapValues[0];
+                size = pop(size);
+                if (d > dist[v]) {
+                    continue;
+                }
+                visit(v);
+                for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+                    int u = neighbors[j];
+                    double nd = d + weights[j];
+                    if (nd < dist[u]) {
+                        dist[u] = nd;
+                        size = push(size, nd, u);
+                    }
+                }
+            }
+        }
+
+        private int push(int size, double key, int value)
+        {
+            if (size == heapKeys.length) {
+                heapKeys = Arrays.copyOf(heapKeys, 2 * size);
+                heapValues = Arrays.copyOf(heapValues, 2 * size);
+            }
+            int pos = size;
+            while (pos > 0) {
+                int parent = (pos - 1) >>> 1;
+                if (heapKeys[parent] <= key) {
+                    break;
+                }
+                heapKeys[pos] = heapKeys[parent];
+                heapValues[pos] = heapValues[parent];
+                pos = parent;
+            }
+            heapKeys[pos] = key;
+            heapValues[pos] = value;
+            return size + 1;
+        }
+
+        private int pop(int size)
+        {
+            size--;
+            double key = heapKeys[size];
+            int value = heapValues[size];
+            int pos = 0;
+            while (true) {
+                int child = 2 * pos + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && heapKeys[child + 1] < heapKeys[child]) {
+                    child++;
+                }
+                if (heapKeys[child] >= key) {
+                    break;
+                }
+                heapKeys[pos] = heapKeys[child];
+                heapValues[pos] = heapValues[child];
+                pos = child;
+            }
+            heapKeys[pos] = key;
+            heapValues[pos] = value;
+            return size;
+        }
+    }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.metrics;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jgrapht.Graph;
+import org.jgrapht.GraphTests;
+import org.jgrapht.capi.custom.util.ParallelUtil;
+import org.jgrapht.capi.custom.util.SortedAdjacency;
+
+/**
+ * Girth of an undirected graph using parallel breadth-first searches.
+ *
+ * <p>
+ * A breadth-first search from every vertex finds the shortest cycle through it. Searches run in
+ * parallel and share the best cycle found so far, which prunes every search at depth $d$ once $2d +
+ * 1$ reaches it. The computation may stop early when an iteration or time budget is exhausted, in
+ * which case the best cycle found is an upper bound on the girth. Self-loops give girth one and
+ * parallel edges girth two, regardless of where they appear in the graph. Acyclic graphs have girth
+ * {@link Integer#MAX_VALUE}, the same as {@link org.jgrapht.GraphMetrics#getGirth(Graph)}.
+ *
+ * @param <V> the graph vertex type
+ */
+public class ParallelGirth<V>
+{
+    private final int parallelism;
+    private final SortedAdjacency<V> adjacency;
+    private final int trivialGirth;
+
+    private int lowerBound;
+    private int upperBound;
+    private int iterations;
+
+    /**
+     * Create a new instance.
+     *
+     * @param graph the input graph
+     * @param parallelism the parallelism
+     * @param <E> the graph edge type
+     * @throws IllegalArgumentException if the graph is directed
+     */
+    public <E> ParallelGirth(Graph<V, E> graph, int parallelism)
+    {
+        GraphTests.requireUndirected(Objects.requireNonNull(graph));
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+        this.adjacency = SortedAdjacency.neighbors(graph, false);
+
+        int girth = Integer.MAX_VALUE;
+        for (E e : graph.edgeSet()) {
+            V s = graph.getEdgeSource(e);
+            V t = graph.getEdgeTarget(e);
+            if (s.equals(t)) {
+                girth = 1;
+                break;
+            }
+            if (girth > 2 && graph.getAllEdges(s, t).size() > 1) {
+                girth = 2;
+            }
+        }
+        this.trivialGirth = girth;
+    }
+
+    /**
+     * Compute the girth or bounds on it.
+     *
+     * @param maxIterations maximum number of searches, non-positive for no limit
+     * @param timeLimitMillis time limit in milliseconds, non-positive for no limit
+     */
+    public void compute(int maxIterations, long timeLimitMillis)
+    {
+        if (trivialGirth <= 2) {
+            lowerBound = upperBound = trivialGirth;
+            iterations = 0;
+            return;
+        }
+        int n = adjacency.vertexCount();
+        long deadline = timeLimitMillis > 0 ? System.nanoTime() + timeLimitMillis * 1000000L
+            : Long.MAX_VALUE;
+        int sources = maxIterations > 0 ? Math.min(n, maxIterations) : n;
+
+        AtomicInteger best = new AtomicInteger(Integer.MAX_VALUE);
+        AtomicInteger done = new AtomicInteger();
+        int[] offsets = adjacency.getOffsets();
+        int[] neighbors = adjacency.getNeighbors();
+
+        // one set of buffers per thread, since there are several chunks per thread, and the
+        // distances are reset after every search
+        ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(() -> new Buffers(n));
+
+        ForkJoinPool pool = parallelism > 1 ? ParallelUtil.createPool(parallelism) : null;
+        try {
+            ParallelUtil.forEachChunk(pool, sources, (from, to) -> {
+                Buffers b = buffers.get();
+                int[] dist = b.dist;
+                int[] parent = b.parent;
+                int[] queue = b.queue;
+                for (int s = from; s < to; s++) {
+                    if (best.get() <= 3 || System.nanoTime() >= deadline) {
+                        return;
+                    }
+                    int head = 0, tail = 0;
+                    queue[tail++] = s;
+                    dist[s] = 0;
+                    parent[s] = -1;
+                    search: while (head < tail) {
+                        int v = queue[head++];
+                        if (2 * dist[v] + 1 >= best.get()) {
+                            break;
+                        }
+                        for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+                            int u = neighbors[j];
+                            if (dist[u] == -1) {
+                                dist[u] = dist[v] + 1;
+                                parent[u] = v;
+                                queue[tail++] = u;
+                            } else if (u != parent[v]) {
+                                int cycle = dist[v] + dist[u] + 1;
+                                best.accumulateAndGet(cycle, Math::min);
+                                if (cycle == 2 * dist[v] + 1) {
+                                    break search;
+                                }
+                            }
+                        }
+                    }
+                    for (int k = 0; k < tail; k++) {
+                        dist[queue[k]] = -1;
+                    }
+                    done.incrementAndGet();
+                }
+            });
+        } finally {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+        }
+
+        iterations = done.get();
+        upperBound = best.get();
+        if (iterations == n || upperBound == 3) {
+            lowerBound = upperBound;
+        } else {
+            lowerBound = 3;
+        }
+    }
+
+    /**
+     * Get the lower bound on the girth.
+     *
+     * @return the lower bound
+     */
+    public int getLowerBound()
+    {
+        return lowerBound;
+    }
+
+    /**
+     * Get the upper bound on the girth.
+     *
+     * @return the upper bound
+     */
+    public int getUpperBound()
+    {
+        return upperBound;
+    }
+
+    /**
+     * Get the number of completed searches.
+     *
+     * @return the number of completed searches
+     */
+    public int getIterations()
+    {
+        return iterations;
+    }
+
+    /**
+     * Whether the girth is known exactly.
+     *
+     * @return true if the bounds are tight
+     */
+    public boolean isExact()
+    {
+        return lowerBound == upperBound;
+    }
+
+    /**
+     * The buffers of the searches of one thread.
+     */
+    private static class Buffers
+    {
+        final int[] dist;
+        final int[] parent;
+        final int[] queue;
+
+        Buffers(int n)
+        {
+            this.dist = new int[n];
+            this.parent = new int[n];
+            this.queue = new int[n];
+            Arrays.fill(dist, -1);
+        }
+    }
+
+}
@@ -0,0 +1,413 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.jgrapht.Graph;
+import org.jgrapht.GraphMetrics;
+import org.jgrapht.GraphTests;
+import org.jgrapht.Graphs;
+import org.jgrapht.capi.custom.util.ParallelUtil;
+import org.jgrapht.capi.custom.util.SortedAdjacency;
+
+/**
+ * Parallel triangle counting and clustering coefficients.
+ *
+ * <p>
+ * Vertices are ranked by their number of distinct neighbors and every edge is oriented from the
+ * lower to the higher ranked endpoint. Each triangle is then found exactly once by intersecting the
+ * sorted forward adjacency arrays of the two lower ranked vertices, using a linear merge or
+ * galloping search depending on the sizes. This is the well known $O(m \sqrt{m})$ forward
+ * algorithm. Lower ranked vertices are processed in parallel chunks.
+ *
+ * <p>
+ * The results are the same as {@link GraphMetrics#getNumberOfTriangles(Graph)} and
+ * {@link org.jgrapht.alg.scoring.ClusteringCoefficient}. Triangles are counted on the underlying
+ * simple graph. Since the number of triangles reported by {@link GraphMetrics} for graphs with
+ * parallel edges depends on its internal split between low and high degree vertices, the global
+ * count of such graphs is delegated to it. Edge directions are ignored when finding triangles, but
+ * are taken into account by the local clustering coefficient of directed graphs.
+ *
+ * @param <V> the graph vertex type
+ */
+public class TriangleCounting<V>
+{
+    private final Graph<V, ?> graph;
+    private final int parallelism;
+    private final List<V> vertices;
+    private final Map<V, Integer> indices;
+
+    // per vertex data, indexed by vertex position in the vertex set
+    private final int[] rank;
+    private final int[] distinctDegree;
+    private final boolean[] selfLoop;
+    private final int[] loopedNeighbors;
+    private final long[] arcsSum;
+
+    // forward adjacency, indexed by rank
+    private final int[] forwardOffsets;
+    private final int[] forward;
+    private final byte[] forwardArcs;
+    private final boolean multipleEdges;
+
+    private boolean computed;
+    private long triangles;
+    private long[] vertexTriangles;
+    private long[] vertexLinkedPairs;
+
+    /**
+     * Create a new instance.
+     *
+     * @param graph the input graph
+     * @param parallelism the parallelism
+     * @param <E> the graph edge type
+     */
+    public <E> TriangleCounting(Graph<V, E> graph, int parallelism)
+    {
+        this.graph = Objects.requireNonNull(graph);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+
+        int n = graph.vertexSet().size();
+        this.vertices = new ArrayList<>(n);
+        this.indices = new HashMap<>();
+        for (V v : graph.vertexSet()) {
+            indices.put(v, vertices.size());
+            vertices.add(v);
+        }
+
+        /*
+         * Full adjacency without self-loops. Each entry keeps the directions present, bit 0 for
+         * outgoing and bit 1 for incoming.
+         */
+        boolean directed = graph.getType().isDirected();
+        int[] offsets = new int[n + 1];
+        int[] neighbors = new int[Math.max(16, 2 * graph.edgeSet().size())];
+        byte[] arcs = new byte[neighbors.length];
+        long[] buffer = new long[16];
+        int total = 0;
+        boolean parallelEdges = false;
+
+        this.distinctDegree = new int[n];
+        this.selfLoop = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            V v = vertices.get(i);
+            int count = 0;
+            for (E e : graph.edgesOf(v)) {
+                int u = indices.get(Graphs.getOppositeVertex(graph, e, v));
+                if (u == i) {
+                    selfLoop[i] = true;
+                    continue;
+                }
+                int mask = directed ? (graph.getEdgeSource(e).equals(v) ? 1 : 2) : 3;
+                if (count == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, 2 * count);
+                }
+                buffer[count++] = ((long) u << 2) | mask;
+            }
+            Arrays.sort(buffer, 0, count);
+
+            if (total + count > neighbors.length) {
+                int newLength = Math.max(2 * neighbors.length, total + count);
+                neighbors = Arrays.copyOf(neighbors, newLength);
+                arcs = Arrays.copyOf(arcs, newLength);
+            }
+            int prev = -1;
+            for (int j = 0; j < count; j++) {
+                int u = (int) (buffer[j] >>> 2);
+                int mask = (int) (buffer[j] & 3);
+                if (u != prev) {
+                    neighbors[total] = u;
+                    arcs[total] = (byte) mask;
+                    total++;
+                    prev = u;
+                } else {
+                    if ((arcs[total - 1] & mask) != 0 || !directed) {
+                        parallelEdges = true;
+                    }
+                    arcs[total - 1] |= mask;
+                }
+            }
+            offsets[i + 1] = total;
+            distinctDegree[i] = total - offsets[i];
+        }
+        this.multipleEdges = parallelEdges;
+
+        // neighborhood information needed by the local clustering coefficient
+        this.loopedNeighbors = new int[n];
+        this.arcsSum = new long[n];
+        for (int i = 0; i < n; i++) {
+            for (int j = offsets[i]; j < offsets[i + 1]; j++) {
+                if (selfLoop[neighbors[j]]) {
+                    loopedNeighbors[i]++;
+                }
+                arcsSum[i] += Integer.bitCount(arcs[j]);
+            }
+        }
+
+        // rank by distinct degree, ties by position
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> {
+            int c = Integer.compare(distinctDegree[a], distinctDegree[b]);
+            return c != 0 ? c : Integer.compare(a, b);
+        });
+        this.rank = new int[n];
+        for (int r = 0; r < n; r++) {
+            rank[order[r]] = r;
+        }
+
+        // forward adjacency in rank space
+        this.forwardOffsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            int count = 0;
+            for (int j = offsets[i]; j < offsets[i + 1]; j++) {
+                if (rank[neighbors[j]] > rank[i]) {
+                    count++;
+                }
+            }
+            forwardOffsets[rank[i] + 1] = count;
+        }
+        for (int r = 0; r < n; r++) {
+            forwardOffsets[r + 1] += forwardOffsets[r];
+        }
+        int forwardTotal = forwardOffsets[n];
+        this.forward = new int[forwardTotal];
+        this.forwardArcs = new byte[forwardTotal];
+        long[] entries = new long[16];
+        for (int i = 0; i < n; i++) {
+            int count = 0;
+            for (int j = offsets[i]; j < offsets[i + 1]; j++) {
+                int r = rank[neighbors[j]];
+                if (r > rank[i]) {
+                    if (count == entries.length) {
+                        entries = Arrays.copyOf(entries, 2 * count);
+                    }
+                    entries[count++] = ((long) r << 32) | j;
+                }
+            }
+            Arrays.sort(entries, 0, count);
+            int pos = forwardOffsets[rank[i]];
+            for (int k = 0; k < count; k++) {
+                int j = (int) entries[k];
+                forward[pos + k] = (int) (entries[k] >>> 32);
+                forwardArcs[pos + k] = arcs[j];
+            }
+        }
+    }
+
+    /**
+     * Get the number of triangles of the graph. Self-loops are ignored.
+     *
+     * @return the number of triangles
+     * @throws IllegalArgumentException if the graph is directed
+     */
+    public long getNumberOfTriangles()
+    {
+        GraphTests.requireUndirected(graph);
+        if (multipleEdges) {
+            return GraphMetrics.getNumberOfTriangles(graph);
+        }
+        lazyCompute();
+        return triangles;
+    }
+
+    /**
+     * Get the number of triangles of the underlying simple undirected graph which contain each
+     * vertex. The array is indexed by vertex position in the graph vertex set.
+     *
+     * @return the number of triangles of each vertex
+     */
+    public long[] getVertexTriangles()
+    {
+        lazyCompute();
+        return vertexTriangles;
+    }
+
+    /**
+     * Get the local clustering coefficient of each vertex. The array is indexed by vertex position
+     * in the graph vertex set.
+     *
+     * @return the local clustering coefficients
+     */
+    public double[] getLocalClusteringCoefficients()
+    {
+        lazyCompute();
+        int n = vertices.size();
+        boolean directed = graph.getType().isDirected();
+        double[] result = new double[n];
+        for (int i = 0; i < n; i++) {
+            // pairs (p, q) of neighbors with an edge p -> q, including p == q
+            double k = distinctDegree[i] + (selfLoop[i] ? 1 : 0);
+            if (k <= 1) {
+                result[i] = 0d;
+                continue;
+            }
+            long pairs = vertexLinkedPairs[i] + loopedNeighbors[i];
+            if (selfLoop[i]) {
+                pairs += 1 + (directed ? arcsSum[i] : 2L * distinctDegree[i]);
+            }
+            result[i] = pairs / (k * (k - 1));
+        }
+        return result;
+    }
+
+    /**
+     * Get the average of the local clustering coefficients of all vertices.
+     *
+     * @return the average clustering coefficient
+     */
+    public double getAverageClusteringCoefficient()
+    {
+        int n = vertices.size();
+        if (n == 0) {
+            return 0d;
+        }
+        double sum = 0d;
+        for (double c : getLocalClusteringCoefficients()) {
+            sum += c;
+        }
+        return sum / n;
+    }
+
+    /**
+     * Get the global clustering coefficient, the ratio of three times the number of triangles to
+     * the number of connected triplets.
+     *
+     * @return the global clustering coefficient
+     * @throws IllegalArgumentException if the graph is directed
+     */
+    public double getGlobalClusteringCoefficient()
+    {
+        long t = getNumberOfTriangles();
+        double triplets = 0d;
+        for (V v : vertices) {
+            triplets += 1.0 * graph.degreeOf(v) * (graph.degreeOf(v) - 1) / 2;
+        }
+        return 3 * t / triplets;
+    }
+
+    /**
+     * Get the vertex at a given position of the graph vertex set.
+     *
+     * @param index the position
+     * @return the vertex
+     */
+    public V getVertex(int index)
+    {
+        return vertices.get(index);
+    }
+
+    /**
+     * Get the position of a vertex in the graph vertex set.
+     *
+     * @param v the vertex
+     * @return the position
+     * @throws IllegalArgumentException if the vertex is not in the graph
+     */
+    public int getIndex(V v)
+    {
+        Integer index = indices.get(v);
+        if (index == null) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v);
+        }
+        return index;
+    }
+
+    private void lazyCompute()
+    {
+        if (computed) {
+            return;
+        }
+        int n = vertices.size();
+        AtomicLongArray rankTriangles = new AtomicLongArray(n);
+        AtomicLongArray rankPairs = new AtomicLongArray(n);
+
+        List<Long> partial = ParallelUtil.mapChunks(parallelism, n, (from, to) -> {
+            long count = 0;
+            for (int r = from; r < to; r++) {
+                long localTriangles = 0;
+                long localPairs = 0;
+                int rEnd = forwardOffsets[r + 1];
+                for (int p = forwardOffsets[r]; p < rEnd; p++) {
+                    int s = forward[p];
+                    int sStart = forwardOffsets[s];
+                    int sEnd = forwardOffsets[s + 1];
+                    // common forward neighbors of r and s, all larger than s
+                    int i = p + 1;
+                    int j = sStart;
+                    boolean gallop = (long) (rEnd - i) * SortedAdjacency.GALLOP_RATIO < sEnd - sStart;
+                    while (i < rEnd && j < sEnd) {
+                        int x = forward[i];
+                        if (gallop) {
+                            j = SortedAdjacency.gallop(forward, j, sEnd, x);
+                            if (j == sEnd) {
+                                break;
+                            }
+                        }
+                        int y = forward[j];
+                        if (x < y) {
+                            i++;
+                        } else if (x > y) {
+                            j++;
+                        } else {
+                            // triangle (r, s, x)
+                            localTriangles++;
+                            rankTriangles.incrementAndGet(s);
+                            rankTriangles.incrementAndGet(x);
+                            localPairs += Integer.bitCount(forwardArcs[j]);
+                            rankPairs.addAndGet(s, Integer.bitCount(forwardArcs[i]));
+                            rankPairs.addAndGet(x, Integer.bitCount(forwardArcs[p]));
+                            i++;
+                            j++;
+                        }
+                    }
+                }
+                count += localTriangles;
+                rankTriangles.addAndGet(r, localTriangles);
+                rankPairs.addAndGet(r, localPairs);
+            }
+            return count;
+        });
+
+        long total = 0;
+        for (long c : partial) {
+            total += c;
+        }
+        this.triangles = total;
+        this.vertexTriangles = new long[n];
+        this.vertexLinkedPairs = new long[n];
+        for (int i = 0; i < n; i++) {
+            vertexTriangles[i] = rankTriangles.get(rank[i]);
+            vertexLinkedPairs[i] = rankPairs.get(rank[i]);
+        }
+        this.computed = true;
+    }
+
+}
@@ -0,0 +1,408 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.ordering;
+
+import java.util.Arrays;
+
+import org.jgrapht.Graph;
+import org.jgrapht.capi.custom.util.SortedAdjacency;
+
+/**
+ * Vertex orderings which improve the locality of graph traversals.
+ *
+ * <p>
+ * The vertices of the graph must be $0, \dots, n-1$. Edge directions, self-loops and multiple
+ * edges are ignored. An ordering is returned as an array whose $i$-th element is the vertex which
+ * becomes vertex $i$, its inverse maps each vertex to its new label. The following orderings are
+ * supported:
+ * <ul>
+ * <li>reverse Cuthill-McKee, a breadth-first search of each connected component from a
+ * pseudo-peripheral vertex which visits neighbors by increasing degree, reversed. It reduces the
+ * bandwidth of the adjacency matrix.</li>
+ * <li>breadth-first search of each connected component from its smallest vertex.</li>
+ * <li>decreasing degree, which packs the hubs together.</li>
+ * <li>Rabbit order, from J. Arai, H. Shiokawa, T. Yamamuro, M. Onizuka and S. Iwamura. Rabbit
+ * Order: Just-in-time Parallel Reordering for Fast Graph Analysis. IPDPS 2016. Vertices are visited
+ * by increasing degree and each one is merged into the neighboring community with the largest
+ * positive modularity gain. The ordering is a depth-first search of the resulting dendrogram, thus
+ * communities get consecutive labels. This is the sequential version of the algorithm.</li>
+ * </ul>
+ *
+ * <p>
+ * All orderings are deterministic.
+ */
+public class VertexReordering
+{
+    /**
+     * The ordering strategy.
+     */
+    public enum Strategy
+    {
+        REVERSE_CUTHILL_MCKEE,
+        BFS,
+        DEGREE,
+        RABBIT,
+    }
+
+    private final int n;
+    private final int[] offsets;
+    private final int[] neighbors;
+
+    /**
+     * Create a new reordering.
+     *
+     * @param graph the graph, with vertices $0, \dots, n-1$
+     * @param <E> the graph edge type
+     * @throws IllegalArgumentException if the vertices are not $0, \dots, n-1$
+     */
+    public <E> VertexReordering(Graph<Integer, E> graph)
+    {
+        SortedAdjacency<Integer> adjacency = SortedAdjacency.neighbors(graph, false);
+        this.n = adjacency.vertexCount();
+        for (int i = 0; i < n; i++) {
+            if (adjacency.getIndex(i) != i) {
+                throw new IllegalArgumentException("Vertices must be 0 up to n-1");
+            }
+        }
+        this.offsets = adjacency.getOffsets();
+        this.neighbors = adjacency.getNeighbors();
+    }
+
+    /**
+     * Compute an ordering.
+     *
+     * @param strategy the strategy
+     * @return an array whose $i$-th element is the vertex which becomes vertex $i$
+     */
+    public int[] getOrder(Strategy strategy)
+    {
+        switch (strategy) {
+        case REVERSE_CUTHILL_MCKEE:
+            return reverseCuthillMcKee();
+        case BFS:
+            return bfs();
+        case DEGREE:
+            return degree();
+        case RABBIT:
+        default:
+            return rabbit();
+        }
+    }
+
+    /**
+     * Invert a permutation.
+     *
+     * @param permutation the permutation
+     * @return the inverse permutation
+     */
+    public static int[] invert(int[] permutation)
+    {
+        int[] inverse = new int[permutation.length];
+        for (int i = 0; i < permutation.length; i++) {
+            inverse[permutation[i]] = i;
+        }
+        return inverse;
+    }
+
+    private int degreeOf(int v)
+    {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    /**
+     * Sort the vertices by degree using a stable counting sort.
+     */
+    private int[] byDegree(boolean decreasing)
+    {
+        int maxDegree = 0;
+        for (int v = 0; v < n; v++) {
+            maxDegree = Math.max(maxDegree, degreeOf(v));
+        }
+        int[] start = new int[maxDegree + 2];
+        for (int v = 0; v < n; v++) {
+            int d = degreeOf(v);
+            start[(decreasing ? maxDegree - d : d) + 1]++;
+        }
+        for (int d = 0; d <= maxDegree; d++) {
+            start[d + 1] += start[d];
+        }
+        int[] order = new int[n];
+        for (int v = 0; v < n; v++) {
+            int d = degreeOf(v);
+            order[start[decreasing ? maxDegree - d : d]++] = v;
+        }
+        return order;
+    }
+
+    private int[] bfs()
+    {
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        int tail = 0;
+        for (int s = 0; s < n; s++) {
+            if (visited[s]) {
+                continue;
+            }
+            visited[s] = true;
+            int head = tail;
+            order[tail++] = s;
+            while (head < tail) {
+                int v = order[head++];
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    int u = neighbors[i];
+                    if (!visited[u]) {
+                        visited[u] = true;
+                        order[tail++] = u;
+                    }
+                }
+            }
+        }
+        return order;
+    }
+
+    private int[] degree()
+    {
+        return byDegree(true);
+    }
+
+    private int[] reverseCuthillMcKee()
+    {
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        int[] level = new int[n];
+        int[] queue = new int[n];
+        long[] buffer = new long[16];
+        int tail = 0;
+
+        for (int s : byDegree(false)) {
+            if (visited[s]) {
+                continue;
+            }
+            int root = pseudoPeripheral(s, level, queue);
+            visited[root] = true;
+            int head = tail;
+            order[tail++] = root;
+            while (head < tail) {
+                int v = order[head++];
+                // unvisited neighbors by increasing degree and label
+                int count = 0;
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    int u = neighbors[i];
+                    if (!visited[u]) {
+                        visited[u] = true;
+                        if (count == buffer.length) {
+                            buffer = Arrays.copyOf(buffer, 2 * count);
+                        }
+                        buffer[count++] = ((long) degreeOf(u) << 32) | u;
+                    }
+                }
+                Arrays.sort(buffer, 0, count);
+                for (int i = 0; i < count; i++) {
+                    order[tail++] = (int) buffer[i];
+                }
+            }
+        }
+
+        for (int i = 0, j = n - 1; i < j; i++, j--) {
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        return order;
+    }
+
+    /**
+     * Find a pseudo-peripheral vertex of the component of a vertex using the heuristic of George
+     * and Liu. Starting from the vertex, move to a vertex of minimum degree in the last level of a
+     * breadth-first search as long as the eccentricity increases.
+     */
+    private int pseudoPeripheral(int s, int[] level, int[] queue)
+    {
+        int root = s;
+        int eccentricity = -1;
+        while (true) {
+            // levels are reset after each search, by walking the queue
+            level[root] = 1;
+            queue[0] = root;
+            int head = 0;
+            int tail = 1;
+            while (head < tail) {
+                int v = queue[head++];
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    int u = neighbors[i];
+                    if (level[u] == 0) {
+                        level[u] = level[v] + 1;
+                        queue[tail++] = u;
+                    }
+                }
+            }
+            int last = level[queue[tail - 1]];
+            int candidate = -1;
+            for (int i = tail - 1; i >= 0 && level[queue[i]] == last; i--) {
+                int v = queue[i];
+                if (candidate < 0 || degreeOf(v) < degreeOf(candidate)
+                    || (degreeOf(v) == degreeOf(candidate) && v < candidate))
+                {
+                    candidate = v;
+                }
+            }
+            for (int i = 0; i < tail; i++) {
+                level[queue[i]] = 0;
+            }
+            if (last <= eccentricity) {
+                return root;
+            }
+            eccentricity = last;
+            root = candidate;
+        }
+    }
+
+    private int[] rabbit()
+    {
+        double total = offsets[n];
+        int[] parent = new int[n];
+        double[] strength = new double[n];
+        for (int v = 0; v < n; v++) {
+            parent[v] = v;
+            strength[v] = degreeOf(v);
+        }
+
+        // the aggregated edges of each community, null for the edges of the vertex
+        int[][] edgeTargets = new int[n][];
+        double[][] edgeWeights = new double[n][];
+
+        // dendrogram, children are prepended
+        int[] firstChild = new int[n];
+        int[] nextSibling = new int[n];
+        Arrays.fill(firstChild, -1);
+        Arrays.fill(nextSibling, -1);
+        boolean[] processed = new boolean[n];
+        int[] topLevel = new int[n];
+        int topLevelCount = 0;
+
+        double[] acc = new double[n];
+        int[] touched = new int[n];
+
+        for (int u : byDegree(false)) {
+            int[] targets = edgeTargets[u];
+            double[] weights = edgeWeights[u];
+            int length = targets == null ? degreeOf(u) : targets.length;
+
+            // aggregate the edges by community
+            int count = 0;
+            for (int i = 0; i < length; i++) {
+                int t = targets == null ? neighbors[offsets[u] + i] : targets[i];
+                double w = targets == null ? 1d : weights[i];
+                int r = find(parent, t);
+                if (r == u) {
+                    continue;
+                }
+                if (acc[r] == 0d) {
+                    touched[count++] = r;
+                }
+                acc[r] += w;
+            }
+
+            int best = -1;
+            double bestGain = 0d;
+            for (int i = 0; i < count; i++) {
+                int r = touched[i];
+                double gain = acc[r] - strength[u] * strength[r] / total;
+                if (gain > bestGain || (gain == bestGain && best >= 0 && r < best)) {
+                    best = r;
+                    bestGain = gain;
+                }
+            }
+
+            processed[u] = true;
+            if (best < 0) {
+                topLevel[topLevelCount++] = u;
+            } else {
+                parent[u] = best;
+                strength[best] += strength[u];
+                nextSibling[u] = firstChild[best];
+                firstChild[best] = u;
+                if (!processed[best]) {
+                    appendEdges(best, touched, acc, count, edgeTargets, edgeWeights);
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                acc[touched[i]] = 0d;
+            }
+            edgeTargets[u] = null;
+            edgeWeights[u] = null;
+        }
+
+        // depth-first search of the dendrogram, children in the order they merged
+        int[] order = new int[n];
+        int[] stack = new int[n];
+        int pos = 0;
+        for (int i = 0; i < topLevelCount; i++) {
+            int top = 0;
+            stack[top++] = topLevel[i];
+            while (top > 0) {
+                int v = stack[--top];
+                order[pos++] = v;
+                for (int c = firstChild[v]; c >= 0; c = nextSibling[c]) {
+                    stack[top++] = c;
+                }
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Append the aggregated edges of a merged community to the edges of the community it merged
+     * into.
+     */
+    private void appendEdges(
+        int v, int[] targets, double[] weights, int count, int[][] edgeTargets,
+        double[][] edgeWeights)
+    {
+        int[] oldTargets = edgeTargets[v];
+        double[] oldWeights = edgeWeights[v];
+        int oldLength = oldTargets == null ? degreeOf(v) : oldTargets.length;
+
+        int[] newTargets = new int[oldLength + count];
+        double[] newWeights = new double[oldLength + count];
+        if (oldTargets == null) {
+            System.arraycopy(neighbors, offsets[v], newTargets, 0, oldLength);
+            Arrays.fill(newWeights, 0, oldLength, 1d);
+        } else {
+            System.arraycopy(oldTargets, 0, newTargets, 0, oldLength);
+            System.arraycopy(oldWeights, 0, newWeights, 0, oldLength);
+        }
+        for (int i = 0; i < count; i++) {
+            int r = targets[i];
+            newTargets[oldLength + i] = r;
+            newWeights[oldLength + i] = weights[r];
+        }
+        edgeTargets[v] = newTargets;
+        edgeWeights[v] = newWeights;
+    }
+
+    private static int find(int[] parent, int v)
+    {
+        while (parent[v] != v) {
+            parent[v] = parent[parent[v]];
+            v = parent[v];
+        }
+        return v;
+    }
+
+}
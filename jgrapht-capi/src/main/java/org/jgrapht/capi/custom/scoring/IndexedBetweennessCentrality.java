@@ -0,0 +1,255 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.scoring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jgrapht.Graph;
+import org.jgrapht.Graphs;
+import org.jgrapht.alg.interfaces.VertexScoringAlgorithm;
+import org.jgrapht.capi.custom.util.Progress;
+import org.jheaps.AddressableHeap;
+import org.jheaps.tree.PairingHeap;
+
+/**
+ * Betweenness centrality using Brandes' algorithm on vertices and edges indexed by integers.
+ *
+ * <p>
+ * This is the same algorithm as {@link org.jgrapht.alg.scoring.BetweennessCentrality}, with the
+ * same order of operations and thus the same scores, but per vertex data is kept in arrays which
+ * are reused across sources. The optional progress reports the number of sources processed.
+ *
+ * @author Dimitrios Michail
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class IndexedBetweennessCentrality<V, E>
+    implements
+    VertexScoringAlgorithm<V, Double>
+{
+    /**
+     * Name of the phase reported to the progress.
+     */
+    public static final String PHASE_SOURCES = "sources";
+
+    private final Graph<V, E> graph;
+    private final boolean normalize;
+    private final Progress progress;
+    private Map<V, Double> scores;
+
+    /**
+     * Create a new instance
+     *
+     * @param graph the input graph
+     * @param normalize whether to normalize by dividing the scores by $(n-1)(n-2)$
+     * @param progress the progress, may be null
+     */
+    public IndexedBetweennessCentrality(Graph<V, E> graph, boolean normalize, Progress progress)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.normalize = normalize;
+        this.progress = progress;
+    }
+
+    @Override
+    public Map<V, Double> getScores()
+    {
+        if (scores == null) {
+            compute();
+        }
+        return Collections.unmodifiableMap(scores);
+    }
+
+    @Override
+    public Double getVertexScore(V v)
+    {
+        if (!graph.containsVertex(v)) {
+            throw new IllegalArgumentException("Cannot return score of unknown vertex");
+        }
+        if (scores == null) {
+            compute();
+        }
+        return scores.get(v);
+    }
+
+    private void compute()
+    {
+        int n = graph.vertexSet().size();
+        List<V> vertices = new ArrayList<>(graph.vertexSet());
+        Map<V, Integer> index = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            index.put(vertices.get(i), i);
+        }
+
+        // outgoing edges, in the order of the graph
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] = offsets[i] + graph.outgoingEdgesOf(vertices.get(i)).size();
+        }
+        int[] targets = new int[offsets[n]];
+        double[] weights = new double[offsets[n]];
+        for (int i = 0, pos = 0; i < n; i++) {
+            V v = vertices.get(i);
+            for (E e : graph.outgoingEdgesOf(v)) {
+                targets[pos] = index.get(Graphs.getOppositeVertex(graph, e, v));
+                weights[pos] = graph.getEdgeWeight(e);
+                pos++;
+            }
+        }
+
+        boolean weighted = graph.getType().isWeighted();
+        double[] score = new double[n];
+        int[] stack = new int[n];
+        int[] queue = new int[n];
+        long[] sigma = new long[n];
+        double[] distance = new double[n];
+        double[] dependency = new double[n];
+        int[][] predecessors = new int[n][];
+        int[] predecessorsCount = new int[n];
+        @SuppressWarnings("unchecked")
+        AddressableHeap.Handle<Double, Integer>[] handles =
+            weighted ? new AddressableHeap.Handle[n] : null;
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+
+        if (progress != null) {
+            progress.startPhase(PHASE_SOURCES, n);
+        }
+        for (int s = 0; s < n; s++) {
+            int stackSize = 0;
+            sigma[s] = 1;
+            distance[s] = 0d;
+
+            // 1. compute the length and the number of shortest paths from s
+            AddressableHeap<Double, Integer> heap = null;
+            int head = 0, tail = 0;
+            if (weighted) {
+                heap = new PairingHeap<>();
+                handles[s] = heap.insert(0d, s);
+            } else {
+                queue[tail++] = s;
+            }
+            while (weighted ? !heap.isEmpty() : head < tail) {
+                int v = weighted ? heap.deleteMin().getValue() : queue[head++];
+                stack[stackSize++] = v;
+
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    int w = targets[i];
+                    double eWeight = weights[i];
+                    if (eWeight < 0d) {
+                        throw new IllegalArgumentException("Negative edge weight not allowed");
+                    }
+                    double d = distance[v] + eWeight;
+                    if (distance[w] == Double.POSITIVE_INFINITY) {
+                        // w found for the first time
+                        if (weighted) {
+                            handles[w] = heap.insert(d, w);
+                        } else {
+                            queue[tail++] = w;
+                        }
+                        distance[w] = d;
+                        sigma[w] = sigma[v];
+                        addPredecessor(predecessors, predecessorsCount, w, v);
+                    } else if (distance[w] == d) {
+                        // another shortest path to w via v
+                        sigma[w] += sigma[v];
+                        addPredecessor(predecessors, predecessorsCount, w, v);
+                    } else if (distance[w] > d) {
+                        if (weighted) {
+                            handles[w].decreaseKey(d);
+                        }
+                        distance[w] = d;
+                        sigma[w] = sigma[v];
+                        predecessorsCount[w] = 0;
+                        addPredecessor(predecessors, predecessorsCount, w, v);
+                    }
+                }
+            }
+
+            // 2. sum all pair dependencies, in order of non-increasing distance from s
+            int visited = stackSize;
+            while (stackSize > 0) {
+                int w = stack[--stackSize];
+                for (int i = 0; i < predecessorsCount[w]; i++) {
+                    int v = predecessors[w][i];
+                    dependency[v] = dependency[v]
+                        + ((double) sigma[v] / (double) sigma[w]) * (1 + dependency[w]);
+                }
+                if (w != s) {
+                    score[w] = score[w] + dependency[w];
+                }
+            }
+
+            // reset the visited vertices
+            for (int i = 0; i < visited; i++) {
+                int v = stack[i];
+                sigma[v] = 0;
+                distance[v] = Double.POSITIVE_INFINITY;
+                dependency[v] = 0d;
+                predecessorsCount[v] = 0;
+                if (weighted) {
+                    handles[v] = null;
+                }
+            }
+
+            if (progress != null) {
+                progress.advance(1);
+            }
+        }
+
+        // in undirected graphs each shortest path is considered twice
+        if (!graph.getType().isDirected()) {
+            for (int i = 0; i < n; i++) {
+                score[i] = score[i] / 2;
+            }
+        }
+        if (normalize) {
+            int normalizationFactor = (n - 1) * (n - 2);
+            if (normalizationFactor != 0) {
+                for (int i = 0; i < n; i++) {
+                    score[i] = score[i] / normalizationFactor;
+                }
+            }
+        }
+
+        scores = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            scores.put(vertices.get(i), score[i]);
+        }
+    }
+
+    private static void addPredecessor(int[][] predecessors, int[] count, int w, int v)
+    {
+        int[] list = predecessors[w];
+        if (list == null) {
+            list = new int[4];
+            predecessors[w] = list;
+        } else if (count[w] == list.length) {
+            list = Arrays.copyOf(list, 2 * list.length);
+            predecessors[w] = list;
+        }
+        list[count[w]++] = v;
+    }
+
+}
@@ -0,0 +1,416 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.traverse;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.jgrapht.Graph;
+import org.jgrapht.capi.custom.util.ParallelUtil;
+import org.jgrapht.capi.custom.util.SortedAdjacency;
+import org.jgrapht.capi.memory.NativeResource;
+
+/**
+ * Parallel direction-optimizing breadth-first search.
+ *
+ * <p>
+ * This is the algorithm of S. Beamer, K. Asanović and D. Patterson. Direction-Optimizing
+ * Breadth-First Search. SC 2012. A top-down step scans the successors of the frontier, and threads
+ * claim vertices with a compare-and-set on the parent array. A bottom-up step scans the
+ * predecessors of each unvisited vertex until one of them is in the frontier, which needs no
+ * synchronization and is much cheaper when the frontier contains a large part of the edges. The
+ * search switches to bottom-up when the frontier has more than $1/\alpha$ of the edges left to
+ * explore, and back to top-down when it shrinks below $n/\beta$ vertices.
+ *
+ * <p>
+ * The vertices of the graph must be $0, \dots, n-1$. The adjacency arrays are built once, when the
+ * search is created, and the search can afterwards run concurrently from many sets of sources.
+ * The levels are deterministic. The parents are shortest path parents, but which one is chosen
+ * depends on the scheduling of the threads.
+ *
+ * <p>
+ * The threads of the search are created once and are shared by all runs, thus the search must be
+ * closed when it is no longer needed. This happens when its handle is destroyed.
+ */
+public class ParallelBreadthFirstSearch
+    implements NativeResource
+{
+    /**
+     * The default factor $\alpha$. Switch to bottom-up when the edges of the frontier exceed the
+     * unexplored edges divided by this factor.
+     */
+    public static final int ALPHA = 14;
+
+    /**
+     * The default factor $\beta$. Switch back to top-down when the frontier has fewer than $n$
+     * divided by this factor vertices.
+     */
+    public static final int BETA = 24;
+
+    private final int n;
+    private final int alpha;
+    private final int beta;
+    private final ForkJoinPool pool;
+    private volatile boolean closed;
+    private final int[] outOffsets;
+    private final int[] outNeighbors;
+    private final int[] inOffsets;
+    private final int[] inNeighbors;
+
+    /**
+     * Create a new search with the default factors {@link #ALPHA} and {@link #BETA}.
+     *
+     * @param graph the graph, with vertices $0, \dots, n-1$
+     * @param parallelism the parallelism
+     * @param <E> the graph edge type
+     * @throws IllegalArgumentException if the vertices are not $0, \dots, n-1$
+     */
+    public <E> ParallelBreadthFirstSearch(Graph<Integer, E> graph, int parallelism)
+    {
+        this(graph, parallelism, ALPHA, BETA);
+    }
+
+    /**
+     * Create a new search.
+     *
+     * @param graph the graph, with vertices $0, \dots, n-1$
+     * @param parallelism the parallelism
+     * @param alpha the factor $\alpha$ which controls the switch to bottom-up
+     * @param beta the factor $\beta$ which controls the switch back to top-down
+     * @param <E> the graph edge type
+     * @throws IllegalArgumentException if the vertices are not $0, \dots, n-1$, or if a
+     *         parameter is not positive
+     */
+    public <E> ParallelBreadthFirstSearch(
+        Graph<Integer, E> graph, int parallelism, int alpha, int beta)
+    {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        if (alpha < 1 || beta < 1) {
+            throw new IllegalArgumentException("Alpha and beta must be positive");
+        }
+        this.alpha = alpha;
+        this.beta = beta;
+
+        SortedAdjacency<Integer> successors;
+        SortedAdjacency<Integer> predecessors;
+        if (graph.getType().isDirected()) {
+            successors = SortedAdjacency.successors(graph);
+            predecessors = SortedAdjacency.predecessors(graph);
+        } else {
+            successors = SortedAdjacency.neighbors(graph, false);
+            predecessors = successors;
+        }
+        this.n = successors.vertexCount();
+        for (int i = 0; i < n; i++) {
+            if (successors.getIndex(i) != i) {
+                throw new IllegalArgumentException("Vertices must be 0 up to n-1");
+            }
+        }
+        this.outOffsets = successors.getOffsets();
+        this.outNeighbors = successors.getNeighbors();
+        this.inOffsets = predecessors.getOffsets();
+        this.inNeighbors = predecessors.getNeighbors();
+        this.pool = parallelism > 1 ? ParallelUtil.createPool(parallelism) : null;
+    }
+
+    /**
+     * Get the number of vertices.
+     *
+     * @return the number of vertices
+     */
+    public int vertexCount()
+    {
+        return n;
+    }
+
+    /**
+     * Run the search from a set of sources.
+     *
+     * @param sources the sources, which are at level 0
+     * @return the result
+     * @throws IllegalArgumentException if a source is not a vertex
+     * @throws IllegalStateException if the search has been closed
+     */
+    public Result search(int[] sources)
+    {
+        if (closed) {
+            throw new IllegalStateException("Search has been closed");
+        }
+        int[] levels = new int[n];
+        Arrays.fill(levels, -1);
+        AtomicIntegerArray parents = new AtomicIntegerArray(n);
+        for (int v = 0; v < n; v++) {
+            parents.lazySet(v, -1);
+        }
+
+        int[] frontier = new int[sources.length];
+        int frontierSize = 0;
+        for (int s : sources) {
+            if (s < 0 || s >= n) {
+                throw new IllegalArgumentException("no such vertex in graph: " + s);
+            }
+            if (levels[s] < 0) {
+                levels[s] = 0;
+                parents.set(s, s);
+                frontier[frontierSize++] = s;
+            }
+        }
+
+        long unexploredEdges = outOffsets[n];
+        long frontierEdges = 0;
+        for (int i = 0; i < frontierSize; i++) {
+            int v = frontier[i];
+            frontierEdges += outOffsets[v + 1] - outOffsets[v];
+        }
+        unexploredEdges -= frontierEdges;
+
+        int reached = frontierSize;
+        int level = 0;
+        boolean[] inFrontier = null;
+        while (frontierSize > 0) {
+            if (inFrontier == null && frontierEdges > unexploredEdges / alpha) {
+                inFrontier = toBitmap(frontier, frontierSize);
+            }
+            int next = level + 1;
+            if (inFrontier != null) {
+                boolean[] current = inFrontier;
+                inFrontier = new boolean[n];
+                frontierSize = bottomUp(current, inFrontier, levels, parents, next);
+                if (frontierSize < n / beta) {
+                    frontier = toQueue(inFrontier);
+                    inFrontier = null;
+                }
+            } else {
+                frontier = topDown(frontier, frontierSize, levels, parents, next);
+                frontierSize = frontier.length;
+            }
+            reached += frontierSize;
+            level = next;
+
+            frontierEdges =
+                inFrontier != null ? edgesOf(inFrontier) : edgesOf(frontier, frontierSize);
+            unexploredEdges -= frontierEdges;
+        }
+
+        return new Result(levels, parents, reached, level);
+    }
+
+    /**
+     * Release the threads of the search. Searches which are still running may fail.
+     */
+    @Override
+    public void close()
+    {
+        closed = true;
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    private int[] topDown(
+        int[] frontier, int frontierSize, int[] levels, AtomicIntegerArray parents, int next)
+    {
+        List<int[]> parts = ParallelUtil.mapChunks(pool, frontierSize, (from, to) -> {
+            int[] buffer = new int[16];
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                int u = frontier[i];
+                for (int j = outOffsets[u]; j < outOffsets[u + 1]; j++) {
+                    int v = outNeighbors[j];
+                    if (parents.get(v) == -1 && parents.compareAndSet(v, -1, u)) {
+                        levels[v] = next;
+                        if (count == buffer.length) {
+                            buffer = Arrays.copyOf(buffer, 2 * count);
+                        }
+                        buffer[count++] = v;
+                    }
+                }
+            }
+            return Arrays.copyOf(buffer, count);
+        });
+        return concat(parts);
+    }
+
+    private int bottomUp(
+        boolean[] current, boolean[] result, int[] levels, AtomicIntegerArray parents, int next)
+    {
+        List<Integer> counts = ParallelUtil.mapChunks(pool, n, (from, to) -> {
+            int count = 0;
+            for (int v = from; v < to; v++) {
+                if (levels[v] >= 0) {
+                    continue;
+                }
+                for (int j = inOffsets[v]; j < inOffsets[v + 1]; j++) {
+                    int u = inNeighbors[j];
+                    if (current[u]) {
+                        parents.set(v, u);
+                        levels[v] = next;
+                        result[v] = true;
+                        count++;
+                        break;
+                    }
+                }
+            }
+            return count;
+        });
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    private boolean[] toBitmap(int[] frontier, int frontierSize)
+    {
+        boolean[] bitmap = new boolean[n];
+        for (int i = 0; i < frontierSize; i++) {
+            bitmap[frontier[i]] = true;
+        }
+        return bitmap;
+    }
+
+    private int[] toQueue(boolean[] bitmap)
+    {
+        List<int[]> parts = ParallelUtil.mapChunks(pool, n, (from, to) -> {
+            int count = 0;
+            for (int v = from; v < to; v++) {
+                if (bitmap[v]) {
+                    count++;
+                }
+            }
+            int[] part = new int[count];
+            int pos = 0;
+            for (int v = from; v < to; v++) {
+                if (bitmap[v]) {
+                    part[pos++] = v;
+                }
+            }
+            return part;
+        });
+        return concat(parts);
+    }
+
+    private long edgesOf(int[] frontier, int frontierSize)
+    {
+        long edges = 0;
+        for (int i = 0; i < frontierSize; i++) {
+            int v = frontier[i];
+            edges += outOffsets[v + 1] - outOffsets[v];
+        }
+        return edges;
+    }
+
+    private long edgesOf(boolean[] bitmap)
+    {
+        List<Long> parts = ParallelUtil.mapChunks(pool, n, (from, to) -> {
+            long edges = 0;
+            for (int v = from; v < to; v++) {
+                if (bitmap[v]) {
+                    edges += outOffsets[v + 1] - outOffsets[v];
+                }
+            }
+            return edges;
+        });
+        long edges = 0;
+        for (long part : parts) {
+            edges += part;
+        }
+        return edges;
+    }
+
+    private static int[] concat(List<int[]> parts)
+    {
+        int total = 0;
+        for (int[] part : parts) {
+            total += part.length;
+        }
+        int[] result = new int[total];
+        int pos = 0;
+        for (int[] part : parts) {
+            System.arraycopy(part, 0, result, pos, part.length);
+            pos += part.length;
+        }
+        return result;
+    }
+
+    /**
+     * The result of a search.
+     */
+    public static class Result
+    {
+        private final int[] levels;
+        private final AtomicIntegerArray parents;
+        private final int reached;
+        private final int depth;
+
+        Result(int[] levels, AtomicIntegerArray parents, int reached, int depth)
+        {
+            this.levels = levels;
+            this.parents = parents;
+            this.reached = reached;
+            this.depth = depth;
+        }
+
+        /**
+         * Get the level of a vertex, which is its distance from the closest source.
+         *
+         * @param v the vertex
+         * @return the level, or -1 if the vertex was not reached
+         */
+        public int getLevel(int v)
+        {
+            return levels[v];
+        }
+
+        /**
+         * Get the parent of a vertex in the search tree.
+         *
+         * @param v the vertex
+         * @return the parent, the vertex itself for sources, or -1 if the vertex was not reached
+         */
+        public int getParent(int v)
+        {
+            return parents.get(v);
+        }
+
+        /**
+         * Get the number of reached vertices, including the sources.
+         *
+         * @return the number of reached vertices
+         */
+        public int getReachedCount()
+        {
+            return reached;
+        }
+
+        /**
+         * Get the number of levels, which is one more than the largest level.
+         *
+         * @return the number of levels, or 0 without sources
+         */
+        public int getNumberOfLevels()
+        {
+            return depth;
+        }
+    }
+
+}
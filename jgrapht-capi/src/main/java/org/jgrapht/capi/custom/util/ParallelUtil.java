@@ -0,0 +1,197 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Helpers for running index based loops on a {@link ForkJoinPool}.
+ */
+public class ParallelUtil
+{
+    /**
+     * How many chunks to create per thread. More chunks than threads give better load balancing
+     * when the work per index is skewed, e.g. on power-law graphs.
+     */
+    public static final int CHUNKS_PER_THREAD = 8;
+
+    /**
+     * Body of a parallel loop over a contiguous range of indices.
+     */
+    @FunctionalInterface
+    public interface RangeConsumer
+    {
+        /**
+         * Process the indices in $[from, to)$.
+         *
+         * @param from first index inclusive
+         * @param to last index exclusive
+         */
+        void accept(int from, int to);
+    }
+
+    /**
+     * Body of a parallel loop over a contiguous range of indices which produces a partial result.
+     *
+     * @param <T> the result type
+     */
+    @FunctionalInterface
+    public interface RangeFunction<T>
+    {
+        /**
+         * Process the indices in $[from, to)$.
+         *
+         * @param from first index inclusive
+         * @param to last index exclusive
+         * @return the partial result
+         */
+        T apply(int from, int to);
+    }
+
+    /**
+     * Create a pool with a given parallelism.
+     *
+     * @param parallelism the parallelism
+     * @return the pool
+     * @throws IllegalArgumentException in case the parallelism is not positive
+     */
+    public static ForkJoinPool createPool(int parallelism)
+    {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        return new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Split the range $[0, size)$ into chunks and process them in parallel. Each chunk is processed
+     * by a single thread, so the consumer may reuse per chunk buffers.
+     *
+     * @param parallelism the parallelism
+     * @param size the size of the range
+     * @param consumer the loop body
+     */
+    public static void forEachChunk(int parallelism, int size, RangeConsumer consumer)
+    {
+        mapChunks(parallelism, size, (from, to) -> {
+            consumer.accept(from, to);
+            return null;
+        });
+    }
+
+    /**
+     * Split the range $[0, size)$ into chunks and process them on an existing pool, which is left
+     * running. This avoids creating a pool per call in iterative algorithms.
+     *
+     * @param pool the pool, or null to process the range in the calling thread
+     * @param size the size of the range
+     * @param consumer the loop body
+     */
+    public static void forEachChunk(ForkJoinPool pool, int size, RangeConsumer consumer)
+    {
+        mapChunks(pool, size, (from, to) -> {
+            consumer.accept(from, to);
+            return null;
+        });
+    }
+
+    /**
+     * Split the range $[0, size)$ into chunks, process them in parallel and return the partial
+     * results in chunk order.
+     *
+     * @param parallelism the parallelism
+     * @param size the size of the range
+     * @param function the loop body
+     * @return the partial results of all chunks in order
+     * @param <T> the result type
+     */
+    public static <T> List<T> mapChunks(int parallelism, int size, RangeFunction<T> function)
+    {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        if (parallelism == 1 || size <= 1) {
+            return mapChunks(null, size, function);
+        }
+        ForkJoinPool pool = createPool(parallelism);
+        try {
+            return mapChunks(pool, size, function);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Split the range $[0, size)$ into chunks, process them on an existing pool, which is left
+     * running, and return the partial results in chunk order.
+     *
+     * @param pool the pool, or null to process the range in the calling thread
+     * @param size the size of the range
+     * @param function the loop body
+     * @return the partial results of all chunks in order
+     * @param <T> the result type
+     */
+    public static <T> List<T> mapChunks(ForkJoinPool pool, int size, RangeFunction<T> function)
+    {
+        List<T> results = new ArrayList<>();
+        if (size <= 0) {
+            return results;
+        }
+
+        if (pool == null || pool.getParallelism() == 1) {
+            results.add(function.apply(0, size));
+            return results;
+        }
+
+        int parallelism = pool.getParallelism();
+        int chunks = (int) Math.min(size, (long) parallelism * CHUNKS_PER_THREAD);
+        int chunkSize = (size + chunks - 1) / chunks;
+
+        List<Callable<T>> tasks = new ArrayList<>(chunks);
+        for (int from = 0; from < size; from += chunkSize) {
+            final int f = from;
+            final int t = (int) Math.min(size, (long) from + chunkSize);
+            tasks.add(() -> function.apply(f, t));
+        }
+
+        try {
+            for (Future<T> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for parallel tasks", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+        return results;
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.util;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of a long running algorithm.
+ *
+ * <p>
+ * The algorithm goes through named phases. In each phase it reports completed units of work out of
+ * a total, which is {@link #UNKNOWN} when the amount of work cannot be known in advance. Updates
+ * may come from several threads and all state can be read at any time from other threads without
+ * locking. An optional listener is notified on every phase change and at most once per interval
+ * while units are completed.
+ */
+public class Progress
+{
+    /**
+     * Total number of units when unknown.
+     */
+    public static final long UNKNOWN = -1;
+
+    /**
+     * Listener of progress updates.
+     */
+    @FunctionalInterface
+    public interface Listener
+    {
+        /**
+         * Called when the progress changes.
+         *
+         * @param progress the progress
+         */
+        void onProgress(Progress progress);
+    }
+
+    private volatile String phase;
+    private volatile long total;
+    private final AtomicLong completed;
+    private volatile boolean done;
+
+    private volatile Listener listener;
+    private volatile long intervalNanos;
+    private final AtomicLong lastNotification;
+
+    /**
+     * Create a new progress.
+     */
+    public Progress()
+    {
+        this.phase = "";
+        this.total = UNKNOWN;
+        this.completed = new AtomicLong();
+        this.lastNotification = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Set the listener.
+     *
+     * @param listener the listener, or null for no listener
+     * @param intervalMillis minimum time between two notifications while units are completed
+     */
+    public void setListener(Listener listener, long intervalMillis)
+    {
+        if (intervalMillis < 0) {
+            throw new IllegalArgumentException("Interval must be non-negative");
+        }
+        this.intervalNanos = intervalMillis * 1_000_000L;
+        this.listener = listener;
+    }
+
+    /**
+     * Start a new phase.
+     *
+     * @param phase the name of the phase
+     * @param total the total number of units of the phase or {@link #UNKNOWN}
+     */
+    public void startPhase(String phase, long total)
+    {
+        this.completed.set(0);
+        this.total = total;
+        this.phase = Objects.requireNonNull(phase);
+        this.done = false;
+        notifyListener();
+    }
+
+    /**
+     * Report completed units in the current phase.
+     *
+     * @param units the number of units
+     */
+    public void advance(long units)
+    {
+        completed.addAndGet(units);
+        Listener l = listener;
+        if (l != null) {
+            long now = System.nanoTime();
+            long last = lastNotification.get();
+            if (now - last >= intervalNanos && lastNotification.compareAndSet(last, now)) {
+                l.onProgress(this);
+            }
+        }
+    }
+
+    /**
+     * Mark the algorithm as finished, whether successfully or not.
+     */
+    public void finish()
+    {
+        this.done = true;
+        notifyListener();
+    }
+
+    /**
+     * Get the name of the current phase.
+     *
+     * @return the name of the current phase, empty if the algorithm has not started
+     */
+    public String getPhase()
+    {
+        return phase;
+    }
+
+    /**
+     * Get the completed units of the current phase.
+     *
+     * @return the completed units
+     */
+    public long getCompleted()
+    {
+        return completed.get();
+    }
+
+    /**
+     * Get the total units of the current phase.
+     *
+     * @return the total units or {@link #UNKNOWN}
+     */
+    public long getTotal()
+    {
+        return total;
+    }
+
+    /**
+     * Whether the algorithm has finished.
+     *
+     * @return true if the algorithm has finished
+     */
+    public boolean isDone()
+    {
+        return done;
+    }
+
+    private void notifyListener()
+    {
+        Listener l = listener;
+        if (l != null) {
+            lastNotification.set(System.nanoTime());
+            l.onProgress(this);
+        }
+    }
+
+}
@@ -0,0 +1,424 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.custom.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jgrapht.Graph;
+import org.jgrapht.Graphs;
+
+/**
+ * An immutable snapshot of the neighborhoods of a graph stored as sorted and duplicate free
+ * adjacency arrays (compressed sparse row format). Vertices are mapped to dense indices in the
+ * order of the graph vertex set.
+ *
+ * <p>
+ * The snapshot is safe to read concurrently from multiple threads and supports merge based
+ * intersection of neighborhoods without allocating any sets.
+ *
+ * @param <V> the graph vertex type
+ */
+public class SortedAdjacency<V>
+{
+    /**
+     * Above this ratio of neighborhood sizes intersections switch from a linear merge to galloping
+     * (exponential search) on the larger neighborhood.
+     */
+    public static final int GALLOP_RATIO = 32;
+
+    private final List<V> vertices;
+    private final Map<V, Integer> indices;
+    private final int[] offsets;
+    private final int[] neighbors;
+    private final int[] outDegrees;
+
+    private SortedAdjacency(
+        List<V> vertices, Map<V, Integer> indices, int[] offsets, int[] neighbors, int[] outDegrees)
+    {
+        this.vertices = vertices;
+        this.indices = indices;
+        this.offsets = offsets;
+        this.neighbors = neighbors;
+        this.outDegrees = outDegrees;
+    }
+
+    /**
+     * Build the successor neighborhoods of a graph, as returned by
+     * {@link Graphs#successorListOf(Graph, Object)} without duplicates. The out-degree of each
+     * vertex is kept as reported by the graph, counting multiple edges.
+     *
+     * @param graph the graph
+     * @return the adjacency snapshot
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    public static <V, E> SortedAdjacency<V> successors(Graph<V, E> graph)
+    {
+        return build(graph, Direction.OUTGOING, true);
+    }
+
+    /**
+     * Build the predecessor neighborhoods of a graph without duplicates. For undirected graphs
+     * this is the same as {@link #successors(Graph)}. The out-degree of each vertex is kept as
+     * reported by the graph, counting multiple edges.
+     *
+     * @param graph the graph
+     * @return the adjacency snapshot
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    public static <V, E> SortedAdjacency<V> predecessors(Graph<V, E> graph)
+    {
+        return build(graph, Direction.INCOMING, true);
+    }
+
+    /**
+     * Build the neighborhoods of a graph ignoring edge directions, without duplicates.
+     *
+     * @param graph the graph
+     * @param selfLoops whether to keep a vertex in its own neighborhood
+     * @return the adjacency snapshot
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    public static <V, E> SortedAdjacency<V> neighbors(Graph<V, E> graph, boolean selfLoops)
+    {
+        return build(graph, Direction.BOTH, selfLoops);
+    }
+
+    private enum Direction
+    {
+        OUTGOING,
+        INCOMING,
+        BOTH,
+    }
+
+    private static <V, E> SortedAdjacency<V> build(
+        Graph<V, E> graph, Direction direction, boolean selfLoops)
+    {
+        int n = graph.vertexSet().size();
+        List<V> vertices = new ArrayList<>(n);
+        Map<V, Integer> indices = new HashMap<>();
+        for (V v : graph.vertexSet()) {
+            indices.put(v, vertices.size());
+            vertices.add(v);
+        }
+
+        int[] offsets = new int[n + 1];
+        int[] outDegrees = new int[n];
+        int[] neighbors = new int[Math.max(16, graph.edgeSet().size())];
+        int[] buffer = new int[16];
+        int total = 0;
+
+        for (int i = 0; i < n; i++) {
+            V v = vertices.get(i);
+            int count = 0;
+            Iterable<E> edges;
+            switch (direction) {
+            case OUTGOING:
+                edges = graph.outgoingEdgesOf(v);
+                break;
+            case INCOMING:
+                edges = graph.incomingEdgesOf(v);
+                break;
+            default:
+                edges = graph.edgesOf(v);
+                break;
+            }
+            for (E e : edges) {
+                int u = indices.get(Graphs.getOppositeVertex(graph, e, v));
+                if (!selfLoops && u == i) {
+                    continue;
+                }
+                if (count == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, 2 * count);
+                }
+                buffer[count++] = u;
+            }
+            outDegrees[i] = graph.outDegreeOf(v);
+
+            Arrays.sort(buffer, 0, count);
+            if (total + count > neighbors.length) {
+                neighbors = Arrays.copyOf(
+                    neighbors, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(
+                        2L * neighbors.length, (long) total + count)));
+            }
+            int prev = -1;
+            for (int j = 0; j < count; j++) {
+                int u = buffer[j];
+                if (u != prev) {
+                    neighbors[total++] = u;
+                    prev = u;
+                }
+            }
+            offsets[i + 1] = total;
+        }
+
+        return new SortedAdjacency<>(
+            vertices, indices, offsets, Arrays.copyOf(neighbors, total), outDegrees);
+    }
+
+    /**
+     * Get the number of vertices.
+     *
+     * @return the number of vertices
+     */
+    public int vertexCount()
+    {
+        return vertices.size();
+    }
+
+    /**
+     * Get the vertex with a given index.
+     *
+     * @param index the index
+     * @return the vertex
+     */
+    public V getVertex(int index)
+    {
+        return vertices.get(index);
+    }
+
+    /**
+     * Get the index of a vertex.
+     *
+     * @param v the vertex
+     * @return the vertex index
+     * @throws IllegalArgumentException if the vertex is not in the graph
+     */
+    public int getIndex(V v)
+    {
+        Integer index = indices.get(v);
+        if (index == null) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v);
+        }
+        return index;
+    }
+
+    /**
+     * Get the start of the neighborhood of a vertex in the {@link #getNeighbors()} array.
+     *
+     * @param index the vertex index
+     * @return the start offset, inclusive
+     */
+    public int start(int index)
+    {
+        return offsets[index];
+    }
+
+    /**
+     * Get the end of the neighborhood of a vertex in the {@link #getNeighbors()} array.
+     *
+     * @param index the vertex index
+     * @return the end offset, exclusive
+     */
+    public int end(int index)
+    {
+        return offsets[index + 1];
+    }
+
+    /**
+     * Get the number of distinct neighbors of a vertex.
+     *
+     * @param index the vertex index
+     * @return the number of distinct neighbors
+     */
+    public int neighborsCount(int index)
+    {
+        return offsets[index + 1] - offsets[index];
+    }
+
+    /**
+     * Get the maximum number of distinct neighbors of any vertex.
+     *
+     * @return the maximum number of distinct neighbors
+     */
+    public int maxNeighborsCount()
+    {
+        int max = 0;
+        for (int i = 0; i < vertices.size(); i++) {
+            max = Math.max(max, neighborsCount(i));
+        }
+        return max;
+    }
+
+    /**
+     * Get the out-degree of a vertex as reported by the graph.
+     *
+     * @param index the vertex index
+     * @return the out-degree
+     */
+    public int outDegree(int index)
+    {
+        return outDegrees[index];
+    }
+
+    /**
+     * Get the concatenated sorted neighborhoods of all vertices. Must not be modified.
+     *
+     * @return the neighbors array
+     */
+    public int[] getNeighbors()
+    {
+        return neighbors;
+    }
+
+    /**
+     * Get the offsets array of size $n+1$. Must not be modified.
+     *
+     * @return the offsets array
+     */
+    public int[] getOffsets()
+    {
+        return offsets;
+    }
+
+    /**
+     * Count the common neighbors of two vertices.
+     *
+     * @param u the first vertex index
+     * @param v the second vertex index
+     * @return the number of common neighbors
+     */
+    public int intersectionSize(int u, int v)
+    {
+        return intersect(
+            neighbors, offsets[u], offsets[u + 1], neighbors, offsets[v], offsets[v + 1], null);
+    }
+
+    /**
+     * Compute the common neighbors of two vertices.
+     *
+     * @param u the first vertex index
+     * @param v the second vertex index
+     * @param out buffer where the common neighbors are written in increasing order. Must have
+     *        room for the smaller of the two neighborhoods.
+     * @return the number of common neighbors
+     */
+    public int intersection(int u, int v, int[] out)
+    {
+        return intersect(
+            neighbors, offsets[u], offsets[u + 1], neighbors, offsets[v], offsets[v + 1], out);
+    }
+
+    /**
+     * Intersect two sorted duplicate free integer ranges. Uses a linear merge when the ranges have
+     * similar sizes and galloping search otherwise.
+     *
+     * @param a the first array
+     * @param aFrom start of first range inclusive
+     * @param aTo end of first range exclusive
+     * @param b the second array
+     * @param bFrom start of second range inclusive
+     * @param bTo end of second range exclusive
+     * @param out optional output buffer, may be null if only the size is needed
+     * @return the size of the intersection
+     */
+    public static int intersect(
+        int[] a, int aFrom, int aTo, int[] b, int bFrom, int bTo, int[] out)
+    {
+        int aLen = aTo - aFrom;
+        int bLen = bTo - bFrom;
+        if (aLen == 0 || bLen == 0) {
+            return 0;
+        }
+        if (aLen > bLen) {
+            return intersect(b, bFrom, bTo, a, aFrom, aTo, out);
+        }
+
+        int count = 0;
+        if ((long) aLen * GALLOP_RATIO < bLen) {
+            int lo = bFrom;
+            for (int i = aFrom; i < aTo && lo < bTo; i++) {
+                int x = a[i];
+                lo = gallop(b, lo, bTo, x);
+                if (lo < bTo && b[lo] == x) {
+                    if (out != null) {
+                        out[count] = x;
+                    }
+                    count++;
+                    lo++;
+                }
+            }
+            return count;
+        }
+
+        int i = aFrom, j = bFrom;
+        while (i < aTo && j < bTo) {
+            int x = a[i], y = b[j];
+            if (x < y) {
+                i++;
+            } else if (x > y) {
+                j++;
+            } else {
+                if (out != null) {
+                    out[count] = x;
+                }
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Find the first position in a sorted range whose value is at least a key, using exponential
+     * search from the start of the range.
+     *
+     * @param b the array
+     * @param from start of the range inclusive
+     * @param to end of the range exclusive
+     * @param key the key
+     * @return the first position in the range whose value is at least the key, or {@code to} if
+     *         no such position exists
+     */
+    public static int gallop(int[] b, int from, int to, int key)
+    {
+        if (from >= to || b[from] >= key) {
+            return from;
+        }
+        int step = 1;
+        int lo = from;
+        int hi = from + 1;
+        while (hi < to && b[hi] < key) {
+            lo = hi;
+            step <<= 1;
+            hi = (int) Math.min(to, (long) lo + step);
+        }
+        if (hi > to) {
+            hi = to;
+        }
+        // b[lo] < key and (hi == to or b[hi] >= key)
+        int l = lo + 1, r = hi;
+        while (l < r) {
+            int m = (l + r) >>> 1;
+            if (b[m] < key) {
+                l = m + 1;
+            } else {
+                r = m;
+            }
+        }
+        return l;
+    }
+
+}
@@ -23,18 +23,50 @@ import org.graalvm.nativeimage.c.type.CTypeConversion.CCharPointerHolder;
 import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.StringUtils;
 
+/**
+ * The error status of a thread. A single instance is kept per thread and
+ * overwritten on every error, thus recording an error does not allocate. The
+ * message and its C string are only computed when requested.
+ *
+ * <p>
+ * A C string handed out for a message stays valid until the C string of another
+ * message of the thread is requested, even if the error is cleared or
+ * overwritten in between.
+ */
 public class Error {
 
 	private Status status;
 	private String message;
 	private CCharPointerHolder messagePin;
+	private CCharPointerHolder retiredPin;
 	private Throwable throwable;
 
 	public Error(Status status, String message, Throwable throwable) {
+		set(status, message, throwable);
+	}
+
+	/**
+	 * Overwrite the error.
+	 * 
+	 * @param status    the status
+	 * @param message   the message or null to compute it from the throwable
+	 * @param throwable the throwable, may be null
+	 */
+	public void set(Status status, String message, Throwable throwable) {
 		this.status = Objects.requireNonNull(status, "Status cannot be null");
-		this.message = Objects.requireNonNull(message, "Message cannot be null");
-		this.messagePin = StringUtils.toCStringInUtf8(message);
+		this.message = message;
 		this.throwable = throwable;
+		if (message == null && throwable == null) {
+			throw new NullPointerException("Message cannot be null");
+		}
+		if (messagePin != null) {
+			// C code may still hold the message, release it on the next request
+			if (retiredPin != null) {
+				retiredPin.close();
+			}
+			retiredPin = messagePin;
+			messagePin = null;
+		}
 	}
 
 	public Status getStatus() {
@@ -42,10 +74,23 @@ public class Error {
 	}
 
 	public String getMessage() {
+		if (message == null) {
+			message = throwable.getMessage();
+			if (message == null) {
+				message = "Error (" + throwable.getClass().getSimpleName() + ")";
+			}
+		}
 		return message;
 	}
 
 	public CCharPointerHolder getMessagePin() {
+		if (messagePin == null) {
+			if (retiredPin != null) {
+				retiredPin.close();
+				retiredPin = null;
+			}
+			messagePin = StringUtils.toCStringInUtf8(getMessage());
+		}
 		return messagePin;
 	}
 
@@ -55,8 +100,7 @@ public class Error {
 
 	@Override
 	public String toString() {
-		return "Error [status=" + status + ", message=" + message + ", messagePin=" + messagePin + ", throwable="
-				+ throwable + "]";
+		return "Error [status=" + status + ", message=" + getMessage() + ", throwable=" + throwable + "]";
 	}
 
 }
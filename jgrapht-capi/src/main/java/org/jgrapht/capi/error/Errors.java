@@ -36,7 +36,7 @@ public class Errors {
 	public static final String NO_MESSAGE = "";
 
 	/**
-	 * The actual error, one per thread.
+	 * The actual error, one per thread, reused for every error of the thread.
 	 */
 	private static ThreadLocal<Error> errorThreadLocal = ThreadLocal
 			.withInitial(() -> new Error(Status.STATUS_SUCCESS, NO_MESSAGE, null));
@@ -59,34 +59,21 @@ public class Errors {
 	}
 
 	public static void clearError() {
-		errorThreadLocal.set(new Error(Status.STATUS_SUCCESS, NO_MESSAGE, null));
+		Error error = errorThreadLocal.get();
+		if (error.getStatus() != Status.STATUS_SUCCESS || error.getThrowable() != null) {
+			error.set(Status.STATUS_SUCCESS, NO_MESSAGE, null);
+		}
 	}
 
 	public static void setError(Throwable e) {
-		Status status = throwableToStatus(e);
-		String message = e.getMessage();
-		if (message == null) {
-			StringBuilder sb = new StringBuilder();
-			sb.append("Error");
-			String exceptionClassName = e.getClass().getSimpleName();
-			if (exceptionClassName != null) {
-				sb.append(" (");
-				sb.append(exceptionClassName);
-				sb.append(")");
-			}
-			message = sb.toString();
-		}
-		Error error = new Error(status, message, e);
-		
+		Error error = errorThreadLocal.get();
+		error.set(throwableToStatus(e), null, e);
+
 		if (Constants.DEBUG) {
-			// debugging support 
+			// debugging support
 			System.err.println("Error Trace -- Status: " + error.getStatus() + " -- Message: " + error.getMessage());
-			if (e != null) {
-				e.printStackTrace();
-			}
+			e.printStackTrace();
 		}
-		
-		errorThreadLocal.set(error);
 	}
 
 	public static Status throwableToStatus(Throwable e) {
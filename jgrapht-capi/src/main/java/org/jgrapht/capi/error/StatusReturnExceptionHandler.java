@@ -18,6 +18,7 @@
 package org.jgrapht.capi.error;
 
 import org.jgrapht.capi.JGraphTContext.Status;
+import org.jgrapht.capi.metrics.Metrics;
 
 /**
  * Convert an exception into an status code.
@@ -27,6 +28,7 @@ public class StatusReturnExceptionHandler {
 	public static int handle(Throwable e) {
 		Status s = Errors.throwableToStatus(e);
 		Errors.setError(e);
+		Metrics.failure(s);
 		return s.getCValue();
 	}
 
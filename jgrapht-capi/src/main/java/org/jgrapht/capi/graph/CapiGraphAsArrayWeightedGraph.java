@@ -0,0 +1,171 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.graph;
+
+import java.util.Objects;
+
+import org.jgrapht.GraphTests;
+import org.jgrapht.GraphType;
+import org.jgrapht.capi.attributes.AttributeColumn;
+import org.jgrapht.capi.attributes.ColumnarAttributes;
+
+/**
+ * A weighted view of a graph with integer edges where the weights are kept in a
+ * primitive array indexed by the edge identifier. Each weight lookup is a single
+ * array read. Reading or writing the weight of an edge whose identifier falls
+ * outside the array is delegated to the backing graph.
+ *
+ * @param <V> the vertex type
+ */
+public class CapiGraphAsArrayWeightedGraph<V> extends CapiGraphDelegator<V, Integer>
+		implements CapiGraph<V, Integer> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final double[] weights;
+	private final boolean writeWeightsThrough;
+
+	/**
+	 * Constructor
+	 *
+	 * @param graph               the backing graph
+	 * @param weights             the weights array indexed by edge identifier. The
+	 *                            array is used directly and not copied.
+	 * @param writeWeightsThrough if set to true, the weights will get propagated to
+	 *                            the backing graph in the
+	 *                            <code>setEdgeWeight()</code> method.
+	 * @throws NullPointerException     if the graph or the weights are null
+	 * @throws IllegalArgumentException if <code>writeWeightsThrough</code> is set
+	 *                                  to true and <code>graph</code> is not a
+	 *                                  weighted graph
+	 */
+	public CapiGraphAsArrayWeightedGraph(CapiGraph<V, Integer> graph, double[] weights,
+			boolean writeWeightsThrough) {
+		super(graph);
+		this.weights = Objects.requireNonNull(weights);
+		this.writeWeightsThrough = writeWeightsThrough;
+
+		if (this.writeWeightsThrough) {
+			GraphTests.requireWeighted(graph);
+		}
+	}
+
+	/**
+	 * Compute the size of an array able to hold a weight for every edge of a
+	 * graph, that is the maximum edge identifier plus one.
+	 *
+	 * @param graph the graph
+	 * @return the required array size
+	 * @throws IllegalArgumentException if the graph contains negative edge
+	 *                                  identifiers
+	 */
+	public static int requiredWeightsSize(CapiGraph<?, Integer> graph) {
+		int max = -1;
+		for (Integer e : graph.edgeSet()) {
+			if (e < 0) {
+				throw new IllegalArgumentException("Negative edge identifier " + e + " cannot index a weight array");
+			}
+			if (e > max) {
+				max = e;
+			}
+		}
+		return max + 1;
+	}
+
+	/**
+	 * Parse a numeric edge attribute into a weights array indexed by edge
+	 * identifier. Edges without the attribute keep the weight of the graph.
+	 *
+	 * @param graph the graph
+	 * @param name  the attribute name
+	 * @return the weights array
+	 * @throws IllegalArgumentException if the attribute was never stored for any
+	 *                                  edge, or if an edge identifier is negative.
+	 *                                  An attribute which was stored and then
+	 *                                  removed from all edges is not an error,
+	 *                                  all edges keep the weight of the graph.
+	 * @throws NumberFormatException    if a value of the attribute is not numeric
+	 */
+	public static double[] weightsFromAttribute(CapiGraph<?, Integer> graph, String name) {
+		ColumnarAttributes<Integer> attrs = graph.getStore().getEdgeAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		if (column == null) {
+			throw new IllegalArgumentException("Key " + name + " not found");
+		}
+		double[] weights = new double[requiredWeightsSize(graph)];
+		for (Integer e : graph.edgeSet()) {
+			int pos = attrs.indexOf(e);
+			if (pos != -1 && column.contains(pos)) {
+				weights[e] = column.getDouble(pos);
+			} else {
+				weights[e] = graph.getEdgeWeight(e);
+			}
+		}
+		return weights;
+	}
+
+	/**
+	 * Get the backing weights array.
+	 *
+	 * @return the weights array
+	 */
+	public double[] getWeights() {
+		return weights;
+	}
+
+	@Override
+	public double getEdgeWeight(Integer e) {
+		int index = e;
+		if (index >= 0 && index < weights.length) {
+			return weights[index];
+		}
+		return super.getEdgeWeight(e);
+	}
+
+	/**
+	 * Assigns a weight to an edge. If <code>writeWeightsThrough</code> is set to
+	 * <code>true</code>, the same weight is set in the backing graph. Edges which
+	 * do not fit in the weights array are always set in the backing graph, the
+	 * same as {@link #getEdgeWeight(Integer)} reads them from it.
+	 *
+	 * @param e      edge on which to set weight
+	 * @param weight new weight for edge
+	 * @throws UnsupportedOperationException if the edge does not fit in the
+	 *                                       weights array and the backing graph
+	 *                                       cannot change its weight
+	 */
+	@Override
+	public void setEdgeWeight(Integer e, double weight) {
+		int index = e;
+		if (index < 0 || index >= weights.length) {
+			super.setEdgeWeight(e, weight);
+			return;
+		}
+		weights[index] = weight;
+
+		if (writeWeightsThrough) {
+			getDelegate().setEdgeWeight(e, weight);
+		}
+	}
+
+	@Override
+	public GraphType getType() {
+		return super.getType().asWeighted();
+	}
+
+}
@@ -0,0 +1,165 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.graph;
+
+import org.jgrapht.capi.memory.OffHeapDoubleArray;
+
+/**
+ * An immutable array of edge weights stored with a given precision.
+ *
+ * Weights are stored as doubles, as floats, or quantized to 16 or 8 bits. A
+ * quantized weight is one of $2^b$ equally spaced values between the minimum
+ * and the maximum weight, thus the absolute error is at most half of the
+ * spacing and the extreme weights are exact. Quantization requires finite
+ * weights.
+ */
+public final class CompactWeights {
+
+	/**
+	 * The precision of the stored weights.
+	 */
+	public enum Precision {
+		DOUBLE, FLOAT, QUANTIZED_16, QUANTIZED_8;
+	}
+
+	private final Precision precision;
+	private final int length;
+	private double[] doubles;
+	private float[] floats;
+	private short[] shorts;
+	private byte[] bytes;
+	private double min;
+	private double step;
+
+	/**
+	 * Create a new weight array by copying a prefix of an array.
+	 *
+	 * @param weights   the weights
+	 * @param length    the number of weights to copy
+	 * @param precision the precision
+	 */
+	public CompactWeights(OffHeapDoubleArray weights, int length, Precision precision) {
+		if (length < 0 || length > weights.length()) {
+			throw new IllegalArgumentException("Invalid number of weights");
+		}
+		this.precision = precision;
+		this.length = length;
+
+		switch (precision) {
+		case DOUBLE:
+			doubles = new double[length];
+			for (int i = 0; i < length; i++) {
+				doubles[i] = weights.get(i);
+			}
+			break;
+		case FLOAT:
+			floats = new float[length];
+			for (int i = 0; i < length; i++) {
+				floats[i] = (float) weights.get(i);
+			}
+			break;
+		case QUANTIZED_16:
+		case QUANTIZED_8:
+		default:
+			quantize(weights, precision == Precision.QUANTIZED_16 ? 0xFFFF : 0xFF);
+			break;
+		}
+	}
+
+	public Precision getPrecision() {
+		return precision;
+	}
+
+	/**
+	 * Get the number of weights.
+	 *
+	 * @return the number of weights
+	 */
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * Get a weight. Indices are not checked.
+	 *
+	 * @param index the index
+	 * @return the weight
+	 */
+	public double get(int index) {
+		switch (precision) {
+		case DOUBLE:
+			return doubles[index];
+		case FLOAT:
+			return floats[index];
+		case QUANTIZED_16:
+			return min + Short.toUnsignedInt(shorts[index]) * step;
+		case QUANTIZED_8:
+		default:
+			return min + Byte.toUnsignedInt(bytes[index]) * step;
+		}
+	}
+
+	/**
+	 * Get the number of bytes used by the weights.
+	 *
+	 * @return the number of bytes
+	 */
+	public long sizeInBytes() {
+		switch (precision) {
+		case DOUBLE:
+			return (long) length * Double.BYTES;
+		case FLOAT:
+			return (long) length * Float.BYTES;
+		case QUANTIZED_16:
+			return (long) length * Short.BYTES;
+		case QUANTIZED_8:
+		default:
+			return length;
+		}
+	}
+
+	private void quantize(OffHeapDoubleArray weights, int levels) {
+		double lo = Double.POSITIVE_INFINITY;
+		double hi = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < length; i++) {
+			double w = weights.get(i);
+			if (!Double.isFinite(w)) {
+				throw new IllegalArgumentException("Quantized weights must be finite");
+			}
+			lo = Math.min(lo, w);
+			hi = Math.max(hi, w);
+		}
+		min = length == 0 ? 0d : lo;
+		step = length == 0 ? 0d : (hi - lo) / levels;
+
+		if (levels == 0xFFFF) {
+			shorts = new short[length];
+		} else {
+			bytes = new byte[length];
+		}
+		for (int i = 0; i < length; i++) {
+			int q = step == 0d ? 0 : (int) Math.min(levels, Math.round((weights.get(i) - min) / step));
+			if (shorts != null) {
+				shorts[i] = (short) q;
+			} else {
+				bytes[i] = (byte) q;
+			}
+		}
+	}
+
+}
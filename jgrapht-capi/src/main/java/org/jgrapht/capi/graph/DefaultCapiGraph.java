@@ -23,12 +23,13 @@ import java.util.Set;
 import org.jgrapht.Graph;
 import org.jgrapht.ListenableGraph;
 import org.jgrapht.capi.attributes.GraphAttributesStore;
+import org.jgrapht.capi.memory.NativeResource;
 import org.jgrapht.event.GraphListener;
 import org.jgrapht.event.VertexSetListener;
 import org.jgrapht.graph.DirectedAcyclicGraph;
 import org.jgrapht.graph.GraphDelegator;
 
-public class DefaultCapiGraph<V, E> extends GraphDelegator<V, E> implements CapiGraph<V, E> {
+public class DefaultCapiGraph<V, E> extends GraphDelegator<V, E> implements CapiGraph<V, E>, NativeResource {
 
 	private static final long serialVersionUID = 1L;
 
@@ -41,6 +42,18 @@ public class DefaultCapiGraph<V, E> extends GraphDelegator<V, E> implements Capi
 		this.store = new GraphAttributesStore<>();
 	}
 
+	/**
+	 * Release the memory of the backing graph, if it is allocated outside of the
+	 * managed heap. Afterwards the backing graph, and any view created over this
+	 * graph, throws an {@link IllegalStateException} when accessed.
+	 */
+	@Override
+	public void close() {
+		if (graph instanceof NativeResource) {
+			((NativeResource) graph).close();
+		}
+	}
+
 	@Override
 	public GraphAttributesStore<V, E> getStore() {
 		return store;
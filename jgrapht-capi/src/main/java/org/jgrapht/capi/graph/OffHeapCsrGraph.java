@@ -0,0 +1,643 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.graph;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import org.jgrapht.Graph;
+import org.jgrapht.GraphType;
+import org.jgrapht.capi.custom.util.ParallelUtil;
+import org.jgrapht.capi.memory.NativeResource;
+import org.jgrapht.capi.memory.OffHeapDoubleArray;
+import org.jgrapht.capi.memory.OffHeapIntArray;
+import org.jgrapht.graph.AbstractGraph;
+import org.jgrapht.graph.DefaultGraphType;
+import org.jgrapht.opt.graph.sparse.IncomingEdgesSupport;
+import org.jgrapht.util.ArrayUnenforcedSet;
+
+/**
+ * An unmodifiable graph in compressed sparse row (CSR) representation, whose
+ * arrays are allocated outside of the managed heap.
+ * 
+ * The vertices are $0, \dots, n-1$ and the edges $0, \dots, m-1$. The edges of
+ * vertex $v$ are $[offsets[v], offsets[v+1])$ and the targets of each row must
+ * be sorted, as produced by {@link SparseGraphBuilder}. Undirected edges are
+ * stored once, in the row of their source. The source of an edge is found
+ * using binary search on the offsets, thus edges need only 4 bytes, or 12 bytes
+ * if weighted. The incoming edges of directed graphs, and the edges whose
+ * target is a vertex for undirected graphs, need an index of 4 bytes per edge
+ * and vertex, which is built in parallel when the graph is created or lazily on
+ * first use.
+ * 
+ * The garbage collector only sees a few small objects, thus the memory is
+ * released by {@link #close()}, which is called when the handle of the graph is
+ * destroyed. Methods called after closing throw an
+ * {@link IllegalStateException}, and so do the edge and vertex sets and their
+ * iterators, even if they were obtained before. Closing must not race with
+ * other calls.
+ */
+public class OffHeapCsrGraph extends AbstractGraph<Integer, Integer> implements NativeResource {
+
+	private static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+	private static final int INSERTION_SORT_THRESHOLD = 32;
+
+	private final int numVertices;
+	private final int numEdges;
+	private final GraphType type;
+	private final IncomingEdgesSupport incomingEdgesSupport;
+	private final int parallelism;
+
+	private final OffHeapIntArray offsets;
+	private final OffHeapIntArray targets;
+	private final OffHeapDoubleArray weights;
+	private volatile OffHeapIntArray inOffsets;
+	private volatile OffHeapIntArray inEdges;
+	private volatile boolean closed;
+
+	/**
+	 * Create a new graph which takes ownership of the arrays.
+	 * 
+	 * @param directed             whether the graph is directed
+	 * @param numVertices          the number of vertices
+	 * @param offsets              the row offsets, of length $n+1$
+	 * @param targets              the targets of the edges, sorted in each row
+	 * @param weights              the weights of the edges, or null if
+	 *                             unweighted
+	 * @param incomingEdgesSupport the incoming edges support of directed graphs
+	 * @param parallelism          the number of threads used to build the index
+	 *                             of incoming edges
+	 */
+	public OffHeapCsrGraph(boolean directed, int numVertices, OffHeapIntArray offsets, OffHeapIntArray targets,
+			OffHeapDoubleArray weights, IncomingEdgesSupport incomingEdgesSupport, int parallelism) {
+		if (offsets.length() != numVertices + 1L) {
+			throw new IllegalArgumentException("Offsets must have length n+1");
+		}
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be positive");
+		}
+		this.numVertices = numVertices;
+		this.numEdges = offsets.get(numVertices);
+		this.offsets = offsets;
+		this.targets = targets;
+		this.weights = weights;
+		this.incomingEdgesSupport = directed ? incomingEdgesSupport : IncomingEdgesSupport.FULL_INCOMING_EDGES;
+		this.parallelism = parallelism;
+
+		DefaultGraphType.Builder builder = new DefaultGraphType.Builder();
+		builder = directed ? builder.directed() : builder.undirected();
+		this.type = builder.weighted(weights != null).allowMultipleEdges(true).allowSelfLoops(true).allowCycles(true)
+				.modifiable(false).build();
+
+		if (this.incomingEdgesSupport == IncomingEdgesSupport.FULL_INCOMING_EDGES) {
+			buildIncomingEdges();
+		}
+	}
+
+	/**
+	 * Get the number of bytes allocated outside of the managed heap.
+	 * 
+	 * @return the number of bytes
+	 */
+	public long sizeInBytes() {
+		long bytes = offsets.sizeInBytes() + targets.sizeInBytes();
+		if (weights != null) {
+			bytes += weights.sizeInBytes();
+		}
+		OffHeapIntArray in = inEdges;
+		if (in != null) {
+			bytes += in.sizeInBytes() + inOffsets.sizeInBytes();
+		}
+		return bytes;
+	}
+
+	@Override
+	public synchronized void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		// the arrays are kept, as closed arrays also fail on access
+		offsets.close();
+		targets.close();
+		if (weights != null) {
+			weights.close();
+		}
+		if (inEdges != null) {
+			inEdges.close();
+			inOffsets.close();
+		}
+	}
+
+	@Override
+	public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex) {
+		if (sourceVertex == null || targetVertex == null || !containsVertex(sourceVertex)
+				|| !containsVertex(targetVertex)) {
+			return null;
+		}
+		int u = sourceVertex;
+		int v = targetVertex;
+		ArrayUnenforcedSet<Integer> edges = new ArrayUnenforcedSet<>();
+		for (int e = lowerBound(u, v), end = offsets.get(u + 1); e < end && targets.get(e) == v; e++) {
+			edges.add(e);
+		}
+		if (type.isUndirected() && u != v) {
+			for (int e = lowerBound(v, u), end = offsets.get(v + 1); e < end && targets.get(e) == u; e++) {
+				edges.add(e);
+			}
+		}
+		return edges;
+	}
+
+	@Override
+	public Integer getEdge(Integer sourceVertex, Integer targetVertex) {
+		if (sourceVertex == null || targetVertex == null || !containsVertex(sourceVertex)
+				|| !containsVertex(targetVertex)) {
+			return null;
+		}
+		int u = sourceVertex;
+		int v = targetVertex;
+		int e = lowerBound(u, v);
+		if (e < offsets.get(u + 1) && targets.get(e) == v) {
+			return e;
+		}
+		if (type.isUndirected()) {
+			e = lowerBound(v, u);
+			if (e < offsets.get(v + 1) && targets.get(e) == u) {
+				return e;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public Supplier<Integer> getVertexSupplier() {
+		return null;
+	}
+
+	@Override
+	public Supplier<Integer> getEdgeSupplier() {
+		return null;
+	}
+
+	@Override
+	public Integer addEdge(Integer sourceVertex, Integer targetVertex) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean addEdge(Integer sourceVertex, Integer targetVertex, Integer e) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public Integer addVertex() {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean addVertex(Integer v) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean containsEdge(Integer e) {
+		ensureOpen();
+		return e != null && e >= 0 && e < numEdges;
+	}
+
+	@Override
+	public boolean containsVertex(Integer v) {
+		ensureOpen();
+		return v != null && v >= 0 && v < numVertices;
+	}
+
+	@Override
+	public Set<Integer> edgeSet() {
+		ensureOpen();
+		return new IntegerSet(0, numEdges, null, 0, 0, 0);
+	}
+
+	@Override
+	public int degreeOf(Integer vertex) {
+		assertVertexExist(vertex);
+		int v = vertex;
+		OffHeapIntArray in = incomingOffsets();
+		int degree = offsets.get(v + 1) - offsets.get(v) + in.get(v + 1) - in.get(v);
+		if (type.isUndirected()) {
+			// self-loops are stored once and count twice
+			degree += loopsOf(v);
+		}
+		return degree;
+	}
+
+	@Override
+	public Set<Integer> edgesOf(Integer vertex) {
+		assertVertexExist(vertex);
+		int v = vertex;
+		OffHeapIntArray in = incomingOffsets();
+		// self-loops of directed graphs are both outgoing and incoming
+		int overlap = type.isDirected() ? loopsOf(v) : 0;
+		return new IntegerSet(offsets.get(v), offsets.get(v + 1), inEdges, in.get(v), in.get(v + 1), overlap);
+	}
+
+	@Override
+	public int inDegreeOf(Integer vertex) {
+		if (type.isUndirected()) {
+			return degreeOf(vertex);
+		}
+		assertVertexExist(vertex);
+		int v = vertex;
+		OffHeapIntArray in = incomingOffsets();
+		return in.get(v + 1) - in.get(v);
+	}
+
+	@Override
+	public Set<Integer> incomingEdgesOf(Integer vertex) {
+		if (type.isUndirected()) {
+			return edgesOf(vertex);
+		}
+		assertVertexExist(vertex);
+		int v = vertex;
+		OffHeapIntArray in = incomingOffsets();
+		return new IntegerSet(0, 0, inEdges, in.get(v), in.get(v + 1), 0);
+	}
+
+	@Override
+	public int outDegreeOf(Integer vertex) {
+		if (type.isUndirected()) {
+			return degreeOf(vertex);
+		}
+		assertVertexExist(vertex);
+		int v = vertex;
+		return offsets.get(v + 1) - offsets.get(v);
+	}
+
+	@Override
+	public Set<Integer> outgoingEdgesOf(Integer vertex) {
+		if (type.isUndirected()) {
+			return edgesOf(vertex);
+		}
+		assertVertexExist(vertex);
+		int v = vertex;
+		return new IntegerSet(offsets.get(v), offsets.get(v + 1), null, 0, 0, 0);
+	}
+
+	@Override
+	public Integer removeEdge(Integer sourceVertex, Integer targetVertex) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean removeEdge(Integer e) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean removeVertex(Integer v) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public Set<Integer> vertexSet() {
+		ensureOpen();
+		return new IntegerSet(0, numVertices, null, 0, 0, 0);
+	}
+
+	@Override
+	public Integer getEdgeSource(Integer e) {
+		assertEdgeExist(e);
+		// the last row which starts at or before the edge
+		int low = 0;
+		int high = numVertices - 1;
+		while (low < high) {
+			int mid = (low + high + 1) >>> 1;
+			if (offsets.get(mid) <= e) {
+				low = mid;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return low;
+	}
+
+	@Override
+	public Integer getEdgeTarget(Integer e) {
+		assertEdgeExist(e);
+		return targets.get(e);
+	}
+
+	@Override
+	public GraphType getType() {
+		return type;
+	}
+
+	@Override
+	public double getEdgeWeight(Integer e) {
+		assertEdgeExist(e);
+		if (weights == null) {
+			return Graph.DEFAULT_EDGE_WEIGHT;
+		}
+		return weights.get(e);
+	}
+
+	@Override
+	public void setEdgeWeight(Integer e, double weight) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	private void ensureOpen() {
+		if (closed) {
+			throw new IllegalStateException("Graph has been closed");
+		}
+	}
+
+	private void assertEdgeExist(Integer e) {
+		if (!containsEdge(e)) {
+			throw new IllegalArgumentException("no such edge in graph: " + e);
+		}
+	}
+
+	private int loopsOf(int v) {
+		int loops = 0;
+		for (int e = lowerBound(v, v), end = offsets.get(v + 1); e < end && targets.get(e) == v; e++) {
+			loops++;
+		}
+		return loops;
+	}
+
+	/**
+	 * Find the first position of a row whose target is at least a value.
+	 */
+	private int lowerBound(int u, int v) {
+		int low = offsets.get(u);
+		int high = offsets.get(u + 1);
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (targets.get(mid) < v) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private OffHeapIntArray incomingOffsets() {
+		OffHeapIntArray in = inOffsets;
+		if (in != null) {
+			return in;
+		}
+		if (incomingEdgesSupport == IncomingEdgesSupport.NO_INCOMING_EDGES) {
+			throw new UnsupportedOperationException("No incoming edges support");
+		}
+		synchronized (this) {
+			ensureOpen();
+			if (inOffsets == null) {
+				buildIncomingEdges();
+			}
+			return inOffsets;
+		}
+	}
+
+	/**
+	 * Build the index of incoming edges using a counting sort by target. Each
+	 * row is sorted afterwards, so that the result does not depend on the
+	 * parallelism and lookups can use binary search.
+	 */
+	private void buildIncomingEdges() {
+		boolean skipLoops = type.isUndirected();
+		OffHeapIntArray counts = new OffHeapIntArray(numVertices + 1L, true);
+		OffHeapIntArray edges = null;
+		ForkJoinPool pool = parallelism > 1 ? ParallelUtil.createPool(parallelism) : null;
+		try {
+			ParallelUtil.forEachChunk(pool, numVertices, (from, to) -> {
+				for (int u = from; u < to; u++) {
+					for (int e = offsets.get(u), end = offsets.get(u + 1); e < end; e++) {
+						int v = targets.get(e);
+						if (!skipLoops || u != v) {
+							counts.getAndAdd(v, 1);
+						}
+					}
+				}
+			});
+
+			int total = 0;
+			for (int v = 0; v < numVertices; v++) {
+				int count = counts.get(v);
+				counts.set(v, total);
+				total += count;
+			}
+			counts.set(numVertices, total);
+
+			OffHeapIntArray index = new OffHeapIntArray(total, false);
+			edges = index;
+			ParallelUtil.forEachChunk(pool, numVertices, (from, to) -> {
+				for (int u = from; u < to; u++) {
+					for (int e = offsets.get(u), end = offsets.get(u + 1); e < end; e++) {
+						int v = targets.get(e);
+						if (!skipLoops || u != v) {
+							index.set(counts.getAndAdd(v, 1), e);
+						}
+					}
+				}
+			});
+
+			// each cursor has reached the start of the next row
+			for (int v = numVertices; v > 0; v--) {
+				counts.set(v, counts.get(v - 1));
+			}
+			counts.set(0, 0);
+
+			ParallelUtil.forEachChunk(pool, numVertices, (from, to) -> {
+				for (int v = from; v < to; v++) {
+					sort(index, counts.get(v), counts.get(v + 1));
+				}
+			});
+		} catch (RuntimeException | Error e) {
+			counts.close();
+			if (edges != null) {
+				edges.close();
+			}
+			throw e;
+		} finally {
+			if (pool != null) {
+				pool.shutdownNow();
+			}
+		}
+
+		inEdges = edges;
+		inOffsets = counts;
+	}
+
+	private static void sort(OffHeapIntArray a, int from, int to) {
+		if (to - from <= INSERTION_SORT_THRESHOLD) {
+			for (int i = from + 1; i < to; i++) {
+				int value = a.get(i);
+				int j = i - 1;
+				while (j >= from && a.get(j) > value) {
+					a.set(j + 1, a.get(j));
+					j--;
+				}
+				a.set(j + 1, value);
+			}
+			return;
+		}
+
+		// heapsort, which needs no extra memory even for very long rows
+		int n = to - from;
+		for (int i = n / 2 - 1; i >= 0; i--) {
+			siftDown(a, from, i, n);
+		}
+		for (int last = n - 1; last > 0; last--) {
+			int tmp = a.get(from);
+			a.set(from, a.get(from + last));
+			a.set(from + last, tmp);
+			siftDown(a, from, 0, last);
+		}
+	}
+
+	private static void siftDown(OffHeapIntArray a, int base, int i, int n) {
+		int value = a.get(base + i);
+		while (true) {
+			int child = 2 * i + 1;
+			if (child >= n) {
+				break;
+			}
+			if (child + 1 < n && a.get(base + child) < a.get(base + child + 1)) {
+				child++;
+			}
+			if (value >= a.get(base + child)) {
+				break;
+			}
+			a.set(base + i, a.get(base + child));
+			i = child;
+		}
+		a.set(base + i, value);
+	}
+
+	/**
+	 * A set of integers which is the union of a range and of a sorted slice of an
+	 * index. The slice elements which are inside the range are skipped, and their
+	 * number must be known in advance. Every access checks that the graph is
+	 * still open, since the index is freed when it is closed.
+	 */
+	private class IntegerSet extends AbstractSet<Integer> {
+
+		private final int rangeFrom;
+		private final int rangeTo;
+		private final OffHeapIntArray index;
+		private final int sliceFrom;
+		private final int sliceTo;
+		private final int overlap;
+
+		IntegerSet(int rangeFrom, int rangeTo, OffHeapIntArray index, int sliceFrom, int sliceTo, int overlap) {
+			this.rangeFrom = rangeFrom;
+			this.rangeTo = rangeTo;
+			this.index = index;
+			this.sliceFrom = sliceFrom;
+			this.sliceTo = sliceTo;
+			this.overlap = overlap;
+		}
+
+		@Override
+		public int size() {
+			ensureOpen();
+			return rangeTo - rangeFrom + sliceTo - sliceFrom - overlap;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return size() == 0;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if (!(o instanceof Integer)) {
+				return false;
+			}
+			ensureOpen();
+			int value = (Integer) o;
+			if (value >= rangeFrom && value < rangeTo) {
+				return true;
+			}
+			int low = sliceFrom;
+			int high = sliceTo - 1;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				int x = index.get(mid);
+				if (x < value) {
+					low = mid + 1;
+				} else if (x > value) {
+					high = mid - 1;
+				} else {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public Iterator<Integer> iterator() {
+			if (isEmpty()) {
+				return Collections.emptyIterator();
+			}
+			return new Iterator<Integer>() {
+				private int next = rangeFrom;
+				private int nextInSlice = sliceFrom;
+
+				@Override
+				public boolean hasNext() {
+					ensureOpen();
+					if (next < rangeTo) {
+						return true;
+					}
+					if (overlap > 0) {
+						while (nextInSlice < sliceTo) {
+							int x = index.get(nextInSlice);
+							if (x < rangeFrom || x >= rangeTo) {
+								break;
+							}
+							nextInSlice++;
+						}
+					}
+					return nextInSlice < sliceTo;
+				}
+
+				@Override
+				public Integer next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					if (next < rangeTo) {
+						return next++;
+					}
+					return index.get(nextInSlice++);
+				}
+			};
+		}
+
+	}
+
+}
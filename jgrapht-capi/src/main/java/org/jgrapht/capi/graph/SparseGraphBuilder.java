@@ -0,0 +1,543 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.graph;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.jgrapht.Graph;
+import org.jgrapht.alg.util.Pair;
+import org.jgrapht.alg.util.Triple;
+import org.jgrapht.capi.custom.util.ParallelUtil;
+import org.jgrapht.capi.memory.NativeResource;
+import org.jgrapht.capi.memory.OffHeapDoubleArray;
+import org.jgrapht.capi.memory.OffHeapIntArray;
+import org.jgrapht.opt.graph.sparse.IncomingEdgesSupport;
+import org.jgrapht.opt.graph.sparse.SparseIntDirectedGraph;
+import org.jgrapht.opt.graph.sparse.SparseIntDirectedWeightedGraph;
+import org.jgrapht.opt.graph.sparse.SparseIntUndirectedGraph;
+import org.jgrapht.opt.graph.sparse.SparseIntUndirectedWeightedGraph;
+
+/**
+ * A builder of sparse graphs from large edge lists.
+ * 
+ * Edges are appended in chunks into primitive arrays outside of the managed
+ * heap. When finished, the edges are sorted in parallel by source using a
+ * counting sort, which is a single pass radix sort whose digit is the whole
+ * vertex, and the result is a compressed sparse row (CSR) representation. The
+ * sort reuses the source array for the destination positions, thus the peak
+ * memory is 12 bytes per edge for unweighted graphs and 24 bytes per edge for
+ * weighted graphs, when the source array and both the unsorted and sorted
+ * weights are alive, plus 4 bytes per vertex.
+ * 
+ * The edges of each row are ordered by target and weight, thus the result does
+ * not depend on the order in which the edges were appended or on the
+ * parallelism. Optionally self-loops are removed and multiple edges are
+ * replaced by a single edge with their minimum weight. Undirected edges are
+ * stored once, in the row of their source, or in the row of their smaller
+ * endpoint when removing multiple edges.
+ * 
+ * The builder is not thread-safe.
+ */
+public class SparseGraphBuilder implements NativeResource {
+
+	private static final int INSERTION_SORT_THRESHOLD = 32;
+
+	private final int numVertices;
+	private final boolean directed;
+	private final boolean weighted;
+
+	private OffHeapIntArray sources;
+	private OffHeapIntArray targets;
+	private OffHeapDoubleArray weights;
+	private OffHeapIntArray offsets;
+	private int size;
+	private boolean finished;
+
+	/**
+	 * Create a new builder.
+	 * 
+	 * @param numVertices the number of vertices, which are $0, \dots, n-1$
+	 * @param directed    whether the graph is directed
+	 * @param weighted    whether the graph is weighted
+	 * @param capacity    the expected number of edges
+	 */
+	public SparseGraphBuilder(int numVertices, boolean directed, boolean weighted, int capacity) {
+		if (numVertices < 0) {
+			throw new IllegalArgumentException("Number of vertices must be non-negative");
+		}
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity must be non-negative");
+		}
+		this.numVertices = numVertices;
+		this.directed = directed;
+		this.weighted = weighted;
+		this.sources = new OffHeapIntArray(capacity, false);
+		this.targets = new OffHeapIntArray(capacity, false);
+		if (weighted) {
+			this.weights = new OffHeapDoubleArray(capacity, false);
+		}
+	}
+
+	public int getNumVertices() {
+		return numVertices;
+	}
+
+	public boolean isDirected() {
+		return directed;
+	}
+
+	public boolean isWeighted() {
+		return weighted;
+	}
+
+	/**
+	 * Get the number of edges. Before finishing this is the number of appended
+	 * edges, afterwards the number of edges of the graph.
+	 * 
+	 * @return the number of edges
+	 */
+	public int getNumEdges() {
+		return size;
+	}
+
+	/**
+	 * Make room for a number of edges which are about to be appended.
+	 * 
+	 * @param additional the number of edges
+	 */
+	public void ensureCapacity(long additional) {
+		assertNotFinished();
+		long required = size + additional;
+		if (required > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Too many edges");
+		}
+		long capacity = sources.length();
+		if (required <= capacity) {
+			return;
+		}
+		long newCapacity = Math.min(Integer.MAX_VALUE, Math.max(required, capacity + (capacity >> 1)));
+		sources.resize(newCapacity);
+		targets.resize(newCapacity);
+		if (weighted) {
+			weights.resize(newCapacity);
+		}
+	}
+
+	/**
+	 * Append an edge.
+	 * 
+	 * @param source the source vertex
+	 * @param target the target vertex
+	 * @param weight the weight, ignored if the graph is unweighted
+	 */
+	public void append(int source, int target, double weight) {
+		assertNotFinished();
+		if (source < 0 || source >= numVertices || target < 0 || target >= numVertices) {
+			throw new IllegalArgumentException("Invalid vertex");
+		}
+		if (size == sources.length()) {
+			ensureCapacity(1);
+		}
+		sources.set(size, source);
+		targets.set(size, target);
+		if (weighted) {
+			weights.set(size, weight);
+		}
+		size++;
+	}
+
+	/**
+	 * Build the compressed sparse row representation. No more edges can be
+	 * appended afterwards. If building fails the builder is closed, since its
+	 * arrays are left partially sorted.
+	 * 
+	 * @param removeMultipleEdges whether to keep only one of multiple edges, with
+	 *                            their minimum weight
+	 * @param removeSelfLoops     whether to remove self-loops
+	 * @param parallelism         the number of threads
+	 */
+	public void finish(boolean removeMultipleEdges, boolean removeSelfLoops, int parallelism) {
+		assertNotFinished();
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be positive");
+		}
+		ForkJoinPool pool = parallelism > 1 ? ParallelUtil.createPool(parallelism) : null;
+		try {
+			sort(removeMultipleEdges && !directed, removeSelfLoops, pool);
+			ParallelUtil.forEachChunk(pool, numVertices, (from, to) -> {
+				for (int v = from; v < to; v++) {
+					sortRow(offsets.get(v), offsets.get(v + 1));
+				}
+			});
+			if (removeMultipleEdges) {
+				removeMultipleEdges(pool);
+			}
+			finished = true;
+		} catch (RuntimeException | Error e) {
+			close();
+			throw e;
+		} finally {
+			if (pool != null) {
+				pool.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * Get the offsets of the rows, the edges of vertex $v$ are the positions
+	 * $[offsets[v], offsets[v+1])$ of the targets and the weights.
+	 * 
+	 * @return the offsets, of length $n+1$
+	 */
+	public OffHeapIntArray getOffsets() {
+		assertFinished();
+		return offsets;
+	}
+
+	/**
+	 * Get the targets of the edges in row order.
+	 * 
+	 * @return the targets
+	 */
+	public OffHeapIntArray getTargets() {
+		assertFinished();
+		return targets;
+	}
+
+	/**
+	 * Get the weights of the edges in row order.
+	 * 
+	 * @return the weights, or null if the graph is unweighted
+	 */
+	public OffHeapDoubleArray getWeights() {
+		assertFinished();
+		return weights;
+	}
+
+	/**
+	 * Create a sparse graph from the compressed sparse row representation. The
+	 * edge identifiers are the positions in row order. The graph keeps its own
+	 * copy of the edges, thus the builder is closed afterwards.
+	 * 
+	 * @param incomingEdgesSupport the incoming edges support of directed graphs
+	 * @return the graph
+	 */
+	public Graph<Integer, Integer> toSparseGraph(IncomingEdgesSupport incomingEdgesSupport) {
+		assertFinished();
+		Graph<Integer, Integer> graph;
+		if (weighted) {
+			if (directed) {
+				graph = new SparseIntDirectedWeightedGraph(numVertices, size, this::weightedEdges,
+						incomingEdgesSupport);
+			} else {
+				graph = new SparseIntUndirectedWeightedGraph(numVertices, size, this::weightedEdges);
+			}
+		} else {
+			if (directed) {
+				graph = new SparseIntDirectedGraph(numVertices, size, this::edges, incomingEdgesSupport);
+			} else {
+				graph = new SparseIntUndirectedGraph(numVertices, size, this::edges);
+			}
+		}
+		close();
+		return graph;
+	}
+
+	/**
+	 * Create a graph outside of the managed heap, which takes ownership of the
+	 * compressed sparse row representation. The edge identifiers are the
+	 * positions in row order. The builder is empty afterwards.
+	 * 
+	 * @param incomingEdgesSupport the incoming edges support of directed graphs
+	 * @param parallelism          the number of threads used to build the index
+	 *                             of incoming edges
+	 * @return the graph
+	 */
+	public OffHeapCsrGraph toOffHeapGraph(IncomingEdgesSupport incomingEdgesSupport, int parallelism) {
+		assertFinished();
+		OffHeapCsrGraph graph = new OffHeapCsrGraph(directed, numVertices, offsets, targets, weights,
+				incomingEdgesSupport, parallelism);
+		offsets = null;
+		targets = null;
+		weights = null;
+		return graph;
+	}
+
+	/**
+	 * Create a succinct graph from the compressed sparse row representation. The
+	 * edge identifiers are the positions in row order. The builder must have
+	 * been finished removing multiple edges and is closed afterwards.
+	 *
+	 * @param incomingEdgesSupport the incoming edges support of directed graphs
+	 * @param precision            the precision of the weights, ignored if the
+	 *                             graph is unweighted
+	 * @return the graph
+	 */
+	public SuccinctCsrGraph toSuccinctGraph(IncomingEdgesSupport incomingEdgesSupport,
+			CompactWeights.Precision precision) {
+		assertFinished();
+		CompactWeights compactWeights = weighted ? new CompactWeights(weights, size, precision) : null;
+		SuccinctCsrGraph graph = new SuccinctCsrGraph(directed, numVertices, offsets, targets, compactWeights,
+				incomingEdgesSupport);
+		close();
+		return graph;
+	}
+
+	@Override
+	public void close() {
+		finished = true;
+		if (sources != null) {
+			sources.close();
+			sources = null;
+		}
+		if (targets != null) {
+			targets.close();
+			targets = null;
+		}
+		if (weights != null) {
+			weights.close();
+			weights = null;
+		}
+		if (offsets != null) {
+			offsets.close();
+			offsets = null;
+		}
+	}
+
+	private Stream<Pair<Integer, Integer>> edges() {
+		return IntStream.range(0, numVertices).boxed().flatMap(
+				v -> IntStream.range(offsets.get(v), offsets.get(v + 1)).mapToObj(e -> Pair.of(v, targets.get(e))));
+	}
+
+	private Stream<Triple<Integer, Integer, Double>> weightedEdges() {
+		return IntStream.range(0, numVertices).boxed().flatMap(v -> IntStream.range(offsets.get(v), offsets.get(v + 1))
+				.mapToObj(e -> Triple.of(v, targets.get(e), weights.get(e))));
+	}
+
+	/**
+	 * Counting sort by source. The source array is first used for the counts and
+	 * then replaced by the destination position of each edge, or -1 for removed
+	 * self-loops, before the targets and weights are moved.
+	 */
+	private void sort(boolean normalize, boolean removeSelfLoops, ForkJoinPool pool) {
+		int m = size;
+		offsets = new OffHeapIntArray(numVertices + 1L, true);
+
+		ParallelUtil.forEachChunk(pool, m, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				int s = sources.get(i);
+				int t = targets.get(i);
+				if (removeSelfLoops && s == t) {
+					sources.set(i, -1);
+					continue;
+				}
+				if (normalize && s > t) {
+					sources.set(i, t);
+					targets.set(i, s);
+					s = t;
+				}
+				offsets.getAndAdd(s, 1);
+			}
+		});
+
+		// exclusive prefix sums, the offsets act as cursors while scattering
+		int total = 0;
+		for (int v = 0; v < numVertices; v++) {
+			int count = offsets.get(v);
+			offsets.set(v, total);
+			total += count;
+		}
+		offsets.set(numVertices, total);
+
+		ParallelUtil.forEachChunk(pool, m, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				int s = sources.get(i);
+				if (s >= 0) {
+					sources.set(i, offsets.getAndAdd(s, 1));
+				}
+			}
+		});
+
+		// each cursor has reached the start of the next row
+		for (int v = numVertices; v > 0; v--) {
+			offsets.set(v, offsets.get(v - 1));
+		}
+		offsets.set(0, 0);
+
+		OffHeapIntArray sortedTargets = new OffHeapIntArray(total, false);
+		ParallelUtil.forEachChunk(pool, m, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				int pos = sources.get(i);
+				if (pos >= 0) {
+					sortedTargets.set(pos, targets.get(i));
+				}
+			}
+		});
+		targets.close();
+		targets = sortedTargets;
+
+		if (weighted) {
+			OffHeapDoubleArray sortedWeights = new OffHeapDoubleArray(total, false);
+			ParallelUtil.forEachChunk(pool, m, (from, to) -> {
+				for (int i = from; i < to; i++) {
+					int pos = sources.get(i);
+					if (pos >= 0) {
+						sortedWeights.set(pos, weights.get(i));
+					}
+				}
+			});
+			weights.close();
+			weights = sortedWeights;
+		}
+
+		sources.close();
+		sources = null;
+		size = total;
+	}
+
+	/**
+	 * Keep only the first of consecutive equal targets in each row, which has the
+	 * minimum weight since rows are sorted.
+	 */
+	private void removeMultipleEdges(ForkJoinPool pool) {
+		OffHeapIntArray lengths = new OffHeapIntArray(numVertices, false);
+		try {
+			ParallelUtil.forEachChunk(pool, numVertices, (from, to) -> {
+				for (int v = from; v < to; v++) {
+					int start = offsets.get(v);
+					int end = offsets.get(v + 1);
+					if (start == end) {
+						lengths.set(v, 0);
+						continue;
+					}
+					int last = start;
+					for (int i = start + 1; i < end; i++) {
+						if (targets.get(i) != targets.get(last)) {
+							last++;
+							targets.set(last, targets.get(i));
+							if (weighted) {
+								weights.set(last, weights.get(i));
+							}
+						}
+					}
+					lengths.set(v, last - start + 1);
+				}
+			});
+
+			// compact the rows, moving each one towards the beginning
+			int total = 0;
+			for (int v = 0; v < numVertices; v++) {
+				int start = offsets.get(v);
+				int length = lengths.get(v);
+				offsets.set(v, total);
+				if (start != total) {
+					for (int i = 0; i < length; i++) {
+						targets.set(total + i, targets.get(start + i));
+						if (weighted) {
+							weights.set(total + i, weights.get(start + i));
+						}
+					}
+				}
+				total += length;
+			}
+			offsets.set(numVertices, total);
+			if (total != size) {
+				targets.resize(total);
+				if (weighted) {
+					weights.resize(total);
+				}
+				size = total;
+			}
+		} finally {
+			lengths.close();
+		}
+	}
+
+	private void sortRow(int from, int to) {
+		if (to - from <= INSERTION_SORT_THRESHOLD) {
+			for (int i = from + 1; i < to; i++) {
+				for (int j = i; j > from && less(j, j - 1); j--) {
+					swap(j, j - 1);
+				}
+			}
+			return;
+		}
+
+		// heapsort, which needs no extra memory even for very long rows
+		int n = to - from;
+		for (int i = n / 2 - 1; i >= 0; i--) {
+			siftDown(from, i, n);
+		}
+		for (int last = n - 1; last > 0; last--) {
+			swap(from, from + last);
+			siftDown(from, 0, last);
+		}
+	}
+
+	private void siftDown(int base, int i, int n) {
+		while (true) {
+			int child = 2 * i + 1;
+			if (child >= n) {
+				return;
+			}
+			if (child + 1 < n && less(base + child, base + child + 1)) {
+				child++;
+			}
+			if (!less(base + i, base + child)) {
+				return;
+			}
+			swap(base + i, base + child);
+			i = child;
+		}
+	}
+
+	private boolean less(int i, int j) {
+		int ti = targets.get(i);
+		int tj = targets.get(j);
+		if (ti != tj) {
+			return ti < tj;
+		}
+		return weighted && Double.compare(weights.get(i), weights.get(j)) < 0;
+	}
+
+	private void swap(int i, int j) {
+		int t = targets.get(i);
+		targets.set(i, targets.get(j));
+		targets.set(j, t);
+		if (weighted) {
+			double w = weights.get(i);
+			weights.set(i, weights.get(j));
+			weights.set(j, w);
+		}
+	}
+
+	private void assertNotFinished() {
+		if (finished) {
+			throw new IllegalStateException("Builder already finished");
+		}
+	}
+
+	private void assertFinished() {
+		if (!finished || offsets == null) {
+			throw new IllegalStateException("Builder not finished");
+		}
+	}
+
+}
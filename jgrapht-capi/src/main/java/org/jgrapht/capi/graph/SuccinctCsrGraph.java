@@ -0,0 +1,541 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.graph;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jgrapht.Graph;
+import org.jgrapht.GraphType;
+import org.jgrapht.capi.memory.OffHeapIntArray;
+import org.jgrapht.graph.AbstractGraph;
+import org.jgrapht.graph.DefaultGraphType;
+import org.jgrapht.opt.graph.sparse.IncomingEdgesSupport;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.sux4j.util.EliasFanoIndexedMonotoneLongBigList;
+
+/**
+ * An unmodifiable graph with integer vertices and edges, whose structure is
+ * stored in Elias-Fano lists, optionally with compact edge weights.
+ *
+ * Like the succinct graphs of the jgrapht-unimi-dsi module, edge $(u, v)$ is
+ * encoded as $u 2^s + v$ where $s = \lceil \log n \rceil$, and the edges are
+ * numbered in increasing order of their encoding. The encodings and the
+ * cumulative out-degrees are monotone, thus each needs about
+ * $2 + \log(n^2/m)$ bits per edge. Here the lists are streamed from the sorted
+ * rows of a compressed sparse row representation, as produced by
+ * {@link SparseGraphBuilder}, without an intermediate graph.
+ *
+ * The incoming edges of directed graphs are encoded the same way with the
+ * endpoints swapped, and the index is built when the graph is created, lazily
+ * on first use, or not at all. For undirected graphs the edge $\{u, v\}$ with
+ * $u \leq v$ is stored in the row of $u$ and the index of the other endpoints
+ * is always built. The graph has no multiple edges.
+ */
+public class SuccinctCsrGraph extends AbstractGraph<Integer, Integer> {
+
+	private static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+	private final int numVertices;
+	private final int numEdges;
+	private final int shift;
+	private final long mask;
+	private final GraphType type;
+	private final IncomingEdgesSupport incomingEdgesSupport;
+	private final CompactWeights weights;
+
+	private final EliasFanoIndexedMonotoneLongBigList cumulativeOutdegrees;
+	private final EliasFanoIndexedMonotoneLongBigList successors;
+	private volatile EliasFanoIndexedMonotoneLongBigList cumulativeIndegrees;
+	private volatile EliasFanoIndexedMonotoneLongBigList predecessors;
+
+	/**
+	 * Create a new graph. The arrays are only read and can be released
+	 * afterwards.
+	 *
+	 * @param directed             whether the graph is directed
+	 * @param numVertices          the number of vertices
+	 * @param offsets              the row offsets, of length $n+1$
+	 * @param targets              the targets of the edges, strictly increasing
+	 *                             in each row
+	 * @param weights              the weights of the edges, or null if
+	 *                             unweighted
+	 * @param incomingEdgesSupport the incoming edges support of directed graphs
+	 */
+	public SuccinctCsrGraph(boolean directed, int numVertices, OffHeapIntArray offsets, OffHeapIntArray targets,
+			CompactWeights weights, IncomingEdgesSupport incomingEdgesSupport) {
+		if (offsets.length() != numVertices + 1L) {
+			throw new IllegalArgumentException("Offsets must have length n+1");
+		}
+		this.numVertices = numVertices;
+		this.numEdges = offsets.get(numVertices);
+		if (weights != null && weights.length() != numEdges) {
+			throw new IllegalArgumentException("Weights must have one entry per edge");
+		}
+		this.shift = numVertices <= 1 ? 1 : 32 - Integer.numberOfLeadingZeros(numVertices - 1);
+		this.mask = (1L << shift) - 1;
+		this.weights = weights;
+		this.incomingEdgesSupport = directed ? incomingEdgesSupport : IncomingEdgesSupport.FULL_INCOMING_EDGES;
+
+		for (int u = 0; u < numVertices; u++) {
+			int start = offsets.get(u);
+			int end = offsets.get(u + 1);
+			for (int e = start; e < end; e++) {
+				int v = targets.get(e);
+				if (e > start && v <= targets.get(e - 1)) {
+					throw new IllegalArgumentException("Rows must be strictly increasing");
+				}
+				if (!directed && v < u) {
+					throw new IllegalArgumentException("Undirected edges must be stored in the row of their "
+							+ "smaller endpoint");
+				}
+			}
+		}
+
+		this.cumulativeOutdegrees = new EliasFanoIndexedMonotoneLongBigList(numVertices + 1L, numEdges + 1L,
+				new LongIterator() {
+					private int next = 0;
+
+					@Override
+					public boolean hasNext() {
+						return next <= numVertices;
+					}
+
+					@Override
+					public long nextLong() {
+						if (!hasNext()) {
+							throw new NoSuchElementException();
+						}
+						return offsets.get(next++);
+					}
+				});
+		this.successors = new EliasFanoIndexedMonotoneLongBigList(numEdges, upperBound(), new LongIterator() {
+			private int u = 0;
+			private int e = 0;
+
+			@Override
+			public boolean hasNext() {
+				return e < numEdges;
+			}
+
+			@Override
+			public long nextLong() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				while (offsets.get(u + 1) <= e) {
+					u++;
+				}
+				return encode(u, targets.get(e++));
+			}
+		});
+
+		DefaultGraphType.Builder builder = new DefaultGraphType.Builder();
+		builder = directed ? builder.directed() : builder.undirected();
+		this.type = builder.weighted(weights != null).allowMultipleEdges(false).allowSelfLoops(true)
+				.allowCycles(true).modifiable(false).build();
+
+		if (this.incomingEdgesSupport == IncomingEdgesSupport.FULL_INCOMING_EDGES) {
+			buildIncomingEdges();
+		}
+	}
+
+	@Override
+	public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex) {
+		if (sourceVertex == null || targetVertex == null || !containsVertex(sourceVertex)
+				|| !containsVertex(targetVertex)) {
+			return null;
+		}
+		Integer e = getEdge(sourceVertex, targetVertex);
+		return e == null ? Collections.emptySet() : Collections.singleton(e);
+	}
+
+	@Override
+	public Integer getEdge(Integer sourceVertex, Integer targetVertex) {
+		if (sourceVertex == null || targetVertex == null || !containsVertex(sourceVertex)
+				|| !containsVertex(targetVertex)) {
+			return null;
+		}
+		int u = sourceVertex;
+		int v = targetVertex;
+		if (type.isUndirected() && u > v) {
+			int tmp = u;
+			u = v;
+			v = tmp;
+		}
+		long e = successors.indexOf(encode(u, v));
+		return e < 0 ? null : (int) e;
+	}
+
+	@Override
+	public Supplier<Integer> getVertexSupplier() {
+		return null;
+	}
+
+	@Override
+	public Supplier<Integer> getEdgeSupplier() {
+		return null;
+	}
+
+	@Override
+	public Integer addEdge(Integer sourceVertex, Integer targetVertex) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean addEdge(Integer sourceVertex, Integer targetVertex, Integer e) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public Integer addVertex() {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean addVertex(Integer v) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean containsEdge(Integer e) {
+		return e != null && e >= 0 && e < numEdges;
+	}
+
+	@Override
+	public boolean containsVertex(Integer v) {
+		return v != null && v >= 0 && v < numVertices;
+	}
+
+	@Override
+	public Set<Integer> edgeSet() {
+		return new IntegerSet(0, numEdges, null);
+	}
+
+	@Override
+	public int degreeOf(Integer vertex) {
+		assertVertexExist(vertex);
+		int v = vertex;
+		EliasFanoIndexedMonotoneLongBigList in = incomingOffsets();
+		int degree = row(v + 1) - row(v) + (int) (in.getLong(v + 1) - in.getLong(v));
+		if (type.isUndirected() && successors.indexOf(encode(v, v)) >= 0) {
+			// self-loops are stored once and count twice
+			degree++;
+		}
+		return degree;
+	}
+
+	@Override
+	public Set<Integer> edgesOf(Integer vertex) {
+		assertVertexExist(vertex);
+		int v = vertex;
+		int from = row(v);
+		int to = row(v + 1);
+		int[] incoming = incomingEdges(v);
+		if (type.isDirected()) {
+			// a self-loop is both outgoing and incoming
+			incoming = Arrays.stream(incoming).filter(e -> e < from || e >= to).toArray();
+		}
+		return new IntegerSet(from, to, incoming);
+	}
+
+	@Override
+	public int inDegreeOf(Integer vertex) {
+		if (type.isUndirected()) {
+			return degreeOf(vertex);
+		}
+		assertVertexExist(vertex);
+		int v = vertex;
+		EliasFanoIndexedMonotoneLongBigList in = incomingOffsets();
+		return (int) (in.getLong(v + 1) - in.getLong(v));
+	}
+
+	@Override
+	public Set<Integer> incomingEdgesOf(Integer vertex) {
+		if (type.isUndirected()) {
+			return edgesOf(vertex);
+		}
+		assertVertexExist(vertex);
+		return new IntegerSet(0, 0, incomingEdges(vertex));
+	}
+
+	@Override
+	public int outDegreeOf(Integer vertex) {
+		if (type.isUndirected()) {
+			return degreeOf(vertex);
+		}
+		assertVertexExist(vertex);
+		int v = vertex;
+		return row(v + 1) - row(v);
+	}
+
+	@Override
+	public Set<Integer> outgoingEdgesOf(Integer vertex) {
+		if (type.isUndirected()) {
+			return edgesOf(vertex);
+		}
+		assertVertexExist(vertex);
+		int v = vertex;
+		return new IntegerSet(row(v), row(v + 1), null);
+	}
+
+	@Override
+	public Integer removeEdge(Integer sourceVertex, Integer targetVertex) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean removeEdge(Integer e) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean removeVertex(Integer v) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public Set<Integer> vertexSet() {
+		return new IntegerSet(0, numVertices, null);
+	}
+
+	@Override
+	public Integer getEdgeSource(Integer e) {
+		assertEdgeExist(e);
+		return (int) (successors.getLong(e) >>> shift);
+	}
+
+	@Override
+	public Integer getEdgeTarget(Integer e) {
+		assertEdgeExist(e);
+		return (int) (successors.getLong(e) & mask);
+	}
+
+	@Override
+	public GraphType getType() {
+		return type;
+	}
+
+	@Override
+	public double getEdgeWeight(Integer e) {
+		assertEdgeExist(e);
+		if (weights == null) {
+			return Graph.DEFAULT_EDGE_WEIGHT;
+		}
+		return weights.get(e);
+	}
+
+	@Override
+	public void setEdgeWeight(Integer e, double weight) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	private void assertEdgeExist(Integer e) {
+		if (!containsEdge(e)) {
+			throw new IllegalArgumentException("no such edge in graph: " + e);
+		}
+	}
+
+	private long encode(int u, int v) {
+		return ((long) u << shift) | v;
+	}
+
+	private long upperBound() {
+		return Math.max(1L, (long) numVertices << shift);
+	}
+
+	private int row(int v) {
+		return (int) cumulativeOutdegrees.getLong(v);
+	}
+
+	/**
+	 * The incoming edges of a vertex, or the edges whose larger endpoint is the
+	 * vertex for undirected graphs, in increasing order.
+	 */
+	private int[] incomingEdges(int v) {
+		EliasFanoIndexedMonotoneLongBigList in = incomingOffsets();
+		int from = (int) in.getLong(v);
+		int to = (int) in.getLong(v + 1);
+		int[] edges = new int[to - from];
+		for (int i = from; i < to; i++) {
+			int u = (int) (predecessors.getLong(i) & mask);
+			edges[i - from] = (int) successors.indexOf(encode(u, v));
+		}
+		// predecessors are sorted, thus so are the rows of the edges
+		return edges;
+	}
+
+	private EliasFanoIndexedMonotoneLongBigList incomingOffsets() {
+		EliasFanoIndexedMonotoneLongBigList in = cumulativeIndegrees;
+		if (in != null) {
+			return in;
+		}
+		if (incomingEdgesSupport == IncomingEdgesSupport.NO_INCOMING_EDGES) {
+			throw new UnsupportedOperationException("No incoming edges support");
+		}
+		synchronized (this) {
+			if (cumulativeIndegrees == null) {
+				buildIncomingEdges();
+			}
+			return cumulativeIndegrees;
+		}
+	}
+
+	/**
+	 * Build the index of incoming edges using a counting sort by target. The
+	 * edges are scanned in increasing order of their source, thus each row ends
+	 * up sorted. The temporary arrays need 4 bytes per vertex and edge.
+	 */
+	private void buildIncomingEdges() {
+		boolean skipLoops = type.isUndirected();
+		int[] counts = new int[numVertices + 1];
+		LongIterator it = successors.iterator();
+		while (it.hasNext()) {
+			long x = it.nextLong();
+			int u = (int) (x >>> shift);
+			int v = (int) (x & mask);
+			if (!skipLoops || u != v) {
+				counts[v]++;
+			}
+		}
+
+		int total = 0;
+		for (int v = 0; v < numVertices; v++) {
+			int count = counts[v];
+			counts[v] = total;
+			total += count;
+		}
+		counts[numVertices] = total;
+
+		int[] sources = new int[total];
+		it = successors.iterator();
+		while (it.hasNext()) {
+			long x = it.nextLong();
+			int u = (int) (x >>> shift);
+			int v = (int) (x & mask);
+			if (!skipLoops || u != v) {
+				sources[counts[v]++] = u;
+			}
+		}
+
+		// each cursor has reached the start of the next row
+		for (int v = numVertices; v > 0; v--) {
+			counts[v] = counts[v - 1];
+		}
+		counts[0] = 0;
+
+		int numIncoming = total;
+		predecessors = new EliasFanoIndexedMonotoneLongBigList(numIncoming, upperBound(), new LongIterator() {
+			private int v = 0;
+			private int i = 0;
+
+			@Override
+			public boolean hasNext() {
+				return i < numIncoming;
+			}
+
+			@Override
+			public long nextLong() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				while (counts[v + 1] <= i) {
+					v++;
+				}
+				return encode(v, sources[i++]);
+			}
+		});
+		cumulativeIndegrees = new EliasFanoIndexedMonotoneLongBigList(numVertices + 1L, numIncoming + 1L,
+				new LongIterator() {
+					private int next = 0;
+
+					@Override
+					public boolean hasNext() {
+						return next <= numVertices;
+					}
+
+					@Override
+					public long nextLong() {
+						if (!hasNext()) {
+							throw new NoSuchElementException();
+						}
+						return counts[next++];
+					}
+				});
+	}
+
+	/**
+	 * A set of integers which is the union of a range and of a sorted array of
+	 * values outside the range.
+	 */
+	private static class IntegerSet extends AbstractSet<Integer> {
+
+		private final int from;
+		private final int to;
+		private final int[] others;
+
+		IntegerSet(int from, int to, int[] others) {
+			this.from = from;
+			this.to = to;
+			this.others = others == null ? new int[0] : others;
+		}
+
+		@Override
+		public int size() {
+			return to - from + others.length;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if (!(o instanceof Integer)) {
+				return false;
+			}
+			int value = (Integer) o;
+			return (value >= from && value < to) || Arrays.binarySearch(others, value) >= 0;
+		}
+
+		@Override
+		public Iterator<Integer> iterator() {
+			return new Iterator<Integer>() {
+				private int next = 0;
+
+				@Override
+				public boolean hasNext() {
+					return next < size();
+				}
+
+				@Override
+				public Integer next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					int i = next++;
+					return i < to - from ? from + i : others[i - (to - from)];
+				}
+			};
+		}
+
+	}
+
+}
@@ -0,0 +1,471 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.graph;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jgrapht.Graph;
+import org.jgrapht.GraphType;
+import org.jgrapht.graph.AbstractGraph;
+import org.jgrapht.graph.DefaultGraphType;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.sux4j.util.EliasFanoIndexedMonotoneLongBigList;
+import it.unimi.dsi.webgraph.ImmutableGraph;
+import it.unimi.dsi.webgraph.NodeIterator;
+
+/**
+ * An unmodifiable graph with integer vertices and edges, backed by a WebGraph
+ * {@link ImmutableGraph} such as a BVGraph or an EFGraph.
+ *
+ * The adapters of the jgrapht-unimi-dsi module use pairs of vertices as edges,
+ * while the library needs integer edges. Here the edges are numbered in the
+ * order of the successor lists, which are sorted. The cumulative row lengths
+ * are kept in an Elias-Fano list, which needs about $2 + \log(m/n)$ bits per
+ * vertex, and locate the source of an edge. Everything else is read from the
+ * compressed graph, which is accessed through a flyweight copy per thread.
+ *
+ * For directed graphs the successors are the outgoing edges. Incoming edges
+ * need the transpose graph. For undirected graphs the WebGraph must be
+ * symmetric, as usual, and the edge $\{u, v\}$ with $u \leq v$ is numbered in
+ * the row of $u$. The graph has no multiple edges, since successor lists are
+ * strictly increasing.
+ */
+public class WebGraphAdapter extends AbstractGraph<Integer, Integer> {
+
+	private static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+	private final ThreadLocal<ImmutableGraph> graph;
+	private final ThreadLocal<ImmutableGraph> transpose;
+	private final int numVertices;
+	private final int numEdges;
+	private final EliasFanoIndexedMonotoneLongBigList cumulative;
+	private final GraphType type;
+
+	/**
+	 * Create a directed graph.
+	 *
+	 * @param graph     a random access graph
+	 * @param transpose the random access transpose graph, or null if incoming
+	 *                  edges are not needed
+	 */
+	public WebGraphAdapter(ImmutableGraph graph, ImmutableGraph transpose) {
+		this(graph, transpose, true);
+	}
+
+	/**
+	 * Create an undirected graph.
+	 *
+	 * @param graph a symmetric random access graph
+	 */
+	public WebGraphAdapter(ImmutableGraph graph) {
+		this(graph, null, false);
+	}
+
+	private WebGraphAdapter(ImmutableGraph graph, ImmutableGraph transpose, boolean directed) {
+		if (!graph.randomAccess() || (transpose != null && !transpose.randomAccess())) {
+			throw new IllegalArgumentException("Graph must support random access");
+		}
+		if (transpose != null && transpose.numNodes() != graph.numNodes()) {
+			throw new IllegalArgumentException("Transpose graph has a different number of vertices");
+		}
+		this.graph = ThreadLocal.withInitial(graph::copy);
+		this.transpose = transpose == null ? null : ThreadLocal.withInitial(transpose::copy);
+		this.numVertices = graph.numNodes();
+
+		// cumulative row lengths, in two sequential passes instead of an array of
+		// n longs, the first one for the number of edges
+		long total = 0;
+		NodeIterator it = graph.nodeIterator();
+		for (int v = 0; v < numVertices; v++) {
+			total += rowLength(it, v, directed);
+		}
+		if (total > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Too many edges for integer edge identifiers");
+		}
+		this.numEdges = (int) total;
+		this.cumulative = new EliasFanoIndexedMonotoneLongBigList(numVertices + 1L, total + 1, new LongIterator() {
+			private final NodeIterator rows = graph.nodeIterator();
+			private int next = 0;
+			private long sum = 0;
+
+			@Override
+			public boolean hasNext() {
+				return next <= numVertices;
+			}
+
+			@Override
+			public long nextLong() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				long value = sum;
+				if (next < numVertices) {
+					sum += rowLength(rows, next, directed);
+				}
+				next++;
+				return value;
+			}
+		});
+
+		DefaultGraphType.Builder builder = new DefaultGraphType.Builder();
+		builder = directed ? builder.directed() : builder.undirected();
+		this.type = builder.weighted(false).allowMultipleEdges(false).allowSelfLoops(true).allowCycles(true)
+				.modifiable(false).build();
+	}
+
+	@Override
+	public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex) {
+		if (sourceVertex == null || targetVertex == null || !containsVertex(sourceVertex)
+				|| !containsVertex(targetVertex)) {
+			return null;
+		}
+		Integer e = getEdge(sourceVertex, targetVertex);
+		return e == null ? Collections.emptySet() : Collections.singleton(e);
+	}
+
+	@Override
+	public Integer getEdge(Integer sourceVertex, Integer targetVertex) {
+		if (sourceVertex == null || targetVertex == null || !containsVertex(sourceVertex)
+				|| !containsVertex(targetVertex)) {
+			return null;
+		}
+		int u = sourceVertex;
+		int v = targetVertex;
+		if (type.isUndirected() && u > v) {
+			int tmp = u;
+			u = v;
+			v = tmp;
+		}
+		int e = edgeOf(graph.get(), u, v);
+		return e < 0 ? null : e;
+	}
+
+	@Override
+	public Supplier<Integer> getVertexSupplier() {
+		return null;
+	}
+
+	@Override
+	public Supplier<Integer> getEdgeSupplier() {
+		return null;
+	}
+
+	@Override
+	public Integer addEdge(Integer sourceVertex, Integer targetVertex) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean addEdge(Integer sourceVertex, Integer targetVertex, Integer e) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public Integer addVertex() {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean addVertex(Integer v) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean containsEdge(Integer e) {
+		return e != null && e >= 0 && e < numEdges;
+	}
+
+	@Override
+	public boolean containsVertex(Integer v) {
+		return v != null && v >= 0 && v < numVertices;
+	}
+
+	@Override
+	public Set<Integer> edgeSet() {
+		return new IntegerSet(0, numEdges, null);
+	}
+
+	@Override
+	public int degreeOf(Integer vertex) {
+		assertVertexExist(vertex);
+		int v = vertex;
+		if (type.isDirected()) {
+			return graph.get().outdegree(v) + inDegreeOf(vertex);
+		}
+		// self-loops count twice
+		ImmutableGraph g = graph.get();
+		int degree = g.outdegree(v);
+		return degree + (indexOf(g.successorArray(v), degree, v) >= 0 ? 1 : 0);
+	}
+
+	@Override
+	public Set<Integer> edgesOf(Integer vertex) {
+		assertVertexExist(vertex);
+		int v = vertex;
+		if (type.isDirected()) {
+			// a self-loop is both outgoing and incoming
+			int[] incoming = incomingEdges(v);
+			int from = row(v);
+			int to = row(v + 1);
+			int[] others = Arrays.stream(incoming).filter(e -> e < from || e >= to).toArray();
+			return new IntegerSet(from, to, others);
+		}
+		ImmutableGraph g = graph.get();
+		int degree = g.outdegree(v);
+		// the successor array might be reused by the next call
+		int[] successors = Arrays.copyOf(g.successorArray(v), degree);
+		int lb = lowerBound(successors, degree, v);
+		int[] others = new int[lb];
+		for (int i = 0; i < lb; i++) {
+			others[i] = edgeOf(g, successors[i], v);
+		}
+		Arrays.sort(others);
+		return new IntegerSet(row(v), row(v + 1), others);
+	}
+
+	@Override
+	public int inDegreeOf(Integer vertex) {
+		if (type.isUndirected()) {
+			return degreeOf(vertex);
+		}
+		assertVertexExist(vertex);
+		return transpose().outdegree(vertex);
+	}
+
+	@Override
+	public Set<Integer> incomingEdgesOf(Integer vertex) {
+		if (type.isUndirected()) {
+			return edgesOf(vertex);
+		}
+		assertVertexExist(vertex);
+		return new IntegerSet(0, 0, incomingEdges(vertex));
+	}
+
+	@Override
+	public int outDegreeOf(Integer vertex) {
+		if (type.isUndirected()) {
+			return degreeOf(vertex);
+		}
+		assertVertexExist(vertex);
+		return graph.get().outdegree(vertex);
+	}
+
+	@Override
+	public Set<Integer> outgoingEdgesOf(Integer vertex) {
+		if (type.isUndirected()) {
+			return edgesOf(vertex);
+		}
+		assertVertexExist(vertex);
+		int v = vertex;
+		return new IntegerSet(row(v), row(v + 1), null);
+	}
+
+	@Override
+	public Integer removeEdge(Integer sourceVertex, Integer targetVertex) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean removeEdge(Integer e) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public boolean removeVertex(Integer v) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	@Override
+	public Set<Integer> vertexSet() {
+		return new IntegerSet(0, numVertices, null);
+	}
+
+	@Override
+	public Integer getEdgeSource(Integer e) {
+		assertEdgeExist(e);
+		return (int) (cumulative.strictSuccessorIndex(e) - 1);
+	}
+
+	@Override
+	public Integer getEdgeTarget(Integer e) {
+		assertEdgeExist(e);
+		int u = (int) (cumulative.strictSuccessorIndex(e) - 1);
+		int k = e - row(u);
+		ImmutableGraph g = graph.get();
+		int[] successors = g.successorArray(u);
+		if (type.isUndirected()) {
+			k += lowerBound(successors, g.outdegree(u), u);
+		}
+		return successors[k];
+	}
+
+	@Override
+	public GraphType getType() {
+		return type;
+	}
+
+	@Override
+	public double getEdgeWeight(Integer e) {
+		assertEdgeExist(e);
+		return Graph.DEFAULT_EDGE_WEIGHT;
+	}
+
+	@Override
+	public void setEdgeWeight(Integer e, double weight) {
+		throw new UnsupportedOperationException(UNMODIFIABLE);
+	}
+
+	private void assertEdgeExist(Integer e) {
+		if (!containsEdge(e)) {
+			throw new IllegalArgumentException("no such edge in graph: " + e);
+		}
+	}
+
+	private int row(int v) {
+		return (int) cumulative.getLong(v);
+	}
+
+	private ImmutableGraph transpose() {
+		if (transpose == null) {
+			throw new UnsupportedOperationException("No incoming edges support without the transpose graph");
+		}
+		return transpose.get();
+	}
+
+	/**
+	 * The incoming edges of a vertex of a directed graph, in increasing order.
+	 */
+	private int[] incomingEdges(int v) {
+		ImmutableGraph t = transpose();
+		ImmutableGraph g = graph.get();
+		int degree = t.outdegree(v);
+		int[] predecessors = t.successorArray(v);
+		int[] edges = new int[degree];
+		for (int i = 0; i < degree; i++) {
+			edges[i] = edgeOf(g, predecessors[i], v);
+		}
+		// predecessors are sorted, thus so are the rows of the edges
+		return edges;
+	}
+
+	/**
+	 * The edge from u to v, where $u \leq v$ for undirected graphs, or -1.
+	 */
+	private int edgeOf(ImmutableGraph g, int u, int v) {
+		int degree = g.outdegree(u);
+		int[] successors = g.successorArray(u);
+		int i = indexOf(successors, degree, v);
+		if (i < 0) {
+			return -1;
+		}
+		if (type.isUndirected()) {
+			i -= lowerBound(successors, degree, u);
+		}
+		return row(u) + i;
+	}
+
+	/**
+	 * Advance a node iterator to vertex v and get the length of its row, which
+	 * for undirected graphs only has the successors which are at least v.
+	 */
+	private static long rowLength(NodeIterator it, int v, boolean directed) {
+		it.nextInt();
+		int degree = it.outdegree();
+		return directed ? degree : degree - lowerBound(it.successorArray(), degree, v);
+	}
+
+	private static int indexOf(int[] a, int length, int value) {
+		int i = lowerBound(a, length, value);
+		return i < length && a[i] == value ? i : -1;
+	}
+
+	private static int lowerBound(int[] a, int length, int value) {
+		int low = 0;
+		int high = length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (a[mid] < value) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * A set of integers which is the union of a range and of a sorted array of
+	 * values outside the range.
+	 */
+	private static class IntegerSet extends AbstractSet<Integer> {
+
+		private final int from;
+		private final int to;
+		private final int[] others;
+
+		IntegerSet(int from, int to, int[] others) {
+			this.from = from;
+			this.to = to;
+			this.others = others == null ? new int[0] : others;
+		}
+
+		@Override
+		public int size() {
+			return to - from + others.length;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if (!(o instanceof Integer)) {
+				return false;
+			}
+			int value = (Integer) o;
+			return (value >= from && value < to) || Arrays.binarySearch(others, value) >= 0;
+		}
+
+		@Override
+		public Iterator<Integer> iterator() {
+			return new Iterator<Integer>() {
+				private int next = 0;
+
+				@Override
+				public boolean hasNext() {
+					return next < size();
+				}
+
+				@Override
+				public Integer next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					int i = next++;
+					return i < to - from ? from + i : others[i - (to - from)];
+				}
+			};
+		}
+
+	}
+
+}
@@ -0,0 +1,122 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.graph;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import org.jgrapht.Graph;
+import org.jgrapht.Graphs;
+
+import it.unimi.dsi.webgraph.ImmutableSequentialGraph;
+import it.unimi.dsi.webgraph.LazyIntIterator;
+import it.unimi.dsi.webgraph.LazyIntIterators;
+import it.unimi.dsi.webgraph.NodeIterator;
+
+/**
+ * A sequential WebGraph view of a graph with vertices $0, \ldots, n-1$, which
+ * is used in order to store any integer graph in a WebGraph format.
+ *
+ * The successors of a vertex are its distinct out-neighbors in increasing
+ * order. Undirected graphs become symmetric graphs, which is how WebGraph
+ * represents them. Edge weights and multiple edges are lost.
+ */
+public class WebGraphSequentialView extends ImmutableSequentialGraph {
+
+	private final Graph<Integer, Integer> graph;
+	private final int numVertices;
+
+	/**
+	 * Create a new view.
+	 *
+	 * @param graph the graph, whose vertices must be $0, \ldots, n-1$
+	 */
+	public WebGraphSequentialView(Graph<Integer, Integer> graph) {
+		this.graph = graph;
+		this.numVertices = graph.vertexSet().size();
+		for (Integer v : graph.vertexSet()) {
+			if (v < 0 || v >= numVertices) {
+				throw new IllegalArgumentException("Vertices must be 0 up to the number of vertices minus one");
+			}
+		}
+	}
+
+	@Override
+	public int numNodes() {
+		return numVertices;
+	}
+
+	@Override
+	public long numArcs() {
+		long arcs = 0;
+		for (int v = 0; v < numVertices; v++) {
+			arcs += distinctSuccessors(v).length;
+		}
+		return arcs;
+	}
+
+	@Override
+	public NodeIterator nodeIterator() {
+		return new NodeIterator() {
+			private int next = 0;
+			private int[] successors;
+
+			@Override
+			public boolean hasNext() {
+				return next < numVertices;
+			}
+
+			@Override
+			public int nextInt() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				successors = distinctSuccessors(next);
+				return next++;
+			}
+
+			@Override
+			public int outdegree() {
+				return successors.length;
+			}
+
+			@Override
+			public int[] successorArray() {
+				return successors;
+			}
+
+			@Override
+			public LazyIntIterator successors() {
+				return LazyIntIterators.wrap(successors);
+			}
+		};
+	}
+
+	private int[] distinctSuccessors(int v) {
+		int[] successors = Graphs.successorListOf(graph, v).stream().mapToInt(Integer::intValue).toArray();
+		Arrays.sort(successors);
+		int length = 0;
+		for (int i = 0; i < successors.length; i++) {
+			if (length == 0 || successors[length - 1] != successors[i]) {
+				successors[length++] = successors[i];
+			}
+		}
+		return Arrays.copyOf(successors, length);
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.handles;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.graalvm.nativeimage.ObjectHandle;
+import org.graalvm.nativeimage.ObjectHandles;
+import org.graalvm.word.SignedWord;
+import org.graalvm.word.WordFactory;
+
+/**
+ * The handles of an arena, with values $base + i$ for $0 \leq i < 2^{32}$.
+ * 
+ * Indices are never reused, thus a destroyed handle never resolves to another
+ * object while its arena lives. The objects are stored in chunks which are
+ * never moved, so lookups do not lock, while creation synchronizes on the
+ * arena. The memory of destroyed handles is released together with the arena.
+ */
+final class ArenaHandles implements ObjectHandles {
+
+	private static final long MAX_INDEX = (1L << 32) - 1;
+
+	private static final int CHUNK_SHIFT = 10;
+
+	private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+	private final long base;
+
+	private volatile AtomicReferenceArray<Object>[] chunks;
+
+	private long next;
+
+	@SuppressWarnings("unchecked")
+	ArenaHandles(long base) {
+		this.base = base;
+		this.chunks = new AtomicReferenceArray[1];
+	}
+
+	@Override
+	public synchronized ObjectHandle create(Object object) {
+		if (next > MAX_INDEX) {
+			throw new IllegalStateException("Too many handles in arena");
+		}
+		long index = next++;
+		int chunk = (int) (index >>> CHUNK_SHIFT);
+		AtomicReferenceArray<Object>[] current = chunks;
+		if (chunk == current.length) {
+			current = Arrays.copyOf(current, 2 * current.length);
+		}
+		if (current[chunk] == null) {
+			current[chunk] = new AtomicReferenceArray<>(CHUNK_SIZE);
+		}
+		current[chunk].set((int) index & (CHUNK_SIZE - 1), object);
+		chunks = current;
+		return (ObjectHandle) WordFactory.<SignedWord> signed(base + index);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(ObjectHandle handle) {
+		AtomicReferenceArray<Object> chunk = chunkOf(handle);
+		return chunk == null ? null : (T) chunk.get((int) handle.rawValue() & (CHUNK_SIZE - 1));
+	}
+
+	@Override
+	public void destroy(ObjectHandle handle) {
+		AtomicReferenceArray<Object> chunk = chunkOf(handle);
+		if (chunk != null) {
+			chunk.set((int) handle.rawValue() & (CHUNK_SIZE - 1), null);
+		}
+	}
+
+	private AtomicReferenceArray<Object> chunkOf(ObjectHandle handle) {
+		long index = handle.rawValue() - base;
+		if (index < 0 || index > MAX_INDEX) {
+			return null;
+		}
+		AtomicReferenceArray<Object>[] current = chunks;
+		int chunk = (int) (index >>> CHUNK_SHIFT);
+		return chunk < current.length ? current[chunk] : null;
+	}
+
+}
@@ -0,0 +1,231 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.handles;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.graalvm.nativeimage.ObjectHandle;
+import org.graalvm.nativeimage.ObjectHandles;
+
+import org.jgrapht.capi.memory.NativeResource;
+
+/**
+ * The object handles used by the library.
+ * 
+ * Handles are created in the arena which is active on the calling thread, or in
+ * the global handles if no arena is active. Each arena has its own handles
+ * which own a disjoint range of handle values, thus lookups are dispatched
+ * using only the handle value. An arena handle stores the arena id $i \geq 1$
+ * in bits 48 to 62, the generation $g$ of the id in bits 32 to 47 and its index
+ * in the arena in bits 0 to 31, while global handles are allocated from the
+ * smallest free value and never reach $2^{48}$.
+ * 
+ * Arena ids are reused after their arena is destroyed. The generation of an id
+ * is incremented every time it is reused, and a handle whose generation does
+ * not match the live arena of its id resolves to null, like any other handle of
+ * a destroyed arena. Generations wrap around after $2^{16}$ reuses of an id.
+ * 
+ * Objects which own memory outside of the managed heap implement
+ * {@link NativeResource} and are closed when their handle, or the arena of
+ * their handle, is destroyed.
+ */
+public class Handles implements ObjectHandles {
+
+	private static final int ARENA_SHIFT = 48;
+
+	private static final int GENERATION_SHIFT = 32;
+
+	private static final int GENERATION_MASK = (1 << (ARENA_SHIFT - GENERATION_SHIFT)) - 1;
+
+	private static final int MAX_ARENAS = (1 << (63 - ARENA_SHIFT)) - 1;
+
+	private static final Handles INSTANCE = new Handles();
+
+	private final ObjectHandles global = ObjectHandles.getGlobal();
+
+	private final ConcurrentHashMap<Integer, Arena> arenas = new ConcurrentHashMap<>();
+
+	private final ConcurrentLinkedQueue<Integer> freeIds = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger nextId = new AtomicInteger(1);
+
+	private final AtomicIntegerArray generations = new AtomicIntegerArray(MAX_ARENAS + 1);
+
+	private final ThreadLocal<ArrayDeque<Arena>> activeArenas = ThreadLocal.withInitial(ArrayDeque::new);
+
+	/**
+	 * Get the object handles of the library.
+	 * 
+	 * @return the object handles
+	 */
+	public static Handles getHandles() {
+		return INSTANCE;
+	}
+
+	private Handles() {
+	}
+
+	@Override
+	public ObjectHandle create(Object object) {
+		Arena arena = currentArena();
+		if (arena == null) {
+			return global.create(object);
+		}
+		if (object instanceof NativeResource) {
+			arena.resources.add((NativeResource) object);
+		}
+		return arena.handles.create(object);
+	}
+
+	@Override
+	public <T> T get(ObjectHandle handle) {
+		long value = handle.rawValue();
+		if (value >>> ARENA_SHIFT == 0) {
+			return global.get(handle);
+		}
+		Arena arena = arenaOf(value);
+		if (arena == null) {
+			return null;
+		}
+		return arena.handles.get(handle);
+	}
+
+	@Override
+	public void destroy(ObjectHandle handle) {
+		Object object = get(handle);
+		long value = handle.rawValue();
+		if (value >>> ARENA_SHIFT == 0) {
+			global.destroy(handle);
+		} else {
+			Arena arena = arenaOf(value);
+			if (arena != null) {
+				arena.handles.destroy(handle);
+			}
+		}
+		if (object instanceof NativeResource) {
+			((NativeResource) object).close();
+		}
+	}
+
+	/**
+	 * Create a new arena and make it the active arena of the calling thread.
+	 * Arenas nest: when an arena is destroyed, the previously active arena of the
+	 * thread becomes active again.
+	 * 
+	 * @return a handle to the arena, which is not part of any arena
+	 */
+	public ObjectHandle createArena() {
+		Integer id = freeIds.poll();
+		if (id == null) {
+			id = nextId.getAndIncrement();
+			if (id > MAX_ARENAS) {
+				nextId.decrementAndGet();
+				throw new IllegalStateException("Too many arenas");
+			}
+		}
+		int generation = generations.incrementAndGet(id) & GENERATION_MASK;
+		long base = ((long) id << ARENA_SHIFT) | ((long) generation << GENERATION_SHIFT);
+		Arena arena = new Arena(id, generation, new ArenaHandles(base));
+		arenas.put(id, arena);
+		ObjectHandle arenaHandle = global.create(arena);
+		activeArenas.get().push(arena);
+		return arenaHandle;
+	}
+
+	/**
+	 * Destroy an arena and all handles created in it. This does not depend on
+	 * the number of handles, the objects are simply released together with the
+	 * arena, except native resources which are closed. Handles of a destroyed
+	 * arena resolve to null afterwards, even after its id is reused.
+	 * 
+	 * @param arenaHandle a handle to the arena
+	 * @throws IllegalArgumentException if the handle is not an arena
+	 */
+	public void destroyArena(ObjectHandle arenaHandle) {
+		Object object = get(arenaHandle);
+		if (!(object instanceof Arena)) {
+			throw new IllegalArgumentException("Not an arena");
+		}
+		Arena arena = (Arena) object;
+		if (!arenas.remove(arena.id, arena)) {
+			throw new IllegalArgumentException("Arena already destroyed");
+		}
+		destroy(arenaHandle);
+		arena.destroyed = true;
+		NativeResource resource;
+		while ((resource = arena.resources.poll()) != null) {
+			resource.close();
+		}
+		ArrayDeque<Arena> active = activeArenas.get();
+		if (active.peek() == arena) {
+			active.pop();
+		}
+		freeIds.add(arena.id);
+	}
+
+	/**
+	 * Get the live arena of an arena handle value.
+	 * 
+	 * @return the arena, or null if the arena of the handle was destroyed
+	 */
+	private Arena arenaOf(long value) {
+		Arena arena = arenas.get((int) (value >>> ARENA_SHIFT));
+		if (arena == null || arena.generation != (int) ((value >>> GENERATION_SHIFT) & GENERATION_MASK)) {
+			return null;
+		}
+		return arena;
+	}
+
+	private Arena currentArena() {
+		ArrayDeque<Arena> active = activeArenas.get();
+		Arena arena = active.peek();
+		if (arena != null && arena.destroyed) {
+			// destroyed out of order or from another thread
+			Iterator<Arena> it = active.iterator();
+			while (it.hasNext()) {
+				if (it.next().destroyed) {
+					it.remove();
+				}
+			}
+			arena = active.peek();
+		}
+		return arena;
+	}
+
+	private static class Arena {
+
+		private final int id;
+		private final int generation;
+		private final ObjectHandles handles;
+		private final ConcurrentLinkedQueue<NativeResource> resources = new ConcurrentLinkedQueue<>();
+		private volatile boolean destroyed;
+
+		private Arena(int id, int generation, ObjectHandles handles) {
+			this.id = id;
+			this.generation = generation;
+			this.handles = handles;
+		}
+
+	}
+
+}
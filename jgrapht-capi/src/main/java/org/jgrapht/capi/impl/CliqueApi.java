@@ -32,17 +32,19 @@ import org.jgrapht.alg.clique.DegeneracyBronKerboschCliqueFinder;
 import org.jgrapht.alg.clique.PivotBronKerboschCliqueFinder;
 import org.jgrapht.alg.interfaces.MaximalCliqueEnumerationAlgorithm;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class CliqueApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "clique_exec_bron_kerbosch", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBrownKerbosch(IsolateThread thread, ObjectHandle graphHandle, long timeoutSeconds,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_clique_exec_bron_kerbosch");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		MaximalCliqueEnumerationAlgorithm<?, ?> alg = new BronKerboschCliqueFinder<>(g, timeoutSeconds,
 				TimeUnit.SECONDS);
@@ -50,13 +52,14 @@ public class CliqueApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "clique_exec_bron_kerbosch_pivot", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBrownKerboschWithPivot(IsolateThread thread, ObjectHandle graphHandle, long timeoutSeconds,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_clique_exec_bron_kerbosch_pivot");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		MaximalCliqueEnumerationAlgorithm<?, ?> alg = new PivotBronKerboschCliqueFinder<>(g, timeoutSeconds,
 				TimeUnit.SECONDS);
@@ -64,13 +67,14 @@ public class CliqueApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "clique_exec_bron_kerbosch_pivot_degeneracy_ordering", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBrownKerboschPivotAndDegeneracyOrdering(IsolateThread thread, ObjectHandle graphHandle,
 			long timeoutSeconds, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_clique_exec_bron_kerbosch_pivot_degeneracy_ordering");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		MaximalCliqueEnumerationAlgorithm<?, ?> alg = new DegeneracyBronKerboschCliqueFinder<>(g, timeoutSeconds,
 				TimeUnit.SECONDS);
@@ -78,12 +82,13 @@ public class CliqueApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "clique_exec_chordal_max_clique", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeChordalMaxCliqueFinder(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_clique_exec_chordal_max_clique");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		ChordalGraphMaxCliqueFinder<?, ?> alg = new ChordalGraphMaxCliqueFinder<>(g);
 		Set<?> clique = alg.getClique();
@@ -93,7 +98,7 @@ public class CliqueApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(clique));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
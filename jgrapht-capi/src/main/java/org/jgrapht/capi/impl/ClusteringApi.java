@@ -33,36 +33,40 @@ import org.jgrapht.alg.clustering.LabelPropagationClustering;
 import org.jgrapht.alg.interfaces.ClusteringAlgorithm;
 import org.jgrapht.alg.interfaces.ClusteringAlgorithm.Clustering;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
+import org.jgrapht.capi.custom.util.Progress;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class ClusteringApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "clustering_exec_k_spanning_tree", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeKSpanningTree(IsolateThread thread, ObjectHandle graphHandle, int k, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_clustering_exec_k_spanning_tree");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		ClusteringAlgorithm<?> alg = new KSpanningTreeClustering<>(g, k);
 		Clustering<?> clustering = alg.getClustering();
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(clustering));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "clustering_exec_label_propagation", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeLabelPropagationTree(IsolateThread thread, ObjectHandle graphHandle, int maxIterations,
 			long seed, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_clustering_exec_label_propagation");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		ClusteringAlgorithm<?> alg = new LabelPropagationClustering<>(g, maxIterations, new Random(seed));
 		Clustering<?> clustering = alg.getClustering();
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(clustering));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -77,35 +81,73 @@ public class ClusteringApi {
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "clustering_exec_girvan_newman", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeGirvanNewman(IsolateThread thread, ObjectHandle graphHandle, int k, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_clustering_exec_girvan_newman");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		ClusteringAlgorithm<?> alg = new GirvanNewmanClustering<>(g, k);
 		Clustering<?> clustering = alg.getClustering();
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(clustering));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
+	}
+
+	/**
+	 * Execute the Girvan-Newman algorithm reporting progress. The progress has a
+	 * single phase whose units are the edges removed, out of the number of edges
+	 * of the graph.
+	 * 
+	 * @param thread         the isolate thread
+	 * @param graphHandle    the graph
+	 * @param k              the desired number of clusters
+	 * @param progressHandle the progress handle
+	 * @param res            the resulting clustering handle
+	 * @return return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "clustering_exec_girvan_newman_with_progress", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int executeGirvanNewmanWithProgress(IsolateThread thread, ObjectHandle graphHandle, int k,
+			ObjectHandle progressHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_clustering_exec_girvan_newman_with_progress");
+		Graph<?, ?> g = globalHandles.get(graphHandle);
+		Progress progress = globalHandles.get(progressHandle);
+		Clustering<?> clustering;
+		try {
+			ClusteringAlgorithm<?> alg = new org.jgrapht.capi.custom.clustering.GirvanNewmanClustering<>(g, k,
+					progress);
+			clustering = alg.getClustering();
+		} finally {
+			if (progress != null) {
+				progress.finish();
+			}
+		}
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(clustering));
+		}
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "clustering_get_number_clusters", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int getNumberOfClusters(IsolateThread thread, ObjectHandle cHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_clustering_get_number_clusters");
 		Clustering<?> c = globalHandles.get(cHandle);
 		if (res.isNonNull()) {
 			res.write(c.getNumberClusters());
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "clustering_ith_cluster_vit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int getClusterWithIndexVertexIterator(IsolateThread thread, ObjectHandle cHandle, int i,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_clustering_ith_cluster_vit");
 		Clustering<?> c = globalHandles.get(cHandle);
 		Iterator<?> it = c.getClusters().get(i).iterator();
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
@@ -40,17 +40,19 @@ import org.jgrapht.alg.color.SmallestDegreeLastColoring;
 import org.jgrapht.alg.interfaces.VertexColoringAlgorithm;
 import org.jgrapht.alg.interfaces.VertexColoringAlgorithm.Coloring;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class ColoringApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "coloring_exec_greedy", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeGreedyColoring(IsolateThread thread, ObjectHandle graphHandle, CIntPointer resColors,
 			WordPointer resColorsMap) {
+		Metrics.enter("jgrapht_capi_xx_coloring_exec_greedy");
 		return executeColoring(thread, graphHandle, g -> new GreedyColoring<>(g), resColors, resColorsMap);
 	}
 
@@ -58,6 +60,7 @@ public class ColoringApi {
 			+ "coloring_exec_greedy_smallestdegreelast", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeSmallestDegreeLastColoring(IsolateThread thread, ObjectHandle graphHandle,
 			CIntPointer resColors, WordPointer resColorsMap) {
+		Metrics.enter("jgrapht_capi_xx_coloring_exec_greedy_smallestdegreelast");
 		return executeColoring(thread, graphHandle, g -> new SmallestDegreeLastColoring<>(g), resColors, resColorsMap);
 	}
 
@@ -65,6 +68,7 @@ public class ColoringApi {
 			+ "coloring_exec_backtracking_brown", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBacktrackingBrown(IsolateThread thread, ObjectHandle graphHandle, CIntPointer resColors,
 			WordPointer resColorsMap) {
+		Metrics.enter("jgrapht_capi_xx_coloring_exec_backtracking_brown");
 		return executeColoring(thread, graphHandle, g -> new BrownBacktrackColoring<>(g), resColors, resColorsMap);
 	}
 
@@ -72,6 +76,7 @@ public class ColoringApi {
 			+ "coloring_exec_greedy_largestdegreefirst", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeLargestDegreeFirstColoring(IsolateThread thread, ObjectHandle graphHandle,
 			CIntPointer resColors, WordPointer resColorsMap) {
+		Metrics.enter("jgrapht_capi_xx_coloring_exec_greedy_largestdegreefirst");
 		return executeColoring(thread, graphHandle, g -> new LargestDegreeFirstColoring<>(g), resColors, resColorsMap);
 	}
 
@@ -79,6 +84,7 @@ public class ColoringApi {
 			+ "coloring_exec_greedy_random", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeRandomGreedyWithSeed(IsolateThread thread, ObjectHandle graphHandle, CIntPointer resColors,
 			WordPointer resColorsMap) {
+		Metrics.enter("jgrapht_capi_xx_coloring_exec_greedy_random");
 		return executeColoring(thread, graphHandle, g -> new RandomGreedyColoring<>(g), resColors, resColorsMap);
 	}
 
@@ -86,6 +92,7 @@ public class ColoringApi {
 			+ "coloring_exec_greedy_random_with_seed", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeRandomGreedy(IsolateThread thread, ObjectHandle graphHandle, long seed,
 			CIntPointer resColors, WordPointer resColorsMap) {
+		Metrics.enter("jgrapht_capi_xx_coloring_exec_greedy_random_with_seed");
 		return executeColoring(thread, graphHandle, g -> new RandomGreedyColoring<>(g, new Random(seed)), resColors,
 				resColorsMap);
 	}
@@ -94,6 +101,7 @@ public class ColoringApi {
 			+ "coloring_exec_greedy_dsatur", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeGreedyDSatur(IsolateThread thread, ObjectHandle graphHandle, CIntPointer resColors,
 			WordPointer resColorsMap) {
+		Metrics.enter("jgrapht_capi_xx_coloring_exec_greedy_dsatur");
 		return executeColoring(thread, graphHandle, g -> new SaturationDegreeColoring<>(g), resColors, resColorsMap);
 	}
 
@@ -101,6 +109,7 @@ public class ColoringApi {
 			+ "coloring_exec_color_refinement", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeColorRefinement(IsolateThread thread, ObjectHandle graphHandle, CIntPointer resColors,
 			WordPointer resColorsMap) {
+		Metrics.enter("jgrapht_capi_xx_coloring_exec_color_refinement");
 		return executeColoring(thread, graphHandle, g -> new ColorRefinementAlgorithm<>(g), resColors, resColorsMap);
 	}
 
@@ -108,6 +117,7 @@ public class ColoringApi {
 			+ "coloring_exec_chordal_minimum_coloring", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeChordalMinimumColoring(IsolateThread thread, ObjectHandle graphHandle,
 			CIntPointer resColors, WordPointer resColorsMap) {
+		Metrics.enter("jgrapht_capi_xx_coloring_exec_chordal_minimum_coloring");
 		return executeChordalColoring(graphHandle, resColors, resColorsMap);
 	}
 
@@ -132,7 +142,7 @@ public class ColoringApi {
 		if (resColorsMap.isNonNull()) {
 			resColorsMap.write(globalHandles.create(colors));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	private static <V> int executeColoring(IsolateThread thread, ObjectHandle graphHandle,
@@ -153,6 +163,6 @@ public class ColoringApi {
 		if (resColorsMap.isNonNull()) {
 			resColorsMap.write(globalHandles.create(colors));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 }
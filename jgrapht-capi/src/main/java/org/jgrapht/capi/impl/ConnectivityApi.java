@@ -14,17 +14,19 @@ import org.jgrapht.alg.connectivity.ConnectivityInspector;
 import org.jgrapht.alg.connectivity.GabowStrongConnectivityInspector;
 import org.jgrapht.alg.connectivity.KosarajuStrongConnectivityInspector;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class ConnectivityApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "connectivity_strong_exec_kosaraju", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int executeKosaraju(IsolateThread thread, ObjectHandle graphHandle, CIntPointer valueRes,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_connectivity_strong_exec_kosaraju");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		KosarajuStrongConnectivityInspector<V, E> alg = new KosarajuStrongConnectivityInspector<>(g);
@@ -38,13 +40,14 @@ public class ConnectivityApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(connectedSets.iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "connectivity_strong_exec_gabow", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int executeGabow(IsolateThread thread, ObjectHandle graphHandle, CIntPointer valueRes,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_connectivity_strong_exec_gabow");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		GabowStrongConnectivityInspector<V, E> alg = new GabowStrongConnectivityInspector<>(g);
@@ -58,13 +61,14 @@ public class ConnectivityApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(connectedSets.iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "connectivity_weak_exec_bfs", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int executeWeakBfs(IsolateThread thread, ObjectHandle graphHandle, CIntPointer valueRes,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_connectivity_weak_exec_bfs");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		ConnectivityInspector<V, E> alg = new ConnectivityInspector<>(g);
@@ -78,7 +82,7 @@ public class ConnectivityApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(connectedSets.iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
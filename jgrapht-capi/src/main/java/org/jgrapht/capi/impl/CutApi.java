@@ -14,21 +14,23 @@ import org.jgrapht.alg.StoerWagnerMinimumCut;
 import org.jgrapht.alg.flow.GusfieldGomoryHuCutTree;
 import org.jgrapht.alg.flow.PadbergRaoOddMinimumCutset;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.JGraphTContext.VoidToLongFunctionPointer;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 import org.jgrapht.capi.graph.DefaultCapiGraph;
 import org.jgrapht.graph.DefaultWeightedEdge;
 import org.jgrapht.graph.SimpleWeightedGraph;
 
 public class CutApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "cut_mincut_exec_stoer_wagner", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeStoerWagner(IsolateThread thread, ObjectHandle graphHandle, CDoublePointer valueRes,
 			WordPointer cutSourcePartitionRes) {
+		Metrics.enter("jgrapht_capi_xx_cut_mincut_exec_stoer_wagner");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		StoerWagnerMinimumCut<V, E> alg = new StoerWagnerMinimumCut<>(g);
@@ -41,24 +43,26 @@ public class CutApi {
 		if (cutSourcePartitionRes.isNonNull()) {
 			cutSourcePartitionRes.write(globalHandles.create(cutSourcePartition));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "cut_gomoryhu_exec_gusfield", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeGomoryHuGusfield(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_cut_gomoryhu_exec_gusfield");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		GusfieldGomoryHuCutTree<V, E> alg = new GusfieldGomoryHuCutTree<>(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(alg));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "cut_gomoryhu_min_st_cut", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int gomoryHuSTCut(IsolateThread thread, ObjectHandle gomoryHu, int source, int sink,
 			CDoublePointer valueRes, WordPointer cutSourcePartitionRes) {
+		Metrics.enter("jgrapht_capi_ix_cut_gomoryhu_min_st_cut");
 		GusfieldGomoryHuCutTree<Integer, ?> alg = globalHandles.get(gomoryHu);
 		double cutValue = alg.calculateMinCut(source, sink);
 		Set<Integer> sourcePartition = alg.getSourcePartition();
@@ -68,13 +72,14 @@ public class CutApi {
 		if (cutSourcePartitionRes.isNonNull()) {
 			cutSourcePartitionRes.write(globalHandles.create(sourcePartition));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "cut_gomoryhu_min_st_cut", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int gomoryHuSTCut(IsolateThread thread, ObjectHandle gomoryHu, long source, long sink,
 			CDoublePointer valueRes, WordPointer cutSourcePartitionRes) {
+		Metrics.enter("jgrapht_capi_lx_cut_gomoryhu_min_st_cut");
 		GusfieldGomoryHuCutTree<Long, ?> alg = globalHandles.get(gomoryHu);
 		double cutValue = alg.calculateMinCut(source, sink);
 		Set<Long> sourcePartition = alg.getSourcePartition();
@@ -84,13 +89,14 @@ public class CutApi {
 		if (cutSourcePartitionRes.isNonNull()) {
 			cutSourcePartitionRes.write(globalHandles.create(sourcePartition));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "cut_gomoryhu_min_cut", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int gomoryHuMinCut(IsolateThread thread, ObjectHandle gomoryHu, CDoublePointer valueRes,
 			WordPointer cutSourcePartitionRes) {
+		Metrics.enter("jgrapht_capi_xx_cut_gomoryhu_min_cut");
 		GusfieldGomoryHuCutTree<V, E> alg = globalHandles.get(gomoryHu);
 		double cutValue = alg.calculateMinCut();
 		Set<V> sourcePartition = alg.getSourcePartition();
@@ -100,12 +106,13 @@ public class CutApi {
 		if (cutSourcePartitionRes.isNonNull()) {
 			cutSourcePartitionRes.write(globalHandles.create(sourcePartition));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "cut_gomoryhu_tree", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int gomoryHuTree(IsolateThread thread, ObjectHandle gomoryHu, WordPointer treeRes) {
+		Metrics.enter("jgrapht_capi_ii_cut_gomoryhu_tree");
 		GusfieldGomoryHuCutTree<Integer, ?> alg = globalHandles.get(gomoryHu);
 		SimpleWeightedGraph<Integer, DefaultWeightedEdge> origTree = alg.getGomoryHuTree();
 
@@ -128,12 +135,13 @@ public class CutApi {
 		if (treeRes.isNonNull()) {
 			treeRes.write(globalHandles.create(tree));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
 			+ "cut_gomoryhu_tree", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int llGomoryHuTree(IsolateThread thread, ObjectHandle gomoryHu, WordPointer treeRes) {
+		Metrics.enter("jgrapht_capi_ll_cut_gomoryhu_tree");
 		GusfieldGomoryHuCutTree<Long, ?> alg = globalHandles.get(gomoryHu);
 		SimpleWeightedGraph<Long, DefaultWeightedEdge> origTree = alg.getGomoryHuTree();
 
@@ -156,7 +164,7 @@ public class CutApi {
 		if (treeRes.isNonNull()) {
 			treeRes.write(globalHandles.create(tree));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -166,6 +174,7 @@ public class CutApi {
 					"but will have new edges which will be constructed by the provided edge supplier." })
 	public static int llGomoryHuTree(IsolateThread thread, ObjectHandle gomoryHu,
 			VoidToLongFunctionPointer vertexSupplier, VoidToLongFunctionPointer edgeSupplier, WordPointer treeRes) {
+		Metrics.enter("jgrapht_capi_ll_cut_gomoryhu_tree_with_suppliers");
 		GusfieldGomoryHuCutTree<Long, ?> alg = globalHandles.get(gomoryHu);
 		SimpleWeightedGraph<Long, DefaultWeightedEdge> origTree = alg.getGomoryHuTree();
 
@@ -188,7 +197,7 @@ public class CutApi {
 		if (treeRes.isNonNull()) {
 			treeRes.write(globalHandles.create(tree));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
@@ -196,6 +205,7 @@ public class CutApi {
 	public static <V, E> int executePadbergRao(IsolateThread thread, ObjectHandle graphHandle,
 			ObjectHandle oddVerticesHandle, boolean useTreeCompression, CDoublePointer valueRes,
 			WordPointer sourcePartitionRes) {
+		Metrics.enter("jgrapht_capi_xx_cut_oddmincutset_exec_padberg_rao");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		Set<V> oddVertices = globalHandles.get(oddVerticesHandle);
 		PadbergRaoOddMinimumCutset<V, E> alg = new PadbergRaoOddMinimumCutset<>(g);
@@ -206,7 +216,7 @@ public class CutApi {
 		if (sourcePartitionRes.isNonNull()) {
 			sourcePartitionRes.write(globalHandles.create(alg.getSourcePartition()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
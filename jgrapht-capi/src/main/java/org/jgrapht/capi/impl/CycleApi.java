@@ -1,5 +1,7 @@
 package org.jgrapht.capi.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.graalvm.nativeimage.IsolateThread;
@@ -28,17 +30,22 @@ import org.jgrapht.alg.cycle.TiernanSimpleCycles;
 import org.jgrapht.alg.interfaces.CycleBasisAlgorithm;
 import org.jgrapht.alg.interfaces.CycleBasisAlgorithm.CycleBasis;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
+import org.jgrapht.capi.custom.util.Progress;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class CycleApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
+
+	private static final String PHASE_ENUMERATION = "enumeration";
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "cycles_eulerian_exec_hierholzer", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeHierholzer(IsolateThread thread, ObjectHandle graphHandle,
 			CIntPointer isEulerianRes, WordPointer eulerianCycleRes) {
+		Metrics.enter("jgrapht_capi_xx_cycles_eulerian_exec_hierholzer");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		HierholzerEulerianCycle<V, E> alg = new HierholzerEulerianCycle<>();
@@ -62,12 +69,13 @@ public class CycleApi {
 				isEulerianRes.write(0);
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "cycles_chinese_postman_exec_edmonds_johnson", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeChinesePostman(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_cycles_chinese_postman_exec_edmonds_johnson");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		ChinesePostman<V, E> alg = new ChinesePostman<>();
@@ -76,68 +84,131 @@ public class CycleApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(path));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "cycles_simple_enumeration_exec_tarjan", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeTarjan(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_cycles_simple_enumeration_exec_tarjan");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		DirectedSimpleCycles<V, E> alg = new TarjanSimpleCycles<>(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(alg.findSimpleCycles().iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "cycles_simple_enumeration_exec_tiernan", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeTierman(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_cycles_simple_enumeration_exec_tiernan");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		DirectedSimpleCycles<V, E> alg = new TiernanSimpleCycles<>(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(alg.findSimpleCycles().iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "cycles_simple_enumeration_exec_szwarcfiter_lauer", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeSzwarcfiterLauer(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_cycles_simple_enumeration_exec_szwarcfiter_lauer");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		DirectedSimpleCycles<V, E> alg = new SzwarcfiterLauerSimpleCycles<>(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(alg.findSimpleCycles().iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "cycles_simple_enumeration_exec_johnson", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeJohnson(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_cycles_simple_enumeration_exec_johnson");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		DirectedSimpleCycles<V, E> alg = new JohnsonSimpleCycles<>(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(alg.findSimpleCycles().iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "cycles_simple_enumeration_exec_hawick_james", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeHawickJames(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_cycles_simple_enumeration_exec_hawick_james");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		DirectedSimpleCycles<V, E> alg = new HawickJamesSimpleCycles<>(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(alg.findSimpleCycles().iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
+	}
+
+	/**
+	 * Enumerate all simple cycles using the algorithm of Tarjan, reporting
+	 * progress. The algorithms of JGraphT collect all cycles before returning, thus
+	 * the progress has a single phase with an unknown total whose completed units
+	 * are set to the number of cycles found when the enumeration finishes.
+	 * 
+	 * @param thread         the thread isolate
+	 * @param graphHandle    the graph
+	 * @param progressHandle the progress handle
+	 * @param res            handle to an iterator over the cycles
+	 * @return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "cycles_simple_enumeration_exec_tarjan_with_progress", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V, E> int executeTarjanWithProgress(IsolateThread thread, ObjectHandle graphHandle,
+			ObjectHandle progressHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_cycles_simple_enumeration_exec_tarjan_with_progress");
+		Graph<V, E> g = globalHandles.get(graphHandle);
+		return executeSimpleCycles(new TarjanSimpleCycles<>(g), progressHandle, res);
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "cycles_simple_enumeration_exec_tiernan_with_progress", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V, E> int executeTiernanWithProgress(IsolateThread thread, ObjectHandle graphHandle,
+			ObjectHandle progressHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_cycles_simple_enumeration_exec_tiernan_with_progress");
+		Graph<V, E> g = globalHandles.get(graphHandle);
+		return executeSimpleCycles(new TiernanSimpleCycles<>(g), progressHandle, res);
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "cycles_simple_enumeration_exec_szwarcfiter_lauer_with_progress", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V, E> int executeSzwarcfiterLauerWithProgress(IsolateThread thread, ObjectHandle graphHandle,
+			ObjectHandle progressHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_cycles_simple_enumeration_exec_szwarcfiter_lauer_with_progress");
+		Graph<V, E> g = globalHandles.get(graphHandle);
+		return executeSimpleCycles(new SzwarcfiterLauerSimpleCycles<>(g), progressHandle, res);
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "cycles_simple_enumeration_exec_johnson_with_progress", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V, E> int executeJohnsonWithProgress(IsolateThread thread, ObjectHandle graphHandle,
+			ObjectHandle progressHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_cycles_simple_enumeration_exec_johnson_with_progress");
+		Graph<V, E> g = globalHandles.get(graphHandle);
+		return executeSimpleCycles(new JohnsonSimpleCycles<>(g), progressHandle, res);
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "cycles_simple_enumeration_exec_hawick_james_with_progress", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V, E> int executeHawickJamesWithProgress(IsolateThread thread, ObjectHandle graphHandle,
+			ObjectHandle progressHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_cycles_simple_enumeration_exec_hawick_james_with_progress");
+		Graph<V, E> g = globalHandles.get(graphHandle);
+		return executeSimpleCycles(new HawickJamesSimpleCycles<>(g), progressHandle, res);
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "cycles_fundamental_basis_exec_queue_bfs", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeQueueBFSFundamental(IsolateThread thread, ObjectHandle graphHandle,
 			CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_cycles_fundamental_basis_exec_queue_bfs");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		CycleBasisAlgorithm<V, E> alg = new QueueBFSFundamentalCycleBasis<>(g);
@@ -151,13 +222,14 @@ public class CycleApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(cycles.iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "cycles_fundamental_basis_exec_stack_bfs", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeStackBFSFundamental(IsolateThread thread, ObjectHandle graphHandle,
 			CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_cycles_fundamental_basis_exec_stack_bfs");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		CycleBasisAlgorithm<V, E> alg = new StackBFSFundamentalCycleBasis<>(g);
@@ -171,13 +243,14 @@ public class CycleApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(cycles.iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "cycles_fundamental_basis_exec_paton", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executePatonFundamental(IsolateThread thread, ObjectHandle graphHandle,
 			CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_cycles_fundamental_basis_exec_paton");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		CycleBasisAlgorithm<V, E> alg = new PatonCycleBase<>(g);
@@ -191,13 +264,14 @@ public class CycleApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(cycles.iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "cycles_mean_exec_howard", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeMeanHoward(IsolateThread thread, ObjectHandle graphHandle, int iterations,
 			double tolerance, CDoublePointer meanRes, WordPointer cycleRes) {
+		Metrics.enter("jgrapht_capi_xx_cycles_mean_exec_howard");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		HowardMinimumMeanCycle<V, E> alg = new HowardMinimumMeanCycle<V, E>(g, iterations,
@@ -218,7 +292,36 @@ public class CycleApi {
 			}
 		}
 		
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
+	}
+
+	private static <V, E> int executeSimpleCycles(DirectedSimpleCycles<V, E> alg, ObjectHandle progressHandle,
+			WordPointer res) {
+		Progress progress = globalHandles.get(progressHandle);
+		List<List<V>> cycles;
+		try {
+			if (progress != null) {
+				progress.startPhase(PHASE_ENUMERATION, Progress.UNKNOWN);
+			}
+			if (progress != null) {
+				List<List<V>> found = new ArrayList<>();
+				alg.findSimpleCycles(c -> {
+					found.add(c);
+					progress.advance(1);
+				});
+				cycles = found;
+			} else {
+				cycles = alg.findSimpleCycles();
+			}
+		} finally {
+			if (progress != null) {
+				progress.finish();
+			}
+		}
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(cycles.iterator()));
+		}
+		return Metrics.success();
 	}
 
 }
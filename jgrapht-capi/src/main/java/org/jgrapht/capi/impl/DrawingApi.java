@@ -43,29 +43,36 @@ import org.jgrapht.alg.drawing.model.Point2D;
 import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.IIToIFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.LLToIFunctionPointer;
-import org.jgrapht.capi.JGraphTContext.Status;
+import org.jgrapht.capi.custom.drawing.ArrayLayoutModel2D;
+import org.jgrapht.capi.custom.drawing.IncrementalFRLayoutAlgorithm2D;
 import org.jgrapht.capi.custom.drawing.IndexedFRLayoutAlgorithm2D;
+import org.jgrapht.capi.custom.drawing.MultilevelFRLayoutAlgorithm2D;
+import org.jgrapht.capi.custom.drawing.ParallelFRLayoutAlgorithm2D;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class DrawingApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "drawing_layout_model_2d_create", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V> int layoutModel2DCreate(IsolateThread thread, double minX, double minY, double width,
 			double height, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_drawing_layout_model_2d_create");
 		MapLayoutModel2D<V> model = new MapLayoutModel2D<>(Box2D.of(minX, minY, width, height));
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(model));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "drawing_layout_model_2d_get_drawable_area", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V> int layoutModel2dGetDrawableArea(IsolateThread thread, ObjectHandle model, CDoublePointer minX,
 			CDoublePointer minY, CDoublePointer width, CDoublePointer height) {
+		Metrics.enter("jgrapht_capi_xx_drawing_layout_model_2d_get_drawable_area");
 		LayoutModel2D<V> m = globalHandles.get(model);
 		Box2D area = m.getDrawableArea();
 		if (area != null) {
@@ -82,13 +89,14 @@ public class DrawingApi {
 				height.write(area.getHeight());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "drawing_layout_model_2d_get_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int layoutModel2dGetVertex(IsolateThread thread, ObjectHandle model, int vertex, CDoublePointer x,
 			CDoublePointer y) {
+		Metrics.enter("jgrapht_capi_ix_drawing_layout_model_2d_get_vertex");
 		LayoutModel2D<Integer> m = globalHandles.get(model);
 		Point2D p = m.get(vertex);
 		if (p != null) {
@@ -99,13 +107,14 @@ public class DrawingApi {
 				y.write(p.getY());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "drawing_layout_model_2d_get_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int layoutModel2dGetVertex(IsolateThread thread, ObjectHandle model, long vertex, CDoublePointer x,
 			CDoublePointer y) {
+		Metrics.enter("jgrapht_capi_lx_drawing_layout_model_2d_get_vertex");
 		LayoutModel2D<Long> m = globalHandles.get(model);
 		Point2D p = m.get(vertex);
 		if (p != null) {
@@ -116,77 +125,198 @@ public class DrawingApi {
 				y.write(p.getY());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "drawing_layout_model_2d_put_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int layoutModel2dPutVertex(IsolateThread thread, ObjectHandle model, int vertex, double x, double y) {
+		Metrics.enter("jgrapht_capi_ix_drawing_layout_model_2d_put_vertex");
 		LayoutModel2D<Integer> m = globalHandles.get(model);
 		m.put(vertex, Point2D.of(x, y));
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "drawing_layout_model_2d_put_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int layoutModel2dPutVertex(IsolateThread thread, ObjectHandle model, long vertex, double x,
 			double y) {
+		Metrics.enter("jgrapht_capi_lx_drawing_layout_model_2d_put_vertex");
 		LayoutModel2D<Long> m = globalHandles.get(model);
 		m.put(vertex, Point2D.of(x, y));
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "drawing_layout_model_2d_get_fixed", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int layoutModel2dGetFixed(IsolateThread thread, ObjectHandle model, int vertex, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ix_drawing_layout_model_2d_get_fixed");
 		LayoutModel2D<Integer> m = globalHandles.get(model);
 		if (res.isNonNull()) {
 			res.write(m.isFixed(vertex) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "drawing_layout_model_2d_get_fixed", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int layoutModel2dGetFixed(IsolateThread thread, ObjectHandle model, long vertex, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_lx_drawing_layout_model_2d_get_fixed");
 		LayoutModel2D<Long> m = globalHandles.get(model);
 		if (res.isNonNull()) {
 			res.write(m.isFixed(vertex) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "drawing_layout_model_2d_set_fixed", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int layoutModel2dSetFixed(IsolateThread thread, ObjectHandle model, int vertex, boolean fixed) {
+		Metrics.enter("jgrapht_capi_ix_drawing_layout_model_2d_set_fixed");
 		LayoutModel2D<Integer> m = globalHandles.get(model);
 		m.setFixed(vertex, fixed);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "drawing_layout_model_2d_set_fixed", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int layoutModel2dSetFixed(IsolateThread thread, ObjectHandle model, long vertex, boolean fixed) {
+		Metrics.enter("jgrapht_capi_lx_drawing_layout_model_2d_set_fixed");
 		LayoutModel2D<Long> m = globalHandles.get(model);
 		m.setFixed(vertex, fixed);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
+	}
+
+	/**
+	 * Create a layout model for integer graphs which keeps the coordinates in
+	 * arrays indexed by the vertex. Vertices must be non-negative.
+	 * 
+	 * @param thread   the isolate thread
+	 * @param minX     the minimum x of the drawable area
+	 * @param minY     the minimum y of the drawable area
+	 * @param width    the width of the drawable area
+	 * @param height   the height of the drawable area
+	 * @param capacity the expected number of vertices
+	 * @param res      the model
+	 * @return the return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "drawing_array_layout_model_2d_create", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int arrayLayoutModel2DCreate(IsolateThread thread, double minX, double minY, double width,
+			double height, int capacity, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_drawing_array_layout_model_2d_create");
+		ArrayLayoutModel2D model = new ArrayLayoutModel2D(Box2D.of(minX, minY, width, height), capacity);
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(model));
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Read the coordinates of many vertices. Vertices without a position get NaN
+	 * coordinates.
+	 * 
+	 * @param thread   the isolate thread
+	 * @param model    the model
+	 * @param vertices the vertices, or null for vertices 0 up to count-1
+	 * @param count    the number of vertices
+	 * @param x        buffer of size count for the x coordinates
+	 * @param y        buffer of size count for the y coordinates
+	 * @return the return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "drawing_layout_model_2d_get_all", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int layoutModel2dGetAll(IsolateThread thread, ObjectHandle model, CIntPointer vertices, int count,
+			CDoublePointer x, CDoublePointer y) {
+		Metrics.enter("jgrapht_capi_ix_drawing_layout_model_2d_get_all");
+		LayoutModel2D<Integer> m = globalHandles.get(model);
+		if (m instanceof ArrayLayoutModel2D) {
+			ArrayLayoutModel2D am = (ArrayLayoutModel2D) m;
+			for (int i = 0; i < count; i++) {
+				int v = vertices.isNonNull() ? vertices.read(i) : i;
+				x.write(i, am.getX(v));
+				y.write(i, am.getY(v));
+			}
+		} else {
+			for (int i = 0; i < count; i++) {
+				Point2D p = m.get(vertices.isNonNull() ? vertices.read(i) : i);
+				x.write(i, p != null ? p.getX() : Double.NaN);
+				y.write(i, p != null ? p.getY() : Double.NaN);
+			}
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Set the coordinates of many vertices. Fixed vertices which already have a
+	 * position are not changed.
+	 * 
+	 * @param thread   the isolate thread
+	 * @param model    the model
+	 * @param vertices the vertices, or null for vertices 0 up to count-1
+	 * @param count    the number of vertices
+	 * @param x        buffer of size count with the x coordinates
+	 * @param y        buffer of size count with the y coordinates
+	 * @return the return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "drawing_layout_model_2d_put_all", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int layoutModel2dPutAll(IsolateThread thread, ObjectHandle model, CIntPointer vertices, int count,
+			CDoublePointer x, CDoublePointer y) {
+		Metrics.enter("jgrapht_capi_ix_drawing_layout_model_2d_put_all");
+		LayoutModel2D<Integer> m = globalHandles.get(model);
+		if (m instanceof ArrayLayoutModel2D) {
+			ArrayLayoutModel2D am = (ArrayLayoutModel2D) m;
+			for (int i = 0; i < count; i++) {
+				am.put(vertices.isNonNull() ? vertices.read(i) : i, x.read(i), y.read(i));
+			}
+		} else {
+			for (int i = 0; i < count; i++) {
+				m.put(vertices.isNonNull() ? vertices.read(i) : i, Point2D.of(x.read(i), y.read(i)));
+			}
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Set whether many vertices are fixed.
+	 * 
+	 * @param thread   the isolate thread
+	 * @param model    the model
+	 * @param vertices the vertices, or null for vertices 0 up to count-1
+	 * @param count    the number of vertices
+	 * @param fixed    whether the vertices are fixed
+	 * @return the return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "drawing_layout_model_2d_set_fixed_bulk", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int layoutModel2dSetFixedBulk(IsolateThread thread, ObjectHandle model, CIntPointer vertices,
+			int count, boolean fixed) {
+		Metrics.enter("jgrapht_capi_ix_drawing_layout_model_2d_set_fixed_bulk");
+		LayoutModel2D<Integer> m = globalHandles.get(model);
+		for (int i = 0; i < count; i++) {
+			m.setFixed(vertices.isNonNull() ? vertices.read(i) : i, fixed);
+		}
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "drawing_exec_random_layout_2d", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeRandomLayout(IsolateThread thread, ObjectHandle graphHandle, ObjectHandle model,
 			long seed) {
+		Metrics.enter("jgrapht_capi_xx_drawing_exec_random_layout_2d");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		LayoutModel2D<V> m = globalHandles.get(model);
 
 		new RandomLayoutAlgorithm2D<V, E>(seed).layout(g, m);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "drawing_exec_circular_layout_2d", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executeCircularLayout(IsolateThread thread, ObjectHandle graphHandle, ObjectHandle model,
 			double radius, IIToIFunctionPointer vertexComparator) {
+		Metrics.enter("jgrapht_capi_ix_drawing_exec_circular_layout_2d");
 		Graph<Integer, E> g = globalHandles.get(graphHandle);
 		LayoutModel2D<Integer> m = globalHandles.get(model);
 
@@ -196,13 +326,14 @@ public class DrawingApi {
 		}
 
 		new CircularLayoutAlgorithm2D<Integer, E>(radius, comparator).layout(g, m);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "drawing_exec_circular_layout_2d", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executeCircularLayout(IsolateThread thread, ObjectHandle graphHandle, ObjectHandle model,
 			double radius, LLToIFunctionPointer vertexComparator) {
+		Metrics.enter("jgrapht_capi_lx_drawing_exec_circular_layout_2d");
 		Graph<Long, E> g = globalHandles.get(graphHandle);
 		LayoutModel2D<Long> m = globalHandles.get(model);
 
@@ -212,28 +343,125 @@ public class DrawingApi {
 		}
 
 		new CircularLayoutAlgorithm2D<Long, E>(radius, comparator).layout(g, m);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "drawing_exec_fr_layout_2d", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeFRLayout(IsolateThread thread, ObjectHandle graphHandle, ObjectHandle model,
 			int iterations, double normalizationFactor, long seed) {
+		Metrics.enter("jgrapht_capi_xx_drawing_exec_fr_layout_2d");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		LayoutModel2D<V> m = globalHandles.get(model);
 		new FRLayoutAlgorithm2D<V, E>(iterations, normalizationFactor, new Random(seed)).layout(g, m);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "drawing_exec_indexed_fr_layout_2d", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeIndexedFRLayout(IsolateThread thread, ObjectHandle graphHandle, ObjectHandle model,
 			int iterations, double normalizationFactor, long seed, double theta, double tolerance) {
+		Metrics.enter("jgrapht_capi_xx_drawing_exec_indexed_fr_layout_2d");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		LayoutModel2D<V> m = globalHandles.get(model);
 		new IndexedFRLayoutAlgorithm2D<V, E>(iterations, theta, normalizationFactor, new Random(seed), tolerance)
 				.layout(g, m);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
+	}
+
+	/**
+	 * Parallel Fruchterman and Reingold layout using the Barnes-Hut technique. With
+	 * theta equal to zero the result is the same as the exact algorithm.
+	 * 
+	 * @param thread              the isolate thread
+	 * @param graphHandle         the graph
+	 * @param model               the {@link LayoutModel2D} model
+	 * @param iterations          number of iterations
+	 * @param normalizationFactor normalization factor for the optimal distance
+	 * @param seed                seed for the random initial positions
+	 * @param theta               theta parameter for the Barnes-Hut approximation
+	 * @param tolerance           tolerance used when comparing floating point
+	 *                            values
+	 * @param parallelism         the number of threads
+	 * @return the return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "drawing_exec_parallel_fr_layout_2d", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V, E> int executeParallelFRLayout(IsolateThread thread, ObjectHandle graphHandle,
+			ObjectHandle model, int iterations, double normalizationFactor, long seed, double theta, double tolerance,
+			int parallelism) {
+		Metrics.enter("jgrapht_capi_xx_drawing_exec_parallel_fr_layout_2d");
+		Graph<V, E> g = globalHandles.get(graphHandle);
+		LayoutModel2D<V> m = globalHandles.get(model);
+		new ParallelFRLayoutAlgorithm2D<V, E>(iterations, theta, normalizationFactor, new Random(seed), tolerance,
+				parallelism).layout(g, m);
+		return Metrics.success();
+	}
+
+	/**
+	 * Multilevel Fruchterman and Reingold layout. The graph is coarsened by
+	 * matching, the coarsest graph is laid out and the layout is interpolated and
+	 * refined level by level using the Barnes-Hut technique.
+	 * 
+	 * @param thread               the isolate thread
+	 * @param graphHandle          the graph
+	 * @param model                the {@link LayoutModel2D} model
+	 * @param iterations           number of iterations on the coarsest level
+	 * @param refinementIterations number of iterations on each other level
+	 * @param normalizationFactor  normalization factor for the optimal distance
+	 * @param seed                 seed for the random choices
+	 * @param theta                theta parameter for the Barnes-Hut approximation
+	 * @param tolerance            tolerance used when comparing floating point
+	 *                             values
+	 * @param parallelism          the number of threads
+	 * @return the return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "drawing_exec_multilevel_fr_layout_2d", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V, E> int executeMultilevelFRLayout(IsolateThread thread, ObjectHandle graphHandle,
+			ObjectHandle model, int iterations, int refinementIterations, double normalizationFactor, long seed,
+			double theta, double tolerance, int parallelism) {
+		Metrics.enter("jgrapht_capi_xx_drawing_exec_multilevel_fr_layout_2d");
+		Graph<V, E> g = globalHandles.get(graphHandle);
+		LayoutModel2D<V> m = globalHandles.get(model);
+		new MultilevelFRLayoutAlgorithm2D<V, E>(iterations, refinementIterations, theta, normalizationFactor,
+				new Random(seed), tolerance, parallelism).layout(g, m);
+		return Metrics.success();
+	}
+
+	/**
+	 * Incremental Fruchterman and Reingold layout. Vertices without a position in
+	 * the model are placed at the barycenter of their placed neighbors and the
+	 * layout is refined only around them.
+	 * 
+	 * @param thread              the isolate thread
+	 * @param graphHandle         the graph
+	 * @param model               the {@link LayoutModel2D} model with the previous
+	 *                            layout
+	 * @param iterations          number of refinement iterations
+	 * @param stiffness           how strongly previously placed vertices keep their
+	 *                            position, in [0,1]
+	 * @param radius              number of hops around the new vertices which are
+	 *                            refined
+	 * @param normalizationFactor normalization factor for the optimal distance
+	 * @param seed                seed for the random choices
+	 * @param theta               theta parameter for the Barnes-Hut approximation
+	 * @param tolerance           tolerance used when comparing floating point
+	 *                            values
+	 * @param parallelism         the number of threads
+	 * @return the return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "drawing_exec_incremental_fr_layout_2d", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V, E> int executeIncrementalFRLayout(IsolateThread thread, ObjectHandle graphHandle,
+			ObjectHandle model, int iterations, double stiffness, int radius, double normalizationFactor, long seed,
+			double theta, double tolerance, int parallelism) {
+		Metrics.enter("jgrapht_capi_xx_drawing_exec_incremental_fr_layout_2d");
+		Graph<V, E> g = globalHandles.get(graphHandle);
+		LayoutModel2D<V> m = globalHandles.get(model);
+		new IncrementalFRLayoutAlgorithm2D<V, E>(iterations, stiffness, radius, theta, normalizationFactor,
+				new Random(seed), tolerance, parallelism).layout(g, m);
+		return Metrics.success();
 	}
 
 	/**
@@ -250,10 +478,11 @@ public class DrawingApi {
 			+ "drawing_exec_rescale_layout_2d", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeRescaleLayout(IsolateThread thread, ObjectHandle graphHandle, ObjectHandle model,
 			double scale) {
+		Metrics.enter("jgrapht_capi_xx_drawing_exec_rescale_layout_2d");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		LayoutModel2D<V> m = globalHandles.get(model);
 		new RescaleLayoutAlgorithm2D<V, E>(scale).layout(g, m);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -273,6 +502,7 @@ public class DrawingApi {
 	public static <E> int executeTwoLayeredBipartite(IsolateThread thread, ObjectHandle graphHandle,
 			ObjectHandle modelHandle, ObjectHandle partitionHandle, IIToIFunctionPointer vertexComparatorFunctionPtr,
 			boolean vertical) {
+		Metrics.enter("jgrapht_capi_ix_drawing_exec_two_layered_bipartite_layout_2d");
 		Graph<Integer, E> graph = globalHandles.get(graphHandle);
 		LayoutModel2D<Integer> model = globalHandles.get(modelHandle);
 		Set<Integer> partition = globalHandles.get(partitionHandle);
@@ -281,7 +511,7 @@ public class DrawingApi {
 			vertexComparator = (a, b) -> vertexComparatorFunctionPtr.invoke(a, b);
 		}
 		new TwoLayeredBipartiteLayout2D<Integer, E>(partition, vertexComparator, vertical).layout(graph, model);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -301,6 +531,7 @@ public class DrawingApi {
 	public static <E> int executeTwoLayeredBipartite(IsolateThread thread, ObjectHandle graphHandle,
 			ObjectHandle modelHandle, ObjectHandle partitionHandle, LLToIFunctionPointer vertexComparatorFunctionPtr,
 			boolean vertical) {
+		Metrics.enter("jgrapht_capi_lx_drawing_exec_two_layered_bipartite_layout_2d");
 		Graph<Long, E> graph = globalHandles.get(graphHandle);
 		LayoutModel2D<Long> model = globalHandles.get(modelHandle);
 		Set<Long> partition = globalHandles.get(partitionHandle);
@@ -309,7 +540,7 @@ public class DrawingApi {
 			vertexComparator = (a, b) -> vertexComparatorFunctionPtr.invoke(a, b);
 		}
 		new TwoLayeredBipartiteLayout2D<Long, E>(partition, vertexComparator, vertical).layout(graph, model);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -329,6 +560,7 @@ public class DrawingApi {
 	public static <E> int executeBarycenterGreedyTwoLayeredBipartite(IsolateThread thread, ObjectHandle graphHandle,
 			ObjectHandle modelHandle, ObjectHandle partitionHandle, IIToIFunctionPointer vertexComparatorFunctionPtr,
 			boolean vertical) {
+		Metrics.enter("jgrapht_capi_ix_drawing_exec_barycenter_greedy_two_layered_bipartite_layout_2d");
 		Graph<Integer, E> graph = globalHandles.get(graphHandle);
 		LayoutModel2D<Integer> model = globalHandles.get(modelHandle);
 		Set<Integer> partition = globalHandles.get(partitionHandle);
@@ -338,7 +570,7 @@ public class DrawingApi {
 		}
 		new BarycenterGreedyTwoLayeredBipartiteLayout2D<Integer, E>(partition, vertexComparator, vertical).layout(graph,
 				model);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -358,6 +590,7 @@ public class DrawingApi {
 	public static <E> int executeBarycenterGreedyTwoLayeredBipartite(IsolateThread thread, ObjectHandle graphHandle,
 			ObjectHandle modelHandle, ObjectHandle partitionHandle, LLToIFunctionPointer vertexComparatorFunctionPtr,
 			boolean vertical) {
+		Metrics.enter("jgrapht_capi_lx_drawing_exec_barycenter_greedy_two_layered_bipartite_layout_2d");
 		Graph<Long, E> graph = globalHandles.get(graphHandle);
 		LayoutModel2D<Long> model = globalHandles.get(modelHandle);
 		Set<Long> partition = globalHandles.get(partitionHandle);
@@ -367,7 +600,7 @@ public class DrawingApi {
 		}
 		new BarycenterGreedyTwoLayeredBipartiteLayout2D<Long, E>(partition, vertexComparator, vertical).layout(graph,
 				model);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -387,6 +620,7 @@ public class DrawingApi {
 	public static <E> int executeMedianGreedyTwoLayeredBipartite(IsolateThread thread, ObjectHandle graphHandle,
 			ObjectHandle modelHandle, ObjectHandle partitionHandle, IIToIFunctionPointer vertexComparatorFunctionPtr,
 			boolean vertical) {
+		Metrics.enter("jgrapht_capi_ix_drawing_exec_median_greedy_two_layered_bipartite_layout_2d");
 		Graph<Integer, E> graph = globalHandles.get(graphHandle);
 		LayoutModel2D<Integer> model = globalHandles.get(modelHandle);
 		Set<Integer> partition = globalHandles.get(partitionHandle);
@@ -396,7 +630,7 @@ public class DrawingApi {
 		}
 		new MedianGreedyTwoLayeredBipartiteLayout2D<Integer, E>(partition, vertexComparator, vertical).layout(graph,
 				model);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -416,6 +650,7 @@ public class DrawingApi {
 	public static <E> int executeMedianGreedyTwoLayeredBipartite(IsolateThread thread, ObjectHandle graphHandle,
 			ObjectHandle modelHandle, ObjectHandle partitionHandle, LLToIFunctionPointer vertexComparatorFunctionPtr,
 			boolean vertical) {
+		Metrics.enter("jgrapht_capi_lx_drawing_exec_median_greedy_two_layered_bipartite_layout_2d");
 		Graph<Long, E> graph = globalHandles.get(graphHandle);
 		LayoutModel2D<Long> model = globalHandles.get(modelHandle);
 		Set<Long> partition = globalHandles.get(partitionHandle);
@@ -425,7 +660,7 @@ public class DrawingApi {
 		}
 		new MedianGreedyTwoLayeredBipartiteLayout2D<Long, E>(partition, vertexComparator, vertical).layout(graph,
 				model);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
@@ -49,12 +49,17 @@ public class ErrorApi {
 	}
 
 	/**
-	 * Get the global error status text. Note that the memory for the message is
-	 * only kept until the next error status is written.
+	 * Get the global error status text. The memory for the message is kept
+	 * until the next call of this function on the same thread, even if the error
+	 * status is cleared or overwritten in between.
 	 *
 	 * @param thread the thread isolate
 	 */
-	@CEntryPoint(name = Constants.LIB_PREFIX + "error_get_errno_msg")
+	@CEntryPoint(name = Constants.LIB_PREFIX + "error_get_errno_msg", documentation = {
+			"Get the error message of the last error of the thread.",
+			"The returned string stays valid until the next call of this function on the same thread,",
+			"also after the error is cleared or another error occurs. Copy it to keep it longer.",
+			"@param thread the isolate thread" })
 	public static CCharPointer getErrorMessage(IsolateThread thread) {
 		return Errors.getMessageCCharPointer();
 	}
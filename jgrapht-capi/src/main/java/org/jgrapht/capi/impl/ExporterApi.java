@@ -39,11 +39,12 @@ import org.jgrapht.Graph;
 import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.ExporterDIMACSFormat;
 import org.jgrapht.capi.JGraphTContext.ImporterExporterCSVFormat;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.StringUtils;
 import org.jgrapht.capi.attributes.AttributesStore;
 import org.jgrapht.capi.attributes.RegisteredAttribute;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 import org.jgrapht.nio.AttributeType;
 import org.jgrapht.nio.BaseExporter;
 import org.jgrapht.nio.ExportException;
@@ -64,12 +65,13 @@ import org.jgrapht.nio.lemon.LemonExporter;
 
 public class ExporterApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "export_file_dimacs", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int exportDIMACSToFile(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename,
 			ExporterDIMACSFormat format, boolean exportEdgeWeights, ObjectHandle vertexIdStore) {
+		Metrics.enter("jgrapht_capi_ix_export_file_dimacs");
 		Graph<Integer, E> g = globalHandles.get(graphHandle);
 
 		DIMACSFormat actualFormat = null;
@@ -88,13 +90,14 @@ public class ExporterApi {
 				actualFormat);
 		exporter.setParameter(DIMACSExporter.Parameter.EXPORT_EDGE_WEIGHTS, exportEdgeWeights);
 		exportToFile(g, exporter, filename);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "export_file_dimacs", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int llExportDIMACSToFile(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename,
 			ExporterDIMACSFormat format, boolean exportEdgeWeights, ObjectHandle vertexIdStore) {
+		Metrics.enter("jgrapht_capi_lx_export_file_dimacs");
 		Graph<Long, E> g = globalHandles.get(graphHandle);
 
 		DIMACSFormat actualFormat = null;
@@ -113,13 +116,14 @@ public class ExporterApi {
 				actualFormat);
 		exporter.setParameter(DIMACSExporter.Parameter.EXPORT_EDGE_WEIGHTS, exportEdgeWeights);
 		exportToFile(g, exporter, filename);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "export_string_dimacs", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int exportDIMACSToString(IsolateThread thread, ObjectHandle graphHandle, ExporterDIMACSFormat format,
 			boolean exportEdgeWeights, ObjectHandle vertexIdStore, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_export_string_dimacs");
 		Graph<Integer, E> g = globalHandles.get(graphHandle);
 
 		DIMACSFormat actualFormat = null;
@@ -143,13 +147,14 @@ public class ExporterApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(cString));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "export_string_dimacs", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int llExportDIMACSToString(IsolateThread thread, ObjectHandle graphHandle, ExporterDIMACSFormat format,
 			boolean exportEdgeWeights, ObjectHandle vertexIdStore, WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_export_string_dimacs");
 		Graph<Long, E> g = globalHandles.get(graphHandle);
 
 		DIMACSFormat actualFormat = null;
@@ -173,7 +178,7 @@ public class ExporterApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(cString));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
@@ -181,6 +186,7 @@ public class ExporterApi {
 	public static <V,E> int exportGmlFile(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename,
 			boolean exportEdgeWeights, boolean exportVertexLabels, boolean exportEdgeLabels,
 			ObjectHandle vertexLabelsStore, ObjectHandle edgeLabelsStore, ObjectHandle vertexIdStore) {
+		Metrics.enter("jgrapht_capi_xx_export_file_gml");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		GmlExporter<V, E> exporter = new GmlExporter<>(createIdProvider(vertexIdStore));
@@ -194,7 +200,7 @@ public class ExporterApi {
 		setupAttributeStores(exporter, vertexLabelsStore, edgeLabelsStore);
 
 		exportToFile(g, exporter, filename);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
@@ -202,6 +208,7 @@ public class ExporterApi {
 	public static <V,E> int exportGmlString(IsolateThread thread, ObjectHandle graphHandle, boolean exportEdgeWeights,
 			boolean exportVertexLabels, boolean exportEdgeLabels, ObjectHandle vertexLabelsStore,
 			ObjectHandle edgeLabelsStore, ObjectHandle vertexIdStore, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_export_string_gml");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		GmlExporter<V, E> exporter = new GmlExporter<>(createIdProvider(vertexIdStore));
@@ -218,13 +225,14 @@ public class ExporterApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(cString));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "export_file_json", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int exportJsonFile(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename,
 			ObjectHandle vertexLabelsStore, ObjectHandle edgeLabelsStore, ObjectHandle vertexIdStore) {
+		Metrics.enter("jgrapht_capi_xx_export_file_json");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		JSONExporter<V, E> exporter = new JSONExporter<>(createIdProvider(vertexIdStore));
@@ -232,13 +240,14 @@ public class ExporterApi {
 		setupAttributeStores(exporter, vertexLabelsStore, edgeLabelsStore);
 
 		exportToFile(g, exporter, filename);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "export_string_json", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int exportJsonString(IsolateThread thread, ObjectHandle graphHandle, ObjectHandle vertexLabelsStore,
 			ObjectHandle edgeLabelsStore, ObjectHandle vertexIdStore, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_export_string_json");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		JSONExporter<V, E> exporter = new JSONExporter<>(createIdProvider(vertexIdStore));
@@ -249,13 +258,14 @@ public class ExporterApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(cString));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "export_file_lemon", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int exportLemonToFile(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename,
 			boolean exportEdgeWeights, boolean escapeStringsAsJava, ObjectHandle vertexIdStore) {
+		Metrics.enter("jgrapht_capi_xx_export_file_lemon");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		LemonExporter<V, E> exporter = new LemonExporter<>(createIdProvider(vertexIdStore));
@@ -263,13 +273,14 @@ public class ExporterApi {
 		exporter.setParameter(LemonExporter.Parameter.ESCAPE_STRINGS_AS_JAVA, escapeStringsAsJava);
 
 		exportToFile(g, exporter, filename);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "export_string_lemon", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int exportLemonToString(IsolateThread thread, ObjectHandle graphHandle, boolean exportEdgeWeights,
 			boolean escapeStringsAsJava, ObjectHandle vertexIdStore, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_export_string_lemon");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		LemonExporter<V, E> exporter = new LemonExporter<>(createIdProvider(vertexIdStore));
@@ -280,7 +291,7 @@ public class ExporterApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(cString));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
@@ -288,6 +299,7 @@ public class ExporterApi {
 	public static <V,E> int exportCSVToFile(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename,
 			ImporterExporterCSVFormat format, boolean exportEdgeWeights, boolean matrix_format_nodeid,
 			boolean matrix_format_zero_when_no_edge, ObjectHandle vertexIdStore) {
+		Metrics.enter("jgrapht_capi_xx_export_file_csv");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		CSVFormat actualFormat = null;
@@ -306,7 +318,7 @@ public class ExporterApi {
 		exporter.setParameter(CSVFormat.Parameter.MATRIX_FORMAT_ZERO_WHEN_NO_EDGE, matrix_format_zero_when_no_edge);
 
 		exportToFile(g, exporter, filename);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
@@ -314,6 +326,7 @@ public class ExporterApi {
 	public static <V,E> int exportCSVToString(IsolateThread thread, ObjectHandle graphHandle,
 			ImporterExporterCSVFormat format, boolean exportEdgeWeights, boolean matrix_format_nodeid,
 			boolean matrix_format_zero_when_no_edge, ObjectHandle vertexIdStore, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_export_string_csv");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		CSVFormat actualFormat = null;
@@ -335,7 +348,7 @@ public class ExporterApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(cString));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -361,6 +374,7 @@ public class ExporterApi {
 			ObjectHandle attributesRegistry, ObjectHandle vertexAttributesStore, ObjectHandle edgeAttributesStore,
 			ObjectHandle vertexIdStore, ObjectHandle edgeIdStore, boolean exportEdgeWeights, boolean exportEdgeLabels,
 			boolean exportEdgeTypes, boolean exportMeta) {
+		Metrics.enter("jgrapht_capi_xx_export_file_gexf");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		GEXFExporter<V, E> exporter = new GEXFExporter<>(createIdProvider(vertexIdStore),
@@ -384,7 +398,7 @@ public class ExporterApi {
 		}
 
 		exportToFile(g, exporter, filename);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
@@ -393,6 +407,7 @@ public class ExporterApi {
 			ObjectHandle vertexAttributesStore, ObjectHandle edgeAttributesStore, ObjectHandle vertexIdStore,
 			ObjectHandle edgeIdStore, boolean exportEdgeWeights, boolean exportEdgeLabels, boolean exportEdgeTypes,
 			boolean exportMeta, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_export_string_gexf");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		GEXFExporter<V, E> exporter = new GEXFExporter<>(createIdProvider(vertexIdStore),
@@ -419,13 +434,14 @@ public class ExporterApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(cString));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "export_file_dot", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int exportDotFile(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename,
 			ObjectHandle vertexAttributesStore, ObjectHandle edgeAttributesStore, ObjectHandle vertexIdStore) {
+		Metrics.enter("jgrapht_capi_xx_export_file_dot");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		DOTExporter<V, E> exporter = new DOTExporter<>(createIdProvider(vertexIdStore));
@@ -433,7 +449,7 @@ public class ExporterApi {
 		setupAttributeStores(exporter, vertexAttributesStore, edgeAttributesStore);
 
 		exportToFile(g, exporter, filename);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
@@ -441,6 +457,7 @@ public class ExporterApi {
 	public static <V,E> int exportDotString(IsolateThread thread, ObjectHandle graphHandle,
 			ObjectHandle vertexAttributesStore, ObjectHandle edgeAttributesStore, ObjectHandle vertexIdStore,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_export_string_dot");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		DOTExporter<V, E> exporter = new DOTExporter<>(createIdProvider(vertexIdStore));
@@ -451,24 +468,26 @@ public class ExporterApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(cString));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "export_file_graph6", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int exportGraph6File(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename) {
+		Metrics.enter("jgrapht_capi_xx_export_file_graph6");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		Graph6Sparse6Exporter<V, E> exporter = new Graph6Sparse6Exporter<>(
 				Graph6Sparse6Exporter.Format.GRAPH6);
 
 		exportToFile(g, exporter, filename);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "export_string_graph6", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int exportGraph6String(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_export_string_graph6");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		Graph6Sparse6Exporter<V, E> exporter = new Graph6Sparse6Exporter<>(
@@ -478,24 +497,26 @@ public class ExporterApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(cString));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "export_file_sparse6", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int exportSparse6File(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename) {
+		Metrics.enter("jgrapht_capi_xx_export_file_sparse6");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		Graph6Sparse6Exporter<V, E> exporter = new Graph6Sparse6Exporter<>(
 				Graph6Sparse6Exporter.Format.SPARSE6);
 
 		exportToFile(g, exporter, filename);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "export_string_sparse6", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int exportSparse6String(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_export_string_sparse6");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		Graph6Sparse6Exporter<V, E> exporter = new Graph6Sparse6Exporter<>(
@@ -505,7 +526,7 @@ public class ExporterApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(cString));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
@@ -514,6 +535,7 @@ public class ExporterApi {
 			ObjectHandle attributesRegistry, ObjectHandle vertexAttributesStore, ObjectHandle edgeAttributesStore,
 			ObjectHandle vertexIdStore, boolean exportEdgeWeights, boolean exportVertexLabels,
 			boolean exportEdgeLabels) {
+		Metrics.enter("jgrapht_capi_xx_export_file_graphml");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		GraphMLExporter<V, E> exporter = new GraphMLExporter<>(createIdProvider(vertexIdStore));
@@ -535,7 +557,7 @@ public class ExporterApi {
 		}
 
 		exportToFile(g, exporter, filename);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
@@ -544,6 +566,7 @@ public class ExporterApi {
 			ObjectHandle attributesRegistry, ObjectHandle vertexAttributesStore, ObjectHandle edgeAttributesStore,
 			ObjectHandle vertexIdStore, boolean exportEdgeWeights, boolean exportVertexLabels, boolean exportEdgeLabels,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_export_string_graphml");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		GraphMLExporter<V, E> exporter = new GraphMLExporter<>(createIdProvider(vertexIdStore));
@@ -568,7 +591,7 @@ public class ExporterApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(cString));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	// *************** utils ***************
@@ -25,21 +25,23 @@ import org.jgrapht.alg.interfaces.MinimumCostFlowAlgorithm.MinimumCostFlow;
 import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.IntegerToIntegerFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.LongToIntegerFunctionPointer;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.JGraphTContext.VoidToLongFunctionPointer;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 import org.jgrapht.capi.graph.DefaultCapiGraph;
 import org.jgrapht.graph.DefaultWeightedEdge;
 import org.jgrapht.graph.SimpleWeightedGraph;
 
 public class FlowApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "maxflow_exec_push_relabel", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executePushRelabel(IsolateThread thread, ObjectHandle graphHandle, int source, int sink,
 			CDoublePointer valueRes, WordPointer flowRes, WordPointer cutSourcePartitionRes) {
+		Metrics.enter("jgrapht_capi_ix_maxflow_exec_push_relabel");
 		return doRunMaxFlow(thread, graphHandle, PushRelabelMFImpl::new, source, sink, valueRes, flowRes,
 				cutSourcePartitionRes);
 	}
@@ -48,6 +50,7 @@ public class FlowApi {
 			+ "maxflow_exec_push_relabel", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executePushRelabel(IsolateThread thread, ObjectHandle graphHandle, long source, long sink,
 			CDoublePointer valueRes, WordPointer flowRes, WordPointer cutSourcePartitionRes) {
+		Metrics.enter("jgrapht_capi_lx_maxflow_exec_push_relabel");
 		return doRunLongMaxFlow(thread, graphHandle, PushRelabelMFImpl::new, source, sink, valueRes, flowRes,
 				cutSourcePartitionRes);
 	}
@@ -56,6 +59,7 @@ public class FlowApi {
 			+ "maxflow_exec_dinic", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeDinic(IsolateThread thread, ObjectHandle graphHandle, int source, int sink,
 			CDoublePointer valueRes, WordPointer flowRes, WordPointer cutSourcePartitionRes) {
+		Metrics.enter("jgrapht_capi_ix_maxflow_exec_dinic");
 		return doRunMaxFlow(thread, graphHandle, DinicMFImpl::new, source, sink, valueRes, flowRes,
 				cutSourcePartitionRes);
 	}
@@ -64,6 +68,7 @@ public class FlowApi {
 			+ "maxflow_exec_dinic", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeDinic(IsolateThread thread, ObjectHandle graphHandle, long source, long sink,
 			CDoublePointer valueRes, WordPointer flowRes, WordPointer cutSourcePartitionRes) {
+		Metrics.enter("jgrapht_capi_lx_maxflow_exec_dinic");
 		return doRunLongMaxFlow(thread, graphHandle, DinicMFImpl::new, source, sink, valueRes, flowRes,
 				cutSourcePartitionRes);
 	}
@@ -72,6 +77,7 @@ public class FlowApi {
 			+ "maxflow_exec_edmonds_karp", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeEdmondsKarp(IsolateThread thread, ObjectHandle graphHandle, int source, int sink,
 			CDoublePointer valueRes, WordPointer flowRes, WordPointer cutSourcePartitionRes) {
+		Metrics.enter("jgrapht_capi_ix_maxflow_exec_edmonds_karp");
 		return doRunMaxFlow(thread, graphHandle, EdmondsKarpMFImpl::new, source, sink, valueRes, flowRes,
 				cutSourcePartitionRes);
 	}
@@ -80,6 +86,7 @@ public class FlowApi {
 			+ "maxflow_exec_edmonds_karp", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeEdmondsKarp(IsolateThread thread, ObjectHandle graphHandle, long source, long sink,
 			CDoublePointer valueRes, WordPointer flowRes, WordPointer cutSourcePartitionRes) {
+		Metrics.enter("jgrapht_capi_lx_maxflow_exec_edmonds_karp");
 		return doRunLongMaxFlow(thread, graphHandle, EdmondsKarpMFImpl::new, source, sink, valueRes, flowRes,
 				cutSourcePartitionRes);
 	}
@@ -88,6 +95,7 @@ public class FlowApi {
 			+ "maxflow_exec_boykov_kolmogorov", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBoykovKolmogorov(IsolateThread thread, ObjectHandle graphHandle, int source, int sink,
 			CDoublePointer valueRes, WordPointer flowRes, WordPointer cutSourcePartitionRes) {
+		Metrics.enter("jgrapht_capi_ix_maxflow_exec_boykov_kolmogorov");
 		return doRunLongMaxFlow(thread, graphHandle, BoykovKolmogorovMFImpl::new, source, sink, valueRes, flowRes,
 				cutSourcePartitionRes);
 	}
@@ -96,6 +104,7 @@ public class FlowApi {
 			+ "maxflow_exec_boykov_kolmogorov", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBoykovKolmogorov(IsolateThread thread, ObjectHandle graphHandle, long source, long sink,
 			CDoublePointer valueRes, WordPointer flowRes, WordPointer cutSourcePartitionRes) {
+		Metrics.enter("jgrapht_capi_lx_maxflow_exec_boykov_kolmogorov");
 		return doRunLongMaxFlow(thread, graphHandle, BoykovKolmogorovMFImpl::new, source, sink, valueRes, flowRes,
 				cutSourcePartitionRes);
 	}
@@ -107,6 +116,7 @@ public class FlowApi {
 			IntegerToIntegerFunctionPointer arcCapacityLowerBoundsFunction,
 			IntegerToIntegerFunctionPointer arcCapacityUpperBoundsFunction, int scalingFactor, CDoublePointer valueRes,
 			WordPointer flowRes, WordPointer dualSolutionRes) {
+		Metrics.enter("jgrapht_capi_ii_mincostflow_exec_capacity_scaling");
 
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
@@ -137,7 +147,7 @@ public class FlowApi {
 		if (dualSolutionRes.isNonNull()) {
 			dualSolutionRes.write(globalHandles.create(dualMap));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -147,6 +157,7 @@ public class FlowApi {
 			LongToIntegerFunctionPointer arcCapacityLowerBoundsFunction,
 			LongToIntegerFunctionPointer arcCapacityUpperBoundsFunction, int scalingFactor, CDoublePointer valueRes,
 			WordPointer flowRes, WordPointer dualSolutionRes) {
+		Metrics.enter("jgrapht_capi_ll_mincostflow_exec_capacity_scaling");
 
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
@@ -177,47 +188,51 @@ public class FlowApi {
 		if (dualSolutionRes.isNonNull()) {
 			dualSolutionRes.write(globalHandles.create(dualMap));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "equivalentflowtree_exec_gusfield", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeEFTGusfield(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_equivalentflowtree_exec_gusfield");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		GusfieldEquivalentFlowTree<V, E> alg = new GusfieldEquivalentFlowTree<>(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(alg));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "equivalentflowtree_max_st_flow", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int eftMaxSTFlow(IsolateThread thread, ObjectHandle eft, int source, int sink,
 			CDoublePointer valueRes) {
+		Metrics.enter("jgrapht_capi_ix_equivalentflowtree_max_st_flow");
 		GusfieldEquivalentFlowTree<Integer, E> alg = globalHandles.get(eft);
 		double flowValue = alg.getMaximumFlowValue(source, sink);
 		if (valueRes.isNonNull()) {
 			valueRes.write(flowValue);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "equivalentflowtree_max_st_flow", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int eftMaxSTFlow(IsolateThread thread, ObjectHandle eft, long source, long sink,
 			CDoublePointer valueRes) {
+		Metrics.enter("jgrapht_capi_lx_equivalentflowtree_max_st_flow");
 		GusfieldEquivalentFlowTree<Long, E> alg = globalHandles.get(eft);
 		double flowValue = alg.getMaximumFlowValue(source, sink);
 		if (valueRes.isNonNull()) {
 			valueRes.write(flowValue);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "equivalentflowtree_tree", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int eftGetTree(IsolateThread thread, ObjectHandle eft, WordPointer treeRes) {
+		Metrics.enter("jgrapht_capi_ii_equivalentflowtree_tree");
 		GusfieldEquivalentFlowTree<Integer, Integer> alg = globalHandles.get(eft);
 		SimpleWeightedGraph<Integer, DefaultWeightedEdge> origTree = alg.getEquivalentFlowTree();
 
@@ -240,12 +255,13 @@ public class FlowApi {
 		if (treeRes.isNonNull()) {
 			treeRes.write(globalHandles.create(tree));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
 			+ "equivalentflowtree_tree", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int llEftGetTree(IsolateThread thread, ObjectHandle eft, WordPointer treeRes) {
+		Metrics.enter("jgrapht_capi_ll_equivalentflowtree_tree");
 		GusfieldEquivalentFlowTree<Long, Long> alg = globalHandles.get(eft);
 		SimpleWeightedGraph<Long, DefaultWeightedEdge> origTree = alg.getEquivalentFlowTree();
 
@@ -268,7 +284,7 @@ public class FlowApi {
 		if (treeRes.isNonNull()) {
 			treeRes.write(globalHandles.create(tree));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -278,6 +294,7 @@ public class FlowApi {
 					"but will have new edges which will be constructed by the provided edge supplier." })
 	public static int llEftGetTree(IsolateThread thread, ObjectHandle eft, VoidToLongFunctionPointer vertexSupplier,
 			VoidToLongFunctionPointer edgeSupplier, WordPointer treeRes) {
+		Metrics.enter("jgrapht_capi_ll_equivalentflowtree_tree_with_suppliers");
 		GusfieldEquivalentFlowTree<Long, Long> alg = globalHandles.get(eft);
 		SimpleWeightedGraph<Long, DefaultWeightedEdge> origTree = alg.getEquivalentFlowTree();
 
@@ -299,7 +316,7 @@ public class FlowApi {
 		if (treeRes.isNonNull()) {
 			treeRes.write(globalHandles.create(tree));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	private static <E> int doRunMaxFlow(IsolateThread thread, ObjectHandle graphHandle,
@@ -320,7 +337,7 @@ public class FlowApi {
 		if (cutSourcePartitionRes.isNonNull()) {
 			cutSourcePartitionRes.write(globalHandles.create(cutSourcePartition));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	private static <E> int doRunLongMaxFlow(IsolateThread thread, ObjectHandle graphHandle,
@@ -341,7 +358,7 @@ public class FlowApi {
 		if (cutSourcePartitionRes.isNonNull()) {
 			cutSourcePartitionRes.write(globalHandles.create(cutSourcePartition));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
@@ -25,8 +25,9 @@ import org.graalvm.nativeimage.ObjectHandles;
 import org.graalvm.nativeimage.c.function.CEntryPoint;
 import org.jgrapht.Graph;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 import org.jgrapht.generate.BarabasiAlbertForestGenerator;
 import org.jgrapht.generate.BarabasiAlbertGraphGenerator;
 import org.jgrapht.generate.ComplementGraphGenerator;
@@ -53,205 +54,226 @@ import org.jgrapht.generate.WindmillGraphsGenerator.Mode;
 
 public class GenerateApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_barabasi_albert", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int barabasiAlbertGraphGenerator(IsolateThread thread, ObjectHandle graph, int m0, int m,
 			int n, long seed) {
+		Metrics.enter("jgrapht_capi_xx_generate_barabasi_albert");
 		Graph<V, E> g = globalHandles.get(graph);
 		GraphGenerator<V, E, ?> gen = new BarabasiAlbertGraphGenerator<>(m0, m, n, seed);
 		gen.generateGraph(g);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_barabasi_albert_forest", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int barabasiAlbertForestGenerator(IsolateThread thread, ObjectHandle graph, int t, int n,
 			long seed) {
+		Metrics.enter("jgrapht_capi_xx_generate_barabasi_albert_forest");
 		Graph<V, E> g = globalHandles.get(graph);
 		GraphGenerator<V, E, ?> gen = new BarabasiAlbertForestGenerator<>(t, n, seed);
 		gen.generateGraph(g);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_complete", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int completeGraphGenerator(IsolateThread thread, ObjectHandle graph, int n) {
+		Metrics.enter("jgrapht_capi_xx_generate_complete");
 		Graph<V, E> g = globalHandles.get(graph);
 		GraphGenerator<V, E, ?> gen = new CompleteGraphGenerator<>(n);
 		gen.generateGraph(g);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_bipartite_complete", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int completeBipartiteGraphGenerator(IsolateThread thread, ObjectHandle graph, int a, int b) {
+		Metrics.enter("jgrapht_capi_xx_generate_bipartite_complete");
 		Graph<V, E> g = globalHandles.get(graph);
 		GraphGenerator<V, E, ?> gen = new CompleteBipartiteGraphGenerator<>(a, b);
 		gen.generateGraph(g);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_empty", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int emptyGraphGenerator(IsolateThread thread, ObjectHandle graph, int n) {
+		Metrics.enter("jgrapht_capi_xx_generate_empty");
 		Graph<V, E> g = globalHandles.get(graph);
 		GraphGenerator<V, E, ?> gen = new EmptyGraphGenerator<>(n);
 		gen.generateGraph(g);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_gnm_random", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int customRandomGnmGenerator(IsolateThread thread, ObjectHandle graph, int n, int m,
 			boolean loops, boolean multipleEdges, long seed) {
+		Metrics.enter("jgrapht_capi_xx_generate_gnm_random");
 		Graph<V, E> g = globalHandles.get(graph);
 		GraphGenerator<V, E, ?> gen = new GnmRandomGraphGenerator<>(n, m, seed, loops, multipleEdges);
 		gen.generateGraph(g);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_gnp_random", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int customRandomGnpGenerator(IsolateThread thread, ObjectHandle graph, int n, double p,
 			boolean createLoops, long seed) {
+		Metrics.enter("jgrapht_capi_xx_generate_gnp_random");
 		Graph<V, E> g = globalHandles.get(graph);
 		GraphGenerator<V, E, ?> gen = new GnpRandomGraphGenerator<>(n, p, seed, createLoops);
 		gen.generateGraph(g);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_ring", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int ringGenerator(IsolateThread thread, ObjectHandle graph, int n) {
+		Metrics.enter("jgrapht_capi_xx_generate_ring");
 		Graph<V, E> g = globalHandles.get(graph);
 		GraphGenerator<V, E, ?> gen = new RingGraphGenerator<>(n);
 		gen.generateGraph(g);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_scalefree", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int scaleFreeGenerator(IsolateThread thread, ObjectHandle graph, int n, long seed) {
+		Metrics.enter("jgrapht_capi_xx_generate_scalefree");
 		Graph<V, E> g = globalHandles.get(graph);
 		GraphGenerator<V, E, ?> gen = new ScaleFreeGraphGenerator<>(n, seed);
 		gen.generateGraph(g);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_watts_strogatz", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int wattsStrogatzGenerator(IsolateThread thread, ObjectHandle graph, int n, int k, double p,
 			boolean addInsteadOfRewire, long seed) {
+		Metrics.enter("jgrapht_capi_xx_generate_watts_strogatz");
 		Graph<V, E> g = globalHandles.get(graph);
 		GraphGenerator<V, E, ?> gen = new WattsStrogatzGraphGenerator<>(n, k, p, addInsteadOfRewire, new Random(seed));
 		gen.generateGraph(g);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_kleinberg_smallworld", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int kleinbergSmallWorldGenerator(IsolateThread thread, ObjectHandle graph, int n, int p, int q,
 			int r, long seed) {
+		Metrics.enter("jgrapht_capi_xx_generate_kleinberg_smallworld");
 		Graph<V, E> g = globalHandles.get(graph);
 		GraphGenerator<V, E, ?> gen = new KleinbergSmallWorldGraphGenerator<>(n, p, q, r, seed);
 		gen.generateGraph(g);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_complement", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int generateComplement(IsolateThread thread, ObjectHandle graphTarget,
 			ObjectHandle graphSource, boolean generateSelfLoops) {
+		Metrics.enter("jgrapht_capi_xx_generate_complement");
 		Graph<V, E> gTarget = globalHandles.get(graphTarget);
 		Graph<V, E> gSource = globalHandles.get(graphSource);
 		GraphGenerator<V, E, ?> gen = new ComplementGraphGenerator<>(gSource, generateSelfLoops);
 		gen.generateGraph(gTarget);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_generalized_petersen", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int generateGeneralizedPetersen(IsolateThread thread, ObjectHandle graph, int n, int k) {
+		Metrics.enter("jgrapht_capi_xx_generate_generalized_petersen");
 		Graph<V, E> g = globalHandles.get(graph);
 		GraphGenerator<V, E, ?> gen = new GeneralizedPetersenGraphGenerator<>(n, k);
 		gen.generateGraph(g);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_grid", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int generateGrid(IsolateThread thread, ObjectHandle graph, int rows, int cols) {
+		Metrics.enter("jgrapht_capi_xx_generate_grid");
 		Graph<V, E> g = globalHandles.get(graph);
 		GraphGenerator<V, E, ?> gen = new GridGraphGenerator<>(rows, cols);
 		gen.generateGraph(g);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_hypercube", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int generateHyperCube(IsolateThread thread, ObjectHandle graph, int dim) {
+		Metrics.enter("jgrapht_capi_xx_generate_hypercube");
 		Graph<V, E> g = globalHandles.get(graph);
 		GraphGenerator<V, E, ?> gen = new HyperCubeGraphGenerator<>(dim);
 		gen.generateGraph(g);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_linear", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int generateLinear(IsolateThread thread, ObjectHandle graph, int n) {
+		Metrics.enter("jgrapht_capi_xx_generate_linear");
 		Graph<V, E> g = globalHandles.get(graph);
 		GraphGenerator<V, E, ?> gen = new LinearGraphGenerator<>(n);
 		gen.generateGraph(g);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_random_regular", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int generateRandomRegularGraph(IsolateThread thread, ObjectHandle graph, int n, int d,
 			long seed) {
+		Metrics.enter("jgrapht_capi_xx_generate_random_regular");
 		Graph<V, E> g = globalHandles.get(graph);
 		GraphGenerator<V, E, ?> gen = new RandomRegularGraphGenerator<>(n, d, seed);
 		gen.generateGraph(g);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_star", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int generateStarGraph(IsolateThread thread, ObjectHandle graph, int n) {
+		Metrics.enter("jgrapht_capi_xx_generate_star");
 		Graph<V, E> g = globalHandles.get(graph);
 		GraphGenerator<V, E, ?> gen = new StarGraphGenerator<>(n);
 		gen.generateGraph(g);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_wheel", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int generateWheel(IsolateThread thread, ObjectHandle graph, int size, boolean inwardSpokes) {
+		Metrics.enter("jgrapht_capi_xx_generate_wheel");
 		Graph<V, E> g = globalHandles.get(graph);
 		GraphGenerator<V, E, ?> gen = new WheelGraphGenerator<>(size, inwardSpokes);
 		gen.generateGraph(g);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_windmill", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int generateWindmill(IsolateThread thread, ObjectHandle graph, int m, int n, boolean dutch) {
+		Metrics.enter("jgrapht_capi_xx_generate_windmill");
 		Graph<V, E> g = globalHandles.get(graph);
 		GraphGenerator<V, E, ?> gen = new WindmillGraphsGenerator<>(dutch ? Mode.DUTCHWINDMILL : Mode.WINDMILL, m, n);
 		gen.generateGraph(g);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "generate_linearized_chord_diagram", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int generateLinearizedChordDiagram(IsolateThread thread, ObjectHandle graph, int n, int m,
 			long seed) {
+		Metrics.enter("jgrapht_capi_xx_generate_linearized_chord_diagram");
 		Graph<V, E> g = globalHandles.get(graph);
 		GraphGenerator<V, E, ?> gen = new LinearizedChordDiagramGraphGenerator<>(n, m, seed);
 		gen.generateGraph(g);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
@@ -27,7 +27,9 @@ import java.util.function.Supplier;
 import org.graalvm.nativeimage.IsolateThread;
 import org.graalvm.nativeimage.ObjectHandle;
 import org.graalvm.nativeimage.ObjectHandles;
+import org.graalvm.nativeimage.PinnedObject;
 import org.graalvm.nativeimage.c.function.CEntryPoint;
+import org.graalvm.nativeimage.c.type.CCharPointer;
 import org.graalvm.nativeimage.c.type.CDoublePointer;
 import org.graalvm.nativeimage.c.type.CIntPointer;
 import org.graalvm.nativeimage.c.type.CLongPointer;
@@ -38,16 +40,22 @@ import org.jgrapht.alg.util.Pair;
 import org.jgrapht.alg.util.Triple;
 import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.DDToDFunctionPointer;
+import org.jgrapht.capi.JGraphTContext.ICDoublePointerFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.IncomingEdgesSupport;
 import org.jgrapht.capi.JGraphTContext.IntegerToBooleanFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.IntegerToDoubleFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.LongToBooleanFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.LongToDoubleFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.Status;
+import org.jgrapht.capi.StringUtils;
 import org.jgrapht.capi.JGraphTContext.VoidToIntegerFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.VoidToLongFunctionPointer;
+import org.jgrapht.capi.JGraphTContext.WeightPrecision;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 import org.jgrapht.capi.graph.CapiGraph;
+import org.jgrapht.capi.graph.CapiGraphAsArrayWeightedGraph;
 import org.jgrapht.capi.graph.CapiGraphAsMaskSubgraph;
 import org.jgrapht.capi.graph.CapiGraphAsSubgraph;
 import org.jgrapht.capi.graph.CapiGraphAsUndirectedGraph;
@@ -55,19 +63,19 @@ import org.jgrapht.capi.graph.CapiGraphAsUnmodifiableGraph;
 import org.jgrapht.capi.graph.CapiGraphAsUnweightedGraph;
 import org.jgrapht.capi.graph.CapiGraphAsWeightedGraph;
 import org.jgrapht.capi.graph.CapiGraphEdgeReversedGraph;
+import org.jgrapht.capi.graph.CompactWeights;
 import org.jgrapht.capi.graph.DefaultCapiGraph;
 import org.jgrapht.capi.graph.SafeEdgeSupplier;
 import org.jgrapht.capi.graph.SafeLongEdgeSupplier;
 import org.jgrapht.capi.graph.SafeLongVertexSupplier;
 import org.jgrapht.capi.graph.SafeVertexSupplier;
+import org.jgrapht.capi.graph.SparseGraphBuilder;
 import org.jgrapht.graph.AsGraphUnion;
 import org.jgrapht.graph.builder.GraphTypeBuilder;
 import org.jgrapht.opt.graph.sparse.SparseIntDirectedGraph;
 import org.jgrapht.opt.graph.sparse.SparseIntDirectedWeightedGraph;
 import org.jgrapht.opt.graph.sparse.SparseIntUndirectedGraph;
 import org.jgrapht.opt.graph.sparse.SparseIntUndirectedWeightedGraph;
-import org.jgrapht.sux4j.SuccinctIntDirectedGraph;
-import org.jgrapht.sux4j.SuccinctIntUndirectedGraph;
 import org.jgrapht.util.WeightCombiner;
 
 /**
@@ -75,7 +83,7 @@ import org.jgrapht.util.WeightCombiner;
  */
 public class GraphApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	public static Graph<Integer, Integer> createGraph(boolean directed, boolean allowingSelfLoops,
 			boolean allowingMultipleEdges, boolean weighted, VoidToIntegerFunctionPointer vertexSupplier,
@@ -182,12 +190,13 @@ public class GraphApi {
 	public static int createGraph(IsolateThread thread, boolean directed, boolean allowingSelfLoops,
 			boolean allowingMultipleEdges, boolean weighted, VoidToIntegerFunctionPointer vertexSupplier,
 			VoidToIntegerFunctionPointer edgeSupplier, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_graph_create");
 		Graph<Integer, Integer> graph = createGraph(directed, allowingSelfLoops, allowingMultipleEdges, weighted,
 				vertexSupplier, edgeSupplier);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(graph));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -201,12 +210,13 @@ public class GraphApi {
 	public static int createLongGraph(IsolateThread thread, boolean directed, boolean allowingSelfLoops,
 			boolean allowingMultipleEdges, boolean weighted, VoidToLongFunctionPointer vertexSupplier,
 			VoidToLongFunctionPointer edgeSupplier, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_graph_create");
 		Graph<Long, Long> graph = createLongGraph(directed, allowingSelfLoops, allowingMultipleEdges, weighted,
 				vertexSupplier, edgeSupplier);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(graph));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -224,21 +234,11 @@ public class GraphApi {
 					"@param result the resulting graph handle" })
 	public static int createSparseGraph(IsolateThread thread, boolean directed, boolean weighted, int numVertices,
 			ObjectHandle edgesListHandle, IncomingEdgesSupport incomingEdgesSupport, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_graph_sparse_create");
 
 		// map to internal enum
-		org.jgrapht.opt.graph.sparse.IncomingEdgesSupport iSupport;
-		switch (incomingEdgesSupport) {
-		case INCOMING_EDGES_SUPPORT_NO_INCOMING_EDGES:
-			iSupport = org.jgrapht.opt.graph.sparse.IncomingEdgesSupport.NO_INCOMING_EDGES;
-			break;
-		case INCOMING_EDGES_SUPPORT_FULL_INCOMING_EDGES:
-			iSupport = org.jgrapht.opt.graph.sparse.IncomingEdgesSupport.FULL_INCOMING_EDGES;
-			break;
-		case INCOMING_EDGES_SUPPORT_LAZY_INCOMING_EDGES:
-		default:
-			iSupport = org.jgrapht.opt.graph.sparse.IncomingEdgesSupport.LAZY_INCOMING_EDGES;
-			break;
-		}
+		org.jgrapht.opt.graph.sparse.IncomingEdgesSupport iSupport = toSparseIncomingEdgesSupport(
+				incomingEdgesSupport);
 
 		Graph<Integer, Integer> graph;
 		if (weighted) {
@@ -263,7 +263,7 @@ public class GraphApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(graph));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -280,182 +280,220 @@ public class GraphApi {
 					"@param result the resulting graph handle" })
 	public static int createSuccinctGraph(IsolateThread thread, boolean directed, int numVertices,
 			ObjectHandle edgesListHandle, IncomingEdgesSupport incomingEdgesSupport, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_graph_succinct_create");
 
-		boolean incomingEdges = false;
-		switch (incomingEdgesSupport) {
-		case INCOMING_EDGES_SUPPORT_NO_INCOMING_EDGES:
-			incomingEdges = false;
-			break;
-		case INCOMING_EDGES_SUPPORT_LAZY_INCOMING_EDGES:
-			throw new IllegalArgumentException("Lazy construction of incoming edges not supported.");
-		case INCOMING_EDGES_SUPPORT_FULL_INCOMING_EDGES:
-		default:
-			incomingEdges = true;
-			break;
-		}
-
-		// create a sparse graph
 		List<Pair<Integer, Integer>> edges = globalHandles.get(edgesListHandle);
-		Graph<Integer, Integer> sparseGraph;
-		if (directed) {
-			sparseGraph = new SparseIntDirectedGraph(numVertices, edges,
-					org.jgrapht.opt.graph.sparse.IncomingEdgesSupport.LAZY_INCOMING_EDGES);
-		} else {
-			sparseGraph = new SparseIntUndirectedGraph(numVertices, edges);
-		}
+		SparseGraphBuilder builder = new SparseGraphBuilder(numVertices, directed, false, edges.size());
+		try {
+			for (Pair<Integer, Integer> e : edges) {
+				builder.append(e.getFirst(), e.getSecond(), Graph.DEFAULT_EDGE_WEIGHT);
+			}
+			builder.finish(true, false, 1);
+			Graph<Integer, Integer> graph = builder.toSuccinctGraph(
+					toSparseIncomingEdgesSupport(incomingEdgesSupport), CompactWeights.Precision.DOUBLE);
 
-		// convert to succinct
-		Graph<Integer, Integer> graph;
-		if (directed) {
-			graph = new SuccinctIntDirectedGraph(sparseGraph, incomingEdges);
-		} else {
-			graph = new SuccinctIntUndirectedGraph(sparseGraph);
+			// wrap in order to support all methods
+			graph = new DefaultCapiGraph<Integer, Integer>(graph);
+
+			if (res.isNonNull()) {
+				res.write(globalHandles.create(graph));
+			}
+		} finally {
+			builder.close();
 		}
+		return Metrics.success();
+	}
 
-		// wrap in order to support all methods
-		graph = new DefaultCapiGraph<Integer, Integer>(graph);
+	/**
+	 * Create a weighted succinct graph and return its handle.
+	 *
+	 * @param thread the thread isolate
+	 * @return the graph handle
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "graph_succinct_weighted_create", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Create a weighted succinct graph. Multiple edges are replaced by the one with the minimum "
+							+ "weight.",
+					"@param thread the isolate thread", "@param directed directed or not",
+					"@param num_vertices number of vertices", "@param edge_list edge list handle",
+					"@param incoming_edges_support  enum with incoming edges support type",
+					"@param weight_precision enum with the precision of the weights",
+					"@param result the resulting graph handle" })
+	public static int createSuccinctWeightedGraph(IsolateThread thread, boolean directed, int numVertices,
+			ObjectHandle edgesListHandle, IncomingEdgesSupport incomingEdgesSupport, WeightPrecision weightPrecision,
+			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_graph_succinct_weighted_create");
 
-		if (res.isNonNull()) {
-			res.write(globalHandles.create(graph));
+		List<Triple<Integer, Integer, Double>> edges = globalHandles.get(edgesListHandle);
+		SparseGraphBuilder builder = new SparseGraphBuilder(numVertices, directed, true, edges.size());
+		try {
+			for (Triple<Integer, Integer, Double> e : edges) {
+				builder.append(e.getFirst(), e.getSecond(), e.getThird());
+			}
+			builder.finish(true, false, 1);
+			Graph<Integer, Integer> graph = builder.toSuccinctGraph(
+					toSparseIncomingEdgesSupport(incomingEdgesSupport), toCompactWeightsPrecision(weightPrecision));
+
+			// wrap in order to support all methods
+			graph = new DefaultCapiGraph<Integer, Integer>(graph);
+
+			if (res.isNonNull()) {
+				res.write(globalHandles.create(graph));
+			}
+		} finally {
+			builder.close();
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "graph_vertices_count", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int verticesCount(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_vertices_count");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		int result = g.vertexSet().size();
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "graph_vertices_count", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int verticesCount(IsolateThread thread, ObjectHandle graphHandle, CLongPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_vertices_count");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		long result = g.iterables().vertexCount();
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "graph_edges_count", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int edgesCount(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_edges_count");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		int result = g.edgeSet().size();
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "graph_edges_count", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int edgesCount(IsolateThread thread, ObjectHandle graphHandle, CLongPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_edges_count");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		long result = g.iterables().edgeCount();
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "graph_add_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int addVertex(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_add_vertex");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 		int result = g.addVertex();
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "graph_add_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int addVertex(IsolateThread thread, ObjectHandle graphHandle, CLongPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_add_vertex");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 		long result = g.addVertex();
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "graph_add_given_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int addGivenVertex(IsolateThread thread, ObjectHandle graphHandle, int vertex, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_add_given_vertex");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 		boolean result = g.addVertex(vertex);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "graph_add_given_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int addGivenVertex(IsolateThread thread, ObjectHandle graphHandle, long vertex, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_add_given_vertex");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 		boolean result = g.addVertex(vertex);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "graph_remove_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int removeVertex(IsolateThread thread, ObjectHandle graphHandle, int vertex, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_remove_vertex");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 		boolean result = g.removeVertex(vertex);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "graph_remove_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int removeVertex(IsolateThread thread, ObjectHandle graphHandle, long vertex, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_remove_vertex");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 		boolean result = g.removeVertex(vertex);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "graph_contains_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int containsVertex(IsolateThread thread, ObjectHandle graphHandle, int vertex, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_contains_vertex");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 		boolean result = g.containsVertex(vertex);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "graph_contains_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int containsVertex(IsolateThread thread, ObjectHandle graphHandle, long vertex, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_contains_vertex");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 		boolean result = g.containsVertex(vertex);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "graph_add_edge", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int addEdge(IsolateThread thread, ObjectHandle graphHandle, int source, int target, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ii_graph_add_edge");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 		Integer result = g.addEdge(source, target);
 		if (result == null) {
@@ -464,13 +502,14 @@ public class GraphApi {
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
 			+ "graph_add_edge", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int addEdge(IsolateThread thread, ObjectHandle graphHandle, long source, long target,
 			CLongPointer res) {
+		Metrics.enter("jgrapht_capi_ll_graph_add_edge");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 		Long result = g.addEdge(source, target);
 		if (result == null) {
@@ -479,352 +518,536 @@ public class GraphApi {
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "graph_add_given_edge", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int addGivenEdge(IsolateThread thread, ObjectHandle graphHandle, int source, int target, int edge,
 			CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ii_graph_add_given_edge");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 		boolean result = g.addEdge(source, target, edge);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
 			+ "graph_add_given_edge", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int addGivenEdge(IsolateThread thread, ObjectHandle graphHandle, long source, long target, long edge,
 			CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ll_graph_add_given_edge");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 		boolean result = g.addEdge(source, target, edge);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
 			+ "graph_remove_edge", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int removeEdge(IsolateThread thread, ObjectHandle graphHandle, int edge, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_remove_edge");
 		Graph<?, Integer> g = globalHandles.get(graphHandle);
 		boolean result = g.removeEdge(edge);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
 			+ "graph_remove_edge", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int removeEdge(IsolateThread thread, ObjectHandle graphHandle, long edge, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xl_graph_remove_edge");
 		Graph<?, Long> g = globalHandles.get(graphHandle);
 		boolean result = g.removeEdge(edge);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
 			+ "graph_contains_edge", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int containsEdge(IsolateThread thread, ObjectHandle graphHandle, int edge, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_contains_edge");
 		Graph<?, Integer> g = globalHandles.get(graphHandle);
 		boolean result = g.containsEdge(edge);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
 			+ "graph_contains_edge", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int containsEdge(IsolateThread thread, ObjectHandle graphHandle, long edge, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xl_graph_contains_edge");
 		Graph<?, Long> g = globalHandles.get(graphHandle);
 		boolean result = g.containsEdge(edge);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "graph_contains_edge_between", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int containsEdgeBetween(IsolateThread thread, ObjectHandle graphHandle, int source, int target,
 			CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_contains_edge_between");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 		boolean result = g.containsEdge(source, target);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "graph_contains_edge_between", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int containsEdgeBetween(IsolateThread thread, ObjectHandle graphHandle, long source, long target,
 			CIntPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_contains_edge_between");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 		boolean result = g.containsEdge(source, target);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
+	}
+
+	/**
+	 * Get an edge between two vertices without raising an error if there is none.
+	 * 
+	 * @param thread      the thread isolate
+	 * @param graphHandle the graph
+	 * @param source      the source vertex
+	 * @param target      the target vertex
+	 * @param res         the edge, may be null
+	 * @return success if an edge exists, not found if no edge exists or a vertex
+	 *         is not in the graph
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "graph_try_get_edge", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int tryGetEdge(IsolateThread thread, ObjectHandle graphHandle, int source, int target,
+			CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ii_graph_try_get_edge");
+		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
+		if (!g.containsVertex(source) || !g.containsVertex(target)) {
+			return Metrics.status(Status.STATUS_NOT_FOUND);
+		}
+		Integer result = g.getEdge(source, target);
+		if (result == null) {
+			return Metrics.status(Status.STATUS_NOT_FOUND);
+		}
+		if (res.isNonNull()) {
+			res.write(result.intValue());
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Get an edge between two vertices without raising an error if there is none.
+	 * 
+	 * @param thread      the thread isolate
+	 * @param graphHandle the graph
+	 * @param source      the source vertex
+	 * @param target      the target vertex
+	 * @param res         the edge, may be null
+	 * @return success if an edge exists, not found if no edge exists or a vertex
+	 *         is not in the graph
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
+			+ "graph_try_get_edge", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int tryGetEdge(IsolateThread thread, ObjectHandle graphHandle, long source, long target,
+			CLongPointer res) {
+		Metrics.enter("jgrapht_capi_ll_graph_try_get_edge");
+		Graph<Long, Long> g = globalHandles.get(graphHandle);
+		if (!g.containsVertex(source) || !g.containsVertex(target)) {
+			return Metrics.status(Status.STATUS_NOT_FOUND);
+		}
+		Long result = g.getEdge(source, target);
+		if (result == null) {
+			return Metrics.status(Status.STATUS_NOT_FOUND);
+		}
+		if (res.isNonNull()) {
+			res.write(result.longValue());
+		}
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "graph_degree_of", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int degreeOf(IsolateThread thread, ObjectHandle graphHandle, int vertex, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_degree_of");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 		int result = g.degreeOf(vertex);
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "graph_degree_of", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int degreeOf(IsolateThread thread, ObjectHandle graphHandle, long vertex, CLongPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_degree_of");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 		long result = g.iterables().degreeOf(vertex);
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "graph_indegree_of", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int inDegreeOf(IsolateThread thread, ObjectHandle graphHandle, int vertex, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_indegree_of");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 		int result = g.inDegreeOf(vertex);
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "graph_indegree_of", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int inDegreeOf(IsolateThread thread, ObjectHandle graphHandle, long vertex, CLongPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_indegree_of");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 		long result = g.iterables().inDegreeOf(vertex);
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "graph_outdegree_of", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int outDegreeOf(IsolateThread thread, ObjectHandle graphHandle, int vertex, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_outdegree_of");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 		int result = g.outDegreeOf(vertex);
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "graph_outdegree_of", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int outDegreeOf(IsolateThread thread, ObjectHandle graphHandle, long vertex, CLongPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_outdegree_of");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 		long result = g.iterables().outDegreeOf(vertex);
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "graph_edge_source", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int edgeSource(IsolateThread thread, ObjectHandle graphHandle, int edge, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ii_graph_edge_source");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 		int result = g.getEdgeSource(edge);
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
 			+ "graph_edge_source", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int edgeSource(IsolateThread thread, ObjectHandle graphHandle, long edge, CLongPointer res) {
+		Metrics.enter("jgrapht_capi_ll_graph_edge_source");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 		long result = g.getEdgeSource(edge);
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "graph_edge_target", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int edgeTarget(IsolateThread thread, ObjectHandle graphHandle, int edge, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ii_graph_edge_target");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 		int result = g.getEdgeTarget(edge);
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
 			+ "graph_edge_target", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int edgeTarget(IsolateThread thread, ObjectHandle graphHandle, long edge, CLongPointer res) {
+		Metrics.enter("jgrapht_capi_ll_graph_edge_target");
+		Graph<Long, Long> g = globalHandles.get(graphHandle);
+		long result = g.getEdgeTarget(edge);
+		if (res.isNonNull()) {
+			res.write(result);
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "graph_try_edge_source", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int tryEdgeSource(IsolateThread thread, ObjectHandle graphHandle, int edge, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ii_graph_try_edge_source");
+		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
+		if (!g.containsEdge(edge)) {
+			return Metrics.status(Status.STATUS_NOT_FOUND);
+		}
+		int result = g.getEdgeSource(edge);
+		if (res.isNonNull()) {
+			res.write(result);
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
+			+ "graph_try_edge_source", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int tryEdgeSource(IsolateThread thread, ObjectHandle graphHandle, long edge, CLongPointer res) {
+		Metrics.enter("jgrapht_capi_ll_graph_try_edge_source");
+		Graph<Long, Long> g = globalHandles.get(graphHandle);
+		if (!g.containsEdge(edge)) {
+			return Metrics.status(Status.STATUS_NOT_FOUND);
+		}
+		long result = g.getEdgeSource(edge);
+		if (res.isNonNull()) {
+			res.write(result);
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "graph_try_edge_target", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int tryEdgeTarget(IsolateThread thread, ObjectHandle graphHandle, int edge, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ii_graph_try_edge_target");
+		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
+		if (!g.containsEdge(edge)) {
+			return Metrics.status(Status.STATUS_NOT_FOUND);
+		}
+		int result = g.getEdgeTarget(edge);
+		if (res.isNonNull()) {
+			res.write(result);
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
+			+ "graph_try_edge_target", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int tryEdgeTarget(IsolateThread thread, ObjectHandle graphHandle, long edge, CLongPointer res) {
+		Metrics.enter("jgrapht_capi_ll_graph_try_edge_target");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
+		if (!g.containsEdge(edge)) {
+			return Metrics.status(Status.STATUS_NOT_FOUND);
+		}
 		long result = g.getEdgeTarget(edge);
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_is_weighted", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int isWeighted(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_is_weighted");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		boolean result = g.getType().isWeighted();
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_is_directed", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int isDirected(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_is_directed");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		boolean result = g.getType().isDirected();
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_is_undirected", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int isUndirected(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_is_undirected");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		boolean result = g.getType().isUndirected();
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_is_allowing_selfloops", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int allowSelfLoops(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_is_allowing_selfloops");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		boolean result = g.getType().isAllowingSelfLoops();
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_is_allowing_multipleedges", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int allowMultipleEdges(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_is_allowing_multipleedges");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		boolean result = g.getType().isAllowingMultipleEdges();
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_is_allowing_cycles", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int allowsCycles(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_is_allowing_cycles");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		boolean result = g.getType().isAllowingCycles();
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_is_modifiable", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int isModifiable(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_is_modifiable");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		boolean result = g.getType().isModifiable();
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
 			+ "graph_get_edge_weight", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int getEdgeWeight(IsolateThread thread, ObjectHandle graphHandle, int edge, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_get_edge_weight");
 		Graph<?, Integer> g = globalHandles.get(graphHandle);
 		double result = g.getEdgeWeight(edge);
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
 			+ "graph_get_edge_weight", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int getEdgeWeight(IsolateThread thread, ObjectHandle graphHandle, long edge, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_xl_graph_get_edge_weight");
 		Graph<?, Long> g = globalHandles.get(graphHandle);
 		double result = g.getEdgeWeight(edge);
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_try_get_edge_weight", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int tryGetEdgeWeight(IsolateThread thread, ObjectHandle graphHandle, int edge,
+			CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_try_get_edge_weight");
+		Graph<?, Integer> g = globalHandles.get(graphHandle);
+		if (!g.containsEdge(edge)) {
+			return Metrics.status(Status.STATUS_NOT_FOUND);
+		}
+		double result = g.getEdgeWeight(edge);
+		if (res.isNonNull()) {
+			res.write(result);
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
+			+ "graph_try_get_edge_weight", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int tryGetEdgeWeight(IsolateThread thread, ObjectHandle graphHandle, long edge,
+			CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_xl_graph_try_get_edge_weight");
+		Graph<?, Long> g = globalHandles.get(graphHandle);
+		if (!g.containsEdge(edge)) {
+			return Metrics.status(Status.STATUS_NOT_FOUND);
+		}
+		double result = g.getEdgeWeight(edge);
+		if (res.isNonNull()) {
+			res.write(result);
+		}
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
 			+ "graph_set_edge_weight", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int setEdgeWeight(IsolateThread thread, ObjectHandle graphHandle, int edge, double weight) {
+		Metrics.enter("jgrapht_capi_xi_graph_set_edge_weight");
 		Graph<?, Integer> g = globalHandles.get(graphHandle);
 		g.setEdgeWeight(edge, weight);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
 			+ "graph_set_edge_weight", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int setEdgeWeight(IsolateThread thread, ObjectHandle graphHandle, long edge, double weight) {
+		Metrics.enter("jgrapht_capi_xl_graph_set_edge_weight");
 		Graph<?, Long> g = globalHandles.get(graphHandle);
 		g.setEdgeWeight(edge, weight);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_create_all_vit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createAllVerticesIterator(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_create_all_vit");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		Iterator<?> it = g.iterables().vertices().iterator();
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_create_all_eit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createAllEdgesIterator(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_create_all_eit");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		Iterator<?> it = g.iterables().edges().iterator();
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "graph_create_between_eit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createEdgesBetweenIterator(IsolateThread thread, ObjectHandle graphHandle, int source, int target,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_create_between_eit");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 		Set<?> edges = g.getAllEdges(source, target);
 		if (edges == null) {
@@ -834,13 +1057,14 @@ public class GraphApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "graph_create_between_eit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createEdgesBetweenIterator(IsolateThread thread, ObjectHandle graphHandle, long source,
 			long target, WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_create_between_eit");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 		Iterable<?> edges = g.iterables().allEdges(source, target);
 		if (edges == null) {
@@ -850,123 +1074,133 @@ public class GraphApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "graph_vertex_create_eit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createVertexEdgesOfIterator(IsolateThread thread, ObjectHandle graphHandle, int vertex,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_vertex_create_eit");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 		Iterator<?> it = g.edgesOf(vertex).iterator();
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "graph_vertex_create_eit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createVertexEdgesOfIterator(IsolateThread thread, ObjectHandle graphHandle, long vertex,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_vertex_create_eit");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 		Iterator<?> it = g.iterables().edgesOf(vertex).iterator();
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "graph_vertex_create_out_eit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createVertexOutEdgesOfIterator(IsolateThread thread, ObjectHandle graphHandle, int vertex,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_vertex_create_out_eit");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 		Iterator<?> it = g.outgoingEdgesOf(vertex).iterator();
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "graph_vertex_create_out_eit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createVertexOutEdgesOfIterator(IsolateThread thread, ObjectHandle graphHandle, long vertex,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_vertex_create_out_eit");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 		Iterator<?> it = g.iterables().outgoingEdgesOf(vertex).iterator();
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "graph_vertex_create_in_eit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createVertexInEdgesOfIterator(IsolateThread thread, ObjectHandle graphHandle, int vertex,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_vertex_create_in_eit");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 		Iterator<?> it = g.incomingEdgesOf(vertex).iterator();
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "graph_vertex_create_in_eit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createVertexInEdgesOfIterator(IsolateThread thread, ObjectHandle graphHandle, long vertex,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_vertex_create_in_eit");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 		Iterator<?> it = g.iterables().incomingEdgesOf(vertex).iterator();
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_as_undirected", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int asUndirected(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_as_undirected");
 		CapiGraph<V, E> gIn = globalHandles.get(graphHandle);
 		CapiGraph<V, E> gOut = new CapiGraphAsUndirectedGraph<V, E>(gIn);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(gOut));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_as_unmodifiable", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int asUnmodifiable(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_as_unmodifiable");
 		CapiGraph<V, E> gIn = globalHandles.get(graphHandle);
 		CapiGraph<V, E> gOut = new CapiGraphAsUnmodifiableGraph<V, E>(gIn);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(gOut));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_as_unweighted", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int asUnweighted(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_as_unweighted");
 		CapiGraph<V, E> gIn = globalHandles.get(graphHandle);
 		CapiGraph<V, E> gOut = new CapiGraphAsUnweightedGraph<V, E>(gIn);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(gOut));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_as_edgereversed", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int asEdgeReversed(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_as_edgereversed");
 		CapiGraph<V, E> gIn = globalHandles.get(graphHandle);
 		CapiGraph<V, E> gOut = new CapiGraphEdgeReversedGraph<V, E>(gIn);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(gOut));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
@@ -974,6 +1208,7 @@ public class GraphApi {
 	public static int asWeighted(IsolateThread thread, ObjectHandle graphHandle,
 			IntegerToDoubleFunctionPointer weightFunctionPointer, boolean cacheWeights, boolean writeWeightsThrough,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_as_weighted");
 		CapiGraph<?, Integer> gIn = globalHandles.get(graphHandle);
 
 		Function<Integer, Double> weightFunction = e -> {
@@ -989,7 +1224,7 @@ public class GraphApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(gOut));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
@@ -997,6 +1232,7 @@ public class GraphApi {
 	public static int asWeighted(IsolateThread thread, ObjectHandle graphHandle,
 			LongToDoubleFunctionPointer weightFunctionPointer, boolean cacheWeights, boolean writeWeightsThrough,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xl_graph_as_weighted");
 		CapiGraph<?, Long> gIn = globalHandles.get(graphHandle);
 
 		Function<Long, Double> weightFunction = e -> {
@@ -1012,7 +1248,95 @@ public class GraphApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(gOut));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_as_weighted_from_array", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Create a weighted view of a graph with weights given by an array indexed by edge",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param weights array of weights indexed by edge identifier",
+					"@param size size of the weights array",
+					"@param write_weights_through whether to propagate weight changes to the backing graph",
+					"@param res the resulting graph handle" })
+	public static int asWeightedFromArray(IsolateThread thread, ObjectHandle graphHandle, CDoublePointer weights,
+			int size, boolean writeWeightsThrough, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_as_weighted_from_array");
+		CapiGraph<?, Integer> gIn = globalHandles.get(graphHandle);
+
+		if (size < 0) {
+			throw new IllegalArgumentException("Size cannot be negative");
+		}
+		double[] w = new double[size];
+		if (size > 0) {
+			if (weights.isNull()) {
+				throw new NullPointerException("Weights array cannot be null");
+			}
+			for (int i = 0; i < size; i++) {
+				w[i] = weights.read(i);
+			}
+		}
+
+		CapiGraph<?, Integer> gOut = new CapiGraphAsArrayWeightedGraph<>(gIn, w, writeWeightsThrough);
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(gOut));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_as_weighted_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Create a weighted view of a graph whose weights are loaded once through a callback",
+					"which fills an array indexed by edge. The array is prefilled with the weights of",
+					"the backing graph.", "@param thread the isolate thread", "@param graph the graph handle",
+					"@param weights_function function which fills an array of a given size",
+					"@param write_weights_through whether to propagate weight changes to the backing graph",
+					"@param res the resulting graph handle" })
+	public static int asWeightedBulk(IsolateThread thread, ObjectHandle graphHandle,
+			ICDoublePointerFunctionPointer weightsFunctionPointer, boolean writeWeightsThrough, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_as_weighted_bulk");
+		CapiGraph<?, Integer> gIn = globalHandles.get(graphHandle);
+
+		int size = CapiGraphAsArrayWeightedGraph.requiredWeightsSize(gIn);
+		double[] w = new double[size];
+		for (Integer e : gIn.edgeSet()) {
+			w[e] = gIn.getEdgeWeight(e);
+		}
+
+		if (weightsFunctionPointer.isNonNull() && size > 0) {
+			try (PinnedObject pinned = PinnedObject.create(w)) {
+				weightsFunctionPointer.invoke(size, pinned.addressOfArrayElement(0));
+			}
+		}
+
+		CapiGraph<?, Integer> gOut = new CapiGraphAsArrayWeightedGraph<>(gIn, w, writeWeightsThrough);
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(gOut));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_as_weighted_from_attribute", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Create a weighted view of a graph whose weights are read once from a numeric edge",
+					"attribute. Edges without the attribute keep the weights of the backing graph.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param name the edge attribute name",
+					"@param write_weights_through whether to propagate weight changes to the backing graph",
+					"@param res the resulting graph handle" })
+	public static int asWeightedFromAttribute(IsolateThread thread, ObjectHandle graphHandle, CCharPointer namePtr,
+			boolean writeWeightsThrough, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_as_weighted_from_attribute");
+		CapiGraph<?, Integer> gIn = globalHandles.get(graphHandle);
+
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		double[] w = CapiGraphAsArrayWeightedGraph.weightsFromAttribute(gIn, name);
+
+		CapiGraph<?, Integer> gOut = new CapiGraphAsArrayWeightedGraph<>(gIn, w, writeWeightsThrough);
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(gOut));
+		}
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -1020,6 +1344,7 @@ public class GraphApi {
 	public static int asMaskedSubgraph(IsolateThread thread, ObjectHandle graphHandle,
 			IntegerToBooleanFunctionPointer vertexMaskFunctionPointer,
 			IntegerToBooleanFunctionPointer edgeMaskFunctionPointer, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_graph_as_masked_subgraph");
 		CapiGraph<Integer, Integer> gIn = globalHandles.get(graphHandle);
 
 		Predicate<Integer> vertexMask = x -> {
@@ -1039,7 +1364,7 @@ public class GraphApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(gOut));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -1047,6 +1372,7 @@ public class GraphApi {
 	public static int asMaskedSubgraph(IsolateThread thread, ObjectHandle graphHandle,
 			LongToBooleanFunctionPointer vertexMaskFunctionPointer,
 			LongToBooleanFunctionPointer edgeMaskFunctionPointer, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_graph_as_masked_subgraph");
 		CapiGraph<Long, Long> gIn = globalHandles.get(graphHandle);
 
 		Predicate<Long> vertexMask = x -> {
@@ -1066,13 +1392,14 @@ public class GraphApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(gOut));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_as_subgraph", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int asSubgraph(IsolateThread thread, ObjectHandle graphHandle, ObjectHandle vertexSubsetHandle,
 			ObjectHandle edgeSubsetHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_as_subgraph");
 		CapiGraph<V, E> gIn = globalHandles.get(graphHandle);
 		Set<V> vertexSubset = globalHandles.get(vertexSubsetHandle);
 		Set<E> edgeSubset = globalHandles.get(edgeSubsetHandle);
@@ -1081,13 +1408,14 @@ public class GraphApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(gOut));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_as_graph_union", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int asGraphUnion(IsolateThread thread, ObjectHandle graph1Handle, ObjectHandle graph2Handle,
 			DDToDFunctionPointer weightCombinerFunctionPointer, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_as_graph_union");
 		Graph<V, E> g1 = globalHandles.get(graph1Handle);
 		Graph<V, E> g2 = globalHandles.get(graph2Handle);
 
@@ -1111,7 +1439,48 @@ public class GraphApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(union));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
+	}
+
+	/**
+	 * Map the incoming edges support of the C interface to the one of the sparse
+	 * graphs.
+	 * 
+	 * @param incomingEdgesSupport the incoming edges support
+	 * @return the incoming edges support of the sparse graphs
+	 */
+	static org.jgrapht.opt.graph.sparse.IncomingEdgesSupport toSparseIncomingEdgesSupport(
+			IncomingEdgesSupport incomingEdgesSupport) {
+		switch (incomingEdgesSupport) {
+		case INCOMING_EDGES_SUPPORT_NO_INCOMING_EDGES:
+			return org.jgrapht.opt.graph.sparse.IncomingEdgesSupport.NO_INCOMING_EDGES;
+		case INCOMING_EDGES_SUPPORT_FULL_INCOMING_EDGES:
+			return org.jgrapht.opt.graph.sparse.IncomingEdgesSupport.FULL_INCOMING_EDGES;
+		case INCOMING_EDGES_SUPPORT_LAZY_INCOMING_EDGES:
+		default:
+			return org.jgrapht.opt.graph.sparse.IncomingEdgesSupport.LAZY_INCOMING_EDGES;
+		}
+	}
+
+	/**
+	 * Map the weight precision of the C interface to the one of the compact
+	 * weights.
+	 * 
+	 * @param weightPrecision the weight precision
+	 * @return the precision of the compact weights
+	 */
+	static CompactWeights.Precision toCompactWeightsPrecision(WeightPrecision weightPrecision) {
+		switch (weightPrecision) {
+		case WEIGHT_PRECISION_FLOAT:
+			return CompactWeights.Precision.FLOAT;
+		case WEIGHT_PRECISION_QUANTIZED_16:
+			return CompactWeights.Precision.QUANTIZED_16;
+		case WEIGHT_PRECISION_QUANTIZED_8:
+			return CompactWeights.Precision.QUANTIZED_8;
+		case WEIGHT_PRECISION_DOUBLE:
+		default:
+			return CompactWeights.Precision.DOUBLE;
+		}
 	}
 
 }
@@ -0,0 +1,231 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.impl;
+
+import org.graalvm.nativeimage.IsolateThread;
+import org.graalvm.nativeimage.ObjectHandle;
+import org.graalvm.nativeimage.ObjectHandles;
+import org.graalvm.nativeimage.c.function.CEntryPoint;
+import org.graalvm.nativeimage.c.type.CDoublePointer;
+import org.graalvm.nativeimage.c.type.CIntPointer;
+import org.graalvm.nativeimage.c.type.WordPointer;
+import org.jgrapht.Graph;
+import org.jgrapht.capi.Constants;
+import org.jgrapht.capi.JGraphTContext.IncomingEdgesSupport;
+import org.jgrapht.capi.JGraphTContext.WeightPrecision;
+import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.graph.DefaultCapiGraph;
+import org.jgrapht.capi.graph.SparseGraphBuilder;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
+
+/**
+ * Bulk construction of sparse graphs from edge lists which are passed in
+ * chunks of primitive arrays. The result is a sparse graph, a succinct graph or
+ * a graph stored outside of the managed heap.
+ */
+public class GraphBuilderApi {
+
+	private static ObjectHandles globalHandles = Handles.getHandles();
+
+	/**
+	 * Create a sparse graph builder.
+	 * 
+	 * @param thread      the thread isolate
+	 * @param numVertices the number of vertices
+	 * @param directed    whether the graph is directed
+	 * @param weighted    whether the graph is weighted
+	 * @param capacity    the expected number of edges
+	 * @param res         the builder handle
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "graph_builder_create", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Create a builder of sparse graphs", "@param thread the isolate thread",
+					"@param num_vertices number of vertices", "@param directed directed or not",
+					"@param weighted weighted graph or not", "@param capacity expected number of edges",
+					"@param result the resulting builder handle" })
+	public static int create(IsolateThread thread, int numVertices, boolean directed, boolean weighted,
+			int capacity, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_graph_builder_create");
+		SparseGraphBuilder builder = new SparseGraphBuilder(numVertices, directed, weighted, capacity);
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(builder));
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Append a chunk of edges to a builder.
+	 * 
+	 * @param thread        the thread isolate
+	 * @param builderHandle the builder handle
+	 * @param sources       the sources of the edges
+	 * @param targets       the targets of the edges
+	 * @param weights       the weights of the edges or null for unit weights
+	 * @param n             the number of edges
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "graph_builder_append", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Append edges to a builder of sparse graphs. The arrays are copied. If an edge has an invalid "
+							+ "vertex the call fails, while the edges before it remain appended.",
+					"@param thread the isolate thread", "@param builder the builder handle",
+					"@param sources array with the sources of the edges",
+					"@param targets array with the targets of the edges",
+					"@param weights array with the weights of the edges, ignored if null or unweighted",
+					"@param n number of edges" })
+	public static int append(IsolateThread thread, ObjectHandle builderHandle, CIntPointer sources,
+			CIntPointer targets, CDoublePointer weights, int n) {
+		Metrics.enter("jgrapht_capi_ii_graph_builder_append");
+		if (n < 0) {
+			throw new IllegalArgumentException("Number of edges must be non-negative");
+		}
+		SparseGraphBuilder builder = globalHandles.get(builderHandle);
+		builder.ensureCapacity(n);
+		boolean hasWeights = weights.isNonNull();
+		for (int i = 0; i < n; i++) {
+			builder.append(sources.read(i), targets.read(i), hasWeights ? weights.read(i) : Graph.DEFAULT_EDGE_WEIGHT);
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Finish a builder and create the sparse graph. The builder cannot be used
+	 * afterwards, but its handle still needs to be destroyed.
+	 * 
+	 * @param thread               the thread isolate
+	 * @param builderHandle        the builder handle
+	 * @param removeMultipleEdges  whether to keep one of multiple edges, the one
+	 *                             with the minimum weight
+	 * @param removeSelfLoops      whether to remove self-loops
+	 * @param incomingEdgesSupport the incoming edges support of directed graphs
+	 * @param parallelism          the number of threads
+	 * @param res                  the graph handle
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "graph_builder_finish", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Finish a builder of sparse graphs and create the graph. Edges are sorted by source and "
+							+ "target and their identifiers are their positions in that order.",
+					"@param thread the isolate thread", "@param builder the builder handle",
+					"@param remove_multiple_edges whether to keep only the edge with the minimum weight among "
+							+ "multiple edges",
+					"@param remove_self_loops whether to remove self-loops",
+					"@param incoming_edges_support  enum with incoming edges support type",
+					"@param parallelism number of threads", "@param result the resulting graph handle" })
+	public static int finish(IsolateThread thread, ObjectHandle builderHandle, boolean removeMultipleEdges,
+			boolean removeSelfLoops, IncomingEdgesSupport incomingEdgesSupport, int parallelism, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_graph_builder_finish");
+		SparseGraphBuilder builder = globalHandles.get(builderHandle);
+		builder.finish(removeMultipleEdges, removeSelfLoops, parallelism);
+		Graph<Integer, Integer> graph = builder
+				.toSparseGraph(GraphApi.toSparseIncomingEdgesSupport(incomingEdgesSupport));
+
+		// wrap in order to support all methods
+		graph = new DefaultCapiGraph<Integer, Integer>(graph);
+
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(graph));
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Finish a builder and create a graph whose edges are stored outside of the
+	 * managed heap. The builder cannot be used afterwards, but its handle still
+	 * needs to be destroyed. The memory of the graph is released when the graph
+	 * handle is destroyed.
+	 * 
+	 * @param thread               the thread isolate
+	 * @param builderHandle        the builder handle
+	 * @param removeMultipleEdges  whether to keep one of multiple edges, the one
+	 *                             with the minimum weight
+	 * @param removeSelfLoops      whether to remove self-loops
+	 * @param incomingEdgesSupport the incoming edges support of directed graphs
+	 * @param parallelism          the number of threads
+	 * @param res                  the graph handle
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "graph_builder_finish_off_heap", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Finish a builder of sparse graphs and create an unmodifiable graph stored outside of the "
+							+ "managed heap, which is freed when its handle is destroyed. Edges are sorted by "
+							+ "source and target and their identifiers are their positions in that order.",
+					"@param thread the isolate thread", "@param builder the builder handle",
+					"@param remove_multiple_edges whether to keep only the edge with the minimum weight among "
+							+ "multiple edges",
+					"@param remove_self_loops whether to remove self-loops",
+					"@param incoming_edges_support  enum with incoming edges support type",
+					"@param parallelism number of threads", "@param result the resulting graph handle" })
+	public static int finishOffHeap(IsolateThread thread, ObjectHandle builderHandle, boolean removeMultipleEdges,
+			boolean removeSelfLoops, IncomingEdgesSupport incomingEdgesSupport, int parallelism, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_graph_builder_finish_off_heap");
+		SparseGraphBuilder builder = globalHandles.get(builderHandle);
+		builder.finish(removeMultipleEdges, removeSelfLoops, parallelism);
+		Graph<Integer, Integer> graph = builder
+				.toOffHeapGraph(GraphApi.toSparseIncomingEdgesSupport(incomingEdgesSupport), parallelism);
+
+		// wrap in order to support all methods, closing the wrapper frees the graph
+		graph = new DefaultCapiGraph<Integer, Integer>(graph);
+
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(graph));
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Finish a builder and create a succinct graph. Multiple edges are always
+	 * removed, keeping the one with the minimum weight. The builder cannot be
+	 * used afterwards, but its handle still needs to be destroyed.
+	 *
+	 * @param thread               the thread isolate
+	 * @param builderHandle        the builder handle
+	 * @param removeSelfLoops      whether to remove self-loops
+	 * @param incomingEdgesSupport the incoming edges support of directed graphs
+	 * @param weightPrecision      the precision of the stored weights
+	 * @param parallelism          the number of threads
+	 * @param res                  the graph handle
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "graph_builder_finish_succinct", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Finish a builder of sparse graphs and create an unmodifiable succinct graph. Multiple edges "
+							+ "are replaced by the one with the minimum weight. Edges are sorted by source and "
+							+ "target and their identifiers are their positions in that order.",
+					"@param thread the isolate thread", "@param builder the builder handle",
+					"@param remove_self_loops whether to remove self-loops",
+					"@param incoming_edges_support  enum with incoming edges support type",
+					"@param weight_precision enum with the precision of the weights, ignored if unweighted",
+					"@param parallelism number of threads", "@param result the resulting graph handle" })
+	public static int finishSuccinct(IsolateThread thread, ObjectHandle builderHandle, boolean removeSelfLoops,
+			IncomingEdgesSupport incomingEdgesSupport, WeightPrecision weightPrecision, int parallelism,
+			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_graph_builder_finish_succinct");
+		SparseGraphBuilder builder = globalHandles.get(builderHandle);
+		builder.finish(true, removeSelfLoops, parallelism);
+		Graph<Integer, Integer> graph = builder.toSuccinctGraph(
+				GraphApi.toSparseIncomingEdgesSupport(incomingEdgesSupport),
+				GraphApi.toCompactWeightsPrecision(weightPrecision));
+
+		// wrap in order to support all methods
+		graph = new DefaultCapiGraph<Integer, Integer>(graph);
+
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(graph));
+		}
+		return Metrics.success();
+	}
+
+}
@@ -26,9 +26,10 @@ import org.graalvm.nativeimage.c.function.CEntryPoint;
 import org.graalvm.nativeimage.c.type.WordPointer;
 import org.jgrapht.Graph;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.JGraphTContext.VoidToLongFunctionPointer;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 import org.jgrapht.capi.graph.CapiGraph;
 import org.jgrapht.capi.graph.DefaultCapiGraph;
 import org.jgrapht.capi.graph.SafeEdgeSupplier;
@@ -39,7 +40,7 @@ import org.jgrapht.graph.DirectedAcyclicGraph;
 
 public class GraphDagApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	/**
 	 * Create a dag and return its handle.
@@ -51,6 +52,7 @@ public class GraphDagApi {
 			+ "graph_dag_create", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
 					"Create a (int-int) dag and return its handle." })
 	public static int createDag(IsolateThread thread, boolean allowMultipleEdges, boolean weighted, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_graph_dag_create");
 		SafeVertexSupplier vSupplier = new SafeVertexSupplier();
 		SafeEdgeSupplier eSupplier = new SafeEdgeSupplier();
 
@@ -65,7 +67,7 @@ public class GraphDagApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(graph));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -79,6 +81,7 @@ public class GraphDagApi {
 					"Create a (long-long) dag and return its handle." })
 	public static int createLongDag(IsolateThread thread, boolean allowMultipleEdges, boolean weighted,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_graph_dag_create");
 		SafeLongVertexSupplier vSupplier = new SafeLongVertexSupplier();
 		SafeLongEdgeSupplier eSupplier = new SafeLongEdgeSupplier();
 
@@ -93,7 +96,7 @@ public class GraphDagApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(graph));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -101,6 +104,7 @@ public class GraphDagApi {
 					"Create a (long-long) dag with suppliers and return its handle." })
 	public static int createLongDag(IsolateThread thread, boolean allowMultipleEdges, boolean weighted,
 			VoidToLongFunctionPointer vertexSupplier, VoidToLongFunctionPointer edgeSupplier, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_graph_dag_create_with_suppliers");
 
 		if (vertexSupplier.isNull()) {
 			throw new IllegalArgumentException("Vertex supplier cannot be null.");
@@ -121,62 +125,67 @@ public class GraphDagApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(graph));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_dag_topological_it", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
 					"Given a dag create a topological iterator and return its handle." })
 	public static <V, E> int createTopoIterator(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_dag_topological_it");
 		CapiGraph<V, E> graph = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(graph.iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "graph_dag_vertex_descendants", exceptionHandler = StatusReturnExceptionHandler.class, documentation = "Given a (int-int) dag and a vertex returns its descendants.")
 	public static int createVertexDescendants(IsolateThread thread, ObjectHandle graphHandle, int vertex,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_dag_vertex_descendants");
 		CapiGraph<Integer, ?> graph = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(graph.getDescendants(vertex)));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "graph_dag_vertex_descendants", exceptionHandler = StatusReturnExceptionHandler.class, documentation = "Given a (long-long) dag and a vertex returns its descendants.")
 	public static int createVertexDescendants(IsolateThread thread, ObjectHandle graphHandle, long vertex,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_dag_vertex_descendants");
 		CapiGraph<Long, ?> graph = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(graph.getDescendants(vertex)));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "graph_dag_vertex_ancestors", exceptionHandler = StatusReturnExceptionHandler.class, documentation = "Given a (int-int) dag and a vertex returns its ancestors.")
 	public static int createVertexAncestors(IsolateThread thread, ObjectHandle graphHandle, int vertex,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_dag_vertex_ancestors");
 		CapiGraph<Integer, ?> graph = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(graph.getAncestors(vertex)));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "graph_dag_vertex_ancestors", exceptionHandler = StatusReturnExceptionHandler.class, documentation = "Given a (long-long) dag and a vertex returns its ancestors.")
 	public static int createVertexAncestors(IsolateThread thread, ObjectHandle graphHandle, long vertex,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_dag_vertex_ancestors");
 		CapiGraph<Long, ?> graph = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(graph.getAncestors(vertex)));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
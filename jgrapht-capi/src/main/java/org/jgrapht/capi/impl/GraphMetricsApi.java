@@ -32,55 +32,176 @@ import org.jgrapht.Graph;
 import org.jgrapht.GraphMetrics;
 import org.jgrapht.alg.shortestpath.GraphMeasurer;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
+import org.jgrapht.capi.JGraphTContext.DiameterMode;
+import org.jgrapht.capi.custom.metrics.BoundingDiameters;
+import org.jgrapht.capi.custom.metrics.ParallelGirth;
+import org.jgrapht.capi.custom.metrics.TriangleCounting;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class GraphMetricsApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_metrics_diameter", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int diameter(IsolateThread thread, ObjectHandle graphHandle, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_metrics_diameter");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		double result = GraphMetrics.getDiameter(g);
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_metrics_radius", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int radius(IsolateThread thread, ObjectHandle graphHandle, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_metrics_radius");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		double result = GraphMetrics.getRadius(g);
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_metrics_girth", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int girth(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_metrics_girth");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		int result = GraphMetrics.getGirth(g);
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "graph_metrics_diameter_radius_bounds", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Compute bounds on the diameter and radius of an undirected graph in parallel.",
+					"Distances are weighted for weighted graphs and hop counts otherwise.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param mode exact bounding diameters, double sweep or k random searches",
+					"@param parallelism how many searches to run concurrently",
+					"@param max_iterations maximum number of searches, non-positive for no limit, k for k-BFS",
+					"@param time_limit_millis time limit in milliseconds, non-positive for no limit",
+					"@param seed seed for the random selection of sources",
+					"@param diameter_lower_res lower bound on the diameter",
+					"@param diameter_upper_res upper bound on the diameter",
+					"@param radius_lower_res lower bound on the radius",
+					"@param radius_upper_res upper bound on the radius",
+					"@param iterations_res number of searches performed",
+					"@param exact_res whether both bounds are tight" })
+	public static <V, E> int diameterRadiusBounds(IsolateThread thread, ObjectHandle graphHandle, DiameterMode mode,
+			int parallelism, int maxIterations, long timeLimitMillis, long seed, CDoublePointer diameterLowerRes,
+			CDoublePointer diameterUpperRes, CDoublePointer radiusLowerRes, CDoublePointer radiusUpperRes,
+			CIntPointer iterationsRes, CIntPointer exactRes) {
+		Metrics.enter("jgrapht_capi_xx_graph_metrics_diameter_radius_bounds");
+		Graph<V, E> g = globalHandles.get(graphHandle);
+
+		BoundingDiameters.Mode m;
+		switch (mode) {
+		case DIAMETER_MODE_EXACT:
+			m = BoundingDiameters.Mode.EXACT;
+			break;
+		case DIAMETER_MODE_DOUBLE_SWEEP:
+			m = BoundingDiameters.Mode.DOUBLE_SWEEP;
+			break;
+		case DIAMETER_MODE_K_BFS:
+			m = BoundingDiameters.Mode.K_BFS;
+			break;
+		default:
+			throw new IllegalArgumentException("Unknown diameter mode");
+		}
+
+		BoundingDiameters<V> alg = new BoundingDiameters<>(g, parallelism);
+		alg.compute(m, maxIterations, timeLimitMillis, seed);
+
+		if (diameterLowerRes.isNonNull()) {
+			diameterLowerRes.write(alg.getDiameterLowerBound());
+		}
+		if (diameterUpperRes.isNonNull()) {
+			diameterUpperRes.write(alg.getDiameterUpperBound());
+		}
+		if (radiusLowerRes.isNonNull()) {
+			radiusLowerRes.write(alg.getRadiusLowerBound());
+		}
+		if (radiusUpperRes.isNonNull()) {
+			radiusUpperRes.write(alg.getRadiusUpperBound());
+		}
+		if (iterationsRes.isNonNull()) {
+			iterationsRes.write(alg.getIterations());
+		}
+		if (exactRes.isNonNull()) {
+			exactRes.write(alg.isExact() ? 1 : 0);
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "graph_metrics_girth_bounds", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Compute the girth of an undirected graph, or bounds on it, using parallel searches.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param parallelism how many threads to use",
+					"@param max_iterations maximum number of searches, non-positive for no limit",
+					"@param time_limit_millis time limit in milliseconds, non-positive for no limit",
+					"@param lower_res lower bound on the girth", "@param upper_res upper bound on the girth",
+					"@param iterations_res number of searches performed",
+					"@param exact_res whether the bounds are tight" })
+	public static <V, E> int girthBounds(IsolateThread thread, ObjectHandle graphHandle, int parallelism,
+			int maxIterations, long timeLimitMillis, CIntPointer lowerRes, CIntPointer upperRes,
+			CIntPointer iterationsRes, CIntPointer exactRes) {
+		Metrics.enter("jgrapht_capi_xx_graph_metrics_girth_bounds");
+		Graph<V, E> g = globalHandles.get(graphHandle);
+
+		ParallelGirth<V> alg = new ParallelGirth<>(g, parallelism);
+		alg.compute(maxIterations, timeLimitMillis);
+
+		if (lowerRes.isNonNull()) {
+			lowerRes.write(alg.getLowerBound());
+		}
+		if (upperRes.isNonNull()) {
+			upperRes.write(alg.getUpperBound());
+		}
+		if (iterationsRes.isNonNull()) {
+			iterationsRes.write(alg.getIterations());
+		}
+		if (exactRes.isNonNull()) {
+			exactRes.write(alg.isExact() ? 1 : 0);
+		}
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_metrics_triangles", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int triangles(IsolateThread thread, ObjectHandle graphHandle, CLongPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_metrics_triangles");
+		Graph<V, E> g = globalHandles.get(graphHandle);
+		long result = new TriangleCounting<>(g, 1).getNumberOfTriangles();
+		if (res.isNonNull()) {
+			res.write(result);
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "graph_metrics_triangles_parallel", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Count the triangles of an undirected graph in parallel.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param parallelism how many threads to use",
+					"@param res the number of triangles" })
+	public static <V, E> int trianglesParallel(IsolateThread thread, ObjectHandle graphHandle, int parallelism,
+			CLongPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_metrics_triangles_parallel");
 		Graph<V, E> g = globalHandles.get(graphHandle);
-		long result = GraphMetrics.getNumberOfTriangles(g);
+		long result = new TriangleCounting<>(g, parallelism).getNumberOfTriangles();
 		if (res.isNonNull()) {
 			res.write(result);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
@@ -88,6 +209,7 @@ public class GraphMetricsApi {
 	public static <V,E> int vertexEccentricity(IsolateThread thread, ObjectHandle graphHandle, CDoublePointer diameter,
 			CDoublePointer radius, WordPointer center, WordPointer periphery, WordPointer pseudoPeriphery,
 			WordPointer vertexEccentricityMap) {
+		Metrics.enter("jgrapht_capi_xx_graph_metrics_measure_graph");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		GraphMeasurer<V, E> alg = new GraphMeasurer<>(g);
@@ -115,7 +237,7 @@ public class GraphMetricsApi {
 		if (vertexEccentricityMap.isNonNull()) {
 			vertexEccentricityMap.write(globalHandles.create(graphVertexEccentricityMap));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
@@ -25,241 +25,265 @@ import org.graalvm.nativeimage.c.type.CIntPointer;
 import org.jgrapht.Graph;
 import org.jgrapht.GraphTests;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class GraphTestsApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_is_empty", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int isEmpty(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_is_empty");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.isEmpty(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_is_simple", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int isSimple(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_is_simple");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.isSimple(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_has_selfloops", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int hasSelfLoops(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_has_selfloops");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.hasSelfLoops(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_has_multipleedges", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int hasMultipleEdges(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_has_multipleedges");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.hasMultipleEdges(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_is_complete", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int isComplete(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_is_complete");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.isComplete(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_is_weakly_connected", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int isWeaklyConnected(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_is_weakly_connected");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.isWeaklyConnected(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_is_strongly_connected", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int isStronglyConnected(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_is_strongly_connected");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.isStronglyConnected(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_is_tree", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int isTree(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_is_tree");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.isTree(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_is_forest", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int isForest(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_is_forest");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.isForest(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_is_overfull", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int isOverfull(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_is_overfull");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.isOverfull(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_is_split", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int isSplit(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_is_split");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.isSplit(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_is_bipartite", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int isBipartite(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_is_bipartite");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.isBipartite(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_is_cubic", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int isCubic(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_is_cubic");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.isCubic(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_is_eulerian", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int isEulerian(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_is_eulerian");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.isEulerian(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_is_chordal", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int isChordal(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_is_chordal");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.isChordal(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_is_weakly_chordal", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int isWeaklyChordal(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_is_weakly_chordal");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.isWeaklyChordal(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_has_ore", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int hasOreProperty(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_has_ore");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.hasOreProperty(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_is_trianglefree", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int isTriangleFree(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_is_trianglefree");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.isTriangleFree(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_is_perfect", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int isPerfect(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_is_perfect");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.isPerfect(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_is_planar", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int isPlanar(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_is_planar");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.isPlanar(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_is_kuratowski_subdivision", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int isKuratowskiSubdivision(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_is_kuratowski_subdivision");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.isKuratowskiSubdivision(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_is_k33_subdivision", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int isK33Subdivision(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_is_k33_subdivision");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.isK33Subdivision(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "graph_test_is_k5_subdivision", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int isK5Subdivision(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_test_is_k5_subdivision");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		if (res.isNonNull()) {
 			res.write(GraphTests.isK5Subdivision(g) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
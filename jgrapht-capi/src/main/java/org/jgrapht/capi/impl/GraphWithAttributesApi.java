@@ -24,16 +24,24 @@ import org.graalvm.nativeimage.ObjectHandle;
 import org.graalvm.nativeimage.ObjectHandles;
 import org.graalvm.nativeimage.c.function.CEntryPoint;
 import org.graalvm.nativeimage.c.type.CCharPointer;
+import org.graalvm.nativeimage.c.type.CCharPointerPointer;
+import org.graalvm.nativeimage.c.type.CDoublePointer;
 import org.graalvm.nativeimage.c.type.CIntPointer;
 import org.graalvm.nativeimage.c.type.CLongPointer;
 import org.graalvm.nativeimage.c.type.CTypeConversion.CCharPointerHolder;
 import org.graalvm.nativeimage.c.type.WordPointer;
+import org.graalvm.word.WordFactory;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.StringUtils;
+import org.jgrapht.capi.attributes.AttributeColumn;
+import org.jgrapht.capi.attributes.AttributeNames;
+import org.jgrapht.capi.attributes.ColumnarAttributes;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 import org.jgrapht.capi.graph.GraphWithAttributes;
 import org.jgrapht.nio.Attribute;
+import org.jgrapht.nio.AttributeType;
 import org.jgrapht.nio.DefaultAttribute;
 
 /**
@@ -41,7 +49,7 @@ import org.jgrapht.nio.DefaultAttribute;
  */
 public class GraphWithAttributesApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	// ---------------- GET ----------------
 
@@ -49,369 +57,1958 @@ public class GraphWithAttributesApi {
 			+ "graph_attrs_get_long", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int getLongAttribute(IsolateThread thread, ObjectHandle graphHandle, CCharPointer namePtr,
 			CLongPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_attrs_get_long");
 		GraphWithAttributes<V, E> graph = globalHandles.get(graphHandle);
-		String name = StringUtils.toJavaStringFromUtf8(namePtr);
-		Attribute attr = graph.getGraphAttribute(name);
-		if (attr == null) {
-			throw new IllegalArgumentException("Key " + name + " not found");
-		}
-		Long valueAsLong = Long.parseLong(attr.getValue());
+		Attribute attr = requireGraphAttribute(graph, StringUtils.toJavaStringFromUtf8(namePtr));
+		long value = Long.parseLong(attr.getValue());
 		if (res.isNonNull()) {
-			res.write(valueAsLong);
+			res.write(value);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "graph_attrs_vertex_get_long", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int getLongVertexAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
 			CCharPointer namePtr, CLongPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_get_long");
 		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
-		Attribute attr = graph.getVertexAttribute(element, name);
-		if (attr == null) {
-			throw new IllegalArgumentException("Key " + name + " not found");
-		}
-		Long valueAsLong = Long.parseLong(attr.getValue());
+		long value = vertexAttributes(graph, element).getLong(element, name);
 		if (res.isNonNull()) {
-			res.write(valueAsLong);
+			res.write(value);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "graph_attrs_vertex_get_long", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int getLongVertexAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
 			CCharPointer namePtr, CLongPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_get_long");
 		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
-		Attribute attr = graph.getVertexAttribute(element, name);
-		if (attr == null) {
-			throw new IllegalArgumentException("Key " + name + " not found");
-		}
-		Long valueAsLong = Long.parseLong(attr.getValue());
+		long value = vertexAttributes(graph, element).getLong(element, name);
 		if (res.isNonNull()) {
-			res.write(valueAsLong);
+			res.write(value);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
 			+ "graph_attrs_edge_get_long", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int getLongEdgeAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
 			CCharPointer namePtr, CLongPointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_get_long");
 		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
-		Attribute attr = graph.getEdgeAttribute(element, name);
-		if (attr == null) {
-			throw new IllegalArgumentException("Key " + name + " not found");
-		}
-		Long valueAsLong = Long.parseLong(attr.getValue());
+		long value = edgeAttributes(graph, element).getLong(element, name);
 		if (res.isNonNull()) {
-			res.write(valueAsLong);
+			res.write(value);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
 			+ "graph_attrs_edge_get_long", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int getLongEdgeAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
 			CCharPointer namePtr, CLongPointer res) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_get_long");
 		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
-		Attribute attr = graph.getEdgeAttribute(element, name);
-		if (attr == null) {
-			throw new IllegalArgumentException("Key " + name + " not found");
-		}
-		Long valueAsLong = Long.parseLong(attr.getValue());
+		long value = edgeAttributes(graph, element).getLong(element, name);
 		if (res.isNonNull()) {
-			res.write(valueAsLong);
+			res.write(value);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
-	// ---------------- STORE ----------------
-
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
-			+ "graph_attrs_put_long", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int putLongAttribute(IsolateThread thread, ObjectHandle graphHandle, CCharPointer namePtr,
-			long value) {
-		GraphWithAttributes<Integer, Integer> graph = globalHandles.get(graphHandle);
-		String name = StringUtils.toJavaStringFromUtf8(namePtr);
-		graph.putGraphAttribute(name, DefaultAttribute.createAttribute(value));
-		return Status.STATUS_SUCCESS.getCValue();
+			+ "graph_attrs_get_int", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V, E> int getIntAttribute(IsolateThread thread, ObjectHandle graphHandle, CCharPointer namePtr,
+			CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_attrs_get_int");
+		GraphWithAttributes<V, E> graph = globalHandles.get(graphHandle);
+		Attribute attr = requireGraphAttribute(graph, StringUtils.toJavaStringFromUtf8(namePtr));
+		int value = Integer.parseInt(attr.getValue());
+		if (res.isNonNull()) {
+			res.write(value);
+		}
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
-			+ "graph_attrs_vertex_put_long", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int putVertexLongAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
-			CCharPointer namePtr, long value) {
+			+ "graph_attrs_vertex_get_int", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int getIntVertexAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CCharPointer namePtr, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_get_int");
 		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
-		graph.putVertexAttribute(element, name, DefaultAttribute.createAttribute(value));
-		return Status.STATUS_SUCCESS.getCValue();
+		int value = vertexAttributes(graph, element).getInt(element, name);
+		if (res.isNonNull()) {
+			res.write(value);
+		}
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
-			+ "graph_attrs_vertex_put_long", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int putVertexLongAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
-			CCharPointer namePtr, long value) {
+			+ "graph_attrs_vertex_get_int", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int getIntVertexAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CCharPointer namePtr, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_get_int");
 		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
-		graph.putVertexAttribute(element, name, DefaultAttribute.createAttribute(value));
-		return Status.STATUS_SUCCESS.getCValue();
+		int value = vertexAttributes(graph, element).getInt(element, name);
+		if (res.isNonNull()) {
+			res.write(value);
+		}
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
-			+ "graph_attrs_edge_put_long", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int putEdgeLongAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
-			CCharPointer namePtr, long value) {
+			+ "graph_attrs_edge_get_int", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int getIntEdgeAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CCharPointer namePtr, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_get_int");
 		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
-		graph.putEdgeAttribute(element, name, DefaultAttribute.createAttribute(value));
-		return Status.STATUS_SUCCESS.getCValue();
+		int value = edgeAttributes(graph, element).getInt(element, name);
+		if (res.isNonNull()) {
+			res.write(value);
+		}
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
-			+ "graph_attrs_edge_put_long", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int putEdgeLongAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
-			CCharPointer namePtr, long value) {
+			+ "graph_attrs_edge_get_int", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int getIntEdgeAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CCharPointer namePtr, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_get_int");
 		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
-		graph.putEdgeAttribute(element, name, DefaultAttribute.createAttribute(value));
-		return Status.STATUS_SUCCESS.getCValue();
+		int value = edgeAttributes(graph, element).getInt(element, name);
+		if (res.isNonNull()) {
+			res.write(value);
+		}
+		return Metrics.success();
 	}
 
-	// ---------------- REMOVE ----------------
-
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
-			+ "graph_attrs_remove", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int removeAttribute(IsolateThread thread, ObjectHandle graphHandle, CCharPointer namePtr) {
-		GraphWithAttributes<?, ?> graph = globalHandles.get(graphHandle);
-		String name = StringUtils.toJavaStringFromUtf8(namePtr);
-		graph.removeGraphAttribute(name);
-		return Status.STATUS_SUCCESS.getCValue();
+			+ "graph_attrs_get_double", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V, E> int getDoubleAttribute(IsolateThread thread, ObjectHandle graphHandle, CCharPointer namePtr,
+			CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_attrs_get_double");
+		GraphWithAttributes<V, E> graph = globalHandles.get(graphHandle);
+		Attribute attr = requireGraphAttribute(graph, StringUtils.toJavaStringFromUtf8(namePtr));
+		double value = Double.parseDouble(attr.getValue());
+		if (res.isNonNull()) {
+			res.write(value);
+		}
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
-			+ "graph_attrs_vertex_remove", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int removeVertexAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
-			CCharPointer namePtr) {
+			+ "graph_attrs_vertex_get_double", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int getDoubleVertexAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CCharPointer namePtr, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_get_double");
 		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
-		graph.removeVertexAttribute(element, name);
-		return Status.STATUS_SUCCESS.getCValue();
+		double value = vertexAttributes(graph, element).getDouble(element, name);
+		if (res.isNonNull()) {
+			res.write(value);
+		}
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
-			+ "graph_attrs_vertex_remove", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int removeVertexAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
-			CCharPointer namePtr) {
+			+ "graph_attrs_vertex_get_double", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int getDoubleVertexAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CCharPointer namePtr, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_get_double");
 		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
-		graph.removeVertexAttribute(element, name);
-		return Status.STATUS_SUCCESS.getCValue();
+		double value = vertexAttributes(graph, element).getDouble(element, name);
+		if (res.isNonNull()) {
+			res.write(value);
+		}
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
-			+ "graph_attrs_edge_remove", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int removeEdgeAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
-			CCharPointer namePtr) {
+			+ "graph_attrs_edge_get_double", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int getDoubleEdgeAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CCharPointer namePtr, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_get_double");
 		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
-		graph.removeEdgeAttribute(element, name);
-		return Status.STATUS_SUCCESS.getCValue();
+		double value = edgeAttributes(graph, element).getDouble(element, name);
+		if (res.isNonNull()) {
+			res.write(value);
+		}
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
-			+ "graph_attrs_edge_remove", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int removeEdgeAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
-			CCharPointer namePtr) {
+			+ "graph_attrs_edge_get_double", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int getDoubleEdgeAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CCharPointer namePtr, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_get_double");
 		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
-		graph.removeEdgeAttribute(element, name);
-		return Status.STATUS_SUCCESS.getCValue();
+		double value = edgeAttributes(graph, element).getDouble(element, name);
+		if (res.isNonNull()) {
+			res.write(value);
+		}
+		return Metrics.success();
 	}
 
-	// ---------------- CONTAINS ----------------
-
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
-			+ "graph_attrs_contains", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int containsAttribute(IsolateThread thread, ObjectHandle graphHandle, CCharPointer namePtr,
+			+ "graph_attrs_get_bool", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V, E> int getBooleanAttribute(IsolateThread thread, ObjectHandle graphHandle, CCharPointer namePtr,
 			CIntPointer res) {
-		GraphWithAttributes<?, ?> graph = globalHandles.get(graphHandle);
-		String name = StringUtils.toJavaStringFromUtf8(namePtr);
-		boolean contains = graph.getGraphAttribute(name) != null;
+		Metrics.enter("jgrapht_capi_xx_graph_attrs_get_bool");
+		GraphWithAttributes<V, E> graph = globalHandles.get(graphHandle);
+		Attribute attr = requireGraphAttribute(graph, StringUtils.toJavaStringFromUtf8(namePtr));
+		boolean value = Boolean.parseBoolean(attr.getValue());
 		if (res.isNonNull()) {
-			res.write(contains ? 1 : 0);
+			res.write(value ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
-			+ "graph_attrs_vertex_contains", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int containsVertexAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			+ "graph_attrs_vertex_get_bool", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int getBooleanVertexAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
 			CCharPointer namePtr, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_get_bool");
 		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
-		boolean contains = graph.getVertexAttribute(element, name) != null;
+		boolean value = vertexAttributes(graph, element).getBoolean(element, name);
 		if (res.isNonNull()) {
-			res.write(contains ? 1 : 0);
+			res.write(value ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
-			+ "graph_attrs_vertex_contains", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int containsVertexAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			+ "graph_attrs_vertex_get_bool", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int getBooleanVertexAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
 			CCharPointer namePtr, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_get_bool");
 		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
-		boolean contains = graph.getVertexAttribute(element, name) != null;
+		boolean value = vertexAttributes(graph, element).getBoolean(element, name);
 		if (res.isNonNull()) {
-			res.write(contains ? 1 : 0);
+			res.write(value ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
-			+ "graph_attrs_edge_contains", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int containsEdgeAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			+ "graph_attrs_edge_get_bool", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int getBooleanEdgeAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
 			CCharPointer namePtr, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_get_bool");
 		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
-		boolean contains = graph.getEdgeAttribute(element, name) != null;
+		boolean value = edgeAttributes(graph, element).getBoolean(element, name);
 		if (res.isNonNull()) {
-			res.write(contains ? 1 : 0);
+			res.write(value ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
-			+ "graph_attrs_edge_contains", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int containsEdgeAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			+ "graph_attrs_edge_get_bool", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int getBooleanEdgeAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
 			CCharPointer namePtr, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_get_bool");
 		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
 		String name = StringUtils.toJavaStringFromUtf8(namePtr);
-		boolean contains = graph.getEdgeAttribute(element, name) != null;
+		boolean value = edgeAttributes(graph, element).getBoolean(element, name);
 		if (res.isNonNull()) {
-			res.write(contains ? 1 : 0);
+			res.write(value ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
-
+		return Metrics.success();
 	}
 
-	// ---------------- ITERATOR ----------------
-
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
-			+ "graph_attrs_keys_iterator", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static <V, E> int graphAttributesIterator(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+			+ "graph_attrs_get_str", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V, E> int getStringAttribute(IsolateThread thread, ObjectHandle graphHandle, CCharPointer namePtr,
+			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_attrs_get_str");
 		GraphWithAttributes<V, E> graph = globalHandles.get(graphHandle);
-		Iterator<CCharPointerHolder> it = graph.graphAttributesKeysIterator();
+		Attribute attr = requireGraphAttribute(graph, StringUtils.toJavaStringFromUtf8(namePtr));
+		String value = attr.getValue();
 		if (res.isNonNull()) {
-			res.write(globalHandles.create(it));
+			res.write(globalHandles.create(StringUtils.toCStringInUtf8(value)));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
-			+ "graph_attrs_vertex_keys_iterator", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int vertexAttributesIterator(IsolateThread thread, ObjectHandle graphHandle, int element,
-			WordPointer res) {
+			+ "graph_attrs_vertex_get_str", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int getStringVertexAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CCharPointer namePtr, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_get_str");
 		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		String value = vertexAttributes(graph, element).getString(element, name);
 		if (res.isNonNull()) {
-			res.write(globalHandles.create(graph.vertexAttributesKeysIterator(element)));
+			res.write(globalHandles.create(StringUtils.toCStringInUtf8(value)));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
-			+ "graph_attrs_vertex_keys_iterator", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int vertexAttributesIterator(IsolateThread thread, ObjectHandle graphHandle, long element,
-			WordPointer res) {
+			+ "graph_attrs_vertex_get_str", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int getStringVertexAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CCharPointer namePtr, WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_get_str");
 		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		String value = vertexAttributes(graph, element).getString(element, name);
 		if (res.isNonNull()) {
-			res.write(globalHandles.create(graph.vertexAttributesKeysIterator(element)));
+			res.write(globalHandles.create(StringUtils.toCStringInUtf8(value)));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
-			+ "graph_attrs_edge_keys_iterator", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int edgeAttributesIterator(IsolateThread thread, ObjectHandle graphHandle, int element,
-			WordPointer res) {
+			+ "graph_attrs_edge_get_str", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int getStringEdgeAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CCharPointer namePtr, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_get_str");
 		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		String value = edgeAttributes(graph, element).getString(element, name);
 		if (res.isNonNull()) {
-			res.write(globalHandles.create(graph.edgeAttributesKeysIterator(element)));
+			res.write(globalHandles.create(StringUtils.toCStringInUtf8(value)));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
-			+ "graph_attrs_edge_keys_iterator", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int edgeAttributesIterator(IsolateThread thread, ObjectHandle graphHandle, long element,
-			WordPointer res) {
+			+ "graph_attrs_edge_get_str", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int getStringEdgeAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CCharPointer namePtr, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_get_str");
 		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		String value = edgeAttributes(graph, element).getString(element, name);
 		if (res.isNonNull()) {
-			res.write(globalHandles.create(graph.edgeAttributesKeysIterator(element)));
+			res.write(globalHandles.create(StringUtils.toCStringInUtf8(value)));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
-	// ---------------- LENGTH ----------------
+	// ---------------- STORE ----------------
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
-			+ "graph_attrs_size", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int graphAttributesSize(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+			+ "graph_attrs_put_long", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putLongAttribute(IsolateThread thread, ObjectHandle graphHandle, CCharPointer namePtr,
+			long value) {
+		Metrics.enter("jgrapht_capi_xx_graph_attrs_put_long");
 		GraphWithAttributes<?, ?> graph = globalHandles.get(graphHandle);
-		if (res.isNonNull()) {
-			res.write(graph.getGraphAttributesSize());
-		}
-		return Status.STATUS_SUCCESS.getCValue();
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		graph.putGraphAttribute(name, DefaultAttribute.createAttribute(value));
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
-			+ "graph_attrs_vertex_size", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int graphVertexAttributesSize(IsolateThread thread, ObjectHandle graphHandle, int element,
-			CIntPointer res) {
+			+ "graph_attrs_vertex_put_long", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putVertexLongAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CCharPointer namePtr, long value) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_put_long");
 		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
-		if (res.isNonNull()) {
-			res.write(graph.getVertexAttributesSize(element));
-		}
-		return Status.STATUS_SUCCESS.getCValue();
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		vertexAttributes(graph, element).putLong(element, name, value);
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
-			+ "graph_attrs_vertex_size", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int graphVertexAttributesSize(IsolateThread thread, ObjectHandle graphHandle, long element,
-			CIntPointer res) {
+			+ "graph_attrs_vertex_put_long", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putVertexLongAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CCharPointer namePtr, long value) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_put_long");
 		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
-		if (res.isNonNull()) {
-			res.write(graph.getVertexAttributesSize(element));
-		}
-		return Status.STATUS_SUCCESS.getCValue();
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		vertexAttributes(graph, element).putLong(element, name, value);
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
-			+ "graph_attrs_edge_size", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int graphEdgeAttributesSize(IsolateThread thread, ObjectHandle graphHandle, int element,
-			CIntPointer res) {
+			+ "graph_attrs_edge_put_long", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putEdgeLongAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CCharPointer namePtr, long value) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_put_long");
 		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
-		if (res.isNonNull()) {
-			res.write(graph.getEdgeAttributesSize(element));
-		}
-		return Status.STATUS_SUCCESS.getCValue();
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		edgeAttributes(graph, element).putLong(element, name, value);
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
-			+ "graph_attrs_edge_size", exceptionHandler = StatusReturnExceptionHandler.class)
-	public static int graphEdgeAttributesSize(IsolateThread thread, ObjectHandle graphHandle, long element,
-			CIntPointer res) {
+			+ "graph_attrs_edge_put_long", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putEdgeLongAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CCharPointer namePtr, long value) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_put_long");
 		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
-		if (res.isNonNull()) {
-			res.write(graph.getEdgeAttributesSize(element));
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		edgeAttributes(graph, element).putLong(element, name, value);
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "graph_attrs_put_int", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putIntAttribute(IsolateThread thread, ObjectHandle graphHandle, CCharPointer namePtr,
+			int value) {
+		Metrics.enter("jgrapht_capi_xx_graph_attrs_put_int");
+		GraphWithAttributes<?, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		graph.putGraphAttribute(name, DefaultAttribute.createAttribute(value));
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_attrs_vertex_put_int", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putVertexIntAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CCharPointer namePtr, int value) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_put_int");
+		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		vertexAttributes(graph, element).putInt(element, name, value);
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_attrs_vertex_put_int", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putVertexIntAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CCharPointer namePtr, int value) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_put_int");
+		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		vertexAttributes(graph, element).putInt(element, name, value);
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_attrs_edge_put_int", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putEdgeIntAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CCharPointer namePtr, int value) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_put_int");
+		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		edgeAttributes(graph, element).putInt(element, name, value);
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
+			+ "graph_attrs_edge_put_int", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putEdgeIntAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CCharPointer namePtr, int value) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_put_int");
+		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		edgeAttributes(graph, element).putInt(element, name, value);
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "graph_attrs_put_double", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putDoubleAttribute(IsolateThread thread, ObjectHandle graphHandle, CCharPointer namePtr,
+			double value) {
+		Metrics.enter("jgrapht_capi_xx_graph_attrs_put_double");
+		GraphWithAttributes<?, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		graph.putGraphAttribute(name, DefaultAttribute.createAttribute(value));
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_attrs_vertex_put_double", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putVertexDoubleAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CCharPointer namePtr, double value) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_put_double");
+		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		vertexAttributes(graph, element).putDouble(element, name, value);
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_attrs_vertex_put_double", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putVertexDoubleAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CCharPointer namePtr, double value) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_put_double");
+		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		vertexAttributes(graph, element).putDouble(element, name, value);
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_attrs_edge_put_double", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putEdgeDoubleAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CCharPointer namePtr, double value) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_put_double");
+		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		edgeAttributes(graph, element).putDouble(element, name, value);
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
+			+ "graph_attrs_edge_put_double", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putEdgeDoubleAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CCharPointer namePtr, double value) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_put_double");
+		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		edgeAttributes(graph, element).putDouble(element, name, value);
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "graph_attrs_put_bool", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putBooleanAttribute(IsolateThread thread, ObjectHandle graphHandle, CCharPointer namePtr,
+			boolean value) {
+		Metrics.enter("jgrapht_capi_xx_graph_attrs_put_bool");
+		GraphWithAttributes<?, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		graph.putGraphAttribute(name, DefaultAttribute.createAttribute(value));
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_attrs_vertex_put_bool", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putVertexBooleanAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CCharPointer namePtr, boolean value) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_put_bool");
+		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		vertexAttributes(graph, element).putBoolean(element, name, value);
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_attrs_vertex_put_bool", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putVertexBooleanAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CCharPointer namePtr, boolean value) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_put_bool");
+		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		vertexAttributes(graph, element).putBoolean(element, name, value);
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_attrs_edge_put_bool", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putEdgeBooleanAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CCharPointer namePtr, boolean value) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_put_bool");
+		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		edgeAttributes(graph, element).putBoolean(element, name, value);
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
+			+ "graph_attrs_edge_put_bool", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putEdgeBooleanAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CCharPointer namePtr, boolean value) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_put_bool");
+		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		edgeAttributes(graph, element).putBoolean(element, name, value);
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "graph_attrs_put_str", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putStringAttribute(IsolateThread thread, ObjectHandle graphHandle, CCharPointer namePtr,
+			CCharPointer valuePtr) {
+		Metrics.enter("jgrapht_capi_xx_graph_attrs_put_str");
+		GraphWithAttributes<?, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		graph.putGraphAttribute(name, DefaultAttribute.createAttribute(StringUtils.toJavaStringFromUtf8(valuePtr)));
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_attrs_vertex_put_str", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putVertexStringAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CCharPointer namePtr, CCharPointer valuePtr) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_put_str");
+		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		vertexAttributes(graph, element).putString(element, name, StringUtils.toJavaStringFromUtf8(valuePtr));
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_attrs_vertex_put_str", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putVertexStringAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CCharPointer namePtr, CCharPointer valuePtr) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_put_str");
+		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		vertexAttributes(graph, element).putString(element, name, StringUtils.toJavaStringFromUtf8(valuePtr));
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_attrs_edge_put_str", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putEdgeStringAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CCharPointer namePtr, CCharPointer valuePtr) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_put_str");
+		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		edgeAttributes(graph, element).putString(element, name, StringUtils.toJavaStringFromUtf8(valuePtr));
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
+			+ "graph_attrs_edge_put_str", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int putEdgeStringAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CCharPointer namePtr, CCharPointer valuePtr) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_put_str");
+		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		edgeAttributes(graph, element).putString(element, name, StringUtils.toJavaStringFromUtf8(valuePtr));
+		return Metrics.success();
+	}
+
+	// ---------------- REMOVE ----------------
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "graph_attrs_remove", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int removeAttribute(IsolateThread thread, ObjectHandle graphHandle, CCharPointer namePtr) {
+		Metrics.enter("jgrapht_capi_xx_graph_attrs_remove");
+		GraphWithAttributes<?, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		graph.removeGraphAttribute(name);
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_attrs_vertex_remove", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int removeVertexAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CCharPointer namePtr) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_remove");
+		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		graph.removeVertexAttribute(element, name);
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_attrs_vertex_remove", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int removeVertexAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CCharPointer namePtr) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_remove");
+		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		graph.removeVertexAttribute(element, name);
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_attrs_edge_remove", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int removeEdgeAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CCharPointer namePtr) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_remove");
+		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		graph.removeEdgeAttribute(element, name);
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
+			+ "graph_attrs_edge_remove", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int removeEdgeAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CCharPointer namePtr) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_remove");
+		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		graph.removeEdgeAttribute(element, name);
+		return Metrics.success();
+	}
+
+	// ---------------- CONTAINS ----------------
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "graph_attrs_contains", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int containsAttribute(IsolateThread thread, ObjectHandle graphHandle, CCharPointer namePtr,
+			CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_attrs_contains");
+		GraphWithAttributes<?, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		boolean contains = graph.getGraphAttribute(name) != null;
+		if (res.isNonNull()) {
+			res.write(contains ? 1 : 0);
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_attrs_vertex_contains", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int containsVertexAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CCharPointer namePtr, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_contains");
+		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		boolean contains = graph.getVertexAttribute(element, name) != null;
+		if (res.isNonNull()) {
+			res.write(contains ? 1 : 0);
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_attrs_vertex_contains", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int containsVertexAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CCharPointer namePtr, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_contains");
+		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		boolean contains = graph.getVertexAttribute(element, name) != null;
+		if (res.isNonNull()) {
+			res.write(contains ? 1 : 0);
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_attrs_edge_contains", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int containsEdgeAttribute(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CCharPointer namePtr, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_contains");
+		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		boolean contains = graph.getEdgeAttribute(element, name) != null;
+		if (res.isNonNull()) {
+			res.write(contains ? 1 : 0);
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
+			+ "graph_attrs_edge_contains", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int containsEdgeAttribute(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CCharPointer namePtr, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_contains");
+		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		boolean contains = graph.getEdgeAttribute(element, name) != null;
+		if (res.isNonNull()) {
+			res.write(contains ? 1 : 0);
+		}
+		return Metrics.success();
+
+	}
+
+	// ---------------- ITERATOR ----------------
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "graph_attrs_keys_iterator", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V, E> int graphAttributesIterator(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_attrs_keys_iterator");
+		GraphWithAttributes<V, E> graph = globalHandles.get(graphHandle);
+		Iterator<CCharPointerHolder> it = graph.graphAttributesKeysIterator();
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(it));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_attrs_vertex_keys_iterator", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int vertexAttributesIterator(IsolateThread thread, ObjectHandle graphHandle, int element,
+			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_keys_iterator");
+		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(graph.vertexAttributesKeysIterator(element)));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_attrs_vertex_keys_iterator", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int vertexAttributesIterator(IsolateThread thread, ObjectHandle graphHandle, long element,
+			WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_keys_iterator");
+		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(graph.vertexAttributesKeysIterator(element)));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_attrs_edge_keys_iterator", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int edgeAttributesIterator(IsolateThread thread, ObjectHandle graphHandle, int element,
+			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_keys_iterator");
+		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(graph.edgeAttributesKeysIterator(element)));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
+			+ "graph_attrs_edge_keys_iterator", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int edgeAttributesIterator(IsolateThread thread, ObjectHandle graphHandle, long element,
+			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_keys_iterator");
+		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(graph.edgeAttributesKeysIterator(element)));
+		}
+		return Metrics.success();
+	}
+
+	// ---------------- NAMES ----------------
+
+	@CEntryPoint(name = Constants.LIB_PREFIX
+			+ "attrs_name_id", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Get the id of an attribute name, registering the name if needed. Ids are stable",
+					"for the lifetime of the isolate.", "@param thread the isolate thread",
+					"@param name the attribute name", "@param res the id" })
+	public static int attributeNameId(IsolateThread thread, CCharPointer namePtr, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_attrs_name_id");
+		int id = AttributeNames.intern(StringUtils.toJavaStringFromUtf8(namePtr));
+		if (res.isNonNull()) {
+			res.write(id);
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX
+			+ "attrs_name_get", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Get an attribute name by id. The returned string is owned by the library and",
+					"stays valid for the lifetime of the isolate.", "@param thread the isolate thread",
+					"@param id the attribute name id", "@param res the attribute name" })
+	public static int attributeName(IsolateThread thread, int id, CCharPointerPointer res) {
+		Metrics.enter("jgrapht_capi_attrs_name_get");
+		CCharPointerHolder name = AttributeNames.getCName(id);
+		if (res.isNonNull()) {
+			res.write(name.get());
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "graph_attrs_key_ids_iterator", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Iterate over the ids of the names of the graph attributes.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param res an iterator over integer ids" })
+	public static int graphAttributesIdsIterator(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_attrs_key_ids_iterator");
+		GraphWithAttributes<?, ?> graph = globalHandles.get(graphHandle);
+		Iterator<Integer> it = toIds(graph.getStore().getGraphAttributeNames().iterator());
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(it));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_attrs_vertex_key_ids_iterator", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Iterate over the ids of the names of the attributes of a vertex.",
+					"@param thread the isolate thread", "@param graph the graph handle", "@param element the vertex",
+					"@param res an iterator over integer ids" })
+	public static int vertexAttributesIdsIterator(IsolateThread thread, ObjectHandle graphHandle, int element,
+			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_key_ids_iterator");
+		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
+		Iterator<Integer> it = toIds(vertexAttributes(graph, element).keys(element));
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(it));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_attrs_vertex_key_ids_iterator", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Iterate over the ids of the names of the attributes of a vertex.",
+					"@param thread the isolate thread", "@param graph the graph handle", "@param element the vertex",
+					"@param res an iterator over integer ids" })
+	public static int vertexAttributesIdsIterator(IsolateThread thread, ObjectHandle graphHandle, long element,
+			WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_key_ids_iterator");
+		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
+		Iterator<Integer> it = toIds(vertexAttributes(graph, element).keys(element));
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(it));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_attrs_edge_key_ids_iterator", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Iterate over the ids of the names of the attributes of an edge.",
+					"@param thread the isolate thread", "@param graph the graph handle", "@param element the edge",
+					"@param res an iterator over integer ids" })
+	public static int edgeAttributesIdsIterator(IsolateThread thread, ObjectHandle graphHandle, int element,
+			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_key_ids_iterator");
+		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
+		Iterator<Integer> it = toIds(edgeAttributes(graph, element).keys(element));
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(it));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
+			+ "graph_attrs_edge_key_ids_iterator", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Iterate over the ids of the names of the attributes of an edge.",
+					"@param thread the isolate thread", "@param graph the graph handle", "@param element the edge",
+					"@param res an iterator over integer ids" })
+	public static int edgeAttributesIdsIterator(IsolateThread thread, ObjectHandle graphHandle, long element,
+			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_key_ids_iterator");
+		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
+		Iterator<Integer> it = toIds(edgeAttributes(graph, element).keys(element));
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(it));
+		}
+		return Metrics.success();
+	}
+
+	// ---------------- LENGTH ----------------
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "graph_attrs_size", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int graphAttributesSize(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xx_graph_attrs_size");
+		GraphWithAttributes<?, ?> graph = globalHandles.get(graphHandle);
+		if (res.isNonNull()) {
+			res.write(graph.getGraphAttributesSize());
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_attrs_vertex_size", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int graphVertexAttributesSize(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_size");
+		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
+		if (res.isNonNull()) {
+			res.write(graph.getVertexAttributesSize(element));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_attrs_vertex_size", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int graphVertexAttributesSize(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CIntPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_size");
+		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
+		if (res.isNonNull()) {
+			res.write(graph.getVertexAttributesSize(element));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_attrs_edge_size", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int graphEdgeAttributesSize(IsolateThread thread, ObjectHandle graphHandle, int element,
+			CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_size");
+		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
+		if (res.isNonNull()) {
+			res.write(graph.getEdgeAttributesSize(element));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
+			+ "graph_attrs_edge_size", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int graphEdgeAttributesSize(IsolateThread thread, ObjectHandle graphHandle, long element,
+			CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_size");
+		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
+		if (res.isNonNull()) {
+			res.write(graph.getEdgeAttributesSize(element));
+		}
+		return Metrics.success();
+	}
+
+	// ---------------- BULK ----------------
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_attrs_vertex_get_long_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read an attribute of many vertices at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array of vertices", "@param count number of vertices",
+					"@param name the attribute name", "@param default_value value to use for vertices without the attribute",
+					"@param res array of size count with the attribute values" })
+	public static int getLongVertexAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer vertices,
+			int count, CCharPointer namePtr, long defaultValue, CLongPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_get_long_bulk");
+		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Integer> attrs = graph.getStore().getVertexAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		for (int i = 0; i < count; i++) {
+			Integer element = vertices.read(i);
+			int pos = vertexAttributes(graph, element).indexOf(element);
+			if (column != null && pos != -1 && column.contains(pos)) {
+				res.write(i, column.getLong(pos));
+			} else {
+				res.write(i, defaultValue);
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_attrs_vertex_put_long_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store an attribute of many vertices at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array of vertices", "@param count number of vertices",
+					"@param name the attribute name", "@param values array of size count with the attribute values" })
+	public static int putVertexLongAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer vertices,
+			int count, CCharPointer namePtr, CLongPointer values) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_put_long_bulk");
+		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Integer> attrs = graph.getStore().getVertexAttributes();
+		for (int i = 0; i < count; i++) {
+			vertexAttributes(graph, vertices.read(i));
+		}
+		AttributeColumn column = attrs.getOrCreateColumn(name, AttributeType.LONG);
+		for (int i = 0; i < count; i++) {
+			column.putLong(attrs.getOrCreateIndex(vertices.read(i)), values.read(i));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_attrs_vertex_get_long_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read an attribute of many vertices at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array of vertices", "@param count number of vertices",
+					"@param name the attribute name", "@param default_value value to use for vertices without the attribute",
+					"@param res array of size count with the attribute values" })
+	public static int getLongVertexAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer vertices,
+			int count, CCharPointer namePtr, long defaultValue, CLongPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_get_long_bulk");
+		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Long> attrs = graph.getStore().getVertexAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		for (int i = 0; i < count; i++) {
+			Long element = vertices.read(i);
+			int pos = vertexAttributes(graph, element).indexOf(element);
+			if (column != null && pos != -1 && column.contains(pos)) {
+				res.write(i, column.getLong(pos));
+			} else {
+				res.write(i, defaultValue);
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_attrs_vertex_put_long_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store an attribute of many vertices at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array of vertices", "@param count number of vertices",
+					"@param name the attribute name", "@param values array of size count with the attribute values" })
+	public static int putVertexLongAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer vertices,
+			int count, CCharPointer namePtr, CLongPointer values) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_put_long_bulk");
+		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Long> attrs = graph.getStore().getVertexAttributes();
+		for (int i = 0; i < count; i++) {
+			vertexAttributes(graph, vertices.read(i));
+		}
+		AttributeColumn column = attrs.getOrCreateColumn(name, AttributeType.LONG);
+		for (int i = 0; i < count; i++) {
+			column.putLong(attrs.getOrCreateIndex(vertices.read(i)), values.read(i));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_attrs_edge_get_long_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read an attribute of many edges at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param edges array of edges", "@param count number of edges",
+					"@param name the attribute name", "@param default_value value to use for edges without the attribute",
+					"@param res array of size count with the attribute values" })
+	public static int getLongEdgeAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer edges,
+			int count, CCharPointer namePtr, long defaultValue, CLongPointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_get_long_bulk");
+		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Integer> attrs = graph.getStore().getEdgeAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		for (int i = 0; i < count; i++) {
+			Integer element = edges.read(i);
+			int pos = edgeAttributes(graph, element).indexOf(element);
+			if (column != null && pos != -1 && column.contains(pos)) {
+				res.write(i, column.getLong(pos));
+			} else {
+				res.write(i, defaultValue);
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_attrs_edge_put_long_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store an attribute of many edges at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param edges array of edges", "@param count number of edges",
+					"@param name the attribute name", "@param values array of size count with the attribute values" })
+	public static int putEdgeLongAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer edges,
+			int count, CCharPointer namePtr, CLongPointer values) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_put_long_bulk");
+		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Integer> attrs = graph.getStore().getEdgeAttributes();
+		for (int i = 0; i < count; i++) {
+			edgeAttributes(graph, edges.read(i));
+		}
+		AttributeColumn column = attrs.getOrCreateColumn(name, AttributeType.LONG);
+		for (int i = 0; i < count; i++) {
+			column.putLong(attrs.getOrCreateIndex(edges.read(i)), values.read(i));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
+			+ "graph_attrs_edge_get_long_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read an attribute of many edges at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param edges array of edges", "@param count number of edges",
+					"@param name the attribute name", "@param default_value value to use for edges without the attribute",
+					"@param res array of size count with the attribute values" })
+	public static int getLongEdgeAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer edges,
+			int count, CCharPointer namePtr, long defaultValue, CLongPointer res) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_get_long_bulk");
+		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Long> attrs = graph.getStore().getEdgeAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		for (int i = 0; i < count; i++) {
+			Long element = edges.read(i);
+			int pos = edgeAttributes(graph, element).indexOf(element);
+			if (column != null && pos != -1 && column.contains(pos)) {
+				res.write(i, column.getLong(pos));
+			} else {
+				res.write(i, defaultValue);
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
+			+ "graph_attrs_edge_put_long_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store an attribute of many edges at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param edges array of edges", "@param count number of edges",
+					"@param name the attribute name", "@param values array of size count with the attribute values" })
+	public static int putEdgeLongAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer edges,
+			int count, CCharPointer namePtr, CLongPointer values) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_put_long_bulk");
+		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Long> attrs = graph.getStore().getEdgeAttributes();
+		for (int i = 0; i < count; i++) {
+			edgeAttributes(graph, edges.read(i));
+		}
+		AttributeColumn column = attrs.getOrCreateColumn(name, AttributeType.LONG);
+		for (int i = 0; i < count; i++) {
+			column.putLong(attrs.getOrCreateIndex(edges.read(i)), values.read(i));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_attrs_vertex_get_double_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read an attribute of many vertices at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array of vertices", "@param count number of vertices",
+					"@param name the attribute name", "@param default_value value to use for vertices without the attribute",
+					"@param res array of size count with the attribute values" })
+	public static int getDoubleVertexAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer vertices,
+			int count, CCharPointer namePtr, double defaultValue, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_get_double_bulk");
+		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Integer> attrs = graph.getStore().getVertexAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		for (int i = 0; i < count; i++) {
+			Integer element = vertices.read(i);
+			int pos = vertexAttributes(graph, element).indexOf(element);
+			if (column != null && pos != -1 && column.contains(pos)) {
+				res.write(i, column.getDouble(pos));
+			} else {
+				res.write(i, defaultValue);
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_attrs_vertex_put_double_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store an attribute of many vertices at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array of vertices", "@param count number of vertices",
+					"@param name the attribute name", "@param values array of size count with the attribute values" })
+	public static int putVertexDoubleAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer vertices,
+			int count, CCharPointer namePtr, CDoublePointer values) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_put_double_bulk");
+		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Integer> attrs = graph.getStore().getVertexAttributes();
+		for (int i = 0; i < count; i++) {
+			vertexAttributes(graph, vertices.read(i));
+		}
+		AttributeColumn column = attrs.getOrCreateColumn(name, AttributeType.DOUBLE);
+		for (int i = 0; i < count; i++) {
+			column.putDouble(attrs.getOrCreateIndex(vertices.read(i)), values.read(i));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_attrs_vertex_get_double_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read an attribute of many vertices at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array of vertices", "@param count number of vertices",
+					"@param name the attribute name", "@param default_value value to use for vertices without the attribute",
+					"@param res array of size count with the attribute values" })
+	public static int getDoubleVertexAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer vertices,
+			int count, CCharPointer namePtr, double defaultValue, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_get_double_bulk");
+		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Long> attrs = graph.getStore().getVertexAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		for (int i = 0; i < count; i++) {
+			Long element = vertices.read(i);
+			int pos = vertexAttributes(graph, element).indexOf(element);
+			if (column != null && pos != -1 && column.contains(pos)) {
+				res.write(i, column.getDouble(pos));
+			} else {
+				res.write(i, defaultValue);
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_attrs_vertex_put_double_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store an attribute of many vertices at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array of vertices", "@param count number of vertices",
+					"@param name the attribute name", "@param values array of size count with the attribute values" })
+	public static int putVertexDoubleAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer vertices,
+			int count, CCharPointer namePtr, CDoublePointer values) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_put_double_bulk");
+		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Long> attrs = graph.getStore().getVertexAttributes();
+		for (int i = 0; i < count; i++) {
+			vertexAttributes(graph, vertices.read(i));
+		}
+		AttributeColumn column = attrs.getOrCreateColumn(name, AttributeType.DOUBLE);
+		for (int i = 0; i < count; i++) {
+			column.putDouble(attrs.getOrCreateIndex(vertices.read(i)), values.read(i));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_attrs_edge_get_double_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read an attribute of many edges at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param edges array of edges", "@param count number of edges",
+					"@param name the attribute name", "@param default_value value to use for edges without the attribute",
+					"@param res array of size count with the attribute values" })
+	public static int getDoubleEdgeAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer edges,
+			int count, CCharPointer namePtr, double defaultValue, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_get_double_bulk");
+		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Integer> attrs = graph.getStore().getEdgeAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		for (int i = 0; i < count; i++) {
+			Integer element = edges.read(i);
+			int pos = edgeAttributes(graph, element).indexOf(element);
+			if (column != null && pos != -1 && column.contains(pos)) {
+				res.write(i, column.getDouble(pos));
+			} else {
+				res.write(i, defaultValue);
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_attrs_edge_put_double_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store an attribute of many edges at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param edges array of edges", "@param count number of edges",
+					"@param name the attribute name", "@param values array of size count with the attribute values" })
+	public static int putEdgeDoubleAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer edges,
+			int count, CCharPointer namePtr, CDoublePointer values) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_put_double_bulk");
+		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Integer> attrs = graph.getStore().getEdgeAttributes();
+		for (int i = 0; i < count; i++) {
+			edgeAttributes(graph, edges.read(i));
+		}
+		AttributeColumn column = attrs.getOrCreateColumn(name, AttributeType.DOUBLE);
+		for (int i = 0; i < count; i++) {
+			column.putDouble(attrs.getOrCreateIndex(edges.read(i)), values.read(i));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
+			+ "graph_attrs_edge_get_double_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read an attribute of many edges at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param edges array of edges", "@param count number of edges",
+					"@param name the attribute name", "@param default_value value to use for edges without the attribute",
+					"@param res array of size count with the attribute values" })
+	public static int getDoubleEdgeAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer edges,
+			int count, CCharPointer namePtr, double defaultValue, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_get_double_bulk");
+		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Long> attrs = graph.getStore().getEdgeAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		for (int i = 0; i < count; i++) {
+			Long element = edges.read(i);
+			int pos = edgeAttributes(graph, element).indexOf(element);
+			if (column != null && pos != -1 && column.contains(pos)) {
+				res.write(i, column.getDouble(pos));
+			} else {
+				res.write(i, defaultValue);
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
+			+ "graph_attrs_edge_put_double_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store an attribute of many edges at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param edges array of edges", "@param count number of edges",
+					"@param name the attribute name", "@param values array of size count with the attribute values" })
+	public static int putEdgeDoubleAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer edges,
+			int count, CCharPointer namePtr, CDoublePointer values) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_put_double_bulk");
+		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Long> attrs = graph.getStore().getEdgeAttributes();
+		for (int i = 0; i < count; i++) {
+			edgeAttributes(graph, edges.read(i));
+		}
+		AttributeColumn column = attrs.getOrCreateColumn(name, AttributeType.DOUBLE);
+		for (int i = 0; i < count; i++) {
+			column.putDouble(attrs.getOrCreateIndex(edges.read(i)), values.read(i));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_attrs_vertex_get_int_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read an attribute of many vertices at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array of vertices", "@param count number of vertices",
+					"@param name the attribute name", "@param default_value value to use for vertices without the attribute",
+					"@param res array of size count with the attribute values" })
+	public static int getIntVertexAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer vertices,
+			int count, CCharPointer namePtr, int defaultValue, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_get_int_bulk");
+		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Integer> attrs = graph.getStore().getVertexAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		for (int i = 0; i < count; i++) {
+			Integer element = vertices.read(i);
+			int pos = vertexAttributes(graph, element).indexOf(element);
+			if (column != null && pos != -1 && column.contains(pos)) {
+				res.write(i, Math.toIntExact(column.getLong(pos)));
+			} else {
+				res.write(i, defaultValue);
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_attrs_vertex_put_int_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store an attribute of many vertices at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array of vertices", "@param count number of vertices",
+					"@param name the attribute name", "@param values array of size count with the attribute values" })
+	public static int putVertexIntAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer vertices,
+			int count, CCharPointer namePtr, CIntPointer values) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_put_int_bulk");
+		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Integer> attrs = graph.getStore().getVertexAttributes();
+		for (int i = 0; i < count; i++) {
+			vertexAttributes(graph, vertices.read(i));
+		}
+		AttributeColumn column = attrs.getOrCreateColumn(name, AttributeType.INT);
+		for (int i = 0; i < count; i++) {
+			column.putInt(attrs.getOrCreateIndex(vertices.read(i)), values.read(i));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_attrs_vertex_get_int_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read an attribute of many vertices at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array of vertices", "@param count number of vertices",
+					"@param name the attribute name", "@param default_value value to use for vertices without the attribute",
+					"@param res array of size count with the attribute values" })
+	public static int getIntVertexAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer vertices,
+			int count, CCharPointer namePtr, int defaultValue, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_get_int_bulk");
+		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Long> attrs = graph.getStore().getVertexAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		for (int i = 0; i < count; i++) {
+			Long element = vertices.read(i);
+			int pos = vertexAttributes(graph, element).indexOf(element);
+			if (column != null && pos != -1 && column.contains(pos)) {
+				res.write(i, Math.toIntExact(column.getLong(pos)));
+			} else {
+				res.write(i, defaultValue);
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_attrs_vertex_put_int_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store an attribute of many vertices at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array of vertices", "@param count number of vertices",
+					"@param name the attribute name", "@param values array of size count with the attribute values" })
+	public static int putVertexIntAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer vertices,
+			int count, CCharPointer namePtr, CIntPointer values) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_put_int_bulk");
+		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Long> attrs = graph.getStore().getVertexAttributes();
+		for (int i = 0; i < count; i++) {
+			vertexAttributes(graph, vertices.read(i));
+		}
+		AttributeColumn column = attrs.getOrCreateColumn(name, AttributeType.INT);
+		for (int i = 0; i < count; i++) {
+			column.putInt(attrs.getOrCreateIndex(vertices.read(i)), values.read(i));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_attrs_edge_get_int_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read an attribute of many edges at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param edges array of edges", "@param count number of edges",
+					"@param name the attribute name", "@param default_value value to use for edges without the attribute",
+					"@param res array of size count with the attribute values" })
+	public static int getIntEdgeAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer edges,
+			int count, CCharPointer namePtr, int defaultValue, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_get_int_bulk");
+		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Integer> attrs = graph.getStore().getEdgeAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		for (int i = 0; i < count; i++) {
+			Integer element = edges.read(i);
+			int pos = edgeAttributes(graph, element).indexOf(element);
+			if (column != null && pos != -1 && column.contains(pos)) {
+				res.write(i, Math.toIntExact(column.getLong(pos)));
+			} else {
+				res.write(i, defaultValue);
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_attrs_edge_put_int_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store an attribute of many edges at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param edges array of edges", "@param count number of edges",
+					"@param name the attribute name", "@param values array of size count with the attribute values" })
+	public static int putEdgeIntAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer edges,
+			int count, CCharPointer namePtr, CIntPointer values) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_put_int_bulk");
+		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Integer> attrs = graph.getStore().getEdgeAttributes();
+		for (int i = 0; i < count; i++) {
+			edgeAttributes(graph, edges.read(i));
+		}
+		AttributeColumn column = attrs.getOrCreateColumn(name, AttributeType.INT);
+		for (int i = 0; i < count; i++) {
+			column.putInt(attrs.getOrCreateIndex(edges.read(i)), values.read(i));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
+			+ "graph_attrs_edge_get_int_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read an attribute of many edges at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param edges array of edges", "@param count number of edges",
+					"@param name the attribute name", "@param default_value value to use for edges without the attribute",
+					"@param res array of size count with the attribute values" })
+	public static int getIntEdgeAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer edges,
+			int count, CCharPointer namePtr, int defaultValue, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_get_int_bulk");
+		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Long> attrs = graph.getStore().getEdgeAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		for (int i = 0; i < count; i++) {
+			Long element = edges.read(i);
+			int pos = edgeAttributes(graph, element).indexOf(element);
+			if (column != null && pos != -1 && column.contains(pos)) {
+				res.write(i, Math.toIntExact(column.getLong(pos)));
+			} else {
+				res.write(i, defaultValue);
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
+			+ "graph_attrs_edge_put_int_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store an attribute of many edges at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param edges array of edges", "@param count number of edges",
+					"@param name the attribute name", "@param values array of size count with the attribute values" })
+	public static int putEdgeIntAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer edges,
+			int count, CCharPointer namePtr, CIntPointer values) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_put_int_bulk");
+		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Long> attrs = graph.getStore().getEdgeAttributes();
+		for (int i = 0; i < count; i++) {
+			edgeAttributes(graph, edges.read(i));
+		}
+		AttributeColumn column = attrs.getOrCreateColumn(name, AttributeType.INT);
+		for (int i = 0; i < count; i++) {
+			column.putInt(attrs.getOrCreateIndex(edges.read(i)), values.read(i));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_attrs_vertex_get_bool_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read an attribute of many vertices at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array of vertices", "@param count number of vertices",
+					"@param name the attribute name", "@param default_value value to use for vertices without the attribute",
+					"@param res array of size count with the attribute values, as 0 or 1" })
+	public static int getBooleanVertexAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer vertices,
+			int count, CCharPointer namePtr, int defaultValue, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_get_bool_bulk");
+		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Integer> attrs = graph.getStore().getVertexAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		for (int i = 0; i < count; i++) {
+			Integer element = vertices.read(i);
+			int pos = vertexAttributes(graph, element).indexOf(element);
+			if (column != null && pos != -1 && column.contains(pos)) {
+				res.write(i, column.getBoolean(pos) ? 1 : 0);
+			} else {
+				res.write(i, defaultValue);
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_attrs_vertex_put_bool_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store an attribute of many vertices at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array of vertices", "@param count number of vertices",
+					"@param name the attribute name",
+					"@param values array of size count with the attribute values, non-zero for true" })
+	public static int putVertexBooleanAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer vertices,
+			int count, CCharPointer namePtr, CIntPointer values) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_put_bool_bulk");
+		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Integer> attrs = graph.getStore().getVertexAttributes();
+		for (int i = 0; i < count; i++) {
+			vertexAttributes(graph, vertices.read(i));
+		}
+		AttributeColumn column = attrs.getOrCreateColumn(name, AttributeType.BOOLEAN);
+		for (int i = 0; i < count; i++) {
+			column.putBoolean(attrs.getOrCreateIndex(vertices.read(i)), values.read(i) != 0);
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_attrs_vertex_get_bool_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read an attribute of many vertices at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array of vertices", "@param count number of vertices",
+					"@param name the attribute name", "@param default_value value to use for vertices without the attribute",
+					"@param res array of size count with the attribute values, as 0 or 1" })
+	public static int getBooleanVertexAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer vertices,
+			int count, CCharPointer namePtr, int defaultValue, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_get_bool_bulk");
+		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Long> attrs = graph.getStore().getVertexAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		for (int i = 0; i < count; i++) {
+			Long element = vertices.read(i);
+			int pos = vertexAttributes(graph, element).indexOf(element);
+			if (column != null && pos != -1 && column.contains(pos)) {
+				res.write(i, column.getBoolean(pos) ? 1 : 0);
+			} else {
+				res.write(i, defaultValue);
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_attrs_vertex_put_bool_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store an attribute of many vertices at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array of vertices", "@param count number of vertices",
+					"@param name the attribute name",
+					"@param values array of size count with the attribute values, non-zero for true" })
+	public static int putVertexBooleanAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer vertices,
+			int count, CCharPointer namePtr, CIntPointer values) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_put_bool_bulk");
+		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Long> attrs = graph.getStore().getVertexAttributes();
+		for (int i = 0; i < count; i++) {
+			vertexAttributes(graph, vertices.read(i));
+		}
+		AttributeColumn column = attrs.getOrCreateColumn(name, AttributeType.BOOLEAN);
+		for (int i = 0; i < count; i++) {
+			column.putBoolean(attrs.getOrCreateIndex(vertices.read(i)), values.read(i) != 0);
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_attrs_edge_get_bool_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read an attribute of many edges at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param edges array of edges", "@param count number of edges",
+					"@param name the attribute name", "@param default_value value to use for edges without the attribute",
+					"@param res array of size count with the attribute values, as 0 or 1" })
+	public static int getBooleanEdgeAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer edges,
+			int count, CCharPointer namePtr, int defaultValue, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_get_bool_bulk");
+		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Integer> attrs = graph.getStore().getEdgeAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		for (int i = 0; i < count; i++) {
+			Integer element = edges.read(i);
+			int pos = edgeAttributes(graph, element).indexOf(element);
+			if (column != null && pos != -1 && column.contains(pos)) {
+				res.write(i, column.getBoolean(pos) ? 1 : 0);
+			} else {
+				res.write(i, defaultValue);
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_attrs_edge_put_bool_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store an attribute of many edges at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param edges array of edges", "@param count number of edges",
+					"@param name the attribute name",
+					"@param values array of size count with the attribute values, non-zero for true" })
+	public static int putEdgeBooleanAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer edges,
+			int count, CCharPointer namePtr, CIntPointer values) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_put_bool_bulk");
+		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Integer> attrs = graph.getStore().getEdgeAttributes();
+		for (int i = 0; i < count; i++) {
+			edgeAttributes(graph, edges.read(i));
+		}
+		AttributeColumn column = attrs.getOrCreateColumn(name, AttributeType.BOOLEAN);
+		for (int i = 0; i < count; i++) {
+			column.putBoolean(attrs.getOrCreateIndex(edges.read(i)), values.read(i) != 0);
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
+			+ "graph_attrs_edge_get_bool_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read an attribute of many edges at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param edges array of edges", "@param count number of edges",
+					"@param name the attribute name", "@param default_value value to use for edges without the attribute",
+					"@param res array of size count with the attribute values, as 0 or 1" })
+	public static int getBooleanEdgeAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer edges,
+			int count, CCharPointer namePtr, int defaultValue, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_get_bool_bulk");
+		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Long> attrs = graph.getStore().getEdgeAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		for (int i = 0; i < count; i++) {
+			Long element = edges.read(i);
+			int pos = edgeAttributes(graph, element).indexOf(element);
+			if (column != null && pos != -1 && column.contains(pos)) {
+				res.write(i, column.getBoolean(pos) ? 1 : 0);
+			} else {
+				res.write(i, defaultValue);
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
+			+ "graph_attrs_edge_put_bool_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store an attribute of many edges at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param edges array of edges", "@param count number of edges",
+					"@param name the attribute name",
+					"@param values array of size count with the attribute values, non-zero for true" })
+	public static int putEdgeBooleanAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer edges,
+			int count, CCharPointer namePtr, CIntPointer values) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_put_bool_bulk");
+		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Long> attrs = graph.getStore().getEdgeAttributes();
+		for (int i = 0; i < count; i++) {
+			edgeAttributes(graph, edges.read(i));
+		}
+		AttributeColumn column = attrs.getOrCreateColumn(name, AttributeType.BOOLEAN);
+		for (int i = 0; i < count; i++) {
+			column.putBoolean(attrs.getOrCreateIndex(edges.read(i)), values.read(i) != 0);
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_attrs_vertex_get_str_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read an attribute of many vertices at once. Each value is returned as a handle to a string, "
+							+ "which must be destroyed, or null for vertices without the attribute.",
+					"@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array of vertices", "@param count number of vertices",
+					"@param name the attribute name",
+					"@param res array of size count with the string handles" })
+	public static int getStringVertexAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer vertices,
+			int count, CCharPointer namePtr, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_get_str_bulk");
+		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Integer> attrs = graph.getStore().getVertexAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		for (int i = 0; i < count; i++) {
+			Integer element = vertices.read(i);
+			int pos = vertexAttributes(graph, element).indexOf(element);
+			if (column != null && pos != -1 && column.contains(pos)) {
+				res.write(i, globalHandles.create(StringUtils.toCStringInUtf8(column.getString(pos))));
+			} else {
+				res.write(i, WordFactory.nullPointer());
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "graph_attrs_vertex_put_str_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store an attribute of many vertices at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array of vertices", "@param count number of vertices",
+					"@param name the attribute name", "@param values array of size count with the attribute values" })
+	public static int putVertexStringAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer vertices,
+			int count, CCharPointer namePtr, CCharPointerPointer values) {
+		Metrics.enter("jgrapht_capi_ix_graph_attrs_vertex_put_str_bulk");
+		GraphWithAttributes<Integer, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Integer> attrs = graph.getStore().getVertexAttributes();
+		for (int i = 0; i < count; i++) {
+			vertexAttributes(graph, vertices.read(i));
+		}
+		AttributeColumn column = attrs.getOrCreateColumn(name, AttributeType.STRING);
+		for (int i = 0; i < count; i++) {
+			column.putString(attrs.getOrCreateIndex(vertices.read(i)), StringUtils.toJavaStringFromUtf8(values.read(i)));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_attrs_vertex_get_str_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read an attribute of many vertices at once. Each value is returned as a handle to a string, "
+							+ "which must be destroyed, or null for vertices without the attribute.",
+					"@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array of vertices", "@param count number of vertices",
+					"@param name the attribute name",
+					"@param res array of size count with the string handles" })
+	public static int getStringVertexAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer vertices,
+			int count, CCharPointer namePtr, WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_get_str_bulk");
+		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Long> attrs = graph.getStore().getVertexAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		for (int i = 0; i < count; i++) {
+			Long element = vertices.read(i);
+			int pos = vertexAttributes(graph, element).indexOf(element);
+			if (column != null && pos != -1 && column.contains(pos)) {
+				res.write(i, globalHandles.create(StringUtils.toCStringInUtf8(column.getString(pos))));
+			} else {
+				res.write(i, WordFactory.nullPointer());
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "graph_attrs_vertex_put_str_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store an attribute of many vertices at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param vertices array of vertices", "@param count number of vertices",
+					"@param name the attribute name", "@param values array of size count with the attribute values" })
+	public static int putVertexStringAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer vertices,
+			int count, CCharPointer namePtr, CCharPointerPointer values) {
+		Metrics.enter("jgrapht_capi_lx_graph_attrs_vertex_put_str_bulk");
+		GraphWithAttributes<Long, ?> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Long> attrs = graph.getStore().getVertexAttributes();
+		for (int i = 0; i < count; i++) {
+			vertexAttributes(graph, vertices.read(i));
+		}
+		AttributeColumn column = attrs.getOrCreateColumn(name, AttributeType.STRING);
+		for (int i = 0; i < count; i++) {
+			column.putString(attrs.getOrCreateIndex(vertices.read(i)), StringUtils.toJavaStringFromUtf8(values.read(i)));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_attrs_edge_get_str_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read an attribute of many edges at once. Each value is returned as a handle to a string, "
+							+ "which must be destroyed, or null for edges without the attribute.",
+					"@param thread the isolate thread",
+					"@param graph the graph handle", "@param edges array of edges", "@param count number of edges",
+					"@param name the attribute name",
+					"@param res array of size count with the string handles" })
+	public static int getStringEdgeAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer edges,
+			int count, CCharPointer namePtr, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_get_str_bulk");
+		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Integer> attrs = graph.getStore().getEdgeAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		for (int i = 0; i < count; i++) {
+			Integer element = edges.read(i);
+			int pos = edgeAttributes(graph, element).indexOf(element);
+			if (column != null && pos != -1 && column.contains(pos)) {
+				res.write(i, globalHandles.create(StringUtils.toCStringInUtf8(column.getString(pos))));
+			} else {
+				res.write(i, WordFactory.nullPointer());
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
+			+ "graph_attrs_edge_put_str_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store an attribute of many edges at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param edges array of edges", "@param count number of edges",
+					"@param name the attribute name", "@param values array of size count with the attribute values" })
+	public static int putEdgeStringAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer edges,
+			int count, CCharPointer namePtr, CCharPointerPointer values) {
+		Metrics.enter("jgrapht_capi_xi_graph_attrs_edge_put_str_bulk");
+		GraphWithAttributes<?, Integer> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Integer> attrs = graph.getStore().getEdgeAttributes();
+		for (int i = 0; i < count; i++) {
+			edgeAttributes(graph, edges.read(i));
+		}
+		AttributeColumn column = attrs.getOrCreateColumn(name, AttributeType.STRING);
+		for (int i = 0; i < count; i++) {
+			column.putString(attrs.getOrCreateIndex(edges.read(i)), StringUtils.toJavaStringFromUtf8(values.read(i)));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
+			+ "graph_attrs_edge_get_str_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Read an attribute of many edges at once. Each value is returned as a handle to a string, "
+							+ "which must be destroyed, or null for edges without the attribute.",
+					"@param thread the isolate thread",
+					"@param graph the graph handle", "@param edges array of edges", "@param count number of edges",
+					"@param name the attribute name",
+					"@param res array of size count with the string handles" })
+	public static int getStringEdgeAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer edges,
+			int count, CCharPointer namePtr, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_get_str_bulk");
+		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Long> attrs = graph.getStore().getEdgeAttributes();
+		AttributeColumn column = attrs.getColumn(name);
+		for (int i = 0; i < count; i++) {
+			Long element = edges.read(i);
+			int pos = edgeAttributes(graph, element).indexOf(element);
+			if (column != null && pos != -1 && column.contains(pos)) {
+				res.write(i, globalHandles.create(StringUtils.toCStringInUtf8(column.getString(pos))));
+			} else {
+				res.write(i, WordFactory.nullPointer());
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
+			+ "graph_attrs_edge_put_str_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store an attribute of many edges at once.", "@param thread the isolate thread",
+					"@param graph the graph handle", "@param edges array of edges", "@param count number of edges",
+					"@param name the attribute name", "@param values array of size count with the attribute values" })
+	public static int putEdgeStringAttributeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer edges,
+			int count, CCharPointer namePtr, CCharPointerPointer values) {
+		Metrics.enter("jgrapht_capi_xl_graph_attrs_edge_put_str_bulk");
+		GraphWithAttributes<?, Long> graph = globalHandles.get(graphHandle);
+		String name = StringUtils.toJavaStringFromUtf8(namePtr);
+		ColumnarAttributes<Long> attrs = graph.getStore().getEdgeAttributes();
+		for (int i = 0; i < count; i++) {
+			edgeAttributes(graph, edges.read(i));
+		}
+		AttributeColumn column = attrs.getOrCreateColumn(name, AttributeType.STRING);
+		for (int i = 0; i < count; i++) {
+			column.putString(attrs.getOrCreateIndex(edges.read(i)), StringUtils.toJavaStringFromUtf8(values.read(i)));
+		}
+		return Metrics.success();
+	}
+
+	private static Iterator<Integer> toIds(Iterator<String> names) {
+		return new Iterator<Integer>() {
+			@Override
+			public boolean hasNext() {
+				return names.hasNext();
+			}
+
+			@Override
+			public Integer next() {
+				return AttributeNames.intern(names.next());
+			}
+		};
+	}
+
+	private static Attribute requireGraphAttribute(GraphWithAttributes<?, ?> graph, String name) {
+		Attribute attr = graph.getGraphAttribute(name);
+		if (attr == null) {
+			throw new IllegalArgumentException("Key " + name + " not found");
+		}
+		return attr;
+	}
+
+	private static <V> ColumnarAttributes<V> vertexAttributes(GraphWithAttributes<V, ?> graph, V element) {
+		if (!graph.containsVertex(element)) {
+			throw new IllegalArgumentException("no such vertex in graph: " + element.toString());
+		}
+		return graph.getStore().getVertexAttributes();
+	}
+
+	private static <E> ColumnarAttributes<E> edgeAttributes(GraphWithAttributes<?, E> graph, E element) {
+		if (!graph.containsEdge(element)) {
+			throw new IllegalArgumentException("no such edge in graph: " + element.toString());
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return graph.getStore().getEdgeAttributes();
 	}
 
 }
@@ -31,12 +31,13 @@ import org.jgrapht.GraphPath;
 import org.jgrapht.alg.util.Pair;
 import org.jgrapht.alg.util.Triple;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class HandlesApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	/**
 	 * Destroy a handle
@@ -46,8 +47,40 @@ public class HandlesApi {
 	 */
 	@CEntryPoint(name = Constants.LIB_PREFIX + "handles_destroy", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int destroy(IsolateThread thread, ObjectHandle handle) {
+		Metrics.enter("jgrapht_capi_handles_destroy");
 		globalHandles.destroy(handle);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
+	}
+
+	/**
+	 * Create a handle arena and make it the active arena of the calling thread.
+	 * All handles created by the thread, until the arena is destroyed, belong to
+	 * the arena.
+	 * 
+	 * @param thread the thread
+	 * @param res    the arena handle, which does not belong to any arena
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + "arena_create", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int createArena(IsolateThread thread, WordPointer res) {
+		Metrics.enter("jgrapht_capi_arena_create");
+		ObjectHandle arena = Handles.getHandles().createArena();
+		if (res.isNonNull()) {
+			res.write(arena);
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Destroy a handle arena together with all handles created in it.
+	 * 
+	 * @param thread the thread
+	 * @param arena  the arena handle
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + "arena_destroy", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int destroyArena(IsolateThread thread, ObjectHandle arena) {
+		Metrics.enter("jgrapht_capi_arena_destroy");
+		Handles.getHandles().destroyArena(arena);
+		return Metrics.success();
 	}
 
 	/**
@@ -62,17 +95,19 @@ public class HandlesApi {
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "handles_get_ccharpointer", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int getHandleAsString(IsolateThread thread, ObjectHandle handle, CCharPointerPointer res) {
+		Metrics.enter("jgrapht_capi_handles_get_ccharpointer");
 		CCharPointerHolder cstr = globalHandles.get(handle);
 		if (cstr != null && res.isNonNull()) {
 			res.write(cstr.get());
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "handles_get_edge_pair", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int getHandleAsEdgePair(IsolateThread thread, ObjectHandle handle, CIntPointer source,
 			CIntPointer target) {
+		Metrics.enter("jgrapht_capi_handles_get_edge_pair");
 		Pair<Integer, Integer> pair = globalHandles.get(handle);
 		if (pair != null) {
 			if (source.isNonNull()) {
@@ -82,13 +117,14 @@ public class HandlesApi {
 				target.write(pair.getSecond());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "handles_get_long_edge_pair", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int getHandleAsLongEdgePair(IsolateThread thread, ObjectHandle handle, CLongPointer source,
 			CLongPointer target) {
+		Metrics.enter("jgrapht_capi_handles_get_long_edge_pair");
 		Pair<Long, Long> pair = globalHandles.get(handle);
 		if (pair != null) {
 			if (source.isNonNull()) {
@@ -98,13 +134,14 @@ public class HandlesApi {
 				target.write(pair.getSecond());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "handles_get_edge_triple", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int getHandleAsEdgeTriple(IsolateThread thread, ObjectHandle handle, CIntPointer source,
 			CIntPointer target, CDoublePointer weight) {
+		Metrics.enter("jgrapht_capi_handles_get_edge_triple");
 		Triple<Integer, Integer, Double> triple = globalHandles.get(handle);
 		if (triple != null) {
 			if (source.isNonNull()) {
@@ -117,13 +154,14 @@ public class HandlesApi {
 				weight.write(triple.getThird());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "handles_get_long_edge_triple", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int getHandleAsLongEdgeTriple(IsolateThread thread, ObjectHandle handle, CLongPointer source,
 			CLongPointer target, CDoublePointer weight) {
+		Metrics.enter("jgrapht_capi_handles_get_long_edge_triple");
 		Triple<Long, Long, Double> triple = globalHandles.get(handle);
 		if (triple != null) {
 			if (source.isNonNull()) {
@@ -136,13 +174,14 @@ public class HandlesApi {
 				weight.write(triple.getThird());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "handles_get_str_edge_triple", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int getHandleAsStringEdgeTriple(IsolateThread thread, ObjectHandle handle, CCharPointerPointer source,
 			CCharPointerPointer target, CDoublePointer weight) {
+		Metrics.enter("jgrapht_capi_handles_get_str_edge_triple");
 		Triple<CCharPointerHolder, CCharPointerHolder, Double> triple = globalHandles.get(handle);
 		if (triple != null) {
 			if (source.isNonNull()) {
@@ -155,13 +194,14 @@ public class HandlesApi {
 				weight.write(triple.getThird());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "handles_get_graphpath", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int getHandleAsGraphPath(IsolateThread thread, ObjectHandle handle, CDoublePointer weightRes,
 			CIntPointer startVertexRes, CIntPointer endVertexRes, WordPointer edgeItRes) {
+		Metrics.enter("jgrapht_capi_ix_handles_get_graphpath");
 		GraphPath<Integer, ?> gp = globalHandles.get(handle);
 		if (weightRes.isNonNull()) {
 			weightRes.write(gp.getWeight());
@@ -175,13 +215,14 @@ public class HandlesApi {
 		if (edgeItRes.isNonNull()) {
 			edgeItRes.write(globalHandles.create(gp.getEdgeList().iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "handles_get_graphpath", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int getHandleAsGraphPath(IsolateThread thread, ObjectHandle handle, CDoublePointer weightRes,
 			CLongPointer startVertexRes, CLongPointer endVertexRes, WordPointer edgeItRes) {
+		Metrics.enter("jgrapht_capi_lx_handles_get_graphpath");
 		GraphPath<Long, ?> gp = globalHandles.get(handle);
 		if (weightRes.isNonNull()) {
 			weightRes.write(gp.getWeight());
@@ -195,7 +236,7 @@ public class HandlesApi {
 		if (edgeItRes.isNonNull()) {
 			edgeItRes.write(globalHandles.create(gp.getEdgeList().iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
@@ -19,6 +19,8 @@ package org.jgrapht.capi.impl;
 
 import java.io.File;
 import java.io.StringReader;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.apache.commons.text.StringEscapeUtils;
 import org.apache.commons.text.translate.CharSequenceTranslator;
@@ -27,6 +29,7 @@ import org.graalvm.nativeimage.ObjectHandle;
 import org.graalvm.nativeimage.ObjectHandles;
 import org.graalvm.nativeimage.c.function.CEntryPoint;
 import org.graalvm.nativeimage.c.type.CCharPointer;
+import org.graalvm.nativeimage.c.type.CCharPointerPointer;
 import org.graalvm.nativeimage.c.type.CTypeConversion.CCharPointerHolder;
 import org.jgrapht.Graph;
 import org.jgrapht.capi.Constants;
@@ -39,10 +42,15 @@ import org.jgrapht.capi.JGraphTContext.IntegerToIntegerFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.LFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.LongIdNotifyAttributeFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.LongToLongFunctionPointer;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.custom.io.CustomDIMACSImporter;
 import org.jgrapht.capi.StringUtils;
+import org.jgrapht.capi.attributes.AttributeNames;
+import org.jgrapht.capi.attributes.ColumnarAttributes;
+import org.jgrapht.capi.attributes.GraphAttributesStore;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
+import org.jgrapht.capi.graph.GraphWithAttributes;
 import org.jgrapht.nio.BaseEventDrivenImporter;
 import org.jgrapht.nio.csv.CSVFormat;
 import org.jgrapht.nio.csv.CSVImporter;
@@ -56,13 +64,14 @@ import org.jgrapht.nio.json.JSONImporter;
 
 public class ImporterApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "import_file_dimacs", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int importDIMACSFromFile(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename,
 			IntegerToIntegerFunctionPointer importIdFunctionPointer, IFunctionPointer notifyVertexFunctionPointer,
 			IFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ii_import_file_dimacs");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
 		CustomDIMACSImporter<Integer, Integer> importer = new CustomDIMACSImporter<>();
@@ -73,7 +82,7 @@ public class ImporterApi {
 
 		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -81,6 +90,7 @@ public class ImporterApi {
 	public static int importDIMACSFromFile(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename,
 			LongToLongFunctionPointer importIdFunctionPointer, LFunctionPointer notifyVertexFunctionPointer,
 			LFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ll_import_file_dimacs");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
 		CustomDIMACSImporter<Long, Long> importer = new CustomDIMACSImporter<>();
@@ -91,7 +101,7 @@ public class ImporterApi {
 
 		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -99,6 +109,7 @@ public class ImporterApi {
 	public static int importDIMACSFromString(IsolateThread thread, ObjectHandle graphHandle, CCharPointer input,
 			IntegerToIntegerFunctionPointer importIdFunctionPointer, IFunctionPointer notifyVertexFunctionPointer,
 			IFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ii_import_string_dimacs");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
 		CustomDIMACSImporter<Integer, Integer> importer = new CustomDIMACSImporter<>();
@@ -112,7 +123,7 @@ public class ImporterApi {
 			importer.importGraph(g, reader);
 		}
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -120,6 +131,7 @@ public class ImporterApi {
 	public static int importDIMACSFromString(IsolateThread thread, ObjectHandle graphHandle, CCharPointer input,
 			LongToLongFunctionPointer importIdFunctionPointer, LFunctionPointer notifyVertexFunctionPointer,
 			LFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ll_import_string_dimacs");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
 		CustomDIMACSImporter<Long, Long> importer = new CustomDIMACSImporter<>();
@@ -133,7 +145,7 @@ public class ImporterApi {
 			importer.importGraph(g, reader);
 		}
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -143,6 +155,7 @@ public class ImporterApi {
 			IntegerIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, IFunctionPointer notifyVertexFunctionPointer,
 			IFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ii_import_file_gml");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
 		GmlImporter<Integer, Integer> importer = new GmlImporter<>();
@@ -155,7 +168,7 @@ public class ImporterApi {
 
 		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -165,6 +178,7 @@ public class ImporterApi {
 			LongIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, LFunctionPointer notifyVertexFunctionPointer,
 			LFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ll_import_file_gml");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
 		GmlImporter<Long, Long> importer = new GmlImporter<>();
@@ -177,7 +191,7 @@ public class ImporterApi {
 
 		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -187,6 +201,7 @@ public class ImporterApi {
 			IntegerIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, IFunctionPointer notifyVertexFunctionPointer,
 			IFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ii_import_string_gml");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
 		GmlImporter<Integer, Integer> importer = new GmlImporter<Integer, Integer>();
@@ -202,7 +217,7 @@ public class ImporterApi {
 			importer.importGraph(g, reader);
 		}
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -212,6 +227,7 @@ public class ImporterApi {
 			LongIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, LFunctionPointer notifyVertexFunctionPointer,
 			LFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ll_import_string_gml");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
 		GmlImporter<Long, Long> importer = new GmlImporter<>();
@@ -227,7 +243,7 @@ public class ImporterApi {
 			importer.importGraph(g, reader);
 		}
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -237,6 +253,7 @@ public class ImporterApi {
 			IntegerIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, IFunctionPointer notifyVertexFunctionPointer,
 			IFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ii_import_file_json");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
 		JSONImporter<Integer, Integer> importer = new JSONImporter<Integer, Integer>();
@@ -254,7 +271,7 @@ public class ImporterApi {
 
 		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -264,6 +281,7 @@ public class ImporterApi {
 			LongIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, LFunctionPointer notifyVertexFunctionPointer,
 			LFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ll_import_file_json");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
 		JSONImporter<Long, Long> importer = new JSONImporter<>();
@@ -281,7 +299,7 @@ public class ImporterApi {
 
 		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -291,6 +309,7 @@ public class ImporterApi {
 			IntegerIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, IFunctionPointer notifyVertexFunctionPointer,
 			IFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ii_import_string_json");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
 		JSONImporter<Integer, Integer> importer = new JSONImporter<Integer, Integer>();
@@ -310,7 +329,7 @@ public class ImporterApi {
 			importer.importGraph(g, reader);
 		}
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -320,6 +339,7 @@ public class ImporterApi {
 			LongIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, LFunctionPointer notifyVertexFunctionPointer,
 			LFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ll_import_string_json");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
 		JSONImporter<Long, Long> importer = new JSONImporter<>();
@@ -339,7 +359,7 @@ public class ImporterApi {
 			importer.importGraph(g, reader);
 		}
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -348,6 +368,7 @@ public class ImporterApi {
 			CCharPointerToIntegerFunctionPointer importIdFunctionPointer, IFunctionPointer notifyVertexFunctionPointer,
 			IFunctionPointer notifyEdgeFunctionPointer, ImporterExporterCSVFormat format, boolean import_edge_weights,
 			boolean matrix_format_nodeid, boolean matrix_format_zero_when_no_edge) {
+		Metrics.enter("jgrapht_capi_ii_import_file_csv");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
 		CSVFormat actualFormat = null;
@@ -378,7 +399,7 @@ public class ImporterApi {
 		importer.setParameter(CSVFormat.Parameter.MATRIX_FORMAT_ZERO_WHEN_NO_EDGE, matrix_format_zero_when_no_edge);
 		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -387,6 +408,7 @@ public class ImporterApi {
 			CCharPointerToLongFunctionPointer importIdFunctionPointer, LFunctionPointer notifyVertexFunctionPointer,
 			LFunctionPointer notifyEdgeFunctionPointer, ImporterExporterCSVFormat format, boolean import_edge_weights,
 			boolean matrix_format_nodeid, boolean matrix_format_zero_when_no_edge) {
+		Metrics.enter("jgrapht_capi_ll_import_file_csv");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
 		CSVFormat actualFormat = null;
@@ -417,7 +439,7 @@ public class ImporterApi {
 		importer.setParameter(CSVFormat.Parameter.MATRIX_FORMAT_ZERO_WHEN_NO_EDGE, matrix_format_zero_when_no_edge);
 		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -426,6 +448,7 @@ public class ImporterApi {
 			CCharPointerToIntegerFunctionPointer importIdFunctionPointer, IFunctionPointer notifyVertexFunctionPointer,
 			IFunctionPointer notifyEdgeFunctionPointer, ImporterExporterCSVFormat format, boolean import_edge_weights,
 			boolean matrix_format_nodeid, boolean matrix_format_zero_when_no_edge) {
+		Metrics.enter("jgrapht_capi_ii_import_string_csv");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
 		CSVFormat actualFormat = null;
@@ -461,7 +484,7 @@ public class ImporterApi {
 			importer.importGraph(g, reader);
 		}
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -470,6 +493,7 @@ public class ImporterApi {
 			CCharPointerToLongFunctionPointer importIdFunctionPointer, LFunctionPointer notifyVertexFunctionPointer,
 			LFunctionPointer notifyEdgeFunctionPointer, ImporterExporterCSVFormat format, boolean import_edge_weights,
 			boolean matrix_format_nodeid, boolean matrix_format_zero_when_no_edge) {
+		Metrics.enter("jgrapht_capi_ll_import_string_csv");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
 		CSVFormat actualFormat = null;
@@ -505,7 +529,7 @@ public class ImporterApi {
 			importer.importGraph(g, reader);
 		}
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -515,6 +539,7 @@ public class ImporterApi {
 			IntegerIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, IFunctionPointer notifyVertexFunctionPointer,
 			IFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ii_import_file_gexf");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
 		SimpleGEXFImporter<Integer, Integer> importer = new SimpleGEXFImporter<>();
@@ -533,7 +558,7 @@ public class ImporterApi {
 
 		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -543,6 +568,7 @@ public class ImporterApi {
 			LongIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, LFunctionPointer notifyVertexFunctionPointer,
 			LFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ll_import_file_gexf");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
 		SimpleGEXFImporter<Long, Long> importer = new SimpleGEXFImporter<>();
@@ -561,7 +587,7 @@ public class ImporterApi {
 
 		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -571,6 +597,7 @@ public class ImporterApi {
 			IntegerIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, IFunctionPointer notifyVertexFunctionPointer,
 			IFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ii_import_string_gexf");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
 		SimpleGEXFImporter<Integer, Integer> importer = new SimpleGEXFImporter<>();
@@ -592,7 +619,7 @@ public class ImporterApi {
 			importer.importGraph(g, reader);
 		}
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -602,6 +629,7 @@ public class ImporterApi {
 			LongIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, LFunctionPointer notifyVertexFunctionPointer,
 			LFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ll_import_string_gexf");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
 		SimpleGEXFImporter<Long, Long> importer = new SimpleGEXFImporter<>();
@@ -623,7 +651,7 @@ public class ImporterApi {
 			importer.importGraph(g, reader);
 		}
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -633,6 +661,7 @@ public class ImporterApi {
 			IntegerIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, IFunctionPointer notifyVertexFunctionPointer,
 			IFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ii_import_file_graphml_simple");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
 		SimpleGraphMLImporter<Integer, Integer> importer = new SimpleGraphMLImporter<>();
@@ -651,7 +680,7 @@ public class ImporterApi {
 
 		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -661,6 +690,7 @@ public class ImporterApi {
 			LongIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, LFunctionPointer notifyVertexFunctionPointer,
 			LFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ll_import_file_graphml_simple");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
 		SimpleGraphMLImporter<Long, Long> importer = new SimpleGraphMLImporter<>();
@@ -679,7 +709,7 @@ public class ImporterApi {
 
 		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -689,6 +719,7 @@ public class ImporterApi {
 			IntegerIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, IFunctionPointer notifyVertexFunctionPointer,
 			IFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ii_import_string_graphml_simple");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
 		SimpleGraphMLImporter<Integer, Integer> importer = new SimpleGraphMLImporter<>();
@@ -710,7 +741,7 @@ public class ImporterApi {
 			importer.importGraph(g, reader);
 		}
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -720,6 +751,7 @@ public class ImporterApi {
 			LongIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, LFunctionPointer notifyVertexFunctionPointer,
 			LFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ll_import_string_graphml_simple");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
 		SimpleGraphMLImporter<Long, Long> importer = new SimpleGraphMLImporter<>();
@@ -741,7 +773,7 @@ public class ImporterApi {
 			importer.importGraph(g, reader);
 		}
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -751,6 +783,7 @@ public class ImporterApi {
 			IntegerIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, IFunctionPointer notifyVertexFunctionPointer,
 			IFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ii_import_file_graphml");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
 		GraphMLImporter<Integer, Integer> importer = new GraphMLImporter<>();
@@ -769,7 +802,7 @@ public class ImporterApi {
 
 		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -779,6 +812,7 @@ public class ImporterApi {
 			LongIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, LFunctionPointer notifyVertexFunctionPointer,
 			LFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ll_import_file_graphml");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
 		GraphMLImporter<Long, Long> importer = new GraphMLImporter<>();
@@ -797,7 +831,7 @@ public class ImporterApi {
 
 		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -807,6 +841,7 @@ public class ImporterApi {
 			IntegerIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, IFunctionPointer notifyVertexFunctionPointer,
 			IFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ii_import_string_graphml");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
 		GraphMLImporter<Integer, Integer> importer = new GraphMLImporter<>();
@@ -828,7 +863,7 @@ public class ImporterApi {
 			importer.importGraph(g, reader);
 		}
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -838,6 +873,7 @@ public class ImporterApi {
 			LongIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, LFunctionPointer notifyVertexFunctionPointer,
 			LFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ll_import_string_graphml");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
 		GraphMLImporter<Long, Long> importer = new GraphMLImporter<>();
@@ -859,7 +895,7 @@ public class ImporterApi {
 			importer.importGraph(g, reader);
 		}
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -869,6 +905,7 @@ public class ImporterApi {
 			IntegerIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, IFunctionPointer notifyVertexFunctionPointer,
 			IFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ii_import_file_dot");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
 		DOTImporter<Integer, Integer> importer = new DOTImporter<>();
@@ -885,7 +922,7 @@ public class ImporterApi {
 
 		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -895,6 +932,7 @@ public class ImporterApi {
 			LongIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, LFunctionPointer notifyVertexFunctionPointer,
 			LFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ll_import_file_dot");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
 		DOTImporter<Long, Long> importer = new DOTImporter<>();
@@ -911,7 +949,7 @@ public class ImporterApi {
 
 		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -921,6 +959,7 @@ public class ImporterApi {
 			IntegerIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, IFunctionPointer notifyVertexFunctionPointer,
 			IFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ii_import_string_dot");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
 		DOTImporter<Integer, Integer> importer = new DOTImporter<>();
@@ -940,7 +979,7 @@ public class ImporterApi {
 			importer.importGraph(g, reader);
 		}
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -950,6 +989,7 @@ public class ImporterApi {
 			LongIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, LFunctionPointer notifyVertexFunctionPointer,
 			LFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ll_import_string_dot");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
 		DOTImporter<Long, Long> importer = new DOTImporter<>();
@@ -969,7 +1009,7 @@ public class ImporterApi {
 			importer.importGraph(g, reader);
 		}
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -979,6 +1019,7 @@ public class ImporterApi {
 			IntegerIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, IFunctionPointer notifyVertexFunctionPointer,
 			IFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ii_import_file_graph6sparse6");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
 		Graph6Sparse6Importer<Integer, Integer> importer = new Graph6Sparse6Importer<>();
@@ -996,7 +1037,7 @@ public class ImporterApi {
 
 		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -1006,6 +1047,7 @@ public class ImporterApi {
 			LongIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, LFunctionPointer notifyVertexFunctionPointer,
 			LFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ll_import_file_graph6sparse6");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
 		Graph6Sparse6Importer<Long, Long> importer = new Graph6Sparse6Importer<>();
@@ -1023,7 +1065,7 @@ public class ImporterApi {
 
 		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -1033,6 +1075,7 @@ public class ImporterApi {
 			IntegerIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, IFunctionPointer notifyVertexFunctionPointer,
 			IFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ii_import_string_graph6sparse6");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
 		Graph6Sparse6Importer<Integer, Integer> importer = new Graph6Sparse6Importer<>();
@@ -1053,7 +1096,7 @@ public class ImporterApi {
 			importer.importGraph(g, reader);
 		}
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -1063,6 +1106,7 @@ public class ImporterApi {
 			LongIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, LFunctionPointer notifyVertexFunctionPointer,
 			LFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ll_import_string_graph6sparse6");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
 		Graph6Sparse6Importer<Long, Long> importer = new Graph6Sparse6Importer<>();
@@ -1083,11 +1127,441 @@ public class ImporterApi {
 			importer.importGraph(g, reader);
 		}
 
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	// **************** Utils ****************
 
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "import_file_graphml_attrs", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Import a GraphML graph and store vertex, edge and graph attributes directly in the typed",
+					"attribute columns of the graph, using the declared key types. Attributes whose key is",
+					"listed in callback_keys are passed to the callbacks instead of being stored.",
+					"@param thread the isolate thread", "@param graph the graph handle", "@param filename the input filename",
+					"@param import_id function which converts vertex identifiers to vertices",
+					"@param validate_schema whether to validate the input", "@param callback_keys keys to pass to the callbacks",
+					"@param callback_keys_count number of keys to pass to the callbacks",
+					"@param vertex_attribute_function callback for vertex attributes with a requested key",
+					"@param edge_attribute_function callback for edge attributes with a requested key",
+					"@param notify_vertex function called for each imported vertex",
+					"@param notify_edge function called for each imported edge" })
+	public static int importGraphMLFileWithAttributes(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename,
+			CCharPointerToIntegerFunctionPointer importIdFunctionPointer, boolean validate_schema,
+			CCharPointerPointer callbackKeys, int callbackKeysCount,
+			IntegerIdNotifyAttributeFunctionPointer vertexAttributeFunction,
+			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, IFunctionPointer notifyVertexFunctionPointer,
+			IFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ii_import_file_graphml_attrs");
+		GraphWithAttributes<Integer, Integer> g = globalHandles.get(graphHandle);
+
+		GraphMLImporter<Integer, Integer> importer = new GraphMLImporter<>();
+
+		if (importIdFunctionPointer.isNonNull()) {
+			importer.setVertexFactory(x -> {
+				CCharPointerHolder holder = StringUtils.toCStringInUtf8(x);
+				return importIdFunctionPointer.invoke(holder.get());
+			});
+		}
+
+		setupNotifyVertexEdge(importer, notifyVertexFunctionPointer, notifyEdgeFunctionPointer);
+		setupImportAttributesToStore(importer, g, toKeySet(callbackKeys, callbackKeysCount), vertexAttributeFunction,
+				edgeAttributeFunction);
+
+		importer.setSchemaValidation(validate_schema);
+
+		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
+
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
+			+ "import_file_graphml_attrs", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Import a GraphML graph and store vertex, edge and graph attributes directly in the typed",
+					"attribute columns of the graph, using the declared key types. Attributes whose key is",
+					"listed in callback_keys are passed to the callbacks instead of being stored.",
+					"@param thread the isolate thread", "@param graph the graph handle", "@param filename the input filename",
+					"@param import_id function which converts vertex identifiers to vertices",
+					"@param validate_schema whether to validate the input", "@param callback_keys keys to pass to the callbacks",
+					"@param callback_keys_count number of keys to pass to the callbacks",
+					"@param vertex_attribute_function callback for vertex attributes with a requested key",
+					"@param edge_attribute_function callback for edge attributes with a requested key",
+					"@param notify_vertex function called for each imported vertex",
+					"@param notify_edge function called for each imported edge" })
+	public static int importGraphMLFileWithAttributes(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename,
+			CCharPointerToLongFunctionPointer importIdFunctionPointer, boolean validate_schema,
+			CCharPointerPointer callbackKeys, int callbackKeysCount,
+			LongIdNotifyAttributeFunctionPointer vertexAttributeFunction,
+			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, LFunctionPointer notifyVertexFunctionPointer,
+			LFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ll_import_file_graphml_attrs");
+		GraphWithAttributes<Long, Long> g = globalHandles.get(graphHandle);
+
+		GraphMLImporter<Long, Long> importer = new GraphMLImporter<>();
+
+		if (importIdFunctionPointer.isNonNull()) {
+			importer.setVertexFactory(x -> {
+				CCharPointerHolder holder = StringUtils.toCStringInUtf8(x);
+				return importIdFunctionPointer.invoke(holder.get());
+			});
+		}
+
+		setupNotifyVertexEdge(importer, notifyVertexFunctionPointer, notifyEdgeFunctionPointer);
+		setupImportAttributesToStore(importer, g, toKeySet(callbackKeys, callbackKeysCount), vertexAttributeFunction,
+				edgeAttributeFunction);
+
+		importer.setSchemaValidation(validate_schema);
+
+		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
+
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "import_string_graphml_attrs", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Import a GraphML graph and store vertex, edge and graph attributes directly in the typed",
+					"attribute columns of the graph, using the declared key types. Attributes whose key is",
+					"listed in callback_keys are passed to the callbacks instead of being stored.",
+					"@param thread the isolate thread", "@param graph the graph handle", "@param input the input string",
+					"@param import_id function which converts vertex identifiers to vertices",
+					"@param validate_schema whether to validate the input", "@param callback_keys keys to pass to the callbacks",
+					"@param callback_keys_count number of keys to pass to the callbacks",
+					"@param vertex_attribute_function callback for vertex attributes with a requested key",
+					"@param edge_attribute_function callback for edge attributes with a requested key",
+					"@param notify_vertex function called for each imported vertex",
+					"@param notify_edge function called for each imported edge" })
+	public static int importGraphMLStringWithAttributes(IsolateThread thread, ObjectHandle graphHandle, CCharPointer input,
+			CCharPointerToIntegerFunctionPointer importIdFunctionPointer, boolean validate_schema,
+			CCharPointerPointer callbackKeys, int callbackKeysCount,
+			IntegerIdNotifyAttributeFunctionPointer vertexAttributeFunction,
+			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, IFunctionPointer notifyVertexFunctionPointer,
+			IFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ii_import_string_graphml_attrs");
+		GraphWithAttributes<Integer, Integer> g = globalHandles.get(graphHandle);
+
+		GraphMLImporter<Integer, Integer> importer = new GraphMLImporter<>();
+
+		if (importIdFunctionPointer.isNonNull()) {
+			importer.setVertexFactory(x -> {
+				CCharPointerHolder holder = StringUtils.toCStringInUtf8(x);
+				return importIdFunctionPointer.invoke(holder.get());
+			});
+		}
+
+		setupNotifyVertexEdge(importer, notifyVertexFunctionPointer, notifyEdgeFunctionPointer);
+		setupImportAttributesToStore(importer, g, toKeySet(callbackKeys, callbackKeysCount), vertexAttributeFunction,
+				edgeAttributeFunction);
+
+		importer.setSchemaValidation(validate_schema);
+
+		String inputAsJava = StringUtils.toJavaStringFromUtf8(input);
+		try (StringReader reader = new StringReader(inputAsJava)) {
+			importer.importGraph(g, reader);
+		}
+
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
+			+ "import_string_graphml_attrs", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Import a GraphML graph and store vertex, edge and graph attributes directly in the typed",
+					"attribute columns of the graph, using the declared key types. Attributes whose key is",
+					"listed in callback_keys are passed to the callbacks instead of being stored.",
+					"@param thread the isolate thread", "@param graph the graph handle", "@param input the input string",
+					"@param import_id function which converts vertex identifiers to vertices",
+					"@param validate_schema whether to validate the input", "@param callback_keys keys to pass to the callbacks",
+					"@param callback_keys_count number of keys to pass to the callbacks",
+					"@param vertex_attribute_function callback for vertex attributes with a requested key",
+					"@param edge_attribute_function callback for edge attributes with a requested key",
+					"@param notify_vertex function called for each imported vertex",
+					"@param notify_edge function called for each imported edge" })
+	public static int importGraphMLStringWithAttributes(IsolateThread thread, ObjectHandle graphHandle, CCharPointer input,
+			CCharPointerToLongFunctionPointer importIdFunctionPointer, boolean validate_schema,
+			CCharPointerPointer callbackKeys, int callbackKeysCount,
+			LongIdNotifyAttributeFunctionPointer vertexAttributeFunction,
+			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, LFunctionPointer notifyVertexFunctionPointer,
+			LFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ll_import_string_graphml_attrs");
+		GraphWithAttributes<Long, Long> g = globalHandles.get(graphHandle);
+
+		GraphMLImporter<Long, Long> importer = new GraphMLImporter<>();
+
+		if (importIdFunctionPointer.isNonNull()) {
+			importer.setVertexFactory(x -> {
+				CCharPointerHolder holder = StringUtils.toCStringInUtf8(x);
+				return importIdFunctionPointer.invoke(holder.get());
+			});
+		}
+
+		setupNotifyVertexEdge(importer, notifyVertexFunctionPointer, notifyEdgeFunctionPointer);
+		setupImportAttributesToStore(importer, g, toKeySet(callbackKeys, callbackKeysCount), vertexAttributeFunction,
+				edgeAttributeFunction);
+
+		importer.setSchemaValidation(validate_schema);
+
+		String inputAsJava = StringUtils.toJavaStringFromUtf8(input);
+		try (StringReader reader = new StringReader(inputAsJava)) {
+			importer.importGraph(g, reader);
+		}
+
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "import_file_gexf_attrs", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Import a GEXF graph and store vertex, edge and graph attributes directly in the typed",
+					"attribute columns of the graph, using the declared key types. Attributes whose key is",
+					"listed in callback_keys are passed to the callbacks instead of being stored.",
+					"@param thread the isolate thread", "@param graph the graph handle", "@param filename the input filename",
+					"@param import_id function which converts vertex identifiers to vertices",
+					"@param validate_schema whether to validate the input", "@param callback_keys keys to pass to the callbacks",
+					"@param callback_keys_count number of keys to pass to the callbacks",
+					"@param vertex_attribute_function callback for vertex attributes with a requested key",
+					"@param edge_attribute_function callback for edge attributes with a requested key",
+					"@param notify_vertex function called for each imported vertex",
+					"@param notify_edge function called for each imported edge" })
+	public static int importGEXFFileWithAttributes(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename,
+			CCharPointerToIntegerFunctionPointer importIdFunctionPointer, boolean validate_schema,
+			CCharPointerPointer callbackKeys, int callbackKeysCount,
+			IntegerIdNotifyAttributeFunctionPointer vertexAttributeFunction,
+			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, IFunctionPointer notifyVertexFunctionPointer,
+			IFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ii_import_file_gexf_attrs");
+		GraphWithAttributes<Integer, Integer> g = globalHandles.get(graphHandle);
+
+		SimpleGEXFImporter<Integer, Integer> importer = new SimpleGEXFImporter<>();
+
+		if (importIdFunctionPointer.isNonNull()) {
+			importer.setVertexFactory(x -> {
+				CCharPointerHolder holder = StringUtils.toCStringInUtf8(x);
+				return importIdFunctionPointer.invoke(holder.get());
+			});
+		}
+
+		setupNotifyVertexEdge(importer, notifyVertexFunctionPointer, notifyEdgeFunctionPointer);
+		setupImportAttributesToStore(importer, g, toKeySet(callbackKeys, callbackKeysCount), vertexAttributeFunction,
+				edgeAttributeFunction);
+
+		importer.setSchemaValidation(validate_schema);
+
+		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
+
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
+			+ "import_file_gexf_attrs", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Import a GEXF graph and store vertex, edge and graph attributes directly in the typed",
+					"attribute columns of the graph, using the declared key types. Attributes whose key is",
+					"listed in callback_keys are passed to the callbacks instead of being stored.",
+					"@param thread the isolate thread", "@param graph the graph handle", "@param filename the input filename",
+					"@param import_id function which converts vertex identifiers to vertices",
+					"@param validate_schema whether to validate the input", "@param callback_keys keys to pass to the callbacks",
+					"@param callback_keys_count number of keys to pass to the callbacks",
+					"@param vertex_attribute_function callback for vertex attributes with a requested key",
+					"@param edge_attribute_function callback for edge attributes with a requested key",
+					"@param notify_vertex function called for each imported vertex",
+					"@param notify_edge function called for each imported edge" })
+	public static int importGEXFFileWithAttributes(IsolateThread thread, ObjectHandle graphHandle, CCharPointer filename,
+			CCharPointerToLongFunctionPointer importIdFunctionPointer, boolean validate_schema,
+			CCharPointerPointer callbackKeys, int callbackKeysCount,
+			LongIdNotifyAttributeFunctionPointer vertexAttributeFunction,
+			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, LFunctionPointer notifyVertexFunctionPointer,
+			LFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ll_import_file_gexf_attrs");
+		GraphWithAttributes<Long, Long> g = globalHandles.get(graphHandle);
+
+		SimpleGEXFImporter<Long, Long> importer = new SimpleGEXFImporter<>();
+
+		if (importIdFunctionPointer.isNonNull()) {
+			importer.setVertexFactory(x -> {
+				CCharPointerHolder holder = StringUtils.toCStringInUtf8(x);
+				return importIdFunctionPointer.invoke(holder.get());
+			});
+		}
+
+		setupNotifyVertexEdge(importer, notifyVertexFunctionPointer, notifyEdgeFunctionPointer);
+		setupImportAttributesToStore(importer, g, toKeySet(callbackKeys, callbackKeysCount), vertexAttributeFunction,
+				edgeAttributeFunction);
+
+		importer.setSchemaValidation(validate_schema);
+
+		importer.importGraph(g, new File(StringUtils.toJavaStringFromUtf8(filename)));
+
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "import_string_gexf_attrs", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Import a GEXF graph and store vertex, edge and graph attributes directly in the typed",
+					"attribute columns of the graph, using the declared key types. Attributes whose key is",
+					"listed in callback_keys are passed to the callbacks instead of being stored.",
+					"@param thread the isolate thread", "@param graph the graph handle", "@param input the input string",
+					"@param import_id function which converts vertex identifiers to vertices",
+					"@param validate_schema whether to validate the input", "@param callback_keys keys to pass to the callbacks",
+					"@param callback_keys_count number of keys to pass to the callbacks",
+					"@param vertex_attribute_function callback for vertex attributes with a requested key",
+					"@param edge_attribute_function callback for edge attributes with a requested key",
+					"@param notify_vertex function called for each imported vertex",
+					"@param notify_edge function called for each imported edge" })
+	public static int importGEXFStringWithAttributes(IsolateThread thread, ObjectHandle graphHandle, CCharPointer input,
+			CCharPointerToIntegerFunctionPointer importIdFunctionPointer, boolean validate_schema,
+			CCharPointerPointer callbackKeys, int callbackKeysCount,
+			IntegerIdNotifyAttributeFunctionPointer vertexAttributeFunction,
+			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, IFunctionPointer notifyVertexFunctionPointer,
+			IFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ii_import_string_gexf_attrs");
+		GraphWithAttributes<Integer, Integer> g = globalHandles.get(graphHandle);
+
+		SimpleGEXFImporter<Integer, Integer> importer = new SimpleGEXFImporter<>();
+
+		if (importIdFunctionPointer.isNonNull()) {
+			importer.setVertexFactory(x -> {
+				CCharPointerHolder holder = StringUtils.toCStringInUtf8(x);
+				return importIdFunctionPointer.invoke(holder.get());
+			});
+		}
+
+		setupNotifyVertexEdge(importer, notifyVertexFunctionPointer, notifyEdgeFunctionPointer);
+		setupImportAttributesToStore(importer, g, toKeySet(callbackKeys, callbackKeysCount), vertexAttributeFunction,
+				edgeAttributeFunction);
+
+		importer.setSchemaValidation(validate_schema);
+
+		String inputAsJava = StringUtils.toJavaStringFromUtf8(input);
+		try (StringReader reader = new StringReader(inputAsJava)) {
+			importer.importGraph(g, reader);
+		}
+
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
+			+ "import_string_gexf_attrs", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Import a GEXF graph and store vertex, edge and graph attributes directly in the typed",
+					"attribute columns of the graph, using the declared key types. Attributes whose key is",
+					"listed in callback_keys are passed to the callbacks instead of being stored.",
+					"@param thread the isolate thread", "@param graph the graph handle", "@param input the input string",
+					"@param import_id function which converts vertex identifiers to vertices",
+					"@param validate_schema whether to validate the input", "@param callback_keys keys to pass to the callbacks",
+					"@param callback_keys_count number of keys to pass to the callbacks",
+					"@param vertex_attribute_function callback for vertex attributes with a requested key",
+					"@param edge_attribute_function callback for edge attributes with a requested key",
+					"@param notify_vertex function called for each imported vertex",
+					"@param notify_edge function called for each imported edge" })
+	public static int importGEXFStringWithAttributes(IsolateThread thread, ObjectHandle graphHandle, CCharPointer input,
+			CCharPointerToLongFunctionPointer importIdFunctionPointer, boolean validate_schema,
+			CCharPointerPointer callbackKeys, int callbackKeysCount,
+			LongIdNotifyAttributeFunctionPointer vertexAttributeFunction,
+			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, LFunctionPointer notifyVertexFunctionPointer,
+			LFunctionPointer notifyEdgeFunctionPointer) {
+		Metrics.enter("jgrapht_capi_ll_import_string_gexf_attrs");
+		GraphWithAttributes<Long, Long> g = globalHandles.get(graphHandle);
+
+		SimpleGEXFImporter<Long, Long> importer = new SimpleGEXFImporter<>();
+
+		if (importIdFunctionPointer.isNonNull()) {
+			importer.setVertexFactory(x -> {
+				CCharPointerHolder holder = StringUtils.toCStringInUtf8(x);
+				return importIdFunctionPointer.invoke(holder.get());
+			});
+		}
+
+		setupNotifyVertexEdge(importer, notifyVertexFunctionPointer, notifyEdgeFunctionPointer);
+		setupImportAttributesToStore(importer, g, toKeySet(callbackKeys, callbackKeysCount), vertexAttributeFunction,
+				edgeAttributeFunction);
+
+		importer.setSchemaValidation(validate_schema);
+
+		String inputAsJava = StringUtils.toJavaStringFromUtf8(input);
+		try (StringReader reader = new StringReader(inputAsJava)) {
+			importer.importGraph(g, reader);
+		}
+
+		return Metrics.success();
+	}
+
+	private static void setupImportAttributesToStore(BaseEventDrivenImporter<Integer, Integer> importer,
+			GraphWithAttributes<Integer, Integer> graph, Set<String> callbackKeys,
+			IntegerIdNotifyAttributeFunctionPointer vertexAttributeFunction,
+			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction) {
+		GraphAttributesStore<Integer, Integer> store = graph.getStore();
+		ColumnarAttributes<Integer> vertexAttributes = store.getVertexAttributes();
+		ColumnarAttributes<Integer> edgeAttributes = store.getEdgeAttributes();
+
+		importer.addVertexAttributeConsumer((p, attr) -> {
+			String key = p.getSecond();
+			if (callbackKeys.contains(key)) {
+				if (vertexAttributeFunction.isNonNull()) {
+					CCharPointerHolder valueHolder = StringUtils.toCStringInUtf8(attr.getValue());
+					vertexAttributeFunction.invoke(p.getFirst(), AttributeNames.getCName(key).get(), valueHolder.get());
+				}
+			} else {
+				vertexAttributes.put(p.getFirst(), key, attr);
+			}
+		});
+
+		importer.addEdgeAttributeConsumer((p, attr) -> {
+			String key = p.getSecond();
+			if (callbackKeys.contains(key)) {
+				if (edgeAttributeFunction.isNonNull()) {
+					CCharPointerHolder valueHolder = StringUtils.toCStringInUtf8(attr.getValue());
+					edgeAttributeFunction.invoke(p.getFirst(), AttributeNames.getCName(key).get(), valueHolder.get());
+				}
+			} else {
+				edgeAttributes.put(p.getFirst(), key, attr);
+			}
+		});
+
+		importer.addGraphAttributeConsumer((key, attr) -> {
+			store.putGraphAttribute(key, attr);
+		});
+	}
+
+	private static void setupImportAttributesToStore(BaseEventDrivenImporter<Long, Long> importer,
+			GraphWithAttributes<Long, Long> graph, Set<String> callbackKeys,
+			LongIdNotifyAttributeFunctionPointer vertexAttributeFunction,
+			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction) {
+		GraphAttributesStore<Long, Long> store = graph.getStore();
+		ColumnarAttributes<Long> vertexAttributes = store.getVertexAttributes();
+		ColumnarAttributes<Long> edgeAttributes = store.getEdgeAttributes();
+
+		importer.addVertexAttributeConsumer((p, attr) -> {
+			String key = p.getSecond();
+			if (callbackKeys.contains(key)) {
+				if (vertexAttributeFunction.isNonNull()) {
+					CCharPointerHolder valueHolder = StringUtils.toCStringInUtf8(attr.getValue());
+					vertexAttributeFunction.invoke(p.getFirst(), AttributeNames.getCName(key).get(), valueHolder.get());
+				}
+			} else {
+				vertexAttributes.put(p.getFirst(), key, attr);
+			}
+		});
+
+		importer.addEdgeAttributeConsumer((p, attr) -> {
+			String key = p.getSecond();
+			if (callbackKeys.contains(key)) {
+				if (edgeAttributeFunction.isNonNull()) {
+					CCharPointerHolder valueHolder = StringUtils.toCStringInUtf8(attr.getValue());
+					edgeAttributeFunction.invoke(p.getFirst(), AttributeNames.getCName(key).get(), valueHolder.get());
+				}
+			} else {
+				edgeAttributes.put(p.getFirst(), key, attr);
+			}
+		});
+
+		importer.addGraphAttributeConsumer((key, attr) -> {
+			store.putGraphAttribute(key, attr);
+		});
+	}
+
+	private static Set<String> toKeySet(CCharPointerPointer keys, int count) {
+		Set<String> result = new HashSet<>();
+		for (int i = 0; i < count; i++) {
+			result.add(StringUtils.toJavaStringFromUtf8(keys.read(i)));
+		}
+		return result;
+	}
+
 	private static void setupImportAttributes(BaseEventDrivenImporter<Integer, Integer> importer,
 			IntegerIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, CharSequenceTranslator unescapeTranslator) {
@@ -39,10 +39,11 @@ import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.ImporterExporterCSVFormat;
 import org.jgrapht.capi.JGraphTContext.IntegerIdNotifyAttributeFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.LongIdNotifyAttributeFunctionPointer;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.JGraphTContext.StringIdNotifyAttributeFunctionPointer;
 import org.jgrapht.capi.StringUtils;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 import org.jgrapht.nio.BaseEventDrivenImporter;
 import org.jgrapht.nio.csv.CSVEventDrivenImporter;
 import org.jgrapht.nio.csv.CSVFormat;
@@ -70,7 +71,7 @@ import org.jgrapht.nio.json.JSONEventDrivenImporter;
  */
 public class ImporterEdgeListApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	// ------------------------- DIMACS ------------------------------
 
@@ -78,6 +79,7 @@ public class ImporterEdgeListApi {
 			+ "import_edgelist_noattrs_file_dimacs", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int importEdgelistWithNoAttrsFromDimacsFile(IsolateThread thread, CCharPointer filename,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_import_edgelist_noattrs_file_dimacs");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		DIMACSEventDrivenImporter importer = new DIMACSEventDrivenImporter().renumberVertices(false)
@@ -90,13 +92,14 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "import_edgelist_noattrs_string_dimacs", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int importEdgelistWithNoAttrsFromDimacsString(IsolateThread thread, CCharPointer input,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_import_edgelist_noattrs_string_dimacs");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		DIMACSEventDrivenImporter importer = new DIMACSEventDrivenImporter().renumberVertices(false)
@@ -112,7 +115,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -120,6 +123,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromDimacsFile(IsolateThread thread, CCharPointer filename,
 			StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_import_edgelist_attrs_file_dimacs");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		DIMACSEventDrivenImporter importer = new DIMACSEventDrivenImporter().renumberVertices(false)
@@ -131,7 +135,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -139,6 +143,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromDimacsFile(IsolateThread thread, CCharPointer filename,
 			StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_import_edgelist_attrs_file_dimacs");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		DIMACSEventDrivenImporter importer = new DIMACSEventDrivenImporter().renumberVertices(false)
@@ -150,7 +155,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -158,6 +163,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromDimacsString(IsolateThread thread, CCharPointer input,
 			StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_import_edgelist_attrs_string_dimacs");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		DIMACSEventDrivenImporter importer = new DIMACSEventDrivenImporter().renumberVertices(false)
@@ -172,7 +178,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -180,6 +186,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromDimacsString(IsolateThread thread, CCharPointer input,
 			StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_import_edgelist_attrs_string_dimacs");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		DIMACSEventDrivenImporter importer = new DIMACSEventDrivenImporter().renumberVertices(false)
@@ -194,7 +201,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	// ------------------------- GML ---------------------------------
@@ -203,6 +210,7 @@ public class ImporterEdgeListApi {
 			+ "import_edgelist_noattrs_file_gml", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int importEdgelistWithNoAttrsFromGmlFile(IsolateThread thread, CCharPointer filename,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_import_edgelist_noattrs_file_gml");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		GmlEventDrivenImporter importer = new GmlEventDrivenImporter();
@@ -214,13 +222,14 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "import_edgelist_noattrs_string_gml", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int importEdgelistWithNoAttrsFromGmlString(IsolateThread thread, CCharPointer input,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_import_edgelist_noattrs_string_gml");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		GmlEventDrivenImporter importer = new GmlEventDrivenImporter();
@@ -235,7 +244,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -243,6 +252,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromGmlFile(IsolateThread thread, CCharPointer filename,
 			StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_import_edgelist_attrs_file_gml");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		GmlEventDrivenImporter importer = new GmlEventDrivenImporter();
@@ -253,7 +263,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -261,6 +271,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromGmlFile(IsolateThread thread, CCharPointer filename,
 			StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_import_edgelist_attrs_file_gml");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		GmlEventDrivenImporter importer = new GmlEventDrivenImporter();
@@ -271,7 +282,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -279,6 +290,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromGmlString(IsolateThread thread, CCharPointer input,
 			StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_import_edgelist_attrs_string_gml");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		GmlEventDrivenImporter importer = new GmlEventDrivenImporter();
@@ -292,7 +304,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -300,6 +312,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromGmlString(IsolateThread thread, CCharPointer input,
 			StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_import_edgelist_attrs_string_gml");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		GmlEventDrivenImporter importer = new GmlEventDrivenImporter();
@@ -313,7 +326,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	// ------------------------- JSON ---------------------------------
@@ -322,6 +335,7 @@ public class ImporterEdgeListApi {
 			+ "import_edgelist_noattrs_file_json", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int importEdgelistWithNoAttrsFromJsonFile(IsolateThread thread, CCharPointer filename,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_import_edgelist_noattrs_file_json");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 		JSONEventDrivenImporter importer = new JSONEventDrivenImporter();
 
@@ -332,13 +346,14 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "import_edgelist_noattrs_string_json", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int importEdgelistWithNoAttrsFromJsonString(IsolateThread thread, CCharPointer input,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_import_edgelist_noattrs_string_json");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 		JSONEventDrivenImporter importer = new JSONEventDrivenImporter();
 		setupImporterWithEdgeList(importer, edgelist);
@@ -351,7 +366,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -359,6 +374,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromJsonFile(IsolateThread thread, CCharPointer filename,
 			StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_import_edgelist_attrs_file_json");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 		JSONEventDrivenImporter importer = new JSONEventDrivenImporter();
 
@@ -369,7 +385,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -377,6 +393,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromJsonFile(IsolateThread thread, CCharPointer filename,
 			StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_import_edgelist_attrs_file_json");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 		JSONEventDrivenImporter importer = new JSONEventDrivenImporter();
 
@@ -387,7 +404,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -395,6 +412,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromJsonString(IsolateThread thread, CCharPointer input,
 			StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_import_edgelist_attrs_string_json");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 		JSONEventDrivenImporter importer = new JSONEventDrivenImporter();
 		setupImporterWithEdgeListWithIds(importer, edgelist, vertexAttributeFunction, edgeAttributeFunction,
@@ -407,7 +425,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -415,6 +433,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromJsonString(IsolateThread thread, CCharPointer input,
 			StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_import_edgelist_attrs_string_json");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 		JSONEventDrivenImporter importer = new JSONEventDrivenImporter();
 		setupImporterWithEdgeListWithIds(importer, edgelist, vertexAttributeFunction, edgeAttributeFunction,
@@ -427,7 +446,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	// ------------------------- CSV ---------------------------------
@@ -437,6 +456,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithNoAttrsFromCsvFile(IsolateThread thread, CCharPointer filename,
 			ImporterExporterCSVFormat format, boolean import_edge_weights, boolean matrix_format_nodeid,
 			boolean matrix_format_zero_when_no_edge, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_import_edgelist_noattrs_file_csv");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		CSVFormat actualFormat = null;
@@ -465,7 +485,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
@@ -473,6 +493,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithNoAttrsFromCsvString(IsolateThread thread, CCharPointer input,
 			ImporterExporterCSVFormat format, boolean import_edge_weights, boolean matrix_format_nodeid,
 			boolean matrix_format_zero_when_no_edge, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_import_edgelist_noattrs_string_csv");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		CSVFormat actualFormat = null;
@@ -504,7 +525,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -514,6 +535,7 @@ public class ImporterEdgeListApi {
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, ImporterExporterCSVFormat format,
 			boolean import_edge_weights, boolean matrix_format_nodeid, boolean matrix_format_zero_when_no_edge,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_import_edgelist_attrs_file_csv");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		CSVFormat actualFormat = null;
@@ -541,7 +563,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -551,6 +573,7 @@ public class ImporterEdgeListApi {
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, ImporterExporterCSVFormat format,
 			boolean import_edge_weights, boolean matrix_format_nodeid, boolean matrix_format_zero_when_no_edge,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_import_edgelist_attrs_file_csv");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		CSVFormat actualFormat = null;
@@ -578,7 +601,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -588,6 +611,7 @@ public class ImporterEdgeListApi {
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, ImporterExporterCSVFormat format,
 			boolean import_edge_weights, boolean matrix_format_nodeid, boolean matrix_format_zero_when_no_edge,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_import_edgelist_attrs_string_csv");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		CSVFormat actualFormat = null;
@@ -618,7 +642,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -628,6 +652,7 @@ public class ImporterEdgeListApi {
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, ImporterExporterCSVFormat format,
 			boolean import_edge_weights, boolean matrix_format_nodeid, boolean matrix_format_zero_when_no_edge,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_import_edgelist_attrs_string_csv");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		CSVFormat actualFormat = null;
@@ -658,7 +683,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	// ------------------------- GEFX ---------------------------------
@@ -667,6 +692,7 @@ public class ImporterEdgeListApi {
 			+ "import_edgelist_noattrs_file_gexf", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int importEdgelistWithNoAttrsFromGexfFile(IsolateThread thread, CCharPointer filename,
 			boolean validate_schema, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_import_edgelist_noattrs_file_gexf");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		SimpleGEXFEventDrivenImporter importer = new SimpleGEXFEventDrivenImporter();
@@ -679,13 +705,14 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "import_edgelist_noattrs_string_gexf", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int importEdgelistWithNoAttrsFromGexfString(IsolateThread thread, CCharPointer input,
 			boolean validate_schema, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_import_edgelist_noattrs_string_gexf");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		SimpleGEXFEventDrivenImporter importer = new SimpleGEXFEventDrivenImporter();
@@ -701,7 +728,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -709,6 +736,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromGexfFile(IsolateThread thread, CCharPointer filename,
 			boolean validate_schema, StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_import_edgelist_attrs_file_gexf");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		SimpleGEXFEventDrivenImporter importer = new SimpleGEXFEventDrivenImporter();
@@ -720,7 +748,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -728,6 +756,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromGexfFile(IsolateThread thread, CCharPointer filename,
 			boolean validate_schema, StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_import_edgelist_attrs_file_gexf");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		SimpleGEXFEventDrivenImporter importer = new SimpleGEXFEventDrivenImporter();
@@ -739,7 +768,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -747,6 +776,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromGexfString(IsolateThread thread, CCharPointer input,
 			boolean validate_schema, StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_import_edgelist_attrs_string_gexf");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		SimpleGEXFEventDrivenImporter importer = new SimpleGEXFEventDrivenImporter();
@@ -761,7 +791,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -769,6 +799,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromGexfString(IsolateThread thread, CCharPointer input,
 			boolean validate_schema, StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_import_edgelist_attrs_string_gexf");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		SimpleGEXFEventDrivenImporter importer = new SimpleGEXFEventDrivenImporter();
@@ -783,7 +814,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	// ------------------------ GraphML simple -----------------------
@@ -792,6 +823,7 @@ public class ImporterEdgeListApi {
 			+ "import_edgelist_noattrs_file_graphml_simple", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int importEdgelistWithNoAttrsFromGraphmlSimpleFile(IsolateThread thread, CCharPointer filename,
 			boolean validate_schema, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_import_edgelist_noattrs_file_graphml_simple");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		SimpleGraphMLEventDrivenImporter importer = new SimpleGraphMLEventDrivenImporter();
@@ -804,13 +836,14 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "import_edgelist_noattrs_string_graphml_simple", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int importEdgelistWithNoAttrsFromGraphmlSimpleString(IsolateThread thread, CCharPointer input,
 			boolean validate_schema, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_import_edgelist_noattrs_string_graphml_simple");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		SimpleGraphMLEventDrivenImporter importer = new SimpleGraphMLEventDrivenImporter();
@@ -826,7 +859,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -834,6 +867,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromGraphmlSimpleFile(IsolateThread thread, CCharPointer filename,
 			boolean validate_schema, StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_import_edgelist_attrs_file_graphml_simple");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		SimpleGraphMLEventDrivenImporter importer = new SimpleGraphMLEventDrivenImporter();
@@ -845,7 +879,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -853,6 +887,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromGraphmlSimpleFile(IsolateThread thread, CCharPointer filename,
 			boolean validate_schema, StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_import_edgelist_attrs_file_graphml_simple");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		SimpleGraphMLEventDrivenImporter importer = new SimpleGraphMLEventDrivenImporter();
@@ -864,7 +899,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -872,6 +907,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromGraphmlSimpleString(IsolateThread thread, CCharPointer input,
 			boolean validate_schema, StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_import_edgelist_attrs_string_graphml_simple");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		SimpleGraphMLEventDrivenImporter importer = new SimpleGraphMLEventDrivenImporter();
@@ -886,7 +922,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -894,6 +930,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromGraphmlSimpleString(IsolateThread thread, CCharPointer input,
 			boolean validate_schema, StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_import_edgelist_attrs_string_graphml_simple");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		SimpleGraphMLEventDrivenImporter importer = new SimpleGraphMLEventDrivenImporter();
@@ -908,7 +945,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	// ------------------------ GraphML -----------------------------
@@ -917,6 +954,7 @@ public class ImporterEdgeListApi {
 			+ "import_edgelist_noattrs_file_graphml", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int importEdgelistWithNoAttrsFromGraphmlFile(IsolateThread thread, CCharPointer filename,
 			boolean validate_schema, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_import_edgelist_noattrs_file_graphml");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		GraphMLEventDrivenImporter importer = new GraphMLEventDrivenImporter();
@@ -929,13 +967,14 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "import_edgelist_noattrs_string_graphml", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int importEdgelistWithNoAttrsFromGraphmlString(IsolateThread thread, CCharPointer input,
 			boolean validate_schema, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_import_edgelist_noattrs_string_graphml");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		GraphMLEventDrivenImporter importer = new GraphMLEventDrivenImporter();
@@ -951,7 +990,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -959,6 +998,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromGraphmlFile(IsolateThread thread, CCharPointer filename,
 			boolean validate_schema, StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_import_edgelist_attrs_file_graphml");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		GraphMLEventDrivenImporter importer = new GraphMLEventDrivenImporter();
@@ -970,7 +1010,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -978,6 +1018,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromGraphmlFile(IsolateThread thread, CCharPointer filename,
 			boolean validate_schema, StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_import_edgelist_attrs_file_graphml");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		GraphMLEventDrivenImporter importer = new GraphMLEventDrivenImporter();
@@ -989,7 +1030,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -997,6 +1038,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromGraphmlString(IsolateThread thread, CCharPointer input,
 			boolean validate_schema, StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_import_edgelist_attrs_string_graphml");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		GraphMLEventDrivenImporter importer = new GraphMLEventDrivenImporter();
@@ -1011,7 +1053,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -1019,6 +1061,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromGraphmlString(IsolateThread thread, CCharPointer input,
 			boolean validate_schema, StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_import_edgelist_attrs_string_graphml");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		GraphMLEventDrivenImporter importer = new GraphMLEventDrivenImporter();
@@ -1033,7 +1076,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	// ------------------------- Dot ---------------------------------
@@ -1042,6 +1085,7 @@ public class ImporterEdgeListApi {
 			+ "import_edgelist_noattrs_file_dot", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int importEdgelistWithNoAttrsFromDotFile(IsolateThread thread, CCharPointer filename,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_import_edgelist_noattrs_file_dot");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		DOTEventDrivenImporter importer = new DOTEventDrivenImporter();
@@ -1053,13 +1097,14 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "import_edgelist_noattrs_string_dot", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int importEdgelistWithNoAttrsFromDotString(IsolateThread thread, CCharPointer input,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_import_edgelist_noattrs_string_dot");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		DOTEventDrivenImporter importer = new DOTEventDrivenImporter();
@@ -1074,7 +1119,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -1082,6 +1127,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromDotFile(IsolateThread thread, CCharPointer filename,
 			StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_import_edgelist_attrs_file_dot");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		DOTEventDrivenImporter importer = new DOTEventDrivenImporter();
@@ -1092,7 +1138,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -1100,6 +1146,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromDotFile(IsolateThread thread, CCharPointer filename,
 			StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_import_edgelist_attrs_file_dot");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		DOTEventDrivenImporter importer = new DOTEventDrivenImporter();
@@ -1110,7 +1157,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -1118,6 +1165,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromDotString(IsolateThread thread, CCharPointer input,
 			StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_import_edgelist_attrs_string_dot");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		DOTEventDrivenImporter importer = new DOTEventDrivenImporter();
@@ -1131,7 +1179,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -1139,6 +1187,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromDotString(IsolateThread thread, CCharPointer input,
 			StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_import_edgelist_attrs_string_dot");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		DOTEventDrivenImporter importer = new DOTEventDrivenImporter();
@@ -1152,7 +1201,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	// ------------------------- graph6sparse6 ---------------------------------
@@ -1161,6 +1210,7 @@ public class ImporterEdgeListApi {
 			+ "import_edgelist_noattrs_file_graph6sparse6", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int importEdgelistWithNoAttrsFromGraph6Sparse6File(IsolateThread thread, CCharPointer filename,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_import_edgelist_noattrs_file_graph6sparse6");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		Graph6Sparse6EventDrivenImporter importer = new Graph6Sparse6EventDrivenImporter();
@@ -1172,13 +1222,14 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "import_edgelist_noattrs_string_graph6sparse6", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int importEdgelistWithNoAttrsFromGraph6Sparse6String(IsolateThread thread, CCharPointer input,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_import_edgelist_noattrs_string_graph6sparse6");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		Graph6Sparse6EventDrivenImporter importer = new Graph6Sparse6EventDrivenImporter();
@@ -1193,7 +1244,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -1201,6 +1252,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromGraph6Sparse6File(IsolateThread thread, CCharPointer filename,
 			StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_import_edgelist_attrs_file_graph6sparse6");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		Graph6Sparse6EventDrivenImporter importer = new Graph6Sparse6EventDrivenImporter();
@@ -1211,7 +1263,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -1219,6 +1271,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromGraph6Sparse6File(IsolateThread thread, CCharPointer filename,
 			StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_import_edgelist_attrs_file_graph6sparse6");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		Graph6Sparse6EventDrivenImporter importer = new Graph6Sparse6EventDrivenImporter();
@@ -1229,7 +1282,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
@@ -1237,6 +1290,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromGraph6Sparse6String(IsolateThread thread, CCharPointer input,
 			StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			IntegerIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_import_edgelist_attrs_string_graph6sparse6");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		Graph6Sparse6EventDrivenImporter importer = new Graph6Sparse6EventDrivenImporter();
@@ -1250,7 +1304,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
@@ -1258,6 +1312,7 @@ public class ImporterEdgeListApi {
 	public static int importEdgelistWithAttrsFromGraph6Sparse6String(IsolateThread thread, CCharPointer input,
 			StringIdNotifyAttributeFunctionPointer vertexAttributeFunction,
 			LongIdNotifyAttributeFunctionPointer edgeAttributeFunction, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_import_edgelist_attrs_string_graph6sparse6");
 		List<Triple<CCharPointerHolder, CCharPointerHolder, Double>> edgelist = new ArrayList<>();
 
 		Graph6Sparse6EventDrivenImporter importer = new Graph6Sparse6EventDrivenImporter();
@@ -1271,7 +1326,7 @@ public class ImporterEdgeListApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edgelist));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	// ---------------------- utils -----------------------------------
@@ -27,17 +27,19 @@ import org.graalvm.nativeimage.c.type.WordPointer;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.independentset.ChordalGraphIndependentSetFinder;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class IndependentSetApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "independent_set_exec_chordal_max_independent_set", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeChordalMaxIndependentSet(IsolateThread thread, ObjectHandle graphHandle,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_independent_set_exec_chordal_max_independent_set");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		ChordalGraphIndependentSetFinder<V, E> alg = new ChordalGraphIndependentSetFinder<>(g);
 		Set<V> result = alg.getIndependentSet();
@@ -47,7 +49,7 @@ public class IndependentSetApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
@@ -12,17 +12,19 @@ import org.jgrapht.GraphMapping;
 import org.jgrapht.alg.isomorphism.VF2GraphIsomorphismInspector;
 import org.jgrapht.alg.isomorphism.VF2SubgraphIsomorphismInspector;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class IsomorphismApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "isomorphism_exec_vf2", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int executeVF2(IsolateThread thread, ObjectHandle graph1Handle, ObjectHandle graph2Handle,
 			CIntPointer existsRes, WordPointer graphMappingIteratorRes) {
+		Metrics.enter("jgrapht_capi_xx_isomorphism_exec_vf2");
 		Graph<V, E> g1 = globalHandles.get(graph1Handle);
 		Graph<V, E> g2 = globalHandles.get(graph2Handle);
 
@@ -34,7 +36,7 @@ public class IsomorphismApi {
 		if (exists && graphMappingIteratorRes.isNonNull()) {
 			graphMappingIteratorRes.write(globalHandles.create(alg.getMappings()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -48,6 +50,7 @@ public class IsomorphismApi {
 			+ "isomorphism_exec_vf2_subgraph", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int executeVF2Subgraph(IsolateThread thread, ObjectHandle graph1Handle, ObjectHandle graph2Handle,
 			CIntPointer existsRes, WordPointer graphMappingIteratorRes) {
+		Metrics.enter("jgrapht_capi_xx_isomorphism_exec_vf2_subgraph");
 		Graph<V, E> g1 = globalHandles.get(graph1Handle);
 		Graph<V, E> g2 = globalHandles.get(graph2Handle);
 
@@ -59,13 +62,14 @@ public class IsomorphismApi {
 		if (exists && graphMappingIteratorRes.isNonNull()) {
 			graphMappingIteratorRes.write(globalHandles.create(alg.getMappings()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYINT
 			+ "isomorphism_graph_mapping_edge_correspondence", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int graphMappingEdge(IsolateThread thread, ObjectHandle mappingHandle, int edge, boolean forward,
 			CIntPointer existsEdgeRes, CIntPointer edgeRes) {
+		Metrics.enter("jgrapht_capi_xi_isomorphism_graph_mapping_edge_correspondence");
 		GraphMapping<?, Integer> graphMapping = globalHandles.get(mappingHandle);
 
 		Integer otherEdge = graphMapping.getEdgeCorrespondence(edge, forward);
@@ -79,13 +83,14 @@ public class IsomorphismApi {
 				existsEdgeRes.write(0);
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYLONG
 			+ "isomorphism_graph_mapping_edge_correspondence", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int graphMappingEdge(IsolateThread thread, ObjectHandle mappingHandle, long edge, boolean forward,
 			CIntPointer existsEdgeRes, CLongPointer edgeRes) {
+		Metrics.enter("jgrapht_capi_xl_isomorphism_graph_mapping_edge_correspondence");
 		GraphMapping<?, Long> graphMapping = globalHandles.get(mappingHandle);
 
 		Long otherEdge = graphMapping.getEdgeCorrespondence(edge, forward);
@@ -99,13 +104,14 @@ public class IsomorphismApi {
 				existsEdgeRes.write(0);
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "isomorphism_graph_mapping_vertex_correspondence", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int graphMappingVertex(IsolateThread thread, ObjectHandle mappingHandle, int vertex, boolean forward,
 			CIntPointer existsVertexRes, CIntPointer vertexRes) {
+		Metrics.enter("jgrapht_capi_ix_isomorphism_graph_mapping_vertex_correspondence");
 		GraphMapping<Integer, ?> graphMapping = globalHandles.get(mappingHandle);
 
 		Integer otherVertex = graphMapping.getVertexCorrespondence(vertex, forward);
@@ -119,13 +125,14 @@ public class IsomorphismApi {
 				existsVertexRes.write(0);
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "isomorphism_graph_mapping_vertex_correspondence", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int graphMappingVertex(IsolateThread thread, ObjectHandle mappingHandle, long vertex, boolean forward,
 			CIntPointer existsVertexRes, CLongPointer vertexRes) {
+		Metrics.enter("jgrapht_capi_lx_isomorphism_graph_mapping_vertex_correspondence");
 		GraphMapping<Long, ?> graphMapping = globalHandles.get(mappingHandle);
 
 		Long otherVertex = graphMapping.getVertexCorrespondence(vertex, forward);
@@ -139,7 +146,7 @@ public class IsomorphismApi {
 				existsVertexRes.write(0);
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
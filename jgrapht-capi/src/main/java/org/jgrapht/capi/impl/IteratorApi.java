@@ -32,44 +32,49 @@ import org.graalvm.nativeimage.c.type.WordPointer;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.util.Triple;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class IteratorApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "it_next_int", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int iteratorNextInt(IsolateThread thread, ObjectHandle itHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_it_next_int");
 		Iterator<Integer> it = globalHandles.get(itHandle);
 		if (res.isNonNull()) {
 			res.write(it.next());
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + "it_next_long", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int iteratorNextLong(IsolateThread thread, ObjectHandle itHandle, CLongPointer res) {
+		Metrics.enter("jgrapht_capi_it_next_long");
 		Iterator<Long> it = globalHandles.get(itHandle);
 		if (res.isNonNull()) {
 			res.write(it.next());
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "it_next_double", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int iteratorNextDouble(IsolateThread thread, ObjectHandle itHandle, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_it_next_double");
 		Iterator<Double> it = globalHandles.get(itHandle);
 		if (res.isNonNull()) {
 			res.write(it.next());
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "it_next_int_edge_triple", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int iteratorNextEdgeTriple(IsolateThread thread, ObjectHandle itHandle, CIntPointer source,
 			CIntPointer target, CDoublePointer weight) {
+		Metrics.enter("jgrapht_capi_it_next_int_edge_triple");
 		Iterator<Triple<Integer, Integer, Double>> it = globalHandles.get(itHandle);
 		Triple<Integer, Integer, Double> triple = it.next();
 		if (source.isNonNull()) {
@@ -85,13 +90,14 @@ public class IteratorApi {
 			}
 			weight.write(edgeWeight);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "it_next_long_edge_triple", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int iteratorNextLongEdgeTriple(IsolateThread thread, ObjectHandle itHandle, CLongPointer source,
 			CLongPointer target, CDoublePointer weight) {
+		Metrics.enter("jgrapht_capi_it_next_long_edge_triple");
 		Iterator<Triple<Long, Long, Double>> it = globalHandles.get(itHandle);
 		Triple<Long, Long, Double> triple = it.next();
 		if (source.isNonNull()) {
@@ -107,13 +113,14 @@ public class IteratorApi {
 			}
 			weight.write(edgeWeight);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "it_next_str_edge_triple", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int iteratorNextStrEdgeTriple(IsolateThread thread, ObjectHandle itHandle, CCharPointerPointer source,
 			CCharPointerPointer target, CDoublePointer weight) {
+		Metrics.enter("jgrapht_capi_it_next_str_edge_triple");
 		Iterator<Triple<CCharPointerHolder, CCharPointerHolder, Double>> it = globalHandles.get(itHandle);
 		Triple<CCharPointerHolder, CCharPointerHolder, Double> triple = it.next();
 		if (source.isNonNull()) {
@@ -129,26 +136,28 @@ public class IteratorApi {
 			}
 			weight.write(edgeWeight);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "it_next_object", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int iteratorNextObject(IsolateThread thread, ObjectHandle itHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_it_next_object");
 		Iterator<?> it = globalHandles.get(itHandle);
 		Object o = it.next();
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(o));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "it_hasnext", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int iteratorHasNext(IsolateThread thread, ObjectHandle itHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_it_hasnext");
 		Iterator<?> it = globalHandles.get(itHandle);
 		if (res.isNonNull()) {
 			res.write(it.hasNext() ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
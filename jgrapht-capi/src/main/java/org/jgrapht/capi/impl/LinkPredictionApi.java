@@ -17,11 +17,16 @@
  */
 package org.jgrapht.capi.impl;
 
+import java.util.function.IntFunction;
+
 import org.graalvm.nativeimage.IsolateThread;
 import org.graalvm.nativeimage.ObjectHandle;
 import org.graalvm.nativeimage.ObjectHandles;
 import org.graalvm.nativeimage.c.function.CEntryPoint;
 import org.graalvm.nativeimage.c.type.CDoublePointer;
+import org.graalvm.nativeimage.c.type.CIntPointer;
+import org.graalvm.nativeimage.c.type.CLongPointer;
+import org.graalvm.word.WordFactory;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.linkprediction.AdamicAdarIndexLinkPrediction;
 import org.jgrapht.alg.linkprediction.CommonNeighborsLinkPrediction;
@@ -34,271 +39,497 @@ import org.jgrapht.alg.linkprediction.ResourceAllocationIndexLinkPrediction;
 import org.jgrapht.alg.linkprediction.SaltonIndexLinkPrediction;
 import org.jgrapht.alg.linkprediction.SørensenIndexLinkPrediction;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
+import org.jgrapht.capi.JGraphTContext.LinkPredictionIndex;
+import org.jgrapht.capi.custom.linkprediction.IndexedLinkPrediction;
+import org.jgrapht.capi.custom.linkprediction.IndexedLinkPrediction.Index;
+import org.jgrapht.capi.custom.linkprediction.TopKLinkPrediction;
+import org.jgrapht.capi.custom.util.ParallelUtil;
+import org.jgrapht.capi.custom.util.SortedAdjacency;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class LinkPredictionApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "link_prediction_exec_adamic_adar_index", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executeAdamicAdarIndex(IsolateThread thread, ObjectHandle graphHandle, int u, int v,
 			CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_ix_link_prediction_exec_adamic_adar_index");
 		Graph<Integer, E> g = globalHandles.get(graphHandle);
 
 		double score = new AdamicAdarIndexLinkPrediction<>(g).predict(u, v);
 		if (res.isNonNull()) {
 			res.write(score);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "link_prediction_exec_adamic_adar_index", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executeAdamicAdarIndex(IsolateThread thread, ObjectHandle graphHandle, long u, long v,
 			CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_lx_link_prediction_exec_adamic_adar_index");
 		Graph<Long, E> g = globalHandles.get(graphHandle);
 
 		double score = new AdamicAdarIndexLinkPrediction<>(g).predict(u, v);
 		if (res.isNonNull()) {
 			res.write(score);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "link_prediction_exec_common_neighbors", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executeCommonNeighbors(IsolateThread thread, ObjectHandle graphHandle, int u, int v,
 			CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_ix_link_prediction_exec_common_neighbors");
 		Graph<Integer, E> g = globalHandles.get(graphHandle);
 
 		double score = new CommonNeighborsLinkPrediction<>(g).predict(u, v);
 		if (res.isNonNull()) {
 			res.write(score);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "link_prediction_exec_common_neighbors", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executeCommonNeighbors(IsolateThread thread, ObjectHandle graphHandle, long u, long v,
 			CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_lx_link_prediction_exec_common_neighbors");
 		Graph<Long, E> g = globalHandles.get(graphHandle);
 
 		double score = new CommonNeighborsLinkPrediction<>(g).predict(u, v);
 		if (res.isNonNull()) {
 			res.write(score);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "link_prediction_exec_hub_depressed_index", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executeHubDepressedIndexLinkPrediction(IsolateThread thread, ObjectHandle graphHandle, int u,
 			int v, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_ix_link_prediction_exec_hub_depressed_index");
 		Graph<Integer, E> g = globalHandles.get(graphHandle);
 
 		double score = new HubDepressedIndexLinkPrediction<>(g).predict(u, v);
 		if (res.isNonNull()) {
 			res.write(score);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "link_prediction_exec_hub_depressed_index", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executeexecuteHubDepressedIndexLinkPrediction(IsolateThread thread, ObjectHandle graphHandle,
 			long u, long v, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_lx_link_prediction_exec_hub_depressed_index");
 		Graph<Long, E> g = globalHandles.get(graphHandle);
 
 		double score = new HubDepressedIndexLinkPrediction<>(g).predict(u, v);
 		if (res.isNonNull()) {
 			res.write(score);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "link_prediction_exec_hub_promoted_index", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executeHubPromotedIndexLinkPrediction(IsolateThread thread, ObjectHandle graphHandle, int u,
 			int v, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_ix_link_prediction_exec_hub_promoted_index");
 		Graph<Integer, E> g = globalHandles.get(graphHandle);
 
 		double score = new HubPromotedIndexLinkPrediction<>(g).predict(u, v);
 		if (res.isNonNull()) {
 			res.write(score);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "link_prediction_exec_hub_promoted_index", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executeexecuteHubPromotedIndexLinkPrediction(IsolateThread thread, ObjectHandle graphHandle,
 			long u, long v, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_lx_link_prediction_exec_hub_promoted_index");
 		Graph<Long, E> g = globalHandles.get(graphHandle);
 
 		double score = new HubPromotedIndexLinkPrediction<>(g).predict(u, v);
 		if (res.isNonNull()) {
 			res.write(score);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "link_prediction_exec_jaccard_coefficient", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executeJaccardCoefficientLinkPrediction(IsolateThread thread, ObjectHandle graphHandle, int u,
 			int v, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_ix_link_prediction_exec_jaccard_coefficient");
 		Graph<Integer, E> g = globalHandles.get(graphHandle);
 
 		double score = new JaccardCoefficientLinkPrediction<>(g).predict(u, v);
 		if (res.isNonNull()) {
 			res.write(score);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "link_prediction_exec_jaccard_coefficient", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executeJaccardCoefficientLinkPrediction(IsolateThread thread, ObjectHandle graphHandle,
 			long u, long v, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_lx_link_prediction_exec_jaccard_coefficient");
 		Graph<Long, E> g = globalHandles.get(graphHandle);
 
 		double score = new JaccardCoefficientLinkPrediction<>(g).predict(u, v);
 		if (res.isNonNull()) {
 			res.write(score);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "link_prediction_exec_leicht_holme_newman_index", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executeLeichtHolmeNewmanIndexLinkPrediction(IsolateThread thread, ObjectHandle graphHandle,
 			int u, int v, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_ix_link_prediction_exec_leicht_holme_newman_index");
 		Graph<Integer, E> g = globalHandles.get(graphHandle);
 
 		double score = new LeichtHolmeNewmanIndexLinkPrediction<>(g).predict(u, v);
 		if (res.isNonNull()) {
 			res.write(score);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "link_prediction_exec_leicht_holme_newman_index", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executeLeichtHolmeNewmanIndexLinkPrediction(IsolateThread thread, ObjectHandle graphHandle,
 			long u, long v, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_lx_link_prediction_exec_leicht_holme_newman_index");
 		Graph<Long, E> g = globalHandles.get(graphHandle);
 
 		double score = new LeichtHolmeNewmanIndexLinkPrediction<>(g).predict(u, v);
 		if (res.isNonNull()) {
 			res.write(score);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "link_prediction_exec_preferential_attachment", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executePreferentialAttachmentLinkPrediction(IsolateThread thread, ObjectHandle graphHandle,
 			int u, int v, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_ix_link_prediction_exec_preferential_attachment");
 		Graph<Integer, E> g = globalHandles.get(graphHandle);
 
 		double score = new PreferentialAttachmentLinkPrediction<>(g).predict(u, v);
 		if (res.isNonNull()) {
 			res.write(score);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "link_prediction_exec_preferential_attachment", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executePreferentialAttachmentLinkPrediction(IsolateThread thread, ObjectHandle graphHandle,
 			long u, long v, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_lx_link_prediction_exec_preferential_attachment");
 		Graph<Long, E> g = globalHandles.get(graphHandle);
 
 		double score = new PreferentialAttachmentLinkPrediction<>(g).predict(u, v);
 		if (res.isNonNull()) {
 			res.write(score);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "link_prediction_exec_resource_allocation_index", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executeResourceAllocationIndexLinkPrediction(IsolateThread thread, ObjectHandle graphHandle,
 			int u, int v, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_ix_link_prediction_exec_resource_allocation_index");
 		Graph<Integer, E> g = globalHandles.get(graphHandle);
 
 		double score = new ResourceAllocationIndexLinkPrediction<>(g).predict(u, v);
 		if (res.isNonNull()) {
 			res.write(score);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "link_prediction_exec_resource_allocation_index", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executeResourceAllocationIndexLinkPrediction(IsolateThread thread, ObjectHandle graphHandle,
 			long u, long v, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_lx_link_prediction_exec_resource_allocation_index");
 		Graph<Long, E> g = globalHandles.get(graphHandle);
 
 		double score = new ResourceAllocationIndexLinkPrediction<>(g).predict(u, v);
 		if (res.isNonNull()) {
 			res.write(score);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "link_prediction_exec_salton_index", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executeSaltonIndexLinkPrediction(IsolateThread thread, ObjectHandle graphHandle, int u, int v,
 			CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_ix_link_prediction_exec_salton_index");
 		Graph<Integer, E> g = globalHandles.get(graphHandle);
 
 		double score = new SaltonIndexLinkPrediction<>(g).predict(u, v);
 		if (res.isNonNull()) {
 			res.write(score);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "link_prediction_exec_salton_index", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executeSaltonIndexLinkPrediction(IsolateThread thread, ObjectHandle graphHandle, long u,
 			long v, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_lx_link_prediction_exec_salton_index");
 		Graph<Long, E> g = globalHandles.get(graphHandle);
 
 		double score = new SaltonIndexLinkPrediction<>(g).predict(u, v);
 		if (res.isNonNull()) {
 			res.write(score);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "link_prediction_exec_sorensen_index", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executeSørensenIndexLinkPrediction(IsolateThread thread, ObjectHandle graphHandle, int u,
 			int v, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_ix_link_prediction_exec_sorensen_index");
 		Graph<Integer, E> g = globalHandles.get(graphHandle);
 
 		double score = new SørensenIndexLinkPrediction<>(g).predict(u, v);
 		if (res.isNonNull()) {
 			res.write(score);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "link_prediction_exec_sorensen_index", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int executeSørensenIndexLinkPrediction(IsolateThread thread, ObjectHandle graphHandle, long u,
 			long v, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_lx_link_prediction_exec_sorensen_index");
 		Graph<Long, E> g = globalHandles.get(graphHandle);
 
 		double score = new SørensenIndexLinkPrediction<>(g).predict(u, v);
 		if (res.isNonNull()) {
 			res.write(score);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Score an array of vertex pairs with multiple link prediction indices in parallel.",
+					"Pairs for which an index is not well defined are scored as NaN.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param sources array with the first vertex of each pair",
+					"@param targets array with the second vertex of each pair", "@param count number of pairs",
+					"@param indices array of link_prediction_index_t values",
+					"@param indices_count number of indices", "@param parallelism how many threads to use",
+					"@param res row-major result matrix of size count times indices_count" })
+	public static <E> int executeBulk(IsolateThread thread, ObjectHandle graphHandle, CIntPointer sources,
+			CIntPointer targets, int count, CIntPointer indices, int indicesCount, int parallelism,
+			CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_ix_link_prediction_exec_bulk");
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		executeBulk(g, i -> sources.read(i), i -> targets.read(i), count, indices, indicesCount, parallelism, res);
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Score an array of vertex pairs with multiple link prediction indices in parallel.",
+					"Pairs for which an index is not well defined are scored as NaN.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param sources array with the first vertex of each pair",
+					"@param targets array with the second vertex of each pair", "@param count number of pairs",
+					"@param indices array of link_prediction_index_t values",
+					"@param indices_count number of indices", "@param parallelism how many threads to use",
+					"@param res row-major result matrix of size count times indices_count" })
+	public static <E> int executeBulk(IsolateThread thread, ObjectHandle graphHandle, CLongPointer sources,
+			CLongPointer targets, int count, CIntPointer indices, int indicesCount, int parallelism,
+			CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_lx_link_prediction_exec_bulk");
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		executeBulk(g, i -> sources.read(i), i -> targets.read(i), count, indices, indicesCount, parallelism, res);
+		return Metrics.success();
+	}
+
+	private static <V, E> void executeBulk(Graph<V, E> g, IntFunction<V> sources, IntFunction<V> targets, int count,
+			CIntPointer indicesPtr, int indicesCount, int parallelism, CDoublePointer res) {
+		if (count < 0 || indicesCount < 0) {
+			throw new IllegalArgumentException("Counts cannot be negative");
+		}
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be positive");
+		}
+		if (count == 0 || indicesCount == 0) {
+			return;
+		}
+		if (res.isNull()) {
+			throw new NullPointerException("Result array cannot be null");
+		}
+
+		Index[] indices = toIndices(indicesPtr, indicesCount);
+		IndexedLinkPrediction<V> alg = new IndexedLinkPrediction<>(g);
+		SortedAdjacency<V> adjacency = alg.getAdjacency();
+
+		ParallelUtil.forEachChunk(parallelism, count, (from, to) -> {
+			int[] buffer = alg.createBuffer();
+			double[] row = new double[indices.length];
+			for (int i = from; i < to; i++) {
+				int u = adjacency.getIndex(sources.apply(i));
+				int v = adjacency.getIndex(targets.apply(i));
+				alg.score(u, v, indices, buffer, row, 0);
+				long pos = (long) i * indices.length;
+				for (int k = 0; k < indices.length; k++) {
+					res.write(WordFactory.signed(pos + k), row[k]);
+				}
+			}
+		});
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "link_prediction_exec_topk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Compute the best k new links of each source vertex in parallel.",
+					"Candidates are the vertices which share at least one neighbor with the source and are not",
+					"already its successors. Candidates for which the index is not well defined are skipped.",
+					"The results of the i-th source are stored at positions [i*k, i*k+res_counts[i]) in",
+					"decreasing order of score.", "@param thread the isolate thread", "@param graph the graph handle",
+					"@param sources array with the source vertices", "@param sources_count number of sources",
+					"@param index the link prediction index", "@param k how many links to compute per source",
+					"@param parallelism how many threads to use",
+					"@param res_targets array of size sources_count times k for the targets of the links",
+					"@param res_scores array of size sources_count times k for the scores of the links",
+					"@param res_counts array of size sources_count for the number of links of each source" })
+	public static <E> int executeTopK(IsolateThread thread, ObjectHandle graphHandle, CIntPointer sources,
+			int sourcesCount, LinkPredictionIndex index, int k, int parallelism, CIntPointer resTargets,
+			CDoublePointer resScores, CIntPointer resCounts) {
+		Metrics.enter("jgrapht_capi_ix_link_prediction_exec_topk");
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		executeTopK(g, i -> sources.read(i), sourcesCount, index, k, parallelism, resScores, resCounts,
+				(pos, target) -> resTargets.write(pos, target.intValue()));
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "link_prediction_exec_topk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Compute the best k new links of each source vertex in parallel.",
+					"Candidates are the vertices which share at least one neighbor with the source and are not",
+					"already its successors. Candidates for which the index is not well defined are skipped.",
+					"The results of the i-th source are stored at positions [i*k, i*k+res_counts[i]) in",
+					"decreasing order of score.", "@param thread the isolate thread", "@param graph the graph handle",
+					"@param sources array with the source vertices", "@param sources_count number of sources",
+					"@param index the link prediction index", "@param k how many links to compute per source",
+					"@param parallelism how many threads to use",
+					"@param res_targets array of size sources_count times k for the targets of the links",
+					"@param res_scores array of size sources_count times k for the scores of the links",
+					"@param res_counts array of size sources_count for the number of links of each source" })
+	public static <E> int executeTopK(IsolateThread thread, ObjectHandle graphHandle, CLongPointer sources,
+			int sourcesCount, LinkPredictionIndex index, int k, int parallelism, CLongPointer resTargets,
+			CDoublePointer resScores, CIntPointer resCounts) {
+		Metrics.enter("jgrapht_capi_lx_link_prediction_exec_topk");
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		executeTopK(g, i -> sources.read(i), sourcesCount, index, k, parallelism, resScores, resCounts,
+				(pos, target) -> resTargets.write(pos, target.longValue()));
+		return Metrics.success();
+	}
+
+	private interface TargetWriter<V> {
+
+		void write(int pos, V target);
+
+	}
+
+	private static <V, E> void executeTopK(Graph<V, E> g, IntFunction<V> sourcesFn, int sourcesCount,
+			LinkPredictionIndex index, int k, int parallelism, CDoublePointer resScores, CIntPointer resCounts,
+			TargetWriter<V> resTargets) {
+		if (sourcesCount < 0 || k < 0) {
+			throw new IllegalArgumentException("Counts cannot be negative");
+		}
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be positive");
+		}
+		Index alg = toIndex(index);
+		if (sourcesCount == 0) {
+			return;
+		}
+		int total = Math.multiplyExact(sourcesCount, k);
+
+		TopKLinkPrediction<V> topK = new TopKLinkPrediction<>(g);
+		SortedAdjacency<V> adjacency = topK.getAdjacency();
+		int[] sources = new int[sourcesCount];
+		for (int i = 0; i < sourcesCount; i++) {
+			sources[i] = adjacency.getIndex(sourcesFn.apply(i));
+		}
+
+		int[] targets = new int[total];
+		double[] scores = new double[total];
+		int[] counts = new int[sourcesCount];
+		topK.topK(sources, alg, k, parallelism, targets, scores, counts);
+
+		for (int i = 0; i < sourcesCount; i++) {
+			resCounts.write(i, counts[i]);
+			int pos = i * k;
+			for (int j = 0; j < counts[i]; j++) {
+				resTargets.write(pos + j, adjacency.getVertex(targets[pos + j]));
+				resScores.write(pos + j, scores[pos + j]);
+			}
+		}
+	}
+
+	static Index[] toIndices(CIntPointer indicesPtr, int indicesCount) {
+		Index[] indices = new Index[indicesCount];
+		for (int k = 0; k < indicesCount; k++) {
+			indices[k] = toIndex(LinkPredictionIndex.toJavaEnum(indicesPtr.read(k)));
+		}
+		return indices;
+	}
+
+	static Index toIndex(LinkPredictionIndex index) {
+		if (index == null) {
+			throw new IllegalArgumentException("Unknown link prediction index");
+		}
+		switch (index) {
+		case LINK_PREDICTION_INDEX_ADAMIC_ADAR:
+			return Index.ADAMIC_ADAR;
+		case LINK_PREDICTION_INDEX_COMMON_NEIGHBORS:
+			return Index.COMMON_NEIGHBORS;
+		case LINK_PREDICTION_INDEX_HUB_DEPRESSED:
+			return Index.HUB_DEPRESSED;
+		case LINK_PREDICTION_INDEX_HUB_PROMOTED:
+			return Index.HUB_PROMOTED;
+		case LINK_PREDICTION_INDEX_JACCARD_COEFFICIENT:
+			return Index.JACCARD_COEFFICIENT;
+		case LINK_PREDICTION_INDEX_LEICHT_HOLME_NEWMAN:
+			return Index.LEICHT_HOLME_NEWMAN;
+		case LINK_PREDICTION_INDEX_PREFERENTIAL_ATTACHMENT:
+			return Index.PREFERENTIAL_ATTACHMENT;
+		case LINK_PREDICTION_INDEX_RESOURCE_ALLOCATION:
+			return Index.RESOURCE_ALLOCATION;
+		case LINK_PREDICTION_INDEX_SALTON:
+			return Index.SALTON;
+		case LINK_PREDICTION_INDEX_SORENSEN:
+			return Index.SORENSEN;
+		default:
+			throw new IllegalArgumentException("Unknown link prediction index " + index);
+		}
 	}
 
 }
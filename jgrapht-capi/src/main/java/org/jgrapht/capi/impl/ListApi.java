@@ -29,180 +29,198 @@ import org.graalvm.nativeimage.c.type.WordPointer;
 import org.jgrapht.alg.util.Pair;
 import org.jgrapht.alg.util.Triple;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class ListApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "list_create", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createList(IsolateThread thread, WordPointer res) {
+		Metrics.enter("jgrapht_capi_list_create");
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(new ArrayList<>()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "list_it_create", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createListIterator(IsolateThread thread, ObjectHandle handle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_list_it_create");
 		List<?> list = globalHandles.get(handle);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(list.iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "list_size", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int listSize(IsolateThread thread, ObjectHandle handle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_list_size");
 		List<?> list = globalHandles.get(handle);
 		if (res.isNonNull()) {
 			res.write(list.size());
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "list_int_add", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int listIntegerAdd(IsolateThread thread, ObjectHandle handle, int value, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_list_int_add");
 		List<Integer> list = globalHandles.get(handle);
 		boolean result = list.add(value);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "list_long_add", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int listLongAdd(IsolateThread thread, ObjectHandle handle, long value, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_list_long_add");
 		List<Long> list = globalHandles.get(handle);
 		boolean result = list.add(value);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "list_double_add", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int listDoubleAdd(IsolateThread thread, ObjectHandle handle, double value, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_list_double_add");
 		List<Double> list = globalHandles.get(handle);
 		boolean result = list.add(value);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "list_edge_pair_add", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int listEdgePairAdd(IsolateThread thread, ObjectHandle handle, int source, int target,
 			CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ii_list_edge_pair_add");
 		List<Pair<Integer, Integer>> list = globalHandles.get(handle);
 		boolean result = list.add(Pair.of(source, target));
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
 			+ "list_edge_pair_add", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int longListEdgePairAdd(IsolateThread thread, ObjectHandle handle, long source, long target,
 			CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ll_list_edge_pair_add");
 		List<Pair<Long, Long>> list = globalHandles.get(handle);
 		boolean result = list.add(Pair.of(source, target));
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "list_edge_triple_add", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int listEdgeTripleAdd(IsolateThread thread, ObjectHandle handle, int source, int target,
 			double weight, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ii_list_edge_triple_add");
 		List<Triple<Integer, Integer, Double>> list = globalHandles.get(handle);
 		boolean result = list.add(Triple.of(source, target, weight));
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
 			+ "list_edge_triple_add", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int listEdgeTripleAdd(IsolateThread thread, ObjectHandle handle, long source, long target,
 			double weight, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_ll_list_edge_triple_add");
 		List<Triple<Long, Long, Double>> list = globalHandles.get(handle);
 		boolean result = list.add(Triple.of(source, target, weight));
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "list_int_remove", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int listIntegerRemove(IsolateThread thread, ObjectHandle handle, int value) {
+		Metrics.enter("jgrapht_capi_list_int_remove");
 		List<Integer> list = globalHandles.get(handle);
 		Integer objectToRemove = value;
 		list.remove(objectToRemove);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "list_long_remove", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int listLongRemove(IsolateThread thread, ObjectHandle handle, long value) {
+		Metrics.enter("jgrapht_capi_list_long_remove");
 		List<Long> list = globalHandles.get(handle);
 		Long objectToRemove = value;
 		list.remove(objectToRemove);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "list_double_remove", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int listDoubleRemove(IsolateThread thread, ObjectHandle handle, double value) {
+		Metrics.enter("jgrapht_capi_list_double_remove");
 		List<Double> list = globalHandles.get(handle);
 		list.remove(value);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "list_int_contains", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int listIntegerContains(IsolateThread thread, ObjectHandle handle, int value, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_list_int_contains");
 		List<Integer> list = globalHandles.get(handle);
 		boolean result = list.contains(value);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "list_long_contains", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int listLongContains(IsolateThread thread, ObjectHandle handle, long value, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_list_long_contains");
 		List<Long> list = globalHandles.get(handle);
 		boolean result = list.contains(value);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "list_double_contains", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int listDoubleContains(IsolateThread thread, ObjectHandle handle, double value, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_list_double_contains");
 		List<Double> list = globalHandles.get(handle);
 		boolean result = list.contains(value);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "list_clear", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int clearList(IsolateThread thread, ObjectHandle handle) {
+		Metrics.enter("jgrapht_capi_list_clear");
 		List<?> list = globalHandles.get(handle);
 		list.clear();
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
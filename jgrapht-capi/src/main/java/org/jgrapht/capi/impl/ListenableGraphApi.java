@@ -26,8 +26,9 @@ import org.jgrapht.ListenableGraph;
 import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.IIFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.LIFunctionPointer;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 import org.jgrapht.capi.graph.CapiGraph;
 import org.jgrapht.capi.graph.CapiGraphAsListenableGraph;
 import org.jgrapht.event.GraphEdgeChangeEvent;
@@ -39,75 +40,82 @@ import org.jgrapht.event.GraphVertexChangeEvent;
  */
 public class ListenableGraphApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "listenable_as_listenable", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int asListenable(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_listenable_as_listenable");
 		CapiGraph<V, E> gIn = globalHandles.get(graphHandle);
 		CapiGraph<V, E> gOut = new CapiGraphAsListenableGraph<>(gIn);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(gOut));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "listenable_create_graph_listener", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createGraphListener(IsolateThread thread, IIFunctionPointer eventFunctionPointer,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_listenable_create_graph_listener");
 		InvokeGraphListener listener = new InvokeGraphListener(eventFunctionPointer);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(listener));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
 			+ "listenable_create_graph_listener", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createGraphListener(IsolateThread thread, LIFunctionPointer eventFunctionPointer,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ll_listenable_create_graph_listener");
 		LongInvokeGraphListener listener = new LongInvokeGraphListener(eventFunctionPointer);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(listener));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "listenable_add_graph_listener", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int addGraphListener(IsolateThread thread, ObjectHandle graphHandle, ObjectHandle listenerHandle) {
+		Metrics.enter("jgrapht_capi_ii_listenable_add_graph_listener");
 		ListenableGraph<Integer, Integer> g = globalHandles.get(graphHandle);
 		InvokeGraphListener listener = globalHandles.get(listenerHandle);
 		g.addGraphListener(listener);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
 			+ "listenable_add_graph_listener", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int llAddGraphListener(IsolateThread thread, ObjectHandle graphHandle, ObjectHandle listenerHandle) {
+		Metrics.enter("jgrapht_capi_ll_listenable_add_graph_listener");
 		ListenableGraph<Long, Long> g = globalHandles.get(graphHandle);
 		LongInvokeGraphListener listener = globalHandles.get(listenerHandle);
 		g.addGraphListener(listener);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "listenable_remove_graph_listener", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int removeGraphListener(IsolateThread thread, ObjectHandle graphHandle, ObjectHandle listenerHandle) {
+		Metrics.enter("jgrapht_capi_ii_listenable_remove_graph_listener");
 		ListenableGraph<Integer, Integer> g = globalHandles.get(graphHandle);
 		InvokeGraphListener listener = globalHandles.get(listenerHandle);
 		g.removeGraphListener(listener);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
 			+ "listenable_remove_graph_listener", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int llRemoveGraphListener(IsolateThread thread, ObjectHandle graphHandle, ObjectHandle listenerHandle) {
+		Metrics.enter("jgrapht_capi_ll_listenable_remove_graph_listener");
 		ListenableGraph<Long, Long> g = globalHandles.get(graphHandle);
 		LongInvokeGraphListener listener = globalHandles.get(listenerHandle);
 		g.removeGraphListener(listener);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	private static class InvokeGraphListener implements GraphListener<Integer, Integer> {
@@ -34,106 +34,120 @@ import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.StringUtils;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class MapApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "map_create", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createMap(IsolateThread thread, WordPointer res) {
+		Metrics.enter("jgrapht_capi_map_create");
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(new HashMap<>()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "map_linked_create", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createLinkedMap(IsolateThread thread, WordPointer res) {
+		Metrics.enter("jgrapht_capi_map_linked_create");
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(new LinkedHashMap<>()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "map_keys_it_create", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createMapKeysIterator(IsolateThread thread, ObjectHandle mapHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_map_keys_it_create");
 		Map<?, ?> map = globalHandles.get(mapHandle);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(map.keySet().iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "map_size", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapSize(IsolateThread thread, ObjectHandle mapHandle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_map_size");
 		Map<?, ?> map = globalHandles.get(mapHandle);
 		if (res.isNonNull()) {
 			res.write(map.size());
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "map_values_it_create", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createMapValuesIterator(IsolateThread thread, ObjectHandle mapHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_map_values_it_create");
 		Map<?, ?> map = globalHandles.get(mapHandle);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(map.values().iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "map_int_double_put", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapIntDoublePut(IsolateThread thread, ObjectHandle mapHandle, int key, double value) {
+		Metrics.enter("jgrapht_capi_map_int_double_put");
 		Map<Integer, Double> map = globalHandles.get(mapHandle);
 		map.put(key, value);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "map_int_int_put", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapIntegerIntegerPut(IsolateThread thread, ObjectHandle mapHandle, int key, int value) {
+		Metrics.enter("jgrapht_capi_map_int_int_put");
 		Map<Integer, Integer> map = globalHandles.get(mapHandle);
 		map.put(key, value);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + "map_int_string_put", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapIntegerStringPut(IsolateThread thread, ObjectHandle mapHandle, int key, CCharPointer valuePtr) {
+		Metrics.enter("jgrapht_capi_map_int_string_put");
 		Map<Integer, String> map = globalHandles.get(mapHandle);
 		String value = StringUtils.toJavaStringFromUtf8(valuePtr);
 		map.put(key, value);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "map_long_double_put", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapLongDoublePut(IsolateThread thread, ObjectHandle mapHandle, long key, double value) {
+		Metrics.enter("jgrapht_capi_map_long_double_put");
 		Map<Long, Double> map = globalHandles.get(mapHandle);
 		map.put(key, value);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "map_long_int_put", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapLongIntegerPut(IsolateThread thread, ObjectHandle mapHandle, long key, int value) {
+		Metrics.enter("jgrapht_capi_map_long_int_put");
 		Map<Long, Integer> map = globalHandles.get(mapHandle);
 		map.put(key, value);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + "map_long_string_put", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapLongStringPut(IsolateThread thread, ObjectHandle mapHandle, long key, CCharPointer valuePtr) {
+		Metrics.enter("jgrapht_capi_map_long_string_put");
 		Map<Long, String> map = globalHandles.get(mapHandle);
 		String value = StringUtils.toJavaStringFromUtf8(valuePtr);
 		map.put(key, value);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "map_int_double_get", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapIntDoubleGet(IsolateThread thread, ObjectHandle mapHandle, int key, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_map_int_double_get");
 		Map<Integer, Double> map = globalHandles.get(mapHandle);
 		Double value = map.get(key);
 		if (value == null) {
@@ -142,11 +156,12 @@ public class MapApi {
 		if (res.isNonNull()) {
 			res.write(value);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "map_int_int_get", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapIntegerIntegerGet(IsolateThread thread, ObjectHandle mapHandle, int key, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_map_int_int_get");
 		Map<Integer, Integer> map = globalHandles.get(mapHandle);
 		Integer value = map.get(key);
 		if (value == null) {
@@ -155,11 +170,12 @@ public class MapApi {
 		if (res.isNonNull()) {
 			res.write(value);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "map_int_string_get", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapIntegerStringGet(IsolateThread thread, ObjectHandle mapHandle, int key, WordPointer res) {
+		Metrics.enter("jgrapht_capi_map_int_string_get");
 		Map<Integer, String> map = globalHandles.get(mapHandle);
 		String value = map.get(key);
 		if (value == null) {
@@ -169,12 +185,13 @@ public class MapApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(cString));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "map_long_double_get", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapLongDoubleGet(IsolateThread thread, ObjectHandle mapHandle, long key, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_map_long_double_get");
 		Map<Long, Double> map = globalHandles.get(mapHandle);
 		Double value = map.get(key);
 		if (value == null) {
@@ -183,11 +200,12 @@ public class MapApi {
 		if (res.isNonNull()) {
 			res.write(value);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "map_long_int_get", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapLongIntegerGet(IsolateThread thread, ObjectHandle mapHandle, long key, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_map_long_int_get");
 		Map<Long, Integer> map = globalHandles.get(mapHandle);
 		Integer value = map.get(key);
 		if (value == null) {
@@ -196,11 +214,12 @@ public class MapApi {
 		if (res.isNonNull()) {
 			res.write(value);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "map_long_string_get", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapLongStringGet(IsolateThread thread, ObjectHandle mapHandle, long key, WordPointer res) {
+		Metrics.enter("jgrapht_capi_map_long_string_get");
 		Map<Long, String> map = globalHandles.get(mapHandle);
 		String value = map.get(key);
 		if (value == null) {
@@ -210,33 +229,131 @@ public class MapApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(cString));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
+	}
+
+	/*
+	 * Lookups which do not raise an error for missing keys. They return
+	 * STATUS_NOT_FOUND and leave the error status of the thread untouched.
+	 */
+
+	@CEntryPoint(name = Constants.LIB_PREFIX
+			+ "map_int_double_try_get", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int mapIntDoubleTryGet(IsolateThread thread, ObjectHandle mapHandle, int key, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_map_int_double_try_get");
+		Map<Integer, Double> map = globalHandles.get(mapHandle);
+		Double value = map.get(key);
+		if (value == null) {
+			return Metrics.status(Status.STATUS_NOT_FOUND);
+		}
+		if (res.isNonNull()) {
+			res.write(value.doubleValue());
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX
+			+ "map_int_int_try_get", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int mapIntIntTryGet(IsolateThread thread, ObjectHandle mapHandle, int key, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_map_int_int_try_get");
+		Map<Integer, Integer> map = globalHandles.get(mapHandle);
+		Integer value = map.get(key);
+		if (value == null) {
+			return Metrics.status(Status.STATUS_NOT_FOUND);
+		}
+		if (res.isNonNull()) {
+			res.write(value.intValue());
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX
+			+ "map_int_string_try_get", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int mapIntStringTryGet(IsolateThread thread, ObjectHandle mapHandle, int key, WordPointer res) {
+		Metrics.enter("jgrapht_capi_map_int_string_try_get");
+		Map<Integer, String> map = globalHandles.get(mapHandle);
+		String value = map.get(key);
+		if (value == null) {
+			return Metrics.status(Status.STATUS_NOT_FOUND);
+		}
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(StringUtils.toCStringInUtf8(value)));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX
+			+ "map_long_double_try_get", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int mapLongDoubleTryGet(IsolateThread thread, ObjectHandle mapHandle, long key, CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_map_long_double_try_get");
+		Map<Long, Double> map = globalHandles.get(mapHandle);
+		Double value = map.get(key);
+		if (value == null) {
+			return Metrics.status(Status.STATUS_NOT_FOUND);
+		}
+		if (res.isNonNull()) {
+			res.write(value.doubleValue());
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX
+			+ "map_long_int_try_get", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int mapLongIntTryGet(IsolateThread thread, ObjectHandle mapHandle, long key, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_map_long_int_try_get");
+		Map<Long, Integer> map = globalHandles.get(mapHandle);
+		Integer value = map.get(key);
+		if (value == null) {
+			return Metrics.status(Status.STATUS_NOT_FOUND);
+		}
+		if (res.isNonNull()) {
+			res.write(value.intValue());
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX
+			+ "map_long_string_try_get", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int mapLongStringTryGet(IsolateThread thread, ObjectHandle mapHandle, long key, WordPointer res) {
+		Metrics.enter("jgrapht_capi_map_long_string_try_get");
+		Map<Long, String> map = globalHandles.get(mapHandle);
+		String value = map.get(key);
+		if (value == null) {
+			return Metrics.status(Status.STATUS_NOT_FOUND);
+		}
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(StringUtils.toCStringInUtf8(value)));
+		}
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "map_int_contains_key", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapIntContains(IsolateThread thread, ObjectHandle mapHandle, int key, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_map_int_contains_key");
 		Map<Integer, ?> map = globalHandles.get(mapHandle);
 		if (res.isNonNull()) {
 			res.write(map.containsKey(key) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "map_long_contains_key", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapLongContains(IsolateThread thread, ObjectHandle mapHandle, long key, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_map_long_contains_key");
 		Map<Long, ?> map = globalHandles.get(mapHandle);
 		if (res.isNonNull()) {
 			res.write(map.containsKey(key) ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "map_int_double_remove", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapIntegerDoubleRemove(IsolateThread thread, ObjectHandle mapHandle, int key,
 			CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_map_int_double_remove");
 		Map<Integer, Double> map = globalHandles.get(mapHandle);
 		Double value = map.remove(key);
 		if (value == null) {
@@ -245,12 +362,13 @@ public class MapApi {
 		if (res.isNonNull()) {
 			res.write(value);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "map_int_int_remove", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapIntegerIntegerRemove(IsolateThread thread, ObjectHandle mapHandle, int key, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_map_int_int_remove");
 		Map<Integer, Integer> map = globalHandles.get(mapHandle);
 		Integer value = map.remove(key);
 		if (value == null) {
@@ -259,11 +377,12 @@ public class MapApi {
 		if (res.isNonNull()) {
 			res.write(value);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + "map_int_string_remove", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapIntegerStringRemove(IsolateThread thread, ObjectHandle mapHandle, int key, WordPointer res) {
+		Metrics.enter("jgrapht_capi_map_int_string_remove");
 		Map<Integer, String> map = globalHandles.get(mapHandle);
 		String value = map.remove(key);
 		if (value == null) {
@@ -273,13 +392,14 @@ public class MapApi {
 			CCharPointerHolder cString = StringUtils.toCStringInUtf8(value);
 			res.write(globalHandles.create(cString));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "map_long_double_remove", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapLongDoubleRemove(IsolateThread thread, ObjectHandle mapHandle, long key,
 			CDoublePointer res) {
+		Metrics.enter("jgrapht_capi_map_long_double_remove");
 		Map<Long, Double> map = globalHandles.get(mapHandle);
 		Double value = map.remove(key);
 		if (value == null) {
@@ -288,12 +408,13 @@ public class MapApi {
 		if (res.isNonNull()) {
 			res.write(value);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "map_long_int_remove", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapLongIntegerRemove(IsolateThread thread, ObjectHandle mapHandle, long key, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_map_long_int_remove");
 		Map<Long, Integer> map = globalHandles.get(mapHandle);
 		Integer value = map.remove(key);
 		if (value == null) {
@@ -302,11 +423,12 @@ public class MapApi {
 		if (res.isNonNull()) {
 			res.write(value);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + "map_long_string_remove", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int mapLongStringRemove(IsolateThread thread, ObjectHandle mapHandle, long key, WordPointer res) {
+		Metrics.enter("jgrapht_capi_map_long_string_remove");
 		Map<Long, String> map = globalHandles.get(mapHandle);
 		String value = map.remove(key);
 		if (value == null) {
@@ -316,14 +438,15 @@ public class MapApi {
 			CCharPointerHolder cString = StringUtils.toCStringInUtf8(value);
 			res.write(globalHandles.create(cString));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + "map_clear", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int clearMap(IsolateThread thread, ObjectHandle mapHandle) {
+		Metrics.enter("jgrapht_capi_map_clear");
 		Map<?, ?> map = globalHandles.get(mapHandle);
 		map.clear();
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
@@ -43,17 +43,19 @@ import org.jgrapht.alg.matching.blossom.v5.KolmogorovWeightedPerfectMatching;
 import org.jgrapht.alg.matching.blossom.v5.ObjectiveSense;
 import org.jgrapht.alg.partition.BipartitePartitioning;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class MatchingApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "matching_exec_greedy_general_max_card", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeGreedyMaximumCardinality(IsolateThread thread, ObjectHandle graphHandle,
 			CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_matching_exec_greedy_general_max_card");
 		return exec(thread, graphHandle, weightRes, res, (g) -> new GreedyMaximumCardinalityMatching<>(g, false));
 	}
 
@@ -61,6 +63,7 @@ public class MatchingApi {
 			+ "matching_exec_custom_greedy_general_max_card", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeCustomGreedyMaximumCardinality(IsolateThread thread, ObjectHandle graphHandle,
 			boolean sort, CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_matching_exec_custom_greedy_general_max_card");
 		return exec(thread, graphHandle, weightRes, res, (g) -> new GreedyMaximumCardinalityMatching<>(g, sort));
 	}
 
@@ -68,6 +71,7 @@ public class MatchingApi {
 			+ "matching_exec_edmonds_general_max_card_dense", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeEdmondsMCMDense(IsolateThread thread, ObjectHandle graphHandle, CDoublePointer weightRes,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_matching_exec_edmonds_general_max_card_dense");
 		return exec(thread, graphHandle, weightRes, res, (g) -> new DenseEdmondsMaximumCardinalityMatching<>(g));
 	}
 
@@ -75,6 +79,7 @@ public class MatchingApi {
 			+ "matching_exec_edmonds_general_max_card_sparse", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeEdmondsMCMSparse(IsolateThread thread, ObjectHandle graphHandle, CDoublePointer weightRes,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_matching_exec_edmonds_general_max_card_sparse");
 		return exec(thread, graphHandle, weightRes, res, (g) -> new SparseEdmondsMaximumCardinalityMatching<>(g));
 	}
 
@@ -82,6 +87,7 @@ public class MatchingApi {
 			+ "matching_exec_greedy_general_max_weight", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeGreedyMaximumWeightedMatching(IsolateThread thread, ObjectHandle graphHandle,
 			CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_matching_exec_greedy_general_max_weight");
 		return exec(thread, graphHandle, weightRes, res, (g) -> new GreedyWeightedMatching<>(g, false));
 	}
 
@@ -89,6 +95,7 @@ public class MatchingApi {
 			+ "matching_exec_custom_greedy_general_max_weight", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeCustomGreedyMaximumWeightedMatching(IsolateThread thread, ObjectHandle graphHandle,
 			boolean normalizeEdgeCosts, double epsilon, CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_matching_exec_custom_greedy_general_max_weight");
 		return exec(thread, graphHandle, weightRes, res,
 				(g) -> new GreedyWeightedMatching<>(g, normalizeEdgeCosts, epsilon));
 	}
@@ -97,6 +104,7 @@ public class MatchingApi {
 			+ "matching_exec_pathgrowing_max_weight", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executePathGrowingMaximumWeightedMatching(IsolateThread thread, ObjectHandle graphHandle,
 			CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_matching_exec_pathgrowing_max_weight");
 		return exec(thread, graphHandle, weightRes, res, (g) -> new PathGrowingWeightedMatching<>(g, true));
 	}
 
@@ -104,6 +112,7 @@ public class MatchingApi {
 			+ "matching_exec_blossom5_general_max_weight", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBlossom5MaxWeight(IsolateThread thread, ObjectHandle graphHandle, CDoublePointer weightRes,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_matching_exec_blossom5_general_max_weight");
 		return exec(thread, graphHandle, weightRes, res,
 				(g) -> new KolmogorovWeightedMatching<>(g, ObjectiveSense.MAXIMIZE));
 	}
@@ -112,6 +121,7 @@ public class MatchingApi {
 			+ "matching_exec_blossom5_general_min_weight", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBlossom5MinWeight(IsolateThread thread, ObjectHandle graphHandle, CDoublePointer weightRes,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_matching_exec_blossom5_general_min_weight");
 		return exec(thread, graphHandle, weightRes, res,
 				(g) -> new KolmogorovWeightedMatching<>(g, ObjectiveSense.MINIMIZE));
 	}
@@ -120,6 +130,7 @@ public class MatchingApi {
 			+ "matching_exec_blossom5_general_perfect_max_weight", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBlossom5PerfectMaxWeight(IsolateThread thread, ObjectHandle graphHandle,
 			CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_matching_exec_blossom5_general_perfect_max_weight");
 		return exec(thread, graphHandle, weightRes, res,
 				(g) -> new KolmogorovWeightedPerfectMatching<>(g, ObjectiveSense.MAXIMIZE));
 	}
@@ -128,6 +139,7 @@ public class MatchingApi {
 			+ "matching_exec_blossom5_general_perfect_min_weight", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBlossom5PerfectMinWeight(IsolateThread thread, ObjectHandle graphHandle,
 			CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_matching_exec_blossom5_general_perfect_min_weight");
 		return exec(thread, graphHandle, weightRes, res,
 				(g) -> new KolmogorovWeightedPerfectMatching<>(g, ObjectiveSense.MINIMIZE));
 	}
@@ -136,6 +148,7 @@ public class MatchingApi {
 			+ "matching_exec_bipartite_max_card", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int executeBipartiteMaximumCardinalityMatching(IsolateThread thread, ObjectHandle graphHandle,
 			CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_matching_exec_bipartite_max_card");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		BipartitePartitioning<V, E> partAlg = new BipartitePartitioning<>(g);
 		if (!partAlg.isBipartite()) {
@@ -152,13 +165,14 @@ public class MatchingApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result.getEdges()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "matching_exec_bipartite_perfect_min_weight", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int executeBipartitePerfectMinimumWeight(IsolateThread thread, ObjectHandle graphHandle,
 			ObjectHandle part1Handle, ObjectHandle part2Handle, CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_matching_exec_bipartite_perfect_min_weight");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		Set<V> part1 = globalHandles.get(part1Handle);
 		Set<V> part2 = globalHandles.get(part2Handle);
@@ -170,13 +184,14 @@ public class MatchingApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result.getEdges()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "matching_exec_bipartite_max_weight", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int executeBipartiteMaximumWeightedMatching(IsolateThread thread, ObjectHandle graphHandle,
 			CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_matching_exec_bipartite_max_weight");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		BipartitePartitioning<V, E> partAlg = new BipartitePartitioning<>(g);
 		if (!partAlg.isBipartite()) {
@@ -200,7 +215,7 @@ public class MatchingApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result.getEdges()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	private static <V,E> int exec(IsolateThread thread, ObjectHandle graphHandle, CDoublePointer weightRes, WordPointer res,
@@ -216,7 +231,7 @@ public class MatchingApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(edges));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
@@ -0,0 +1,85 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.impl;
+
+import org.graalvm.nativeimage.IsolateThread;
+import org.graalvm.nativeimage.ObjectHandles;
+import org.graalvm.nativeimage.c.function.CEntryPoint;
+import org.graalvm.nativeimage.c.type.CIntPointer;
+import org.graalvm.nativeimage.c.type.CTypeConversion.CCharPointerHolder;
+import org.graalvm.nativeimage.c.type.WordPointer;
+import org.jgrapht.capi.Constants;
+import org.jgrapht.capi.StringUtils;
+import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
+
+/**
+ * Access to the per entry point metrics. These entry points are not
+ * instrumented themselves.
+ */
+public class MetricsApi {
+
+	private static ObjectHandles globalHandles = Handles.getHandles();
+
+	/**
+	 * Check whether the library has been built with metrics enabled.
+	 * 
+	 * @param thread the thread isolate
+	 * @param res    1 if metrics are collected, 0 otherwise
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + "metrics_is_enabled", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int isEnabled(IsolateThread thread, CIntPointer res) {
+		Metrics.enterUntracked();
+		if (res.isNonNull()) {
+			res.write(Metrics.ENABLED ? 1 : 0);
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Get the metrics of all entry points which have been called, as a JSON array
+	 * with one object per entry point. The string can be accessed using
+	 * handles_get_ccharpointer and must be destroyed by the caller.
+	 * 
+	 * @param thread the thread isolate
+	 * @param res    handle to the JSON string
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + "metrics_snapshot", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int snapshot(IsolateThread thread, WordPointer res) {
+		Metrics.enterUntracked();
+		CCharPointerHolder json = StringUtils.toCStringInUtf8(Metrics.toJson());
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(json));
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Clear the metrics of all entry points.
+	 * 
+	 * @param thread the thread isolate
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + "metrics_reset", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int reset(IsolateThread thread) {
+		Metrics.enterUntracked();
+		Metrics.reset();
+		return Metrics.success();
+	}
+
+}
@@ -29,12 +29,13 @@ import org.jgrapht.alg.spanning.BoruvkaMinimumSpanningTree;
 import org.jgrapht.alg.spanning.KruskalMinimumSpanningTree;
 import org.jgrapht.alg.spanning.PrimMinimumSpanningTree;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class MstApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	/**
 	 * Execute MST kruskal on a graph
@@ -47,6 +48,7 @@ public class MstApi {
 			+ "mst_exec_kruskal", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeMSTKruskal(IsolateThread thread, ObjectHandle graph, CDoublePointer weightRes,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_mst_exec_kruskal");
 		Graph<V, E> g = globalHandles.get(graph);
 		SpanningTree<E> mst = new KruskalMinimumSpanningTree<>(g).getSpanningTree();
 		if (weightRes.isNonNull()) {
@@ -55,7 +57,7 @@ public class MstApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(mst.getEdges()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -69,6 +71,7 @@ public class MstApi {
 			+ "mst_exec_prim", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeMSTPrim(IsolateThread thread, ObjectHandle graph, CDoublePointer weightRes,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_mst_exec_prim");
 		Graph<V, E> g = globalHandles.get(graph);
 		SpanningTree<E> mst = new PrimMinimumSpanningTree<>(g).getSpanningTree();
 		if (weightRes.isNonNull()) {
@@ -77,7 +80,7 @@ public class MstApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(mst.getEdges()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -91,6 +94,7 @@ public class MstApi {
 			+ "mst_exec_boruvka", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeMSTBoruvka(IsolateThread thread, ObjectHandle graph, CDoublePointer weightRes,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_mst_exec_boruvka");
 		Graph<V, E> g = globalHandles.get(graph);
 		SpanningTree<E> mst = new BoruvkaMinimumSpanningTree<>(g).getSpanningTree();
 		if (weightRes.isNonNull()) {
@@ -99,7 +103,7 @@ public class MstApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(mst.getEdges()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
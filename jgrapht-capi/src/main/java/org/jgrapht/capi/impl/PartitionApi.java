@@ -27,17 +27,19 @@ import org.jgrapht.Graph;
 import org.jgrapht.alg.interfaces.PartitioningAlgorithm.Partitioning;
 import org.jgrapht.alg.partition.BipartitePartitioning;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class PartitionApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "partition_exec_bipartite", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeBipartitePartitioner(IsolateThread thread, ObjectHandle graphHandle,
 			CIntPointer res, WordPointer part1, WordPointer part2) {
+		Metrics.enter("jgrapht_capi_xx_partition_exec_bipartite");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		BipartitePartitioning<V, E> p = new BipartitePartitioning<>(g);
@@ -54,7 +56,7 @@ public class PartitionApi {
 				part2.write(globalHandles.create(partitioning.getPartition(1)));
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
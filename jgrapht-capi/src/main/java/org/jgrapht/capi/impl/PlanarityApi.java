@@ -12,17 +12,19 @@ import org.jgrapht.Graph;
 import org.jgrapht.alg.interfaces.PlanarityTestingAlgorithm.Embedding;
 import org.jgrapht.alg.planar.BoyerMyrvoldPlanarityInspector;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class PlanarityApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "planarity_exec_boyer_myrvold", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeBoryerMyrvold(IsolateThread thread, ObjectHandle graphHandle, CIntPointer res,
 			WordPointer embeddingRes, WordPointer kuratowskiSubdivisionRes) {
+		Metrics.enter("jgrapht_capi_xx_planarity_exec_boyer_myrvold");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		BoyerMyrvoldPlanarityInspector<V, E> alg = new BoyerMyrvoldPlanarityInspector<>(g);
@@ -42,29 +44,31 @@ public class PlanarityApi {
 				kuratowskiSubdivisionRes.write(globalHandles.create(kuratowskiSubdivision));
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "planarity_embedding_edges_around_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int edgesAround(IsolateThread thread, ObjectHandle embeddingHandle, int vertex, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_planarity_embedding_edges_around_vertex");
 		Embedding<Integer, ?> embedding = globalHandles.get(embeddingHandle);
 		List<?> list = embedding.getEdgesAround(vertex);
 		if (list != null && res.isNonNull()) {
 			res.write(globalHandles.create(list.iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "planarity_embedding_edges_around_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int edgesAround(IsolateThread thread, ObjectHandle embeddingHandle, long vertex, WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_planarity_embedding_edges_around_vertex");
 		Embedding<Long, ?> embedding = globalHandles.get(embeddingHandle);
 		List<?> list = embedding.getEdgesAround(vertex);
 		if (list != null && res.isNonNull()) {
 			res.write(globalHandles.create(list.iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
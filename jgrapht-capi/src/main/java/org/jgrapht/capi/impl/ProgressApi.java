@@ -0,0 +1,133 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.graalvm.nativeimage.IsolateThread;
+import org.graalvm.nativeimage.ObjectHandle;
+import org.graalvm.nativeimage.ObjectHandles;
+import org.graalvm.nativeimage.c.function.CEntryPoint;
+import org.graalvm.nativeimage.c.type.CCharPointer;
+import org.graalvm.nativeimage.c.type.CCharPointerPointer;
+import org.graalvm.nativeimage.c.type.CIntPointer;
+import org.graalvm.nativeimage.c.type.CLongPointer;
+import org.graalvm.nativeimage.c.type.CTypeConversion.CCharPointerHolder;
+import org.graalvm.nativeimage.c.type.WordPointer;
+import org.jgrapht.capi.Constants;
+import org.jgrapht.capi.JGraphTContext.ProgressFunctionPointer;
+import org.jgrapht.capi.StringUtils;
+import org.jgrapht.capi.custom.util.Progress;
+import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
+
+/**
+ * Progress reporting of long running algorithms. A progress is created, passed
+ * to an algorithm and can be polled from any thread attached to the isolate
+ * while the algorithm executes.
+ */
+public class ProgressApi {
+
+	private static ObjectHandles globalHandles = Handles.getHandles();
+
+	/*
+	 * Phase names are few and fixed by the algorithms, thus their C strings are
+	 * kept for the lifetime of the isolate and can be returned without
+	 * transferring ownership. They are kept apart from the attribute names.
+	 */
+	private static final ConcurrentHashMap<String, CCharPointerHolder> phaseNames = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new progress.
+	 * 
+	 * @param thread the thread isolate
+	 * @param res    the progress handle
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + "progress_create", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int create(IsolateThread thread, WordPointer res) {
+		Metrics.enter("jgrapht_capi_progress_create");
+		Progress progress = new Progress();
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(progress));
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Read the state of a progress. The phase name is owned by the library and
+	 * must not be freed.
+	 * 
+	 * @param thread         the thread isolate
+	 * @param progressHandle the progress handle
+	 * @param phase          the name of the current phase, empty if not started
+	 * @param completed      the completed units of the current phase
+	 * @param total          the total units of the current phase or -1 if unknown
+	 * @param done           1 if the algorithm has finished, 0 otherwise
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + "progress_get", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int get(IsolateThread thread, ObjectHandle progressHandle, CCharPointerPointer phase,
+			CLongPointer completed, CLongPointer total, CIntPointer done) {
+		Metrics.enter("jgrapht_capi_progress_get");
+		Progress progress = globalHandles.get(progressHandle);
+		if (done.isNonNull()) {
+			done.write(progress.isDone() ? 1 : 0);
+		}
+		if (phase.isNonNull()) {
+			phase.write(phaseName(progress.getPhase()));
+		}
+		if (total.isNonNull()) {
+			total.write(progress.getTotal());
+		}
+		if (completed.isNonNull()) {
+			completed.write(progress.getCompleted());
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Set a callback which is called by the algorithm on every phase change, at
+	 * the end and at most once per interval while units are completed. The
+	 * callback might be called from any thread used by the algorithm.
+	 * 
+	 * @param thread         the thread isolate
+	 * @param progressHandle the progress handle
+	 * @param callback       the callback or null to remove it
+	 * @param intervalMillis the minimum number of milliseconds between two calls
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX
+			+ "progress_set_callback", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int setCallback(IsolateThread thread, ObjectHandle progressHandle, ProgressFunctionPointer callback,
+			long intervalMillis) {
+		Metrics.enter("jgrapht_capi_progress_set_callback");
+		Progress progress = globalHandles.get(progressHandle);
+		if (callback.isNonNull()) {
+			progress.setListener(
+					p -> callback.invoke(phaseName(p.getPhase()), p.getCompleted(), p.getTotal()),
+					intervalMillis);
+		} else {
+			progress.setListener(null, intervalMillis);
+		}
+		return Metrics.success();
+	}
+
+	private static CCharPointer phaseName(String phase) {
+		return phaseNames.computeIfAbsent(phase, StringUtils::toCStringInUtf8).get();
+	}
+
+}
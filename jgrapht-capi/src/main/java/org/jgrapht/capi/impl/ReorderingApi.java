@@ -0,0 +1,229 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.impl;
+
+import org.graalvm.nativeimage.IsolateThread;
+import org.graalvm.nativeimage.ObjectHandle;
+import org.graalvm.nativeimage.ObjectHandles;
+import org.graalvm.nativeimage.c.function.CEntryPoint;
+import org.graalvm.nativeimage.c.type.CIntPointer;
+import org.graalvm.nativeimage.c.type.WordPointer;
+import org.jgrapht.Graph;
+import org.jgrapht.capi.Constants;
+import org.jgrapht.capi.JGraphTContext.IncomingEdgesSupport;
+import org.jgrapht.capi.JGraphTContext.VertexOrdering;
+import org.jgrapht.capi.JGraphTContext.WeightPrecision;
+import org.jgrapht.capi.custom.ordering.VertexReordering;
+import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.graph.DefaultCapiGraph;
+import org.jgrapht.capi.graph.SparseGraphBuilder;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
+
+/**
+ * Vertex reordering for cache locality. Graphs must have vertices 0 up to n-1.
+ * The permutation maps each vertex to its new label and the inverse
+ * permutation maps each new label to the original vertex.
+ */
+public class ReorderingApi {
+
+	private static ObjectHandles globalHandles = Handles.getHandles();
+
+	/**
+	 * Compute a vertex ordering.
+	 *
+	 * @param thread      the isolate thread
+	 * @param graphHandle the graph
+	 * @param ordering    the ordering
+	 * @param permutation buffer of size n for the new label of each vertex, or
+	 *                    null
+	 * @param inverse     buffer of size n for the vertex of each new label, or
+	 *                    null
+	 * @return the return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "reorder_exec", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Compute a vertex ordering which improves locality. The vertices must be 0 up to n-1.",
+					"@param thread the isolate thread", "@param graph the graph",
+					"@param ordering enum with the ordering",
+					"@param permutation array of size n for the new label of each vertex, ignored if null",
+					"@param inverse array of size n for the vertex of each new label, ignored if null" })
+	public static <E> int executeReordering(IsolateThread thread, ObjectHandle graphHandle, VertexOrdering ordering,
+			CIntPointer permutation, CIntPointer inverse) {
+		Metrics.enter("jgrapht_capi_ix_reorder_exec");
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		int[] order = new VertexReordering(g).getOrder(toStrategy(ordering));
+		write(order, permutation, inverse);
+		return Metrics.success();
+	}
+
+	/**
+	 * Compute a vertex ordering and create a relabeled sparse graph.
+	 *
+	 * @param thread               the isolate thread
+	 * @param graphHandle          the graph
+	 * @param ordering             the ordering
+	 * @param incomingEdgesSupport the incoming edges support of directed graphs
+	 * @param parallelism          the number of threads used to build the graph
+	 * @param permutation          buffer of size n for the new label of each
+	 *                             vertex, or null
+	 * @param inverse              buffer of size n for the vertex of each new
+	 *                             label, or null
+	 * @param res                  the graph handle
+	 * @return the return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "reorder_exec_sparse_graph", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Compute a vertex ordering which improves locality and create a sparse graph with the vertices "
+							+ "relabeled. The vertices must be 0 up to n-1. Edges are sorted by source and target "
+							+ "and their identifiers are their positions in that order.",
+					"@param thread the isolate thread", "@param graph the graph",
+					"@param ordering enum with the ordering",
+					"@param incoming_edges_support  enum with incoming edges support type",
+					"@param parallelism number of threads",
+					"@param permutation array of size n for the new label of each vertex, ignored if null",
+					"@param inverse array of size n for the vertex of each new label, ignored if null",
+					"@param result the resulting graph handle" })
+	public static int executeSparseReordering(IsolateThread thread, ObjectHandle graphHandle,
+			VertexOrdering ordering, IncomingEdgesSupport incomingEdgesSupport, int parallelism,
+			CIntPointer permutation, CIntPointer inverse, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_reorder_exec_sparse_graph");
+		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
+		int[] order = new VertexReordering(g).getOrder(toStrategy(ordering));
+
+		SparseGraphBuilder builder = relabel(g, VertexReordering.invert(order));
+		Graph<Integer, Integer> graph;
+		try {
+			builder.finish(false, false, parallelism);
+			graph = builder.toSparseGraph(GraphApi.toSparseIncomingEdgesSupport(incomingEdgesSupport));
+		} finally {
+			builder.close();
+		}
+
+		// wrap in order to support all methods
+		graph = new DefaultCapiGraph<Integer, Integer>(graph);
+
+		write(order, permutation, inverse);
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(graph));
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Compute a vertex ordering and create a relabeled succinct graph.
+	 *
+	 * @param thread               the isolate thread
+	 * @param graphHandle          the graph
+	 * @param ordering             the ordering
+	 * @param incomingEdgesSupport the incoming edges support of directed graphs
+	 * @param weightPrecision      the precision of the weights, ignored if the
+	 *                             graph is unweighted
+	 * @param parallelism          the number of threads used to build the graph
+	 * @param permutation          buffer of size n for the new label of each
+	 *                             vertex, or null
+	 * @param inverse              buffer of size n for the vertex of each new
+	 *                             label, or null
+	 * @param res                  the graph handle
+	 * @return the return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "reorder_exec_succinct_graph", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Compute a vertex ordering which improves locality and create a succinct graph with the "
+							+ "vertices relabeled. The vertices must be 0 up to n-1. Multiple edges are replaced "
+							+ "by the one with the minimum weight.",
+					"@param thread the isolate thread", "@param graph the graph",
+					"@param ordering enum with the ordering",
+					"@param incoming_edges_support  enum with incoming edges support type",
+					"@param weight_precision enum with the precision of the weights, ignored if unweighted",
+					"@param parallelism number of threads",
+					"@param permutation array of size n for the new label of each vertex, ignored if null",
+					"@param inverse array of size n for the vertex of each new label, ignored if null",
+					"@param result the resulting graph handle" })
+	public static int executeSuccinctReordering(IsolateThread thread, ObjectHandle graphHandle,
+			VertexOrdering ordering, IncomingEdgesSupport incomingEdgesSupport, WeightPrecision weightPrecision,
+			int parallelism, CIntPointer permutation, CIntPointer inverse, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_reorder_exec_succinct_graph");
+		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
+		int[] order = new VertexReordering(g).getOrder(toStrategy(ordering));
+
+		SparseGraphBuilder builder = relabel(g, VertexReordering.invert(order));
+		Graph<Integer, Integer> graph;
+		try {
+			builder.finish(true, false, parallelism);
+			graph = builder.toSuccinctGraph(GraphApi.toSparseIncomingEdgesSupport(incomingEdgesSupport),
+					GraphApi.toCompactWeightsPrecision(weightPrecision));
+		} finally {
+			builder.close();
+		}
+
+		// wrap in order to support all methods
+		graph = new DefaultCapiGraph<Integer, Integer>(graph);
+
+		write(order, permutation, inverse);
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(graph));
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Copy the edges of a graph to a builder, relabeling the vertices.
+	 */
+	private static SparseGraphBuilder relabel(Graph<Integer, Integer> g, int[] permutation) {
+		boolean weighted = g.getType().isWeighted();
+		SparseGraphBuilder builder = new SparseGraphBuilder(permutation.length, g.getType().isDirected(), weighted,
+				(int) Math.min(Integer.MAX_VALUE, g.iterables().edgeCount()));
+		try {
+			for (Integer e : g.iterables().edges()) {
+				builder.append(permutation[g.getEdgeSource(e)], permutation[g.getEdgeTarget(e)],
+						weighted ? g.getEdgeWeight(e) : Graph.DEFAULT_EDGE_WEIGHT);
+			}
+		} catch (RuntimeException | Error e) {
+			builder.close();
+			throw e;
+		}
+		return builder;
+	}
+
+	private static void write(int[] order, CIntPointer permutation, CIntPointer inverse) {
+		for (int i = 0; i < order.length; i++) {
+			if (permutation.isNonNull()) {
+				permutation.write(order[i], i);
+			}
+			if (inverse.isNonNull()) {
+				inverse.write(i, order[i]);
+			}
+		}
+	}
+
+	private static VertexReordering.Strategy toStrategy(VertexOrdering ordering) {
+		switch (ordering) {
+		case VERTEX_ORDERING_REVERSE_CUTHILL_MCKEE:
+			return VertexReordering.Strategy.REVERSE_CUTHILL_MCKEE;
+		case VERTEX_ORDERING_BFS:
+			return VertexReordering.Strategy.BFS;
+		case VERTEX_ORDERING_DEGREE:
+			return VertexReordering.Strategy.DEGREE;
+		case VERTEX_ORDERING_RABBIT:
+		default:
+			return VertexReordering.Strategy.RABBIT;
+		}
+	}
+
+}
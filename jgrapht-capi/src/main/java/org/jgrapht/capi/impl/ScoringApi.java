@@ -17,6 +17,8 @@
  */
 package org.jgrapht.capi.impl;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.function.ToDoubleFunction;
 
@@ -26,13 +28,13 @@ import org.graalvm.nativeimage.ObjectHandles;
 import org.graalvm.nativeimage.c.function.CEntryPoint;
 import org.graalvm.nativeimage.c.type.CDoublePointer;
 import org.graalvm.nativeimage.c.type.CIntPointer;
+import org.graalvm.nativeimage.c.type.CLongPointer;
 import org.graalvm.nativeimage.c.type.WordPointer;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.interfaces.EdgeScoringAlgorithm;
 import org.jgrapht.alg.interfaces.VertexScoringAlgorithm;
 import org.jgrapht.alg.scoring.BetweennessCentrality;
 import org.jgrapht.alg.scoring.ClosenessCentrality;
-import org.jgrapht.alg.scoring.ClusteringCoefficient;
 import org.jgrapht.alg.scoring.Coreness;
 import org.jgrapht.alg.scoring.EdgeBetweennessCentrality;
 import org.jgrapht.alg.scoring.EigenvectorCentrality;
@@ -42,17 +44,22 @@ import org.jgrapht.alg.scoring.PageRank;
 import org.jgrapht.capi.Constants;
 import org.jgrapht.capi.JGraphTContext.IntegerToDoubleFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.LongToDoubleFunctionPointer;
-import org.jgrapht.capi.JGraphTContext.Status;
+import org.jgrapht.capi.custom.metrics.TriangleCounting;
+import org.jgrapht.capi.custom.scoring.IndexedBetweennessCentrality;
+import org.jgrapht.capi.custom.util.Progress;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class ScoringApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "scoring_exec_eigenvector_centrality", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeEigenVectorCentrality(IsolateThread thread, ObjectHandle graphHandle,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_scoring_exec_eigenvector_centrality");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		VertexScoringAlgorithm<V, Double> alg = new EigenvectorCentrality<V, E>(g);
@@ -61,13 +68,14 @@ public class ScoringApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "scoring_exec_custom_eigenvector_centrality", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeEigenVectorCentrality(IsolateThread thread, ObjectHandle graphHandle,
 			int maxIterations, double tolerance, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_scoring_exec_custom_eigenvector_centrality");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		VertexScoringAlgorithm<V, Double> alg = new EigenvectorCentrality<V, E>(g, maxIterations, tolerance);
@@ -76,12 +84,13 @@ public class ScoringApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "scoring_exec_katz_centrality", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeKatzCentrality(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_scoring_exec_katz_centrality");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		VertexScoringAlgorithm<V, Double> alg = new KatzCentrality<>(g);
@@ -90,7 +99,7 @@ public class ScoringApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
@@ -98,6 +107,7 @@ public class ScoringApi {
 	public static int executeKatzCentrality(IsolateThread thread, ObjectHandle graphHandle, double dampingFactor,
 			IntegerToDoubleFunctionPointer exogenousFactorFunctionPointer, int maxIterations, double tolerance,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_scoring_exec_custom_katz_centrality");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 
 		ToDoubleFunction<Integer> exogenousFactorFunction;
@@ -114,7 +124,7 @@ public class ScoringApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
@@ -122,6 +132,7 @@ public class ScoringApi {
 	public static int executeKatzCentrality(IsolateThread thread, ObjectHandle graphHandle, double dampingFactor,
 			LongToDoubleFunctionPointer exogenousFactorFunctionPointer, int maxIterations, double tolerance,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_scoring_exec_custom_katz_centrality");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 
 		ToDoubleFunction<Long> exogenousFactorFunction;
@@ -138,13 +149,14 @@ public class ScoringApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "scoring_exec_betweenness_centrality", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeBetweennessCentrality(IsolateThread thread, ObjectHandle graphHandle,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_scoring_exec_betweenness_centrality");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		VertexScoringAlgorithm<V, Double> alg = new BetweennessCentrality<>(g);
@@ -153,13 +165,14 @@ public class ScoringApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "scoring_exec_custom_betweenness_centrality", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeCustomBetweennessCentrality(IsolateThread thread, ObjectHandle graphHandle,
 			boolean normalize, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_scoring_exec_custom_betweenness_centrality");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		VertexScoringAlgorithm<V, Double> alg = new BetweennessCentrality<>(g, normalize);
@@ -168,13 +181,49 @@ public class ScoringApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
+	/**
+	 * Compute the betweenness centrality reporting progress. The progress has a
+	 * single phase whose units are the vertices processed as sources.
+	 * 
+	 * @param thread         the thread isolate
+	 * @param graphHandle    the graph
+	 * @param normalize      whether to normalize the scores
+	 * @param progressHandle the progress handle
+	 * @param res            handle to the map of scores
+	 * @return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "scoring_exec_betweenness_centrality_with_progress", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static <V, E> int executeBetweennessCentralityWithProgress(IsolateThread thread, ObjectHandle graphHandle,
+			boolean normalize, ObjectHandle progressHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_scoring_exec_betweenness_centrality_with_progress");
+		Graph<V, E> g = globalHandles.get(graphHandle);
+		Progress progress = globalHandles.get(progressHandle);
+
+		Map<V, Double> result;
+		try {
+			VertexScoringAlgorithm<V, Double> alg = new IndexedBetweennessCentrality<>(g, normalize, progress);
+			result = alg.getScores();
+		} finally {
+			if (progress != null) {
+				progress.finish();
+			}
+		}
+
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(result));
+		}
+		return Metrics.success();
+	}
+
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "scoring_exec_edge_betweenness_centrality", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeEdgeBetweennessCentrality(IsolateThread thread, ObjectHandle graphHandle,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_scoring_exec_edge_betweenness_centrality");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		EdgeScoringAlgorithm<E, Double> alg = new EdgeBetweennessCentrality<>(g);
@@ -183,13 +232,14 @@ public class ScoringApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "scoring_exec_closeness_centrality", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeClosenessCentrality(IsolateThread thread, ObjectHandle graphHandle,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_scoring_exec_closeness_centrality");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		VertexScoringAlgorithm<V, Double> alg = new ClosenessCentrality<>(g);
@@ -198,13 +248,14 @@ public class ScoringApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "scoring_exec_custom_closeness_centrality", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeCustomClosenessCentrality(IsolateThread thread, ObjectHandle graphHandle,
 			boolean incoming, boolean normalize, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_scoring_exec_custom_closeness_centrality");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		VertexScoringAlgorithm<V, Double> alg = new ClosenessCentrality<>(g, incoming, normalize);
@@ -213,13 +264,14 @@ public class ScoringApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "scoring_exec_harmonic_centrality", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeHarmonicCentrality(IsolateThread thread, ObjectHandle graphHandle,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_scoring_exec_harmonic_centrality");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		VertexScoringAlgorithm<V, Double> alg = new HarmonicCentrality<>(g);
@@ -228,13 +280,14 @@ public class ScoringApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "scoring_exec_custom_harmonic_centrality", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeCustomHarmonicCentrality(IsolateThread thread, ObjectHandle graphHandle,
 			boolean incoming, boolean normalize, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_scoring_exec_custom_harmonic_centrality");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		VertexScoringAlgorithm<V, Double> alg = new HarmonicCentrality<>(g, incoming, normalize);
@@ -243,12 +296,13 @@ public class ScoringApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "scoring_exec_pagerank", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executePagerank(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_scoring_exec_pagerank");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		VertexScoringAlgorithm<V, Double> alg = new PageRank<>(g);
@@ -257,13 +311,14 @@ public class ScoringApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "scoring_exec_custom_pagerank", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeCustomPagerank(IsolateThread thread, ObjectHandle graphHandle, double dampingFactor,
 			int maxIterations, double tolerance, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_scoring_exec_custom_pagerank");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		VertexScoringAlgorithm<V, Double> alg = new PageRank<>(g, dampingFactor, maxIterations, tolerance);
@@ -272,13 +327,14 @@ public class ScoringApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "scoring_exec_coreness", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeCoreness(IsolateThread thread, ObjectHandle graphHandle, CIntPointer degeneracyRes,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_scoring_exec_coreness");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		Coreness<V, E> alg = new Coreness<>(g);
@@ -292,18 +348,23 @@ public class ScoringApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "scoring_exec_clustering_coefficient", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeClusteringCoefficient(IsolateThread thread, ObjectHandle graphHandle,
 			CDoublePointer globalRes, CDoublePointer avgRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_scoring_exec_clustering_coefficient");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
-		ClusteringCoefficient<V, E> alg = new ClusteringCoefficient<>(g);
+		TriangleCounting<V> alg = new TriangleCounting<>(g, 1);
 
-		Map<V, Double> result = alg.getScores();
+		double[] local = alg.getLocalClusteringCoefficients();
+		Map<V, Double> result = new HashMap<>();
+		for (int i = 0; i < local.length; i++) {
+			result.put(alg.getVertex(i), local[i]);
+		}
 		double avg = alg.getAverageClusteringCoefficient();
 		double global = alg.getGlobalClusteringCoefficient();
 
@@ -314,9 +375,88 @@ public class ScoringApi {
 			globalRes.write(global);
 		}
 		if (res.isNonNull()) {
-			res.write(globalHandles.create(result));
+			res.write(globalHandles.create(Collections.unmodifiableMap(result)));
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "scoring_exec_clustering_coefficient_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Compute triangles and clustering coefficients in parallel into arrays.",
+					"All arrays are indexed by the position of the vertex in the vertex set and are optional.",
+					"The global clustering coefficient is NaN for directed graphs.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param parallelism how many threads to use",
+					"@param global_res the global clustering coefficient",
+					"@param avg_res the average clustering coefficient",
+					"@param vertices_res array of size the number of vertices for the vertices",
+					"@param triangles_res array of size the number of vertices for the triangles of each vertex",
+					"@param local_res array of size the number of vertices for the local clustering coefficients" })
+	public static <E> int executeClusteringCoefficientBulk(IsolateThread thread, ObjectHandle graphHandle,
+			int parallelism, CDoublePointer globalRes, CDoublePointer avgRes, CIntPointer verticesRes,
+			CLongPointer trianglesRes, CDoublePointer localRes) {
+		Metrics.enter("jgrapht_capi_ix_scoring_exec_clustering_coefficient_bulk");
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		TriangleCounting<Integer> alg = executeClusteringCoefficientBulk(g, parallelism, globalRes, avgRes,
+				trianglesRes, localRes);
+		if (verticesRes.isNonNull()) {
+			for (int i = 0; i < g.vertexSet().size(); i++) {
+				verticesRes.write(i, alg.getVertex(i));
+			}
+		}
+		return Metrics.success();
+	}
+
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
+			+ "scoring_exec_clustering_coefficient_bulk", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Compute triangles and clustering coefficients in parallel into arrays.",
+					"All arrays are indexed by the position of the vertex in the vertex set and are optional.",
+					"The global clustering coefficient is NaN for directed graphs.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param parallelism how many threads to use",
+					"@param global_res the global clustering coefficient",
+					"@param avg_res the average clustering coefficient",
+					"@param vertices_res array of size the number of vertices for the vertices",
+					"@param triangles_res array of size the number of vertices for the triangles of each vertex",
+					"@param local_res array of size the number of vertices for the local clustering coefficients" })
+	public static <E> int executeClusteringCoefficientBulk(IsolateThread thread, ObjectHandle graphHandle,
+			int parallelism, CDoublePointer globalRes, CDoublePointer avgRes, CLongPointer verticesRes,
+			CLongPointer trianglesRes, CDoublePointer localRes) {
+		Metrics.enter("jgrapht_capi_lx_scoring_exec_clustering_coefficient_bulk");
+		Graph<Long, E> g = globalHandles.get(graphHandle);
+		TriangleCounting<Long> alg = executeClusteringCoefficientBulk(g, parallelism, globalRes, avgRes,
+				trianglesRes, localRes);
+		if (verticesRes.isNonNull()) {
+			for (int i = 0; i < g.vertexSet().size(); i++) {
+				verticesRes.write(i, alg.getVertex(i));
+			}
+		}
+		return Metrics.success();
+	}
+
+	private static <V, E> TriangleCounting<V> executeClusteringCoefficientBulk(Graph<V, E> g, int parallelism,
+			CDoublePointer globalRes, CDoublePointer avgRes, CLongPointer trianglesRes, CDoublePointer localRes) {
+		TriangleCounting<V> alg = new TriangleCounting<>(g, parallelism);
+
+		if (trianglesRes.isNonNull()) {
+			long[] triangles = alg.getVertexTriangles();
+			for (int i = 0; i < triangles.length; i++) {
+				trianglesRes.write(i, triangles[i]);
+			}
+		}
+		if (localRes.isNonNull()) {
+			double[] local = alg.getLocalClusteringCoefficients();
+			for (int i = 0; i < local.length; i++) {
+				localRes.write(i, local[i]);
+			}
+		}
+		if (avgRes.isNonNull()) {
+			avgRes.write(alg.getAverageClusteringCoefficient());
+		}
+		if (globalRes.isNonNull()) {
+			globalRes.write(g.getType().isDirected() ? Double.NaN : alg.getGlobalClusteringCoefficient());
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return alg;
 	}
 
 }
@@ -28,138 +28,153 @@ import org.graalvm.nativeimage.c.function.CEntryPoint;
 import org.graalvm.nativeimage.c.type.CIntPointer;
 import org.graalvm.nativeimage.c.type.WordPointer;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class SetApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "set_create", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createSet(IsolateThread thread, WordPointer res) {
+		Metrics.enter("jgrapht_capi_set_create");
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(new HashSet<>()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "set_linked_create", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createLinkedSet(IsolateThread thread, WordPointer res) {
+		Metrics.enter("jgrapht_capi_set_linked_create");
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(new LinkedHashSet<>()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "set_it_create", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int createMapKeysIterator(IsolateThread thread, ObjectHandle handle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_set_it_create");
 		Set<?> set = globalHandles.get(handle);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(set.iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "set_size", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int setSize(IsolateThread thread, ObjectHandle handle, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_set_size");
 		Set<?> set = globalHandles.get(handle);
 		if (res.isNonNull()) {
 			res.write(set.size());
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "set_int_add", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int setIntAdd(IsolateThread thread, ObjectHandle handle, int value, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_set_int_add");
 		Set<Integer> set = globalHandles.get(handle);
 		boolean result = set.add(value);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + "set_long_add", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int setLongAdd(IsolateThread thread, ObjectHandle handle, long value, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_set_long_add");
 		Set<Long> set = globalHandles.get(handle);
 		boolean result = set.add(value);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "set_double_add", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int setDoubleAdd(IsolateThread thread, ObjectHandle handle, double value, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_set_double_add");
 		Set<Double> set = globalHandles.get(handle);
 		boolean result = set.add(value);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "set_int_remove", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int setIntRemove(IsolateThread thread, ObjectHandle handle, int value) {
+		Metrics.enter("jgrapht_capi_set_int_remove");
 		Set<Integer> set = globalHandles.get(handle);
 		set.remove(value);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + "set_long_remove", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int setLongRemove(IsolateThread thread, ObjectHandle handle, long value) {
+		Metrics.enter("jgrapht_capi_set_long_remove");
 		Set<Long> set = globalHandles.get(handle);
 		set.remove(value);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "set_double_remove", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int setDoubleRemove(IsolateThread thread, ObjectHandle handle, double value) {
+		Metrics.enter("jgrapht_capi_set_double_remove");
 		Set<Double> set = globalHandles.get(handle);
 		set.remove(value);
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "set_int_contains", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int setIntContains(IsolateThread thread, ObjectHandle handle, int value, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_set_int_contains");
 		Set<Integer> set = globalHandles.get(handle);
 		boolean result = set.contains(value);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "set_long_contains", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int setLongContains(IsolateThread thread, ObjectHandle handle, long value, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_set_long_contains");
 		Set<Long> set = globalHandles.get(handle);
 		boolean result = set.contains(value);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX
 			+ "set_double_contains", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int setDoubleContains(IsolateThread thread, ObjectHandle handle, double value, CIntPointer res) {
+		Metrics.enter("jgrapht_capi_set_double_contains");
 		Set<Double> set = globalHandles.get(handle);
 		boolean result = set.contains(value);
 		if (res.isNonNull()) {
 			res.write(result ? 1 : 0);
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + "set_clear", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int clearMap(IsolateThread thread, ObjectHandle handle) {
+		Metrics.enter("jgrapht_capi_set_clear");
 		Set<?> set = globalHandles.get(handle);
 		set.clear();
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
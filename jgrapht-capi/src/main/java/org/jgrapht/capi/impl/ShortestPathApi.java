@@ -56,8 +56,9 @@ import org.jgrapht.capi.JGraphTContext.AStarHeuristicFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.AStarHeuristicLLFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.IntegerToCDoublePointerFunctionPointer;
 import org.jgrapht.capi.JGraphTContext.LongToCDoublePointerFunctionPointer;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 import org.jgrapht.util.ConcurrencyUtil;
 
 /**
@@ -65,12 +66,13 @@ import org.jgrapht.util.ConcurrencyUtil;
  */
 public class ShortestPathApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_exec_dijkstra_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeDijkstraBetween(IsolateThread thread, ObjectHandle graphHandle, int source, int target,
 			WordPointer pathRes) {
+		Metrics.enter("jgrapht_capi_ix_sp_exec_dijkstra_get_path_between_vertices");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 
 		ShortestPathAlgorithm<Integer, ?> alg = new IntVertexDijkstraShortestPath<>(g);
@@ -82,13 +84,14 @@ public class ShortestPathApi {
 				pathRes.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "sp_exec_dijkstra_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeDijkstraBetween(IsolateThread thread, ObjectHandle graphHandle, long source, long target,
 			WordPointer pathRes) {
+		Metrics.enter("jgrapht_capi_lx_sp_exec_dijkstra_get_path_between_vertices");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 
 		ShortestPathAlgorithm<Long, ?> alg = new DijkstraShortestPath<>(g);
@@ -100,13 +103,14 @@ public class ShortestPathApi {
 				pathRes.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_exec_bidirectional_dijkstra_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBiDirectionalDijkstraBetween(IsolateThread thread, ObjectHandle graphHandle, int source,
 			int target, WordPointer pathRes) {
+		Metrics.enter("jgrapht_capi_ix_sp_exec_bidirectional_dijkstra_get_path_between_vertices");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 
 		ShortestPathAlgorithm<Integer, ?> alg = new BidirectionalDijkstraShortestPath<>(g);
@@ -118,13 +122,14 @@ public class ShortestPathApi {
 				pathRes.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "sp_exec_bidirectional_dijkstra_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBiDirectionalDijkstraBetween(IsolateThread thread, ObjectHandle graphHandle, long source,
 			long target, WordPointer pathRes) {
+		Metrics.enter("jgrapht_capi_lx_sp_exec_bidirectional_dijkstra_get_path_between_vertices");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 
 		ShortestPathAlgorithm<Long, ?> alg = new BidirectionalDijkstraShortestPath<>(g);
@@ -136,13 +141,14 @@ public class ShortestPathApi {
 				pathRes.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_exec_dijkstra_get_singlesource_from_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeDijkstraFrom(IsolateThread thread, ObjectHandle graphHandle, int source,
 			WordPointer pathsRes) {
+		Metrics.enter("jgrapht_capi_ix_sp_exec_dijkstra_get_singlesource_from_vertex");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 
 		ShortestPathAlgorithm<Integer, ?> alg = new IntVertexDijkstraShortestPath<>(g);
@@ -150,13 +156,14 @@ public class ShortestPathApi {
 		if (pathsRes.isNonNull()) {
 			pathsRes.write(globalHandles.create(paths));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "sp_exec_dijkstra_get_singlesource_from_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeDijkstraFrom(IsolateThread thread, ObjectHandle graphHandle, long source,
 			WordPointer pathsRes) {
+		Metrics.enter("jgrapht_capi_lx_sp_exec_dijkstra_get_singlesource_from_vertex");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 
 		ShortestPathAlgorithm<Long, ?> alg = new DijkstraShortestPath<>(g);
@@ -164,13 +171,14 @@ public class ShortestPathApi {
 		if (pathsRes.isNonNull()) {
 			pathsRes.write(globalHandles.create(paths));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_exec_bellmanford_get_singlesource_from_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBellmanFordFrom(IsolateThread thread, ObjectHandle graphHandle, int source,
 			WordPointer pathsRes) {
+		Metrics.enter("jgrapht_capi_ix_sp_exec_bellmanford_get_singlesource_from_vertex");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 
 		ShortestPathAlgorithm<Integer, ?> alg = new BellmanFordShortestPath<>(g);
@@ -178,13 +186,14 @@ public class ShortestPathApi {
 		if (pathsRes.isNonNull()) {
 			pathsRes.write(globalHandles.create(paths));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "sp_exec_bellmanford_get_singlesource_from_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBellmanFordFrom(IsolateThread thread, ObjectHandle graphHandle, long source,
 			WordPointer pathsRes) {
+		Metrics.enter("jgrapht_capi_lx_sp_exec_bellmanford_get_singlesource_from_vertex");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 
 		ShortestPathAlgorithm<Long, ?> alg = new BellmanFordShortestPath<>(g);
@@ -192,12 +201,13 @@ public class ShortestPathApi {
 		if (pathsRes.isNonNull()) {
 			pathsRes.write(globalHandles.create(paths));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_exec_bfs_get_singlesource_from_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBfsFrom(IsolateThread thread, ObjectHandle graphHandle, int source, WordPointer pathsRes) {
+		Metrics.enter("jgrapht_capi_ix_sp_exec_bfs_get_singlesource_from_vertex");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 
 		ShortestPathAlgorithm<Integer, ?> alg = new BFSShortestPath<>(g);
@@ -205,12 +215,13 @@ public class ShortestPathApi {
 		if (pathsRes.isNonNull()) {
 			pathsRes.write(globalHandles.create(paths));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "sp_exec_bfs_get_singlesource_from_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBfsFrom(IsolateThread thread, ObjectHandle graphHandle, long source, WordPointer pathsRes) {
+		Metrics.enter("jgrapht_capi_lx_sp_exec_bfs_get_singlesource_from_vertex");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 
 		ShortestPathAlgorithm<Long, ?> alg = new BFSShortestPath<>(g);
@@ -218,35 +229,38 @@ public class ShortestPathApi {
 		if (pathsRes.isNonNull()) {
 			pathsRes.write(globalHandles.create(paths));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "sp_exec_johnson_get_allpairs", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int executeJohnson(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_sp_exec_johnson_get_allpairs");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		ShortestPathAlgorithm<V, E> alg = new JohnsonShortestPaths<>(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(alg));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "sp_exec_floydwarshall_get_allpairs", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V,E> int executeFloydWarshall(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_sp_exec_floydwarshall_get_allpairs");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 		ShortestPathAlgorithm<V, E> alg = new FloydWarshallShortestPaths<>(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(alg));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_singlesource_get_path_to_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int singleSourceGetPathToVertex(IsolateThread thread, ObjectHandle pathsHandle, int target,
 			WordPointer pathRes) {
+		Metrics.enter("jgrapht_capi_ix_sp_singlesource_get_path_to_vertex");
 		SingleSourcePaths<Integer, ?> paths = globalHandles.get(pathsHandle);
 		GraphPath<Integer, ?> path = paths.getPath(target);
 		if (pathRes.isNonNull()) {
@@ -256,13 +270,14 @@ public class ShortestPathApi {
 				pathRes.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "sp_singlesource_get_path_to_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int singleSourceGetPathToVertex(IsolateThread thread, ObjectHandle pathsHandle, long target,
 			WordPointer pathRes) {
+		Metrics.enter("jgrapht_capi_lx_sp_singlesource_get_path_to_vertex");
 		SingleSourcePaths<Long, ?> paths = globalHandles.get(pathsHandle);
 		GraphPath<Long, ?> path = paths.getPath(target);
 		if (pathRes.isNonNull()) {
@@ -272,13 +287,14 @@ public class ShortestPathApi {
 				pathRes.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_allpairs_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int allPairsGetPathBetweenVerticesFields(IsolateThread thread, ObjectHandle handle, int source,
 			int target, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_sp_allpairs_get_path_between_vertices");
 		ShortestPathAlgorithm<Integer, ?> alg = globalHandles.get(handle);
 		GraphPath<Integer, ?> path = alg.getPath(source, target);
 		if (res.isNonNull()) {
@@ -288,13 +304,14 @@ public class ShortestPathApi {
 				res.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "sp_allpairs_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int allPairsGetPathBetweenVerticesFields(IsolateThread thread, ObjectHandle handle, long source,
 			long target, WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_sp_allpairs_get_path_between_vertices");
 		ShortestPathAlgorithm<Long, ?> alg = globalHandles.get(handle);
 		GraphPath<Long, ?> path = alg.getPath(source, target);
 		if (res.isNonNull()) {
@@ -304,37 +321,40 @@ public class ShortestPathApi {
 				res.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_allpairs_get_singlesource_from_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int allPairsGetSingleSourceFromVertex(IsolateThread thread, ObjectHandle handle, int source,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_sp_allpairs_get_singlesource_from_vertex");
 		ShortestPathAlgorithm<Integer, ?> alg = globalHandles.get(handle);
 		SingleSourcePaths<Integer, ?> paths = alg.getPaths(source);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(paths));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "sp_allpairs_get_singlesource_from_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int allPairsGetSingleSourceFromVertex(IsolateThread thread, ObjectHandle handle, long source,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_sp_allpairs_get_singlesource_from_vertex");
 		ShortestPathAlgorithm<Long, ?> alg = globalHandles.get(handle);
 		SingleSourcePaths<Long, ?> paths = alg.getPaths(source);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(paths));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_exec_astar_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeAStarBetween(IsolateThread thread, ObjectHandle graphHandle, int source, int target,
 			AStarHeuristicFunctionPointer admissibleHeuristicFunctionPointer, WordPointer pathRes) {
+		Metrics.enter("jgrapht_capi_ix_sp_exec_astar_get_path_between_vertices");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 
 		AStarShortestPath<Integer, ?> alg = new AStarShortestPath<>(g, (a, b) -> {
@@ -349,13 +369,14 @@ public class ShortestPathApi {
 				pathRes.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "sp_exec_astar_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeAStarBetween(IsolateThread thread, ObjectHandle graphHandle, long source, long target,
 			AStarHeuristicLLFunctionPointer admissibleHeuristicFunctionPointer, WordPointer pathRes) {
+		Metrics.enter("jgrapht_capi_lx_sp_exec_astar_get_path_between_vertices");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 
 		AStarShortestPath<Long, ?> alg = new AStarShortestPath<>(g, (a, b) -> {
@@ -370,13 +391,14 @@ public class ShortestPathApi {
 				pathRes.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_exec_bidirectional_astar_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBidirectionalAStarBetween(IsolateThread thread, ObjectHandle graphHandle, int source,
 			int target, AStarHeuristicFunctionPointer admissibleHeuristicFunctionPointer, WordPointer pathRes) {
+		Metrics.enter("jgrapht_capi_ix_sp_exec_bidirectional_astar_get_path_between_vertices");
 		Graph<Integer, Long> g = globalHandles.get(graphHandle);
 
 		BidirectionalAStarShortestPath<Integer, Long> alg = new BidirectionalAStarShortestPath<>(g, (a, b) -> {
@@ -391,13 +413,14 @@ public class ShortestPathApi {
 				pathRes.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "sp_exec_bidirectional_astar_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBidirectionalAStarBetween(IsolateThread thread, ObjectHandle graphHandle, long source,
 			long target, AStarHeuristicLLFunctionPointer admissibleHeuristicFunctionPointer, WordPointer pathRes) {
+		Metrics.enter("jgrapht_capi_lx_sp_exec_bidirectional_astar_get_path_between_vertices");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 
 		BidirectionalAStarShortestPath<Long, ?> alg = new BidirectionalAStarShortestPath<>(g, (a, b) -> {
@@ -412,13 +435,14 @@ public class ShortestPathApi {
 				pathRes.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_exec_astar_alt_heuristic_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeAStarWithAltHeuristicBetween(IsolateThread thread, ObjectHandle graphHandle, int source,
 			int target, ObjectHandle landmarksSet, WordPointer pathRes) {
+		Metrics.enter("jgrapht_capi_ix_sp_exec_astar_alt_heuristic_get_path_between_vertices");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 		Set<Integer> landmarks = globalHandles.get(landmarksSet);
 
@@ -433,13 +457,14 @@ public class ShortestPathApi {
 				pathRes.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "sp_exec_astar_alt_heuristic_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeAStarWithAltHeuristicBetween(IsolateThread thread, ObjectHandle graphHandle, long source,
 			long target, ObjectHandle landmarksSet, WordPointer pathRes) {
+		Metrics.enter("jgrapht_capi_lx_sp_exec_astar_alt_heuristic_get_path_between_vertices");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 		Set<Long> landmarks = globalHandles.get(landmarksSet);
 
@@ -454,13 +479,14 @@ public class ShortestPathApi {
 				pathRes.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_exec_bidirectional_astar_alt_heuristic_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBidirectionalAStarWithAltHeuristicBetween(IsolateThread thread, ObjectHandle graphHandle,
 			int source, int target, ObjectHandle landmarksSet, WordPointer pathRes) {
+		Metrics.enter("jgrapht_capi_ix_sp_exec_bidirectional_astar_alt_heuristic_get_path_between_vertices");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 		Set<Integer> landmarks = globalHandles.get(landmarksSet);
 
@@ -475,13 +501,14 @@ public class ShortestPathApi {
 				pathRes.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "sp_exec_bidirectional_astar_alt_heuristic_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeBidirectionalAStarWithAltHeuristicBetween(IsolateThread thread, ObjectHandle graphHandle,
 			long source, long target, ObjectHandle landmarksSet, WordPointer pathRes) {
+		Metrics.enter("jgrapht_capi_lx_sp_exec_bidirectional_astar_alt_heuristic_get_path_between_vertices");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 		Set<Long> landmarks = globalHandles.get(landmarksSet);
 
@@ -496,13 +523,14 @@ public class ShortestPathApi {
 				pathRes.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_exec_yen_get_k_loopless_paths_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeYenBetween(IsolateThread thread, ObjectHandle graphHandle, int source, int target, int k,
 			WordPointer pathIteratorRes) {
+		Metrics.enter("jgrapht_capi_ix_sp_exec_yen_get_k_loopless_paths_between_vertices");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 
 		YenKShortestPath<Integer, ?> alg = new YenKShortestPath<>(g);
@@ -511,13 +539,14 @@ public class ShortestPathApi {
 		if (pathIteratorRes.isNonNull()) {
 			pathIteratorRes.write(globalHandles.create(paths.iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "sp_exec_yen_get_k_loopless_paths_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeYenBetween(IsolateThread thread, ObjectHandle graphHandle, long source, long target, int k,
 			WordPointer pathIteratorRes) {
+		Metrics.enter("jgrapht_capi_lx_sp_exec_yen_get_k_loopless_paths_between_vertices");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 
 		YenKShortestPath<Long, ?> alg = new YenKShortestPath<>(g);
@@ -526,13 +555,14 @@ public class ShortestPathApi {
 		if (pathIteratorRes.isNonNull()) {
 			pathIteratorRes.write(globalHandles.create(paths.iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_exec_eppstein_get_k_paths_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeEppsteinBetween(IsolateThread thread, ObjectHandle graphHandle, int source, int target,
 			int k, WordPointer pathIteratorRes) {
+		Metrics.enter("jgrapht_capi_ix_sp_exec_eppstein_get_k_paths_between_vertices");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 
 		EppsteinKShortestPath<Integer, ?> alg = new EppsteinKShortestPath<>(g);
@@ -541,13 +571,14 @@ public class ShortestPathApi {
 		if (pathIteratorRes.isNonNull()) {
 			pathIteratorRes.write(globalHandles.create(paths.iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "sp_exec_eppstein_get_k_paths_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeEppsteinBetween(IsolateThread thread, ObjectHandle graphHandle, long source, long target,
 			int k, WordPointer pathIteratorRes) {
+		Metrics.enter("jgrapht_capi_lx_sp_exec_eppstein_get_k_paths_between_vertices");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 
 		EppsteinKShortestPath<Long, ?> alg = new EppsteinKShortestPath<>(g);
@@ -556,13 +587,14 @@ public class ShortestPathApi {
 		if (pathIteratorRes.isNonNull()) {
 			pathIteratorRes.write(globalHandles.create(paths.iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_exec_delta_stepping_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeDeltaSteppingBetween(IsolateThread thread, ObjectHandle graphHandle, int source,
 			int target, double delta, int parallelism, WordPointer pathRes) {
+		Metrics.enter("jgrapht_capi_ix_sp_exec_delta_stepping_get_path_between_vertices");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 
 		ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(parallelism);
@@ -575,13 +607,14 @@ public class ShortestPathApi {
 				pathRes.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "sp_exec_delta_stepping_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeDeltaSteppingBetween(IsolateThread thread, ObjectHandle graphHandle, long source,
 			long target, double delta, int parallelism, WordPointer pathRes) {
+		Metrics.enter("jgrapht_capi_lx_sp_exec_delta_stepping_get_path_between_vertices");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 
 		ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(parallelism);
@@ -594,13 +627,14 @@ public class ShortestPathApi {
 				pathRes.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_exec_delta_stepping_get_singlesource_from_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeDeltaSteppingFrom(IsolateThread thread, ObjectHandle graphHandle, int source, double delta,
 			int parallelism, WordPointer pathsRes) {
+		Metrics.enter("jgrapht_capi_ix_sp_exec_delta_stepping_get_singlesource_from_vertex");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 
 		ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(parallelism);
@@ -609,13 +643,14 @@ public class ShortestPathApi {
 		if (pathsRes.isNonNull()) {
 			pathsRes.write(globalHandles.create(paths));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "sp_exec_delta_stepping_get_singlesource_from_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeDeltaSteppingFrom(IsolateThread thread, ObjectHandle graphHandle, long source, double delta,
 			int parallelism, WordPointer pathsRes) {
+		Metrics.enter("jgrapht_capi_lx_sp_exec_delta_stepping_get_singlesource_from_vertex");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 
 		ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(parallelism);
@@ -624,13 +659,14 @@ public class ShortestPathApi {
 		if (pathsRes.isNonNull()) {
 			pathsRes.write(globalHandles.create(paths));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "multisp_exec_martin_get_multiobjectivesinglesource_from_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeMartin(IsolateThread thread, ObjectHandle graphHandle, int source,
 			IntegerToCDoublePointerFunctionPointer edgeWeightFunctionPointer, int dim, WordPointer pathsRes) {
+		Metrics.enter("jgrapht_capi_ii_multisp_exec_martin_get_multiobjectivesinglesource_from_vertex");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
 		Function<Integer, double[]> edgeWeightFunction = cacheEdgeWeightFunction(g, edgeWeightFunctionPointer, dim);
@@ -641,13 +677,14 @@ public class ShortestPathApi {
 		if (pathsRes.isNonNull()) {
 			pathsRes.write(globalHandles.create(paths));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
 			+ "multisp_exec_martin_get_multiobjectivesinglesource_from_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeMartin(IsolateThread thread, ObjectHandle graphHandle, long source,
 			LongToCDoublePointerFunctionPointer edgeWeightFunctionPointer, int dim, WordPointer pathsRes) {
+		Metrics.enter("jgrapht_capi_ll_multisp_exec_martin_get_multiobjectivesinglesource_from_vertex");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
 		Function<Long, double[]> edgeWeightFunction = cacheEdgeWeightFunction(g, edgeWeightFunctionPointer, dim);
@@ -658,13 +695,14 @@ public class ShortestPathApi {
 		if (pathsRes.isNonNull()) {
 			pathsRes.write(globalHandles.create(paths));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
 			+ "multisp_exec_martin_get_paths_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeMartin(IsolateThread thread, ObjectHandle graphHandle, int source, int target,
 			IntegerToCDoublePointerFunctionPointer edgeWeightFunctionPointer, int dim, WordPointer pathsRes) {
+		Metrics.enter("jgrapht_capi_ii_multisp_exec_martin_get_paths_between_vertices");
 		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
 
 		if (dim <= 0) {
@@ -682,13 +720,14 @@ public class ShortestPathApi {
 		if (pathsRes.isNonNull()) {
 			pathsRes.write(globalHandles.create(paths.iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGLONG
 			+ "multisp_exec_martin_get_paths_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeMartin(IsolateThread thread, ObjectHandle graphHandle, long source, long target,
 			LongToCDoublePointerFunctionPointer edgeWeightFunctionPointer, int dim, WordPointer pathsRes) {
+		Metrics.enter("jgrapht_capi_ll_multisp_exec_martin_get_paths_between_vertices");
 		Graph<Long, Long> g = globalHandles.get(graphHandle);
 
 		if (dim <= 0) {
@@ -706,31 +745,33 @@ public class ShortestPathApi {
 		if (pathsRes.isNonNull()) {
 			pathsRes.write(globalHandles.create(paths.iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "multisp_multiobjectivesinglesource_get_paths_to_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int multiObjectiveSingleSourceGetPathToVertex(IsolateThread thread, ObjectHandle sourceHandle,
 			int target, WordPointer pathsRes) {
+		Metrics.enter("jgrapht_capi_ix_multisp_multiobjectivesinglesource_get_paths_to_vertex");
 		MultiObjectiveSingleSourcePaths<Integer, ?> source = globalHandles.get(sourceHandle);
 		List<?> paths = source.getPaths(target);
 		if (pathsRes.isNonNull()) {
 			pathsRes.write(globalHandles.create(paths.iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "multisp_multiobjectivesinglesource_get_paths_to_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int multiObjectiveSingleSourceGetPathToVertex(IsolateThread thread, ObjectHandle sourceHandle,
 			long target, WordPointer pathsRes) {
+		Metrics.enter("jgrapht_capi_lx_multisp_multiobjectivesinglesource_get_paths_to_vertex");
 		MultiObjectiveSingleSourcePaths<Long, ?> source = globalHandles.get(sourceHandle);
 		List<?> paths = source.getPaths(target);
 		if (pathsRes.isNonNull()) {
 			pathsRes.write(globalHandles.create(paths.iterator()));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	private static Function<Integer, double[]> cacheEdgeWeightFunction(Graph<Integer, Integer> g,
@@ -36,11 +36,15 @@ import org.jgrapht.alg.shortestpath.CHManyToManyShortestPaths;
 import org.jgrapht.alg.shortestpath.ContractionHierarchyBidirectionalDijkstra;
 import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation;
 import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionHierarchy;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionVertex;
 import org.jgrapht.alg.shortestpath.TransitNodeRoutingShortestPath;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
+import org.jgrapht.capi.custom.util.Progress;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 import org.jgrapht.util.ConcurrencyUtil;
+import org.jheaps.AddressableHeap;
 import org.jheaps.tree.PairingHeap;
 
 /**
@@ -48,7 +52,9 @@ import org.jheaps.tree.PairingHeap;
  */
 public class ShortestPathCHApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
+
+	private static final String PHASE_CONTRACTION = "contraction";
 
 	/**
 	 * Given a {@link ManyToManyShortestPaths} get a path.
@@ -64,6 +70,7 @@ public class ShortestPathCHApi {
 			+ "sp_manytomany_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int manyToManyGetPathBetweenVerticesFields(IsolateThread thread, ObjectHandle handle, int source,
 			int target, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_sp_manytomany_get_path_between_vertices");
 		ManyToManyShortestPaths<Integer, E> alg = globalHandles.get(handle);
 		GraphPath<Integer, E> path = alg.getPath(source, target);
 		if (res.isNonNull()) {
@@ -73,7 +80,7 @@ public class ShortestPathCHApi {
 				res.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -90,6 +97,7 @@ public class ShortestPathCHApi {
 			+ "sp_manytomany_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <E> int manyToManyGetPathBetweenVerticesFields(IsolateThread thread, ObjectHandle handle, long source,
 			long target, WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_sp_manytomany_get_path_between_vertices");
 		ManyToManyShortestPaths<Long, E> alg = globalHandles.get(handle);
 		GraphPath<Long, E> path = alg.getPath(source, target);
 		if (res.isNonNull()) {
@@ -99,7 +107,7 @@ public class ShortestPathCHApi {
 				res.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -116,21 +124,37 @@ public class ShortestPathCHApi {
 			+ "sp_exec_contraction_hierarchy", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeCH(IsolateThread thread, ObjectHandle graphHandle, int parallelism, long seed,
 			WordPointer res) {
-		Graph<V, E> g = globalHandles.get(graphHandle);
-
-		if (parallelism < 1) {
-			throw new IllegalArgumentException("Parallelism must be positive");
-		}
-
-		ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(parallelism);
-		ContractionHierarchyPrecomputation<V, E> chp = new ContractionHierarchyPrecomputation<>(g,
-				new SingleRandomToManySupplier(seed), executor);
-		ContractionHierarchy<V, E> ch = chp.computeContractionHierarchy();
+		Metrics.enter("jgrapht_capi_xx_sp_exec_contraction_hierarchy");
+		return doExecuteCH(graphHandle, parallelism, seed, null, res);
+	}
 
-		if (res.isNonNull()) {
-			res.write(globalHandles.create(ch));
-		}
-		return Status.STATUS_SUCCESS.getCValue();
+	/**
+	 * Compute a {@link ContractionHierarchy} reporting progress. The progress has
+	 * a single phase whose units are the witness searches performed while
+	 * computing the priorities of vertices and contracting them. Their number is
+	 * not known in advance, thus the total is unknown and the completed units only
+	 * show that the computation advances.
+	 * 
+	 * @param thread         thread
+	 * @param graphHandle    the graph handle
+	 * @param parallelism    how many thread to use
+	 * @param seed           seed for the random number generator
+	 * @param progressHandle the progress handle
+	 * @param res            the {@link ContractionHierarchy} handle
+	 * @return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
+			+ "sp_exec_contraction_hierarchy_with_progress", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Compute a contraction hierarchy reporting progress. The single phase \"contraction\" counts",
+					"witness searches, whose number is not known in advance, thus its total is -1.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param parallelism number of threads", "@param seed seed for the random number generator",
+					"@param progress the progress handle", "@param res the contraction hierarchy handle" })
+	public static <V, E> int executeCHWithProgress(IsolateThread thread, ObjectHandle graphHandle, int parallelism,
+			long seed, ObjectHandle progressHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_sp_exec_contraction_hierarchy_with_progress");
+		Progress progress = globalHandles.get(progressHandle);
+		return doExecuteCH(graphHandle, parallelism, seed, progress, res);
 	}
 
 	/**
@@ -147,6 +171,7 @@ public class ShortestPathCHApi {
 			+ "sp_exec_contraction_hierarchy_get_manytomany", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeCHManyToMany(IsolateThread thread, ObjectHandle chHandle,
 			ObjectHandle sourcesHandle, ObjectHandle targetsHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_sp_exec_contraction_hierarchy_get_manytomany");
 		ContractionHierarchy<V, E> ch = globalHandles.get(chHandle);
 		Set<V> sources = globalHandles.get(sourcesHandle);
 		Set<V> targets = globalHandles.get(targetsHandle);
@@ -155,7 +180,7 @@ public class ShortestPathCHApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(mmPaths));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -173,6 +198,7 @@ public class ShortestPathCHApi {
 			+ "sp_exec_contraction_hierarchy_bidirectional_dijkstra_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeCHBiDirectionalDijkstraBetween(IsolateThread thread, ObjectHandle chHandle, int source,
 			int target, double radius, WordPointer pathRes) {
+		Metrics.enter("jgrapht_capi_ix_sp_exec_contraction_hierarchy_bidirectional_dijkstra_get_path_between_vertices");
 		ContractionHierarchy<Integer, ?> ch = globalHandles.get(chHandle);
 
 		ContractionHierarchyBidirectionalDijkstra<Integer, ?> alg = new ContractionHierarchyBidirectionalDijkstra<>(
@@ -185,7 +211,7 @@ public class ShortestPathCHApi {
 				pathRes.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -203,6 +229,7 @@ public class ShortestPathCHApi {
 			+ "sp_exec_contraction_hierarchy_bidirectional_dijkstra_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeCHBiDirectionalDijkstraBetween(IsolateThread thread, ObjectHandle chHandle, long source,
 			long target, double radius, WordPointer pathRes) {
+		Metrics.enter("jgrapht_capi_lx_sp_exec_contraction_hierarchy_bidirectional_dijkstra_get_path_between_vertices");
 		ContractionHierarchy<Long, ?> ch = globalHandles.get(chHandle);
 
 		ContractionHierarchyBidirectionalDijkstra<Long, ?> alg = new ContractionHierarchyBidirectionalDijkstra<>(ch,
@@ -215,7 +242,7 @@ public class ShortestPathCHApi {
 				pathRes.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	/**
@@ -231,6 +258,7 @@ public class ShortestPathCHApi {
 			+ "sp_exec_transit_node_routing", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeTransitNodeRouting(IsolateThread thread, ObjectHandle graphHandle, int parallelism, 
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_sp_exec_transit_node_routing");
 		Graph<V, E> g = globalHandles.get(graphHandle);
 
 		if (parallelism < 1) {
@@ -244,13 +272,14 @@ public class ShortestPathCHApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(tnr));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_exec_transit_node_routing_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeTransitNodeRoutingBetween(IsolateThread thread, ObjectHandle tnrHandle, int source, int target,
 			WordPointer pathRes) {
+		Metrics.enter("jgrapht_capi_ix_sp_exec_transit_node_routing_get_path_between_vertices");
 		TransitNodeRoutingShortestPath<Integer, ?> tnr = globalHandles.get(tnrHandle);
 		GraphPath<Integer, ?> path = tnr.getPath(source, target);
 		if (pathRes.isNonNull()) {
@@ -260,13 +289,14 @@ public class ShortestPathCHApi {
 				pathRes.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "sp_exec_transit_node_routing_get_path_between_vertices", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeTransitNodeRoutingBetween(IsolateThread thread, ObjectHandle tnrHandle, long source, long target,
 			WordPointer pathRes) {
+		Metrics.enter("jgrapht_capi_lx_sp_exec_transit_node_routing_get_path_between_vertices");
 		TransitNodeRoutingShortestPath<Long, ?> tnr = globalHandles.get(tnrHandle);
 		GraphPath<Long, ?> path = tnr.getPath(source, target);
 		if (pathRes.isNonNull()) {
@@ -276,36 +306,75 @@ public class ShortestPathCHApi {
 				pathRes.write(WordFactory.nullPointer());
 			}
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "sp_exec_transit_node_routing_get_singlesource_from_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeTransitNodeRoutingFrom(IsolateThread thread, ObjectHandle tnrHandle, int source,
 			WordPointer pathsRes) {
+		Metrics.enter("jgrapht_capi_ix_sp_exec_transit_node_routing_get_singlesource_from_vertex");
 		TransitNodeRoutingShortestPath<Integer, ?> tnr = globalHandles.get(tnrHandle);
 		SingleSourcePaths<Integer, ?> paths = tnr.getPaths(source);
 		if (pathsRes.isNonNull()) {
 			pathsRes.write(globalHandles.create(paths));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "sp_exec_transit_node_routing_get_singlesource_from_vertex", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeTransitNodeRoutingFrom(IsolateThread thread, ObjectHandle tnrHandle, long source,
 			WordPointer pathsRes) {
+		Metrics.enter("jgrapht_capi_lx_sp_exec_transit_node_routing_get_singlesource_from_vertex");
 		TransitNodeRoutingShortestPath<Long, ?> tnr = globalHandles.get(tnrHandle);
 		SingleSourcePaths<Long, ?> paths = tnr.getPaths(source);
 		if (pathsRes.isNonNull()) {
 			pathsRes.write(globalHandles.create(paths));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 	
 	/**
 	 * Helper to return different random instances from a single random seed.
 	 */
+	private static <V, E> int doExecuteCH(ObjectHandle graphHandle, int parallelism, long seed, Progress progress,
+			WordPointer res) {
+		Graph<V, E> g = globalHandles.get(graphHandle);
+
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be positive");
+		}
+
+		Supplier<AddressableHeap<Double, ContractionVertex<V>>> heapSupplier = PairingHeap::new;
+		if (progress != null) {
+			heapSupplier = () -> {
+				progress.advance(1);
+				return new PairingHeap<>();
+			};
+		}
+
+		ContractionHierarchy<V, E> ch;
+		ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(parallelism);
+		try {
+			if (progress != null) {
+				progress.startPhase(PHASE_CONTRACTION, Progress.UNKNOWN);
+			}
+			ContractionHierarchyPrecomputation<V, E> chp = new ContractionHierarchyPrecomputation<>(g,
+					new SingleRandomToManySupplier(seed), heapSupplier, executor);
+			ch = chp.computeContractionHierarchy();
+		} finally {
+			if (progress != null) {
+				progress.finish();
+			}
+		}
+
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(ch));
+		}
+		return Metrics.success();
+	}
+
 	private static class SingleRandomToManySupplier implements Supplier<Random> {
 
 		private Random rng;
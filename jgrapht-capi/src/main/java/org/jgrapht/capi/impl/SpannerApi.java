@@ -28,17 +28,19 @@ import org.jgrapht.alg.interfaces.SpannerAlgorithm;
 import org.jgrapht.alg.interfaces.SpannerAlgorithm.Spanner;
 import org.jgrapht.alg.spanning.GreedyMultiplicativeSpanner;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class SpannerApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "spanner_exec_greedy_multiplicative", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int executeGreedyMultiplicativeSpanner(IsolateThread thread, ObjectHandle graph, int k,
 			CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_spanner_exec_greedy_multiplicative");
 		Graph<V, E> g = globalHandles.get(graph);
 		SpannerAlgorithm<E> spannerAlg = new GreedyMultiplicativeSpanner<>(g, k);
 		Spanner<E> spanner = spannerAlg.getSpanner();
@@ -49,7 +51,7 @@ public class SpannerApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(spanner));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
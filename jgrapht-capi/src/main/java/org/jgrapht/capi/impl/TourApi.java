@@ -37,134 +37,145 @@ import org.jgrapht.alg.tour.RandomTourTSP;
 import org.jgrapht.alg.tour.TwoApproxMetricTSP;
 import org.jgrapht.alg.tour.TwoOptHeuristicTSP;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class TourApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "tour_tsp_random", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int randomTSP(IsolateThread thread, ObjectHandle handle, long seed, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_tour_tsp_random");
 		Graph<V, E> g = globalHandles.get(handle);
 		HamiltonianCycleAlgorithm<V, E> alg = new RandomTourTSP<>(new Random(seed));
 		GraphPath<V, E> result = alg.getTour(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "tour_tsp_greedy_heuristic", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int greedyHeuristic(IsolateThread thread, ObjectHandle handle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_tour_tsp_greedy_heuristic");
 		Graph<V, E> g = globalHandles.get(handle);
 		HamiltonianCycleAlgorithm<V, E> alg = new GreedyHeuristicTSP<>();
 		GraphPath<V, E> result = alg.getTour(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "tour_tsp_nearest_insertion_heuristic", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int nearestInsertionHeuristic(IsolateThread thread, ObjectHandle handle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_tour_tsp_nearest_insertion_heuristic");
 		Graph<V, E> g = globalHandles.get(handle);
 		HamiltonianCycleAlgorithm<V, E> alg = new NearestInsertionHeuristicTSP<>();
 		GraphPath<V, E> result = alg.getTour(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "tour_tsp_nearest_neighbor_heuristic", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int nearestNeighborHeuristic(IsolateThread thread, ObjectHandle handle, long seed,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_tour_tsp_nearest_neighbor_heuristic");
 		Graph<V, E> g = globalHandles.get(handle);
 		HamiltonianCycleAlgorithm<V, E> alg = new NearestNeighborHeuristicTSP<>(new Random(seed));
 		GraphPath<V, E> result = alg.getTour(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "tour_metric_tsp_christofides", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int christofides(IsolateThread thread, ObjectHandle handle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_tour_metric_tsp_christofides");
 		Graph<V, E> g = globalHandles.get(handle);
 		HamiltonianCycleAlgorithm<V, E> alg = new ChristofidesThreeHalvesApproxMetricTSP<>();
 		GraphPath<V, E> result = alg.getTour(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "tour_metric_tsp_two_approx", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int twoApprox(IsolateThread thread, ObjectHandle handle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_tour_metric_tsp_two_approx");
 		Graph<V, E> g = globalHandles.get(handle);
 		HamiltonianCycleAlgorithm<V, E> alg = new TwoApproxMetricTSP<>();
 		GraphPath<V, E> result = alg.getTour(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "tour_tsp_held_karp", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int heldKarp(IsolateThread thread, ObjectHandle handle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_tour_tsp_held_karp");
 		Graph<V, E> g = globalHandles.get(handle);
 		HamiltonianCycleAlgorithm<V, E> alg = new HeldKarpTSP<>();
 		GraphPath<V, E> result = alg.getTour(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "tour_hamiltonian_palmer", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int palmer(IsolateThread thread, ObjectHandle handle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_tour_hamiltonian_palmer");
 		Graph<V, E> g = globalHandles.get(handle);
 		HamiltonianCycleAlgorithm<V, E> alg = new PalmerHamiltonianCycle<>();
 		GraphPath<V, E> result = alg.getTour(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "tour_tsp_two_opt_heuristic", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int twoOptHeuristic(IsolateThread thread, ObjectHandle handle, int k,
 			double minCostImprovement, long seed, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_tour_tsp_two_opt_heuristic");
 		Graph<V, E> g = globalHandles.get(handle);
 		HamiltonianCycleAlgorithm<V, E> alg = new TwoOptHeuristicTSP<>(k, new Random(seed), minCostImprovement);
 		GraphPath<V, E> result = alg.getTour(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "tour_tsp_two_opt_heuristic_improve", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static <V, E> int twoOptHeuristicImprove(IsolateThread thread, ObjectHandle handle,
 			double minCostImprovement, long seed, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_tour_tsp_two_opt_heuristic_improve");
 		GraphPath<V, E> tour = globalHandles.get(handle);
 		TwoOptHeuristicTSP<V, E> alg = new TwoOptHeuristicTSP<>(1, new Random(seed), minCostImprovement);
 		GraphPath<V, E> result = alg.improveTour(tour);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(result));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
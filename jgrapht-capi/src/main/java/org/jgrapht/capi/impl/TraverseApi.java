@@ -24,11 +24,14 @@ import org.graalvm.nativeimage.IsolateThread;
 import org.graalvm.nativeimage.ObjectHandle;
 import org.graalvm.nativeimage.ObjectHandles;
 import org.graalvm.nativeimage.c.function.CEntryPoint;
+import org.graalvm.nativeimage.c.type.CIntPointer;
 import org.graalvm.nativeimage.c.type.WordPointer;
 import org.jgrapht.Graph;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
+import org.jgrapht.capi.custom.traverse.ParallelBreadthFirstSearch;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 import org.jgrapht.traverse.BreadthFirstIterator;
 import org.jgrapht.traverse.ClosestFirstIterator;
 import org.jgrapht.traverse.DegeneracyOrderingIterator;
@@ -40,210 +43,344 @@ import org.jgrapht.traverse.TopologicalOrderIterator;
 
 public class TraverseApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "traverse_create_bfs_from_all_vertices_vit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int bfsAll(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_traverse_create_bfs_from_all_vertices_vit");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		Iterator<?> it = new BreadthFirstIterator<>(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "traverse_create_bfs_from_vertex_vit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int bfsFromVertex(IsolateThread thread, ObjectHandle graphHandle, int vertex, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_traverse_create_bfs_from_vertex_vit");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 		Iterator<Integer> it = new BreadthFirstIterator<>(g, vertex);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "traverse_create_bfs_from_vertex_vit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int bfsFromVertex(IsolateThread thread, ObjectHandle graphHandle, long vertex, WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_traverse_create_bfs_from_vertex_vit");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 		Iterator<Long> it = new BreadthFirstIterator<>(g, vertex);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "traverse_create_lex_bfs_vit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int lexBFSIterator(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_traverse_create_lex_bfs_vit");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		Iterator<?> it = new LexBreadthFirstIterator<>(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "traverse_create_dfs_from_all_vertices_vit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int dfsAll(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_traverse_create_dfs_from_all_vertices_vit");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		Iterator<?> it = new DepthFirstIterator<>(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "traverse_create_dfs_from_vertex_vit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int dfsFromVertex(IsolateThread thread, ObjectHandle graphHandle, int vertex, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_traverse_create_dfs_from_vertex_vit");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 		Iterator<Integer> it = new DepthFirstIterator<>(g, vertex);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "traverse_create_dfs_from_vertex_vit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int dfsFromVertex(IsolateThread thread, ObjectHandle graphHandle, long vertex, WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_traverse_create_dfs_from_vertex_vit");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 		Iterator<Long> it = new DepthFirstIterator<>(g, vertex);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "traverse_create_topological_order_vit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int topo(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_traverse_create_topological_order_vit");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		Iterator<?> it = new TopologicalOrderIterator<>(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "traverse_create_random_walk_from_vertex_vit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int randomWalkFromVertex(IsolateThread thread, ObjectHandle graphHandle, int vertex,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_traverse_create_random_walk_from_vertex_vit");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 		Iterator<Integer> it = new RandomWalkVertexIterator<>(g, vertex);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "traverse_create_random_walk_from_vertex_vit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int randomWalkFromVertex(IsolateThread thread, ObjectHandle graphHandle, long vertex,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_traverse_create_random_walk_from_vertex_vit");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 		Iterator<Long> it = new RandomWalkVertexIterator<>(g, vertex);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "traverse_create_custom_random_walk_from_vertex_vit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int customRandomWalkFromVertex(IsolateThread thread, ObjectHandle graphHandle, int vertex,
 			boolean weighted, long maxSteps, long seed, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_traverse_create_custom_random_walk_from_vertex_vit");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 		Iterator<Integer> it = new RandomWalkVertexIterator<>(g, vertex, maxSteps, weighted, new Random(seed));
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "traverse_create_custom_random_walk_from_vertex_vit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int customRandomWalkFromVertex(IsolateThread thread, ObjectHandle graphHandle, long vertex,
 			boolean weighted, long maxSteps, long seed, WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_traverse_create_custom_random_walk_from_vertex_vit");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 		Iterator<Long> it = new RandomWalkVertexIterator<>(g, vertex, maxSteps, weighted, new Random(seed));
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "traverse_create_max_cardinality_vit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int maxCardItVertex(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_traverse_create_max_cardinality_vit");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		Iterator<?> it = new MaximumCardinalityIterator<>(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "traverse_create_degeneracy_ordering_vit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int degeneracyOrderingIt(IsolateThread thread, ObjectHandle graphHandle, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_traverse_create_degeneracy_ordering_vit");
 		Graph<?, ?> g = globalHandles.get(graphHandle);
 		Iterator<?> it = new DegeneracyOrderingIterator<>(g);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "traverse_create_closest_first_from_vertex_vit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int closestFirst(IsolateThread thread, ObjectHandle graphHandle, int vertex, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_traverse_create_closest_first_from_vertex_vit");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 		Iterator<Integer> it = new ClosestFirstIterator<>(g, vertex);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "traverse_create_closest_first_from_vertex_vit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int closestFirst(IsolateThread thread, ObjectHandle graphHandle, long vertex, WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_traverse_create_closest_first_from_vertex_vit");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 		Iterator<?> it = new ClosestFirstIterator<>(g, vertex);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
 			+ "traverse_create_custom_closest_first_from_vertex_vit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int customClosestFirst(IsolateThread thread, ObjectHandle graphHandle, int vertex, double radius,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_traverse_create_custom_closest_first_from_vertex_vit");
 		Graph<Integer, ?> g = globalHandles.get(graphHandle);
 		Iterator<Integer> it = new ClosestFirstIterator<>(g, vertex, radius);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.LONGANY
 			+ "traverse_create_custom_closest_first_from_vertex_vit", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int customClosestFirst(IsolateThread thread, ObjectHandle graphHandle, long vertex, double radius,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_lx_traverse_create_custom_closest_first_from_vertex_vit");
 		Graph<Long, ?> g = globalHandles.get(graphHandle);
 		Iterator<Long> it = new ClosestFirstIterator<>(g, vertex, radius);
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(it));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
+	}
+
+	/**
+	 * Create a parallel breadth-first search. The adjacency of the graph is
+	 * copied and the threads are created once, thus the search can be executed
+	 * many times. Destroying the handle releases the threads.
+	 *
+	 * @param thread      the isolate thread
+	 * @param graphHandle the graph
+	 * @param parallelism the number of threads
+	 * @param res         the search handle
+	 * @return the return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "traverse_parallel_bfs_create", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Create a parallel direction-optimizing breadth-first search. The vertices must be 0 up to n-1. "
+							+ "The search can be executed many times and concurrently.",
+					"@param thread the isolate thread", "@param graph the graph",
+					"@param parallelism number of threads", "@param result the resulting search handle" })
+	public static <E> int parallelBfsCreate(IsolateThread thread, ObjectHandle graphHandle, int parallelism,
+			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_traverse_parallel_bfs_create");
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		ParallelBreadthFirstSearch bfs = new ParallelBreadthFirstSearch(g, parallelism);
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(bfs));
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Create a parallel breadth-first search with explicit factors for the
+	 * switches between top-down and bottom-up steps.
+	 *
+	 * @param thread      the isolate thread
+	 * @param graphHandle the graph
+	 * @param parallelism the number of threads
+	 * @param alpha       switch to bottom-up when the frontier has more than the
+	 *                    unexplored edges divided by alpha
+	 * @param beta        switch back to top-down when the frontier has fewer than
+	 *                    n divided by beta vertices
+	 * @param res         the search handle
+	 * @return the return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "traverse_parallel_bfs_create_with_thresholds", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Create a parallel direction-optimizing breadth-first search with explicit factors for the "
+							+ "switches between top-down and bottom-up steps. The defaults are 14 and 24.",
+					"@param thread the isolate thread", "@param graph the graph",
+					"@param parallelism number of threads",
+					"@param alpha switch to bottom-up when the frontier has more than the unexplored edges "
+							+ "divided by alpha",
+					"@param beta switch back to top-down when the frontier has fewer than n divided by beta vertices",
+					"@param result the resulting search handle" })
+	public static <E> int parallelBfsCreateWithThresholds(IsolateThread thread, ObjectHandle graphHandle,
+			int parallelism, int alpha, int beta, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ix_traverse_parallel_bfs_create_with_thresholds");
+		Graph<Integer, E> g = globalHandles.get(graphHandle);
+		ParallelBreadthFirstSearch bfs = new ParallelBreadthFirstSearch(g, parallelism, alpha, beta);
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(bfs));
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Execute a parallel breadth-first search from a set of sources.
+	 *
+	 * @param thread       the isolate thread
+	 * @param bfsHandle    the search handle
+	 * @param sources      the sources
+	 * @param sourcesCount the number of sources
+	 * @param levels       buffer of size n for the levels, or null
+	 * @param parents      buffer of size n for the parents, or null
+	 * @param reachedRes   the number of reached vertices
+	 * @param levelsRes    the number of levels
+	 * @return the return status
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTANY
+			+ "traverse_parallel_bfs_exec", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Execute a parallel breadth-first search from one or more sources.",
+					"@param thread the isolate thread", "@param bfs the search handle",
+					"@param sources array with the sources",
+					"@param sources_count number of sources",
+					"@param levels array of size n for the distance of each vertex from the closest source, "
+							+ "-1 if not reached, ignored if null",
+					"@param parents array of size n for the parent of each vertex, the vertex itself for sources "
+							+ "and -1 if not reached, ignored if null",
+					"@param reached the number of reached vertices",
+					"@param levels_count the number of levels" })
+	public static int parallelBfsExec(IsolateThread thread, ObjectHandle bfsHandle, CIntPointer sources,
+			int sourcesCount, CIntPointer levels, CIntPointer parents, CIntPointer reachedRes,
+			CIntPointer levelsRes) {
+		Metrics.enter("jgrapht_capi_ix_traverse_parallel_bfs_exec");
+		ParallelBreadthFirstSearch bfs = globalHandles.get(bfsHandle);
+		int[] s = new int[sourcesCount];
+		for (int i = 0; i < sourcesCount; i++) {
+			s[i] = sources.read(i);
+		}
+		ParallelBreadthFirstSearch.Result result = bfs.search(s);
+		int n = bfs.vertexCount();
+		for (int v = 0; v < n; v++) {
+			if (levels.isNonNull()) {
+				levels.write(v, result.getLevel(v));
+			}
+			if (parents.isNonNull()) {
+				parents.write(v, result.getParent(v));
+			}
+		}
+		if (reachedRes.isNonNull()) {
+			reachedRes.write(result.getReachedCount());
+		}
+		if (levelsRes.isNonNull()) {
+			levelsRes.write(result.getNumberOfLevels());
+		}
+		return Metrics.success();
 	}
 
 }
@@ -36,17 +36,19 @@ import org.jgrapht.alg.vertexcover.EdgeBasedTwoApproxVCImpl;
 import org.jgrapht.alg.vertexcover.GreedyVCImpl;
 import org.jgrapht.alg.vertexcover.RecursiveExactVCImpl;
 import org.jgrapht.capi.Constants;
-import org.jgrapht.capi.JGraphTContext.Status;
 import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
 
 public class VertexCoverApi {
 
-	private static ObjectHandles globalHandles = ObjectHandles.getGlobal();
+	private static ObjectHandles globalHandles = Handles.getHandles();
 
 	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.ANYANY
 			+ "vertexcover_exec_greedy", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeVertexCoverGreedyWeighted(IsolateThread thread, ObjectHandle graphHandle,
 			CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_vertexcover_exec_greedy");
 		return executeVertexCover(thread, graphHandle, g -> new GreedyVCImpl<>(g), weightRes, res);
 	}
 
@@ -54,6 +56,7 @@ public class VertexCoverApi {
 			+ "vertexcover_exec_greedy_weighted", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeVertexCoverGreedyWeighted(IsolateThread thread, ObjectHandle graphHandle,
 			ObjectHandle mapHandle, CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_vertexcover_exec_greedy_weighted");
 		return executeVertexCoverWeighted(thread, graphHandle, mapHandle,
 				(g, weights) -> new GreedyVCImpl<>(g, weights), weightRes, res);
 	}
@@ -62,6 +65,7 @@ public class VertexCoverApi {
 			+ "vertexcover_exec_clarkson", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeVertexCoverClarkson(IsolateThread thread, ObjectHandle graphHandle,
 			CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_vertexcover_exec_clarkson");
 		return executeVertexCover(thread, graphHandle, g -> new ClarksonTwoApproxVCImpl<>(g), weightRes, res);
 	}
 
@@ -69,6 +73,7 @@ public class VertexCoverApi {
 			+ "vertexcover_exec_clarkson_weighted", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeVertexCoverClarksonWeighted(IsolateThread thread, ObjectHandle graphHandle,
 			ObjectHandle mapHandle, CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_vertexcover_exec_clarkson_weighted");
 		return executeVertexCoverWeighted(thread, graphHandle, mapHandle,
 				(g, weights) -> new ClarksonTwoApproxVCImpl<>(g, weights), weightRes, res);
 	}
@@ -77,6 +82,7 @@ public class VertexCoverApi {
 			+ "vertexcover_exec_edgebased", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeVertexCoverEdgeBased(IsolateThread thread, ObjectHandle graphHandle,
 			CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_vertexcover_exec_edgebased");
 		return executeVertexCover(thread, graphHandle, g -> new EdgeBasedTwoApproxVCImpl<>(g), weightRes, res);
 	}
 
@@ -84,6 +90,7 @@ public class VertexCoverApi {
 			+ "vertexcover_exec_baryehudaeven", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeVertexCoverBarYehudaEven(IsolateThread thread, ObjectHandle graphHandle,
 			CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_vertexcover_exec_baryehudaeven");
 		return executeVertexCover(thread, graphHandle, g -> new BarYehudaEvenTwoApproxVCImpl<>(g), weightRes, res);
 	}
 
@@ -91,6 +98,7 @@ public class VertexCoverApi {
 			+ "vertexcover_exec_baryehudaeven_weighted", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeVertexCoverBarYehudaEvenWeighted(IsolateThread thread, ObjectHandle graphHandle,
 			ObjectHandle mapHandle, CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_vertexcover_exec_baryehudaeven_weighted");
 		return executeVertexCoverWeighted(thread, graphHandle, mapHandle,
 				(g, weights) -> new BarYehudaEvenTwoApproxVCImpl<>(g, weights), weightRes, res);
 	}
@@ -99,6 +107,7 @@ public class VertexCoverApi {
 			+ "vertexcover_exec_exact", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeVertexCoverExact(IsolateThread thread, ObjectHandle graphHandle, CDoublePointer weightRes,
 			WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_vertexcover_exec_exact");
 		return executeVertexCover(thread, graphHandle, g -> new RecursiveExactVCImpl<>(g), weightRes, res);
 	}
 
@@ -106,6 +115,7 @@ public class VertexCoverApi {
 			+ "vertexcover_exec_exact_weighted", exceptionHandler = StatusReturnExceptionHandler.class)
 	public static int executeVertexCoverExactWeighted(IsolateThread thread, ObjectHandle graphHandle,
 			ObjectHandle mapHandle, CDoublePointer weightRes, WordPointer res) {
+		Metrics.enter("jgrapht_capi_xx_vertexcover_exec_exact_weighted");
 		return executeVertexCoverWeighted(thread, graphHandle, mapHandle,
 				(g, weights) -> new RecursiveExactVCImpl<>(g, weights), weightRes, res);
 	}
@@ -122,7 +132,7 @@ public class VertexCoverApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(vertexCover));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 	private static <V,E> int executeVertexCoverWeighted(IsolateThread thread, ObjectHandle graphHandle,
@@ -139,7 +149,7 @@ public class VertexCoverApi {
 		if (res.isNonNull()) {
 			res.write(globalHandles.create(vertexCover));
 		}
-		return Status.STATUS_SUCCESS.getCValue();
+		return Metrics.success();
 	}
 
 }
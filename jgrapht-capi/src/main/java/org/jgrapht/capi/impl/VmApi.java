@@ -0,0 +1,83 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.impl;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+import org.graalvm.nativeimage.IsolateThread;
+import org.graalvm.nativeimage.c.function.CEntryPoint;
+import org.graalvm.nativeimage.c.type.CLongPointer;
+import org.jgrapht.capi.Constants;
+import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.metrics.Metrics;
+
+/**
+ * Memory statistics of the isolate, mainly useful for benchmarking.
+ */
+public class VmApi {
+
+	/**
+	 * Get the number of bytes currently used in the heap of the isolate, including
+	 * garbage which has not been collected yet.
+	 * 
+	 * @param thread the thread isolate
+	 * @param res    the number of bytes
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + "vm_heap_used", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int heapUsed(IsolateThread thread, CLongPointer res) {
+		Metrics.enterUntracked();
+		Runtime runtime = Runtime.getRuntime();
+		if (res.isNonNull()) {
+			res.write(runtime.totalMemory() - runtime.freeMemory());
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Get the total number of garbage collections of the isolate.
+	 * 
+	 * @param thread the thread isolate
+	 * @param res    the number of collections
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + "vm_gc_count", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int gcCount(IsolateThread thread, CLongPointer res) {
+		Metrics.enterUntracked();
+		long count = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(0, gc.getCollectionCount());
+		}
+		if (res.isNonNull()) {
+			res.write(count);
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Run the garbage collector.
+	 * 
+	 * @param thread the thread isolate
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + "vm_gc", exceptionHandler = StatusReturnExceptionHandler.class)
+	public static int gc(IsolateThread thread) {
+		Metrics.enterUntracked();
+		System.gc();
+		return Metrics.success();
+	}
+
+}
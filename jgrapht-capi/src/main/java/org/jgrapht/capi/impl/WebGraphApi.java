@@ -0,0 +1,180 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.impl;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+import org.graalvm.nativeimage.IsolateThread;
+import org.graalvm.nativeimage.ObjectHandle;
+import org.graalvm.nativeimage.ObjectHandles;
+import org.graalvm.nativeimage.c.function.CEntryPoint;
+import org.graalvm.nativeimage.c.type.CCharPointer;
+import org.graalvm.nativeimage.c.type.WordPointer;
+import org.jgrapht.Graph;
+import org.jgrapht.capi.Constants;
+import org.jgrapht.capi.StringUtils;
+import org.jgrapht.capi.error.StatusReturnExceptionHandler;
+import org.jgrapht.capi.graph.DefaultCapiGraph;
+import org.jgrapht.capi.graph.WebGraphAdapter;
+import org.jgrapht.capi.graph.WebGraphSequentialView;
+import org.jgrapht.capi.handles.Handles;
+import org.jgrapht.capi.metrics.Metrics;
+import org.jgrapht.nio.ExportException;
+import org.jgrapht.nio.ImportException;
+
+import it.unimi.dsi.webgraph.BVGraph;
+import it.unimi.dsi.webgraph.EFGraph;
+import it.unimi.dsi.webgraph.ImmutableGraph;
+
+/**
+ * Graphs stored in the compressed formats of WebGraph. Loaded graphs are
+ * unmodifiable and are decompressed on demand, thus they can be much larger
+ * than graphs on the managed heap.
+ */
+public class WebGraphApi {
+
+	private static ObjectHandles globalHandles = Handles.getHandles();
+
+	/**
+	 * Load a directed graph in the BVGraph or the EFGraph format.
+	 *
+	 * @param thread            the thread isolate
+	 * @param basename          the basename of the graph
+	 * @param transposeBasename the basename of the transpose graph, or null
+	 * @param mapped            whether to memory map the graph instead of loading
+	 *                          it in memory
+	 * @param res               the graph handle
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "graph_webgraph_load_directed", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Load a directed graph stored in the BVGraph or the EFGraph format. The graph is unmodifiable "
+							+ "and its edges are numbered by source and target.",
+					"@param thread the isolate thread", "@param basename the basename of the graph",
+					"@param transpose_basename the basename of the transpose graph, if null incoming edges are "
+							+ "not supported",
+					"@param mapped whether to memory map the graph files",
+					"@param result the resulting graph handle" })
+	public static int loadDirected(IsolateThread thread, CCharPointer basename, CCharPointer transposeBasename,
+			boolean mapped, WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_graph_webgraph_load_directed");
+		ImmutableGraph graph = load(StringUtils.toJavaStringFromUtf8(basename), mapped);
+		ImmutableGraph transpose = null;
+		if (transposeBasename.isNonNull()) {
+			transpose = load(StringUtils.toJavaStringFromUtf8(transposeBasename), mapped);
+		}
+		Graph<Integer, Integer> result = new DefaultCapiGraph<Integer, Integer>(
+				new WebGraphAdapter(graph, transpose));
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(result));
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Load an undirected graph in the BVGraph or the EFGraph format. The stored
+	 * graph must be symmetric.
+	 *
+	 * @param thread   the thread isolate
+	 * @param basename the basename of the graph
+	 * @param mapped   whether to memory map the graph instead of loading it in
+	 *                 memory
+	 * @param res      the graph handle
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "graph_webgraph_load_undirected", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Load an undirected graph stored as a symmetric graph in the BVGraph or the EFGraph format. "
+							+ "The graph is unmodifiable and the edge {u,v} with u <= v is numbered by u and v.",
+					"@param thread the isolate thread", "@param basename the basename of the graph",
+					"@param mapped whether to memory map the graph files",
+					"@param result the resulting graph handle" })
+	public static int loadUndirected(IsolateThread thread, CCharPointer basename, boolean mapped,
+			WordPointer res) {
+		Metrics.enter("jgrapht_capi_ii_graph_webgraph_load_undirected");
+		ImmutableGraph graph = load(StringUtils.toJavaStringFromUtf8(basename), mapped);
+		Graph<Integer, Integer> result = new DefaultCapiGraph<Integer, Integer>(new WebGraphAdapter(graph));
+		if (res.isNonNull()) {
+			res.write(globalHandles.create(result));
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Store a graph in the BVGraph format.
+	 *
+	 * @param thread            the thread isolate
+	 * @param graphHandle       the graph handle
+	 * @param basename          the basename of the files to write
+	 * @param windowSize        the window size
+	 * @param maxRefCount       the maximum reference count
+	 * @param minIntervalLength the minimum interval length
+	 */
+	@CEntryPoint(name = Constants.LIB_PREFIX + Constants.INTINT
+			+ "export_file_bvgraph", exceptionHandler = StatusReturnExceptionHandler.class, documentation = {
+					"Store a graph with vertices 0 up to n-1 in the BVGraph format. Undirected graphs are "
+							+ "stored as symmetric graphs. Weights and multiple edges are not stored.",
+					"@param thread the isolate thread", "@param graph the graph handle",
+					"@param basename the basename of the files to write",
+					"@param window_size the window size, 7 is the default",
+					"@param max_ref_count the maximum reference count, 3 is the default",
+					"@param min_interval_length the minimum interval length, 4 is the default" })
+	public static int exportBVGraph(IsolateThread thread, ObjectHandle graphHandle, CCharPointer basename,
+			int windowSize, int maxRefCount, int minIntervalLength) {
+		Metrics.enter("jgrapht_capi_ii_export_file_bvgraph");
+		Graph<Integer, Integer> g = globalHandles.get(graphHandle);
+		WebGraphSequentialView view = new WebGraphSequentialView(g);
+		try {
+			BVGraph.store(view, StringUtils.toJavaStringFromUtf8(basename), windowSize, maxRefCount,
+					minIntervalLength, BVGraph.DEFAULT_ZETA_K, 0);
+		} catch (IOException e) {
+			throw new ExportException(e);
+		}
+		return Metrics.success();
+	}
+
+	/**
+	 * Load a graph without reflection, which is not available in the native
+	 * image, by dispatching on the graph class of the properties file.
+	 */
+	private static ImmutableGraph load(String basename, boolean mapped) {
+		Properties properties = new Properties();
+		try (InputStream is = new FileInputStream(basename + ImmutableGraph.PROPERTIES_EXTENSION)) {
+			properties.load(is);
+		} catch (IOException e) {
+			throw new ImportException(e);
+		}
+		String graphClass = properties.getProperty(ImmutableGraph.GRAPHCLASS_PROPERTY_KEY);
+		if (graphClass == null) {
+			throw new ImportException("Missing graph class in properties file");
+		}
+		graphClass = graphClass.replace("class ", "").trim();
+		try {
+			if (BVGraph.class.getName().equals(graphClass)) {
+				return mapped ? BVGraph.loadMapped(basename) : BVGraph.load(basename);
+			} else if (EFGraph.class.getName().equals(graphClass)) {
+				return mapped ? EFGraph.loadMapped(basename) : EFGraph.load(basename);
+			}
+		} catch (IOException e) {
+			throw new ImportException(e);
+		}
+		throw new IllegalArgumentException("Unsupported graph class " + graphClass);
+	}
+
+}
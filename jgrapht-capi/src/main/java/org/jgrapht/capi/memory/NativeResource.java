@@ -0,0 +1,34 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.memory;
+
+/**
+ * An object which owns memory outside of the managed heap, or other resources
+ * such as threads. They are released by {@link #close()}, which is also called
+ * when the handle of the object is destroyed.
+ */
+public interface NativeResource extends AutoCloseable {
+
+	/**
+	 * Release the resources owned by the object. Calling this method more than once
+	 * has no effect.
+	 */
+	@Override
+	void close();
+
+}
@@ -0,0 +1,146 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.memory;
+
+import java.util.Arrays;
+
+import org.graalvm.nativeimage.ImageInfo;
+import org.graalvm.nativeimage.UnmanagedMemory;
+import org.graalvm.word.Pointer;
+import org.graalvm.word.WordFactory;
+
+/**
+ * An array of doubles allocated outside of the managed heap.
+ * 
+ * Inside the native image the array is allocated using {@link UnmanagedMemory}
+ * and is invisible to the garbage collector. Outside of the native image a
+ * heap array is used instead. Indices are not checked, but accessing a closed
+ * array throws an {@link IllegalStateException} instead of reading freed memory.
+ */
+public final class OffHeapDoubleArray implements NativeResource {
+
+	private long address;
+	private double[] heap;
+	private long length;
+
+	/**
+	 * Create a new array.
+	 * 
+	 * @param length the length of the array
+	 * @param zeroed whether the array should be initialized with zeros
+	 */
+	public OffHeapDoubleArray(long length, boolean zeroed) {
+		if (length < 0) {
+			throw new IllegalArgumentException("Length must be non-negative");
+		}
+		this.length = length;
+		if (ImageInfo.inImageCode()) {
+			// avoid zero sized allocations which may return null
+			long bytes = Math.max(1, length) * Double.BYTES;
+			Pointer p = zeroed ? UnmanagedMemory.calloc(WordFactory.unsigned(bytes))
+					: UnmanagedMemory.malloc(WordFactory.unsigned(bytes));
+			this.address = p.rawValue();
+		} else {
+			this.heap = new double[Math.toIntExact(length)];
+		}
+	}
+
+	/**
+	 * Get the length of the array.
+	 * 
+	 * @return the length of the array
+	 */
+	public long length() {
+		return length;
+	}
+
+	/**
+	 * Get the number of bytes used by the array.
+	 * 
+	 * @return the number of bytes
+	 */
+	public long sizeInBytes() {
+		return length * Double.BYTES;
+	}
+
+	/**
+	 * Get an element.
+	 * 
+	 * @param index the index of the element
+	 * @return the element
+	 */
+	public double get(long index) {
+		if (heap != null) {
+			return heap[(int) index];
+		}
+		return pointer().readDouble(WordFactory.signed(index * Double.BYTES));
+	}
+
+	/**
+	 * Set an element.
+	 * 
+	 * @param index the index of the element
+	 * @param value the new value
+	 */
+	public void set(long index, double value) {
+		if (heap != null) {
+			heap[(int) index] = value;
+			return;
+		}
+		pointer().writeDouble(WordFactory.signed(index * Double.BYTES), value);
+	}
+
+	/**
+	 * Change the length of the array, keeping its prefix. New elements are not
+	 * initialized.
+	 * 
+	 * @param newLength the new length
+	 */
+	public void resize(long newLength) {
+		if (newLength < 0) {
+			throw new IllegalArgumentException("Length must be non-negative");
+		}
+		if (heap != null) {
+			heap = Arrays.copyOf(heap, Math.toIntExact(newLength));
+		} else {
+			long bytes = Math.max(1, newLength) * Double.BYTES;
+			Pointer p = UnmanagedMemory.realloc(pointer(), WordFactory.unsigned(bytes));
+			address = p.rawValue();
+		}
+		length = newLength;
+	}
+
+	@Override
+	public void close() {
+		if (address != 0) {
+			UnmanagedMemory.free(WordFactory.pointer(address));
+			address = 0;
+		}
+		heap = null;
+		length = 0;
+	}
+
+	private Pointer pointer() {
+		if (address == 0) {
+			// closed, or outside of the image where the heap array is gone
+			throw new IllegalStateException("Array has been closed");
+		}
+		return WordFactory.pointer(address);
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jgrapht.capi.JGraphTContext.Status;
+
+/**
+ * The metrics of a single entry point.
+ */
+public class EntryPointMetrics {
+
+	private final String name;
+	private final LongAdder calls = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+	private final LatencyHistogram latency = new LatencyHistogram();
+	private final AtomicLongArray statusCounts = new AtomicLongArray(Status.values().length);
+	private final LongAdder allocatedBytes = new LongAdder();
+
+	EntryPointMetrics(String name) {
+		this.name = name;
+	}
+
+	void record(long nanos, Status status, long allocated) {
+		calls.increment();
+		totalNanos.add(nanos);
+		maxNanos.accumulateAndGet(nanos, Math::max);
+		latency.record(nanos);
+		if (status != Status.STATUS_SUCCESS) {
+			statusCounts.incrementAndGet(status.ordinal());
+		}
+		if (allocated > 0) {
+			allocatedBytes.add(allocated);
+		}
+	}
+
+	void reset() {
+		calls.reset();
+		totalNanos.reset();
+		maxNanos.set(0);
+		latency.reset();
+		for (int i = 0; i < statusCounts.length(); i++) {
+			statusCounts.set(i, 0);
+		}
+		allocatedBytes.reset();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public long getCalls() {
+		return calls.sum();
+	}
+
+	public long getTotalNanos() {
+		return totalNanos.sum();
+	}
+
+	public long getMaxNanos() {
+		return maxNanos.get();
+	}
+
+	public LatencyHistogram getLatency() {
+		return latency;
+	}
+
+	/**
+	 * Get the number of calls which returned a given status.
+	 * 
+	 * @param status a status other than success
+	 * @return the number of calls
+	 */
+	public long getStatusCount(Status status) {
+		return statusCounts.get(status.ordinal());
+	}
+
+	public long getAllocatedBytes() {
+		return allocatedBytes.sum();
+	}
+
+}
@@ -0,0 +1,270 @@
+/*
+ * (C) Copyright 2021, by Dimitrios Michail.
+ *
+ * JGraphT C-API
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.capi.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jgrapht.capi.JGraphTContext.Status;
+
+/**
+ * Optional per entry point instrumentation.
+ * 
+ * <p>
+ * Every entry point calls {@link #enter(String)} with its own name, or
+ * {@link #enterUntracked()} if it is not measured, first and returns through
+ * {@link #success()} or {@link #status(Status)}, while failures are reported by
+ * the exception handler using {@link #failure(Status)}. Since the exception
+ * handler cannot tell which entry point failed, every entry point with the
+ * handler must push a frame, thus a failure always pops the frame of its own
+ * call. The test check_entry_points verifies that each entry point calls one of
+ * the two and that the names match. Metrics are only
+ * collected when the library is built with
+ * {@code -Djgrapht.capi.metrics=true}. The flag is read when the class is
+ * initialized which happens during the image build, thus when disabled the
+ * calls fold into returning the status code.
+ */
+public class Metrics {
+
+	/**
+	 * Whether metrics are collected.
+	 */
+	public static final boolean ENABLED = Boolean.getBoolean("jgrapht.capi.metrics");
+
+	private static final ConcurrentHashMap<String, EntryPointMetrics> REGISTRY = new ConcurrentHashMap<>();
+
+	private static final ThreadLocal<Frames> FRAMES = ThreadLocal.withInitial(Frames::new);
+
+	/*
+	 * Resolved on first use and not during class initialization, since the image
+	 * builder supports thread allocation counters while the image might not.
+	 */
+	private static volatile com.sun.management.ThreadMXBean threadBean;
+	private static volatile boolean threadBeanResolved;
+
+	/**
+	 * Start measuring an entry point call.
+	 * 
+	 * @param name the entry point name
+	 */
+	public static void enter(String name) {
+		if (!ENABLED) {
+			return;
+		}
+		EntryPointMetrics metrics = REGISTRY.computeIfAbsent(name, EntryPointMetrics::new);
+		FRAMES.get().push(metrics, allocatedBytes(), System.nanoTime());
+	}
+
+	/**
+	 * Start an entry point call which is not measured. This only records the call
+	 * so that a failure does not finish the measurement of an enclosing call.
+	 */
+	public static void enterUntracked() {
+		if (!ENABLED) {
+			return;
+		}
+		FRAMES.get().push(null, -1, 0);
+	}
+
+	/**
+	 * Finish measuring a successful entry point call.
+	 * 
+	 * @return the success status code
+	 */
+	public static int success() {
+		if (ENABLED) {
+			exit(Status.STATUS_SUCCESS);
+		}
+		return Status.STATUS_SUCCESS.getCValue();
+	}
+
+	/**
+	 * Finish measuring an entry point call which completed with a status other
+	 * than success, without throwing an exception.
+	 * 
+	 * @param status the status
+	 * @return the status code
+	 */
+	public static int status(Status status) {
+		if (ENABLED) {
+			exit(status);
+		}
+		return status.getCValue();
+	}
+
+	/**
+	 * Finish measuring an entry point call which failed with an exception.
+	 * 
+	 * @param status the status of the error
+	 */
+	public static void failure(Status status) {
+		if (ENABLED) {
+			exit(status);
+		}
+	}
+
+	/**
+	 * Get the metrics of all entry points called so far, sorted by name.
+	 * 
+	 * @return the metrics
+	 */
+	public static List<EntryPointMetrics> getAll() {
+		List<EntryPointMetrics> result = new ArrayList<>(REGISTRY.values());
+		Collections.sort(result, Comparator.comparing(EntryPointMetrics::getName));
+		return result;
+	}
+
+	/**
+	 * Clear the metrics of all entry points.
+	 */
+	public static void reset() {
+		for (EntryPointMetrics m : REGISTRY.values()) {
+			m.reset();
+		}
+	}
+
+	/**
+	 * Render the metrics of all entry points as a JSON array. Latencies are in
+	 * nanoseconds and allocated bytes are -1 when not supported by the runtime.
+	 * 
+	 * @return the JSON representation
+	 */
+	public static String toJson() {
+		boolean allocationSupported = threadBean() != null;
+		StringBuilder sb = new StringBuilder();
+		sb.append('[');
+		boolean first = true;
+		for (EntryPointMetrics m : getAll()) {
+			long calls = m.getCalls();
+			if (calls == 0) {
+				continue;
+			}
+			if (!first) {
+				sb.append(',');
+			}
+			first = false;
+			LatencyHistogram latency = m.getLatency();
+			long max = m.getMaxNanos();
+			sb.append("{\"name\":\"").append(m.getName()).append('"');
+			sb.append(",\"calls\":").append(calls);
+			sb.append(",\"errors\":{");
+			boolean firstStatus = true;
+			for (Status s : Status.values()) {
+				long count = s == Status.STATUS_SUCCESS ? 0 : m.getStatusCount(s);
+				if (count > 0) {
+					if (!firstStatus) {
+						sb.append(',');
+					}
+					firstStatus = false;
+					sb.append('"').append(s.name()).append("\":").append(count);
+				}
+			}
+			sb.append('}');
+			sb.append(",\"total_ns\":").append(m.getTotalNanos());
+			sb.append(",\"max_ns\":").append(max);
+			sb.append(",\"p50_ns\":").append(Math.min(max, latency.getValueAtPercentile(50)));
+			sb.append(",\"p90_ns\":").append(Math.min(max, latency.getValueAtPercentile(90)));
+			sb.append(",\"p99_ns\":").append(Math.min(max, latency.getValueAtPercentile(99)));
+			sb.append(",\"p999_ns\":").append(Math.min(max, latency.getValueAtPercentile(99.9)));
+			sb.append(",\"allocated_bytes\":").append(allocationSupported ? m.getAllocatedBytes() : -1);
+			sb.append('}');
+		}
+		sb.append(']');
+		return sb.toString();
+	}
+
+	private static void exit(Status status) {
+		long now = System.nanoTime();
+		Frames frames = FRAMES.get();
+		if (frames.depth == 0) {
+			return;
+		}
+		int i = --frames.depth;
+		if (frames.metrics[i] == null) {
+			// not measured
+			return;
+		}
+		long allocated = -1;
+		if (frames.allocated[i] >= 0) {
+			allocated = allocatedBytes() - frames.allocated[i];
+		}
+		frames.metrics[i].record(now - frames.start[i], status, allocated);
+		frames.metrics[i] = null;
+	}
+
+	private static long allocatedBytes() {
+		com.sun.management.ThreadMXBean bean = threadBean();
+		if (bean == null) {
+			return -1;
+		}
+		return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private static com.sun.management.ThreadMXBean threadBean() {
+		if (!threadBeanResolved) {
+			com.sun.management.ThreadMXBean bean = null;
+			try {
+				java.lang.management.ThreadMXBean b = ManagementFactory.getThreadMXBean();
+				if (b instanceof com.sun.management.ThreadMXBean) {
+					bean = (com.sun.management.ThreadMXBean) b;
+					if (!bean.isThreadAllocatedMemorySupported() || !bean.isThreadAllocatedMemoryEnabled()) {
+						bean = null;
+					} else {
+						bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+					}
+				}
+			} catch (RuntimeException e) {
+				bean = null;
+			}
+			threadBean = bean;
+			threadBeanResolved = true;
+		}
+		return threadBean;
+	}
+
+	/**
+	 * The calls in progress of a thread. Entry points nest when a callback from a
+	 * library function calls back into the library. A frame without metrics
+	 * belongs to a call which is not measured.
+	 */
+	private static class Frames {
+		private EntryPointMetrics[] metrics = new EntryPointMetrics[4];
+		private long[] allocated = new long[4];
+		private long[] start = new long[4];
+		private int depth;
+
+		private void push(EntryPointMetrics m, long allocatedBytes, long startNanos) {
+			if (depth == metrics.length) {
+				int capacity = 2 * depth;
+				metrics = Arrays.copyOf(metrics, capacity);
+				allocated = Arrays.copyOf(allocated, capacity);
+				start = Arrays.copyOf(start, capacity);
+			}
+			metrics[depth] = m;
+			allocated[depth] = allocatedBytes;
+			start[depth] = startNanos;
+			depth++;
+		}
+	}
+
+}
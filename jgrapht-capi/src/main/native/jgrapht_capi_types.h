@@ -15,6 +15,7 @@ typedef enum {
     STATUS_IMPORT_ERROR,
     STATUS_NEGATIVE_CYCLE_DETECTED,
     STATUS_NUMBER_FORMAT_EXCEPTION,
+    STATUS_NOT_FOUND,
 } status_t;
 
 typedef enum {
@@ -60,4 +61,37 @@ typedef enum {
     INCOMING_EDGES_SUPPORT_FULL_INCOMING_EDGES,
 } incoming_edges_support_t;
 
+typedef enum { 
+    LINK_PREDICTION_INDEX_ADAMIC_ADAR = 0,
+    LINK_PREDICTION_INDEX_COMMON_NEIGHBORS,
+    LINK_PREDICTION_INDEX_HUB_DEPRESSED,
+    LINK_PREDICTION_INDEX_HUB_PROMOTED,
+    LINK_PREDICTION_INDEX_JACCARD_COEFFICIENT,
+    LINK_PREDICTION_INDEX_LEICHT_HOLME_NEWMAN,
+    LINK_PREDICTION_INDEX_PREFERENTIAL_ATTACHMENT,
+    LINK_PREDICTION_INDEX_RESOURCE_ALLOCATION,
+    LINK_PREDICTION_INDEX_SALTON,
+    LINK_PREDICTION_INDEX_SORENSEN,
+} link_prediction_index_t;
+
+typedef enum { 
+    DIAMETER_MODE_EXACT = 0,
+    DIAMETER_MODE_DOUBLE_SWEEP,
+    DIAMETER_MODE_K_BFS,
+} diameter_mode_t;
+
+typedef enum { 
+    WEIGHT_PRECISION_DOUBLE = 0,
+    WEIGHT_PRECISION_FLOAT,
+    WEIGHT_PRECISION_QUANTIZED_16,
+    WEIGHT_PRECISION_QUANTIZED_8,
+} weight_precision_t;
+
+typedef enum { 
+    VERTEX_ORDERING_REVERSE_CUTHILL_MCKEE = 0,
+    VERTEX_ORDERING_BFS,
+    VERTEX_ORDERING_DEGREE,
+    VERTEX_ORDERING_RABBIT,
+} vertex_ordering_t;
+
 #endif
@@ -0,0 +1,102 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Check that every entry point with the status returning exception handler
+ * starts its metrics frame, and that the name passed to Metrics.enter is the
+ * name of the entry point. Run as a single source file program with the root
+ * of the Java sources as argument.
+ */
+public class CheckEntryPoints {
+
+	private static final Pattern CONSTANT = Pattern
+			.compile("public static final String (\\w+) = ((?:\\w+|\"[^\"]*\")(?:\\s*\\+\\s*(?:\\w+|\"[^\"]*\"))*);");
+
+	private static final Pattern NAME = Pattern
+			.compile("^\\s*name\\s*=\\s*((?:Constants\\.\\w+|\"[^\"]*\")(?:\\s*\\+\\s*(?:Constants\\.\\w+|\"[^\"]*\"))*)");
+
+	private static final Pattern TERM = Pattern.compile("Constants\\.(\\w+)|\\w+|\"([^\"]*)\"");
+
+	private static final Pattern ENTER = Pattern.compile("Metrics\\.(enter\\(\"([^\"]*)\"\\)|enterUntracked\\(\\))");
+
+	public static void main(String[] args) throws IOException {
+		Path root = Paths.get(args[0]);
+		Map<String, String> constants = new HashMap<>();
+		String source = read(root.resolve("org/jgrapht/capi/Constants.java"));
+		Matcher m = CONSTANT.matcher(source);
+		while (m.find()) {
+			constants.put(m.group(1), resolve(m.group(2), constants));
+		}
+
+		List<Path> files;
+		try (Stream<Path> s = Files.walk(root)) {
+			files = s.filter(p -> p.toString().endsWith(".java")).sorted().collect(Collectors.toList());
+		}
+
+		List<String> errors = new ArrayList<>();
+		int count = 0;
+		for (Path file : files) {
+			String[] parts = read(file).split("@CEntryPoint\\(");
+			for (int i = 1; i < parts.length; i++) {
+				String part = parts[i];
+				Matcher nameMatcher = NAME.matcher(part);
+				if (!nameMatcher.find()) {
+					continue;
+				}
+				String name = resolve(nameMatcher.group(1), constants);
+				int body = part.indexOf('{', part.indexOf("public static"));
+				if (!part.substring(0, body).contains("StatusReturnExceptionHandler")) {
+					continue;
+				}
+				count++;
+				int end = part.indexOf("\n\t}", body);
+				Matcher enter = ENTER.matcher(part.substring(body, end < 0 ? part.length() : end));
+				if (!enter.find()) {
+					errors.add(file.getFileName() + ": " + name + " does not call Metrics.enter");
+				} else if (enter.group(2) != null && !enter.group(2).equals(name)) {
+					errors.add(file.getFileName() + ": " + name + " calls Metrics.enter(\"" + enter.group(2) + "\")");
+				}
+			}
+		}
+
+		for (String error : errors) {
+			System.err.println(error);
+		}
+		System.out.println(count + " entry points checked, " + errors.size() + " errors");
+		System.exit(errors.isEmpty() ? 0 : 1);
+	}
+
+	private static String resolve(String expression, Map<String, String> constants) {
+		StringBuilder sb = new StringBuilder();
+		Matcher m = TERM.matcher(expression);
+		while (m.find()) {
+			if (m.group(2) != null) {
+				sb.append(m.group(2));
+			} else {
+				String constant = m.group(1) != null ? m.group(1) : m.group();
+				String value = constants.get(constant);
+				if (value == null) {
+					throw new IllegalArgumentException("Unknown constant " + constant);
+				}
+				sb.append(value);
+			}
+		}
+		return sb.toString();
+	}
+
+	private static String read(Path file) throws IOException {
+		return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,127 @@
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    } 
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_create(thread, 1, 0, 0, 0, NULL, NULL, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    for (int i = 0; i < 10; i++) { 
+        jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+    }
+
+    // handles created while the arena is active belong to the arena
+    void *arena;
+    jgrapht_capi_arena_create(thread, &arena);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *vit;
+    for (int i = 0; i < 100; i++) { 
+        jgrapht_capi_xx_graph_create_all_vit(thread, g, &vit);
+        assert(jgrapht_capi_error_get_errno(thread) == 0);
+    }
+    int flag;
+    int value;
+    jgrapht_capi_it_hasnext(thread, vit, &flag);
+    assert(flag);
+    jgrapht_capi_it_next_int(thread, vit, &value);
+    assert(value == 0);
+
+    // nested arena
+    void *inner;
+    jgrapht_capi_arena_create(thread, &inner);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    void *inner_vit;
+    jgrapht_capi_xx_graph_create_all_vit(thread, g, &inner_vit);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_arena_destroy(thread, inner);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_it_hasnext(thread, inner_vit, &flag);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_NULL_POINTER);
+    jgrapht_capi_error_clear_errno(thread);
+
+    // the outer arena is active again
+    jgrapht_capi_it_next_int(thread, vit, &value);
+    assert(value == 1);
+    void *vit2;
+    jgrapht_capi_xx_graph_create_all_vit(thread, g, &vit2);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    // individual destroy still works
+    jgrapht_capi_handles_destroy(thread, vit2);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    jgrapht_capi_arena_destroy(thread, arena);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_it_hasnext(thread, vit, &flag);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_NULL_POINTER);
+    jgrapht_capi_error_clear_errno(thread);
+
+    // destroying twice fails
+    jgrapht_capi_arena_destroy(thread, arena);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    // handles of a destroyed arena stay invalid when its id is reused
+    void *reused;
+    jgrapht_capi_arena_create(thread, &reused);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    void *fresh_vit;
+    jgrapht_capi_xx_graph_create_all_vit(thread, g, &fresh_vit);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_it_hasnext(thread, inner_vit, &flag);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_NULL_POINTER);
+    jgrapht_capi_error_clear_errno(thread);
+    jgrapht_capi_it_hasnext(thread, vit, &flag);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_NULL_POINTER);
+    jgrapht_capi_error_clear_errno(thread);
+    jgrapht_capi_it_hasnext(thread, fresh_vit, &flag);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(flag);
+    jgrapht_capi_arena_destroy(thread, reused);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    // no active arena, the graph handle is still valid
+    int vcount;
+    jgrapht_capi_ix_graph_vertices_count(thread, g, &vcount);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(vcount == 10);
+
+    jgrapht_capi_handles_destroy(thread, g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
@@ -82,6 +82,123 @@ int main() {
     jgrapht_capi_handles_destroy(thread, model);
 
 
+    // now in parallel, fix vertex 0
+    jgrapht_capi_xx_drawing_layout_model_2d_create(thread, 0, 0, 10.0, 10.0, &model);
+    jgrapht_capi_ix_drawing_layout_model_2d_put_vertex(thread, model, 0, 5.0, 5.0);
+    jgrapht_capi_ix_drawing_layout_model_2d_set_fixed(thread, model, 0, 1);
+    jgrapht_capi_xx_drawing_exec_parallel_fr_layout_2d(thread, g, model, 50, 1.0, 17, 0.5, 0.000000001, 2);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    jgrapht_capi_ix_drawing_layout_model_2d_get_vertex(thread, model, 0, &vx, &vy);
+    assert(vx == 5.0);
+    assert(vy == 5.0);
+    for(int i = 1; i < 7; i++) { 
+        jgrapht_capi_ix_drawing_layout_model_2d_get_vertex(thread, model, i, &vx, &vy);
+        assert(vx >= 0.0);
+        assert(vx <= 10.0);
+        assert(vy >= 0.0);
+        assert(vy <= 10.0);
+    }
+
+    jgrapht_capi_handles_destroy(thread, model);
+
+
+    // array backed model with bulk access
+    jgrapht_capi_xx_drawing_array_layout_model_2d_create(thread, 0, 0, 10.0, 10.0, 7, &model);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    double xs[7] = { 5.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0 };
+    double ys[7] = { 5.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0 };
+    jgrapht_capi_ix_drawing_layout_model_2d_put_all(thread, model, NULL, 7, xs, ys);
+    int pinned[1] = { 0 };
+    jgrapht_capi_ix_drawing_layout_model_2d_set_fixed_bulk(thread, model, pinned, 1, 1);
+    int isfixed;
+    jgrapht_capi_ix_drawing_layout_model_2d_get_fixed(thread, model, 0, &isfixed);
+    assert(isfixed == 1);
+    jgrapht_capi_ix_drawing_layout_model_2d_get_fixed(thread, model, 1, &isfixed);
+    assert(isfixed == 0);
+
+    jgrapht_capi_xx_drawing_exec_parallel_fr_layout_2d(thread, g, model, 50, 1.0, 17, 0.5, 0.000000001, 2);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    double outx[7], outy[7];
+    jgrapht_capi_ix_drawing_layout_model_2d_get_all(thread, model, NULL, 7, outx, outy);
+    assert(outx[0] == 5.0);
+    assert(outy[0] == 5.0);
+    for(int i = 1; i < 7; i++) { 
+        assert(outx[i] >= 0.0);
+        assert(outx[i] <= 10.0);
+        assert(outy[i] >= 0.0);
+        assert(outy[i] <= 10.0);
+        jgrapht_capi_ix_drawing_layout_model_2d_get_vertex(thread, model, i, &vx, &vy);
+        assert(vx == outx[i]);
+        assert(vy == outy[i]);
+    }
+
+    int some[2] = { 3, 100 };
+    jgrapht_capi_ix_drawing_layout_model_2d_get_vertex(thread, model, 3, &vx, &vy);
+    jgrapht_capi_ix_drawing_layout_model_2d_get_all(thread, model, some, 2, outx, outy);
+    assert(outx[0] == vx);
+    assert(outy[0] == vy);
+    assert(outx[1] != outx[1]);
+    assert(outy[1] != outy[1]);
+
+    jgrapht_capi_handles_destroy(thread, model);
+
+
+    // multilevel on a larger graph
+    void *grid;
+    jgrapht_capi_ii_graph_create(thread, 0, 0, 0, 1, NULL, NULL, &grid);
+    for(i = 0; i < 400; i++) { 
+        jgrapht_capi_ix_graph_add_vertex(thread, grid, NULL);
+    }
+    for(i = 0; i < 400; i++) { 
+        if (i % 20 != 19) { 
+            jgrapht_capi_ii_graph_add_edge(thread, grid, i, i + 1, NULL);
+        }
+        if (i + 20 < 400) { 
+            jgrapht_capi_ii_graph_add_edge(thread, grid, i, i + 20, NULL);
+        }
+    }
+    jgrapht_capi_xx_drawing_array_layout_model_2d_create(thread, 0, 0, 100.0, 100.0, 400, &model);
+    jgrapht_capi_xx_drawing_exec_multilevel_fr_layout_2d(thread, grid, model, 100, 30, 1.0, 17, 0.5, 0.000000001, 2);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    double gridx[400], gridy[400];
+    jgrapht_capi_ix_drawing_layout_model_2d_get_all(thread, model, NULL, 400, gridx, gridy);
+    for(i = 0; i < 400; i++) { 
+        assert(gridx[i] >= 0.0);
+        assert(gridx[i] <= 100.0);
+        assert(gridy[i] >= 0.0);
+        assert(gridy[i] <= 100.0);
+    }
+
+    // incremental, previous vertices stay in place with full stiffness
+    int newv;
+    for(i = 0; i < 5; i++) { 
+        jgrapht_capi_ix_graph_add_vertex(thread, grid, &newv);
+        jgrapht_capi_ii_graph_add_edge(thread, grid, newv, 7 * i, NULL);
+    }
+    jgrapht_capi_xx_drawing_exec_incremental_fr_layout_2d(thread, grid, model, 30, 1.0, 2, 1.0, 17, 0.5, 0.000000001, 2);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    double incx[405], incy[405];
+    jgrapht_capi_ix_drawing_layout_model_2d_get_all(thread, model, NULL, 405, incx, incy);
+    for(i = 0; i < 400; i++) { 
+        assert(incx[i] == gridx[i]);
+        assert(incy[i] == gridy[i]);
+    }
+    for(i = 400; i < 405; i++) { 
+        assert(incx[i] >= 0.0);
+        assert(incx[i] <= 100.0);
+        assert(incy[i] >= 0.0);
+        assert(incy[i] <= 100.0);
+    }
+
+    jgrapht_capi_handles_destroy(thread, model);
+    jgrapht_capi_handles_destroy(thread, grid);
+
+
     jgrapht_capi_handles_destroy(thread, g);
 
     assert(jgrapht_capi_error_get_errno(thread) == 0);
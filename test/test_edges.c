@@ -148,6 +148,22 @@ int main() {
     assert(jgrapht_capi_ix_graph_contains_edge_between(thread, g, 2, 2, &flag) == 0);
     assert(!flag);
 
+    // lookups which do not raise errors
+    assert(jgrapht_capi_ii_graph_try_get_edge(thread, g, 1, 2, &e) == STATUS_SUCCESS);
+    assert(e == 3);
+    assert(jgrapht_capi_ii_graph_try_get_edge(thread, g, 2, 0, &e) == STATUS_NOT_FOUND);
+    assert(jgrapht_capi_ii_graph_try_get_edge(thread, g, 0, 100, NULL) == STATUS_NOT_FOUND);
+    assert(jgrapht_capi_ii_graph_try_edge_source(thread, g, 3, &v) == STATUS_SUCCESS);
+    assert(v == 1);
+    assert(jgrapht_capi_ii_graph_try_edge_target(thread, g, 3, &v) == STATUS_SUCCESS);
+    assert(v == 2);
+    assert(jgrapht_capi_ii_graph_try_edge_source(thread, g, 100, &v) == STATUS_NOT_FOUND);
+    assert(jgrapht_capi_ii_graph_try_edge_target(thread, g, 100, &v) == STATUS_NOT_FOUND);
+    assert(jgrapht_capi_xi_graph_try_get_edge_weight(thread, g, 0, &w) == STATUS_SUCCESS);
+    assert(w == 5.0);
+    assert(jgrapht_capi_xi_graph_try_get_edge_weight(thread, g, 100, &w) == STATUS_NOT_FOUND);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
     jgrapht_capi_ix_graph_create_between_eit(thread, g, 1 , 2, &eit);
     assert(jgrapht_capi_it_next_int(thread, eit, &v) == 0);
     assert(v == 3);
@@ -68,6 +68,12 @@ int main() {
     assert(jgrapht_capi_error_get_errno(thread) == STATUS_NULL_POINTER);
     assert(strcmp("Error (NullPointerException)", jgrapht_capi_error_get_errno_msg(thread)) == 0);    
 
+    // the message stays valid until it is requested again
+    char *msg = jgrapht_capi_error_get_errno_msg(thread);
+    jgrapht_capi_error_clear_errno(thread);
+    jgrapht_capi_it_hasnext(thread, g, &has_next);
+    assert(strcmp("Error (NullPointerException)", msg) == 0);
+
     // test error message after clear
     jgrapht_capi_error_clear_errno(thread);
     assert(jgrapht_capi_error_get_errno(thread) == 0);
@@ -0,0 +1,193 @@
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_create(thread, 1, 1, 1, 1, NULL, NULL, &g);
+
+    for (int i = 0; i < 4; i++) {
+        jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+    }
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 1, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 1, 2, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 2, 3, NULL);
+
+    int ivalue;
+    long long lvalue;
+    double dvalue;
+    void *svalue;
+    char *str;
+
+    // typed vertex attributes
+    jgrapht_capi_ix_graph_attrs_vertex_put_double(thread, g, 0, "x", 1.5);
+    jgrapht_capi_ix_graph_attrs_vertex_put_int(thread, g, 0, "color", 3);
+    jgrapht_capi_ix_graph_attrs_vertex_put_bool(thread, g, 1, "visited", 1);
+    jgrapht_capi_ix_graph_attrs_vertex_put_str(thread, g, 2, "label", "v2");
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    jgrapht_capi_ix_graph_attrs_vertex_get_double(thread, g, 0, "x", &dvalue);
+    assert(dvalue == 1.5);
+    jgrapht_capi_ix_graph_attrs_vertex_get_int(thread, g, 0, "color", &ivalue);
+    assert(ivalue == 3);
+    jgrapht_capi_ix_graph_attrs_vertex_get_long(thread, g, 0, "color", &lvalue);
+    assert(lvalue == 3);
+    jgrapht_capi_ix_graph_attrs_vertex_get_bool(thread, g, 1, "visited", &ivalue);
+    assert(ivalue == 1);
+    jgrapht_capi_ix_graph_attrs_vertex_get_str(thread, g, 2, "label", &svalue);
+    jgrapht_capi_handles_get_ccharpointer(thread, svalue, &str);
+    assert(strcmp(str, "v2") == 0);
+    jgrapht_capi_handles_destroy(thread, svalue);
+    jgrapht_capi_ix_graph_attrs_vertex_size(thread, g, 0, &ivalue);
+    assert(ivalue == 2);
+
+    // attribute names are interned
+    int id, id2, next_id;
+    jgrapht_capi_attrs_name_id(thread, "x", &id);
+    jgrapht_capi_attrs_name_id(thread, "x", &id2);
+    assert(id == id2);
+    char *name;
+    jgrapht_capi_attrs_name_get(thread, id, &name);
+    assert(strcmp(name, "x") == 0);
+
+    void *it;
+    int has_next;
+    jgrapht_capi_ix_graph_attrs_vertex_key_ids_iterator(thread, g, 0, &it);
+    jgrapht_capi_it_hasnext(thread, it, &has_next);
+    assert(has_next == 1);
+    jgrapht_capi_it_next_int(thread, it, &next_id);
+    assert(next_id == id);
+    jgrapht_capi_it_hasnext(thread, it, &has_next);
+    assert(has_next == 1);
+    jgrapht_capi_it_next_int(thread, it, &next_id);
+    jgrapht_capi_attrs_name_get(thread, next_id, &name);
+    assert(strcmp(name, "color") == 0);
+    jgrapht_capi_it_hasnext(thread, it, &has_next);
+    assert(has_next == 0);
+    jgrapht_capi_handles_destroy(thread, it);
+
+    // key names outlive their handles
+    void *key;
+    char *key_char;
+    jgrapht_capi_ix_graph_attrs_vertex_keys_iterator(thread, g, 0, &it);
+    jgrapht_capi_it_next_object(thread, it, &key);
+    jgrapht_capi_handles_get_ccharpointer(thread, key, &key_char);
+    jgrapht_capi_handles_destroy(thread, key);
+    jgrapht_capi_handles_destroy(thread, it);
+    assert(strcmp(key_char, "x") == 0);
+
+    // missing attribute
+    jgrapht_capi_ix_graph_attrs_vertex_get_double(thread, g, 1, "x", &dvalue);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    // removing a vertex clears its attributes
+    int v;
+    jgrapht_capi_ix_graph_remove_vertex(thread, g, 0, NULL);
+    jgrapht_capi_ix_graph_add_vertex(thread, g, &v);
+    jgrapht_capi_ix_graph_attrs_vertex_size(thread, g, v, &ivalue);
+    assert(ivalue == 0);
+    jgrapht_capi_ix_graph_attrs_vertex_put_double(thread, g, v, "x", 2.0);
+    jgrapht_capi_ix_graph_attrs_vertex_get_double(thread, g, v, "x", &dvalue);
+    assert(dvalue == 2.0);
+
+    // bulk edge attributes
+    int edges[3] = { 1, 2, 1 };
+    double weights[2] = { 2.5, 3.5 };
+    jgrapht_capi_xi_graph_attrs_edge_put_double_bulk(thread, g, edges, 2, "weight", weights);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_xi_graph_attrs_edge_put_long(thread, g, 2, "capacity", 10);
+
+    double res[3];
+    jgrapht_capi_xi_graph_attrs_edge_get_double_bulk(thread, g, edges, 3, "weight", -1.0, res);
+    assert(res[0] == 2.5);
+    assert(res[1] == 3.5);
+    assert(res[2] == 2.5);
+
+    long long lres[2];
+    jgrapht_capi_xi_graph_attrs_edge_get_long_bulk(thread, g, edges, 2, "capacity", -1, lres);
+    assert(lres[0] == -1);
+    assert(lres[1] == 10);
+
+    // int columns are widened to long
+    jgrapht_capi_xi_graph_attrs_edge_put_int(thread, g, 1, "flow", 7);
+    jgrapht_capi_xi_graph_attrs_edge_put_long(thread, g, 2, "flow", 5000000000LL);
+    jgrapht_capi_xi_graph_attrs_edge_get_long_bulk(thread, g, edges, 2, "flow", -1, lres);
+    assert(lres[0] == 7);
+    assert(lres[1] == 5000000000LL);
+
+    // bulk int, bool and string attributes
+    int ivalues[2] = { 4, 5 };
+    int ires[3];
+    jgrapht_capi_xi_graph_attrs_edge_put_int_bulk(thread, g, edges, 2, "lanes", ivalues);
+    jgrapht_capi_xi_graph_attrs_edge_get_int_bulk(thread, g, edges, 3, "lanes", -1, ires);
+    assert(ires[0] == 4 && ires[1] == 5 && ires[2] == 4);
+    int bvalues[2] = { 0, 2 };
+    jgrapht_capi_xi_graph_attrs_edge_put_bool_bulk(thread, g, edges, 2, "oneway", bvalues);
+    jgrapht_capi_xi_graph_attrs_edge_get_bool_bulk(thread, g, edges, 2, "oneway", -1, ires);
+    assert(ires[0] == 0 && ires[1] == 1);
+    char *svalues[2] = { "a", "b" };
+    void *sres[3];
+    jgrapht_capi_xi_graph_attrs_edge_put_str_bulk(thread, g, edges, 1, "road", svalues);
+    jgrapht_capi_xi_graph_attrs_edge_get_str_bulk(thread, g, &edges[1], 2, "road", sres);
+    assert(sres[0] == NULL);
+    jgrapht_capi_handles_get_ccharpointer(thread, sres[1], &str);
+    assert(strcmp(str, "a") == 0);
+    jgrapht_capi_handles_destroy(thread, sres[1]);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    // bulk access checks the elements
+    int bad[1] = { 0 };
+    jgrapht_capi_xi_graph_attrs_edge_get_double_bulk(thread, g, bad, 1, "weight", -1.0, res);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    // graph attributes
+    jgrapht_capi_xx_graph_attrs_put_double(thread, g, "scale", 0.25);
+    jgrapht_capi_xx_graph_attrs_get_double(thread, g, "scale", &dvalue);
+    assert(dvalue == 0.25);
+    jgrapht_capi_xx_graph_attrs_put_str(thread, g, "name", "test");
+    jgrapht_capi_xx_graph_attrs_get_str(thread, g, "name", &svalue);
+    jgrapht_capi_handles_get_ccharpointer(thread, svalue, &str);
+    assert(strcmp(str, "test") == 0);
+    jgrapht_capi_handles_destroy(thread, svalue);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
@@ -0,0 +1,116 @@
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    } 
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *builder;
+    jgrapht_capi_ii_graph_builder_create(thread, 4, 1, 1, 2, &builder);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    int sources1[] = { 2, 0, 0, 1 };
+    int targets1[] = { 3, 1, 1, 1 };
+    double weights1[] = { 1.0, 5.0, 2.0, 9.0 };
+    jgrapht_capi_ii_graph_builder_append(thread, builder, sources1, targets1, weights1, 4);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    int sources2[] = { 3, 0 };
+    int targets2[] = { 0, 2 };
+    jgrapht_capi_ii_graph_builder_append(thread, builder, sources2, targets2, NULL, 2);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    int invalid[] = { 4 };
+    jgrapht_capi_ii_graph_builder_append(thread, builder, invalid, targets2, NULL, 1);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    void *g;
+    jgrapht_capi_ii_graph_builder_finish(thread, builder, 1, 1, INCOMING_EDGES_SUPPORT_FULL_INCOMING_EDGES, 2, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    // the builder cannot be reused
+    jgrapht_capi_ii_graph_builder_append(thread, builder, sources2, targets2, NULL, 2);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_ERROR);
+    jgrapht_capi_error_clear_errno(thread);
+    jgrapht_capi_handles_destroy(thread, builder);
+
+    int count;
+    jgrapht_capi_ix_graph_vertices_count(thread, g, &count);
+    assert(count == 4);
+    jgrapht_capi_ix_graph_edges_count(thread, g, &count);
+    assert(count == 4);
+
+    // edges are sorted by source and target
+    int v;
+    double w;
+    jgrapht_capi_ii_graph_edge_source(thread, g, 0, &v);
+    assert(v == 0);
+    jgrapht_capi_ii_graph_edge_target(thread, g, 0, &v);
+    assert(v == 1);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g, 0, &w);
+    assert(w == 2.0);
+    jgrapht_capi_ii_graph_edge_target(thread, g, 1, &v);
+    assert(v == 2);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g, 1, &w);
+    assert(w == 1.0);
+    jgrapht_capi_ii_graph_edge_source(thread, g, 2, &v);
+    assert(v == 2);
+    jgrapht_capi_ii_graph_edge_source(thread, g, 3, &v);
+    assert(v == 3);
+    jgrapht_capi_ii_graph_edge_target(thread, g, 3, &v);
+    assert(v == 0);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    // undirected unweighted, keeping self-loops and multiple edges
+    jgrapht_capi_ii_graph_builder_create(thread, 3, 0, 0, 0, &builder);
+    int sources3[] = { 1, 2, 0 };
+    int targets3[] = { 0, 2, 1 };
+    jgrapht_capi_ii_graph_builder_append(thread, builder, sources3, targets3, NULL, 3);
+    jgrapht_capi_ii_graph_builder_finish(thread, builder, 0, 0, INCOMING_EDGES_SUPPORT_NO_INCOMING_EDGES, 1, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_handles_destroy(thread, builder);
+
+    jgrapht_capi_ix_graph_edges_count(thread, g, &count);
+    assert(count == 3);
+    int flag;
+    jgrapht_capi_xx_graph_is_undirected(thread, g, &flag);
+    assert(flag == 1);
+    jgrapht_capi_handles_destroy(thread, g);
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
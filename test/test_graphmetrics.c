@@ -56,6 +56,35 @@ int main() {
     long long triangles;
     jgrapht_capi_xx_graph_metrics_triangles(thread, g, &triangles);
 
+    long long triangles_parallel;
+    jgrapht_capi_xx_graph_metrics_triangles_parallel(thread, g, 4, &triangles_parallel);
+    assert(triangles_parallel == triangles);
+
+    double d_lower, d_upper, r_lower, r_upper;
+    int iterations, exact;
+    jgrapht_capi_xx_graph_metrics_diameter_radius_bounds(thread, g, DIAMETER_MODE_EXACT, 2, 0, 0, 17, &d_lower, &d_upper, &r_lower, &r_upper, &iterations, &exact);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(exact == 1);
+    assert(d_lower == diameter && d_upper == diameter);
+    assert(r_lower == radius && r_upper == radius);
+    assert(iterations >= 1 && iterations <= 5);
+
+    jgrapht_capi_xx_graph_metrics_diameter_radius_bounds(thread, g, DIAMETER_MODE_DOUBLE_SWEEP, 1, 0, 0, 17, &d_lower, &d_upper, &r_lower, &r_upper, &iterations, &exact);
+    assert(iterations == 2);
+    assert(d_lower <= diameter && diameter <= d_upper);
+    assert(r_lower <= radius && radius <= r_upper);
+
+    jgrapht_capi_xx_graph_metrics_diameter_radius_bounds(thread, g, DIAMETER_MODE_K_BFS, 2, 3, 0, 17, &d_lower, &d_upper, &r_lower, &r_upper, &iterations, &exact);
+    assert(iterations <= 3);
+    assert(d_lower <= diameter && diameter <= d_upper);
+    assert(r_lower <= radius && radius <= r_upper);
+
+    int girth_lower, girth_upper;
+    jgrapht_capi_xx_graph_metrics_girth_bounds(thread, g, 2, 0, 0, &girth_lower, &girth_upper, &iterations, &exact);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(exact == 1);
+    assert(girth_lower == girth && girth_upper == girth);
+
     // test measure
 
     void *center = NULL, *periphery = NULL, *pseudoPeriphery = NULL, *eccentricityMap = NULL;
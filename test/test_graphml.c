@@ -96,6 +96,33 @@ int main() {
 
     jgrapht_capi_handles_destroy(thread, g);
 
+    // read back into the attribute columns of the graph
+    jgrapht_capi_ii_graph_create(thread, 0, 0, 0, 0, NULL, NULL, &g);
+    jgrapht_capi_ii_import_file_graphml_attrs(thread, g, "dummy.graphml.out", import_id, 1, NULL, 0, NULL, NULL, NULL, NULL);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    int edges[3] = { 0, 1, 2 };
+    double costs[3];
+    jgrapht_capi_xi_graph_attrs_edge_get_double_bulk(thread, g, edges, 3, "cost", 0.0, costs);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(costs[0] == 5.4);
+    assert(costs[1] == 6.5);
+    assert(costs[2] == 9.2);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    // requested keys go to the callbacks only
+    jgrapht_capi_ii_graph_create(thread, 0, 0, 0, 0, NULL, NULL, &g);
+    char *callback_keys[1] = { "cost" };
+    jgrapht_capi_ii_import_file_graphml_attrs(thread, g, "dummy.graphml.out", import_id, 1, callback_keys, 1, NULL, edge_attribute, NULL, NULL);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    int contains;
+    jgrapht_capi_xi_graph_attrs_edge_contains(thread, g, 0, "cost", &contains);
+    assert(contains == 0);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
     if (graal_detach_thread(thread) != 0) {
         fprintf(stderr, "graal_detach_thread error\n");
         exit(EXIT_FAILURE);
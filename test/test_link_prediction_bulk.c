@@ -0,0 +1,105 @@
+#include <stdio.h>
+#include <stdlib.h>
+#include <math.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_create(thread, 0, 0, 0, 1, NULL, NULL, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    int flag;
+    assert(jgrapht_capi_xx_graph_is_directed(thread, g, &flag) == 0);
+    assert(flag == 0);
+    assert(jgrapht_capi_xx_graph_is_undirected(thread, g, &flag) == 0);
+    assert(flag == 1);
+    assert(jgrapht_capi_xx_graph_is_weighted(thread, g, &flag) == 0);
+    assert(flag == 1);
+    assert(jgrapht_capi_xx_graph_is_allowing_selfloops(thread, g, &flag) == 0);
+    assert(flag == 0);
+    assert(jgrapht_capi_xx_graph_is_allowing_multipleedges(thread, g, &flag) == 0);
+    assert(flag == 0);
+
+    jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+    jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+    jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+    jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+    jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 1, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 1, 2, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 2, 3, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 3, 4, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 4, 0, NULL);
+
+    int sources[3] = { 0, 1, 0 };
+    int targets[3] = { 3, 3, 0 };
+    int indices[3] = { LINK_PREDICTION_INDEX_ADAMIC_ADAR, LINK_PREDICTION_INDEX_COMMON_NEIGHBORS, LINK_PREDICTION_INDEX_JACCARD_COEFFICIENT };
+    double scores[9];
+
+    jgrapht_capi_ix_link_prediction_exec_bulk(thread, g, sources, targets, 3, indices, 3, 2, scores);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    // pair (0,3)
+    assert(fabs(scores[0]-1.442695) < 1e-6);
+    assert(scores[1] == 1.0);
+    assert(fabs(scores[2]-1.0/3.0) < 1e-9);
+
+    // pair (1,3) has the common neighbor 2, of degree 2
+    assert(fabs(scores[3]-1.0/log(2.0)) < 1e-9);
+    assert(scores[4] == 1.0);
+    assert(fabs(scores[5]-1.0/3.0) < 1e-9);
+
+    // pair (0,0)
+    assert(fabs(scores[6]-2.0/log(2.0)) < 1e-9);
+    assert(scores[7] == 2.0);
+    assert(scores[8] == 1.0);
+
+    // must agree with the single pair version
+    double score;
+    jgrapht_capi_ix_link_prediction_exec_adamic_adar_index(thread, g, 0, 3, &score);
+    assert(score == scores[0]);
+
+    // unknown vertex
+    sources[0] = 10;
+    jgrapht_capi_ix_link_prediction_exec_bulk(thread, g, sources, targets, 3, indices, 3, 2, scores);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
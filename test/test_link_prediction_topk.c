@@ -0,0 +1,115 @@
+#include <stdio.h>
+#include <stdlib.h>
+#include <math.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_create(thread, 0, 0, 0, 1, NULL, NULL, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    int flag;
+    assert(jgrapht_capi_xx_graph_is_directed(thread, g, &flag) == 0);
+    assert(flag == 0);
+    assert(jgrapht_capi_xx_graph_is_undirected(thread, g, &flag) == 0);
+    assert(flag == 1);
+    assert(jgrapht_capi_xx_graph_is_weighted(thread, g, &flag) == 0);
+    assert(flag == 1);
+    assert(jgrapht_capi_xx_graph_is_allowing_selfloops(thread, g, &flag) == 0);
+    assert(flag == 0);
+    assert(jgrapht_capi_xx_graph_is_allowing_multipleedges(thread, g, &flag) == 0);
+    assert(flag == 0);
+
+    jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+    jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+    jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+    jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+    jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 1, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 1, 2, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 2, 3, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 3, 4, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 4, 0, NULL);
+
+    jgrapht_capi_ii_graph_add_edge(thread, g, 1, 3, NULL);
+
+    int sources[2] = { 0, 2 };
+    int targets[6];
+    double scores[6];
+    int counts[2];
+
+    jgrapht_capi_ix_link_prediction_exec_topk(thread, g, sources, 2, LINK_PREDICTION_INDEX_COMMON_NEIGHBORS, 3, 2, targets, scores, counts);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    // source 0, existing neighbors 1 and 4 are not candidates
+    assert(counts[0] == 2);
+    assert(targets[0] == 3);
+    assert(scores[0] == 2.0);
+    assert(targets[1] == 2);
+    assert(scores[1] == 1.0);
+
+    // source 2, ties are broken by vertex order
+    assert(counts[1] == 2);
+    assert(targets[3] == 0);
+    assert(scores[3] == 1.0);
+    assert(targets[4] == 4);
+    assert(scores[4] == 1.0);
+
+    // only the best
+    jgrapht_capi_ix_link_prediction_exec_topk(thread, g, sources, 2, LINK_PREDICTION_INDEX_JACCARD_COEFFICIENT, 1, 1, targets, scores, counts);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(counts[0] == 1);
+    assert(targets[0] == 3);
+    assert(fabs(scores[0]-2.0/3.0) < 1e-9);
+    assert(counts[1] == 1);
+    assert(targets[1] == 0);
+
+    // must agree with the single pair version
+    double score;
+    jgrapht_capi_ix_link_prediction_exec_jaccard_coefficient(thread, g, 0, 3, &score);
+    assert(score == scores[0]);
+
+    // unknown vertex
+    sources[0] = 10;
+    jgrapht_capi_ix_link_prediction_exec_topk(thread, g, sources, 2, LINK_PREDICTION_INDEX_COMMON_NEIGHBORS, 3, 2, targets, scores, counts);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
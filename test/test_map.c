@@ -51,6 +51,9 @@ int main() {
     jgrapht_capi_error_clear_errno(thread);
     assert(jgrapht_capi_error_get_errno(thread) == STATUS_SUCCESS);
 
+    assert(jgrapht_capi_map_int_double_try_get(thread, map, 5, &dvalue) == STATUS_NOT_FOUND);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_SUCCESS);
+
     int i;
     for(i = 0; i < 1000; i++) { 
         jgrapht_capi_map_int_double_put(thread, map, i, 1000+i);
@@ -61,6 +64,9 @@ int main() {
         assert(jgrapht_capi_map_int_double_get(thread, map, i, &dvalue) == 0);
         assert(dvalue == 1000+i);
         assert(jgrapht_capi_error_get_errno(thread) == 0);
+        dvalue = 0.0;
+        assert(jgrapht_capi_map_int_double_try_get(thread, map, i, &dvalue) == STATUS_SUCCESS);
+        assert(dvalue == 1000+i);
         int exists;
         assert(jgrapht_capi_map_int_contains_key(thread, map, i, &exists) == 0);
         assert(exists == 1);
@@ -0,0 +1,82 @@
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    } 
+
+    int enabled;
+    jgrapht_capi_metrics_is_enabled(thread, &enabled);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_create(thread, 1, 0, 0, 0, NULL, NULL, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    for (int i = 0; i < 10; i++) { 
+        jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+    }
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 1, NULL);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    // missing vertex
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 100, NULL);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    void *snapshot;
+    char *json;
+    jgrapht_capi_metrics_snapshot(thread, &snapshot);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_handles_get_ccharpointer(thread, snapshot, &json);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    //printf("%s\n", json);
+    if (enabled) { 
+        assert(strstr(json, "{\"name\":\"jgrapht_capi_ix_graph_add_vertex\",\"calls\":10,\"errors\":{}") != NULL);
+        assert(strstr(json, "{\"name\":\"jgrapht_capi_ii_graph_add_edge\",\"calls\":2,\"errors\":{\"STATUS_ILLEGAL_ARGUMENT\":1}") != NULL);
+    } else { 
+        assert(strcmp(json, "[]") == 0);
+    }
+    jgrapht_capi_handles_destroy(thread, snapshot);
+
+    jgrapht_capi_metrics_reset(thread);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_metrics_snapshot(thread, &snapshot);
+    jgrapht_capi_handles_get_ccharpointer(thread, snapshot, &json);
+    // no instrumented entry point has been called since the reset
+    assert(strcmp(json, "[]") == 0);
+    jgrapht_capi_handles_destroy(thread, snapshot);
+
+    jgrapht_capi_handles_destroy(thread, g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
@@ -0,0 +1,128 @@
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    } 
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *builder;
+    jgrapht_capi_ii_graph_builder_create(thread, 5, 1, 1, 0, &builder);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    int sources[] = { 0, 1, 2, 3, 0, 2 };
+    int targets[] = { 1, 2, 3, 4, 2, 2 };
+    double weights[] = { 1.0, 1.0, 1.0, 1.0, 5.0, 1.0 };
+    jgrapht_capi_ii_graph_builder_append(thread, builder, sources, targets, weights, 6);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_builder_finish_off_heap(thread, builder, 0, 1, INCOMING_EDGES_SUPPORT_LAZY_INCOMING_EDGES, 2, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_handles_destroy(thread, builder);
+
+    int flag;
+    jgrapht_capi_xx_graph_is_directed(thread, g, &flag);
+    assert(flag == 1);
+    jgrapht_capi_xx_graph_is_weighted(thread, g, &flag);
+    assert(flag == 1);
+    jgrapht_capi_xx_graph_is_modifiable(thread, g, &flag);
+    assert(flag == 0);
+
+    int count;
+    jgrapht_capi_ix_graph_vertices_count(thread, g, &count);
+    assert(count == 5);
+    jgrapht_capi_ix_graph_edges_count(thread, g, &count);
+    assert(count == 5);
+
+    int v;
+    jgrapht_capi_ii_graph_edge_source(thread, g, 1, &v);
+    assert(v == 0);
+    jgrapht_capi_ii_graph_edge_target(thread, g, 1, &v);
+    assert(v == 2);
+
+    int d;
+    jgrapht_capi_ix_graph_indegree_of(thread, g, 2, &d);
+    assert(d == 2);
+    jgrapht_capi_ix_graph_outdegree_of(thread, g, 0, &d);
+    assert(d == 2);
+
+    // read-only
+    jgrapht_capi_ix_graph_add_vertex(thread, g, &v);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_UNSUPPORTED_OPERATION);
+    jgrapht_capi_error_clear_errno(thread);
+
+    // algorithms work on top of it
+    void *gp;
+    double weight;
+    int start_vertex, end_vertex;
+    jgrapht_capi_ix_sp_exec_dijkstra_get_path_between_vertices(thread, g, 0, 4, &gp);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_ix_handles_get_graphpath(thread, gp, &weight, &start_vertex, &end_vertex, NULL);
+    assert(weight == 4.0);
+    assert(start_vertex == 0);
+    assert(end_vertex == 4);
+    jgrapht_capi_handles_destroy(thread, gp);
+
+    // iterators and views which outlive the graph
+    void *eit, *view;
+    int e, has_next;
+    jgrapht_capi_ix_graph_vertex_create_eit(thread, g, 2, &eit);
+    jgrapht_capi_it_next_int(thread, eit, &e);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_xx_graph_as_unmodifiable(thread, g, &view);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    // frees the memory of the graph
+    jgrapht_capi_handles_destroy(thread, g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    jgrapht_capi_it_hasnext(thread, eit, &has_next);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_ERROR);
+    jgrapht_capi_error_clear_errno(thread);
+    jgrapht_capi_it_next_int(thread, eit, &e);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_ERROR);
+    jgrapht_capi_error_clear_errno(thread);
+    jgrapht_capi_ix_graph_edges_count(thread, view, &count);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_ERROR);
+    jgrapht_capi_error_clear_errno(thread);
+    jgrapht_capi_ix_graph_outdegree_of(thread, view, 0, &d);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_ERROR);
+    jgrapht_capi_error_clear_errno(thread);
+    jgrapht_capi_handles_destroy(thread, eit);
+    jgrapht_capi_handles_destroy(thread, view);
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
@@ -0,0 +1,154 @@
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    } 
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *builder;
+    jgrapht_capi_ii_graph_builder_create(thread, 6, 1, 0, 0, &builder);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    int sources[] = { 0, 0, 1, 2, 3, 4 };
+    int targets[] = { 1, 2, 3, 3, 4, 0 };
+    jgrapht_capi_ii_graph_builder_append(thread, builder, sources, targets, NULL, 6);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_builder_finish(thread, builder, 0, 0, INCOMING_EDGES_SUPPORT_FULL_INCOMING_EDGES, 1, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_handles_destroy(thread, builder);
+
+    void *bfs;
+    jgrapht_capi_ix_traverse_parallel_bfs_create(thread, g, 2, &bfs);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    int levels[6];
+    int parents[6];
+    int reached, levels_count;
+
+    int single[] = { 0 };
+    jgrapht_capi_ix_traverse_parallel_bfs_exec(thread, bfs, single, 1, levels, parents, &reached, &levels_count);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    int expected[] = { 0, 1, 1, 2, 3, -1 };
+    assert(memcmp(levels, expected, sizeof(expected)) == 0);
+    assert(parents[0] == 0);
+    assert(parents[1] == 0);
+    assert(parents[3] == 1 || parents[3] == 2);
+    assert(parents[4] == 3);
+    assert(parents[5] == -1);
+    assert(reached == 5);
+    assert(levels_count == 4);
+
+    int multi[] = { 4, 5 };
+    jgrapht_capi_ix_traverse_parallel_bfs_exec(thread, bfs, multi, 2, levels, NULL, &reached, &levels_count);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    int expected_multi[] = { 1, 2, 2, 3, 0, 0 };
+    assert(memcmp(levels, expected_multi, sizeof(expected_multi)) == 0);
+    assert(reached == 6);
+    assert(levels_count == 4);
+
+    // invalid source
+    int invalid[] = { 6 };
+    jgrapht_capi_ix_traverse_parallel_bfs_exec(thread, bfs, invalid, 1, levels, parents, &reached, &levels_count);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    jgrapht_capi_handles_destroy(thread, bfs);
+
+    // with alpha and beta 1 the search starts top-down, where 1 and 2 race
+    // for 3, and switches back to top-down after the bottom-up step
+    jgrapht_capi_ix_traverse_parallel_bfs_create_with_thresholds(thread, g, 2, 1, 1, &bfs);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_ix_traverse_parallel_bfs_exec(thread, bfs, single, 1, levels, parents, &reached, &levels_count);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(memcmp(levels, expected, sizeof(expected)) == 0);
+    assert(parents[3] == 1 || parents[3] == 2);
+    assert(reached == 5);
+    assert(levels_count == 4);
+    jgrapht_capi_ix_traverse_parallel_bfs_exec(thread, bfs, multi, 2, levels, NULL, &reached, &levels_count);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(memcmp(levels, expected_multi, sizeof(expected_multi)) == 0);
+    jgrapht_capi_handles_destroy(thread, bfs);
+
+    jgrapht_capi_ix_traverse_parallel_bfs_create_with_thresholds(thread, g, 2, 0, 1, &bfs);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    // a star 0 -> 1..499 followed by a path 499 -> 500 -> ... -> 999, which
+    // with the default factors takes two bottom-up steps, switches back to
+    // top-down along the path and goes bottom-up again near its end
+    int big_n = 1000;
+    int big_m = 999;
+    int *big_sources = malloc(big_m * sizeof(int));
+    int *big_targets = malloc(big_m * sizeof(int));
+    int *big_levels = malloc(big_n * sizeof(int));
+    int *big_parents = malloc(big_n * sizeof(int));
+    for (int i = 0; i < big_m; i++) {
+        big_sources[i] = i < 499 ? 0 : i;
+        big_targets[i] = i + 1;
+    }
+    jgrapht_capi_ii_graph_builder_create(thread, big_n, 1, 0, 0, &builder);
+    jgrapht_capi_ii_graph_builder_append(thread, builder, big_sources, big_targets, NULL, big_m);
+    jgrapht_capi_ii_graph_builder_finish(thread, builder, 0, 0, INCOMING_EDGES_SUPPORT_FULL_INCOMING_EDGES, 1, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_handles_destroy(thread, builder);
+
+    jgrapht_capi_ix_traverse_parallel_bfs_create(thread, g, 4, &bfs);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    for (int run = 0; run < 2; run++) {
+        // the threads of the search are reused
+        jgrapht_capi_ix_traverse_parallel_bfs_exec(thread, bfs, single, 1, big_levels, big_parents, &reached, &levels_count);
+        assert(jgrapht_capi_error_get_errno(thread) == 0);
+        assert(reached == big_n);
+        assert(levels_count == 502);
+        assert(big_levels[0] == 0);
+        for (int v = 1; v < big_n; v++) {
+            assert(big_levels[v] == (v < 500 ? 1 : v - 498));
+            assert(big_parents[v] == (v < 500 ? 0 : v - 1));
+        }
+    }
+    jgrapht_capi_handles_destroy(thread, bfs);
+    jgrapht_capi_handles_destroy(thread, g);
+    free(big_sources);
+    free(big_targets);
+    free(big_levels);
+    free(big_parents);
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
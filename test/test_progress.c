@@ -0,0 +1,162 @@
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+static int calls = 0;
+static long long last_completed = -1;
+
+void callback(char *phase, long long completed, long long total) { 
+    calls++;
+    last_completed = completed;
+}
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    } 
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_create(thread, 1, 0, 0, 1, NULL, NULL, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    for (int i = 0; i < 6; i++) { 
+        jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+    }
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 1, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 1, 2, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 2, 3, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 3, 0, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 1, 4, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 4, 5, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 5, 2, NULL);
+
+    void *progress;
+    jgrapht_capi_progress_create(thread, &progress);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    char *phase;
+    long long completed, total;
+    int done;
+    jgrapht_capi_progress_get(thread, progress, &phase, &completed, &total, &done);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(strcmp(phase, "") == 0);
+    assert(completed == 0);
+    assert(total == -1);
+    assert(done == 0);
+
+    // betweenness centrality, one unit per source
+    jgrapht_capi_progress_set_callback(thread, progress, callback, 0);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *map;
+    jgrapht_capi_xx_scoring_exec_betweenness_centrality_with_progress(thread, g, 0, progress, &map);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    double score, expected;
+    jgrapht_capi_map_int_double_get(thread, map, 1, &score);
+    jgrapht_capi_handles_destroy(thread, map);
+    jgrapht_capi_xx_scoring_exec_betweenness_centrality(thread, g, &map);
+    jgrapht_capi_map_int_double_get(thread, map, 1, &expected);
+    assert(score == expected);
+    jgrapht_capi_handles_destroy(thread, map);
+
+    jgrapht_capi_progress_get(thread, progress, &phase, &completed, &total, &done);
+    assert(strcmp(phase, "sources") == 0);
+    assert(completed == 6);
+    assert(total == 6);
+    assert(done == 1);
+    // phase start, one per source and the end
+    assert(calls == 8);
+    assert(last_completed == 6);
+
+    jgrapht_capi_progress_set_callback(thread, progress, NULL, 0);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    // simple cycles
+    void *cycleit;
+    jgrapht_capi_xx_cycles_simple_enumeration_exec_johnson_with_progress(thread, g, progress, &cycleit);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_progress_get(thread, progress, &phase, &completed, &total, &done);
+    assert(strcmp(phase, "enumeration") == 0);
+    assert(completed == 2);
+    assert(total == -1);
+    assert(done == 1);
+    jgrapht_capi_handles_destroy(thread, cycleit);
+    assert(calls == 8);
+
+    // progress is optional
+    jgrapht_capi_xx_cycles_simple_enumeration_exec_tarjan_with_progress(thread, g, NULL, &cycleit);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_handles_destroy(thread, cycleit);
+
+    // contraction hierarchy, unknown number of witness searches
+    void *ch;
+    jgrapht_capi_xx_sp_exec_contraction_hierarchy_with_progress(thread, g, 1, 17, progress, &ch);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_progress_get(thread, progress, &phase, &completed, &total, &done);
+    assert(strcmp(phase, "contraction") == 0);
+    assert(completed > 0);
+    assert(total == -1);
+    assert(done == 1);
+    jgrapht_capi_handles_destroy(thread, ch);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    // girvan newman on two triangles joined by an edge
+    jgrapht_capi_ii_graph_create(thread, 0, 0, 0, 0, NULL, NULL, &g);
+    for (int i = 0; i < 6; i++) { 
+        jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+    }
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 1, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 1, 2, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 2, 0, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 3, 4, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 4, 5, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 5, 3, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 2, 3, NULL);
+
+    void *c;
+    jgrapht_capi_xx_clustering_exec_girvan_newman_with_progress(thread, g, 2, progress, &c);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    int num_clusters;
+    jgrapht_capi_xx_clustering_get_number_clusters(thread, c, &num_clusters);
+    assert(num_clusters == 2);
+    jgrapht_capi_progress_get(thread, progress, &phase, &completed, &total, &done);
+    assert(strcmp(phase, "edge removal") == 0);
+    assert(completed == 1);
+    assert(total == 7);
+    assert(done == 1);
+    jgrapht_capi_handles_destroy(thread, c);
+
+    jgrapht_capi_handles_destroy(thread, progress);
+    jgrapht_capi_handles_destroy(thread, g);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
@@ -0,0 +1,107 @@
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    } 
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    // the path 0-3-1-4-2
+    void *edgelist;
+    jgrapht_capi_list_create(thread, &edgelist);
+
+    int added;
+    jgrapht_capi_ii_list_edge_pair_add(thread, edgelist, 0, 3, &added);
+    jgrapht_capi_ii_list_edge_pair_add(thread, edgelist, 3, 1, &added);
+    jgrapht_capi_ii_list_edge_pair_add(thread, edgelist, 1, 4, &added);
+    jgrapht_capi_ii_list_edge_pair_add(thread, edgelist, 4, 2, &added);
+
+    void *g;
+    jgrapht_capi_ii_graph_sparse_create(thread, 0, 0, 5, edgelist, INCOMING_EDGES_SUPPORT_FULL_INCOMING_EDGES, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_handles_destroy(thread, edgelist);
+
+    int permutation[5];
+    int inverse[5];
+    int expected[] = { 0, 3, 1, 4, 2 };
+
+    jgrapht_capi_ix_reorder_exec(thread, g, VERTEX_ORDERING_BFS, permutation, inverse);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(memcmp(inverse, expected, sizeof(expected)) == 0);
+    for (int i = 0; i < 5; i++) {
+        assert(permutation[inverse[i]] == i);
+    }
+
+    // the relabeled graph is the path 0-1-2-3-4
+    void *rg;
+    jgrapht_capi_ii_reorder_exec_sparse_graph(thread, g, VERTEX_ORDERING_REVERSE_CUTHILL_MCKEE, INCOMING_EDGES_SUPPORT_FULL_INCOMING_EDGES, 1, permutation, inverse, &rg);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(memcmp(inverse, expected, sizeof(expected)) == 0);
+
+    int count;
+    jgrapht_capi_ix_graph_edges_count(thread, rg, &count);
+    assert(count == 4);
+    for (int e = 0; e < 4; e++) {
+        int s, t;
+        jgrapht_capi_ii_graph_edge_source(thread, rg, e, &s);
+        jgrapht_capi_ii_graph_edge_target(thread, rg, e, &t);
+        assert(abs(s - t) == 1);
+    }
+    jgrapht_capi_handles_destroy(thread, rg);
+
+    // any ordering is a permutation
+    jgrapht_capi_ii_reorder_exec_succinct_graph(thread, g, VERTEX_ORDERING_RABBIT, INCOMING_EDGES_SUPPORT_LAZY_INCOMING_EDGES, WEIGHT_PRECISION_DOUBLE, 1, permutation, NULL, &rg);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    int seen[5] = { 0 };
+    for (int i = 0; i < 5; i++) {
+        seen[permutation[i]]++;
+    }
+    for (int i = 0; i < 5; i++) {
+        assert(seen[i] == 1);
+    }
+    jgrapht_capi_ix_graph_edges_count(thread, rg, &count);
+    assert(count == 4);
+    jgrapht_capi_handles_destroy(thread, rg);
+
+    jgrapht_capi_ix_reorder_exec(thread, g, VERTEX_ORDERING_DEGREE, NULL, inverse);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(inverse[0] == 1);
+    assert(inverse[1] == 3);
+    assert(inverse[2] == 4);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
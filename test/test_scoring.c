@@ -1,5 +1,6 @@
 #include <stdio.h>
 #include <stdlib.h>
+#include <math.h>
 
 #ifdef _WIN32
 #include <crtdbg.h>
@@ -106,6 +107,26 @@ int main() {
     assert(value == 1);
     jgrapht_capi_handles_destroy(thread, map);
 
+    jgrapht_capi_ii_graph_add_edge(thread, g, 1, 3, NULL);
+
+    int vertices[4];
+    long long triangles[4];
+    double local[4];
+    jgrapht_capi_ix_scoring_exec_clustering_coefficient_bulk(thread, g, 2, &global, &avg, vertices, triangles, local);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    assert(vertices[0] == 0 && vertices[1] == 1 && vertices[2] == 2 && vertices[3] == 3);
+    assert(triangles[0] == 1 && triangles[1] == 1 && triangles[2] == 0 && triangles[3] == 1);
+    assert(local[0] == 1.0 && local[1] == 1.0 && local[2] == 0.0);
+    assert(fabs(local[3] - 1.0/3.0) < 1e-9);
+    assert(fabs(avg - 7.0/12.0) < 1e-9);
+    assert(fabs(global - 0.6) < 1e-9);
+
+    double global1, avg1;
+    jgrapht_capi_xx_scoring_exec_clustering_coefficient(thread, g, &global1, &avg1, &map);
+    assert(global1 == global);
+    assert(avg1 == avg);
+    jgrapht_capi_handles_destroy(thread, map);
+
     jgrapht_capi_handles_destroy(thread, g);
 
     if (graal_detach_thread(thread) != 0) {
@@ -0,0 +1,137 @@
+#include <stdio.h>
+#include <stdlib.h>
+#include <math.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    // directed, from the builder with quantized weights and lazy incoming edges
+    void *builder;
+    jgrapht_capi_ii_graph_builder_create(thread, 4, 1, 1, 0, &builder);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    int sources[] = { 0, 1, 0, 0, 2, 2 };
+    int targets[] = { 1, 2, 2, 2, 2, 3 };
+    double weights[] = { 1.0, 2.0, 5.0, 3.0, 4.0, 1.0 };
+    jgrapht_capi_ii_graph_builder_append(thread, builder, sources, targets, weights, 6);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_builder_finish_succinct(thread, builder, 0, INCOMING_EDGES_SUPPORT_LAZY_INCOMING_EDGES, WEIGHT_PRECISION_QUANTIZED_8, 2, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_handles_destroy(thread, builder);
+
+    int flag;
+    jgrapht_capi_xx_graph_is_directed(thread, g, &flag);
+    assert(flag == 1);
+    jgrapht_capi_xx_graph_is_weighted(thread, g, &flag);
+    assert(flag == 1);
+    jgrapht_capi_xx_graph_is_allowing_multipleedges(thread, g, &flag);
+    assert(flag == 0);
+    jgrapht_capi_xx_graph_is_modifiable(thread, g, &flag);
+    assert(flag == 0);
+
+    int count;
+    jgrapht_capi_ix_graph_vertices_count(thread, g, &count);
+    assert(count == 4);
+    jgrapht_capi_ix_graph_edges_count(thread, g, &count);
+    assert(count == 5);
+
+    // edges are (0,1), (0,2), (1,2), (2,2), (2,3)
+    int v;
+    jgrapht_capi_ii_graph_edge_source(thread, g, 2, &v);
+    assert(v == 1);
+    jgrapht_capi_ii_graph_edge_target(thread, g, 2, &v);
+    assert(v == 2);
+
+    // multiple edges keep the minimum weight
+    double w;
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g, 1, &w);
+    assert(fabs(w - 3.0) < 1e-2);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g, 3, &w);
+    assert(w == 4.0);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g, 4, &w);
+    assert(w == 1.0);
+
+    // builds the incoming edges
+    int d;
+    jgrapht_capi_ix_graph_indegree_of(thread, g, 2, &d);
+    assert(d == 3);
+    jgrapht_capi_ix_graph_outdegree_of(thread, g, 2, &d);
+    assert(d == 2);
+    jgrapht_capi_ix_graph_degree_of(thread, g, 2, &d);
+    assert(d == 5);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    // undirected, from an edge list with float weights
+    void *edgelist;
+    jgrapht_capi_list_create(thread, &edgelist);
+
+    int added;
+    jgrapht_capi_ii_list_edge_triple_add(thread, edgelist, 1, 0, 1.5, &added);
+    jgrapht_capi_ii_list_edge_triple_add(thread, edgelist, 2, 1, 2.5, &added);
+    jgrapht_capi_ii_list_edge_triple_add(thread, edgelist, 1, 1, 3.5, &added);
+    jgrapht_capi_ii_list_edge_triple_add(thread, edgelist, 0, 1, 0.5, &added);
+
+    jgrapht_capi_ii_graph_succinct_weighted_create(thread, 0, 3, edgelist, INCOMING_EDGES_SUPPORT_NO_INCOMING_EDGES, WEIGHT_PRECISION_FLOAT, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_handles_destroy(thread, edgelist);
+
+    jgrapht_capi_xx_graph_is_undirected(thread, g, &flag);
+    assert(flag == 1);
+    jgrapht_capi_ix_graph_edges_count(thread, g, &count);
+    assert(count == 3);
+
+    // edges are {0,1}, {1,1}, {1,2}
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g, 0, &w);
+    assert(w == 0.5);
+    jgrapht_capi_ii_graph_edge_source(thread, g, 2, &v);
+    assert(v == 1);
+    jgrapht_capi_ii_graph_edge_target(thread, g, 2, &v);
+    assert(v == 2);
+
+    // self-loops count twice
+    jgrapht_capi_ix_graph_degree_of(thread, g, 1, &d);
+    assert(d == 4);
+    jgrapht_capi_ix_graph_degree_of(thread, g, 2, &d);
+    assert(d == 1);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
@@ -0,0 +1,123 @@
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    } 
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_create(thread, 1, 1, 1, 0, NULL, NULL, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    int v;
+    for (int i = 0; i < 4; i++) {
+        jgrapht_capi_ix_graph_add_vertex(thread, g, &v);
+    }
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 1, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 1, 2, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 1, 2, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 2, 0, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 2, 3, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 3, 3, NULL);
+
+    // write in the BVGraph format and read back
+    jgrapht_capi_ii_export_file_bvgraph(thread, g, "test_webgraph", 7, 3, 4);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_handles_destroy(thread, g);
+
+    jgrapht_capi_ii_graph_webgraph_load_directed(thread, "test_webgraph", NULL, 0, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    int flag;
+    jgrapht_capi_xx_graph_is_directed(thread, g, &flag);
+    assert(flag == 1);
+    jgrapht_capi_xx_graph_is_modifiable(thread, g, &flag);
+    assert(flag == 0);
+
+    int count;
+    jgrapht_capi_ix_graph_vertices_count(thread, g, &count);
+    assert(count == 4);
+    // multiple edges are not stored
+    jgrapht_capi_ix_graph_edges_count(thread, g, &count);
+    assert(count == 5);
+
+    jgrapht_capi_ii_graph_edge_source(thread, g, 3, &v);
+    assert(v == 2);
+    jgrapht_capi_ii_graph_edge_target(thread, g, 3, &v);
+    assert(v == 3);
+
+    int d;
+    jgrapht_capi_ix_graph_outdegree_of(thread, g, 2, &d);
+    assert(d == 2);
+
+    // no transpose graph
+    jgrapht_capi_ix_graph_indegree_of(thread, g, 2, &d);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_UNSUPPORTED_OPERATION);
+    jgrapht_capi_error_clear_errno(thread);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    // undirected graphs are stored as symmetric graphs
+    jgrapht_capi_ii_graph_create(thread, 0, 1, 0, 0, NULL, NULL, &g);
+    for (int i = 0; i < 3; i++) {
+        jgrapht_capi_ix_graph_add_vertex(thread, g, &v);
+    }
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 1, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 2, 1, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 2, 2, NULL);
+    jgrapht_capi_ii_export_file_bvgraph(thread, g, "test_webgraph", 7, 3, 4);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_handles_destroy(thread, g);
+
+    jgrapht_capi_ii_graph_webgraph_load_undirected(thread, "test_webgraph", 1, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    jgrapht_capi_ix_graph_edges_count(thread, g, &count);
+    assert(count == 3);
+    jgrapht_capi_ix_graph_degree_of(thread, g, 2, &d);
+    assert(d == 3);
+    int e;
+    assert(jgrapht_capi_ii_graph_try_get_edge(thread, g, 2, 1, &e) == STATUS_SUCCESS);
+    assert(e == 1);
+
+    // not in a WebGraph format
+    jgrapht_capi_ii_graph_webgraph_load_undirected(thread, "test_webgraph_missing", 0, &g);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_IMPORT_ERROR);
+    jgrapht_capi_error_clear_errno(thread);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}
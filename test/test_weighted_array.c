@@ -0,0 +1,145 @@
+#include <stdio.h>
+#include <stdlib.h>
+
+#ifdef _WIN32
+#include <crtdbg.h>
+#endif 
+#include <assert.h>
+
+#include <jgrapht_capi_types.h>
+#include <jgrapht_capi.h>
+
+void fill_weights(int size, double *weights) { 
+    for(int i = 0; i < size; i++) { 
+        weights[i] = 10.0 * i;
+    }
+}
+
+int main() {
+    
+#ifdef _WIN32
+    _CrtSetReportMode( _CRT_WARN, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_WARN, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ERROR, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ERROR, _CRTDBG_FILE_STDERR);
+    _CrtSetReportMode( _CRT_ASSERT, _CRTDBG_MODE_FILE);
+    _CrtSetReportFile( _CRT_ASSERT, _CRTDBG_FILE_STDERR);
+#endif
+
+    graal_isolate_t *isolate = NULL;
+    graal_isolatethread_t *thread = NULL;
+
+    if (graal_create_isolate(NULL, &isolate, &thread) != 0) {
+        fprintf(stderr, "graal_create_isolate error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+
+    void *g;
+    jgrapht_capi_ii_graph_create(thread, 1, 1, 1, 1, NULL, NULL, &g);
+
+    jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+    jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+    jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+    jgrapht_capi_ix_graph_add_vertex(thread, g, NULL);
+
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 1, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 1, 2, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 2, 3, NULL);
+    jgrapht_capi_ii_graph_add_edge(thread, g, 0, 3, NULL);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g, 3, 7.0);
+
+    double w;
+
+    // weights from a caller array, edge 3 falls back to the backing graph
+    double weights[3] = { 1.5, 2.5, 3.5 };
+    void *g1;
+    jgrapht_capi_xi_graph_as_weighted_from_array(thread, g, weights, 3, 0, &g1);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g1, 0, &w);
+    assert(w == 1.5);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g1, 2, &w);
+    assert(w == 3.5);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g1, 3, &w);
+    assert(w == 7.0);
+
+    // the array is copied, caller changes are not visible
+    weights[0] = 100.0;
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g1, 0, &w);
+    assert(w == 1.5);
+
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g1, 1, 4.0);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g1, 1, &w);
+    assert(w == 4.0);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g, 1, &w);
+    assert(w == 1.0);
+
+    // edge 3 is outside of the array and is set in the backing graph
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g1, 3, 4.0);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g1, 3, &w);
+    assert(w == 4.0);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g, 3, &w);
+    assert(w == 4.0);
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g1, 3, 7.0);
+    jgrapht_capi_handles_destroy(thread, g1);
+
+    // bulk load through a callback
+    jgrapht_capi_xi_graph_as_weighted_bulk(thread, g, fill_weights, 1, &g1);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g1, 0, &w);
+    assert(w == 0.0);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g1, 3, &w);
+    assert(w == 30.0);
+
+    jgrapht_capi_xi_graph_set_edge_weight(thread, g1, 2, 5.0);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g, 2, &w);
+    assert(w == 5.0);
+    jgrapht_capi_handles_destroy(thread, g1);
+
+    // bulk load without a callback keeps the weights of the backing graph
+    jgrapht_capi_xi_graph_as_weighted_bulk(thread, g, NULL, 0, &g1);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g1, 3, &w);
+    assert(w == 7.0);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g1, 0, &w);
+    assert(w == 1.0);
+    jgrapht_capi_handles_destroy(thread, g1);
+
+    // weights from an edge attribute, switched by name
+    int edges[3] = { 0, 1, 2 };
+    double times[3] = { 4.0, 5.0, 6.0 };
+    double distances[2] = { 40.0, 50.0 };
+    jgrapht_capi_xi_graph_attrs_edge_put_double_bulk(thread, g, edges, 3, "time", times);
+    jgrapht_capi_xi_graph_attrs_edge_put_double_bulk(thread, g, edges, 2, "distance", distances);
+
+    jgrapht_capi_xi_graph_as_weighted_from_attribute(thread, g, "time", 0, &g1);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g1, 2, &w);
+    assert(w == 6.0);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g1, 3, &w);
+    assert(w == 7.0);
+    jgrapht_capi_handles_destroy(thread, g1);
+
+    jgrapht_capi_xi_graph_as_weighted_from_attribute(thread, g, "distance", 0, &g1);
+    assert(jgrapht_capi_error_get_errno(thread) == 0);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g1, 1, &w);
+    assert(w == 50.0);
+    jgrapht_capi_xi_graph_get_edge_weight(thread, g1, 2, &w);
+    assert(w == 1.0);
+    jgrapht_capi_handles_destroy(thread, g1);
+
+    jgrapht_capi_xi_graph_as_weighted_from_attribute(thread, g, "toll", 0, &g1);
+    assert(jgrapht_capi_error_get_errno(thread) == STATUS_ILLEGAL_ARGUMENT);
+    jgrapht_capi_error_clear_errno(thread);
+
+    jgrapht_capi_handles_destroy(thread, g);
+
+    if (graal_detach_thread(thread) != 0) {
+        fprintf(stderr, "graal_detach_thread error\n");
+        exit(EXIT_FAILURE);
+    }
+
+    return EXIT_SUCCESS;
+}